@@ -235,7 +235,7 @@ public class EditorController {
     }
     
     private final Selection selection = new Selection();
-    private final JobManager jobManager = new JobManager(this, 50);
+    private final JobManager jobManager = new JobManager(this, 50, 64L * 1024 * 1024);
     private final MessageLog messageLog = new MessageLog();
     private final ErrorReport errorReport = new ErrorReport();
     private final DragController dragController = new DragController(this);
@@ -280,6 +280,7 @@ public class EditorController {
      */
     public EditorController() {
         jobManager.revisionProperty().addListener((ov, t, t1) -> jobManagerRevisionDidChange());
+        fxmlLocationProperty.addListener((ov, t, t1) -> getGlossary().prefetch(t1));
     }
 
     /**
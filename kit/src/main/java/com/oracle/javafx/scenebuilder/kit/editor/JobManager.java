@@ -33,8 +33,10 @@ package com.oracle.javafx.scenebuilder.kit.editor;
 
 import com.oracle.javafx.scenebuilder.kit.editor.job.Job;
 import com.oracle.javafx.scenebuilder.kit.editor.job.reference.UpdateReferencesJob;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.SimpleIntegerProperty;
@@ -46,26 +48,63 @@ public class JobManager {
     
     private final EditorController editorController;
     private final int undoStackMaxSize;
-    private final List<Job> undoStack = new ArrayList<>();
-    private final List<Job> redoStack = new ArrayList<>();
+    private final long maxRetainedSize;
+    // First element is the most recent job
+    private final Deque<Entry> undoStack = new ArrayDeque<>();
+    private final Deque<Entry> redoStack = new ArrayDeque<>();
     private final SimpleIntegerProperty revision = new SimpleIntegerProperty();
+    private long retainedSize;
     private boolean lock;
     
     
     JobManager(EditorController editorController, int undoStackMaxSize) {
+        this(editorController, undoStackMaxSize, Long.MAX_VALUE);
+    }
+    
+    /**
+     * Creates a job manager keeping at most undoStackMaxSize jobs in its
+     * undo stack and dropping its oldest jobs as soon as the memory retained
+     * by its undo/redo stacks exceeds maxRetainedSize (see
+     * {@link Job#getRetainedSize()}). The most recent job is always kept.
+     */
+    JobManager(EditorController editorController, int undoStackMaxSize, long maxRetainedSize) {
         assert editorController != null;
         assert undoStackMaxSize >= 1;
+        assert maxRetainedSize >= 0;
         this.editorController = editorController;
         this.undoStackMaxSize = undoStackMaxSize;
+        this.maxRetainedSize = maxRetainedSize;
     }
     
     
+    /**
+     * Returns a snapshot of the undo stack: the most recent job comes first.
+     * 
+     * @return the jobs which can be undone.
+     */
     public List<Job> getUndoStack() {
-        return Collections.unmodifiableList(undoStack);
+        return makeJobList(undoStack);
     }
     
+    /**
+     * Returns a snapshot of the redo stack: the most recently undone job
+     * comes first.
+     * 
+     * @return the jobs which can be redone.
+     */
     public List<Job> getRedoStack() {
-        return Collections.unmodifiableList(redoStack);
+        return makeJobList(redoStack);
+    }
+    
+    /**
+     * Returns an estimate of the memory retained by the undo/redo stacks,
+     * in bytes. This is the sum of {@link Job#getRetainedSize()} as computed
+     * when each job has been done, undone or redone.
+     * 
+     * @return an estimate of the memory retained by the undo/redo stacks.
+     */
+    public long getRetainedSize() {
+        return retainedSize;
     }
     
     public void push(Job job) {
@@ -80,11 +119,9 @@ public class JobManager {
         
         final Job fixJob = new UpdateReferencesJob(job);
         executeJob(fixJob);
-        undoStack.add(0, fixJob);
-        if (undoStack.size() > undoStackMaxSize) {
-            undoStack.remove(undoStack.size()-1);
-        }
-        redoStack.clear();
+        clearRedoStack();
+        pushEntry(undoStack, fixJob);
+        trimUndoStack();
         incrementRevision();
         
     }
@@ -97,6 +134,7 @@ public class JobManager {
         
         undoStack.clear();
         redoStack.clear();
+        retainedSize = 0;
         // We don't change the revision.
     }
     
@@ -107,7 +145,7 @@ public class JobManager {
     public String getUndoDescription() {
         final String result;
         if (canUndo()) {
-            result = undoStack.get(0).getDescription();
+            result = undoStack.peekFirst().job().getDescription();
         } else {
             result = null;
         }
@@ -122,10 +160,10 @@ public class JobManager {
             throw new IllegalStateException("Undoing jobs from another job or a job manager listener is forbidden"); //NOI18N
         }
         
-        final Job job = undoStack.get(0);
+        final Job job = undoStack.peekFirst().job();
         undoJob(job);
-        undoStack.remove(0);
-        redoStack.add(0, job);
+        popEntry(undoStack);
+        pushEntry(redoStack, job);
         incrementRevision();
     }
     
@@ -136,7 +174,7 @@ public class JobManager {
     public String getRedoDescription() {
         final String result;
         if (canRedo()) {
-            result = redoStack.get(0).getDescription();
+            result = redoStack.peekFirst().job().getDescription();
         } else {
             result = null;
         }
@@ -151,10 +189,11 @@ public class JobManager {
             throw new IllegalStateException("Redoing jobs from another job or a job manager listener is forbidden"); //NOI18N
         }
         
-        final Job job = redoStack.get(0);
+        final Job job = redoStack.peekFirst().job();
         redoJob(job);
-        redoStack.remove(0);
-        undoStack.add(0, job);
+        popEntry(redoStack);
+        pushEntry(undoStack, job);
+        trimUndoStack();
         incrementRevision();
     }
     
@@ -176,7 +215,7 @@ public class JobManager {
      */
     public Job getCurrentJob() {
         if (undoStack.size() > 0) {
-            return undoStack.get(0);
+            return undoStack.peekFirst().job();
         } else {
             return null;
         }
@@ -187,6 +226,47 @@ public class JobManager {
      * Private
      */
     
+    /*
+     * A job in the undo/redo stacks with the size it retained when it
+     * was pushed: retained sizes change while the document is edited so
+     * they are not queried again when the entry is removed.
+     */
+    private record Entry(Job job, long retainedSize) {
+    }
+    
+    private void pushEntry(Deque<Entry> stack, Job job) {
+        final Entry entry = new Entry(job, job.getRetainedSize());
+        stack.addFirst(entry);
+        retainedSize += entry.retainedSize();
+    }
+    
+    private void popEntry(Deque<Entry> stack) {
+        retainedSize -= stack.removeFirst().retainedSize();
+        assert retainedSize >= 0;
+    }
+    
+    private void clearRedoStack() {
+        while (redoStack.isEmpty() == false) {
+            popEntry(redoStack);
+        }
+    }
+    
+    private void trimUndoStack() {
+        while ((undoStack.size() > 1)
+                && ((undoStack.size() > undoStackMaxSize) || (retainedSize > maxRetainedSize))) {
+            retainedSize -= undoStack.removeLast().retainedSize();
+            assert retainedSize >= 0;
+        }
+    }
+    
+    private static List<Job> makeJobList(Deque<Entry> stack) {
+        final List<Job> result = new ArrayList<>(stack.size());
+        for (Entry e : stack) {
+            result.add(e.job());
+        }
+        return Collections.unmodifiableList(result);
+    }
+    
     private void executeJob(Job job) {
         lock = true;
         try {
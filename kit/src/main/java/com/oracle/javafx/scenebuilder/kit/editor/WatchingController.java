@@ -35,6 +35,7 @@ package com.oracle.javafx.scenebuilder.kit.editor;
 import com.oracle.javafx.scenebuilder.kit.fxom.FXOMAssetIndex;
 import com.oracle.javafx.scenebuilder.kit.fxom.FXOMDocument;
 import com.oracle.javafx.scenebuilder.kit.util.FileWatcher;
+import com.oracle.javafx.scenebuilder.kit.util.StylesheetCache;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Collections;
@@ -119,6 +120,7 @@ class WatchingController implements FileWatcher.Delegate {
         editorController.getMessageLog().logInfoMessage(messageKey, targetFileName);
         editorController.getErrorReport().forget();
         if (targetFileName.toLowerCase(Locale.ROOT).endsWith(".css")) { //NOI18N
+            StylesheetCache.invalidate(target);
             editorController.getErrorReport().cssFileDidChange(target);
             editorController.getFxomDocument().reapplyCSS(target);
         } else {
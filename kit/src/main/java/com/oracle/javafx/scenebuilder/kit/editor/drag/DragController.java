@@ -85,7 +85,7 @@ public class DragController {
         assert committedDropTarget == null;
         assert mouseTimer == null;
         
-        liveUpdater = new LiveUpdater(dragSource, editorController);
+        liveUpdater = new LiveUpdater(dragSource);
         dragSourceProperty.set(dragSource);
         dropTargetProperty.set(null);
         
@@ -31,27 +31,35 @@
  */
 package com.oracle.javafx.scenebuilder.kit.editor.drag;
 
-import com.oracle.javafx.scenebuilder.kit.editor.EditorController;
 import com.oracle.javafx.scenebuilder.kit.editor.drag.source.AbstractDragSource;
 import com.oracle.javafx.scenebuilder.kit.editor.drag.target.AbstractDropTarget;
-import com.oracle.javafx.scenebuilder.kit.editor.job.Job;
+import com.oracle.javafx.scenebuilder.kit.editor.drag.target.ContainerZDropTarget;
+import com.oracle.javafx.scenebuilder.kit.fxom.FXOMObject;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.scene.Node;
+import javafx.scene.layout.Pane;
 
 /**
- *
+ * Shows the dragged objects at their drop location while the drag goes on.
+ * Only the scene graph nodes are moved: the fxom document is left untouched,
+ * so no scene graph refresh happens until the drop job is pushed by
+ * DragController. Drop targets which are not a z move within a Pane are
+ * not shown live: {@link #getDropTarget()} then returns null.
  */
 class LiveUpdater {
     
     private final AbstractDragSource dragSource;
-    private final EditorController editorController;
-    private AbstractDropTarget dropTarget;
-    private Job dropTargetMoveJob;
+    private AbstractDropTarget dropTarget; // Shown live
+    private Pane liveParent;
+    private List<Node> liveParentChildren; // Before the move
     
-    public LiveUpdater(AbstractDragSource dragSource, EditorController editorController) {
+    public LiveUpdater(AbstractDragSource dragSource) {
         assert dragSource != null;
-        assert editorController != null;
         
         this.dragSource = dragSource;
-        this.editorController = editorController;
     }
     
     public void setDropTarget(AbstractDropTarget newDropTarget) {
@@ -72,19 +80,59 @@ class LiveUpdater {
          * 
          */
         
-        if (this.dropTarget != null) {
-            assert this.dropTargetMoveJob != null;
-            this.dropTargetMoveJob.undo();
+        if (this.liveParent != null) {
+            this.liveParent.getChildren().setAll(this.liveParentChildren);
+            this.liveParent = null;
+            this.liveParentChildren = null;
         }
-        this.dropTarget = newDropTarget;
-        this.dropTargetMoveJob = null;
-        if (this.dropTarget != null) {
-            this.dropTargetMoveJob = this.dropTarget.makeDropJob(dragSource, editorController);
-            this.dropTargetMoveJob.execute();
+        if (newDropTarget instanceof ContainerZDropTarget) {
+            moveNodes((ContainerZDropTarget) newDropTarget);
         }
+        this.dropTarget = (this.liveParent != null) ? newDropTarget : null;
     }
     
+    /**
+     * Returns the drop target currently shown live.
+     * 
+     * @return the drop target shown live or null if nothing is shown.
+     */
     public AbstractDropTarget getDropTarget() {
         return dropTarget;
     }
+    
+    
+    /*
+     * Private
+     */
+    
+    private void moveNodes(ContainerZDropTarget zDropTarget) {
+        assert liveParent == null;
+        
+        final Object container = zDropTarget.getTargetObject().getSceneGraphObject();
+        if (container instanceof Pane) {
+            final Pane pane = (Pane) container;
+            final List<Node> draggedNodes = new ArrayList<>();
+            for (FXOMObject draggedObject : dragSource.getDraggedObjects()) {
+                final Object sceneGraphObject = draggedObject.getSceneGraphObject();
+                if ((sceneGraphObject instanceof Node) && (((Node) sceneGraphObject).getParent() == pane)) {
+                    draggedNodes.add((Node) sceneGraphObject);
+                }
+            }
+            
+            final List<Node> children = new ArrayList<>(pane.getChildren());
+            children.removeAll(draggedNodes);
+            final FXOMObject beforeChild = zDropTarget.getBeforeChild();
+            final int index = (beforeChild == null) 
+                    ? children.size() : children.indexOf(beforeChild.getSceneGraphObject());
+            
+            // Dragged objects which are not children of pane yet (or before 
+            // child not being one) would require an fxom update : no live move
+            if ((draggedNodes.size() == dragSource.getDraggedObjects().size()) && (index != -1)) {
+                children.addAll(index, draggedNodes);
+                liveParent = pane;
+                liveParentChildren = new ArrayList<>(pane.getChildren());
+                pane.getChildren().setAll(children);
+            }
+        }
+    }
 }
@@ -228,7 +228,7 @@ public class DocumentDragSource extends AbstractDragSource {
         if (resource == null) {
             image = ImageUtils.getNodeIcon("MissingIcon.png"); //NOI18N
         } else {
-            image = new Image(resource.toExternalForm());
+            image = ImageUtils.getImage(resource);
         }
 
         final Label visualNode = new Label();
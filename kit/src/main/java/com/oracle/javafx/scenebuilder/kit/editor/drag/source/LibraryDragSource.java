@@ -187,7 +187,7 @@ public class LibraryDragSource extends AbstractDragSource {
             iconURL = ImageUtils.getNodeIconURL("MissingIcon.png"); //NOI18N
         }
 
-        final Image imageFromIcon = new Image(iconURL.toExternalForm());
+        final Image imageFromIcon = ImageUtils.getImage(iconURL);
 //        final Label visualNode = new Label(libraryItem.getName());
         final Label visualNode = new Label();
         visualNode.setGraphic(new ImageView(imageFromIcon));
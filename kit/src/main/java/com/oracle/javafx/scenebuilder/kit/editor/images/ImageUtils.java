@@ -32,10 +32,8 @@
  */
 package com.oracle.javafx.scenebuilder.kit.editor.images;
 
-import java.lang.ref.Reference;
-import java.lang.ref.SoftReference;
+import com.oracle.javafx.scenebuilder.kit.util.ImageCache;
 import java.net.URL;
-import java.util.WeakHashMap;
 import javafx.scene.Cursor;
 import javafx.scene.Group;
 import javafx.scene.ImageCursor;
@@ -64,7 +62,6 @@ public abstract class ImageUtils {
     private static Image delete_icon_image;
     private static Image edit_icon_image;
     private static ImageCursor css_cursor;
-    private static final WeakHashMap<String, Reference<Image>> imageCache = new WeakHashMap<>();
 
     ImageUtils() {
         // no-op
@@ -75,14 +72,7 @@ public abstract class ImageUtils {
         if (resource == null) {
             resource = ImageUtils.class.getResource(NODE_ICONS_DIR + "/" + MISSING_ICON); //NOI18N
         }
-        final String imageUrl = resource.toExternalForm();
-        final Reference<Image> ref = imageCache.get(imageUrl);
-        Image image = ref != null ? ref.get() : null;
-        if (image == null) {
-            image = new Image(imageUrl);
-            imageCache.put(imageUrl, new SoftReference<>(image));
-        }
-        return image;
+        return ImageCache.getImage(resource.toExternalForm());
     }
 
     /**
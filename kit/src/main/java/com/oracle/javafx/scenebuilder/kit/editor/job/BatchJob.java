@@ -172,6 +172,15 @@ public class BatchJob extends Job {
         }
     }
 
+    @Override
+    public long getRetainedSize() {
+        long result = super.getRetainedSize();
+        for (Job subJob : subJobs) {
+            result += subJob.getRetainedSize();
+        }
+        return result;
+    }
+
     @Override
     public String getDescription() {
         return description;
@@ -32,6 +32,12 @@
 package com.oracle.javafx.scenebuilder.kit.editor.job;
 
 import com.oracle.javafx.scenebuilder.kit.editor.EditorController;
+import com.oracle.javafx.scenebuilder.kit.fxom.FXOMObject;
+import com.oracle.javafx.scenebuilder.kit.fxom.FXOMProperty;
+import com.oracle.javafx.scenebuilder.kit.fxom.FXOMPropertyC;
+import com.oracle.javafx.scenebuilder.kit.fxom.FXOMPropertyT;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  *
@@ -40,6 +46,11 @@ public abstract class Job {
     
     private final EditorController editorController;
     
+    // Rough memory cost, in bytes, of a job and of an fxom object
+    // (with its glue element and its scene graph object)
+    private static final long JOB_RETAINED_SIZE = 128;
+    private static final long OBJECT_RETAINED_SIZE = 2048;
+    
     public Job(EditorController editorController) {
         this.editorController = editorController;
     }
@@ -53,4 +64,74 @@ public abstract class Job {
     public abstract void undo();
     public abstract void redo();
     public abstract String getDescription();
+    
+    /**
+     * Returns an estimate of the memory retained by this job, in bytes.
+     * JobManager uses it to bound the memory taken by undo/redo history.
+     * Jobs holding sub jobs, or fxom objects which are out of the document
+     * (removed, or not inserted yet), add their size to this base cost.
+     * 
+     * @return an estimate of the memory retained by this job.
+     */
+    public long getRetainedSize() {
+        return JOB_RETAINED_SIZE;
+    }
+    
+    /**
+     * Returns an estimate of the memory retained through an fxom object.
+     * It is 0 while the object is part of its document (the document retains
+     * it anyway) and grows with the size of its sub tree otherwise.
+     * 
+     * @param fxomObject an fxom object (may be null)
+     * @return an estimate of the memory retained through fxomObject.
+     */
+    protected static long estimateRetainedSize(FXOMObject fxomObject) {
+        long result = 0;
+        
+        if ((fxomObject != null) && (isInDocument(fxomObject) == false)) {
+            final List<FXOMObject> candidates = new ArrayList<>();
+            candidates.add(fxomObject);
+            while (candidates.isEmpty() == false) {
+                final FXOMObject candidate = candidates.remove(candidates.size()-1);
+                result += OBJECT_RETAINED_SIZE;
+                candidates.addAll(candidate.getChildObjects());
+            }
+        }
+        
+        return result;
+    }
+    
+    /**
+     * Returns an estimate of the memory retained through an fxom property:
+     * 0 while the property is part of its document.
+     * 
+     * @param fxomProperty an fxom property (may be null)
+     * @return an estimate of the memory retained through fxomProperty.
+     */
+    protected static long estimateRetainedSize(FXOMProperty fxomProperty) {
+        long result = 0;
+        
+        if ((fxomProperty != null) && (fxomProperty.getParentInstance() == null)) {
+            if (fxomProperty instanceof FXOMPropertyC) {
+                for (FXOMObject value : ((FXOMPropertyC) fxomProperty).getValues()) {
+                    result += estimateRetainedSize(value);
+                }
+            } else if (fxomProperty instanceof FXOMPropertyT) {
+                final String value = ((FXOMPropertyT) fxomProperty).getValue();
+                result += (value == null) ? 0 : 2L * value.length();
+            }
+        }
+        
+        return result;
+    }
+    
+    /*
+     * Private
+     */
+    
+    private static boolean isInDocument(FXOMObject fxomObject) {
+        final FXOMObject fxomRoot = fxomObject.getFxomDocument().getFxomRoot();
+        return (fxomObject == fxomRoot) 
+                || ((fxomRoot != null) && fxomObject.isDescendantOf(fxomRoot));
+    }
 }
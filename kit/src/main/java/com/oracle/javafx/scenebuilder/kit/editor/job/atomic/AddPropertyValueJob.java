@@ -106,6 +106,11 @@ public class AddPropertyValueJob extends Job {
         assert value.getParentCollection() == null;
     }
 
+    @Override
+    public long getRetainedSize() {
+        return super.getRetainedSize() + estimateRetainedSize(value);
+    }
+
     @Override
     public String getDescription() {
         // Should normally not reach the user
@@ -97,6 +97,11 @@ public class RemoveCollectionItemJob extends Job {
         assert targetValue.getParentCollection() == null;
     }
 
+    @Override
+    public long getRetainedSize() {
+        return super.getRetainedSize() + estimateRetainedSize(targetValue);
+    }
+
     @Override
     public String getDescription() {
         // Should normally not reach the user
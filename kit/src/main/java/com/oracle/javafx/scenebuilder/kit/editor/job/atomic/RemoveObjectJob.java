@@ -83,6 +83,11 @@ public class RemoveObjectJob extends Job {
         subJob.redo();
     }
 
+    @Override
+    public long getRetainedSize() {
+        return super.getRetainedSize() + subJob.getRetainedSize();
+    }
+
     @Override
     public String getDescription() {
         return getClass().getSimpleName(); // Should not reach end user
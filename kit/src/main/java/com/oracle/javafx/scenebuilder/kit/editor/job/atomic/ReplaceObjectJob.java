@@ -117,6 +117,13 @@ public class ReplaceObjectJob extends Job {
         }
     }
 
+    @Override
+    public long getRetainedSize() {
+        return super.getRetainedSize()
+                + estimateRetainedSize(original)
+                + estimateRetainedSize(replacement);
+    }
+
     @Override
     public String getDescription() {
         return getClass().getSimpleName(); // Not intended for user
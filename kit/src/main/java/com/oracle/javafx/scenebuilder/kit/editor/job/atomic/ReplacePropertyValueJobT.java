@@ -98,6 +98,13 @@ public class ReplacePropertyValueJobT extends Job {
         newProperty.addToParentInstance(-1, hostInstance);
     }
 
+    @Override
+    public long getRetainedSize() {
+        return super.getRetainedSize()
+                + estimateRetainedSize(hostProperty)
+                + estimateRetainedSize(newValue);
+    }
+
     @Override
     public String getDescription() {
         return getClass().getSimpleName();
@@ -82,6 +82,11 @@ public class ExpandReferenceJob  extends Job {
         subJob.redo();
     }
 
+    @Override
+    public long getRetainedSize() {
+        return super.getRetainedSize() + subJob.getRetainedSize();
+    }
+
     @Override
     public String getDescription() {
         return subJob.getDescription();
@@ -81,6 +81,11 @@ public class FixToggleGroupReferenceJob  extends Job {
         subJob.redo();
     }
 
+    @Override
+    public long getRetainedSize() {
+        return super.getRetainedSize() + subJob.getRetainedSize();
+    }
+
     @Override
     public String getDescription() {
         return subJob.getDescription();
@@ -35,6 +35,7 @@ package com.oracle.javafx.scenebuilder.kit.editor.job.reference;
 import com.oracle.javafx.scenebuilder.kit.editor.EditorController;
 import com.oracle.javafx.scenebuilder.kit.editor.job.Job;
 import com.oracle.javafx.scenebuilder.kit.editor.job.atomic.RemoveNodeJob;
+import com.oracle.javafx.scenebuilder.kit.fxom.FXOMChangeSet;
 import com.oracle.javafx.scenebuilder.kit.fxom.FXOMCloner;
 import com.oracle.javafx.scenebuilder.kit.fxom.FXOMCollection;
 import com.oracle.javafx.scenebuilder.kit.fxom.FXOMDocument;
@@ -49,7 +50,11 @@ import com.oracle.javafx.scenebuilder.kit.fxom.FXOMPropertyT;
 import com.oracle.javafx.scenebuilder.kit.metadata.util.PrefixedValue;
 import com.oracle.javafx.scenebuilder.kit.metadata.util.PropertyName;
 import com.oracle.javafx.scenebuilder.kit.util.JavaLanguage;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -81,6 +86,41 @@ public class ReferencesUpdater {
         }
     }
     
+    /**
+     * Same as {@link #update()} but only visits the references which may
+     * have been affected by the specified changes : references owned by
+     * touched or added objects and references to the fx:ids they declare.
+     * Falls back on {@link #update()} if the change set is incomplete.
+     * 
+     * @param changes the changes performed since the last update
+     */
+    public void update(FXOMChangeSet changes) {
+        assert changes != null;
+        
+        if (changes.isComplete() == false) {
+            update();
+        } else if (fxomDocument.getFxomRoot() != null) {
+            final Set<FXOMNode> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+            List<FXOMNode> pending = sortReferences(collectReferences(changes));
+            while (pending.isEmpty() == false) {
+                final FXOMNode r = pending.remove(0);
+                visited.add(r);
+                final String fxId = FXOMNodes.extractReferenceSource(r);
+                if ((fxId != null) && isAttached(r) && isForwardReference(r, fxId)) {
+                    // Fix jobs may add references (expanded clones...) :
+                    // they are merged with the pending ones.
+                    final FXOMChangeSet fixChanges = fxomDocument.beginChangeSet();
+                    fixReference(r, fxId);
+                    fxomDocument.endChangeSet(fixChanges);
+                    final Set<FXOMNode> candidates = collectReferences(fixChanges);
+                    candidates.addAll(pending);
+                    candidates.removeAll(visited);
+                    pending = sortReferences(candidates);
+                }
+            }
+        }
+    }
+    
     public List<Job> getExecutedJobs() {
         return new LinkedList<>(executedJobs);
     }
@@ -123,7 +163,7 @@ public class ReferencesUpdater {
             declaredFxIds.add(instance.getFxId());
         }
         final Map<PropertyName, FXOMProperty> properties = instance.getProperties();
-        final List<PropertyName> names = new LinkedList<>(properties.keySet());
+        final List<PropertyName> names = new ArrayList<>(properties.keySet());
         for (PropertyName propertyName : names) {
             update(properties.get(propertyName));
         }
@@ -167,40 +207,205 @@ public class ReferencesUpdater {
         
         if (declaredFxIds.contains(fxId) == false) {
             // r is a forward reference
-            //
-            // 0) r is a toggleGroup reference
-            //    => if toggle group exists, we swap it with the reference
-            //    => if not, replace the reference by a new toggle group
-            // 1) r is a weak reference (like labelFor)
-            //    => we remove the reference
-            // 2) else r is a strong reference
-            //    => we expand the reference
-            
-            
-            final FXOMObject declarer = fxomDocument.searchWithFxId(fxId);
-
-            // 0)
+            fixReference(r, fxId);
             if (FXOMNodes.isToggleGroupReference(r)) {
-                final Job fixJob = new FixToggleGroupReferenceJob(r, editorController);
-                fixJob.execute();
-                executedJobs.add(fixJob);
                 declaredFxIds.add(fxId);
             }
-            
-            // 1
-            else if (FXOMNodes.isWeakReference(r) || (declarer == null)) {
-                final Job removeJob = new RemoveNodeJob(r, editorController);
-                removeJob.execute();
-                executedJobs.add(removeJob);
-                
-            // 2)
+        }
+    }
+    
+    
+    private void fixReference(FXOMNode r, String fxId) {
+        // 0) r is a toggleGroup reference
+        //    => if toggle group exists, we swap it with the reference
+        //    => if not, replace the reference by a new toggle group
+        // 1) r is a weak reference (like labelFor)
+        //    => we remove the reference
+        // 2) else r is a strong reference
+        //    => we expand the reference
+        
+        
+        final FXOMObject declarer = fxomDocument.searchWithFxId(fxId);
+
+        // 0)
+        if (FXOMNodes.isToggleGroupReference(r)) {
+            final Job fixJob = new FixToggleGroupReferenceJob(r, editorController);
+            fixJob.execute();
+            executedJobs.add(fixJob);
+        }
+
+        // 1
+        else if (FXOMNodes.isWeakReference(r) || (declarer == null)) {
+            final Job removeJob = new RemoveNodeJob(r, editorController);
+            removeJob.execute();
+            executedJobs.add(removeJob);
+
+        // 2)
+        } else {
+
+            final Job expandJob = new ExpandReferenceJob(r, cloner, editorController);
+            expandJob.execute();
+            executedJobs.add(expandJob);
+        }
+    }
+    
+    
+    /*
+     * Scoped update
+     */
+    
+    private Set<FXOMNode> collectReferences(FXOMChangeSet changes) {
+        final Set<FXOMNode> result = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Set<String> fxIds = new HashSet<>(changes.getTouchedFxIds());
+        
+        for (FXOMObject o : changes.getTouchedObjects()) {
+            if (isAttached(o)) {
+                collectReferences(o, result, fxIds);
+            }
+        }
+        for (FXOMObject subtree : changes.getAttachedObjects()) {
+            if (isAttached(subtree)) {
+                for (FXOMObject o : FXOMNodes.serializeObjects(subtree)) {
+                    collectReferences(o, result, fxIds);
+                }
+            }
+        }
+        for (String fxId : fxIds) {
+            result.addAll(fxomDocument.collectReferences(fxId));
+        }
+        
+        return result;
+    }
+    
+    
+    private static void collectReferences(FXOMObject o, Set<FXOMNode> references, Set<String> fxIds) {
+        if (o.getFxId() != null) {
+            fxIds.add(o.getFxId());
+        }
+        if (o instanceof FXOMInstance) {
+            for (FXOMProperty p : ((FXOMInstance) o).getProperties().values()) {
+                if ((p instanceof FXOMPropertyT) && (FXOMNodes.extractReferenceSource(p) != null)) {
+                    references.add(p);
+                }
+            }
+        } else if (FXOMNodes.extractReferenceSource(o) != null) {
+            references.add(o);
+        }
+    }
+    
+    
+    private boolean isForwardReference(FXOMNode r, String fxId) {
+        final FXOMObject declarer = fxomDocument.searchWithFxId(fxId);
+        final boolean result;
+        
+        if ((declarer instanceof FXOMInstance) || (declarer instanceof FXOMCollection)) {
+            // Same as update() : declarer must be visited before r
+            result = compareDocumentOrder(makePath(declarer), makePath(r), new IdentityHashMap<>()) > 0;
+        } else {
+            result = true;
+        }
+        
+        return result;
+    }
+    
+    
+    private List<FXOMNode> sortReferences(Set<FXOMNode> references) {
+        final Map<FXOMNode, List<FXOMNode>> paths = new IdentityHashMap<>();
+        final Map<FXOMNode, Map<FXOMNode, Integer>> childIndexes = new IdentityHashMap<>();
+        final List<FXOMNode> result = new ArrayList<>();
+        
+        for (FXOMNode r : references) {
+            if (isAttached(r)) {
+                paths.put(r, makePath(r));
+                result.add(r);
+            }
+        }
+        result.sort((r1, r2) -> compareDocumentOrder(paths.get(r1), paths.get(r2), childIndexes));
+        
+        return result;
+    }
+    
+    
+    private boolean isAttached(FXOMNode node) {
+        final List<FXOMNode> path = makePath(node);
+        return path.get(0) == fxomDocument.getFxomRoot();
+    }
+    
+    
+    /*
+     * Returns the nodes from the top of the tree down to node.
+     */
+    private static List<FXOMNode> makePath(FXOMNode node) {
+        final List<FXOMNode> result = new ArrayList<>();
+        
+        FXOMNode current = node;
+        while (current != null) {
+            result.add(current);
+            if (current instanceof FXOMProperty) {
+                current = ((FXOMProperty) current).getParentInstance();
             } else {
-                
-                final Job expandJob = new ExpandReferenceJob(r, cloner, editorController);
-                expandJob.execute();
-                executedJobs.add(expandJob);
+                final FXOMObject object = (FXOMObject) current;
+                if (object.getParentProperty() != null) {
+                    current = object.getParentProperty();
+                } else {
+                    current = object.getParentCollection();
+                }
             }
         }
+        Collections.reverse(result);
+        
+        return result;
+    }
+    
+    
+    /*
+     * Compares two paths in the order followed by update().
+     * childIndexes caches the index of the children of each parent met:
+     * a sort compares the same siblings many times.
+     */
+    private static int compareDocumentOrder(List<FXOMNode> path1, List<FXOMNode> path2,
+            Map<FXOMNode, Map<FXOMNode, Integer>> childIndexes) {
+        final int result;
+        
+        int i = 0;
+        final int count = Math.min(path1.size(), path2.size());
+        while ((i < count) && (path1.get(i) == path2.get(i))) {
+            i++;
+        }
+        
+        if (i == count) {
+            // One path is a prefix of the other : ancestor comes first
+            result = Integer.compare(path1.size(), path2.size());
+        } else {
+            assert i >= 1 : "Paths do not share the same root";
+            final Map<FXOMNode, Integer> indexes
+                    = childIndexes.computeIfAbsent(path1.get(i-1), ReferencesUpdater::makeChildIndexes);
+            assert indexes.containsKey(path1.get(i)) && indexes.containsKey(path2.get(i));
+            result = Integer.compare(indexes.get(path1.get(i)), indexes.get(path2.get(i)));
+        }
+        
+        return result;
+    }
+    
+    
+    private static Map<FXOMNode, Integer> makeChildIndexes(FXOMNode parent) {
+        final Collection<? extends FXOMNode> children;
+        
+        if (parent instanceof FXOMInstance) {
+            children = ((FXOMInstance) parent).getProperties().values();
+        } else if (parent instanceof FXOMPropertyC) {
+            children = ((FXOMPropertyC) parent).getValues();
+        } else {
+            assert parent instanceof FXOMCollection;
+            children = ((FXOMCollection) parent).getItems();
+        }
+        
+        final Map<FXOMNode, Integer> result = new IdentityHashMap<>();
+        for (FXOMNode child : children) {
+            result.put(child, result.size());
+        }
+        
+        return result;
     }
     
 }
@@ -33,6 +33,7 @@
 package com.oracle.javafx.scenebuilder.kit.editor.job.reference;
 
 import com.oracle.javafx.scenebuilder.kit.editor.job.Job;
+import com.oracle.javafx.scenebuilder.kit.fxom.FXOMChangeSet;
 import com.oracle.javafx.scenebuilder.kit.fxom.FXOMDocument;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -75,11 +76,13 @@ public class UpdateReferencesJob extends Job {
         fxomDocument.beginUpdate();
         
         // First executes the subjob => references may become valid
+        final FXOMChangeSet changes = fxomDocument.beginChangeSet();
         subJob.execute();
+        fxomDocument.endChangeSet(changes);
         
-        // Now sorts the reference in the document and archives the sorting jobs
+        // Now sorts the references touched by the subjob and archives the sorting jobs
         final ReferencesUpdater updater = new ReferencesUpdater(getEditorController());
-        updater.update();
+        updater.update(changes);
         fixJobs.addAll(updater.getExecutedJobs());
         
         fxomDocument.endUpdate();
@@ -109,6 +112,15 @@ public class UpdateReferencesJob extends Job {
         fxomDocument.endUpdate();
     }
 
+    @Override
+    public long getRetainedSize() {
+        long result = super.getRetainedSize() + subJob.getRetainedSize();
+        for (Job fixJob : fixJobs) {
+            result += fixJob.getRetainedSize();
+        }
+        return result;
+    }
+
     @Override
     public String getDescription() {
         return subJob.getDescription();
@@ -71,7 +71,7 @@ public class TabPaneDriver extends AbstractNodeDriver {
         if (tab == null) {
             result = fxomObject;
         } else {
-            result = fxomObject.searchWithSceneGraphObject(tab);
+            result = fxomObject.getFxomDocument().searchWithSceneGraphObject(tab);
             assert result != null;
             assert result.getSceneGraphObject() == tab;
         }
@@ -83,7 +83,7 @@ public class TableViewDriver extends AbstractNodeDriver {
         if (tc == null) {
             result = fxomObject;
         } else {
-            result = fxomObject.searchWithSceneGraphObject(tc);
+            result = fxomObject.getFxomDocument().searchWithSceneGraphObject(tc);
             assert result != null;
             assert result.getSceneGraphObject() == tc;
         }
@@ -43,25 +43,11 @@ import javafx.geometry.Point2D;
 /**
  *
  */
-class HorizontalLineIndex {
-    
-    private static final HorizontalLineComparator comparator = new HorizontalLineComparator();
-    
-    private final List<HorizontalSegment> lines = new ArrayList<>();
-    private boolean sorted;
+class HorizontalLineIndex extends SortedIndex<HorizontalSegment> {
     
 
     public void addLine(HorizontalSegment s) {
-        lines.add(s);
-        sorted = false;
-    }
-    
-    public void clear() {
-        lines.clear();
-    }
-    
-    public boolean isEmpty() {
-        return lines.isEmpty();
+        add(s);
     }
     
     public List<HorizontalSegment> matchNorth(Bounds boundsInScene, double threshold) {
@@ -86,56 +72,52 @@ class HorizontalLineIndex {
         return matchXY(point.getX(), point.getY(), threshold);
     }
     
+    /*
+     * SortedIndex
+     */
+    
+    @Override
+    protected double getKey(HorizontalSegment s) {
+        return s.getY1();
+    }
+    
+    @Override
+    protected HorizontalSegment[] makeArray(int length) {
+        return new HorizontalSegment[length];
+    }
+    
     /*
      * Private
      */
     
     private List<HorizontalSegment> matchY(double targetY, double threshold) {
-        assert threshold >= 0;
-        
-        if (sorted == false) {
-            Collections.sort(lines, comparator);
-        }
-        double bestDelta = Double.MAX_VALUE;
-        final List<HorizontalSegment> result = new ArrayList<>();
-        for (HorizontalSegment l : lines) {
-            final double delta = Math.abs(l.getY1() - targetY);
-            if (delta < threshold) {
-                if (MathUtils.equals(delta, bestDelta)) {
-                    result.add(l);
-                } else if (delta < bestDelta) {
-                    bestDelta = delta;
-                    result.clear();
-                    result.add(l);
-                }
-            }
-        }
-        
-        return result;
+        return matchXY(Double.NaN, targetY, threshold);
     }
 
+    /*
+     * targetX is NaN when lines are matched whatever their x range.
+     */
     private List<HorizontalSegment> matchXY(double targetX, double targetY, double threshold) {
         assert threshold >= 0;
 
-        if (sorted == false) {
-            Collections.sort(lines, comparator);
-        }
         double bestDelta = Double.MAX_VALUE;
-        final List<HorizontalSegment> result = new ArrayList<>();
-        for (HorizontalSegment l : lines) {
-            final double delta = Math.abs(l.getY1() - targetY);
-            if (delta < threshold && targetX >= l.getX1() && targetX <= l.getX2()) {
+        List<HorizontalSegment> result = null;
+        final int count = size();
+        for (int i = lowerBound(targetY - threshold); (i < count) && (getSortedKey(i) < targetY + threshold); i++) {
+            final HorizontalSegment l = getSortedItem(i);
+            final double delta = Math.abs(getSortedKey(i) - targetY);
+            if (delta < threshold && (Double.isNaN(targetX) || (targetX >= l.getX1() && targetX <= l.getX2()))) {
                 if (MathUtils.equals(delta, bestDelta)) {
                     result.add(l);
                 } else if (delta < bestDelta) {
                     bestDelta = delta;
-                    result.clear();
+                    result = new ArrayList<>();
                     result.add(l);
                 }
             }
         }
 
-        return result;
+        return (result == null) ? Collections.emptyList() : result;
     }
     
 }
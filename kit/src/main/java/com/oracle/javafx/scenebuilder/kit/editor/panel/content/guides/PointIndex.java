@@ -39,49 +39,56 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
-class PointIndex {
-
-    private static final PointComparator comparator = new PointComparator();
-
-    private final List<Point2D> points = new ArrayList<>();
-    private boolean sorted;
-
+/*
+ * Points are sorted on x : a match only scans the points of the vertical
+ * strip around the target.
+ */
+class PointIndex extends SortedIndex<Point2D> {
 
     public void addPoint(Point2D point) {
-        points.add(point);
-        sorted = false;
-    }
-
-    public void clear() {
-        points.clear();
-    }
-
-    public boolean isEmpty() {
-        return points.isEmpty();
+        add(point);
     }
 
     public List<Point2D> match(Point2D target, double threshold) {
         assert threshold >= 0;
 
-        if (sorted == false) {
-            Collections.sort(points, comparator);
-        }
+        final double targetX = target.getX();
+        final double targetY = target.getY();
+        final double squaredThreshold = threshold * threshold;
         double bestDelta = Double.MAX_VALUE;
-        final List<Point2D> result = new ArrayList<>();
-        for (Point2D point : points) {
-            final double delta = Math.sqrt(Math.pow(target.getX() - point.getX(), 2) + Math.pow(target.getY() - point.getY(), 2));
-            if (delta < threshold) {
+        List<Point2D> result = null;
+        final int count = size();
+        for (int i = lowerBound(targetX - threshold); (i < count) && (getSortedKey(i) < targetX + threshold); i++) {
+            final Point2D point = getSortedItem(i);
+            final double dx = targetX - point.getX();
+            final double dy = targetY - point.getY();
+            final double squaredDelta = dx * dx + dy * dy;
+            if (squaredDelta < squaredThreshold) {
+                final double delta = Math.sqrt(squaredDelta);
                 if (MathUtils.equals(delta, bestDelta)) {
                     result.add(point);
                 } else if (delta < bestDelta) {
                     bestDelta = delta;
-                    result.clear();
+                    result = new ArrayList<>();
                     result.add(point);
                 }
             }
         }
 
-        return result;
+        return (result == null) ? Collections.emptyList() : result;
+    }
+
+    /*
+     * SortedIndex
+     */
+
+    @Override
+    protected double getKey(Point2D point) {
+        return point.getX();
+    }
+
+    @Override
+    protected Point2D[] makeArray(int length) {
+        return new Point2D[length];
     }
-    
 }
@@ -40,46 +40,51 @@ import java.util.List;
 /**
  *
  */
-public class SegmentIndex {
-    
-    private final List<AbstractSegment> segments = new ArrayList<>();
-    private boolean sorted;
+public class SegmentIndex extends SortedIndex<AbstractSegment> {
     
     public SegmentIndex() {
         // no-op
     }
 
     public void addSegment(AbstractSegment s) {
-        segments.add(s);
-        sorted = false;
-    }
-    
-    public void clear() {
-        segments.clear();
+        add(s);
     }
     
     public List<AbstractSegment> match(double targetLength, double threshold) {
         assert targetLength >= 0;
         assert threshold >= 0;
         
-        if (sorted == false) {
-            Collections.sort(segments);
-        }
         double bestDelta = Double.MAX_VALUE;
-        final List<AbstractSegment> result = new ArrayList<>();
-        for (AbstractSegment s : segments) {
-            final double delta = Math.abs(s.getLength() - targetLength);
+        List<AbstractSegment> result = null;
+        final int count = size();
+        for (int i = lowerBound(targetLength - threshold); (i < count) && (getSortedKey(i) < targetLength + threshold); i++) {
+            final AbstractSegment s = getSortedItem(i);
+            final double delta = Math.abs(getSortedKey(i) - targetLength);
             if (delta < threshold) {
                 if (MathUtils.equals(delta, bestDelta)) {
                     result.add(s);
                 } else if (delta < bestDelta) {
                     bestDelta = delta;
-                    result.clear();
+                    result = new ArrayList<>();
                     result.add(s);
                 }
             }
         }
         
-        return result;
+        return (result == null) ? Collections.emptyList() : result;
+    }
+    
+    /*
+     * SortedIndex
+     */
+    
+    @Override
+    protected double getKey(AbstractSegment s) {
+        return s.getLength();
+    }
+    
+    @Override
+    protected AbstractSegment[] makeArray(int length) {
+        return new AbstractSegment[length];
     }
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oracle.javafx.scenebuilder.kit.editor.panel.content.guides;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Items sorted on a key : matching a key range is a binary search followed
+ * by a scan of the matching items only.
+ * Sorted arrays are built on the first match following a modification :
+ * guide controllers add their samples once per gesture and then match on
+ * each mouse move.
+ */
+abstract class SortedIndex<T> {
+
+    private final List<T> items = new ArrayList<>();
+    private T[] sortedItems;
+    private double[] sortedKeys;
+
+    protected abstract double getKey(T item);
+
+    protected abstract T[] makeArray(int length);
+
+    public void add(T item) {
+        assert item != null;
+        items.add(item);
+        sortedItems = null;
+        sortedKeys = null;
+    }
+
+    public void clear() {
+        items.clear();
+        sortedItems = null;
+        sortedKeys = null;
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+
+    /*
+     * Returns the index of the first item whose key is greater than or
+     * equal to minKey (or size() if there is none).
+     */
+    protected int lowerBound(double minKey) {
+        sortIfNeeded();
+        int low = 0;
+        int high = sortedKeys.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (sortedKeys[mid] < minKey) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    protected int size() {
+        return items.size();
+    }
+
+    protected double getSortedKey(int index) {
+        return sortedKeys[index];
+    }
+
+    protected T getSortedItem(int index) {
+        return sortedItems[index];
+    }
+
+    /*
+     * Private
+     */
+
+    private void sortIfNeeded() {
+        if (sortedKeys == null) {
+            sortedItems = items.toArray(makeArray(items.size()));
+            Arrays.sort(sortedItems, Comparator.comparingDouble(this::getKey));
+            sortedKeys = new double[sortedItems.length];
+            for (int i = 0; i < sortedItems.length; i++) {
+                sortedKeys[i] = getKey(sortedItems[i]);
+            }
+        }
+    }
+}
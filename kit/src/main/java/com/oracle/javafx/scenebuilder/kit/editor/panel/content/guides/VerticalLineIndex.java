@@ -43,25 +43,11 @@ import javafx.geometry.Point2D;
 /**
  *
  */
-class VerticalLineIndex {
-    
-    private static final VerticalLineComparator comparator = new VerticalLineComparator();
-    
-    private final List<VerticalSegment> lines = new ArrayList<>();
-    private boolean sorted;
+class VerticalLineIndex extends SortedIndex<VerticalSegment> {
     
 
     public void addLine(VerticalSegment s) {
-        lines.add(s);
-        sorted = false;
-    }
-    
-    public void clear() {
-        lines.clear();
-    }
-    
-    public boolean isEmpty() {
-        return lines.isEmpty();
+        add(s);
     }
     
     public List<VerticalSegment> matchWest(Bounds boundsInScene, double threshold) {
@@ -86,56 +72,52 @@ class VerticalLineIndex {
         return matchXY(point.getX(), point.getY(), threshold);
     }
     
+    /*
+     * SortedIndex
+     */
+    
+    @Override
+    protected double getKey(VerticalSegment s) {
+        return s.getX1();
+    }
+    
+    @Override
+    protected VerticalSegment[] makeArray(int length) {
+        return new VerticalSegment[length];
+    }
+    
     /*
      * Private
      */
 
     private List<VerticalSegment> matchX(double targetX, double threshold) {
-        assert threshold >= 0;
-
-        if (sorted == false) {
-            Collections.sort(lines, comparator);
-        }
-        double bestDelta = Double.MAX_VALUE;
-        final List<VerticalSegment> result = new ArrayList<>();
-        for (VerticalSegment l : lines) {
-            final double delta = Math.abs(l.getX1() - targetX);
-            if (delta < threshold) {
-                if (MathUtils.equals(delta, bestDelta)) {
-                    result.add(l);
-                } else if (delta < bestDelta) {
-                    bestDelta = delta;
-                    result.clear();
-                    result.add(l);
-                }
-            }
-        }
-
-        return result;
+        return matchXY(targetX, Double.NaN, threshold);
     }
 
+    /*
+     * targetY is NaN when lines are matched whatever their y range.
+     */
     private List<VerticalSegment> matchXY(double targetX, double targetY, double threshold) {
         assert threshold >= 0;
 
-        if (sorted == false) {
-            Collections.sort(lines, comparator);
-        }
         double bestDelta = Double.MAX_VALUE;
-        final List<VerticalSegment> result = new ArrayList<>();
-        for (VerticalSegment l : lines) {
-            final double delta = Math.abs(l.getX1() - targetX);
-            if (delta < threshold && targetY >= l.getY1() && targetY <= l.getY2()) {
+        List<VerticalSegment> result = null;
+        final int count = size();
+        for (int i = lowerBound(targetX - threshold); (i < count) && (getSortedKey(i) < targetX + threshold); i++) {
+            final VerticalSegment l = getSortedItem(i);
+            final double delta = Math.abs(getSortedKey(i) - targetX);
+            if (delta < threshold && (Double.isNaN(targetY) || (targetY >= l.getY1() && targetY <= l.getY2()))) {
                 if (MathUtils.equals(delta, bestDelta)) {
                     result.add(l);
                 } else if (delta < bestDelta) {
                     bestDelta = delta;
-                    result.clear();
+                    result = new ArrayList<>();
                     result.add(l);
                 }
             }
         }
 
-        return result;
+        return (result == null) ? Collections.emptyList() : result;
     }
     
 }
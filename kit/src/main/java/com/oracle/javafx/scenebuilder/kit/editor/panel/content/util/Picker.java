@@ -44,6 +44,7 @@ import javafx.scene.Node;
 import javafx.scene.Parent;
 import javafx.scene.shape.Line;
 import javafx.scene.shape.Shape;
+import javafx.scene.transform.Transform;
 
 /**
  * This class allows to pick objects at a given position in scene graph.
@@ -107,17 +108,42 @@ public class Picker {
             if (startNode instanceof Parent) {
                 final Parent startParent = (Parent) startNode;
                 for (Node child : startParent.getChildrenUnmodifiable()) {
-                    final Point2D childLocalXY = child.parentToLocal(localX, localY);
-                    // Note : childLocalXY may be null.
-                    // For example, child is a Button with scaleX == 0.
-                    if (childLocalXY != null) {
-                        performPick(child, childLocalXY.getX(), childLocalXY.getY());
+                    // boundsInParent covers the child and all its visible
+                    // descendants : it is maintained (and cached) by FX.
+                    // If (localX, localY) is outside, the whole sub tree
+                    // can be skipped without any transformation.
+                    if (mayContain(child.getBoundsInParent(), localX, localY, getMargin(child))) {
+                        final Point2D childLocalXY = child.parentToLocal(localX, localY);
+                        // Note : childLocalXY may be null.
+                        // For example, child is a Button with scaleX == 0.
+                        if (childLocalXY != null) {
+                            performPick(child, childLocalXY.getX(), childLocalXY.getY());
+                        }
                     }
                 }
             }
         }
     }
 
+    private static boolean mayContain(Bounds bounds, double x, double y, double margin) {
+        return (bounds.isEmpty() == false)
+                && (bounds.getMinX() - margin <= x) && (x <= bounds.getMaxX() + margin)
+                && (bounds.getMinY() - margin <= y) && (y <= bounds.getMaxY() + margin);
+    }
+
+    /*
+     * Lines are matched at a distance of THRESHOLD in their local coordinates
+     * (see match()) : in parent coordinates, this distance is scaled by the
+     * transforms of the child.
+     */
+    private static double getMargin(Node child) {
+        final Transform t = child.getLocalToParentTransform();
+        final double scale = Math.max(
+                Math.abs(t.getMxx()) + Math.abs(t.getMxy()),
+                Math.abs(t.getMyx()) + Math.abs(t.getMyy()));
+        return THRESHOLD * Math.max(1.0, scale);
+    }
+
     private boolean match(Node node, double x, double y) {
         assert node != null;
         
@@ -43,6 +43,7 @@ import com.oracle.javafx.scenebuilder.kit.editor.selection.GridSelectionGroup;
 import com.oracle.javafx.scenebuilder.kit.editor.selection.ObjectSelectionGroup;
 import com.oracle.javafx.scenebuilder.kit.editor.selection.Selection;
 import com.oracle.javafx.scenebuilder.kit.editor.util.ContextMenuController;
+import com.oracle.javafx.scenebuilder.kit.fxom.FXOMChangeSet;
 import com.oracle.javafx.scenebuilder.kit.fxom.FXOMDocument;
 import com.oracle.javafx.scenebuilder.kit.fxom.FXOMObject;
 import com.oracle.javafx.scenebuilder.kit.metadata.util.DesignHierarchyMask;
@@ -50,9 +51,11 @@ import com.oracle.javafx.scenebuilder.kit.metadata.util.DesignHierarchyMask.Acce
 
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -114,6 +117,15 @@ public abstract class AbstractHierarchyPanelController extends AbstractFxmlPanel
     private boolean parentRingEnabled = true;
     private Paint parentRingColor;
     private final Map<FXOMObject, Boolean> treeItemsExpandedMapProperty = new HashMap<>();
+    // TreeItem of each FXOMObject displayed in the tree
+    private final Map<FXOMObject, TreeItem<HierarchyItem>> treeItemMap = new HashMap<>();
+    // Records the FXOM changes to apply to the tree items
+    private FXOMDocument changeSetDocument;
+    private FXOMChangeSet changeSet;
+    private int changeSetSceneGraphRevision;
+    // Tree items whose sub items have been cleared by 
+    // updateTreeItemsIncrementally() and are not rebuilt yet
+    private Set<TreeItem<HierarchyItem>> pendingTreeItems;
     private boolean shouldEndOnExit;
     private Label promptLabel;
 
@@ -494,17 +506,21 @@ public abstract class AbstractHierarchyPanelController extends AbstractFxmlPanel
     @Override
     protected void sceneGraphRevisionDidChange() {
         if (getPanelControl() != null) {
-            // Update the map containing the TreeItems expanded property values
-            // This map will be used after rebuilding the tree, 
-            // in order to update the TreeItems expanded property to their previous value
-            if (rootTreeItem != null) { // Root TreeItem may be null
-                updateTreeItemsExpandedMap(rootTreeItem);
+            // When the FXOM changes are known, only the tree items of the
+            // modified objects are updated.
+            if (updateTreeItemsIncrementally() == false) {
+                // Update the map containing the TreeItems expanded property values
+                // This map will be used after rebuilding the tree, 
+                // in order to update the TreeItems expanded property to their previous value
+                if (rootTreeItem != null) { // Root TreeItem may be null
+                    updateTreeItemsExpandedMap(rootTreeItem);
+                }
+                // FXOM document has rebuilt the scene graph. Tree items must all
+                // be updated because:
+                //  - classes of scene graph objects may have mutated
+                //  - infos displayed in the tree items may be obsoletes
+                updatePanel();
             }
-            // FXOM document has rebuilt the scene graph. Tree items must all
-            // be updated because:
-            //  - classes of scene graph objects may have mutated
-            //  - infos displayed in the tree items may be obsoletes
-            updatePanel();
             editorSelectionDidChange();
         }
     }
@@ -639,26 +655,44 @@ public abstract class AbstractHierarchyPanelController extends AbstractFxmlPanel
 
     private TreeItem<HierarchyItem> makeTreeItem(final FXOMObject fxomObject) {
         final HierarchyItem item = new HierarchyItem(fxomObject);
-        final TreeItem<HierarchyItem> treeItem = new TreeItem<>(item);
-        // Set back the TreeItem expanded property if any
-        Boolean expanded = treeItemsExpandedMapProperty.get(fxomObject);
-        if (expanded != null) {
-            treeItem.setExpanded(expanded);
-        }
-        updateTreeItem(treeItem);
-        return treeItem;
+        return makeTreeItem(item, fxomObject);
     }
 
     private TreeItem<HierarchyItem> makeTreeItem(HierarchyItem item, final FXOMObject fxomObject) {
-        final TreeItem<HierarchyItem> treeItem = new TreeItem<>(item);
-        // Set back the TreeItem expanded property if any
-        Boolean expanded = treeItemsExpandedMapProperty.get(fxomObject);
-        if (expanded != null) {
-            treeItem.setExpanded(expanded);
-        }
-        // Mask may be null for empty placeholder
-        if (item.getMask() != null) {
-            updateTreeItem(treeItem);
+        final TreeItem<HierarchyItem> reusableTreeItem
+                = (fxomObject == null) ? null : treeItemMap.get(fxomObject);
+        final TreeItem<HierarchyItem> treeItem;
+        if ((reusableTreeItem != null) 
+                && (reusableTreeItem.getParent() == null)
+                && (reusableTreeItem != rootTreeItem)
+                && (reusableTreeItem.getValue().getClass() == item.getClass())) {
+            // fxomObject has been detached by updateTreeItemsIncrementally():
+            // its tree item and sub items are reused as is, unless fxomObject
+            // has been modified too (its sub items have then been cleared).
+            treeItem = reusableTreeItem;
+            final boolean pending = (pendingTreeItems != null) 
+                    && pendingTreeItems.remove(treeItem);
+            if (pending || (item.getClass() != HierarchyItem.class)) {
+                // Owner or accessory of placeholder items may have changed
+                treeItem.setValue(item);
+            }
+            if (pending && (item.getMask() != null)) {
+                updateTreeItem(treeItem);
+            }
+        } else {
+            treeItem = new TreeItem<>(item);
+            // Set back the TreeItem expanded property if any
+            Boolean expanded = treeItemsExpandedMapProperty.get(fxomObject);
+            if (expanded != null) {
+                treeItem.setExpanded(expanded);
+            }
+            if (fxomObject != null) {
+                treeItemMap.put(fxomObject, treeItem);
+            }
+            // Mask may be null for empty placeholder
+            if (item.getMask() != null) {
+                updateTreeItem(treeItem);
+            }
         }
         return treeItem;
     }
@@ -700,6 +734,9 @@ public abstract class AbstractHierarchyPanelController extends AbstractFxmlPanel
         final FXOMDocument fxomDocument = getEditorController().getFxomDocument();
 
         final Label label = getPromptLabel();
+        // Tree items are rebuilt from the current state of fxomDocument
+        treeItemMap.clear();
+        restartChangeSet(fxomDocument);
         if (fxomDocument == null || fxomDocument.getFxomRoot() == null) {
             rootTreeItem = null;
             // Add placeholder to the parent
@@ -906,31 +943,124 @@ public abstract class AbstractHierarchyPanelController extends AbstractFxmlPanel
      * @treatAsPrivate
      */
     public TreeItem<HierarchyItem> lookupTreeItem(FXOMObject fxomObject) {
-        return lookupTreeItem(fxomObject, getRoot());
-    }
-
-    private TreeItem<HierarchyItem> lookupTreeItem(FXOMObject fxomObject, TreeItem<HierarchyItem> fromTreeItem) {
-        TreeItem<HierarchyItem> result;
         assert fxomObject != null;
-
         // ROOT TreeItem may be null when no document is loaded
-        if (fromTreeItem != null) {
-            assert fromTreeItem.getValue() != null;
-            if (fromTreeItem.getValue().getFxomObject() == fxomObject) {
-                result = fromTreeItem;
-            } else {
-                Iterator<TreeItem<HierarchyItem>> it = fromTreeItem.getChildren().iterator();
-                result = null;
-                while ((result == null) && it.hasNext()) {
-                    TreeItem<HierarchyItem> childItem = it.next();
-                    result = lookupTreeItem(fxomObject, childItem);
+        return (getRoot() == null) ? null : treeItemMap.get(fxomObject);
+    }
+    
+    /*
+     * Applies the FXOM changes recorded since the last update to the tree 
+     * items : the sub items of each modified object are rebuilt, reusing 
+     * the tree items of the objects which are still displayed. Returns false
+     * if the changes are unknown : tree items must then be rebuilt.
+     */
+    private boolean updateTreeItemsIncrementally() {
+        final FXOMDocument fxomDocument = getEditorController().getFxomDocument();
+        final FXOMChangeSet changes = (changeSetDocument == fxomDocument) ? changeSet : null;
+        final int previousRevision = changeSetSceneGraphRevision;
+        final boolean result;
+        
+        restartChangeSet(fxomDocument);
+        if ((changes == null) || (changes.isComplete() == false) || (rootTreeItem == null)
+                || (rootTreeItem.getValue().getFxomObject() != fxomDocument.getFxomRoot())) {
+            result = false;
+        } else if (changes.getTouchedObjects().isEmpty()) {
+            // Scene graph may have been rebuilt without any FXOM change
+            // (class loader change...) : objects may have mutated
+            result = previousRevision == changeSetSceneGraphRevision;
+        } else {
+            final List<TreeItem<HierarchyItem>> dirtyTreeItems = new ArrayList<>();
+            final Map<TreeItem<HierarchyItem>, Integer> depths = new HashMap<>();
+            for (FXOMObject fxomObject : changes.getTouchedObjects()) {
+                final TreeItem<HierarchyItem> treeItem = treeItemMap.get(fxomObject);
+                final int depth = (treeItem == null) ? -1 : getDepth(treeItem);
+                if (depth != -1) {
+                    dirtyTreeItems.add(treeItem);
+                    depths.put(treeItem, depth);
+                    if ((treeItem.getValue().getClass() != HierarchyItem.class) 
+                            && (depths.containsKey(treeItem.getParent()) == false)) {
+                        // Placeholder items are rebuilt by their parent
+                        dirtyTreeItems.add(treeItem.getParent());
+                        depths.put(treeItem.getParent(), depth - 1);
+                    }
                 }
             }
-        } else {
-            result = null;
+            // Parents first so that removed sub items are not rebuilt
+            dirtyTreeItems.sort(Comparator.comparing(depths::get));
+            
+            // Selection is restored by editorSelectionDidChange()
+            stopListeningToTreeItemSelection();
+            final List<TreeItem<HierarchyItem>> detachedTreeItems = new ArrayList<>();
+            pendingTreeItems = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (TreeItem<HierarchyItem> treeItem : dirtyTreeItems) {
+                detachedTreeItems.addAll(treeItem.getChildren());
+                treeItem.getChildren().clear();
+                pendingTreeItems.add(treeItem);
+            }
+            // A dirty item which is detached now may be attached again by
+            // the rebuild of its new parent: makeTreeItem() rebuilds it then.
+            for (TreeItem<HierarchyItem> treeItem : dirtyTreeItems) {
+                if ((getDepth(treeItem) != -1) && pendingTreeItems.remove(treeItem)) {
+                    final HierarchyItem item = treeItem.getValue();
+                    if (item.getClass() == HierarchyItem.class) {
+                        // A new value makes the cell display the new infos
+                        treeItem.setValue(new HierarchyItem(item.getFxomObject()));
+                    }
+                    if (item.getMask() != null) {
+                        updateTreeItem(treeItem);
+                    }
+                }
+            }
+            pendingTreeItems = null;
+            for (TreeItem<HierarchyItem> treeItem : detachedTreeItems) {
+                if (treeItem.getParent() == null) {
+                    forgetTreeItem(treeItem);
+                }
+            }
+            startListeningToTreeItemSelection();
+            result = true;
         }
+        
         return result;
     }
+    
+    private void restartChangeSet(FXOMDocument fxomDocument) {
+        if ((changeSet != null) && (changeSetDocument != null)) {
+            changeSetDocument.endChangeSet(changeSet);
+        }
+        changeSetDocument = fxomDocument;
+        if (fxomDocument == null) {
+            changeSet = null;
+            changeSetSceneGraphRevision = 0;
+        } else {
+            changeSet = fxomDocument.beginChangeSet();
+            changeSetSceneGraphRevision = fxomDocument.sceneGraphRevisionProperty().get();
+        }
+    }
+    
+    /*
+     * Returns the depth of treeItem below the root tree item or -1 if 
+     * treeItem is not displayed.
+     */
+    private int getDepth(TreeItem<HierarchyItem> treeItem) {
+        int result = 0;
+        TreeItem<HierarchyItem> t = treeItem;
+        while (t.getParent() != null) {
+            t = t.getParent();
+            result++;
+        }
+        return (t == rootTreeItem) ? result : -1;
+    }
+    
+    private void forgetTreeItem(TreeItem<HierarchyItem> treeItem) {
+        final FXOMObject fxomObject = treeItem.getValue().getFxomObject();
+        if ((fxomObject != null) && (treeItemMap.get(fxomObject) == treeItem)) {
+            treeItemMap.remove(fxomObject);
+        }
+        for (TreeItem<HierarchyItem> child : treeItem.getChildren()) {
+            forgetTreeItem(child);
+        }
+    }
 
     /**
      * Returns the list of all descendant from the specified parent TreeItem.
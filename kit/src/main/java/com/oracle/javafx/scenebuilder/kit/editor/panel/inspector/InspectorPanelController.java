@@ -220,6 +220,7 @@ public class InspectorPanelController extends AbstractFxmlPanelController {
 
     // Inspector state
     private SelectionState selectionState;
+    private LayoutSignature layoutSignature;
     private final EditorController editorController;
 
     private double searchResultDividerPosition;
@@ -451,7 +452,7 @@ public class InspectorPanelController extends AbstractFxmlPanelController {
         // DTL-6570 should be resolved before this assertion is back.
 //        assert !editorController.isTextEditingSessionOnGoing();
         if (!dragOnGoing) {
-            updateInspector();
+            updateInspector(true);
         }
     }
 
@@ -511,6 +512,7 @@ public class InspectorPanelController extends AbstractFxmlPanelController {
         
         accordion.setPrefSize(300, 700);
         buildExpandedSection();
+        layoutSignature = makeLayoutSignature();
         updateClassNameInSectionTitles();
         searchResultDividerPosition = inspectorRoot.getDividerPositions()[0];
         searchPatternDidChange();
@@ -520,34 +522,54 @@ public class InspectorPanelController extends AbstractFxmlPanelController {
      * Private
      */
     private void updateInspector() {
+        updateInspector(false);
+    }
+
+    private void updateInspector(boolean selectionChanged) {
         if (isInspectorLoaded() && hasFxomDocument()) {
-            SelectionState newSelectionState = new SelectionState(editorController);
-            if (isInspectorStateChanged(newSelectionState) || isEditedMode()) {
-                selectionState = newSelectionState;
-                rebuild();
+            final SelectionState previousSelectionState = selectionState;
+            selectionState = new SelectionState(editorController);
+            final LayoutSignature newLayoutSignature = makeLayoutSignature();
+            if (newLayoutSignature.equals(layoutSignature) == false) {
+                rebuild(newLayoutSignature);
             } else {
-                // we may have a property changed here.
-                selectionState = newSelectionState;
-                updateClassNamesExtraForIncludes();
-                reset();
+                // Same layout : we may have a property changed here or
+                // a selection of an equivalent node.
+                // When switching from one node to another node of the same
+                // class, the editors are still set up for the right classes :
+                // only their values need a refresh.
+                final boolean valuesOnly = selectionChanged
+                        && (previousSelectionState.getSelectedInstances().size() == 1)
+                        && (hasMultipleSelection() == false)
+                        && previousSelectionState.getSelectedClasses().equals(getSelectedClasses());
+                updateClassNameInSectionTitles();
+                reset(valuesOnly);
             }
         }
     }
 
-    private void updateClassNamesExtraForIncludes() {
-        if(!getSelectedIntrinsics().isEmpty()) {
-            updateClassNameInSectionTitles();
+    /*
+     * Describes what the built sections display : the view and show modes,
+     * the search pattern, the selection message (if any) and the property
+     * metadata left once static and edited properties are filtered.
+     * When it is unchanged, the editors in use are kept and only reset.
+     */
+    private LayoutSignature makeLayoutSignature() {
+        final Set<ValuePropertyMetadata> properties = Collections.newSetFromMap(new IdentityHashMap<>());
+        final String message = getSelectionMessage();
+        if (message == null) {
+            final Set<ValuePropertyMetadata> propMetaAll = getValuePropertyMetadata();
+            for (ValuePropertyMetadata valuePropMeta : propMetaAll) {
+                if (valuePropMeta.isStaticProperty() && !isStaticPropertyRelevant(valuePropMeta.getName())) {
+                    continue;
+                }
+                if (isEditedMode() && !isPropertyEdited(valuePropMeta, propMetaAll)) {
+                    continue;
+                }
+                properties.add(valuePropMeta);
+            }
         }
-    }
-
-    private boolean isInspectorStateChanged(SelectionState newSelectionState) {
-        // Inspector state change if one of the following is true:
-        // - selected classes change
-        // - common parent change
-        // - resolve state change
-        return (!newSelectionState.getSelectedClasses().equals(selectionState.getSelectedClasses())
-                || (newSelectionState.getCommonParentClass() != selectionState.getCommonParentClass())
-                || (!newSelectionState.getUnresolvedInstances().equals(selectionState.getUnresolvedInstances())));
+        return new LayoutSignature(getViewMode(), getShowMode(), searchPattern, message, properties);
     }
 
     private void searchPatternDidChange() {
@@ -567,10 +589,17 @@ public class InspectorPanelController extends AbstractFxmlPanelController {
             }
 
             buildFlatContent(searchContent);
+            if (layoutSignature != null) {
+                layoutSignature = layoutSignature.withSearchPattern(searchPattern);
+            }
         }
     }
 
     private void rebuild() {
+        rebuild(makeLayoutSignature());
+    }
+
+    private void rebuild(LayoutSignature newLayoutSignature) {
 //        System.out.println("Inspector rebuild() called !");
         // The inspector structure has changed :
         // - selection changed
@@ -578,9 +607,9 @@ public class InspectorPanelController extends AbstractFxmlPanelController {
         // - search pattern changed
         // - SceneGraphObject resolved state changed
         // ==> the current section is to be fully rebuilt
-        // TBD: we could optimize this by only refreshing values if 
-        //      same element class + same container class + same search pattern.
+        // updateInspector() skips it when the layout signature is unchanged.
         clearSections();
+        layoutSignature = newLayoutSignature;
         if (getViewMode() == ViewMode.SECTION) {
             buildExpandedSection();
         } else {
@@ -592,7 +621,7 @@ public class InspectorPanelController extends AbstractFxmlPanelController {
         }
     }
 
-    private void reset() {
+    private void reset(boolean valuesOnly) {
 //        System.out.println("Inspector reset() called !");
         // A property has changed, a reference has changed (e.g. css file). 
         // or a selection of an identical node appears
@@ -609,13 +638,29 @@ public class InspectorPanelController extends AbstractFxmlPanelController {
                     lastPropertyEditorValueChanged = null;
                     continue;
                 }
-                resetPropertyEditor((PropertyEditor) editor);
+                if ((valuesOnly == false) || isStateDependent((PropertyEditor) editor)) {
+                    resetPropertyEditor((PropertyEditor) editor);
+                }
 //                System.out.println("reset " + ((PropertyEditor) editor).getPropertyNameText());
             }
             setEditorValueFromSelection(editor);
         }
     }
 
+    /*
+     * Returns true if propertyEditor cannot be refreshed by
+     * setEditorValueFromSelection() alone : its state or its setup
+     * depends on the previously selected instances.
+     */
+    private boolean isStateDependent(PropertyEditor propertyEditor) {
+        return propertyEditor.isBinding()
+                || propertyEditor.isIndeterminate()
+                || propertyEditor.isEditing()
+                || propertyEditor.isInvalidValue()
+                || (propertyEditor instanceof BoundedDoubleEditor)
+                || (propertyEditor instanceof StyleClassEditor);
+    }
+
     private void buildExpandedSection() {
         buildSection(getExpandedSectionId());
     }
@@ -940,19 +985,25 @@ public class InspectorPanelController extends AbstractFxmlPanelController {
     }
 
     private boolean handleSelectionMessage(GridPane gridPane) {
-        if (!hasSelectedElement()) {
-            addMessage(gridPane, I18N.getString("inspector.message.no.selected"));
-            return true;
-        }
-        if (hasSelectedElementNothingForInspector() && hasSelectedIntrinsicNothingForInspector()) {
-            addMessage(gridPane, I18N.getString("inspector.message.no.thingforinspector"));
-            return true;
+        final String message = getSelectionMessage();
+        if (message != null) {
+            addMessage(gridPane, message);
         }
-        if (hasUnresolvedInstance()) {
-            addMessage(gridPane, I18N.getString("inspector.message.no.resolved"));
-            return true;
+        return message != null;
+    }
+
+    private String getSelectionMessage() {
+        final String result;
+        if (!hasSelectedElement()) {
+            result = I18N.getString("inspector.message.no.selected");
+        } else if (hasSelectedElementNothingForInspector() && hasSelectedIntrinsicNothingForInspector()) {
+            result = I18N.getString("inspector.message.no.thingforinspector");
+        } else if (hasUnresolvedInstance()) {
+            result = I18N.getString("inspector.message.no.resolved");
+        } else {
+            result = null;
         }
-        return false;
+        return result;
     }
 
     private void displayEmptyMessage(GridPane gridPane) {
@@ -2109,8 +2160,7 @@ public class InspectorPanelController extends AbstractFxmlPanelController {
     }
 
     private List<String> getFxIdsInUse() {
-        FXOMFxIdIndex fxomIndex = new FXOMFxIdIndex(getEditorController().getFxomDocument());
-        return new ArrayList<>(fxomIndex.getFxIds().keySet());
+        return new ArrayList<>(getEditorController().getFxomDocument().getFxIds());
     }
 
     private List<String> getSuggestedEventHandlers(String controllerClass) {
@@ -2182,6 +2232,18 @@ public class InspectorPanelController extends AbstractFxmlPanelController {
         return false;
     }
 
+    /*
+     * properties is an identity set : two metadata with the same name may
+     * need different editors (see makeLayoutSignature()).
+     */
+    private record LayoutSignature(ViewMode viewMode, ShowMode showMode, String searchPattern,
+            String message, Set<ValuePropertyMetadata> properties) {
+
+        private LayoutSignature withSearchPattern(String newSearchPattern) {
+            return new LayoutSignature(viewMode, showMode, newSearchPattern, message, properties);
+        }
+    }
+
     /*
      *   This class represents the selection state: 
      *   - the selected instances, 
@@ -46,7 +46,6 @@ import javafx.scene.Scene;
 import javafx.scene.control.Label;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.Dragboard;
 import javafx.scene.input.MouseButton;
@@ -247,7 +246,7 @@ class LibraryListCell extends ListCell<LibraryListItem> {
             if (iconURL == null) {
                 iconURL = missingIconURL;
             }
-            iconImageView.setImage(new Image(iconURL.toExternalForm()));
+            iconImageView.setImage(ImageUtils.getImage(iconURL));
         } else if (listItem.getSectionName() != null) {
             iconImageView.setManaged(false);
             classNameLabel.setManaged(false);
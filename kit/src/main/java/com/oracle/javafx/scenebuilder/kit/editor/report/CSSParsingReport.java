@@ -33,14 +33,13 @@
 
 package com.oracle.javafx.scenebuilder.kit.editor.report;
 
+import com.oracle.javafx.scenebuilder.kit.util.StylesheetCache;
 import javafx.css.CssParser;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 /**
  *
@@ -54,16 +53,11 @@ public class CSSParsingReport {
         assert stylesheetPath != null;
         
         this.stylesheetPath = stylesheetPath;
-        final Set<CssParser.ParseError> previousErrors = new HashSet<>(CssParser.errorsProperty());
         try {
-            new CssParser().parse(stylesheetPath.toUri().toURL());
+            parseErrors.addAll(StylesheetCache.getParseErrors(stylesheetPath.toUri().toURL()));
             // Leave this.ioException to null
-            parseErrors.addAll(CssParser.errorsProperty());
-            parseErrors.removeAll(previousErrors);
         } catch(IOException x) {
             this.ioException = x;
-        } finally {
-            CssParser.errorsProperty().removeAll(parseErrors);
         }
     }
 
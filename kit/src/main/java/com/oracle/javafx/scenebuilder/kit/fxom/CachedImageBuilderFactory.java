@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.fxom;
+
+import com.oracle.javafx.scenebuilder.kit.util.ImageCache;
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Set;
+import javafx.scene.image.Image;
+import javafx.util.Builder;
+import javafx.util.BuilderFactory;
+
+/**
+ * Builder factory used by FXOMLoader: images come from {@link ImageCache}
+ * so that they are decoded once instead of at each scene graph refresh.
+ * For other types, FXMLLoader falls back on its default builder factory.
+ */
+class CachedImageBuilderFactory implements BuilderFactory {
+
+    /*
+     * BuilderFactory
+     */
+
+    @Override
+    public Builder<?> getBuilder(Class<?> type) {
+        return (type == Image.class) ? new ImageBuilder() : null;
+    }
+
+    /*
+     * Private
+     */
+
+    /*
+     * Accepts the same properties as the JavaFX image builder.
+     */
+    private static class ImageBuilder extends AbstractMap<String, Object> implements Builder<Image> {
+        private String url;
+        private double requestedWidth;
+        private double requestedHeight;
+        private boolean preserveRatio;
+        private boolean smooth;
+        private boolean backgroundLoading;
+
+        @Override
+        public Object put(String key, Object value) {
+            if (value != null) {
+                final String str = value.toString();
+                switch (key) {
+                    case "url": //NOI18N
+                        url = str;
+                        break;
+                    case "requestedWidth": //NOI18N
+                        requestedWidth = Double.parseDouble(str);
+                        break;
+                    case "requestedHeight": //NOI18N
+                        requestedHeight = Double.parseDouble(str);
+                        break;
+                    case "preserveRatio": //NOI18N
+                        preserveRatio = Boolean.parseBoolean(str);
+                        break;
+                    case "smooth": //NOI18N
+                        smooth = Boolean.parseBoolean(str);
+                        break;
+                    case "backgroundLoading": //NOI18N
+                        backgroundLoading = Boolean.parseBoolean(str);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown Image property: " + key); //NOI18N
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public Set<Map.Entry<String, Object>> entrySet() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Image build() {
+            final Image result;
+            if (url == null) {
+                // Let Image report the error
+                result = new Image(url, requestedWidth, requestedHeight, preserveRatio, smooth, backgroundLoading);
+            } else {
+                result = ImageCache.getDocumentImage(url, requestedWidth, requestedHeight, 
+                        preserveRatio, smooth, backgroundLoading);
+            }
+            return result;
+        }
+    }
+}
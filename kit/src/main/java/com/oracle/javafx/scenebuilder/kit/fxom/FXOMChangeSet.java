@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.fxom;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Records the fxom nodes touched while a change set is open on an
+ * {@link FXOMDocument} (see {@link FXOMDocument#beginChangeSet()}).
+ * 
+ * A change set is incomplete when the document has been modified in a way
+ * which cannot be described by touched nodes (new root, new location...).
+ */
+public class FXOMChangeSet {
+    
+    private final Set<FXOMObject> touchedObjects = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final List<FXOMObject> attachedObjects = new ArrayList<>();
+    private final Set<String> touchedFxIds = new HashSet<>();
+    private boolean complete = true;
+    
+    FXOMChangeSet() {
+        // Use FXOMDocument.beginChangeSet()
+    }
+    
+    /**
+     * Returns false if the document has been modified in a way which is
+     * not recorded by this change set : in that case, the other accessors
+     * must be ignored.
+     * 
+     * @return true if this change set describes all the modifications.
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+    
+    /**
+     * Returns the objects whose attributes or properties have been modified.
+     * 
+     * @return the objects whose attributes or properties have been modified.
+     */
+    public Set<FXOMObject> getTouchedObjects() {
+        return Collections.unmodifiableSet(touchedObjects);
+    }
+    
+    /**
+     * Returns the objects which have been added to the document, with their
+     * whole subtree.
+     * 
+     * @return the objects added to the document.
+     */
+    public List<FXOMObject> getAttachedObjects() {
+        return Collections.unmodifiableList(attachedObjects);
+    }
+    
+    /**
+     * Returns the fx:ids which have been renamed, or which have been declared
+     * by an object removed from the document.
+     * 
+     * @return the fx:ids whose declaration has been modified.
+     */
+    public Set<String> getTouchedFxIds() {
+        return Collections.unmodifiableSet(touchedFxIds);
+    }
+    
+    
+    /*
+     * Package
+     */
+    
+    void objectDidChange(FXOMObject fxomObject) {
+        assert fxomObject != null;
+        touchedObjects.add(fxomObject);
+    }
+    
+    void objectDidAttach(FXOMObject fxomObject) {
+        assert fxomObject != null;
+        attachedObjects.add(fxomObject);
+    }
+    
+    void fxIdDidChange(String fxId) {
+        assert fxId != null;
+        touchedFxIds.add(fxId);
+    }
+    
+    void documentDidChange() {
+        complete = false;
+    }
+}
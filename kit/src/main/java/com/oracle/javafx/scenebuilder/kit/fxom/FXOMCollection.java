@@ -264,6 +264,9 @@ public class FXOMCollection extends FXOMObject {
         } else {
             items.add(index, item);
         }
+        getFxomDocument().invalidateSceneGraph(this);
+        getFxomDocument().invalidateSceneGraphObjectIndex();
+        getFxomDocument().subtreeDidAttach(this, item);
     }
     
     /* Reserved to FXOMObject.removeFromParentCollection() private use */
@@ -272,5 +275,8 @@ public class FXOMCollection extends FXOMObject {
         assert item.getParentProperty() == null;
         assert items.contains(item);
         items.remove(item);
+        getFxomDocument().invalidateSceneGraph(this);
+        getFxomDocument().invalidateSceneGraphObjectIndex();
+        getFxomDocument().subtreeDidDetach(this, item);
     }
 }
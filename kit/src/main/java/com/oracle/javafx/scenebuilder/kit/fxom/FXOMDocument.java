@@ -44,6 +44,8 @@ import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -81,6 +83,17 @@ public class FXOMDocument {
     private final SimpleIntegerProperty cssRevision = new SimpleIntegerProperty();
     private SceneGraphHolder sceneGraphHolder;
     private int updateDepth;
+    private boolean incrementalRefreshEnabled = true;
+    private boolean fullRefreshRequired = true;
+    private final Set<FXOMObject> dirtyObjects = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<Object, FXOMObject> sceneGraphObjectIndex = new IdentityHashMap<>();
+    private boolean sceneGraphObjectIndexValid;
+    private final Map<String, FXOMObject> fxIdIndex = new HashMap<>();
+    private boolean fxIdIndexValid;
+    private boolean fxIdIndexHasDuplicates;
+    private final Map<String, Set<FXOMNode>> referenceIndex = new HashMap<>();
+    private boolean referenceIndexValid;
+    private final List<FXOMChangeSet> changeSets = new ArrayList<>();
 
     private boolean hasControlsFromExternalPlugin;
     
@@ -172,6 +185,7 @@ public class FXOMDocument {
                 fxomRoot.documentLocationWillChange(location);
             }
             this.location = location;
+            invalidateSceneGraph();
             endUpdate();
         }
     }
@@ -183,6 +197,7 @@ public class FXOMDocument {
     public void setClassLoader(ClassLoader classLoader) {
         beginUpdate();
         this.classLoader = classLoader;
+        invalidateSceneGraph();
         endUpdate();
     }    
     
@@ -197,6 +212,7 @@ public class FXOMDocument {
     public void setResources(ResourceBundle resources) {
         beginUpdate();
         this.resources = resources;
+        invalidateSceneGraph();
         endUpdate();
     }
 
@@ -236,6 +252,7 @@ public class FXOMDocument {
     public void setFxomRoot(FXOMObject fxomRoot) {
         beginUpdate();
         updateRoots(fxomRoot, null);
+        invalidateSceneGraph();
         endUpdate();
     }
     
@@ -251,6 +268,9 @@ public class FXOMDocument {
         this.sceneGraphRoot = sceneGraphRoot;
         this.displayNode = null;
         this.displayStylesheets.clear();
+        invalidateSceneGraphObjectIndex();
+        invalidateFxIdIndex();
+        invalidateReferenceIndex();
     }
 
     public Object getSceneGraphRoot() {
@@ -312,30 +332,134 @@ public class FXOMDocument {
         return result;
     }
 
+    /**
+     * Returns the fxom object associated to the specified scene graph object.
+     * Unlike {@link FXOMObject#searchWithSceneGraphObject(Object)}, this method
+     * does not walk the fxom tree: it uses an identity index which is rebuilt
+     * after each scene graph refresh and each structural change.
+     * 
+     * @param sceneGraphObject a scene graph object
+     * @return null or the fxom object associated to sceneGraphObject.
+     */
     public FXOMObject searchWithSceneGraphObject(Object sceneGraphObject) {
         final FXOMObject result;
         
-        if (fxomRoot == null) {
+        if ((fxomRoot == null) || (sceneGraphObject == null)) {
             result = null;
         } else {
-            result = fxomRoot.searchWithSceneGraphObject(sceneGraphObject);
+            if (sceneGraphObjectIndexValid == false) {
+                rebuildSceneGraphObjectIndex();
+            }
+            result = sceneGraphObjectIndex.get(sceneGraphObject);
         }
         
+        // Debug mode (-ea) : checks the index against a tree walk
+        assert (fxomRoot == null) || (sceneGraphObject == null)
+                || (result == fxomRoot.searchWithSceneGraphObject(sceneGraphObject))
+                : "Scene graph object index is out of sync for " + sceneGraphObject;
+        
         return result;
     }
     
+    /**
+     * Returns the fxom object declaring the specified fx:id.
+     * Unlike {@link FXOMObject#searchWithFxId(String)}, this method
+     * does not walk the fxom tree: it uses an index which is kept up to date
+     * by fx:id changes and by objects added to or removed from the document.
+     * 
+     * @param fxId an fx:id
+     * @return null or the fxom object declaring fxId.
+     */
     public FXOMObject searchWithFxId(String fxId) {
         final FXOMObject result;
         
+        assert fxId != null;
+        
         if (fxomRoot == null) {
             result = null;
         } else {
-            result = fxomRoot.searchWithFxId(fxId);
+            if (fxIdIndexValid == false) {
+                rebuildFxIdIndex();
+            }
+            final FXOMObject candidate = fxIdIndex.get(fxId);
+            if ((candidate == null) || isIndexable(candidate)) {
+                result = candidate;
+            } else {
+                // fx:id is first declared by an fx:reference, fx:copy...
+                // which FXOMObject.searchWithFxId() skips (invalid fxml anyway)
+                result = fxomRoot.searchWithFxId(fxId);
+            }
         }
         
+        // Debug mode (-ea) : checks the index against a tree walk
+        assert (fxomRoot == null) || (result == fxomRoot.searchWithFxId(fxId))
+                : "fx:id index is out of sync for " + fxId;
+        
         return result;
     }
     
+    /**
+     * Returns the fx:ids declared in this document.
+     * Unlike {@link #collectFxIds()}, this method does not walk the fxom tree.
+     * 
+     * @return an unmodifiable view of the fx:ids declared in this document.
+     */
+    public Set<String> getFxIds() {
+        if (fxIdIndexValid == false) {
+            rebuildFxIdIndex();
+        }
+        
+        // Debug mode (-ea) : checks the index against a tree walk
+        assert fxIdIndex.keySet().equals(collectFxIds().keySet())
+                : "fx:id index is out of sync";
+        
+        return Collections.unmodifiableSet(fxIdIndex.keySet());
+    }
+    
+    /**
+     * Returns the fx:reference, fx:copy and $expression properties which
+     * refer to the specified fx:id. Like {@link #searchWithFxId(String)},
+     * this method uses an index instead of walking the fxom tree.
+     * 
+     * @param fxId an fx:id
+     * @return the nodes referencing fxId (never null but possibly empty)
+     */
+    public List<FXOMNode> collectReferences(String fxId) {
+        final List<FXOMNode> result;
+        
+        assert fxId != null;
+        
+        if (referenceIndexValid == false) {
+            rebuildReferenceIndex();
+        }
+        final Set<FXOMNode> references = referenceIndex.get(fxId);
+        if (references == null) {
+            result = Collections.emptyList();
+        } else {
+            result = new ArrayList<>(references);
+        }
+        
+        return result;
+    }
+    
+    /**
+     * Starts recording the fxom nodes touched by the next modifications.
+     * Recording goes on until {@link #endChangeSet(FXOMChangeSet)} is called.
+     * Several change sets may be opened at the same time.
+     * 
+     * @return the change set receiving the touched nodes.
+     */
+    public FXOMChangeSet beginChangeSet() {
+        final FXOMChangeSet result = new FXOMChangeSet();
+        changeSets.add(result);
+        return result;
+    }
+    
+    public void endChangeSet(FXOMChangeSet changeSet) {
+        assert changeSets.contains(changeSet);
+        changeSets.remove(changeSet);
+    }
+    
     public Map<String, FXOMObject> collectFxIds() {
         final Map<String, FXOMObject> result;
         
@@ -357,7 +481,7 @@ public class FXOMDocument {
         assert updateDepth >= 1;
         updateDepth--;
         if (updateDepth == 0) {
-            refreshSceneGraph();
+            refreshSceneGraph(incrementalRefreshEnabled);
         }
     }
     
@@ -365,21 +489,355 @@ public class FXOMDocument {
         return updateDepth >= 1;
     }
     
+    /**
+     * Returns true if endUpdate() may only re-instantiate the subtrees
+     * modified since the last refresh instead of reloading the whole document.
+     * 
+     * @return true if incremental scene graph refresh is enabled.
+     */
+    public boolean isIncrementalRefreshEnabled() {
+        return incrementalRefreshEnabled;
+    }
+    
+    public void setIncrementalRefreshEnabled(boolean incrementalRefreshEnabled) {
+        this.incrementalRefreshEnabled = incrementalRefreshEnabled;
+    }
+    
+    /**
+     * Reconstructs the whole scene graph from the current FXML text.
+     */
     public void refreshSceneGraph() {
+        refreshSceneGraph(false);
+    }
+    
+    private void refreshSceneGraph(boolean incremental) {
         if (sceneGraphHolder != null) {
             sceneGraphHolder.fxomDocumentWillRefreshSceneGraph(this);
         }
         final FXOMRefresher fxomRefresher = new FXOMRefresher();
-        fxomRefresher.refresh(this);
+        if (incremental && (fullRefreshRequired == false) && (dirtyObjects.isEmpty() == false)) {
+            fxomRefresher.refresh(this, dirtyObjects);
+        } else {
+            fxomRefresher.refresh(this);
+        }
         if ((sampleDataGenerator != null) && (fxomRoot != null)) {
             sampleDataGenerator.assignSampleData(fxomRoot);
         }
+        // Changes performed by the refresh itself are already in the scene graph
+        dirtyObjects.clear();
+        fullRefreshRequired = false;
         if (sceneGraphHolder != null) {
             sceneGraphHolder.fxomDocumentDidRefreshSceneGraph(this);
         }
         sceneGraphRevision.set(sceneGraphRevision.get()+1);
     }
     
+    /*
+     * Package
+     */
+    
+    /* Reserved to FXOM nodes : fxomObject scene graph must be re-instantiated */
+    void invalidateSceneGraph(FXOMObject fxomObject) {
+        if (fxomObject != null) {
+            dirtyObjects.add(fxomObject);
+            for (FXOMChangeSet changeSet : changeSets) {
+                changeSet.objectDidChange(fxomObject);
+            }
+        }
+    }
+    
+    /* Reserved to FXOM nodes : the whole scene graph must be re-instantiated */
+    void invalidateSceneGraph() {
+        fullRefreshRequired = true;
+        dirtyObjects.clear();
+        for (FXOMChangeSet changeSet : changeSets) {
+            changeSet.documentDidChange();
+        }
+    }
+    
+    /* Reserved to FXOM nodes : fxom tree structure did change */
+    void invalidateSceneGraphObjectIndex() {
+        sceneGraphObjectIndexValid = false;
+        sceneGraphObjectIndex.clear();
+    }
+    
+    /* Reserved to FXOMObject.setSceneGraphObject() */
+    void sceneGraphObjectDidChange(FXOMObject fxomObject, Object oldSceneGraphObject) {
+        if (sceneGraphObjectIndexValid) {
+            if ((oldSceneGraphObject != null) 
+                    && (sceneGraphObjectIndex.get(oldSceneGraphObject) == fxomObject)) {
+                sceneGraphObjectIndex.remove(oldSceneGraphObject);
+            }
+            final Object newSceneGraphObject = fxomObject.getSceneGraphObject();
+            if ((newSceneGraphObject != null) && isIndexable(fxomObject) && isAttached(fxomObject)) {
+                final FXOMObject previous = sceneGraphObjectIndex.putIfAbsent(newSceneGraphObject, fxomObject);
+                if ((previous != null) && (previous != fxomObject)) {
+                    // Two objects share the same scene graph object : the index
+                    // must keep the first one in tree order, so we rebuild it.
+                    invalidateSceneGraphObjectIndex();
+                }
+            }
+        }
+    }
+    
+    /* Reserved to FXOMRefresher */
+    void rebuildSceneGraphObjectIndex() {
+        sceneGraphObjectIndex.clear();
+        if (fxomRoot != null) {
+            final List<FXOMObject> candidates = new ArrayList<>();
+            candidates.add(fxomRoot);
+            while (candidates.isEmpty() == false) {
+                // Depth first, pre-order : same order as FXOMObject.searchWithSceneGraphObject()
+                final FXOMObject candidate = candidates.remove(candidates.size()-1);
+                final Object sceneGraphObject = candidate.getSceneGraphObject();
+                if ((sceneGraphObject != null) && isIndexable(candidate)) {
+                    sceneGraphObjectIndex.putIfAbsent(sceneGraphObject, candidate);
+                }
+                final List<FXOMObject> children = candidate.getChildObjects();
+                for (int i = children.size()-1; i >= 0; i--) {
+                    candidates.add(children.get(i));
+                }
+            }
+        }
+        sceneGraphObjectIndexValid = true;
+    }
+    
+    /* Reserved to FXOM nodes : fx:id index must be rebuilt */
+    void invalidateFxIdIndex() {
+        fxIdIndexValid = false;
+        fxIdIndexHasDuplicates = false;
+        fxIdIndex.clear();
+    }
+    
+    /* Reserved to FXOMObject.setFxId() */
+    void fxIdDidChange(FXOMObject fxomObject, String oldFxId) {
+        final String newFxId = fxomObject.getFxId();
+        for (FXOMChangeSet changeSet : changeSets) {
+            if (oldFxId != null) {
+                changeSet.fxIdDidChange(oldFxId);
+            }
+            if (newFxId != null) {
+                changeSet.fxIdDidChange(newFxId);
+            }
+        }
+        if (fxIdIndexValid && isAttached(fxomObject)) {
+            if (oldFxId != null) {
+                unindexFxId(oldFxId, fxomObject);
+            }
+            if (fxIdIndexValid && (newFxId != null)) {
+                indexFxId(newFxId, fxomObject);
+            }
+        }
+    }
+    
+    /* Reserved to FXOM nodes : subtree has been added to container */
+    void subtreeDidAttach(FXOMObject container, FXOMObject subtree) {
+        if ((fxIdIndexValid || referenceIndexValid || (changeSets.isEmpty() == false))
+                && (container != null) && isAttached(container)) {
+            for (FXOMChangeSet changeSet : changeSets) {
+                changeSet.objectDidAttach(subtree);
+            }
+            for (FXOMObject o : serializeSubtree(subtree)) {
+                final String fxId = o.getFxId();
+                if (fxIdIndexValid && (fxId != null)) {
+                    indexFxId(fxId, o);
+                }
+                if (referenceIndexValid) {
+                    for (FXOMNode r : collectReferenceNodes(o)) {
+                        indexReference(FXOMNodes.extractReferenceSource(r), r);
+                    }
+                }
+            }
+        }
+    }
+    
+    /* Reserved to FXOM nodes : subtree has been removed from container */
+    void subtreeDidDetach(FXOMObject container, FXOMObject subtree) {
+        if ((fxIdIndexValid || referenceIndexValid || (changeSets.isEmpty() == false))
+                && (container != null) && isAttached(container)) {
+            for (FXOMObject o : serializeSubtree(subtree)) {
+                final String fxId = o.getFxId();
+                if (fxId != null) {
+                    for (FXOMChangeSet changeSet : changeSets) {
+                        changeSet.fxIdDidChange(fxId);
+                    }
+                    if (fxIdIndexValid) {
+                        unindexFxId(fxId, o);
+                    }
+                }
+                if (referenceIndexValid) {
+                    for (FXOMNode r : collectReferenceNodes(o)) {
+                        unindexReference(FXOMNodes.extractReferenceSource(r), r);
+                    }
+                }
+            }
+        }
+    }
+    
+    /* Reserved to FXOMInstance : property has been added to instance */
+    void propertyDidAttach(FXOMInstance instance, FXOMProperty property) {
+        if (property instanceof FXOMPropertyC) {
+            for (FXOMObject value : ((FXOMPropertyC) property).getValues()) {
+                subtreeDidAttach(instance, value);
+            }
+        } else if (referenceIndexValid && isAttached(instance)) {
+            final String source = FXOMNodes.extractReferenceSource(property);
+            if (source != null) {
+                indexReference(source, property);
+            }
+        }
+    }
+    
+    /* Reserved to FXOMInstance : property has been removed from instance */
+    void propertyDidDetach(FXOMInstance instance, FXOMProperty property) {
+        if (property instanceof FXOMPropertyC) {
+            for (FXOMObject value : ((FXOMPropertyC) property).getValues()) {
+                subtreeDidDetach(instance, value);
+            }
+        } else if (referenceIndexValid && isAttached(instance)) {
+            final String source = FXOMNodes.extractReferenceSource(property);
+            if (source != null) {
+                unindexReference(source, property);
+            }
+        }
+    }
+    
+    /* Reserved to FXOMPropertyT.setValue() and FXOMIntrinsic.setSource() */
+    void referenceDidChange(FXOMNode node, String oldSource) {
+        assert (node instanceof FXOMPropertyT) || (node instanceof FXOMIntrinsic);
+        
+        final FXOMObject owner;
+        if (node instanceof FXOMPropertyT) {
+            owner = ((FXOMPropertyT) node).getParentInstance();
+        } else {
+            owner = (FXOMObject) node;
+        }
+        if (referenceIndexValid && (owner != null) && isAttached(owner)) {
+            if (oldSource != null) {
+                unindexReference(oldSource, node);
+            }
+            final String newSource = FXOMNodes.extractReferenceSource(node);
+            if (newSource != null) {
+                indexReference(newSource, node);
+            }
+        }
+    }
+    
+    /* Reserved to FXOM nodes : reference index must be rebuilt */
+    void invalidateReferenceIndex() {
+        referenceIndexValid = false;
+        referenceIndex.clear();
+    }
+    
+    private void rebuildReferenceIndex() {
+        referenceIndex.clear();
+        if (fxomRoot != null) {
+            for (FXOMObject o : serializeSubtree(fxomRoot)) {
+                for (FXOMNode r : collectReferenceNodes(o)) {
+                    indexReference(FXOMNodes.extractReferenceSource(r), r);
+                }
+            }
+        }
+        referenceIndexValid = true;
+    }
+    
+    private void indexReference(String source, FXOMNode node) {
+        assert source != null;
+        referenceIndex.computeIfAbsent(source, k -> Collections.newSetFromMap(new IdentityHashMap<>())).add(node);
+    }
+    
+    private void unindexReference(String source, FXOMNode node) {
+        assert source != null;
+        final Set<FXOMNode> references = referenceIndex.get(source);
+        if (references != null) {
+            references.remove(node);
+            if (references.isEmpty()) {
+                referenceIndex.remove(source);
+            }
+        }
+    }
+    
+    private static List<FXOMNode> collectReferenceNodes(FXOMObject fxomObject) {
+        final List<FXOMNode> result = new ArrayList<>();
+        
+        if (fxomObject instanceof FXOMInstance) {
+            for (FXOMProperty p : ((FXOMInstance) fxomObject).getProperties().values()) {
+                if ((p instanceof FXOMPropertyT) && (FXOMNodes.extractReferenceSource(p) != null)) {
+                    result.add(p);
+                }
+            }
+        } else if (FXOMNodes.extractReferenceSource(fxomObject) != null) {
+            result.add(fxomObject);
+        }
+        
+        return result;
+    }
+    
+    private void rebuildFxIdIndex() {
+        fxIdIndex.clear();
+        fxIdIndexHasDuplicates = false;
+        if (fxomRoot != null) {
+            for (FXOMObject o : serializeSubtree(fxomRoot)) {
+                final String fxId = o.getFxId();
+                if (fxId != null) {
+                    final FXOMObject previous = fxIdIndex.putIfAbsent(fxId, o);
+                    fxIdIndexHasDuplicates |= (previous != null);
+                }
+            }
+        }
+        fxIdIndexValid = true;
+    }
+    
+    private void indexFxId(String fxId, FXOMObject fxomObject) {
+        assert fxIdIndexValid;
+        final FXOMObject previous = fxIdIndex.putIfAbsent(fxId, fxomObject);
+        if ((previous != null) && (previous != fxomObject)) {
+            // Duplicate fx:id : the index must keep the first one in tree
+            // order, so we rebuild it.
+            invalidateFxIdIndex();
+        }
+    }
+    
+    private void unindexFxId(String fxId, FXOMObject fxomObject) {
+        assert fxIdIndexValid;
+        if (fxIdIndexHasDuplicates) {
+            // Another object may declare the same fx:id : rebuild the index.
+            invalidateFxIdIndex();
+        } else if (fxIdIndex.get(fxId) == fxomObject) {
+            fxIdIndex.remove(fxId);
+        }
+    }
+    
+    private static List<FXOMObject> serializeSubtree(FXOMObject subtree) {
+        final List<FXOMObject> result = new ArrayList<>();
+        final List<FXOMObject> candidates = new ArrayList<>();
+        candidates.add(subtree);
+        while (candidates.isEmpty() == false) {
+            // Depth first, pre-order : same order as FXOMObject.searchWithFxId()
+            final FXOMObject candidate = candidates.remove(candidates.size()-1);
+            result.add(candidate);
+            final List<FXOMObject> children = candidate.getChildObjects();
+            for (int i = children.size()-1; i >= 0; i--) {
+                candidates.add(children.get(i));
+            }
+        }
+        return result;
+    }
+    
+    private static boolean isIndexable(FXOMObject fxomObject) {
+        // See FXOMIntrinsic.searchWithSceneGraphObject()
+        return (fxomObject instanceof FXOMIntrinsic == false)
+                || (((FXOMIntrinsic) fxomObject).getType() == FXOMIntrinsic.Type.FX_INCLUDE);
+    }
+    
+    boolean isAttached(FXOMObject fxomObject) {
+        FXOMObject top = fxomObject;
+        while (top.getParentObject() != null) {
+            top = top.getParentObject();
+        }
+        return top == fxomRoot;
+    }
+    
     /**
      * Returns the property holding the revision number of the scene graph.
      * refreshSceneGraph() method increments the revision by one each time it
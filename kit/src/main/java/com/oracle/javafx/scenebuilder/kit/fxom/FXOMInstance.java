@@ -135,6 +135,7 @@ public class FXOMInstance extends FXOMObject {
             getGlueElement().getAttributes().put(FXMLLoader.ROOT_TYPE_ATTRIBUTE, getGlueElement().getTagName());
             getGlueElement().setTagName("fx:root");
         }
+        getFxomDocument().invalidateSceneGraph(this);
     }
     
     public String getType() {
@@ -447,6 +448,11 @@ public class FXOMInstance extends FXOMObject {
         assert property.getParentInstance() == this;
         assert properties.get(property.getName()) == null;
         properties.put(property.getName(), property);
+        getFxomDocument().invalidateSceneGraph(this);
+        if (property instanceof FXOMPropertyC) {
+            getFxomDocument().invalidateSceneGraphObjectIndex();
+        }
+        getFxomDocument().propertyDidAttach(this, property);
     }
     
     /* For FXOMProperty.removeFromParentInstance() private use only */
@@ -454,14 +460,23 @@ public class FXOMInstance extends FXOMObject {
         assert property.getParentInstance() == null;
         assert properties.get(property.getName()) == property;
         properties.remove(property.getName());
-        
+        getFxomDocument().invalidateSceneGraph(this);
+        if (property instanceof FXOMPropertyC) {
+            getFxomDocument().invalidateSceneGraphObjectIndex();
+        }
+        getFxomDocument().propertyDidDetach(this, property);
     }
 
     public void fillProperties(Map<PropertyName, FXOMProperty> properties ) {
+        getFxomDocument().invalidateFxIdIndex();
+        getFxomDocument().invalidateReferenceIndex();
         for (FXOMProperty p : properties.values()) {
             this.properties.put(p.getName(), p);
             p.setParentInstance(this);
+            getFxomDocument().propertyDidAttach(this, p);
         }
+        getFxomDocument().invalidateSceneGraph(this);
+        getFxomDocument().invalidateSceneGraphObjectIndex();
     }
 
     /*
@@ -93,6 +93,7 @@ public class FXOMIntrinsic extends FXOMObject {
             attributes.remove(CHARSET_PROPERTY);
             PropertyName charsetPropertyName = new PropertyName(CHARSET_PROPERTY);
             this.getProperties().remove(charsetPropertyName);
+            getFxomDocument().invalidateSceneGraph(this);
         }
     }
 
@@ -122,11 +123,14 @@ public class FXOMIntrinsic extends FXOMObject {
     }
 
     public void setSource(String source) {
+        final String oldSource = FXOMNodes.extractReferenceSource(this);
         if (source == null) {
             getGlueElement().getAttributes().remove(SOURCE_PROPERTY);
         } else {
             getGlueElement().getAttributes().put(SOURCE_PROPERTY, source);
         }
+        getFxomDocument().invalidateSceneGraph(this);
+        getFxomDocument().referenceDidChange(this, oldSource);
     }
     
     public Object getSourceSceneGraphObject() {
@@ -92,6 +92,7 @@ class FXOMLoader implements LoadListener {
         fxmlLoader.setLocation(document.getLocation());
         fxmlLoader.setResources(new ResourceKeyCollector(document.getResources()));
         fxmlLoader.setClassLoader(new TransientClassLoader(classLoader));
+        fxmlLoader.setBuilderFactory(new CachedImageBuilderFactory());
         fxmlLoader.setLoadListener(this);
         Deprecation.setStaticLoad(fxmlLoader, true);
 
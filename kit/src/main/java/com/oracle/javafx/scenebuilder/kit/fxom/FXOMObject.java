@@ -194,7 +194,9 @@ public abstract class FXOMObject extends FXOMNode {
     }
 
     public void setSceneGraphObject(Object sceneGraphObject) {
+        final Object oldSceneGraphObject = this.sceneGraphObject;
         this.sceneGraphObject = sceneGraphObject;
+        getFxomDocument().sceneGraphObjectDidChange(this, oldSceneGraphObject);
     }
     
     public FXOMObject getNextSlibing() {
@@ -519,11 +521,14 @@ public abstract class FXOMObject extends FXOMNode {
     
     public void setFxId(String fxId) {
         assert (fxId == null) || JavaLanguage.isIdentifier(fxId);
+        final String oldFxId;
         if (fxId == null) {
-            glueElement.getAttributes().remove("fx:id");
+            oldFxId = glueElement.getAttributes().remove("fx:id");
         } else {
-            glueElement.getAttributes().put("fx:id", fxId);
+            oldFxId = glueElement.getAttributes().put("fx:id", fxId);
         }
+        getFxomDocument().invalidateSceneGraph(this);
+        getFxomDocument().fxIdDidChange(this, oldFxId);
     }
         
     
@@ -537,6 +542,7 @@ public abstract class FXOMObject extends FXOMNode {
         } else {
             glueElement.getAttributes().put("fx:value", fxValue);
         }
+        getFxomDocument().invalidateSceneGraph(this);
     }
     
     
@@ -550,6 +556,7 @@ public abstract class FXOMObject extends FXOMNode {
         } else {
             glueElement.getAttributes().put("fx:constant", fxConstant);
         }
+        getFxomDocument().invalidateSceneGraph(this);
     }
     
     public String getFxController() {
@@ -562,6 +569,7 @@ public abstract class FXOMObject extends FXOMNode {
         } else {
             glueElement.getAttributes().put("fx:controller", fxController);
         }
+        getFxomDocument().invalidateSceneGraph(this);
     }
     
     public String getFxFactory() {
@@ -574,6 +582,7 @@ public abstract class FXOMObject extends FXOMNode {
         } else {
             glueElement.getAttributes().put("fx:factory", fxFactory);
         }
+        getFxomDocument().invalidateSceneGraph(this);
     }
     
     public String getNameSpaceFX() {
@@ -616,9 +625,8 @@ public abstract class FXOMObject extends FXOMNode {
             documentLocationWillChange(destination.getLocation());
         }
         
-        final Map<String, FXOMObject> destinationFxIds = destination.collectFxIds();
         final Map<String, FXOMObject> importedFxIds = collectFxIds();
-        final FXOMFxIdMerger merger = new FXOMFxIdMerger(destinationFxIds.keySet(), importedFxIds.keySet());
+        final FXOMFxIdMerger merger = new FXOMFxIdMerger(destination.getFxIds(), importedFxIds.keySet());
         for (Map.Entry<String, FXOMObject> e : importedFxIds.entrySet()) {
             final String originalFxId = e.getKey();
             final FXOMObject fxomObject = e.getValue();
@@ -215,6 +215,9 @@ public class FXOMPropertyC extends FXOMProperty {
         } else {
             values.add(index, value);
         }
+        getFxomDocument().invalidateSceneGraph(getParentInstance());
+        getFxomDocument().invalidateSceneGraphObjectIndex();
+        getFxomDocument().subtreeDidAttach(getParentInstance(), value);
     }
     
     /* Reserved to FXOMObject.removeFromParentProperty() private use */
@@ -223,5 +226,8 @@ public class FXOMPropertyC extends FXOMProperty {
         assert value.getParentProperty() == null;
         assert values.contains(value);
         values.remove(value);
+        getFxomDocument().invalidateSceneGraph(getParentInstance());
+        getFxomDocument().invalidateSceneGraphObjectIndex();
+        getFxomDocument().subtreeDidDetach(getParentInstance(), value);
     }
 }
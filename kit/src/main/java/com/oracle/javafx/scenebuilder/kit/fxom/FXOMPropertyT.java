@@ -40,6 +40,7 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  *
@@ -79,6 +80,13 @@ public class FXOMPropertyT extends FXOMProperty {
     private String value;
     private final GlueElement propertyElement;
     private final GlueElement valueElement;
+    
+    /*
+     * Decoding of value, kept until setValue() : readers like the inspector
+     * or the drivers fetch the same values again and again.
+     */
+    private PrefixedValue.Type prefixedValueType;
+    private ParsedValue parsedValue;
 
     public FXOMPropertyT(FXOMDocument document, PropertyName name, GlueElement propertyElement, GlueElement valueElement, String value) {
         super(document, name);
@@ -102,6 +110,7 @@ public class FXOMPropertyT extends FXOMProperty {
     public void setValue(String newValue) {
         assert newValue != null;
         
+        final String oldSource = FXOMNodes.extractReferenceSource(this);
         
         if (propertyElement != null) {
             if (valueElement != null) { // Case #3
@@ -126,6 +135,45 @@ public class FXOMPropertyT extends FXOMProperty {
         }
         
         value = newValue;
+        prefixedValueType = null;
+        parsedValue = null;
+        getFxomDocument().invalidateSceneGraph(getParentInstance());
+        getFxomDocument().referenceDidChange(this, oldSource);
+    }
+
+    /**
+     * Returns the prefix type of the value (see {@link PrefixedValue}).
+     * 
+     * @return the prefix type of the value (never null)
+     */
+    public PrefixedValue.Type getPrefixedValueType() {
+        PrefixedValue.Type result = prefixedValueType;
+        if (result == null) {
+            result = PrefixedValue.getPrefixedValueType(value);
+            prefixedValueType = result;
+        }
+        return result;
+    }
+    
+    /**
+     * Returns the value decoded by a given decoder. The decoded value is
+     * kept until the value of this property changes or until another
+     * decoder is used. decoder must only depend on {@link #getValue()}.
+     * 
+     * @param <T> the type of the decoded value
+     * @param decoder the function decoding this property
+     * @return the decoded value
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getParsedValue(Function<FXOMPropertyT, T> decoder) {
+        assert decoder != null;
+        
+        ParsedValue result = parsedValue;
+        if ((result == null) || (result.decoder() != decoder)) {
+            result = new ParsedValue(decoder, decoder.apply(this));
+            parsedValue = result;
+        }
+        return (T) result.value();
     }
 
     public GlueElement getPropertyElement() {
@@ -303,4 +351,11 @@ public class FXOMPropertyT extends FXOMProperty {
                 
     }
     
+    
+    /*
+     * Private
+     */
+    
+    private record ParsedValue(Function<?, ?> decoder, Object value) {
+    }
 }
@@ -36,6 +36,7 @@ import com.oracle.javafx.scenebuilder.kit.metadata.Metadata;
 import com.oracle.javafx.scenebuilder.kit.metadata.property.ValuePropertyMetadata;
 import com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoubleArrayPropertyMetadata;
 import com.oracle.javafx.scenebuilder.kit.metadata.property.value.list.ListValuePropertyMetadata;
+import com.oracle.javafx.scenebuilder.kit.metadata.util.PrefixedValue;
 import com.oracle.javafx.scenebuilder.kit.metadata.util.PropertyName;
 
 import javafx.scene.Node;
@@ -47,13 +48,18 @@ import javafx.stage.Window;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import lombok.extern.slf4j.Slf4j;
+
 /**
  *
  *
  */
+@Slf4j
 class FXOMRefresher {
 
     public void refresh(FXOMDocument document) {
@@ -66,6 +72,8 @@ class FXOMRefresher {
                     document.getClassLoader(),
                     document.getResources());
             final TransientStateBackup backup = new TransientStateBackup(document);
+            // All scene graph objects are about to change : index is rebuilt below
+            document.invalidateSceneGraphObjectIndex();
             // if the refresh should not take place (e.g. due to an error), remove a property from intrinsic
             if (newDocument.getSceneGraphRoot() == null && newDocument.getFxomRoot() == null) {
                 removeIntrinsicProperty(document);
@@ -74,6 +82,7 @@ class FXOMRefresher {
             }
             backup.restore();
             synchronizeDividerPositions(document);
+            document.rebuildSceneGraphObjectIndex();
         } catch (RuntimeException | IOException x) {
             final StringBuilder sb = new StringBuilder();
             sb.append("Bug in ");
@@ -96,6 +105,57 @@ class FXOMRefresher {
         }
     }
 
+    /**
+     * Re-instantiates only the subtrees containing the specified objects and
+     * splices the resulting scene graph objects into the current scene graph.
+     * Falls back on {@link #refresh(FXOMDocument)} each time a subtree cannot
+     * be reloaded on its own (references, expressions, root changes...).
+     *
+     * @param document the document to refresh
+     * @param dirtyObjects objects modified since the last refresh
+     */
+    public void refresh(FXOMDocument document, Set<FXOMObject> dirtyObjects) {
+        final List<Splice> splices = prepareSplices(document, dirtyObjects);
+        if (splices == null) {
+            refresh(document);
+        } else if (splices.isEmpty() == false) {
+            String fxmlText = null;
+            try {
+                for (Splice splice : splices) {
+                    fxmlText = makeFxmlText(splice.target);
+                    final FXOMDocument newDocument
+                            = new FXOMDocument(fxmlText,
+                            document.getLocation(),
+                            document.getClassLoader(),
+                            document.getResources());
+                    if (isSameShape(splice.target, newDocument.getFxomRoot()) == false) {
+                        // For example, the fragment failed to load
+                        refresh(document);
+                        return;
+                    }
+                    splice.newObject = newDocument.getFxomRoot();
+                }
+                fxmlText = null;
+                final TransientStateBackup backup = new TransientStateBackup(document);
+                for (Splice splice : splices) {
+                    splice.apply();
+                    refreshFxomObject(splice.target, splice.newObject);
+                }
+                backup.restore();
+                synchronizeDividerPositions(document);
+                document.rebuildSceneGraphObjectIndex();
+            } catch (RuntimeException | IOException x) {
+                // Some splices may have been applied : scene graph is rebuilt
+                // from scratch so that it matches the fxom tree again.
+                log.warn("Incremental refresh failed, refreshing whole document (fragment is {})", //NOI18N
+                        fxmlText, x);
+                refresh(document);
+            }
+        }
+        // else dirty objects are all detached from the document:
+        // the scene graph is already up to date.
+    }
+
     private void removeIntrinsicProperty(FXOMDocument document) {
         FXOMInstance fxomRoot = (FXOMInstance) document.getFxomRoot();
         if (fxomRoot != null) {
@@ -241,6 +301,199 @@ class FXOMRefresher {
         return fxomInstance;
     }
     
+    /*
+     * Private (incremental refresh)
+     */
+
+    /*
+     * Returns null if the full refresh must be used.
+     */
+    private List<Splice> prepareSplices(FXOMDocument document, Set<FXOMObject> dirtyObjects) {
+        final FXOMObject fxomRoot = document.getFxomRoot();
+        if ((fxomRoot == null) || (document.getSceneGraphRoot() == null)) {
+            return null;
+        }
+
+        // Climbs from each dirty object to the closest object which can be
+        // re-instantiated on its own
+        final Set<FXOMObject> targets = new HashSet<>();
+        for (FXOMObject dirtyObject : dirtyObjects) {
+            if (document.isAttached(dirtyObject)) {
+                FXOMObject target = dirtyObject;
+                while ((target != fxomRoot) && (isSpliceable(target) == false)) {
+                    target = target.getParentObject();
+                }
+                if (target == fxomRoot) {
+                    return null;
+                }
+                targets.add(target);
+            }
+        }
+
+        // Keeps the outermost targets only
+        final List<Splice> result = new ArrayList<>();
+        for (FXOMObject target : targets) {
+            if (FXOMNodes.lookupAncestor(target, targets) == null) {
+                final Splice splice = Splice.make((FXOMInstance) target, document);
+                if (splice == null) {
+                    return null;
+                }
+                result.add(splice);
+            }
+        }
+
+        // Targets must not contain references/expressions and must not be
+        // referenced from elsewhere : FXMLLoader cannot resolve them in a fragment.
+        if ((result.isEmpty() == false) && hasReferences(document, result)) {
+            return null;
+        }
+
+        return result;
+    }
+
+    private static boolean isSpliceable(FXOMObject fxomObject) {
+        final boolean result;
+
+        if (fxomObject instanceof FXOMInstance) {
+            final FXOMInstance fxomInstance = (FXOMInstance) fxomObject;
+            final FXOMPropertyC parentProperty = fxomInstance.getParentProperty();
+            result = (fxomInstance.getDeclaredClass() != null)
+                    && (fxomInstance.getSceneGraphObject() != null)
+                    && (parentProperty != null)
+                    && (parentProperty.getName().getResidenceClass() == null)
+                    && (parentProperty.getParentInstance() != null)
+                    && (parentProperty.getParentInstance().getSceneGraphObject() != null);
+        } else {
+            result = false;
+        }
+
+        return result;
+    }
+
+    private static boolean hasReferences(FXOMDocument document, List<Splice> splices) {
+        final Set<String> declaredFxIds = new HashSet<>();
+        for (Splice splice : splices) {
+            declaredFxIds.addAll(splice.target.collectFxIds().keySet());
+            for (FXOMObject o : FXOMNodes.serializeObjects(splice.target)) {
+                if (o instanceof FXOMIntrinsic) {
+                    return true;
+                } else if (o instanceof FXOMInstance) {
+                    for (FXOMProperty p : ((FXOMInstance) o).getProperties().values()) {
+                        if (p instanceof FXOMPropertyT) {
+                            final PrefixedValue pv = new PrefixedValue(((FXOMPropertyT) p).getValue());
+                            if (pv.isExpression() || pv.isBindingExpression()) {
+                                return true;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        // References from outside the targets are found with the reference
+        // index of the document instead of walking the whole fxom tree
+        for (String fxId : declaredFxIds) {
+            if (document.collectReferences(fxId).isEmpty() == false) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String makeFxmlText(FXOMInstance target) {
+        final FXOMDocument fragment = new FXOMDocument();
+        final FXOMCloner cloner = new FXOMCloner(fragment);
+        final FXOMObject clone = cloner.clone(target, true /* preserveCloneeFxId */);
+        // Note : we don't use setFxomRoot() which would refresh the fragment
+        fragment.updateRoots(clone, null);
+        return fragment.getFxmlText(false);
+    }
+
+    private static boolean isSameShape(FXOMObject currentObject, FXOMObject newObject) {
+        if ((newObject == null) || (newObject.getSceneGraphObject() == null)) {
+            return false;
+        }
+        final List<FXOMObject> currentObjects = FXOMNodes.serializeObjects(currentObject);
+        final List<FXOMObject> newObjects = FXOMNodes.serializeObjects(newObject);
+        if (currentObjects.size() != newObjects.size()) {
+            return false;
+        }
+        for (int i = 0, count = currentObjects.size(); i < count; i++) {
+            if (currentObjects.get(i).getClass() != newObjects.get(i).getClass()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /*
+     * Describes where the scene graph object of a target lives
+     * in the scene graph object of its parent instance.
+     */
+    private static class Splice {
+        private final FXOMInstance target;
+        private final Object parentSceneGraphObject;
+        private final PropertyName propertyName;
+        private final List<Object> parentList;
+        private final int index;
+        private FXOMObject newObject;
+
+        private Splice(FXOMInstance target, Object parentSceneGraphObject,
+                PropertyName propertyName, List<Object> parentList, int index) {
+            this.target = target;
+            this.parentSceneGraphObject = parentSceneGraphObject;
+            this.propertyName = propertyName;
+            this.parentList = parentList;
+            this.index = index;
+        }
+
+        @SuppressWarnings("unchecked")
+        static Splice make(FXOMInstance target, FXOMDocument document) {
+            final Object sceneGraphObject = target.getSceneGraphObject();
+            if (sceneGraphObject == document.getDisplayNode()) {
+                return null;
+            }
+            final FXOMPropertyC parentProperty = target.getParentProperty();
+            final Object parentSceneGraphObject = parentProperty.getParentInstance().getSceneGraphObject();
+            final PropertyName propertyName = parentProperty.getName();
+
+            final Object currentValue;
+            try {
+                currentValue = propertyName.getValue(parentSceneGraphObject);
+            } catch (RuntimeException x) {
+                // No public getter for this property
+                return null;
+            }
+
+            final Splice result;
+            if (currentValue == sceneGraphObject) {
+                result = new Splice(target, parentSceneGraphObject, propertyName, null, -1);
+            } else if (currentValue instanceof List) {
+                final List<Object> parentList = (List<Object>) currentValue;
+                int index = -1;
+                for (int i = 0, count = parentList.size(); (index == -1) && (i < count); i++) {
+                    if (parentList.get(i) == sceneGraphObject) {
+                        index = i;
+                    }
+                }
+                result = (index == -1) ? null
+                        : new Splice(target, parentSceneGraphObject, propertyName, parentList, index);
+            } else {
+                result = null;
+            }
+            return result;
+        }
+
+        void apply() {
+            assert newObject != null;
+            if (parentList != null) {
+                parentList.set(index, newObject.getSceneGraphObject());
+            } else {
+                propertyName.setValue(parentSceneGraphObject, newObject.getSceneGraphObject());
+            }
+        }
+    }
+
     /*
      * The case of SplitPane.dividerPositions property
      * -----------------------------------------------
@@ -51,7 +51,7 @@ class FxIdCollector {
     }
     
     public FxIdCollector(FXOMDocument fxomDocument) {
-        this(fxomDocument.collectFxIds().keySet());
+        this(fxomDocument.getFxIds());
     }
     
     public String importFxId(String sourceFxId) {
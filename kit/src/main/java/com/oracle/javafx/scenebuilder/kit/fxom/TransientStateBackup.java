@@ -70,7 +70,7 @@ class TransientStateBackup {
                 final Tab currentTab = tabPane.getSelectionModel().getSelectedItem();
                 if (currentTab != null) {
                     final FXOMObject tabObject 
-                            = candidate.searchWithSceneGraphObject(currentTab);
+                            = fxomDocument.searchWithSceneGraphObject(currentTab);
                     if (tabObject != null) {
                         tabPaneMap.put(candidate, tabObject);
                     }
@@ -80,7 +80,7 @@ class TransientStateBackup {
                 final TitledPane currentTitledPane = accordion.getExpandedPane();
                 if (currentTitledPane != null) {
                     final FXOMObject titledPaneObject
-                            = candidate.searchWithSceneGraphObject(currentTitledPane);
+                            = fxomDocument.searchWithSceneGraphObject(currentTitledPane);
                     if (titledPaneObject != null) {
                         accordionMap.put(candidate, titledPaneObject);
                     }
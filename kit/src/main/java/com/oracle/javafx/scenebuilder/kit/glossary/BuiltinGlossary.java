@@ -62,7 +62,7 @@ public class BuiltinGlossary extends Glossary {
                 return Collections.emptyList();
             } else {
                 List<String> res = new ArrayList<>();
-                for (ControllerClass cc : ControllerClass.discoverFXMLControllerClasses(fxmlFile)) {
+                for (ControllerClass cc : ControllerClassIndex.getInstance().discover(fxmlFile)) {
                     if (! res.contains(cc.getClassName())) {
                         res.add(cc.getClassName());
                     }
@@ -86,7 +86,7 @@ public class BuiltinGlossary extends Glossary {
                 return Collections.emptyList();
             } else {
                 List<String> res = new ArrayList<>();
-                for (ControllerClass cc : ControllerClass.discoverFXMLControllerClasses(fxmlFile)) {
+                for (ControllerClass cc : ControllerClassIndex.getInstance().discover(fxmlFile)) {
                     if (controllerClass.equals(cc.getClassName())) {
                         res.addAll(cc.getFxIds());
                         break;  // discoverFXMLControllerClasses may return duplicates.
@@ -111,7 +111,7 @@ public class BuiltinGlossary extends Glossary {
                 return Collections.emptyList();
             } else {
                 List<String> res = new ArrayList<>();
-                for (ControllerClass cc : ControllerClass.discoverFXMLControllerClasses(fxmlFile)) {
+                for (ControllerClass cc : ControllerClassIndex.getInstance().discover(fxmlFile)) {
                     if (controllerClass.equals(cc.getClassName())) {
                         res.addAll(cc.getEventHandlers());
                         break;  // discoverFXMLControllerClasses may return duplicates.
@@ -124,6 +124,16 @@ public class BuiltinGlossary extends Glossary {
         }
     }
     
+    @Override
+    public void prefetch(URL fxmlLocation) {
+        if ((fxmlLocation != null) && "file".equals(fxmlLocation.getProtocol())) { //NOI18N
+            File fxmlFile = getFileFromURL(fxmlLocation);
+            if (fxmlFile.exists()) {
+                ControllerClassIndex.getInstance().prefetch(fxmlFile);
+            }
+        }
+    }
+    
     // It's better to use URL.toURI than URL.getPath to feed File constructor.
     private File getFileFromURL(URL location) {
         File res;
@@ -123,7 +123,32 @@ class ControllerClass {
         return isInitializable;
     }
 
+    /*
+     * Where discoverFXMLControllerClasses() lists and parses java files.
+     * ControllerClassIndex provides an implementation which caches them.
+     */
+    interface Source {
+        File[] listJavaFiles(File directory);
+        ControllerClass parse(File javaFile) throws IOException, JavaTokenizer.ParseException;
+    }
+
+    static final Source DIRECT_SOURCE = new Source() {
+        @Override
+        public File[] listJavaFiles(File directory) {
+            return filterJavaFiles(directory);
+        }
+
+        @Override
+        public ControllerClass parse(File javaFile) throws IOException, JavaTokenizer.ParseException {
+            return new ControllerClass(javaFile);
+        }
+    };
+
     public static Set<ControllerClass> discoverFXMLControllerClasses(File fxmlFile) {
+        return discoverFXMLControllerClasses(fxmlFile, DIRECT_SOURCE);
+    }
+
+    static Set<ControllerClass> discoverFXMLControllerClasses(File fxmlFile, Source source) {
         ScanData data = new ScanData();
         String name;
         File parentFile = fxmlFile.getParentFile();
@@ -142,7 +167,7 @@ class ControllerClass {
             // Current + go up 1 dir level and scan.
             int maxDepth = 2;
             for (int i = 0; i < maxDepth; i++) {
-                scanDirectory(name, parentFile, data);
+                scanDirectory(name, parentFile, data, source);
                 if (!data.continueScanning()) {
                     break;
                 }
@@ -153,13 +178,13 @@ class ControllerClass {
         return data.getClasses();
     }
 
-    private static void scanDirectory(String name, File directory, ScanData data) {
+    private static void scanDirectory(String name, File directory, ScanData data, Source source) {
         try {
             //1) Same name .java
             File f = new File(directory, name + ".java");//NOI18N
             if (f.exists()) {
                 try {
-                    ControllerClass clazz = new ControllerClass(f);
+                    ControllerClass clazz = source.parse(f);
                     data.add(clazz);
                 } catch (IOException | JavaTokenizer.ParseException ex) {
                     // NOTE skipping class
@@ -169,7 +194,7 @@ class ControllerClass {
             File f2 = new File(directory, name + "Controller.java");//NOI18N
             if (f2.exists()) {
                 try {
-                    ControllerClass clazz = new ControllerClass(f2);
+                    ControllerClass clazz = source.parse(f2);
                     data.add(clazz);
                 } catch (IOException | JavaTokenizer.ParseException ex) {
                     // NOTE skipping class
@@ -177,12 +202,12 @@ class ControllerClass {
             }
             //3) Contains FXML, requires list all java files in the same directory.
             // Enter the list if it exists.
-            for (File javaFile : filterJavaFiles(directory)) {
+            for (File javaFile : source.listJavaFiles(directory)) {
                 if (javaFile.equals(f) || javaFile.equals(f2)) {
                     continue;
                 }
                 try {
-                    ControllerClass clazz = new ControllerClass(javaFile);
+                    ControllerClass clazz = source.parse(javaFile);
                     if (!clazz.getFxIds().isEmpty()
                             || !clazz.getEventHandlers().isEmpty() || clazz.isInitializable()) {
                         data.add(clazz);
@@ -275,7 +300,7 @@ class ControllerClass {
         return extract(p, tokenizedContent);
     }
 
-    public Set<String> getFxIds() {
+    public synchronized Set<String> getFxIds() {
         if (fxids == null) {
             Set<String> fxids1 = cleanFxIds(extract(FXID_PATTERN_1));
             Set<String> fxids2 = cleanFxIds(extract(FXID_PATTERN_2));
@@ -286,7 +311,7 @@ class ControllerClass {
         return fxids;
     }
 
-    public Set<String> getEventHandlers() {
+    public synchronized Set<String> getEventHandlers() {
         if (events == null) {
             List<String> events1 = extract(EVENT_PATTERN_1);
             List<String> events2 = extract(EVENT_PATTERN_2);
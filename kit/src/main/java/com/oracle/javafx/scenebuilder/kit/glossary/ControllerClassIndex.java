@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.glossary;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Caches the controller classes discovered for FXML files.
+ * <p>
+ * A discovery remembers the modification stamps of the directories it has
+ * listed and of the java files it has parsed: it is reused as long as none
+ * of them changes. When one changes, the discovery runs again but only the
+ * java files which have been modified are tokenized again.
+ * <p>
+ * {@link #prefetch(File)} runs a discovery on a background thread so that
+ * the first queries of an inspector find it ready.
+ * <p>
+ * Discoveries and parsed files are kept in LRU maps: only the most recently
+ * used FXML files and java files stay in memory.
+ */
+class ControllerClassIndex {
+
+    private static final int MAX_DISCOVERIES = 16;
+    private static final int MAX_PARSED_FILES = 1000;
+    private static final ControllerClassIndex instance = new ControllerClassIndex();
+
+    private final Map<File, CompletableFuture<Discovery>> discoveries;
+    private final Map<File, ParsedFile> parsedFiles;
+    private final Executor executor = Executors.newSingleThreadExecutor(r -> {
+        final Thread result = new Thread(r, ControllerClassIndex.class.getSimpleName());
+        result.setDaemon(true);
+        return result;
+    });
+
+    ControllerClassIndex() {
+        // Use getInstance() outside of tests
+        this(MAX_DISCOVERIES, MAX_PARSED_FILES);
+    }
+
+    ControllerClassIndex(int maxDiscoveries, int maxParsedFiles) {
+        assert maxDiscoveries >= 1;
+        assert maxParsedFiles >= 1;
+        this.discoveries = makeLruMap(maxDiscoveries);
+        this.parsedFiles = makeLruMap(maxParsedFiles);
+    }
+
+    static ControllerClassIndex getInstance() {
+        return instance;
+    }
+
+    /**
+     * Returns the controller classes of an FXML file. If a background
+     * discovery is in progress for this file, waits for its completion.
+     *
+     * @param fxmlFile the FXML file
+     * @return the controller classes discovered for fxmlFile (never null)
+     */
+    Set<ControllerClass> discover(File fxmlFile) {
+        final CompletableFuture<Discovery> pending = discoveries.get(fxmlFile);
+        Discovery discovery;
+        try {
+            discovery = (pending == null) ? null : pending.join();
+        } catch(CompletionException | CancellationException x) {
+            // Background discovery failed: it is run again below
+            discovery = null;
+        }
+        if ((discovery == null) || (discovery.isUpToDate() == false)) {
+            try {
+                discovery = runDiscovery(fxmlFile);
+            } catch(RuntimeException x) {
+                // Same as a discovery which finds nothing
+                discoveries.remove(fxmlFile);
+                return Collections.emptySet();
+            }
+            discoveries.put(fxmlFile, CompletableFuture.completedFuture(discovery));
+        }
+        return discovery.classes;
+    }
+
+    /**
+     * Starts a background discovery of the controller classes of an FXML
+     * file, unless an up to date one is available or in progress.
+     *
+     * @param fxmlFile the FXML file
+     */
+    void prefetch(File fxmlFile) {
+        discoveries.compute(fxmlFile, (f, pending) -> {
+            final CompletableFuture<Discovery> result;
+            if ((pending == null) || pending.isCompletedExceptionally()
+                    || (pending.isDone() && (pending.join().isUpToDate() == false))) {
+                result = CompletableFuture.supplyAsync(() -> runDiscovery(f), executor);
+            } else {
+                result = pending;
+            }
+            return result;
+        });
+    }
+
+    int getDiscoveryCount() {
+        return discoveries.size();
+    }
+
+    int getParsedFileCount() {
+        return parsedFiles.size();
+    }
+
+    /*
+     * Private
+     */
+
+    private static <K, V> Map<K, V> makeLruMap(int maxSize) {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    private Discovery runDiscovery(File fxmlFile) {
+        final RecordingSource source = new RecordingSource();
+        final Set<ControllerClass> classes = ControllerClass.discoverFXMLControllerClasses(fxmlFile, source);
+        return new Discovery(Collections.unmodifiableSet(classes), source.stamps);
+    }
+
+    /*
+     * Modification stamp of a file or directory
+     */
+    private record Stamp(long lastModified, long length) {
+        static Stamp of(File file) {
+            return new Stamp(file.lastModified(), file.length());
+        }
+    }
+
+    /*
+     * Result of a discovery, along with the stamps it depends on
+     */
+    private record Discovery(Set<ControllerClass> classes, Map<File, Stamp> stamps) {
+        boolean isUpToDate() {
+            boolean result = true;
+            for (Map.Entry<File, Stamp> e : stamps.entrySet()) {
+                if (Stamp.of(e.getKey()).equals(e.getValue()) == false) {
+                    result = false;
+                    break;
+                }
+            }
+            return result;
+        }
+    }
+
+    /*
+     * A java file which has been parsed: controllerClass is null if
+     * parsing failed.
+     */
+    private record ParsedFile(Stamp stamp, ControllerClass controllerClass) {
+    }
+
+    /*
+     * Lists and parses java files on behalf of one discovery: parsed files
+     * are reused while their stamp is unchanged, and stamps are recorded.
+     */
+    private class RecordingSource implements ControllerClass.Source {
+        private final Map<File, Stamp> stamps = new HashMap<>();
+
+        @Override
+        public File[] listJavaFiles(File directory) {
+            // Adding or removing a file changes the directory stamp
+            stamps.put(directory, Stamp.of(directory));
+            return ControllerClass.DIRECT_SOURCE.listJavaFiles(directory);
+        }
+
+        @Override
+        public ControllerClass parse(File javaFile) throws IOException, JavaTokenizer.ParseException {
+            final Stamp stamp = Stamp.of(javaFile);
+            stamps.put(javaFile, stamp);
+
+            ParsedFile parsedFile = parsedFiles.get(javaFile);
+            if ((parsedFile == null) || (parsedFile.stamp.equals(stamp) == false)) {
+                ControllerClass controllerClass;
+                try {
+                    controllerClass = ControllerClass.DIRECT_SOURCE.parse(javaFile);
+                } catch(IOException | JavaTokenizer.ParseException x) {
+                    controllerClass = null;
+                }
+                parsedFile = new ParsedFile(stamp, controllerClass);
+                parsedFiles.put(javaFile, parsedFile);
+            }
+            if (parsedFile.controllerClass == null) {
+                throw new IOException("Cannot parse " + javaFile); //NOI18N
+            }
+            return parsedFile.controllerClass;
+        }
+    }
+}
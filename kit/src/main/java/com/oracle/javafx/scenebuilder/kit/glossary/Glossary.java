@@ -84,6 +84,17 @@ public abstract class Glossary {
      */
     public abstract List<String> queryEventHandlers(URL fxmlLocation, String controllerClass);
     
+    /**
+     * Tells this glossary that fxmlLocation is about to be queried: some
+     * implementations may use it to prepare their answers in the background.
+     * Default implementation does nothing.
+     * 
+     * @param fxmlLocation null or the location of the fxml document being edited
+     */
+    public void prefetch(URL fxmlLocation) {
+        // no-op
+    }
+    
     /**
      * Returns the property holding the revision number of this glossary.
      * Glossary class adds +1 to this number each time the glossary content changes.
@@ -38,19 +38,21 @@ import com.oracle.javafx.scenebuilder.kit.i18n.I18N;
 import com.oracle.javafx.scenebuilder.kit.library.BuiltinLibrary;
 import com.oracle.javafx.scenebuilder.kit.library.LibraryItem;
 import com.oracle.javafx.scenebuilder.kit.library.util.*;
+import com.oracle.javafx.scenebuilder.kit.metadata.IntrospectionCache;
+import com.oracle.javafx.scenebuilder.kit.metadata.Metadata;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.LineNumberReader;
-import java.lang.module.ModuleReference;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.Callable;
 
 /**
  *
@@ -61,12 +63,53 @@ class LibraryFolderWatcher implements Runnable {
 
     private final UserLibrary library;
 
-    private enum FILE_TYPE {FXML, JAR, FOLDER_MARKER, FXML_MARKER, JAR_MARKER}
-
     private static final List<String> JAVAFX_MODULES = Arrays.asList(
             "javafx-base", "javafx-graphics", "javafx-controls",
             "javafx-fxml", "javafx-media", "javafx-web", "javafx-swing");
 
+    // Hidden file of the library folder where jar reports are cached
+    private static final String JAR_REPORT_CACHE_NAME = ".jarReports.cache"; //NOI18N
+    // Hidden file of the library folder where custom component introspection is cached
+    private static final String INTROSPECTION_CACHE_NAME = ".introspection.cache"; //NOI18N
+
+    /*
+     * Content of the library as of the last update. These fields are only
+     * accessed from the watcher thread: they let each update explore only
+     * what has been added, removed or modified since the previous one.
+     */
+    private final Map<Path, FileStamp> fxmlStamps = new HashMap<>();
+    private final Map<Path, LibraryItem> fxmlItems = new HashMap<>();
+    private final Map<Path, FileStamp> jarOrFolderStamps = new HashMap<>();
+    private final Map<Path, JarReport> jarOrFolderReports = new HashMap<>();
+    private final Map<Path, List<LibraryItem>> jarOrFolderItems = new HashMap<>();
+    private ClassLoader classLoader;
+    private List<String> excludedItems;
+    private List<String> artifactsFilter;
+
+    /*
+     * Files or folders of the library
+     */
+    private record LibraryContent(Set<Path> fxmls, Set<Path> jarsOrFolders) {
+    }
+
+    /*
+     * Size and modification time of a file: a change of stamp means the
+     * file must be explored again.
+     */
+    private record FileStamp(long size, long lastModified) {
+
+        static FileStamp of(Path path) {
+            FileStamp result;
+            try {
+                final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                result = new FileStamp(attributes.size(), attributes.lastModifiedTime().toMillis());
+            } catch(IOException x) {
+                result = new FileStamp(-1, -1);
+            }
+            return result;
+        }
+    }
+
     public LibraryFolderWatcher(UserLibrary library) {
         this.library = library;
     }
@@ -92,36 +135,27 @@ class LibraryFolderWatcher implements Runnable {
      * Private
      */
     private void runDiscovery() throws InterruptedException {
+        // Custom components of the library are introspected once for all sessions
+        final Path introspectionCacheFile = Paths.get(library.getPath(), INTROSPECTION_CACHE_NAME);
+        final IntrospectionCache currentCache = Metadata.getMetadata().getIntrospectionCache();
+        if ((currentCache == null) || (currentCache.getCacheFile().equals(introspectionCacheFile) == false)) {
+            saveIntrospectionCache();
+            Metadata.getMetadata().setIntrospectionCache(new IntrospectionCache(introspectionCacheFile));
+        }
+
         // First put the builtin items in the library
         library.setItems(BuiltinLibrary.getLibrary().getItems());
 
         // Attempts to add the maven jars, including dependencies
-        List<Path> additionalJars = library.getAdditionalJarPaths().get();
-        
-        final Set<Path> currentJarsOrFolders = new HashSet<>(additionalJars);
-        final Set<Path> currentFxmls = new HashSet<>();
+        LibraryContent content = new LibraryContent(Set.of(), new HashSet<>(library.getAdditionalJarPaths().get()));
                 
         // Now attempts to discover the user library folder
         final Path folder = Paths.get(library.getPath());
         if (folder != null && folder.toFile().exists()) {
             boolean retry;
             do {
-                try (DirectoryStream<Path> stream = Files.newDirectoryStream(folder)) {
-                    for (Path entry: stream) {
-                        if (LibraryUtil.isJarPath(entry)) {
-                            currentJarsOrFolders.add(entry);
-                        } else if (LibraryUtil.isFxmlPath(entry)) {
-                            currentFxmls.add(entry);
-                        } else if (LibraryUtil.isFolderMarkerPath(entry)) {
-                            // open folders marker file: every line should be a single folder entry
-                            // we scan the file and add the path to currentJarsOrFolders
-                            currentJarsOrFolders.addAll(LibraryUtil.getMarkerFilePaths(entry, Files::isDirectory));
-                        } else if (LibraryUtil.isFxmlMarkerPath(entry)) {
-                            currentFxmls.addAll(LibraryUtil.getMarkerFilePaths(entry, Files::isRegularFile));
-                        } else if (LibraryUtil.isJarMarkerPath(entry)) {
-                            currentJarsOrFolders.addAll(LibraryUtil.getMarkerFilePaths(entry, Files::isRegularFile));
-                        }
-                    }
+                try {
+                    content = scanLibraryFolder();
                     retry = false;
                 } catch(IOException x) {
                     Thread.sleep(2000 /* ms */);
@@ -135,8 +169,7 @@ class LibraryFolderWatcher implements Runnable {
         try {
             library.setExploring(true);
             try {
-                updateLibrary(currentFxmls);
-                exploreAndUpdateLibrary(currentJarsOrFolders);
+                updateLibrary(content);
             }
             finally {
                 library.setExploring(false);
@@ -149,6 +182,7 @@ class LibraryFolderWatcher implements Runnable {
         try {
             while (true) {
                 final Path folder = Paths.get(library.getPath());
+                final Path filterFileName = Paths.get(library.getFilterFileName()).getFileName();
 
                 while (watchService == null) {
                     try {
@@ -183,9 +217,7 @@ class LibraryFolderWatcher implements Runnable {
                                         || kind == StandardWatchEventKinds.ENTRY_MODIFY) {
                                     assert context instanceof Path;
                                     if (LibraryUtil.isJarPath((Path) context)) {
-                                        if (!hasJarBeenAdded((Path) context)) {
-                                            isDirty = true;
-                                        }
+                                        isDirty = true;
                                     } else if (LibraryUtil.isFxmlPath((Path)context)){
                                         isDirty = true;
                                     } else if (LibraryUtil.isFolderMarkerPath((Path)context)) {
@@ -194,49 +226,21 @@ class LibraryFolderWatcher implements Runnable {
                                         isDirty = true;
                                     } else if (LibraryUtil.isJarMarkerPath((Path)context)) {
                                         isDirty = true;
+                                    } else if (filterFileName.equals(context)) {
+                                        isDirty = true;
                                     }
                                 } else {
                                     assert kind == StandardWatchEventKinds.OVERFLOW;
+                                    isDirty = true;
                                 }
                             }
 
-                            // We reconstruct a full set from scratch as soon as the
-                            // dirty flag is set.
+                            // We rescan the folder as soon as the dirty flag is set:
+                            // only what differs from the previous scan is explored.
                             if (isDirty) {
-                                // First put the builtin items in the library
                                 library.setExploring(true);
                                 try {
-                                    library.setItems(BuiltinLibrary.getLibrary().getItems());
-
-                                    // Now attempts to add the maven jars
-                                    List<Path> currentMavenJars = library.getAdditionalJarPaths().get();
-
-                                    final Set<Path> fxmls = new HashSet<>();
-                                    fxmls.addAll(getAllFiles(FILE_TYPE.FXML));
-                            	    updateLibrary(fxmls);
-
-                                    final Set<Path> jarsAndFolders = new HashSet<>(currentMavenJars);
-                                    jarsAndFolders.addAll(getAllFiles(FILE_TYPE.JAR));
-
-                                    Set<Path> foldersMarkers = getAllFiles(FILE_TYPE.FOLDER_MARKER);
-                                    for (Path path : foldersMarkers) {
-                                        // open folders marker file: every line should be a single folder entry
-                                        // we scan the file and add the path to currentJarsOrFolders
-                                        jarsAndFolders.addAll(LibraryUtil.getMarkerFilePaths(path, Files::isDirectory));
-                                    }
-
-                                    Set<Path> fxmlsMarkers = getAllFiles(FILE_TYPE.FXML_MARKER);
-                                    for (Path path : fxmlsMarkers) {
-                                        fxmls.addAll(LibraryUtil.getMarkerFilePaths(path, Files::isRegularFile));
-                                    }
-
-                                    Set<Path> jarMarkers = getAllFiles(FILE_TYPE.JAR_MARKER);
-                                    for (Path path : jarMarkers) {
-                                        jarsAndFolders.addAll(LibraryUtil.getMarkerFilePaths(path, Files::isRegularFile));
-                                    }
-
-                            	    exploreAndUpdateLibrary(jarsAndFolders);
-
+                                    updateLibrary(scanLibraryFolder());
                                     library.updateExplorationCount(library.getExplorationCount()+1);
                                 }
                                 finally {
@@ -265,52 +269,90 @@ class LibraryFolderWatcher implements Runnable {
         }
     }
 
-    private Set<Path> getAllFiles(FILE_TYPE fileType) throws IOException {
-        Set<Path> res = new HashSet<>();
+    /*
+     * Lists the fxml files and the jars or folders of the library in a single
+     * pass over the library folder, following marker files.
+     */
+    private LibraryContent scanLibraryFolder() throws IOException {
+        final Set<Path> fxmls = new HashSet<>();
+        // Attempts to add the maven jars, including dependencies
+        final Set<Path> jarsOrFolders = new HashSet<>(library.getAdditionalJarPaths().get());
         final Path folder = Paths.get(library.getPath());
 
-        try (DirectoryStream<Path> ds = Files.newDirectoryStream(folder)) {
-            for (Path p : ds) {
-                var matched = switch (fileType) {
-                    case FXML -> LibraryUtil.isFxmlPath(p);
-                    case JAR -> LibraryUtil.isJarPath(p);
-                    case FOLDER_MARKER -> LibraryUtil.isFolderMarkerPath(p);
-                    case FXML_MARKER -> LibraryUtil.isFxmlMarkerPath(p);
-                    case JAR_MARKER -> LibraryUtil.isJarMarkerPath(p);
-                };
-
-                if (matched) {
-                    res.add(p);
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(folder)) {
+            for (Path entry: stream) {
+                if (LibraryUtil.isJarPath(entry)) {
+                    jarsOrFolders.add(entry);
+                } else if (LibraryUtil.isFxmlPath(entry)) {
+                    fxmls.add(entry);
+                } else if (LibraryUtil.isFolderMarkerPath(entry)) {
+                    // open folders marker file: every line should be a single folder entry
+                    // we scan the file and add the path to jarsOrFolders
+                    jarsOrFolders.addAll(LibraryUtil.getMarkerFilePaths(entry, Files::isDirectory));
+                } else if (LibraryUtil.isFxmlMarkerPath(entry)) {
+                    fxmls.addAll(LibraryUtil.getMarkerFilePaths(entry, Files::isRegularFile));
+                } else if (LibraryUtil.isJarMarkerPath(entry)) {
+                    jarsOrFolders.addAll(LibraryUtil.getMarkerFilePaths(entry, Files::isRegularFile));
                 }
             }
         }
 
-        return res;
+        return new LibraryContent(fxmls, jarsOrFolders);
     }
-    
-    
-    private boolean hasJarBeenAdded(Path context) {
-        boolean hasJarBeenAdded = false;
-        for (JarReport report : library.getJarReports()) {
-            if (report.getJar().getFileName().equals(context)) {
-                hasJarBeenAdded = true;
-                break;
+
+    private void updateLibrary(LibraryContent content) throws IOException {
+        updateFxmls(content.fxmls());
+        updateModulesOrJarsOrFolders(content.jarsOrFolders());
+        library.updateExplorationDate(new Date());
+        saveIntrospectionCache();
+
+        // Fix for #45: mark end of first exploration
+        library.updateFirstExplorationCompleted();
+    }
+
+    /*
+     * Custom components introspected during (or since) the exploration are
+     * written in one go.
+     */
+    private static void saveIntrospectionCache() {
+        final IntrospectionCache cache = Metadata.getMetadata().getIntrospectionCache();
+        if (cache != null) {
+            try {
+                cache.save();
+            } catch(IOException x) {
+                log.debug("Cannot save {}", cache.getCacheFile(), x); //NOI18N
             }
         }
-        return hasJarBeenAdded;
     }
 
+    private void updateFxmls(Set<Path> fxmls) throws IOException {
+        final List<LibraryItem> removedItems = new ArrayList<>();
+        final List<LibraryItem> addedItems = new ArrayList<>();
 
-    private void updateLibrary(Collection<Path> paths) throws IOException {
-        final List<LibraryItem> newItems = new ArrayList<>();
-        
-        for (Path path : paths) {
-            newItems.add(makeLibraryItem(path));
+        for (Iterator<Path> it = fxmlStamps.keySet().iterator(); it.hasNext(); ) {
+            final Path path = it.next();
+            if (fxmls.contains(path) == false) {
+                removedItems.add(fxmlItems.remove(path));
+                it.remove();
+            }
         }
 
-        library.addItems(newItems);
-        library.updateFxmlFileReports(paths);
-        library.updateExplorationDate(new Date());
+        for (Path path : fxmls) {
+            final FileStamp stamp = FileStamp.of(path);
+            if (stamp.equals(fxmlStamps.get(path)) == false) {
+                final LibraryItem newItem = makeLibraryItem(path);
+                final LibraryItem oldItem = fxmlItems.put(path, newItem);
+                if (oldItem != null) {
+                    removedItems.add(oldItem);
+                }
+                addedItems.add(newItem);
+                fxmlStamps.put(path, stamp);
+            }
+        }
+
+        library.removeItems(removedItems);
+        library.addItems(addedItems);
+        library.updateFxmlFileReports(fxmls);
     }
     
     
@@ -335,36 +377,164 @@ class LibraryFolderWatcher implements Runnable {
     }
     
     
-    private void exploreAndUpdateLibrary(Collection<Path> modulesOrJarsOrFolders) throws IOException {
-        log.info("Exploring and updating library...");
-
-        //  1) we create a classloader
-        //  2) we explore all the modules, jars, and folders
-        //  3) we construct a list of library items
-        //  4) we update the user library with the class loader and items
-        //  5) on startup only, we allow opening files that may/may not rely on the user library
+    private void updateModulesOrJarsOrFolders(Set<Path> modulesOrJarsOrFolders) throws IOException {
+        //  1) we compare with the previous update: nothing changed => nothing to do
+        //  2) we pick a class loader and the modules, jars, and folders to explore
+        //  3) we explore them
+        //  4) we construct the list of library items which come and go
+        //  5) we update the user library with the class loader, items and reports
 
         // 1)
-        final ClassLoader classLoader;
-        if (modulesOrJarsOrFolders.isEmpty()) {
-            classLoader = null;
-        } else {
-            classLoader = new URLClassLoader(makeURLArrayFromPaths(modulesOrJarsOrFolders));
+        final List<String> newExcludedItems = library.getFilter();
+        final List<String> newArtifactsFilter = library.getAdditionalFilter().get();
+        final boolean filtersChanged = (newExcludedItems.equals(excludedItems) == false)
+                || (newArtifactsFilter.equals(artifactsFilter) == false);
+        excludedItems = newExcludedItems;
+        artifactsFilter = newArtifactsFilter;
+
+        final Set<Path> removedPaths = new HashSet<>(jarOrFolderStamps.keySet());
+        removedPaths.removeAll(modulesOrJarsOrFolders);
+        final Set<Path> changedPaths = new HashSet<>();
+        for (Path path : modulesOrJarsOrFolders) {
+            // Filters are applied during exploration: when they change, everything is explored again
+            if (filtersChanged || (FileStamp.of(path).equals(jarOrFolderStamps.get(path)) == false)) {
+                changedPaths.add(path);
+            }
+        }
+        if (removedPaths.isEmpty() && changedPaths.isEmpty() && (filtersChanged == false)) {
+            return;
         }
 
         // 2)
-        final List<String> excludedItems = library.getFilter();
-        final List<JarReport> moduleOrJarOrFolderReports = new ArrayList<>();
+        // When jars are only added, they get a child class loader of the
+        // current one: unchanged jars keep their classes. Otherwise, a new
+        // class loader is created for all the jars, folders and modules and
+        // they are all explored again against it: the previous class loader
+        // (and module layer) is released. Unchanged jars are restored from
+        // the jar report cache.
+        final ClassLoader newClassLoader;
+        final Set<Path> pathsToExplore;
+        if (canExtendClassLoader(removedPaths, changedPaths)) {
+            final ClassLoader parent = (classLoader == null) ? ClassLoader.getSystemClassLoader() : classLoader;
+            newClassLoader = changedPaths.isEmpty() ? classLoader
+                    : new URLClassLoader(makeURLArrayFromPaths(changedPaths), parent);
+            pathsToExplore = changedPaths;
+        } else if (modulesOrJarsOrFolders.isEmpty()) {
+            newClassLoader = null;
+            pathsToExplore = Set.of();
+        } else {
+            newClassLoader = new URLClassLoader(makeURLArrayFromPaths(modulesOrJarsOrFolders));
+            pathsToExplore = modulesOrJarsOrFolders;
+        }
+
+        // 3)
+        final Map<Path, JarReport> exploredReports
+                = exploreModulesOrJarsOrFolders(pathsToExplore, modulesOrJarsOrFolders, newClassLoader);
+
+        // 4)
+        final Set<LibraryItem> oldItems = collectJarOrFolderItems();
+        for (Path path : removedPaths) {
+            jarOrFolderItems.remove(path);
+            jarOrFolderReports.remove(path);
+            jarOrFolderStamps.remove(path);
+        }
+        for (Path path : pathsToExplore) {
+            final JarReport report = exploredReports.get(path);
+            if (report == null) {
+                jarOrFolderReports.remove(path);
+            } else {
+                jarOrFolderReports.put(path, report);
+            }
+            // Unchanged jars keep their items: only their report is refreshed
+            if (changedPaths.contains(path)) {
+                jarOrFolderItems.put(path, (report == null) ? List.of() : makeLibraryItems(report));
+                jarOrFolderStamps.put(path, FileStamp.of(path));
+            }
+        }
+        final Set<LibraryItem> newItems = collectJarOrFolderItems();
+
+        // Items provided by several jars are listed once and stay as long
+        // as one of the jars provides them
+        final List<LibraryItem> removedItems = new ArrayList<>(oldItems);
+        removedItems.removeAll(newItems);
+        final List<LibraryItem> addedItems = new ArrayList<>(newItems);
+        addedItems.removeAll(oldItems);
+
+        // 5)
+        final List<Path> sortedPaths = new ArrayList<>(jarOrFolderReports.keySet());
+        Collections.sort(sortedPaths);
+        final List<JarReport> reports = new ArrayList<>();
+        for (Path path : sortedPaths) {
+            reports.add(jarOrFolderReports.get(path));
+        }
+
+        if (newClassLoader != classLoader) {
+            library.updateClassLoader(newClassLoader);
+            classLoader = newClassLoader;
+        }
+        library.removeItems(removedItems);
+        library.addItems(addedItems);
+        library.updateJarReports(new ArrayList<>(reports));
+        if (library.getOnFinishedUpdatingJarReports() != null) {
+            library.getOnFinishedUpdatingJarReports().accept(reports);
+        }
+    }
+
+    /*
+     * Returns true if the current class loader can simply be extended with
+     * the new jars or folders. Modules need a module layer built from all of
+     * them; and a jar which failed to explore may depend on the new ones,
+     * which a parent class loader would not see.
+     */
+    private boolean canExtendClassLoader(Set<Path> removedPaths, Set<Path> changedPaths) {
+        boolean result = removedPaths.isEmpty()
+                && changedPaths.stream().noneMatch(jarOrFolderStamps::containsKey)
+                && changedPaths.stream().noneMatch(p -> LibraryUtil.getModuleReference(p).isPresent());
+        if (result) {
+            for (JarReport report : jarOrFolderReports.values()) {
+                if (report.getEntries().stream().anyMatch(e -> e.getStatus() != JarReportEntry.Status.OK)) {
+                    result = false;
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /*
+     * Items of all the jars and folders, in path order.
+     */
+    private Set<LibraryItem> collectJarOrFolderItems() {
+        final List<Path> sortedPaths = new ArrayList<>(jarOrFolderItems.keySet());
+        Collections.sort(sortedPaths);
+        final Set<LibraryItem> result = new LinkedHashSet<>();
+        for (Path path : sortedPaths) {
+            result.addAll(jarOrFolderItems.get(path));
+        }
+        return result;
+    }
+
+    private Map<Path, JarReport> exploreModulesOrJarsOrFolders(Collection<Path> pathsToExplore,
+            Collection<Path> modulesOrJarsOrFolders, ClassLoader classLoader) throws IOException {
+        log.info("Exploring and updating library...");
+
+        final List<Path> exploredPaths = new ArrayList<>();
+        final List<String> resultTexts = new ArrayList<>();
+        final List<Callable<JarReport>> explorations = new ArrayList<>();
+        final JarReportCache jarReportCache = new JarReportCache(
+                Paths.get(library.getPath(), JAR_REPORT_CACHE_NAME), excludedItems, modulesOrJarsOrFolders);
+        jarReportCache.load();
         ModuleLayer moduleLayer = null;
 
-        for (Path currentModuleOrJarOrFolder : modulesOrJarsOrFolders) {
+        // Paths are sorted so that reports (and logs) come in a deterministic order
+        final List<Path> sortedPaths = new ArrayList<>(pathsToExplore);
+        Collections.sort(sortedPaths);
+        for (Path currentModuleOrJarOrFolder : sortedPaths) {
             String jarName = currentModuleOrJarOrFolder.getName(currentModuleOrJarOrFolder.getNameCount() - 1).toString();
             if (JAVAFX_MODULES.stream().anyMatch(jarName::startsWith)) {
                 continue;
             }
 
-            JarReport jarReport;
-            String resultText = "";
             var moduleRef = LibraryUtil.getModuleReference(currentModuleOrJarOrFolder);
             if (moduleRef.isPresent()) {
                 log.debug(I18N.getString("log.info.explore.module", moduleRef.get().descriptor()));
@@ -378,27 +548,55 @@ class LibraryFolderWatcher implements Runnable {
                     throw new IllegalStateException("module '%s' not found in the module layer!".formatted(moduleName));
 
                 final ModuleExplorer explorer = new ModuleExplorer(moduleRef.get(), module.get(), excludedItems);
-                jarReport = explorer.explore();
-                resultText = I18N.getString("log.info.explore.module.results", jarName);
+                explorations.add(explorer::explore);
+                resultTexts.add(I18N.getString("log.info.explore.module.results", jarName));
             }
             else if (LibraryUtil.isJarPath(currentModuleOrJarOrFolder)) {
                 log.debug(I18N.getString("log.info.explore.jar", currentModuleOrJarOrFolder));
-                final JarExplorer explorer = new JarExplorer(currentModuleOrJarOrFolder, excludedItems);
-                jarReport = explorer.explore(classLoader);
-                resultText = I18N.getString("log.info.explore.jar.results", jarName);
+                final Path jar = currentModuleOrJarOrFolder;
+                final JarExplorer explorer = new JarExplorer(jar, excludedItems);
+                explorations.add(() -> {
+                    JarReport jarReport = jarReportCache.lookup(jar, classLoader);
+                    if (jarReport == null) {
+                        jarReport = explorer.explore(classLoader);
+                        jarReportCache.store(jar, jarReport);
+                    }
+                    return jarReport;
+                });
+                resultTexts.add(I18N.getString("log.info.explore.jar.results", jarName));
             }
             else if (Files.isDirectory(currentModuleOrJarOrFolder)) {
                 log.debug(I18N.getString("log.info.explore.folder", currentModuleOrJarOrFolder));
                 final FolderExplorer explorer = new FolderExplorer(currentModuleOrJarOrFolder, excludedItems);
-                jarReport = explorer.explore(classLoader);
-                resultText = I18N.getString("log.info.explore.folder.results", jarName);
+                explorations.add(() -> explorer.explore(classLoader));
+                resultTexts.add(I18N.getString("log.info.explore.folder.results", jarName));
             } else {
                 continue;
             }
+            exploredPaths.add(currentModuleOrJarOrFolder);
+        }
+
+        // Jars, folders and modules are explored in parallel
+        // Unchanged jars are restored from the cache without being explored
+        final List<JarReport> moduleOrJarOrFolderReports = ExplorationPool.invokeAll(explorations);
+        try {
+            // Jars not explored keep their classes in the extended class
+            // loader: their reports are still valid and stay in the cache
+            for (Path path : modulesOrJarsOrFolders) {
+                if (LibraryUtil.isJarPath(path) && (pathsToExplore.contains(path) == false)) {
+                    jarReportCache.retain(path);
+                }
+            }
+            jarReportCache.save();
+        } catch(IOException x) {
+            log.debug("Cannot save {}", jarReportCache.getCacheFile(), x); //NOI18N
+        }
 
-            moduleOrJarOrFolderReports.add(jarReport);
+        final Map<Path, JarReport> result = new HashMap<>();
+        for (int i = 0, count = moduleOrJarOrFolderReports.size(); i < count; i++) {
+            final JarReport jarReport = moduleOrJarOrFolderReports.get(i);
 
-            log.debug(resultText);
+            log.debug(resultTexts.get(i));
             if (jarReport.getEntries().isEmpty()) {
                 log.debug("- {}", I18N.getString("log.info.explore.no.results"));
             } else {
@@ -411,46 +609,26 @@ class LibraryFolderWatcher implements Runnable {
                 });
             }
 
-            log.debug(I18N.getString("log.info.explore.end", currentModuleOrJarOrFolder));
-        }
-
-        // 3)
-        final List<LibraryItem> newItems = new ArrayList<>();
-        for (JarReport moduleOrJarOrFolderReport : moduleOrJarOrFolderReports) {
-            newItems.addAll(makeLibraryItems(moduleOrJarOrFolderReport));
+            log.debug(I18N.getString("log.info.explore.end", exploredPaths.get(i)));
+            result.put(exploredPaths.get(i), jarReport);
         }
 
-        // 4)
-        library.updateClassLoader(classLoader);
-        // Remove duplicated items
-        library.addItems(newItems
-                .stream()
-                .distinct()
-                .collect(Collectors.toList()));
-        library.updateJarReports(new ArrayList<>(moduleOrJarOrFolderReports));
-        library.getOnFinishedUpdatingJarReports().accept(moduleOrJarOrFolderReports);
-        library.updateExplorationDate(new Date());
-        
-        // 5
-        // Fix for #45: mark end of first exploration
-        library.updateFirstExplorationCompleted();
+        return result;
     }
     
     
-    private Collection<LibraryItem> makeLibraryItems(JarReport jarOrFolderReport) throws IOException {
+    private List<LibraryItem> makeLibraryItems(JarReport jarOrFolderReport) {
         final List<LibraryItem> result = new ArrayList<>();
         final URL iconURL = ImageUtils.getNodeIconURL(null);
-        final List<String> excludedItems = library.getFilter();
-        final List<String> artifactsFilter = library.getAdditionalFilter().get();
                 
         for (JarReportEntry e : jarOrFolderReport.getEntries()) {
             if ((e.getStatus() == JarReportEntry.Status.OK) && e.isNode()) {
                 // We filter out items listed in the excluded list, based on canonical name of the class.
-                final String canonicalName = e.getKlass().getCanonicalName();
+                final String canonicalName = e.getCanonicalName();
                 if (!excludedItems.contains(canonicalName) && 
                     !artifactsFilter.contains(canonicalName)) {
-                    final String name = e.getKlass().getSimpleName();
-                    final String fxmlText = BuiltinLibrary.makeFxmlText(e.getKlass());
+                    final String name = e.getSimpleName();
+                    final String fxmlText = BuiltinLibrary.makeFxmlText(canonicalName, name);
                     result.add(new LibraryItem(name, UserLibrary.TAG_USER_DEFINED, fxmlText, iconURL, library));
                 }
             }
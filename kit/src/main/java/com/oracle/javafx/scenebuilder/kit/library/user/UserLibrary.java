@@ -324,6 +324,14 @@ public class UserLibrary extends Library {
         }
     }
     
+    void removeItems(Collection<LibraryItem> items) {
+        if (Platform.isFxApplicationThread()) {
+            getItems().removeAll(items);
+        } else {
+            Platform.runLater(() -> getItems().removeAll(items));
+        }
+    }
+    
     void updateClassLoader(ClassLoader newClassLoader) {
         if (Platform.isFxApplicationThread()) {
             changeClassLoader(newClassLoader);
@@ -387,21 +395,32 @@ public class UserLibrary extends Library {
          * Before changing to the new class loader,
          * we invoke URLClassLoader.close() on the existing one
          * so that it releases its associated jar files.
+         * LibraryFolderWatcher may extend the existing class loader with
+         * a child one: ancestors of the new class loader stay open.
          */
-        final ClassLoader classLoader = getClassLoader();
-        if (classLoader instanceof URLClassLoader) {
+        ClassLoader classLoader = getClassLoader();
+        while ((classLoader instanceof URLClassLoader) && (isAncestor(classLoader, newClassLoader) == false)) {
             final URLClassLoader urlClassLoader = (URLClassLoader) classLoader;
             try {
                 urlClassLoader.close();
             } catch(IOException e) {
                 log.warn("Failed to close URL classloader", e);
             }
+            classLoader = classLoader.getParent();
         }
         
         // Now moves to the new class loader
         setClassLoader(newClassLoader);
     }
     
+    private static boolean isAncestor(ClassLoader candidate, ClassLoader classLoader) {
+        ClassLoader current = classLoader;
+        while ((current != null) && (current != candidate)) {
+            current = current.getParent();
+        }
+        return current != null;
+    }
+    
     /*
      * Debug
      */
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.library.util;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Class name, super class name and access flags read from the header of a
+ * class file. Reading a header does not load the class: it only parses the
+ * constant pool and the few fields which follow it.
+ */
+final class ClassFileHeader {
+
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_INTERFACE = 0x0200;
+    private static final int ACC_ABSTRACT = 0x0400;
+    private static final int ACC_ANNOTATION = 0x2000;
+    private static final int ACC_MODULE = 0x8000;
+
+    private final String className;
+    private final String superClassName;
+    private final int accessFlags;
+
+    ClassFileHeader(String className, String superClassName, int accessFlags) {
+        assert className != null;
+
+        this.className = className;
+        this.superClassName = superClassName;
+        this.accessFlags = accessFlags;
+    }
+
+    /**
+     * Returns the binary name of the class (eg a.b.C or a.b.C$D).
+     */
+    String getClassName() {
+        return className;
+    }
+
+    /**
+     * Returns the binary name of the super class or null for
+     * java.lang.Object and module-info.
+     */
+    String getSuperClassName() {
+        return superClassName;
+    }
+
+    boolean isPublic() {
+        return (accessFlags & ACC_PUBLIC) != 0;
+    }
+
+    /**
+     * Returns true if the class cannot be instantiated: abstract classes,
+     * interfaces, annotations and module-info.
+     */
+    boolean isAbstract() {
+        return (accessFlags & (ACC_ABSTRACT | ACC_INTERFACE | ACC_ANNOTATION | ACC_MODULE)) != 0;
+    }
+
+    /**
+     * Reads the header of a class file. The stream is not closed.
+     *
+     * @param is a stream on the content of a class file
+     * @return the class header
+     * @throws IOException if the stream cannot be read or is not a class file
+     */
+    static ClassFileHeader read(InputStream is) throws IOException {
+        final DataInputStream dis = new DataInputStream(new BufferedInputStream(is));
+
+        if (dis.readInt() != MAGIC) {
+            throw new IOException("Not a class file"); //NOI18N
+        }
+        dis.readUnsignedShort(); // minor_version
+        dis.readUnsignedShort(); // major_version
+
+        final int constantPoolCount = dis.readUnsignedShort();
+        final String[] utf8s = new String[constantPoolCount];
+        final int[] classNameIndexes = new int[constantPoolCount];
+        for (int i = 1; i < constantPoolCount; i++) {
+            final int tag = dis.readUnsignedByte();
+            switch (tag) {
+                case 1: // Utf8
+                    utf8s[i] = dis.readUTF();
+                    break;
+                case 7: // Class
+                    classNameIndexes[i] = dis.readUnsignedShort();
+                    break;
+                case 8: // String
+                case 16: // MethodType
+                case 19: // Module
+                case 20: // Package
+                    dis.skipNBytes(2);
+                    break;
+                case 15: // MethodHandle
+                    dis.skipNBytes(3);
+                    break;
+                case 3: // Integer
+                case 4: // Float
+                case 9: // Fieldref
+                case 10: // Methodref
+                case 11: // InterfaceMethodref
+                case 12: // NameAndType
+                case 17: // Dynamic
+                case 18: // InvokeDynamic
+                    dis.skipNBytes(4);
+                    break;
+                case 5: // Long
+                case 6: // Double
+                    dis.skipNBytes(8);
+                    i++; // Takes two slots
+                    break;
+                default:
+                    throw new IOException("Unexpected constant pool tag " + tag); //NOI18N
+            }
+        }
+
+        final int accessFlags = dis.readUnsignedShort();
+        final String className = getClassName(dis.readUnsignedShort(), utf8s, classNameIndexes);
+        final int superClassIndex = dis.readUnsignedShort();
+        final String superClassName = (superClassIndex == 0) ? null
+                : getClassName(superClassIndex, utf8s, classNameIndexes);
+
+        return new ClassFileHeader(className, superClassName, accessFlags);
+    }
+
+    /*
+     * Private
+     */
+
+    private static String getClassName(int classIndex, String[] utf8s, int[] classNameIndexes) throws IOException {
+        if ((classIndex <= 0) || (classIndex >= classNameIndexes.length)) {
+            throw new IOException("Bad class index " + classIndex); //NOI18N
+        }
+        final int nameIndex = classNameIndexes[classIndex];
+        if ((nameIndex <= 0) || (nameIndex >= utf8s.length) || (utf8s[nameIndex] == null)) {
+            throw new IOException("Bad class name index " + nameIndex); //NOI18N
+        }
+        return utf8s[nameIndex].replace('/', '.');
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.library.util;
+
+import javafx.scene.Node;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Super class graph of the classes seen during an exploration. It tells
+ * whether a class may be a {@link Node} without loading it: headers are
+ * registered by the explorers and, when a super class lives in another jar
+ * or folder, read from the class loader resources.
+ * <p>
+ * Answers are conservative: when the graph cannot be completed (missing
+ * dependency, unreadable class file...) the class is reported as a possible
+ * Node and exploration falls back on class loading.
+ */
+class ClassHierarchy {
+
+    private final ClassLoader classLoader;
+    private final Map<String, Optional<ClassFileHeader>> headers = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> nodeClasses = new ConcurrentHashMap<>();
+
+    ClassHierarchy(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    void addHeader(ClassFileHeader header) {
+        headers.put(header.getClassName(), Optional.of(header));
+    }
+
+    /**
+     * Returns false if the class is known not to be a concrete public
+     * subclass of Node.
+     *
+     * @param header header of the class
+     * @return true if the class should be loaded and tried
+     */
+    boolean mayBeNodeClass(ClassFileHeader header) {
+        return header.isPublic()
+                && (header.isAbstract() == false)
+                && mayBeNode(header.getSuperClassName());
+    }
+
+    /*
+     * Private
+     */
+
+    private boolean mayBeNode(String className) {
+        // Walks up the super classes until an answer is found ...
+        final List<String> chain = new ArrayList<>();
+        Boolean answer = null;
+        String current = className;
+        while (answer == null) {
+            if (current == null) {
+                answer = Boolean.FALSE; // Went past java.lang.Object
+            } else if ((answer = nodeClasses.get(current)) == null) {
+                if (current.startsWith("javafx.") || current.startsWith("java.") //NOI18N
+                        || current.startsWith("javax.")) { //NOI18N
+                    answer = isPlatformNode(current);
+                    nodeClasses.put(current, answer);
+                } else if (chain.contains(current)) {
+                    answer = Boolean.TRUE; // Malformed hierarchy: let class loading complain
+                } else {
+                    final Optional<ClassFileHeader> header = lookupHeader(current);
+                    if (header.isEmpty()) {
+                        answer = Boolean.TRUE; // Unknown super class
+                    } else {
+                        chain.add(current);
+                        current = header.get().getSuperClassName();
+                    }
+                }
+            }
+        }
+
+        // ... and records it for every class of the chain
+        for (String c : chain) {
+            nodeClasses.put(c, answer);
+        }
+
+        return answer;
+    }
+
+    private Optional<ClassFileHeader> lookupHeader(String className) {
+        return headers.computeIfAbsent(className, this::readHeader);
+    }
+
+    private Optional<ClassFileHeader> readHeader(String className) {
+        Optional<ClassFileHeader> result = Optional.empty();
+        if (classLoader != null) {
+            final String resourceName = className.replace('.', '/') + ".class"; //NOI18N
+            try (InputStream is = classLoader.getResourceAsStream(resourceName)) {
+                if (is != null) {
+                    result = Optional.of(ClassFileHeader.read(is));
+                }
+            } catch(IOException x) {
+                // result stays empty
+            }
+        }
+        return result;
+    }
+
+    private boolean isPlatformNode(String className) {
+        boolean result;
+        try {
+            // Platform classes are shared with Scene Builder: loading them is cheap
+            result = Node.class.isAssignableFrom(Class.forName(className, false, Node.class.getClassLoader()));
+        } catch(ClassNotFoundException | LinkageError x) {
+            result = className.startsWith("javafx."); //NOI18N
+        }
+        return result;
+    }
+}
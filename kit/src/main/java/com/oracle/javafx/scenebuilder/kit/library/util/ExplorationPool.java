@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.library.util;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * Bounded fork/join pool used to explore user library jars, folders and
+ * modules in parallel. Tasks may be nested (jars, then entries of each jar):
+ * nested tasks are forked in the same pool and joined with work stealing.
+ */
+public final class ExplorationPool {
+    
+    private static final int PARALLELISM 
+            = Math.max(1, Math.min(8, Runtime.getRuntime().availableProcessors()));
+    
+    private static final ForkJoinPool pool = new ForkJoinPool(PARALLELISM, p -> {
+        final ForkJoinWorkerThread result = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+        result.setName(ExplorationPool.class.getSimpleName() + "-" + result.getPoolIndex()); //NOI18N
+        result.setDaemon(true);
+        return result;
+    }, null, false);
+    
+    private ExplorationPool() {
+        // Static methods only
+    }
+    
+    /**
+     * Executes the specified tasks in the exploration pool and waits for
+     * their completion.
+     * 
+     * @param <T> type of the task results
+     * @param tasks tasks to execute (never null)
+     * @return the task results, in the same order as tasks
+     * @throws IOException if one of the tasks throws an IOException
+     */
+    public static <T> List<T> invokeAll(List<? extends Callable<T>> tasks) throws IOException {
+        assert tasks != null;
+        
+        final List<ForkJoinTask<Outcome<T>>> forkJoinTasks = new ArrayList<>();
+        for (Callable<T> task : tasks) {
+            forkJoinTasks.add(ForkJoinTask.adapt(() -> Outcome.of(task)));
+        }
+        
+        if (ForkJoinTask.getPool() == pool) {
+            // Nested exploration : fork in the current pool
+            ForkJoinTask.invokeAll(forkJoinTasks);
+        } else {
+            waitForAll(forkJoinTasks);
+        }
+        
+        // Failures are reported in task order, like a sequential loop would
+        final List<T> result = new ArrayList<>();
+        for (ForkJoinTask<Outcome<T>> forkJoinTask : forkJoinTasks) {
+            result.add(forkJoinTask.join().get());
+        }
+        
+        return result;
+    }
+    
+    
+    /*
+     * Private
+     */
+    
+    /*
+     * Waits for the tasks from a thread outside the pool. Unlike 
+     * ForkJoinPool.invoke(), the wait can be interrupted: this lets
+     * UserLibrary.stopWatching() stop the watcher thread while some tasks
+     * are waiting for the FX thread (see ExplorerBase).
+     */
+    private static <T> void waitForAll(List<ForkJoinTask<Outcome<T>>> forkJoinTasks) throws IOException {
+        final ForkJoinTask<?> root = pool.submit(() -> ForkJoinTask.invokeAll(forkJoinTasks));
+        try {
+            root.get();
+        } catch(InterruptedException x) {
+            root.cancel(false);
+            for (ForkJoinTask<Outcome<T>> forkJoinTask : forkJoinTasks) {
+                forkJoinTask.cancel(false);
+            }
+            Thread.currentThread().interrupt();
+            final InterruptedIOException xx = new InterruptedIOException("Exploration interrupted"); //NOI18N
+            xx.initCause(x);
+            throw xx;
+        } catch(ExecutionException x) {
+            if (x.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) x.getCause();
+            } else if (x.getCause() instanceof Error) {
+                throw (Error) x.getCause();
+            } else {
+                throw new IOException(x.getCause());
+            }
+        }
+    }
+    
+    private static class Outcome<T> {
+        private final T value;
+        private final Exception exception;
+        
+        private Outcome(T value, Exception exception) {
+            this.value = value;
+            this.exception = exception;
+        }
+        
+        static <T> Outcome<T> of(Callable<T> task) {
+            Outcome<T> result;
+            try {
+                result = new Outcome<>(task.call(), null);
+            } catch(Exception x) {
+                result = new Outcome<>(null, x);
+            }
+            return result;
+        }
+        
+        T get() throws IOException {
+            if (exception instanceof IOException) {
+                throw (IOException) exception;
+            } else if (exception instanceof RuntimeException) {
+                throw (RuntimeException) exception;
+            } else if (exception != null) {
+                throw new IOException(exception);
+            }
+            return value;
+        }
+    }
+}
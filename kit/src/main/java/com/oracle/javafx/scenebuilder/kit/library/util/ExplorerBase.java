@@ -34,20 +34,102 @@ package com.oracle.javafx.scenebuilder.kit.library.util;
 
 import com.oracle.javafx.scenebuilder.kit.editor.EditorPlatform;
 import com.oracle.javafx.scenebuilder.kit.library.BuiltinLibrary;
+import com.oracle.javafx.scenebuilder.kit.util.Utils;
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Node;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Modifier;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 abstract class ExplorerBase {
 
+    /*
+     * Maximum time an exploration thread waits for the FX thread to
+     * instantiate a class: the FX thread may itself be waiting for the
+     * exploration to end (see UserLibrary.stopWatching()).
+     */
+    private static final long FX_THREAD_TIMEOUT = 10; // seconds
+
+    /*
+     * A class entry waiting for exploration. header is null when the
+     * class file header could not be read.
+     */
+    record Candidate(String entryName, String className, ClassFileHeader header) {
+    }
+
+    /*
+     * Reads the header of a class entry: returns null if entry is not a
+     * class or if its header is unreadable.
+     */
+    static ClassFileHeader readHeader(String className, Callable<InputStream> opener) {
+        ClassFileHeader result = null;
+        if (className != null) {
+            try (InputStream is = opener.call()) {
+                result = ClassFileHeader.read(is);
+            } catch(Exception x) {
+                // result stays null: class loading will tell
+            }
+        }
+        return result;
+    }
+
     static Object instantiateWithFXMLLoader(Class<?> klass, ClassLoader classLoader) throws IOException {
         Object result;
 
+        try {
+            result = instantiateInCurrentThread(klass, classLoader);
+        } catch(IOException x) {
+            if (Utils.isFxThreadViolation(x) && (Platform.isFxApplicationThread() == false)) {
+                // Some controls (WebView, Media...) can only be created in the
+                // FX thread : exploration threads delegate them to it.
+                result = instantiateInFxThread(klass, classLoader);
+            } else {
+                throw x;
+            }
+        }
+
+        return result;
+    }
+
+    private static Object instantiateInFxThread(Class<?> klass, ClassLoader classLoader) throws IOException {
+        final FutureTask<Object> task = new FutureTask<>(() -> instantiateInCurrentThread(klass, classLoader));
+        try {
+            Platform.runLater(task);
+            return task.get(FX_THREAD_TIMEOUT, TimeUnit.SECONDS);
+        } catch(IllegalStateException x) { // FX toolkit not initialized
+            throw new IOException(x);
+        } catch(TimeoutException x) {
+            // FX thread is busy or waiting for us: entry is reported as
+            // CANNOT_INSTANTIATE and the FX thread will skip the task
+            task.cancel(false);
+            throw new IOException("FX thread did not instantiate " + klass.getName(), x); //NOI18N
+        } catch(InterruptedException x) {
+            task.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new IOException(x);
+        } catch(ExecutionException x) {
+            if (x.getCause() instanceof IOException) {
+                throw (IOException) x.getCause();
+            } else {
+                throw new IOException(x.getCause());
+            }
+        }
+    }
+
+    private static Object instantiateInCurrentThread(Class<?> klass, ClassLoader classLoader) throws IOException {
+        Object result;
+
         final String fxmlText = BuiltinLibrary.makeFxmlText(klass);
         final byte[] fxmlBytes = fxmlText.getBytes(Charset.forName("UTF-8")); //NOI18N
 
@@ -133,4 +215,35 @@ abstract class ExplorerBase {
 
         return new JarReportEntry(entryName, status, entryException, entryClass, className);
     }
+
+    /*
+     * Explores candidates in parallel (see ExplorationPool) and returns
+     * the entries which are not ignored, in the same order as candidates.
+     * Candidates whose header shows they cannot be a concrete public Node
+     * are ignored without being loaded.
+     */
+    List<JarReportEntry> exploreEntries(List<Candidate> candidates, ClassLoader classLoader, List<String> excludedItems) throws IOException {
+        final ClassHierarchy hierarchy = new ClassHierarchy(classLoader);
+        for (Candidate c : candidates) {
+            if (c.header() != null) {
+                hierarchy.addHeader(c.header());
+            }
+        }
+
+        final List<Callable<JarReportEntry>> tasks = new ArrayList<>();
+        for (Candidate c : candidates) {
+            if ((c.header() == null) || hierarchy.mayBeNodeClass(c.header())) {
+                tasks.add(() -> exploreEntry(c.entryName(), classLoader, c.className(), excludedItems));
+            }
+        }
+
+        final List<JarReportEntry> result = new ArrayList<>();
+        for (JarReportEntry explored : ExplorationPool.invokeAll(tasks)) {
+            if (explored.getStatus() != JarReportEntry.Status.IGNORED) {
+                result.add(explored);
+            }
+        }
+
+        return result;
+    }
 }
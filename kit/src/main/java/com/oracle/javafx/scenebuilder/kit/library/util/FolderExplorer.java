@@ -34,7 +34,6 @@ package com.oracle.javafx.scenebuilder.kit.library.util;
 
 import com.oracle.javafx.scenebuilder.kit.library.LibraryItem;
 import com.oracle.javafx.scenebuilder.kit.library.user.UserLibrary;
-import com.oracle.javafx.scenebuilder.kit.library.util.JarReportEntry.Status;
 
 import java.io.File;
 import java.io.IOException;
@@ -59,33 +58,19 @@ public class FolderExplorer extends ExplorerBase {
 
     public JarReport explore(ClassLoader classLoader) throws IOException {
         final JarReport result = new JarReport(rootFolderPath);
+        final List<Candidate> candidates = new ArrayList<>();
 
         try (Stream<Path> stream = Files.walk(rootFolderPath).filter(p -> !p.toFile().isDirectory())) {
             stream.forEach(p -> {
-                JarReportEntry explored = exploreEntry(rootFolderPath, p, classLoader);
-                if (explored.getStatus() != Status.IGNORED)
-                    result.getEntries().add(explored);
+                Path relativepath = rootFolderPath.relativize(p);
+                String className = makeClassName(relativepath.toString(), File.separator);
+                final ClassFileHeader header = readHeader(className, () -> Files.newInputStream(p));
+                candidates.add(new Candidate(p.toFile().getName(), className, header));
             });
         };
+        result.getEntries().addAll(exploreEntries(candidates, classLoader, excludedItems));
 
         return result;
     }
 
-    /*
-     * Private
-     */
-
-    private JarReportEntry exploreEntry(Path rootpath, Path path, ClassLoader classLoader) {
-        File file = path.toFile();
-
-        if (file.isDirectory()) {
-            return new JarReportEntry(file.getName(), Status.IGNORED, null, null, null);
-        } else {
-            Path relativepath = rootpath.relativize(path);
-
-            String className = makeClassName(relativepath.toString(), File.separator);
-            return super.exploreEntry(file.getName(), classLoader, className, excludedItems);
-        }
-    }
-
 }
@@ -32,10 +32,9 @@
  */
 package com.oracle.javafx.scenebuilder.kit.library.util;
 
-import com.oracle.javafx.scenebuilder.kit.library.util.JarReportEntry.Status;
-
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.jar.JarEntry;
@@ -60,31 +59,22 @@ public class JarExplorer extends ExplorerBase {
     
     public JarReport explore(ClassLoader classLoader) throws IOException {
         final JarReport result = new JarReport(jar);
+        final List<Candidate> candidates = new ArrayList<>();
         
         try (JarFile jarFile = new JarFile(jar.toFile())) {
             final Enumeration<JarEntry> e = jarFile.entries();
             while (e.hasMoreElements()) {
                 final JarEntry entry = e.nextElement();
-                JarReportEntry explored = exploreEntry(entry, classLoader);
-                if (explored.getStatus() != Status.IGNORED)
-                    result.getEntries().add(explored);
+                if (entry.isDirectory() == false) {
+                    String className = makeClassName(entry.getName(), "/");
+                    final ClassFileHeader header = readHeader(className, () -> jarFile.getInputStream(entry));
+                    candidates.add(new Candidate(entry.getName(), className, header));
+                }
             }
         }
+        result.getEntries().addAll(exploreEntries(candidates, classLoader, excludedItems));
         
         return result;
     }
-    
-    /*
-     * Private
-     */
-    
-    private JarReportEntry exploreEntry(JarEntry entry, ClassLoader classLoader) {
-        if (entry.isDirectory()) {
-            return new JarReportEntry(entry.getName(), JarReportEntry.Status.IGNORED, null, null, null);
-        } else {
-            String className = makeClassName(entry.getName(), "/");
-            return super.exploreEntry(entry.getName(), classLoader, className, excludedItems);
-        }
-    }
 
 }
@@ -0,0 +1,470 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.library.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * On-disk cache of the {@link JarReport} produced by {@link JarExplorer}.
+ * <p>
+ * A report is keyed by the jar path, size and modification time. When only
+ * the modification time has changed, the content hash recorded with the
+ * report tells whether the jar is really different. The excluded items list
+ * is folded into the cache key: when it changes all the cached reports are
+ * discarded. Whether a class loads also depends on the other jars of the
+ * library class path: a report is only restored if the other items of the
+ * class path are unchanged since it was stored. Restored entries do not load their class
+ * until {@link JarReportEntry#getKlass()} is invoked, so unchanged jars skip
+ * class loading and trial instantiation entirely.
+ * <p>
+ * A cache instance is meant to serve one exploration: {@link #save()} only
+ * keeps the jars which have been looked up, retained or stored since
+ * {@link #load()}.
+ * {@link #lookup} and {@link #store} may be invoked from several threads.
+ *
+ * @see com.oracle.javafx.scenebuilder.kit.metadata.IntrospectionCache
+ */
+public class JarReportCache {
+
+    private static final String FORMAT = "JarReportCache-4"; //NOI18N
+    private static final int MAX_EXCEPTION_TEXT = 4096; // Well below the writeUTF() limit
+
+    private final Path cacheFile;
+    private final String filterDigest;
+    private final Map<Path, String> classPathStamps;
+    private final Map<Path, CachedReport> loadedReports = new HashMap<>();
+    private final Map<Path, CachedReport> usedReports = new HashMap<>();
+    private boolean dirty;
+
+    /**
+     * @param cacheFile the file where reports are saved
+     * @param excludedItems the classes excluded from exploration
+     * @param classPath the jars, folders and modules of the library class path
+     */
+    public JarReportCache(Path cacheFile, List<String> excludedItems, Collection<Path> classPath) {
+        assert cacheFile != null;
+        assert excludedItems != null;
+        assert classPath != null;
+
+        this.cacheFile = cacheFile;
+        this.filterDigest = digest(String.join("\n", new TreeSet<>(excludedItems))); //NOI18N
+        this.classPathStamps = makeClassPathStamps(classPath);
+    }
+
+    public Path getCacheFile() {
+        return cacheFile;
+    }
+
+    /**
+     * Loads the cache file. A missing, unreadable or out of date file
+     * simply leaves the cache empty.
+     */
+    public synchronized void load() {
+        loadedReports.clear();
+        usedReports.clear();
+        dirty = false;
+
+        if (Files.isRegularFile(cacheFile) == false) {
+            return;
+        }
+
+        try (DataInputStream dis = new DataInputStream(new BufferedInputStream(Files.newInputStream(cacheFile)))) {
+            if (FORMAT.equals(dis.readUTF()) && filterDigest.equals(dis.readUTF())) {
+                final int reportCount = dis.readInt();
+                for (int i = 0; i < reportCount; i++) {
+                    final CachedReport report = CachedReport.read(dis);
+                    loadedReports.put(report.jar, report);
+                }
+            } else {
+                // Format or excluded items have changed: we start from scratch
+                dirty = true;
+            }
+        } catch(IOException | RuntimeException x) {
+            loadedReports.clear();
+            dirty = true;
+        }
+    }
+
+    /**
+     * Returns the cached report of a jar, or null if the jar is not cached
+     * or has changed since it was cached.
+     *
+     * @param jar the jar to look up
+     * @param classLoader the class loader used to load the classes of the entries
+     * @return the cached report or null
+     * @throws IOException if the jar cannot be read
+     */
+    public JarReport lookup(Path jar, ClassLoader classLoader) throws IOException {
+        final Path key = jar.toAbsolutePath();
+        final CachedReport candidate;
+        synchronized(this) {
+            candidate = loadedReports.get(key);
+        }
+
+        final JarReport result;
+        if ((candidate == null) || (candidate.size != Files.size(key))
+                || (candidate.classPathDigest.equals(getClassPathDigest(key)) == false)) {
+            result = null;
+        } else {
+            final long lastModified = Files.getLastModifiedTime(key).toMillis();
+            if (candidate.lastModified == lastModified) {
+                // Size and modification time are trusted: jar is not hashed
+                result = candidate.makeReport(jar, classLoader);
+                synchronized(this) {
+                    usedReports.put(key, candidate);
+                }
+            } else if (candidate.hash.equals(getContentHash(key))) {
+                // Jar has been touched but not changed
+                result = candidate.makeReport(jar, classLoader);
+                synchronized(this) {
+                    usedReports.put(key, candidate.withLastModified(lastModified));
+                    dirty = true;
+                }
+            } else {
+                result = null;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Keeps the cached report of a jar which is not looked up because the
+     * caller knows its report is still valid with the current class path:
+     * typically a jar whose classes stay loaded while the class path is
+     * extended with new jars. The report is only kept if the jar has not
+     * been modified since it was cached.
+     *
+     * @param jar the jar whose report is kept
+     * @throws IOException if the jar cannot be read
+     */
+    public void retain(Path jar) throws IOException {
+        final Path key = jar.toAbsolutePath();
+        final CachedReport candidate;
+        synchronized(this) {
+            candidate = loadedReports.get(key);
+        }
+
+        if ((candidate != null) && (candidate.size == Files.size(key))
+                && (candidate.lastModified == Files.getLastModifiedTime(key).toMillis())) {
+            final String classPathDigest = getClassPathDigest(key);
+            synchronized(this) {
+                if (candidate.classPathDigest.equals(classPathDigest)) {
+                    usedReports.put(key, candidate);
+                } else {
+                    usedReports.put(key, candidate.withClassPathDigest(classPathDigest));
+                    dirty = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Records the report of a jar freshly explored.
+     *
+     * @param jar the jar explored
+     * @param report the report produced by the exploration
+     * @throws IOException if the jar cannot be read
+     */
+    public void store(Path jar, JarReport report) throws IOException {
+        final Path key = jar.toAbsolutePath();
+        final long size = Files.size(key);
+        final long lastModified = Files.getLastModifiedTime(key).toMillis();
+        final CachedReport cachedReport = new CachedReport(key, size, lastModified, getContentHash(key),
+                getClassPathDigest(key), report);
+        synchronized(this) {
+            usedReports.put(key, cachedReport);
+            dirty = true;
+        }
+    }
+
+    /**
+     * Writes the cache file if something has changed since {@link #load()}.
+     * Jars which have been neither looked up, retained nor stored are dropped.
+     *
+     * @throws IOException if the cache file cannot be written
+     */
+    public synchronized void save() throws IOException {
+        if ((dirty == false) && usedReports.keySet().equals(loadedReports.keySet())) {
+            return;
+        }
+
+        final Path tmpFile = cacheFile.resolveSibling(cacheFile.getFileName() + ".tmp"); //NOI18N
+        try (DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmpFile)))) {
+            dos.writeUTF(FORMAT);
+            dos.writeUTF(filterDigest);
+            dos.writeInt(usedReports.size());
+            for (CachedReport report : usedReports.values()) {
+                report.write(dos);
+            }
+        }
+        Files.move(tmpFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+
+        loadedReports.clear();
+        loadedReports.putAll(usedReports);
+        dirty = false;
+    }
+
+    /**
+     * Returns the SHA-256 of the content of a file, as used to validate
+     * cached reports.
+     *
+     * @param file the file to hash
+     * @return the hexadecimal hash of the file content
+     * @throws IOException if the file cannot be read
+     */
+    public static String getContentHash(Path file) throws IOException {
+        return hash(file.toAbsolutePath());
+    }
+
+    /*
+     * Private
+     */
+
+    /*
+     * Path, size and modification time of each item of the class path.
+     */
+    private static Map<Path, String> makeClassPathStamps(Collection<Path> classPath) {
+        final Map<Path, String> result = new TreeMap<>();
+        for (Path p : classPath) {
+            final Path absolutePath = p.toAbsolutePath();
+            String stamp;
+            try {
+                stamp = absolutePath + " " + Files.size(absolutePath) //NOI18N
+                        + " " + Files.getLastModifiedTime(absolutePath).toMillis(); //NOI18N
+            } catch(IOException x) {
+                stamp = absolutePath.toString();
+            }
+            result.put(absolutePath, stamp);
+        }
+        return result;
+    }
+
+    /*
+     * Digest of the class path items other than the jar itself: adding,
+     * removing or updating a dependency changes the digest. The jar itself
+     * is checked with its own size, modification time and content hash.
+     */
+    private String getClassPathDigest(Path jar) {
+        final StringBuilder stamps = new StringBuilder();
+        for (Map.Entry<Path, String> e : classPathStamps.entrySet()) {
+            if (e.getKey().equals(jar) == false) {
+                stamps.append(e.getValue()).append('\n');
+            }
+        }
+        return digest(stamps.toString());
+    }
+
+    private static String hash(Path jar) throws IOException {
+        final MessageDigest md = makeMessageDigest();
+        final byte[] buffer = new byte[64 * 1024];
+        try (InputStream is = Files.newInputStream(jar)) {
+            int count;
+            while ((count = is.read(buffer)) != -1) {
+                md.update(buffer, 0, count);
+            }
+        }
+        return HexFormat.of().formatHex(md.digest());
+    }
+
+    private static String digest(String text) {
+        final MessageDigest md = makeMessageDigest();
+        return HexFormat.of().formatHex(md.digest(text.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest makeMessageDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256"); //NOI18N
+        } catch(NoSuchAlgorithmException x) {
+            throw new IllegalStateException("Bug", x); //NOI18N
+        }
+    }
+
+    private static void writeString(DataOutputStream dos, String s) throws IOException {
+        dos.writeBoolean(s != null);
+        if (s != null) {
+            dos.writeUTF(s);
+        }
+    }
+
+    private static String readString(DataInputStream dis) throws IOException {
+        return dis.readBoolean() ? dis.readUTF() : null;
+    }
+
+    private static class CachedReport {
+        final Path jar;
+        final long size;
+        final long lastModified;
+        final String hash;
+        final String classPathDigest;
+        final List<CachedEntry> entries;
+
+        CachedReport(Path jar, long size, long lastModified, String hash, String classPathDigest,
+                List<CachedEntry> entries) {
+            this.jar = jar;
+            this.size = size;
+            this.lastModified = lastModified;
+            this.hash = hash;
+            this.classPathDigest = classPathDigest;
+            this.entries = entries;
+        }
+
+        CachedReport(Path jar, long size, long lastModified, String hash, String classPathDigest,
+                JarReport report) {
+            this(jar, size, lastModified, hash, classPathDigest, new ArrayList<>());
+            for (JarReportEntry e : report.getEntries()) {
+                entries.add(new CachedEntry(e));
+            }
+        }
+
+        CachedReport withLastModified(long lastModified) {
+            return new CachedReport(jar, size, lastModified, hash, classPathDigest, entries);
+        }
+
+        CachedReport withClassPathDigest(String classPathDigest) {
+            return new CachedReport(jar, size, lastModified, hash, classPathDigest, entries);
+        }
+
+        JarReport makeReport(Path jar, ClassLoader classLoader) {
+            final JarReport result = new JarReport(jar);
+            final List<JarReportEntry> resultEntries = new ArrayList<>(entries.size());
+            for (CachedEntry e : entries) {
+                resultEntries.add(e.makeEntry(classLoader));
+            }
+            result.getEntries().addAll(resultEntries);
+            return result;
+        }
+
+        void write(DataOutputStream dos) throws IOException {
+            dos.writeUTF(jar.toString());
+            dos.writeLong(size);
+            dos.writeLong(lastModified);
+            dos.writeUTF(hash);
+            dos.writeUTF(classPathDigest);
+            dos.writeInt(entries.size());
+            for (CachedEntry e : entries) {
+                e.write(dos);
+            }
+        }
+
+        static CachedReport read(DataInputStream dis) throws IOException {
+            final Path jar = Path.of(dis.readUTF());
+            final long size = dis.readLong();
+            final long lastModified = dis.readLong();
+            final String hash = dis.readUTF();
+            final String classPathDigest = dis.readUTF();
+            final int entryCount = dis.readInt();
+            final List<CachedEntry> entries = new ArrayList<>(entryCount);
+            for (int i = 0; i < entryCount; i++) {
+                entries.add(CachedEntry.read(dis));
+            }
+            return new CachedReport(jar, size, lastModified, hash, classPathDigest, entries);
+        }
+    }
+
+    private record CachedEntry(String name, JarReportEntry.Status status, String className,
+            String canonicalName, String simpleName, boolean node, String exceptionText) {
+
+        CachedEntry(JarReportEntry e) {
+            this(e.getName(), e.getStatus(), e.getClassName(), e.getCanonicalName(), e.getSimpleName(),
+                    e.isNode(), describe(e.getException()));
+        }
+
+        private static String describe(Throwable exception) {
+            final String result;
+            if (exception == null) {
+                result = null;
+            } else {
+                final String text = exception.toString();
+                result = (text.length() <= MAX_EXCEPTION_TEXT) ? text : text.substring(0, MAX_EXCEPTION_TEXT);
+            }
+            return result;
+        }
+
+        JarReportEntry makeEntry(ClassLoader classLoader) {
+            final Throwable exception = (exceptionText == null) ? null : new CachedException(exceptionText);
+            return new JarReportEntry(name, status, exception, className,
+                    canonicalName, simpleName, node, classLoader);
+        }
+
+        void write(DataOutputStream dos) throws IOException {
+            dos.writeUTF(name);
+            dos.writeUTF(status.name());
+            writeString(dos, className);
+            writeString(dos, canonicalName);
+            writeString(dos, simpleName);
+            dos.writeBoolean(node);
+            writeString(dos, exceptionText);
+        }
+
+        static CachedEntry read(DataInputStream dis) throws IOException {
+            return new CachedEntry(dis.readUTF(), JarReportEntry.Status.valueOf(dis.readUTF()),
+                    readString(dis), readString(dis), readString(dis), dis.readBoolean(), readString(dis));
+        }
+    }
+
+    /*
+     * Stands for the exception reported by the exploration which produced
+     * a cached entry: only its description is kept.
+     */
+    private static class CachedException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        CachedException(String text) {
+            super(text, null, false, false);
+        }
+
+        @Override
+        public String toString() {
+            return getMessage();
+        }
+    }
+}
@@ -50,9 +50,13 @@ public class JarReportEntry {
     
     private final String name;
     private final Status status;
-    private final Class<?> klass;
     private final Throwable exception;
     private final String className;
+    private final String canonicalName;
+    private final String simpleName;
+    private final boolean node;
+    private ClassLoader classLoader; // Non null until klass is resolved
+    private Class<?> klass;
 
     public JarReportEntry(String name, Status status, Throwable exception, Class<?> klass, String className) {
         assert name != null;
@@ -64,6 +68,30 @@ public class JarReportEntry {
         this.klass = klass;
         this.exception = exception;
         this.className = className;
+        this.canonicalName = (klass == null) ? null : klass.getCanonicalName();
+        this.simpleName = (klass == null) ? null : klass.getSimpleName();
+        this.node = (klass != null) && Node.class.isAssignableFrom(klass);
+    }
+
+    /*
+     * Reserved to JarReportCache: the entry is restored from the cache and
+     * its class is only loaded from classLoader when someone asks for it.
+     */
+    JarReportEntry(String name, Status status, Throwable exception, String className,
+            String canonicalName, String simpleName, boolean node, ClassLoader classLoader) {
+        assert name != null;
+        assert (className != null) || (status != Status.OK);
+        assert (exception == null) || (status != Status.OK);
+        assert (classLoader != null) || (hasClass(status) == false);
+
+        this.name = name;
+        this.status = status;
+        this.exception = exception;
+        this.className = className;
+        this.canonicalName = canonicalName;
+        this.simpleName = simpleName;
+        this.node = node;
+        this.classLoader = hasClass(status) ? classLoader : null;
     }
 
     public String getName() {
@@ -74,16 +102,49 @@ public class JarReportEntry {
         return status;
     }
 
-    public Class<?> getKlass() {
+    public synchronized Class<?> getKlass() {
+        if (classLoader != null) {
+            try {
+                klass = classLoader.loadClass(className);
+            } catch(ClassNotFoundException | LinkageError x) {
+                // Cache was stale: klass stays null
+            }
+            classLoader = null;
+        }
         return klass;
     }
 
+    /**
+     * Returns the canonical name of the class of this entry, or null if the
+     * class could not be loaded. Unlike {@link #getKlass()}, this never
+     * triggers class loading.
+     *
+     * @return the canonical name of the class (may be null)
+     */
+    public String getCanonicalName() {
+        return canonicalName;
+    }
+
+    /**
+     * Returns the simple name of the class of this entry, or null if the
+     * class could not be loaded.
+     *
+     * @return the simple name of the class (may be null)
+     */
+    public String getSimpleName() {
+        return simpleName;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
     public Throwable getException() {
         return exception;
     }
     
     public boolean isNode() {
-        return klass != null && Node.class.isAssignableFrom(klass);
+        return node;
     }
 
     public boolean isClassFromExternalPlugin() { return EditorPlatform.hasClassFromExternalPlugin(className); }
@@ -98,23 +159,23 @@ public class JarReportEntry {
         
         switch(status) {
             case OK:
-                assert klass != null;
-                sb.append(klass.getCanonicalName());
+                assert className != null;
+                sb.append(canonicalName);
                 sb.append(" - OK"); //NOI18N
                 break;
             case CANNOT_LOAD:
-                assert klass == null;
+                assert (klass == null) && (classLoader == null);
                 assert exception != null;
                 sb.append(name);
                 sb.append(" - CANNOT_LOAD"); //NOI18N
                 break;
             case CANNOT_INSTANTIATE:
-                assert klass != null;
-                sb.append(klass.getCanonicalName());
+                assert className != null;
+                sb.append(canonicalName);
                 sb.append(" - CANNOT_INSTANTIATE"); //NOI18N
                 break;
             case IGNORED:
-                assert klass == null;
+                assert (klass == null) && (classLoader == null);
                 sb.append(name);
                 sb.append(" - IGNORED"); //NOI18N
                 break;
@@ -124,4 +185,12 @@ public class JarReportEntry {
         
         return sb.toString();
     }
+
+    /*
+     * Private
+     */
+
+    private static boolean hasClass(Status status) {
+        return (status == Status.OK) || (status == Status.CANNOT_INSTANTIATE);
+    }
 }
@@ -31,12 +31,11 @@
  */
 package com.oracle.javafx.scenebuilder.kit.library.util;
 
-import com.oracle.javafx.scenebuilder.kit.library.util.JarReportEntry.Status;
-
 import java.io.IOException;
 import java.lang.module.ModuleReader;
 import java.lang.module.ModuleReference;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 
 public class ModuleExplorer extends ExplorerBase {
@@ -55,17 +54,17 @@ public class ModuleExplorer extends ExplorerBase {
     public JarReport explore() throws IOException {
         ClassLoader classLoader = module.getClassLoader();
         final JarReport result = new JarReport(moduleReference.location().map(Path::of).orElse(null));
+        final List<Candidate> candidates = new ArrayList<>();
         try (ModuleReader reader = moduleReference.open()) {
             reader.list().forEach(cl -> {
                 if (cl.endsWith(".class")) {
                     String className = cl.substring(0, cl.length() - ".class".length()).replaceAll("/", ".");
-                    JarReportEntry explored = super.exploreEntry(cl, classLoader, className, excludedItems);
-                    if (explored.getStatus() != Status.IGNORED) {
-                        result.getEntries().add(explored);
-                    }
+                    final ClassFileHeader header = readHeader(className, () -> reader.open(cl).orElseThrow());
+                    candidates.add(new Candidate(cl, className, header));
                 }
             });
         }
+        result.getEntries().addAll(exploreEntries(candidates, classLoader, excludedItems));
         
         return result;
     }
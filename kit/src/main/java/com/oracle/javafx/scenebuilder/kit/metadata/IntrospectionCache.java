@@ -0,0 +1,462 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.metadata;
+
+import com.oracle.javafx.scenebuilder.kit.library.util.JarReportCache;
+import com.oracle.javafx.scenebuilder.kit.metadata.MetadataIntrospector.IntrospectedProperty;
+import com.oracle.javafx.scenebuilder.kit.metadata.klass.ComponentClassMetadata;
+import com.oracle.javafx.scenebuilder.kit.metadata.property.PropertyMetadata;
+import com.oracle.javafx.scenebuilder.kit.metadata.util.PropertyName;
+import javafx.geometry.Insets;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.LinearGradient;
+import javafx.scene.paint.RadialGradient;
+import javafx.scene.text.Font;
+import javafx.util.Duration;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * On-disk cache of the properties found by {@link MetadataIntrospector} in
+ * custom component classes.
+ * <p>
+ * An entry is keyed by the class name and by the content hash of the jar
+ * (or class file) defining each class between the component class and its
+ * first certified ancestor. Jar hashes are shared with library exploration
+ * (see {@link JarReportCache#getContentHash(Path)}). The key also includes a
+ * digest of the properties certified in the ancestors and of the hidden
+ * properties: introspection skips them, so an entry is obsolete as soon as
+ * they change. Classes whose code source is not a local file, or whose
+ * defaults cannot be written, are not cached and are introspected as usual.
+ * <p>
+ * New entries are written by {@link #save()}, which library exploration
+ * invokes when it ends. Entries stored outside an exploration are saved
+ * a few seconds later, in one write for a burst of introspections.
+ */
+public class IntrospectionCache {
+
+    private static final String FORMAT = "IntrospectionCache-2"; //NOI18N
+    private static final int MAX_ENTRY_COUNT = 1000;
+    private static final long SAVE_DELAY = 2; // seconds
+
+    private static final ScheduledExecutorService saver = Executors.newSingleThreadScheduledExecutor(r -> {
+        final Thread result = new Thread(r, IntrospectionCache.class.getSimpleName());
+        result.setDaemon(true);
+        return result;
+    });
+
+    private final Path cacheFile;
+    private final String environment;
+    private final Map<String, List<CachedProperty>> entries = new LinkedHashMap<>();
+    // Classes of a library usually share the same jar: hash it once
+    private final Map<String, String> jarHashes = new HashMap<>();
+    private final Map<ComponentClassMetadata, String> certifiedDigests = new IdentityHashMap<>();
+    private boolean loaded;
+    private boolean dirty;
+    private boolean savePending;
+
+    public IntrospectionCache(Path cacheFile) {
+        assert cacheFile != null;
+        this.cacheFile = cacheFile;
+        // Introspection results depend on JavaFX (certified and hidden
+        // properties are folded into each key, see makeKey())
+        this.environment = FORMAT + " " + System.getProperty("javafx.runtime.version"); //NOI18N
+    }
+
+    public Path getCacheFile() {
+        return cacheFile;
+    }
+
+    /**
+     * Writes the cache file if entries have been stored since it was
+     * last written.
+     *
+     * @throws IOException if the cache file cannot be written
+     */
+    public synchronized void save() throws IOException {
+        if (dirty) {
+            writeCacheFile();
+            dirty = false;
+        }
+    }
+
+    /*
+     * Package
+     */
+
+    /**
+     * Returns the cached properties of a component class, or null if the
+     * class is not cached or has changed since it was cached.
+     */
+    synchronized List<IntrospectedProperty> lookup(Class<?> componentClass, ComponentClassMetadata ancestorMetadata) {
+        List<IntrospectedProperty> result = null;
+
+        load();
+        final String key = makeKey(componentClass, ancestorMetadata);
+        final List<CachedProperty> cachedProperties = (key == null) ? null : entries.get(key);
+        if (cachedProperties != null) {
+            try {
+                final List<IntrospectedProperty> properties = new ArrayList<>();
+                for (CachedProperty cp : cachedProperties) {
+                    properties.add(cp.makeProperty(componentClass.getClassLoader()));
+                }
+                result = properties;
+            } catch(ClassNotFoundException | RuntimeException x) {
+                // Stale entry (eg enum type gone): introspection will replace it
+                entries.remove(key);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Records the properties freshly introspected from a component class.
+     * The cache file is written later (see {@link #save()}).
+     */
+    synchronized void store(Class<?> componentClass, ComponentClassMetadata ancestorMetadata,
+            List<IntrospectedProperty> properties) {
+        load();
+        final String key = makeKey(componentClass, ancestorMetadata);
+        if (key == null) {
+            return;
+        }
+
+        final List<CachedProperty> cachedProperties = new ArrayList<>();
+        for (IntrospectedProperty p : properties) {
+            final CachedProperty cp = CachedProperty.of(p);
+            if (cp == null) {
+                // A default value we cannot write: class is not cached
+                return;
+            }
+            cachedProperties.add(cp);
+        }
+
+        entries.remove(key);
+        entries.put(key, Collections.unmodifiableList(cachedProperties));
+        final Iterator<String> it = entries.keySet().iterator();
+        while (entries.size() > MAX_ENTRY_COUNT) {
+            it.next();
+            it.remove();
+        }
+
+        dirty = true;
+        if (savePending == false) {
+            savePending = true;
+            saver.schedule(this::savePending, SAVE_DELAY, TimeUnit.SECONDS);
+        }
+    }
+
+    /*
+     * Private
+     */
+
+    private void load() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+
+        if (Files.isRegularFile(cacheFile) == false) {
+            return;
+        }
+        try (DataInputStream dis = new DataInputStream(new BufferedInputStream(Files.newInputStream(cacheFile)))) {
+            if (environment.equals(dis.readUTF())) {
+                final int entryCount = dis.readInt();
+                for (int i = 0; i < entryCount; i++) {
+                    final String key = dis.readUTF();
+                    final int propertyCount = dis.readInt();
+                    final List<CachedProperty> cachedProperties = new ArrayList<>(propertyCount);
+                    for (int j = 0; j < propertyCount; j++) {
+                        cachedProperties.add(CachedProperty.read(dis));
+                    }
+                    entries.put(key, Collections.unmodifiableList(cachedProperties));
+                }
+            }
+        } catch(IOException | RuntimeException x) {
+            entries.clear();
+        }
+    }
+
+    private void savePending() {
+        synchronized(this) {
+            savePending = false;
+        }
+        try {
+            save();
+        } catch(IOException x) {
+            // Cache is an optimization: next session will introspect again
+        }
+    }
+
+    private void writeCacheFile() throws IOException {
+        final Path tmpFile = cacheFile.resolveSibling(cacheFile.getFileName() + ".tmp"); //NOI18N
+        try (DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmpFile)))) {
+            dos.writeUTF(environment);
+            dos.writeInt(entries.size());
+            for (Map.Entry<String, List<CachedProperty>> e : entries.entrySet()) {
+                dos.writeUTF(e.getKey());
+                dos.writeInt(e.getValue().size());
+                for (CachedProperty cp : e.getValue()) {
+                    cp.write(dos);
+                }
+            }
+        }
+        Files.move(tmpFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /*
+     * Class name followed by a digest of the code sources of the classes
+     * from componentClass up to its certified ancestor; null when one of
+     * them cannot be hashed.
+     */
+    private String makeKey(Class<?> componentClass, ComponentClassMetadata ancestorMetadata) {
+        final Class<?> stopClass = (ancestorMetadata == null) ? null : ancestorMetadata.getKlass();
+        final StringBuilder sb = new StringBuilder();
+        try {
+            for (Class<?> c = componentClass; (c != null) && (c != stopClass); c = c.getSuperclass()) {
+                final String hash = hashCodeSource(c);
+                if (hash == null) {
+                    return null;
+                }
+                sb.append(c.getName()).append(' ').append(hash).append('\n');
+            }
+        } catch(IOException x) {
+            return null;
+        }
+        sb.append(getCertifiedDigest(ancestorMetadata));
+        return componentClass.getName() + " " + digest(sb.toString().getBytes(StandardCharsets.UTF_8)); //NOI18N
+    }
+
+    /*
+     * Digest of the properties that introspection skips: the ones of the
+     * certified ancestors and the hidden ones.
+     */
+    private String getCertifiedDigest(ComponentClassMetadata ancestorMetadata) {
+        String result = certifiedDigests.get(ancestorMetadata);
+        if (result == null) {
+            final TreeSet<String> names = new TreeSet<>();
+            for (ComponentClassMetadata ccm = ancestorMetadata; ccm != null; ccm = ccm.getParentMetadata()) {
+                for (PropertyMetadata pm : ccm.getProperties()) {
+                    names.add(pm.getName().toString());
+                }
+            }
+            final StringBuilder sb = new StringBuilder();
+            sb.append(String.join(" ", names)); //NOI18N
+            sb.append('\n');
+            final TreeSet<String> hiddenNames = new TreeSet<>();
+            for (PropertyName name : Metadata.getMetadata().getHiddenProperties()) {
+                hiddenNames.add(name.toString());
+            }
+            sb.append(String.join(" ", hiddenNames)); //NOI18N
+            result = digest(sb.toString().getBytes(StandardCharsets.UTF_8));
+            certifiedDigests.put(ancestorMetadata, result);
+        }
+        return result;
+    }
+
+    private String hashCodeSource(Class<?> c) throws IOException {
+        final String result;
+
+        final CodeSource codeSource = c.getProtectionDomain().getCodeSource();
+        Path location;
+        try {
+            location = ((codeSource == null) || (codeSource.getLocation() == null)
+                    || "file".equals(codeSource.getLocation().getProtocol()) == false) //NOI18N
+                    ? null : Path.of(codeSource.getLocation().toURI());
+        } catch(URISyntaxException | IllegalArgumentException x) {
+            location = null;
+        }
+
+        if (location == null) {
+            result = null;
+        } else if (Files.isRegularFile(location)) {
+            final String jarKey = location + " " + Files.size(location) //NOI18N
+                    + " " + Files.getLastModifiedTime(location).toMillis(); //NOI18N
+            String jarHash = jarHashes.get(jarKey);
+            if (jarHash == null) {
+                jarHash = JarReportCache.getContentHash(location);
+                jarHashes.put(jarKey, jarHash);
+            }
+            result = jarHash;
+        } else if (Files.isDirectory(location)) {
+            // Folder of classes: hash the class file itself
+            final String resourceName = c.getName().replace('.', '/') + ".class"; //NOI18N
+            final Path classFile = location.resolve(resourceName);
+            result = Files.isRegularFile(classFile)
+                    ? digest(Files.readAllBytes(classFile)) : null;
+        } else {
+            result = null;
+        }
+
+        return result;
+    }
+
+    private static String digest(byte[] bytes) {
+        try {
+            final MessageDigest md = MessageDigest.getInstance("SHA-256"); //NOI18N
+            return HexFormat.of().formatHex(md.digest(bytes));
+        } catch(NoSuchAlgorithmException x) {
+            throw new IllegalStateException("Bug", x); //NOI18N
+        }
+    }
+
+    /*
+     * An IntrospectedProperty with its type and default value as text
+     */
+    private record CachedProperty(String name, String typeName, boolean readWrite,
+            int index, String defaultText) {
+
+        static CachedProperty of(IntrospectedProperty p) {
+            final CachedProperty result;
+            final Object v = p.defaultValue();
+
+            final String defaultText;
+            if (v == null) {
+                defaultText = null;
+            } else if (v instanceof Enum<?> e) {
+                defaultText = e.name();
+            } else if ((v instanceof Boolean) || (v instanceof Integer)
+                    || (v instanceof Double) || (v instanceof String)) {
+                defaultText = v.toString();
+            } else if ((v instanceof Color) || (v instanceof LinearGradient) || (v instanceof RadialGradient)) {
+                defaultText = v.getClass().getSimpleName() + " " + v; //NOI18N
+            } else if (v instanceof Font f) {
+                defaultText = f.getSize() + " " + f.getName(); //NOI18N
+            } else if (v instanceof Insets i) {
+                defaultText = i.getTop() + " " + i.getRight() + " " + i.getBottom() + " " + i.getLeft(); //NOI18N
+            } else if (v instanceof Duration d) {
+                defaultText = Double.toString(d.toMillis());
+            } else {
+                defaultText = "";
+            }
+
+            if ("".equals(defaultText) || (p.name().getResidenceClass() != null)) { //NOI18N
+                result = null;
+            } else {
+                result = new CachedProperty(p.name().getName(), p.type().getName(),
+                        p.readWrite(), p.index(), defaultText);
+            }
+            return result;
+        }
+
+        IntrospectedProperty makeProperty(ClassLoader classLoader) throws ClassNotFoundException {
+            final Class<?> type = Class.forName(typeName, false, classLoader);
+            return new IntrospectedProperty(new PropertyName(name), type, readWrite,
+                    makeDefaultValue(type), index);
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Object makeDefaultValue(Class<?> type) {
+            final Object result;
+
+            if (defaultText == null) {
+                result = null;
+            } else if (type.isEnum()) {
+                result = Enum.valueOf((Class<? extends Enum>) type, defaultText);
+            } else if (type == Boolean.class) {
+                result = Boolean.valueOf(defaultText);
+            } else if (type == Integer.class) {
+                result = Integer.valueOf(defaultText);
+            } else if (type == Double.class) {
+                result = Double.valueOf(defaultText);
+            } else if (type == String.class) {
+                result = defaultText;
+            } else if ((type == Color.class) || (type == javafx.scene.paint.Paint.class)) {
+                final int space = defaultText.indexOf(' ');
+                final String kind = defaultText.substring(0, space);
+                final String text = defaultText.substring(space + 1);
+                if (kind.equals("Color")) { //NOI18N
+                    result = Color.web(text);
+                } else if (kind.equals("LinearGradient")) { //NOI18N
+                    result = LinearGradient.valueOf(text);
+                } else {
+                    result = RadialGradient.valueOf(text);
+                }
+            } else if (type == Font.class) {
+                final int space = defaultText.indexOf(' ');
+                result = new Font(defaultText.substring(space + 1), Double.parseDouble(defaultText.substring(0, space)));
+            } else if (type == Insets.class) {
+                final String[] items = defaultText.split(" "); //NOI18N
+                result = new Insets(Double.parseDouble(items[0]), Double.parseDouble(items[1]),
+                        Double.parseDouble(items[2]), Double.parseDouble(items[3]));
+            } else if (type == Duration.class) {
+                result = new Duration(Double.parseDouble(defaultText));
+            } else {
+                throw new IllegalArgumentException("Unexpected default of type " + typeName); //NOI18N
+            }
+
+            return result;
+        }
+
+        void write(DataOutputStream dos) throws IOException {
+            dos.writeUTF(name);
+            dos.writeUTF(typeName);
+            dos.writeBoolean(readWrite);
+            dos.writeInt(index);
+            dos.writeBoolean(defaultText != null);
+            if (defaultText != null) {
+                dos.writeUTF(defaultText);
+            }
+        }
+
+        static CachedProperty read(DataInputStream dis) throws IOException {
+            return new CachedProperty(dis.readUTF(), dis.readUTF(), dis.readBoolean(), dis.readInt(),
+                    dis.readBoolean() ? dis.readUTF() : null);
+        }
+    }
+}
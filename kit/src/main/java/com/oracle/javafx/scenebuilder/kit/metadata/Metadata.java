@@ -65,12 +65,12 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.WeakHashMap;
+import java.util.function.Consumer;
 
 /**
  *
@@ -86,6 +86,20 @@ public class Metadata {
     private final Set<PropertyName> parentRelatedProperties = new HashSet<>();
     private final List<String> sectionNames = new ArrayList<>();
     private final Map<String, List<String>> subSectionMap = new HashMap<>();
+    // ClassValue keeps a table as long as its class: tables of custom
+    // classes are released with their class loader.
+    private final ClassValue<PropertyTable> propertyTables = new ClassValue<>() {
+        @Override
+        protected PropertyTable computeValue(Class<?> componentClass) {
+            final ComponentClassMetadata classMetadata = queryComponentMetadata(componentClass);
+            return (classMetadata == null) ? PropertyTable.EMPTY : new PropertyTable(classMetadata);
+        }
+    };
+    private Intersection lastIntersection;
+    private volatile IntrospectionCache introspectionCache;
+    private final Map<Class<?>, Runnable> propertyLoaders = new HashMap<>();
+    private final Object propertyLock = new Object();
+    private final Consumer<ComponentClassMetadata> propertyLoader = this::loadProperties;
     
     public final InspectorPathComparator INSPECTOR_PATH_COMPARATOR
             = new InspectorPathComparator(sectionNames, subSectionMap);
@@ -123,7 +137,7 @@ public class Metadata {
                     ancestorClass = ancestorClass.getSuperclass();
                 }
                 final MetadataIntrospector introspector
-                        = new MetadataIntrospector(componentClass, ancestorMetadata);
+                        = new MetadataIntrospector(componentClass, ancestorMetadata, introspectionCache);
                 result = introspector.introspect();
                 customComponentClassMap.put(componentClass, result);
             }
@@ -132,73 +146,38 @@ public class Metadata {
         return result;
     }
     
+    public IntrospectionCache getIntrospectionCache() {
+        return introspectionCache;
+    }
+
+    /**
+     * Sets the cache where custom component introspection is persisted
+     * (null disables persistence).
+     *
+     * @param introspectionCache the cache or null
+     */
+    public void setIntrospectionCache(IntrospectionCache introspectionCache) {
+        this.introspectionCache = introspectionCache;
+    }
+    
     public Set<PropertyMetadata> queryProperties(Class<?> componentClass) {
-        final Map<PropertyName, PropertyMetadata> result = new HashMap<>();
-        ComponentClassMetadata classMetadata = queryComponentMetadata(componentClass);
-        
-        while (classMetadata != null) {
-            for (PropertyMetadata pm : classMetadata.getProperties()) {
-                if (result.containsKey(pm.getName()) == false) {
-                    result.put(pm.getName(), pm);
-                }
-            }
-            classMetadata = classMetadata.getParentMetadata();
-        }
-        
-        return new HashSet<>(result.values());
+        return propertyTables.get(componentClass).getProperties();
     }
     
-    public Set<PropertyMetadata> queryProperties(Collection<Class<?>> componentClasses) {
-        final Set<PropertyMetadata> result = new HashSet<>();
-        
-        int count = 0;
-        for (Class<?> componentClass : componentClasses) {
-            final Set<PropertyMetadata> propertyMetadata = queryProperties(componentClass);
-            if (count == 0) {
-                result.addAll(propertyMetadata);
-            } else {
-                result.retainAll(propertyMetadata);
-            }
-            count++;
-        }
-        
-        return result;
+    public synchronized Set<PropertyMetadata> queryProperties(Collection<Class<?>> componentClasses) {
+        return queryIntersection(componentClasses).properties();
     }
     
     public Set<ComponentPropertyMetadata> queryComponentProperties(Class<?> componentClass) {
-        final Set<ComponentPropertyMetadata> result = new HashSet<>();
-        
-        for (PropertyMetadata propertyMetadata : queryProperties(Arrays.asList(componentClass))) {
-            if (propertyMetadata instanceof ComponentPropertyMetadata) {
-                result.add((ComponentPropertyMetadata) propertyMetadata);
-            }
-        }
-        return result;
+        return propertyTables.get(componentClass).getComponentProperties();
     }
     
-    public Set<ValuePropertyMetadata> queryValueProperties(Set<Class<?>> componentClasses) {
-        final Set<ValuePropertyMetadata> result = new HashSet<>();
-        for (PropertyMetadata propertyMetadata : queryProperties(componentClasses)) {
-            if (propertyMetadata instanceof ValuePropertyMetadata) {
-                result.add((ValuePropertyMetadata) propertyMetadata);
-            }
-        }
-        return result;
+    public synchronized Set<ValuePropertyMetadata> queryValueProperties(Set<Class<?>> componentClasses) {
+        return queryIntersection(componentClasses).valueProperties();
     }
     
     public PropertyMetadata queryProperty(Class<?> componentClass, PropertyName targetName) {
-        final Set<PropertyMetadata> propertyMetadataSet = queryProperties(componentClass);
-        final Iterator<PropertyMetadata> iterator = propertyMetadataSet.iterator();
-        PropertyMetadata result = null;
-                
-        while ((result == null) && iterator.hasNext()) {
-            final PropertyMetadata propertyMetadata = iterator.next();
-            if (propertyMetadata.getName().equals(targetName)) {
-                result = propertyMetadata;
-            }
-        }
-        
-        return result;
+        return propertyTables.get(componentClass).lookup(targetName);
     }
 
     public ValuePropertyMetadata queryValueProperty(FXOMInstance fxomInstance, PropertyName targetName) {
@@ -252,6 +231,71 @@ public class Metadata {
     }
 
 
+    /*
+     * Private
+     */
+
+    /*
+     * Properties shared by a set of component classes. The last one is
+     * memoized: the inspector queries the same selection again and again.
+     */
+    private record Intersection(Set<Class<?>> componentClasses,
+            Set<PropertyMetadata> properties,
+            Set<ValuePropertyMetadata> valueProperties) {
+
+        boolean matches(Collection<Class<?>> classes) {
+            return (componentClasses.size() == classes.size())
+                    && componentClasses.containsAll(classes);
+        }
+    }
+
+    private Intersection queryIntersection(Collection<Class<?>> componentClasses) {
+        assert Thread.holdsLock(this);
+
+        if ((lastIntersection == null) || (lastIntersection.matches(componentClasses) == false)) {
+            lastIntersection = makeIntersection(componentClasses);
+        }
+        return lastIntersection;
+    }
+
+    private Intersection makeIntersection(Collection<Class<?>> componentClasses) {
+        final Set<PropertyMetadata> properties;
+        final Set<ValuePropertyMetadata> valueProperties;
+
+        final List<PropertyTable> tables = new ArrayList<>();
+        for (Class<?> componentClass : componentClasses) {
+            tables.add(propertyTables.get(componentClass));
+        }
+
+        if (tables.isEmpty()) {
+            properties = Collections.emptySet();
+            valueProperties = Collections.emptySet();
+        } else if (tables.size() == 1) {
+            properties = tables.get(0).getProperties();
+            valueProperties = tables.get(0).getValueProperties();
+        } else {
+            final Set<PropertyMetadata> shared = new HashSet<>();
+            final Set<ValuePropertyMetadata> sharedValues = new HashSet<>();
+            for (PropertyMetadata pm : tables.get(0).getProperties()) {
+                boolean inAll = true;
+                for (int i = 1; inAll && (i < tables.size()); i++) {
+                    inAll = tables.get(i).getProperties().contains(pm);
+                }
+                if (inAll) {
+                    shared.add(pm);
+                    if (pm instanceof ValuePropertyMetadata vpm) {
+                        sharedValues.add(vpm);
+                    }
+                }
+            }
+            properties = Collections.unmodifiableSet(shared);
+            valueProperties = Collections.unmodifiableSet(sharedValues);
+        }
+
+        return new Intersection(new HashSet<>(componentClasses), properties, valueProperties);
+    }
+
+
     // Abstract Component Classes
 
     public static final ComponentClassMetadata NodeMetadata =
@@ -1332,4722 +1376,6870 @@ public class Metadata {
 
     // Property Metadata
 
-    private final ValuePropertyMetadata absolutePropertyMetadata =
-            new BooleanPropertyMetadata(
-                absoluteName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 0));
-    private final ValuePropertyMetadata acceleratorPropertyMetadata =
-            new KeyCombinationPropertyMetadata(
-                acceleratorName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 1));
-    private final ValuePropertyMetadata accessibleHelpPropertyMetadata =
-            new StringPropertyMetadata(
-                accessibleHelpName,
-                true, /* readWrite */
-                "", /* defaultValue */
-                new InspectorPath("Properties", "Accessibility", 1));
-    private final ValuePropertyMetadata accessibleRole_NODE_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                accessibleRoleName,
-                javafx.scene.AccessibleRole.class,
-                true, /* readWrite */
-                javafx.scene.AccessibleRole.NODE, /* defaultValue */
-                new InspectorPath("Properties", "Accessibility", 2));
-    private final ValuePropertyMetadata accessibleRole_BUTTON_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                accessibleRoleName,
-                javafx.scene.AccessibleRole.class,
-                true, /* readWrite */
-                javafx.scene.AccessibleRole.BUTTON, /* defaultValue */
-                new InspectorPath("Properties", "Accessibility", 2));
-    private final ValuePropertyMetadata accessibleRole_TOGGLE_BUTTON_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                accessibleRoleName,
-                javafx.scene.AccessibleRole.class,
-                true, /* readWrite */
-                javafx.scene.AccessibleRole.TOGGLE_BUTTON, /* defaultValue */
-                new InspectorPath("Properties", "Accessibility", 2));
-    private final ValuePropertyMetadata accessibleRole_CHECK_BOX_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                accessibleRoleName,
-                javafx.scene.AccessibleRole.class,
-                true, /* readWrite */
-                javafx.scene.AccessibleRole.CHECK_BOX, /* defaultValue */
-                new InspectorPath("Properties", "Accessibility", 2));
-    private final ValuePropertyMetadata accessibleRole_COMBO_BOX_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                accessibleRoleName,
-                javafx.scene.AccessibleRole.class,
-                true, /* readWrite */
-                javafx.scene.AccessibleRole.COMBO_BOX, /* defaultValue */
-                new InspectorPath("Properties", "Accessibility", 2));
-    private final ValuePropertyMetadata accessibleRole_DATE_PICKER_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                accessibleRoleName,
-                javafx.scene.AccessibleRole.class,
-                true, /* readWrite */
-                javafx.scene.AccessibleRole.DATE_PICKER, /* defaultValue */
-                new InspectorPath("Properties", "Accessibility", 2));
-    private final ValuePropertyMetadata accessibleRole_HYPERLINK_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                accessibleRoleName,
-                javafx.scene.AccessibleRole.class,
-                true, /* readWrite */
-                javafx.scene.AccessibleRole.HYPERLINK, /* defaultValue */
-                new InspectorPath("Properties", "Accessibility", 2));
-    private final ValuePropertyMetadata accessibleRole_IMAGE_VIEW_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                accessibleRoleName,
-                javafx.scene.AccessibleRole.class,
-                true, /* readWrite */
-                javafx.scene.AccessibleRole.IMAGE_VIEW, /* defaultValue */
-                new InspectorPath("Properties", "Accessibility", 2));
-    private final ValuePropertyMetadata accessibleRole_TEXT_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                accessibleRoleName,
-                javafx.scene.AccessibleRole.class,
-                true, /* readWrite */
-                javafx.scene.AccessibleRole.TEXT, /* defaultValue */
-                new InspectorPath("Properties", "Accessibility", 2));
-    private final ValuePropertyMetadata accessibleRole_LIST_VIEW_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                accessibleRoleName,
-                javafx.scene.AccessibleRole.class,
-                true, /* readWrite */
-                javafx.scene.AccessibleRole.LIST_VIEW, /* defaultValue */
-                new InspectorPath("Properties", "Accessibility", 2));
-    private final ValuePropertyMetadata accessibleRole_MENU_BAR_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                accessibleRoleName,
-                javafx.scene.AccessibleRole.class,
-                true, /* readWrite */
-                javafx.scene.AccessibleRole.MENU_BAR, /* defaultValue */
-                new InspectorPath("Properties", "Accessibility", 2));
-    private final ValuePropertyMetadata accessibleRole_MENU_BUTTON_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                accessibleRoleName,
-                javafx.scene.AccessibleRole.class,
-                true, /* readWrite */
-                javafx.scene.AccessibleRole.MENU_BUTTON, /* defaultValue */
-                new InspectorPath("Properties", "Accessibility", 2));
-    private final ValuePropertyMetadata accessibleRole_PARENT_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                accessibleRoleName,
-                javafx.scene.AccessibleRole.class,
-                true, /* readWrite */
-                javafx.scene.AccessibleRole.PARENT, /* defaultValue */
-                new InspectorPath("Properties", "Accessibility", 2));
-    private final ValuePropertyMetadata accessibleRole_PAGINATION_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                accessibleRoleName,
-                javafx.scene.AccessibleRole.class,
-                true, /* readWrite */
-                javafx.scene.AccessibleRole.PAGINATION, /* defaultValue */
-                new InspectorPath("Properties", "Accessibility", 2));
-    private final ValuePropertyMetadata accessibleRole_PASSWORD_FIELD_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                accessibleRoleName,
-                javafx.scene.AccessibleRole.class,
-                true, /* readWrite */
-                javafx.scene.AccessibleRole.PASSWORD_FIELD, /* defaultValue */
-                new InspectorPath("Properties", "Accessibility", 2));
-    private final ValuePropertyMetadata accessibleRole_PROGRESS_INDICATOR_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                accessibleRoleName,
-                javafx.scene.AccessibleRole.class,
-                true, /* readWrite */
-                javafx.scene.AccessibleRole.PROGRESS_INDICATOR, /* defaultValue */
-                new InspectorPath("Properties", "Accessibility", 2));
-    private final ValuePropertyMetadata accessibleRole_RADIO_BUTTON_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                accessibleRoleName,
-                javafx.scene.AccessibleRole.class,
-                true, /* readWrite */
-                javafx.scene.AccessibleRole.RADIO_BUTTON, /* defaultValue */
-                new InspectorPath("Properties", "Accessibility", 2));
-    private final ValuePropertyMetadata accessibleRole_SCROLL_BAR_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                accessibleRoleName,
-                javafx.scene.AccessibleRole.class,
-                true, /* readWrite */
-                javafx.scene.AccessibleRole.SCROLL_BAR, /* defaultValue */
-                new InspectorPath("Properties", "Accessibility", 2));
-    private final ValuePropertyMetadata accessibleRole_SCROLL_PANE_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                accessibleRoleName,
-                javafx.scene.AccessibleRole.class,
-                true, /* readWrite */
-                javafx.scene.AccessibleRole.SCROLL_PANE, /* defaultValue */
-                new InspectorPath("Properties", "Accessibility", 2));
-    private final ValuePropertyMetadata accessibleRole_SLIDER_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                accessibleRoleName,
-                javafx.scene.AccessibleRole.class,
-                true, /* readWrite */
-                javafx.scene.AccessibleRole.SLIDER, /* defaultValue */
-                new InspectorPath("Properties", "Accessibility", 2));
-    private final ValuePropertyMetadata accessibleRole_SPINNER_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                accessibleRoleName,
-                javafx.scene.AccessibleRole.class,
-                true, /* readWrite */
-                javafx.scene.AccessibleRole.SPINNER, /* defaultValue */
-                new InspectorPath("Properties", "Accessibility", 2));
-    private final ValuePropertyMetadata accessibleRole_SPLIT_MENU_BUTTON_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                accessibleRoleName,
-                javafx.scene.AccessibleRole.class,
-                true, /* readWrite */
-                javafx.scene.AccessibleRole.SPLIT_MENU_BUTTON, /* defaultValue */
-                new InspectorPath("Properties", "Accessibility", 2));
-    private final ValuePropertyMetadata accessibleRole_TAB_PANE_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                accessibleRoleName,
-                javafx.scene.AccessibleRole.class,
-                true, /* readWrite */
-                javafx.scene.AccessibleRole.TAB_PANE, /* defaultValue */
-                new InspectorPath("Properties", "Accessibility", 2));
-    private final ValuePropertyMetadata accessibleRole_TABLE_VIEW_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                accessibleRoleName,
-                javafx.scene.AccessibleRole.class,
-                true, /* readWrite */
-                javafx.scene.AccessibleRole.TABLE_VIEW, /* defaultValue */
-                new InspectorPath("Properties", "Accessibility", 2));
-    private final ValuePropertyMetadata accessibleRole_TEXT_AREA_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                accessibleRoleName,
-                javafx.scene.AccessibleRole.class,
-                true, /* readWrite */
-                javafx.scene.AccessibleRole.TEXT_AREA, /* defaultValue */
-                new InspectorPath("Properties", "Accessibility", 2));
-    private final ValuePropertyMetadata accessibleRole_TEXT_FIELD_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                accessibleRoleName,
-                javafx.scene.AccessibleRole.class,
-                true, /* readWrite */
-                javafx.scene.AccessibleRole.TEXT_FIELD, /* defaultValue */
-                new InspectorPath("Properties", "Accessibility", 2));
-    private final ValuePropertyMetadata accessibleRole_TITLED_PANE_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                accessibleRoleName,
-                javafx.scene.AccessibleRole.class,
-                true, /* readWrite */
-                javafx.scene.AccessibleRole.TITLED_PANE, /* defaultValue */
-                new InspectorPath("Properties", "Accessibility", 2));
-    private final ValuePropertyMetadata accessibleRole_TOOL_BAR_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                accessibleRoleName,
-                javafx.scene.AccessibleRole.class,
-                true, /* readWrite */
-                javafx.scene.AccessibleRole.TOOL_BAR, /* defaultValue */
-                new InspectorPath("Properties", "Accessibility", 2));
-    private final ValuePropertyMetadata accessibleRole_TREE_TABLE_VIEW_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                accessibleRoleName,
-                javafx.scene.AccessibleRole.class,
-                true, /* readWrite */
-                javafx.scene.AccessibleRole.TREE_TABLE_VIEW, /* defaultValue */
-                new InspectorPath("Properties", "Accessibility", 2));
-    private final ValuePropertyMetadata accessibleRole_TREE_VIEW_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                accessibleRoleName,
-                javafx.scene.AccessibleRole.class,
-                true, /* readWrite */
-                javafx.scene.AccessibleRole.TREE_VIEW, /* defaultValue */
-                new InspectorPath("Properties", "Accessibility", 2));
-    private final ValuePropertyMetadata accessibleRoleDescriptionPropertyMetadata =
-            new StringPropertyMetadata(
-                accessibleRoleDescriptionName,
-                true, /* readWrite */
-                "", /* defaultValue */
-                new InspectorPath("Properties", "Accessibility", 3));
-    private final ValuePropertyMetadata accessibleTextPropertyMetadata =
-            new StringPropertyMetadata(
-                accessibleTextName,
-                true, /* readWrite */
-                "", /* defaultValue */
-                new InspectorPath("Properties", "Accessibility", 0));
-    private final ValuePropertyMetadata alignment_TOP_LEFT_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                alignmentName,
-                javafx.geometry.Pos.class,
-                true, /* readWrite */
-                javafx.geometry.Pos.TOP_LEFT, /* defaultValue */
-                new InspectorPath("Properties", "Node", 0));
-    private final ValuePropertyMetadata alignment_CENTER_LEFT_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                alignmentName,
-                javafx.geometry.Pos.class,
-                true, /* readWrite */
-                javafx.geometry.Pos.CENTER_LEFT, /* defaultValue */
-                new InspectorPath("Properties", "Node", 0));
-    private final ValuePropertyMetadata alignment_CENTER_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                alignmentName,
-                javafx.geometry.Pos.class,
-                true, /* readWrite */
-                javafx.geometry.Pos.CENTER, /* defaultValue */
-                new InspectorPath("Properties", "Node", 0));
-    private final ValuePropertyMetadata allowIndeterminatePropertyMetadata =
-            new BooleanPropertyMetadata(
-                allowIndeterminateName,
-                true, /* readWrite */
-                false, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 2));
-    private final ValuePropertyMetadata alternativeColumnFillVisiblePropertyMetadata =
-            new BooleanPropertyMetadata(
-                alternativeColumnFillVisibleName,
-                true, /* readWrite */
-                false, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 88));
-    private final ValuePropertyMetadata alternativeRowFillVisiblePropertyMetadata =
-            new BooleanPropertyMetadata(
-                alternativeRowFillVisibleName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 94));
-    private final ValuePropertyMetadata alwaysOnTopPropertyMetadata =
-            new BooleanPropertyMetadata(
-                alwaysOnTopName,
-                true, /* readWrite */
-                false, /* defaultValue */
-                new InspectorPath("Layout", "Extras", 9));
-    private final ValuePropertyMetadata anchorLocationPropertyMetadata =
-            new EnumerationPropertyMetadata(
-                anchorLocationName,
-                javafx.stage.PopupWindow.AnchorLocation.class,
-                true, /* readWrite */
-                javafx.stage.PopupWindow.AnchorLocation.CONTENT_TOP_LEFT, /* defaultValue */
-                new InspectorPath("Layout", "Position", 11));
-    private final ValuePropertyMetadata anchorXPropertyMetadata =
-            new DoublePropertyMetadata(
-                anchorXName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                Double.NaN, /* defaultValue */
-                new InspectorPath("Layout", "Position", 9));
-    private final ValuePropertyMetadata anchorYPropertyMetadata =
-            new DoublePropertyMetadata(
-                anchorYName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                Double.NaN, /* defaultValue */
-                new InspectorPath("Layout", "Position", 10));
-    private final ValuePropertyMetadata animatedPropertyMetadata =
-            new BooleanPropertyMetadata(
-                animatedName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 43));
-    private final ValuePropertyMetadata arcHeightPropertyMetadata =
-            new DoublePropertyMetadata(
-                arcHeightName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 44));
-    private final ValuePropertyMetadata arcWidthPropertyMetadata =
-            new DoublePropertyMetadata(
-                arcWidthName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 3));
-    private final ValuePropertyMetadata autoFixPropertyMetadata =
-            new BooleanPropertyMetadata(
-                autoFixName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 4));
-    private final ValuePropertyMetadata autoHide_true_PropertyMetadata =
-            new BooleanPropertyMetadata(
-                autoHideName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 45));
-    private final ValuePropertyMetadata autoHide_false_PropertyMetadata =
-            new BooleanPropertyMetadata(
-                autoHideName,
-                true, /* readWrite */
-                false, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 45));
-    private final ValuePropertyMetadata autoRangingPropertyMetadata =
-            new BooleanPropertyMetadata(
-                autoRangingName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 72));
-    private final ValuePropertyMetadata autoSizeChildrenPropertyMetadata =
-            new BooleanPropertyMetadata(
-                autoSizeChildrenName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Layout", "Extras", 0));
-    private final ValuePropertyMetadata axisSortingPolicyPropertyMetadata =
-            new EnumerationPropertyMetadata(
-                axisSortingPolicyName,
-                javafx.scene.chart.LineChart.SortingPolicy.class,
-                true, /* readWrite */
-                javafx.scene.chart.LineChart.SortingPolicy.X_AXIS, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 130));
-    private final ValuePropertyMetadata barGapPropertyMetadata =
-            new DoublePropertyMetadata(
-                barGapName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                4.0, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 77));
-    private final ValuePropertyMetadata baselineOffsetPropertyMetadata =
-            new DoublePropertyMetadata(
-                baselineOffsetName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                false, /* readWrite */
-                null, /* No defaultValue for R/O property */
-                new InspectorPath("Layout", "Extras", 1));
-    private final ValuePropertyMetadata blendModePropertyMetadata =
-            new EnumerationPropertyMetadata(
-                blendModeName,
-                javafx.scene.effect.BlendMode.class,
-                "SRC_OVER", /* null equivalent */
-                true, /* readWrite */
-                new InspectorPath("Properties", "Extras", 0));
-    private final ValuePropertyMetadata blockIncrementPropertyMetadata =
-            new DoublePropertyMetadata(
-                blockIncrementName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                10.0, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 73));
-    private final ComponentPropertyMetadata bottomPropertyMetadata =
-            new ComponentPropertyMetadata(
-                bottomName,
-                NodeMetadata,
-                false); /* collection */
-    private final ValuePropertyMetadata boundsInLocalPropertyMetadata =
-            new BoundsPropertyMetadata(
-                boundsInLocalName,
-                false, /* readWrite */
-                null, /* No defaultValue for R/O property */
-                new InspectorPath("Layout", "Bounds", 2));
-    private final ValuePropertyMetadata boundsInParentPropertyMetadata =
-            new BoundsPropertyMetadata(
-                boundsInParentName,
-                false, /* readWrite */
-                null, /* No defaultValue for R/O property */
-                new InspectorPath("Layout", "Bounds", 3));
-    private final ValuePropertyMetadata boundsTypePropertyMetadata =
-            new EnumerationPropertyMetadata(
-                boundsTypeName,
-                javafx.scene.text.TextBoundsType.class,
-                true, /* readWrite */
-                javafx.scene.text.TextBoundsType.LOGICAL, /* defaultValue */
-                new InspectorPath("Layout", "Extras", 2));
-    private final ValuePropertyMetadata buttonCellPropertyMetadata =
-            new ListCellPropertyMetadata(
-                buttonCellName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 40));
-    private final ValuePropertyMetadata buttonMinWidthPropertyMetadata =
-            new DoublePropertyMetadata(
-                buttonMinWidthName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                70.0, /* defaultValue */
-                new InspectorPath("Layout", "Size", 0));
-    private final ValuePropertyMetadata buttonOrderPropertyMetadata =
-            new StringPropertyMetadata(
-                buttonOrderName,
-                true, /* readWrite */
-                "L_HE+U+FBIX_NCYOA_R", /* defaultValue */
-                new InspectorPath("Properties", "Specific", 5));
-    private final ComponentPropertyMetadata buttonsPropertyMetadata =
-            new ComponentPropertyMetadata(
-                buttonsName,
-                NodeMetadata,
-                true); /* collection */
-    private final ValuePropertyMetadata buttonTypesPropertyMetadata =
-            new ButtonTypeListPropertyMetadata(
-                buttonTypesName,
-                true, /* readWrite */
-                Collections.emptyList(), /* defaultValue */
-                new InspectorPath("Properties", "Specific", 18));
-    private final ValuePropertyMetadata cachePropertyMetadata =
-            new BooleanPropertyMetadata(
-                cacheName,
-                true, /* readWrite */
-                false, /* defaultValue */
-                new InspectorPath("Properties", "Extras", 2));
-    private final ValuePropertyMetadata cacheHintPropertyMetadata =
-            new EnumerationPropertyMetadata(
-                cacheHintName,
-                javafx.scene.CacheHint.class,
-                true, /* readWrite */
-                javafx.scene.CacheHint.DEFAULT, /* defaultValue */
-                new InspectorPath("Properties", "Extras", 3));
-    private final ValuePropertyMetadata cacheShapePropertyMetadata =
-            new BooleanPropertyMetadata(
-                cacheShapeName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Properties", "Node", 7));
-    private final ValuePropertyMetadata cancelButtonPropertyMetadata =
-            new BooleanPropertyMetadata(
-                cancelButtonName,
-                true, /* readWrite */
-                false, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 46));
-    private final ValuePropertyMetadata categoriesPropertyMetadata =
-            new StringListPropertyMetadata(
-                categoriesName,
-                true, /* readWrite */
-                Collections.emptyList(), /* defaultValue */
-                new InspectorPath("Properties", "Specific", 78));
-    private final ValuePropertyMetadata categoryGapPropertyMetadata =
-            new DoublePropertyMetadata(
-                categoryGapName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                10.0, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 79));
-    private final ValuePropertyMetadata categorySpacingPropertyMetadata =
-            new DoublePropertyMetadata(
-                categorySpacingName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                false, /* readWrite */
-                null, /* No defaultValue for R/O property */
-                new InspectorPath("Properties", "Specific", 80));
-    private final ComponentPropertyMetadata centerPropertyMetadata =
-            new ComponentPropertyMetadata(
-                centerName,
-                NodeMetadata,
-                false); /* collection */
-    private final ValuePropertyMetadata centerShapePropertyMetadata =
-            new BooleanPropertyMetadata(
-                centerShapeName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Properties", "Node", 8));
-    private final ValuePropertyMetadata centerXPropertyMetadata =
-            new DoublePropertyMetadata(
-                centerXName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Position", 0));
-    private final ValuePropertyMetadata centerYPropertyMetadata =
-            new DoublePropertyMetadata(
-                centerYName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Position", 1));
-    private final ComponentPropertyMetadata children_c1_PropertyMetadata =
-            new ComponentPropertyMetadata(
-                childrenName,
-                NodeMetadata,
-                true); /* collection */
-    private final ComponentPropertyMetadata children_empty_PropertyMetadata =
-            new ComponentPropertyMetadata(
-                childrenName,
-                NodeMetadata,
-                true); /* collection */
-    private final ComponentPropertyMetadata clipPropertyMetadata =
-            new ComponentPropertyMetadata(
-                clipName,
-                NodeMetadata,
-                false); /* collection */
-    private final ValuePropertyMetadata clockwisePropertyMetadata =
-            new BooleanPropertyMetadata(
-                clockwiseName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 89));
-    private final ValuePropertyMetadata closablePropertyMetadata =
-            new BooleanPropertyMetadata(
-                closableName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 6));
-    private final ComponentPropertyMetadata collapsedContentPropertyMetadata =
-            new ComponentPropertyMetadata(
-                collapsedContentName,
-                NodeMetadata,
-                false /* collection */
-            );
-    private final ValuePropertyMetadata collapsiblePropertyMetadata =
-            new BooleanPropertyMetadata(
-                collapsibleName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 62));
-    private final ValuePropertyMetadata colorPropertyMetadata =
-            new ColorPropertyMetadata(
-                colorName,
-                true, /* readWrite */
-                javafx.scene.paint.Color.WHITE, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 7));
-    private final ComponentPropertyMetadata columnConstraintsPropertyMetadata =
-            new ComponentPropertyMetadata(
-                columnConstraintsName,
-                ColumnConstraintsMetadata,
-                true); /* collection */
-    private final ValuePropertyMetadata columnHalignmentPropertyMetadata =
-            new EnumerationPropertyMetadata(
-                columnHalignmentName,
-                javafx.geometry.HPos.class,
-                true, /* readWrite */
-                javafx.geometry.HPos.LEFT, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 63));
-    private final ValuePropertyMetadata columnResizePolicy_TABLEVIEW_UNCONSTRAINED_PropertyMetadata =
-            new TableViewResizePolicyPropertyMetadata(
-                columnResizePolicyName,
-                true, /* readWrite */
-                javafx.scene.control.TableView.UNCONSTRAINED_RESIZE_POLICY, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 34));
-    private final ValuePropertyMetadata columnResizePolicy_TREETABLEVIEW_UNCONSTRAINED_PropertyMetadata =
-            new TreeTableViewResizePolicyPropertyMetadata(
-                columnResizePolicyName,
-                true, /* readWrite */
-                javafx.scene.control.TreeTableView.UNCONSTRAINED_RESIZE_POLICY, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 34));
-    private final ComponentPropertyMetadata columns_TableColumn_PropertyMetadata =
-            new ComponentPropertyMetadata(
-                columnsName,
-                TableColumnMetadata,
-                true); /* collection */
-    private final ComponentPropertyMetadata columns_TreeTableColumn_PropertyMetadata =
-            new ComponentPropertyMetadata(
-                columnsName,
-                TreeTableColumnMetadata,
-                true); /* collection */
-    private final ValuePropertyMetadata consumeAutoHidingEventsPropertyMetadata =
-            new BooleanPropertyMetadata(
-                consumeAutoHidingEventsName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 64));
-    private final ComponentPropertyMetadata content_EXPANDEDPANEL_PropertyMetadata =
-            new ComponentPropertyMetadata(
-                contentName,
-                NodeMetadata,
-                false); /* collection */
-    private final ComponentPropertyMetadata content_Node_NULL_PropertyMetadata =
-            new ComponentPropertyMetadata(
-                contentName,
-                NodeMetadata,
-                false); /* collection */
-    private final ValuePropertyMetadata content_String_PropertyMetadata =
-            new StringPropertyMetadata(
-                contentName,
-                true, /* readWrite */
-                "", /* defaultValue */
-                new InspectorPath("Properties", "Specific", 10));
-    private final ComponentPropertyMetadata content_Node_SEPARATOR_PropertyMetadata =
-            new ComponentPropertyMetadata(
-                contentName,
-                NodeMetadata,
-                false); /* collection */
-    private final ValuePropertyMetadata contentBiasPropertyMetadata =
-            new EnumerationPropertyMetadata(
-                contentBiasName,
-                javafx.geometry.Orientation.class,
-                "NONE", /* null equivalent */
-                false, /* readWrite */
-                new InspectorPath("Layout", "Extras", 4));
-    private final ValuePropertyMetadata contentDisplayPropertyMetadata =
-            new EnumerationPropertyMetadata(
-                contentDisplayName,
-                javafx.scene.control.ContentDisplay.class,
-                true, /* readWrite */
-                javafx.scene.control.ContentDisplay.LEFT, /* defaultValue */
-                new InspectorPath("Properties", "Graphic", 1));
-    private final ValuePropertyMetadata contentTextPropertyMetadata =
-            new StringPropertyMetadata(
-                contentTextName,
-                true, /* readWrite */
-                "", /* defaultValue */
-                new InspectorPath("Properties", "Text", 2));
-    private final ComponentPropertyMetadata contextMenuPropertyMetadata =
-            new ComponentPropertyMetadata(
-                contextMenuName,
-                ContextMenuMetadata,
-                false); /* collection */
-    private final ValuePropertyMetadata contextMenuEnabledPropertyMetadata =
-            new BooleanPropertyMetadata(
-                contextMenuEnabledName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 11));
-    private final ValuePropertyMetadata controlXPropertyMetadata =
-            new DoublePropertyMetadata(
-                controlXName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Position", 14));
-    private final ValuePropertyMetadata controlX1PropertyMetadata =
-            new DoublePropertyMetadata(
-                controlX1Name,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Position", 16));
-    private final ValuePropertyMetadata controlX2PropertyMetadata =
-            new DoublePropertyMetadata(
-                controlX2Name,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Position", 18));
-    private final ValuePropertyMetadata controlYPropertyMetadata =
-            new DoublePropertyMetadata(
-                controlYName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Position", 15));
-    private final ValuePropertyMetadata controlY1PropertyMetadata =
-            new DoublePropertyMetadata(
-                controlY1Name,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Position", 17));
-    private final ValuePropertyMetadata controlY2PropertyMetadata =
-            new DoublePropertyMetadata(
-                controlY2Name,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Position", 19));
-    private final ValuePropertyMetadata createSymbolsPropertyMetadata =
-            new BooleanPropertyMetadata(
-                createSymbolsName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 81));
-    private final ValuePropertyMetadata cullFacePropertyMetadata =
-            new EnumerationPropertyMetadata(
-                cullFaceName,
-                javafx.scene.shape.CullFace.class,
-                true, /* readWrite */
-                javafx.scene.shape.CullFace.BACK, /* defaultValue */
-                new InspectorPath("Properties", "3D", 8));
-    private final ValuePropertyMetadata currentPageIndexPropertyMetadata =
-            new IntegerPropertyMetadata(
-                currentPageIndexName,
-                true, /* readWrite */
-                0, /* defaultValue */
-                new InspectorPath("Properties", "Pagination", 0));
-    private final ValuePropertyMetadata cursor_HAND_PropertyMetadata =
-            new CursorPropertyMetadata(
-                cursorName,
-                true, /* readWrite */
-                javafx.scene.Cursor.HAND, /* defaultValue */
-                new InspectorPath("Properties", "Node", 13));
-    private final ValuePropertyMetadata cursor_NULL_PropertyMetadata =
-            new CursorPropertyMetadata(
-                cursorName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Properties", "Node", 13));
-    private final ValuePropertyMetadata defaultButtonPropertyMetadata =
-            new BooleanPropertyMetadata(
-                defaultButtonName,
-                true, /* readWrite */
-                false, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 13));
-    private final ValuePropertyMetadata depthPropertyMetadata =
-            new DoublePropertyMetadata(
-                depthName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                2.0, /* defaultValue */
-                new InspectorPath("Layout", "Size", 16));
-    private final ValuePropertyMetadata depthTestPropertyMetadata =
-            new EnumerationPropertyMetadata(
-                depthTestName,
-                javafx.scene.DepthTest.class,
-                true, /* readWrite */
-                javafx.scene.DepthTest.INHERIT, /* defaultValue */
-                new InspectorPath("Properties", "Extras", 4));
-    private final ValuePropertyMetadata disablePropertyMetadata =
-            new BooleanPropertyMetadata(
-                disableName,
-                true, /* readWrite */
-                false, /* defaultValue */
-                new InspectorPath("Properties", "Node", 1));
-    private final ValuePropertyMetadata dividerPositionsPropertyMetadata =
-            new DoubleArrayPropertyMetadata(
-                dividerPositionsName,
-                true, /* readWrite */
-                Collections.emptyList(), /* defaultValue */
-                new InspectorPath("Properties", "Specific", 15));
-    private final ValuePropertyMetadata divisionsPropertyMetadata =
-            new IntegerPropertyMetadata(
-                divisionsName,
-                false, /* readWrite */
-                null, /* No defaultValue for R/O property */
-                new InspectorPath("Properties", "3D", 10));
-    private final ValuePropertyMetadata drawModePropertyMetadata =
-            new EnumerationPropertyMetadata(
-                drawModeName,
-                javafx.scene.shape.DrawMode.class,
-                true, /* readWrite */
-                javafx.scene.shape.DrawMode.FILL, /* defaultValue */
-                new InspectorPath("Properties", "3D", 9));
-    private final ValuePropertyMetadata editable_false_PropertyMetadata =
-            new BooleanPropertyMetadata(
-                editableName,
-                true, /* readWrite */
-                false, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 16));
-    private final ValuePropertyMetadata editable_true_PropertyMetadata =
-            new BooleanPropertyMetadata(
-                editableName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 16));
-    private final ValuePropertyMetadata effectPropertyMetadata =
-            new EffectPropertyMetadata(
-                effectName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Properties", "Node", 14));
-    private final ValuePropertyMetadata effectiveNodeOrientationPropertyMetadata =
-            new EnumerationPropertyMetadata(
-                effectiveNodeOrientationName,
-                javafx.geometry.NodeOrientation.class,
-                false, /* readWrite */
-                null, /* No defaultValue for R/O property */
-                new InspectorPath("Layout", "Extras", 7));
-    private final ComponentPropertyMetadata elementsPropertyMetadata =
-            new ComponentPropertyMetadata(
-                elementsName,
-                PathElementMetadata,
-                true); /* collection */
-    private final ValuePropertyMetadata ellipsisStringPropertyMetadata =
-            new StringPropertyMetadata(
-                ellipsisStringName,
-                true, /* readWrite */
-                "...", /* defaultValue */
-                new InspectorPath("Properties", "Text", 12));
-    private final ValuePropertyMetadata endMarginPropertyMetadata =
-            new DoublePropertyMetadata(
-                endMarginName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                5.0, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 95));
-    private final ValuePropertyMetadata endXPropertyMetadata =
-            new DoublePropertyMetadata(
-                endXName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Position", 7));
-    private final ValuePropertyMetadata endYPropertyMetadata =
-            new DoublePropertyMetadata(
-                endYName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Position", 8));
-    private final ComponentPropertyMetadata expandableContentPropertyMetadata =
-            new ComponentPropertyMetadata(
-                expandableContentName,
-                NodeMetadata,
-                false); /* collection */
-    private final ValuePropertyMetadata expanded_false_PropertyMetadata =
-            new BooleanPropertyMetadata(
-                expandedName,
-                true, /* readWrite */
-                false, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 17));
-    private final ValuePropertyMetadata expanded_true_PropertyMetadata =
-            new BooleanPropertyMetadata(
-                expandedName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 17));
-    private final ComponentPropertyMetadata expandedContentPropertyMetadata =
-            new ComponentPropertyMetadata(
-                expandedContentName,
-                NodeMetadata,
-                false /* collection */
-            );
-    private final ValuePropertyMetadata expandedItemCountPropertyMetadata =
-            new IntegerPropertyMetadata(
-                expandedItemCountName,
-                false, /* readWrite */
-                null, /* No defaultValue for R/O property */
-                new InspectorPath("Properties", "Specific", 19));
-    private final BooleanPropertyMetadata expandedPropertyMetadata =
-            new BooleanPropertyMetadata(
-                expandedName,
-                true, /* readWrite */
-                false, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 0)
-            );
-    private final ValuePropertyMetadata farClipPropertyMetadata =
-            new DoublePropertyMetadata(
-                farClipName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                100.0, /* defaultValue */
-                new InspectorPath("Properties", "3D", 3));
-    private final ValuePropertyMetadata fieldOfViewPropertyMetadata =
-            new DoublePropertyMetadata(
-                fieldOfViewName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.ANGLE,
-                true, /* readWrite */
-                30.0, /* defaultValue */
-                new InspectorPath("Properties", "3D", 4));
-    private final ValuePropertyMetadata fill_NULL_PropertyMetadata =
-            new PaintPropertyMetadata(
-                fillName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 20));
-    private final ValuePropertyMetadata fill_BLACK_PropertyMetadata =
-            new PaintPropertyMetadata(
-                fillName,
-                true, /* readWrite */
-                javafx.scene.paint.Color.BLACK, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 20));
-    private final ValuePropertyMetadata fill_WHITE_PropertyMetadata =
-            new PaintPropertyMetadata(
-                fillName,
-                true, /* readWrite */
-                javafx.scene.paint.Color.WHITE, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 20));
-    private final ValuePropertyMetadata fillHeightPropertyMetadata =
-            new BooleanPropertyMetadata(
-                fillHeightName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Layout", "Specific", 0));
-    private final ValuePropertyMetadata fillRulePropertyMetadata =
-            new EnumerationPropertyMetadata(
-                fillRuleName,
-                javafx.scene.shape.FillRule.class,
-                true, /* readWrite */
-                javafx.scene.shape.FillRule.NON_ZERO, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 21));
-    private final ValuePropertyMetadata fillWidthPropertyMetadata =
-            new BooleanPropertyMetadata(
-                fillWidthName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Layout", "Specific", 1));
-    private final ValuePropertyMetadata fitHeightPropertyMetadata =
-            new DoublePropertyMetadata(
-                fitHeightName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Size", 15));
-    private final ValuePropertyMetadata fitToHeightPropertyMetadata =
-            new BooleanPropertyMetadata(
-                fitToHeightName,
-                true, /* readWrite */
-                false, /* defaultValue */
-                new InspectorPath("Layout", "Specific", 11));
-    private final ValuePropertyMetadata fitToWidthPropertyMetadata =
-            new BooleanPropertyMetadata(
-                fitToWidthName,
-                true, /* readWrite */
-                false, /* defaultValue */
-                new InspectorPath("Layout", "Specific", 10));
-    private final ValuePropertyMetadata fitWidthPropertyMetadata =
-            new DoublePropertyMetadata(
-                fitWidthName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Size", 14));
-    private final ValuePropertyMetadata fixedCellSizePropertyMetadata =
-            new DoublePropertyMetadata(
-                fixedCellSizeName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                -1.0, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 128));
-    private final ValuePropertyMetadata fixedEyeAtCameraZeroPropertyMetadata =
-            new BooleanPropertyMetadata(
-                fixedEyeAtCameraZeroName,
-                false, /* readWrite */
-                null, /* No defaultValue for R/O property */
-                new InspectorPath("Properties", "3D", 6));
-    private final ValuePropertyMetadata focusTraversable_true_PropertyMetadata =
-            new BooleanPropertyMetadata(
-                focusTraversableName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Properties", "Node", 6));
-    private final ValuePropertyMetadata focusTraversable_false_PropertyMetadata =
-            new BooleanPropertyMetadata(
-                focusTraversableName,
-                true, /* readWrite */
-                false, /* defaultValue */
-                new InspectorPath("Properties", "Node", 6));
-    private final ValuePropertyMetadata fontPropertyMetadata =
-            new FontPropertyMetadata(
-                fontName,
-                true, /* readWrite */
-                javafx.scene.text.Font.getDefault(), /* defaultValue */
-                new InspectorPath("Properties", "Text", 5));
-    private final ValuePropertyMetadata fontScalePropertyMetadata =
-            new DoublePropertyMetadata(
-                fontScaleName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                1.0, /* defaultValue */
-                new InspectorPath("Properties", "Text", 0));
-    private final ValuePropertyMetadata fontSmoothingType_GRAY_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                fontSmoothingTypeName,
-                javafx.scene.text.FontSmoothingType.class,
-                true, /* readWrite */
-                javafx.scene.text.FontSmoothingType.GRAY, /* defaultValue */
-                new InspectorPath("Properties", "Text", 6));
-    private final ValuePropertyMetadata fontSmoothingType_LCD_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                fontSmoothingTypeName,
-                javafx.scene.text.FontSmoothingType.class,
-                true, /* readWrite */
-                javafx.scene.text.FontSmoothingType.LCD, /* defaultValue */
-                new InspectorPath("Properties", "Text", 6));
-    private final ValuePropertyMetadata forceZeroInRangePropertyMetadata =
-            new BooleanPropertyMetadata(
-                forceZeroInRangeName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 122));
-    private final ValuePropertyMetadata fullScreenPropertyMetadata =
-            new BooleanPropertyMetadata(
-                fullScreenName,
-                true, /* readWrite */
-                false, /* defaultValue */
-                new InspectorPath("Layout", "Extras", 10));
-    private final ValuePropertyMetadata fullScreenExitHintPropertyMetadata =
-            new StringPropertyMetadata(
-                fullScreenExitHintName,
-                true, /* readWrite */
-                "", /* defaultValue */
-                new InspectorPath("Layout", "Extras", 11));
-    private final ValuePropertyMetadata gapStartAndEndPropertyMetadata =
-            new BooleanPropertyMetadata(
-                gapStartAndEndName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 99));
-    private final ComponentPropertyMetadata graphicPropertyMetadata =
-            new ComponentPropertyMetadata(
-                graphicName,
-                NodeMetadata,
-                false); /* collection */
-    private final ValuePropertyMetadata graphicTextGapPropertyMetadata =
-            new DoublePropertyMetadata(
-                graphicTextGapName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                4.0, /* defaultValue */
-                new InspectorPath("Properties", "Graphic", 0));
-    private final ValuePropertyMetadata gridLinesVisiblePropertyMetadata =
-            new BooleanPropertyMetadata(
-                gridLinesVisibleName,
-                true, /* readWrite */
-                false, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 22));
-    private final ValuePropertyMetadata halignment_NULL_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                halignmentName,
-                javafx.geometry.HPos.class,
-                "INHERIT", /* null equivalent */
-                true, /* readWrite */
-                new InspectorPath("Layout", "Specific", 4));
-    private final ValuePropertyMetadata halignment_CENTER_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                halignmentName,
-                javafx.geometry.HPos.class,
-                true, /* readWrite */
-                javafx.geometry.HPos.CENTER, /* defaultValue */
-                new InspectorPath("Layout", "Specific", 4));
-    private final ValuePropertyMetadata hbarPolicyPropertyMetadata =
-            new EnumerationPropertyMetadata(
-                hbarPolicyName,
-                javafx.scene.control.ScrollPane.ScrollBarPolicy.class,
-                true, /* readWrite */
-                javafx.scene.control.ScrollPane.ScrollBarPolicy.AS_NEEDED, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 48));
-    private final ComponentPropertyMetadata headerPropertyMetadata =
-            new ComponentPropertyMetadata(
-                headerName,
-                NodeMetadata,
-                false); /* collection */
-    private final ValuePropertyMetadata headerTextPropertyMetadata =
-            new StringPropertyMetadata(
-                headerTextName,
-                true, /* readWrite */
-                "", /* defaultValue */
-                new InspectorPath("Properties", "Text", 1));
-    private final ValuePropertyMetadata height_Double_200_PropertyMetadata =
-            new DoublePropertyMetadata(
-                heightName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                2.0, /* defaultValue */
-                new InspectorPath("Layout", "Size", 8));
-    private final ValuePropertyMetadata height_Double_0_PropertyMetadata =
-            new DoublePropertyMetadata(
-                heightName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Size", 8));
-    private final ValuePropertyMetadata height_Double_COMPUTED_PropertyMetadata =
-            new DoublePropertyMetadata(
-                heightName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.USE_COMPUTED_SIZE,
-                true, /* readWrite */
-                -1.0, /* defaultValue */
-                new InspectorPath("Layout", "Size", 8));
-    private final ValuePropertyMetadata height_Double_ro_PropertyMetadata =
-            new DoublePropertyMetadata(
-                heightName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                false, /* readWrite */
-                null, /* No defaultValue for R/O property */
-                new InspectorPath("Layout", "Size", 8));
-    private final ValuePropertyMetadata hgapPropertyMetadata =
-            new DoublePropertyMetadata(
-                hgapName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Internal", 0));
-    private final ValuePropertyMetadata hgrowPropertyMetadata =
-            new EnumerationPropertyMetadata(
-                hgrowName,
-                javafx.scene.layout.Priority.class,
-                "INHERIT", /* null equivalent */
-                true, /* readWrite */
-                new InspectorPath("Layout", "Specific", 2));
-    private final ValuePropertyMetadata hideOnClick_true_PropertyMetadata =
-            new BooleanPropertyMetadata(
-                hideOnClickName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 23));
-    private final ValuePropertyMetadata hideOnClick_false_PropertyMetadata =
-            new BooleanPropertyMetadata(
-                hideOnClickName,
-                true, /* readWrite */
-                false, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 23));
-    private final ValuePropertyMetadata hideOnEscapePropertyMetadata =
-            new BooleanPropertyMetadata(
-                hideOnEscapeName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 65));
-    private final ValuePropertyMetadata hmaxPropertyMetadata =
-            new DoublePropertyMetadata(
-                hmaxName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                1.0, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 108));
-    private final ValuePropertyMetadata hminPropertyMetadata =
-            new DoublePropertyMetadata(
-                hminName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 104));
-    private final ValuePropertyMetadata horizontalGridLinesVisiblePropertyMetadata =
-            new BooleanPropertyMetadata(
-                horizontalGridLinesVisibleName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 100));
-    private final ValuePropertyMetadata horizontalZeroLineVisiblePropertyMetadata =
-            new BooleanPropertyMetadata(
-                horizontalZeroLineVisibleName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 110));
-    private final ValuePropertyMetadata htmlTextPropertyMetadata =
-            new StringPropertyMetadata(
-                htmlTextName,
-                true, /* readWrite */
-                "<html><head></head><body contenteditable=\"true\"></body></html>", /* defaultValue */
-                new InspectorPath("Properties", "Specific", 24));
-    private final ValuePropertyMetadata hvaluePropertyMetadata =
-            new DoublePropertyMetadata(
-                hvalueName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 106));
-    private final ValuePropertyMetadata iconifiedPropertyMetadata =
-            new BooleanPropertyMetadata(
-                iconifiedName,
-                true, /* readWrite */
-                false, /* defaultValue */
-                new InspectorPath("Layout", "Extras", 12));
-    private final ValuePropertyMetadata idPropertyMetadata =
-            new StringPropertyMetadata(
-                idName,
-                true, /* readWrite */
-                "", /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 3));
-    private final ValuePropertyMetadata imagePropertyMetadata =
-            new ImagePropertyMetadata(
-                imageName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 25));
-    private final ValuePropertyMetadata indeterminate_Boolean_PropertyMetadata =
-            new BooleanPropertyMetadata(
-                indeterminateName,
-                true, /* readWrite */
-                false, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 49));
-    private final ValuePropertyMetadata indeterminate_Boolean_ro_PropertyMetadata =
-            new BooleanPropertyMetadata(
-                indeterminateName,
-                false, /* readWrite */
-                null, /* No defaultValue for R/O property */
-                new InspectorPath("Properties", "Specific", 49));
-    private final ValuePropertyMetadata insetsPropertyMetadata =
-            new InsetsPropertyMetadata(
-                insetsName,
-                false, /* readWrite */
-                null, /* No defaultValue for R/O property */
-                new InspectorPath("Properties", "Extras", 5));
-    private final ComponentPropertyMetadata items_MenuItem_PropertyMetadata =
-            new ComponentPropertyMetadata(
-                itemsName,
-                MenuItemMetadata,
-                true); /* collection */
-    private final ComponentPropertyMetadata items_Node_PropertyMetadata =
-            new ComponentPropertyMetadata(
-                itemsName,
-                NodeMetadata,
-                true); /* collection */
-    private final ValuePropertyMetadata labelPropertyMetadata =
-            new StringPropertyMetadata(
-                labelName,
-                true, /* readWrite */
-                "", /* defaultValue */
-                new InspectorPath("Properties", "Specific", 26));
-    private final ComponentPropertyMetadata labelForPropertyMetadata =
-            new ComponentPropertyMetadata(
-                labelForName,
-                NodeMetadata,
-                false); /* collection */
-    private final ValuePropertyMetadata labelFormatterPropertyMetadata =
-            new StringConverterPropertyMetadata(
-                labelFormatterName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 113));
-    private final ValuePropertyMetadata labelLineLengthPropertyMetadata =
-            new DoublePropertyMetadata(
-                labelLineLengthName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                20.0, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 111));
-    private final ValuePropertyMetadata labelPaddingPropertyMetadata =
-            new InsetsPropertyMetadata(
-                labelPaddingName,
-                false, /* readWrite */
-                null, /* No defaultValue for R/O property */
-                new InspectorPath("Properties", "Extras", 6));
-    private final ValuePropertyMetadata labelsVisiblePropertyMetadata =
-            new BooleanPropertyMetadata(
-                labelsVisibleName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 101));
-    private final ValuePropertyMetadata largeArcFlagPropertyMetadata =
-            new BooleanPropertyMetadata(
-                largeArcFlagName,
-                true, /* readWrite */
-                false, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 126));
-    private final ValuePropertyMetadata layoutBoundsPropertyMetadata =
-            new BoundsPropertyMetadata(
-                layoutBoundsName,
-                false, /* readWrite */
-                null, /* No defaultValue for R/O property */
-                new InspectorPath("Layout", "Bounds", 0));
-    private final ValuePropertyMetadata layoutXPropertyMetadata =
-            new DoublePropertyMetadata(
-                layoutXName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Position", 2));
-    private final ValuePropertyMetadata layoutYPropertyMetadata =
-            new DoublePropertyMetadata(
-                layoutYName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Position", 3));
-    private final ComponentPropertyMetadata leftPropertyMetadata =
-            new ComponentPropertyMetadata(
-                leftName,
-                NodeMetadata,
-                false); /* collection */
-    private final ValuePropertyMetadata legendSidePropertyMetadata =
-            new EnumerationPropertyMetadata(
-                legendSideName,
-                javafx.geometry.Side.class,
-                true, /* readWrite */
-                javafx.geometry.Side.BOTTOM, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 74));
-    private final ValuePropertyMetadata legendVisiblePropertyMetadata =
-            new BooleanPropertyMetadata(
-                legendVisibleName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 66));
-    private final ValuePropertyMetadata length_Double_PropertyMetadata =
-            new DoublePropertyMetadata(
-                lengthName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Size", 18));
-    private final ValuePropertyMetadata length_Integer_ro_PropertyMetadata =
-            new IntegerPropertyMetadata(
-                lengthName,
-                false, /* readWrite */
-                null, /* No defaultValue for R/O property */
-                new InspectorPath("Layout", "Size", 18));
-    private final ValuePropertyMetadata lightOnPropertyMetadata =
-            new BooleanPropertyMetadata(
-                lightOnName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Properties", "3D", 7));
-    private final ValuePropertyMetadata lineSpacingPropertyMetadata =
-            new DoublePropertyMetadata(
-                lineSpacingName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Properties", "Text", 15));
-    private final ValuePropertyMetadata lowerBoundPropertyMetadata =
-            new DoublePropertyMetadata(
-                lowerBoundName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 90));
-    private final ValuePropertyMetadata majorTickUnitPropertyMetadata =
-            new DoublePropertyMetadata(
-                majorTickUnitName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                25.0, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 91));
-    private final ValuePropertyMetadata materialPropertyMetadata =
-            new MaterialPropertyMetadata(
-                materialName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Properties", "3D", 0));
-    private final ValuePropertyMetadata maxPropertyMetadata =
-            new DoublePropertyMetadata(
-                maxName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                100.0, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 50));
-    private final ValuePropertyMetadata maxHeight_COMPUTED_PropertyMetadata =
-            new DoublePropertyMetadata(
-                maxHeightName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.USE_PREF_SIZE,
-                true, /* readWrite */
-                -1.0, /* defaultValue */
-                new InspectorPath("Layout", "Size", 6));
-    private final ValuePropertyMetadata maxHeight_MAX_PropertyMetadata =
-            new DoublePropertyMetadata(
-                maxHeightName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.USE_PREF_SIZE,
-                true, /* readWrite */
-                Double.MAX_VALUE, /* defaultValue */
-                new InspectorPath("Layout", "Size", 6));
-    private final ValuePropertyMetadata maxHeight_SIZE_PropertyMetadata =
-            new DoublePropertyMetadata(
-                maxHeightName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                Double.MAX_VALUE, /* defaultValue */
-                new InspectorPath("Layout", "Size", 6));
-    private final ValuePropertyMetadata maxPageIndicatorCountPropertyMetadata =
-            new IntegerPropertyMetadata(
-                maxPageIndicatorCountName,
-                true, /* readWrite */
-                10, /* defaultValue */
-                new InspectorPath("Properties", "Pagination", 1));
-    private final ValuePropertyMetadata maxWidth_COMPUTED_PropertyMetadata =
-            new DoublePropertyMetadata(
-                maxWidthName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.USE_PREF_SIZE,
-                true, /* readWrite */
-                -1.0, /* defaultValue */
-                new InspectorPath("Layout", "Size", 5));
-    private final ValuePropertyMetadata maxWidth_500000_PropertyMetadata =
-            new DoublePropertyMetadata(
-                maxWidthName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.USE_PREF_SIZE,
-                true, /* readWrite */
-                5000.0, /* defaultValue */
-                new InspectorPath("Layout", "Size", 5));
-    private final ValuePropertyMetadata maxWidth_MAX_PropertyMetadata =
-            new DoublePropertyMetadata(
-                maxWidthName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.USE_PREF_SIZE,
-                true, /* readWrite */
-                Double.MAX_VALUE, /* defaultValue */
-                new InspectorPath("Layout", "Size", 5));
-    private final ValuePropertyMetadata maxWidth_SIZE_PropertyMetadata =
-            new DoublePropertyMetadata(
-                maxWidthName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                Double.MAX_VALUE, /* defaultValue */
-                new InspectorPath("Layout", "Size", 5));
-    private final ValuePropertyMetadata maximizedPropertyMetdata =
-            new BooleanPropertyMetadata(
-                maximizedName,
-                true, /* readWrite */
-                false, /* defaultValue */
-                new InspectorPath("Layout", "Extras", 13));
-    private final ComponentPropertyMetadata menusPropertyMetadata =
-            new ComponentPropertyMetadata(
-                menusName,
-                MenuMetadata,
-                true); /* collection */
-    private final ValuePropertyMetadata meshPropertyMetadata =
-            new MeshPropertyMetadata(
-                meshName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Properties", "3D", 1));
-    private final ValuePropertyMetadata minPropertyMetadata =
-            new DoublePropertyMetadata(
-                minName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 29));
-    private final ValuePropertyMetadata minHeight_COMPUTED_PropertyMetadata =
-            new DoublePropertyMetadata(
-                minHeightName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.USE_PREF_SIZE,
-                true, /* readWrite */
-                -1.0, /* defaultValue */
-                new InspectorPath("Layout", "Size", 2));
-    private final ValuePropertyMetadata minHeight_0_PropertyMetadata =
-            new DoublePropertyMetadata(
-                minHeightName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.USE_PREF_SIZE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Size", 2));
-    private final ValuePropertyMetadata minHeight_SIZE_PropertyMetadata =
-            new DoublePropertyMetadata(
-                minHeightName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Size", 2));
-    private final ValuePropertyMetadata minorTickCount_3_PropertyMetadata =
-            new IntegerPropertyMetadata(
-                minorTickCountName,
-                true, /* readWrite */
-                3, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 96));
-    private final ValuePropertyMetadata minorTickCount_5_PropertyMetadata =
-            new IntegerPropertyMetadata(
-                minorTickCountName,
-                true, /* readWrite */
-                5, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 96));
-    private final ValuePropertyMetadata minorTickLengthPropertyMetadata =
-            new DoublePropertyMetadata(
-                minorTickLengthName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                5.0, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 121));
-    private final ValuePropertyMetadata minorTickVisiblePropertyMetadata =
-            new BooleanPropertyMetadata(
-                minorTickVisibleName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 119));
-    private final ValuePropertyMetadata minViewportHeightPropertyMetadata =
-            new DoublePropertyMetadata(
-                minViewportHeightName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Specific", 7));
-    private final ValuePropertyMetadata minViewportWidthPropertyMetadata =
-            new DoublePropertyMetadata(
-                minViewportWidthName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Specific", 6));
-    private final ValuePropertyMetadata minWidth_COMPUTED_PropertyMetadata =
-            new DoublePropertyMetadata(
-                minWidthName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.USE_PREF_SIZE,
-                true, /* readWrite */
-                -1.0, /* defaultValue */
-                new InspectorPath("Layout", "Size", 1));
-    private final ValuePropertyMetadata minWidth_1000_PropertyMetadata =
-            new DoublePropertyMetadata(
-                minWidthName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.USE_PREF_SIZE,
-                true, /* readWrite */
-                10.0, /* defaultValue */
-                new InspectorPath("Layout", "Size", 1));
-    private final ValuePropertyMetadata minWidth_0_PropertyMetadata =
-            new DoublePropertyMetadata(
-                minWidthName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.USE_PREF_SIZE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Size", 1));
-    private final ValuePropertyMetadata minWidth_SIZE_PropertyMetadata =
-            new DoublePropertyMetadata(
-                minWidthName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Size", 1));
-    private final ValuePropertyMetadata mnemonicParsing_false_PropertyMetadata =
-            new BooleanPropertyMetadata(
-                mnemonicParsingName,
-                true, /* readWrite */
-                false, /* defaultValue */
-                new InspectorPath("Properties", "Extras", 1));
-    private final ValuePropertyMetadata mnemonicParsing_true_PropertyMetadata =
-            new BooleanPropertyMetadata(
-                mnemonicParsingName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Properties", "Extras", 1));
-    private final ValuePropertyMetadata mouseTransparentPropertyMetadata =
-            new BooleanPropertyMetadata(
-                mouseTransparentName,
-                true, /* readWrite */
-                false, /* defaultValue */
-                new InspectorPath("Properties", "Extras", 7));
-    private final ValuePropertyMetadata nearClipPropertyMetadata =
-            new DoublePropertyMetadata(
-                nearClipName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                0.1, /* defaultValue */
-                new InspectorPath("Properties", "3D", 2));
-    private final ValuePropertyMetadata nodeOrientation_LEFT_TO_RIGHT_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                nodeOrientationName,
-                javafx.geometry.NodeOrientation.class,
-                true, /* readWrite */
-                javafx.geometry.NodeOrientation.LEFT_TO_RIGHT, /* defaultValue */
-                new InspectorPath("Properties", "Node", 4));
-    private final ValuePropertyMetadata nodeOrientation_INHERIT_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                nodeOrientationName,
-                javafx.geometry.NodeOrientation.class,
-                true, /* readWrite */
-                javafx.geometry.NodeOrientation.INHERIT, /* defaultValue */
-                new InspectorPath("Properties", "Node", 4));
-    private final ValuePropertyMetadata onActionPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onActionName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Main", 0));
-    private final ValuePropertyMetadata onAutoHidePropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onAutoHideName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "HideShow", 2));
-    private final ValuePropertyMetadata onClosedPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onClosedName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Closing", 1));
-    private final ValuePropertyMetadata onCloseRequestPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onCloseRequestName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Closing", 0));
-    private final ValuePropertyMetadata onContextMenuRequestedPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onContextMenuRequestedName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Mouse", 0));
-    private final ValuePropertyMetadata onDragDetectedPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onDragDetectedName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "DragDrop", 0));
-    private final ValuePropertyMetadata onDragDonePropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onDragDoneName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "DragDrop", 1));
-    private final ValuePropertyMetadata onDragDroppedPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onDragDroppedName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "DragDrop", 2));
-    private final ValuePropertyMetadata onDragEnteredPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onDragEnteredName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "DragDrop", 3));
-    private final ValuePropertyMetadata onDragExitedPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onDragExitedName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "DragDrop", 4));
-    private final ValuePropertyMetadata onDragOverPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onDragOverName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "DragDrop", 5));
-    private final ValuePropertyMetadata onEditCancelPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onEditCancelName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Edit", 2));
-    private final ValuePropertyMetadata onEditCommitPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onEditCommitName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Edit", 1));
-    private final ValuePropertyMetadata onEditStartPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onEditStartName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Edit", 0));
-    private final ValuePropertyMetadata onErrorPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onErrorName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Main", 2));
-    private final ValuePropertyMetadata onHiddenPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onHiddenName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "HideShow", 0));
-    private final ValuePropertyMetadata onHidingPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onHidingName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "HideShow", 1));
-    private final ValuePropertyMetadata onInputMethodTextChangedPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onInputMethodTextChangedName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Keyboard", 0));
-    private final ValuePropertyMetadata onKeyPressedPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onKeyPressedName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Keyboard", 1));
-    private final ValuePropertyMetadata onKeyReleasedPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onKeyReleasedName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Keyboard", 2));
-    private final ValuePropertyMetadata onKeyTypedPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onKeyTypedName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Keyboard", 3));
-    private final ValuePropertyMetadata onMenuValidationPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onMenuValidationName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Main", 1));
-    private final ValuePropertyMetadata onMouseClickedPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onMouseClickedName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Mouse", 1));
-    private final ValuePropertyMetadata onMouseDragEnteredPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onMouseDragEnteredName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "DragDrop", 6));
-    private final ValuePropertyMetadata onMouseDragExitedPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onMouseDragExitedName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "DragDrop", 7));
-    private final ValuePropertyMetadata onMouseDraggedPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onMouseDraggedName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Mouse", 2));
-    private final ValuePropertyMetadata onMouseDragOverPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onMouseDragOverName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "DragDrop", 8));
-    private final ValuePropertyMetadata onMouseDragReleasedPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onMouseDragReleasedName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "DragDrop", 9));
-    private final ValuePropertyMetadata onMouseEnteredPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onMouseEnteredName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Mouse", 3));
-    private final ValuePropertyMetadata onMouseExitedPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onMouseExitedName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Mouse", 4));
-    private final ValuePropertyMetadata onMouseMovedPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onMouseMovedName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Mouse", 5));
-    private final ValuePropertyMetadata onMousePressedPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onMousePressedName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Mouse", 6));
-    private final ValuePropertyMetadata onMouseReleasedPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onMouseReleasedName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Mouse", 7));
-    private final ValuePropertyMetadata onRotatePropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onRotateName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Rotation", 0));
-    private final ValuePropertyMetadata onRotationFinishedPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onRotationFinishedName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Rotation", 2));
-    private final ValuePropertyMetadata onRotationStartedPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onRotationStartedName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Rotation", 1));
-    private final ValuePropertyMetadata onScrollPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onScrollName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Mouse", 8));
-    private final ValuePropertyMetadata onScrollFinishedPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onScrollFinishedName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Mouse", 10));
-    private final ValuePropertyMetadata onScrollStartedPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onScrollStartedName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Mouse", 9));
-    private final ValuePropertyMetadata onScrollToPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onScrollToName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Mouse", 11));
-    private final ValuePropertyMetadata onScrollToColumnPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onScrollToColumnName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Mouse", 12));
-    private final ValuePropertyMetadata onSelectionChangedPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onSelectionChangedName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Edit", 3));
-    private final ValuePropertyMetadata onShowingPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onShowingName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "HideShow", 3));
-    private final ValuePropertyMetadata onShownPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onShownName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "HideShow", 4));
-    private final ValuePropertyMetadata onSortPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onSortName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Main", 3));
-    private final ValuePropertyMetadata onSwipeDownPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onSwipeDownName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Swipe", 3));
-    private final ValuePropertyMetadata onSwipeLeftPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onSwipeLeftName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Swipe", 0));
-    private final ValuePropertyMetadata onSwipeRightPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onSwipeRightName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Swipe", 1));
-    private final ValuePropertyMetadata onSwipeUpPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onSwipeUpName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Swipe", 2));
-    private final ValuePropertyMetadata onTouchMovedPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onTouchMovedName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Touch", 0));
-    private final ValuePropertyMetadata onTouchPressedPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onTouchPressedName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Touch", 1));
-    private final ValuePropertyMetadata onTouchReleasedPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onTouchReleasedName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Touch", 2));
-    private final ValuePropertyMetadata onTouchStationaryPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onTouchStationaryName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Touch", 3));
-    private final ValuePropertyMetadata onZoomPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onZoomName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Zoom", 0));
-    private final ValuePropertyMetadata onZoomFinishedPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onZoomFinishedName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Zoom", 2));
-    private final ValuePropertyMetadata onZoomStartedPropertyMetadata =
-            new EventHandlerPropertyMetadata(
-                onZoomStartedName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Code", "Zoom", 1));
-    private final ValuePropertyMetadata opacityPropertyMetadata =
-            new DoublePropertyMetadata(
-                opacityName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.OPACITY,
-                true, /* readWrite */
-                1.0, /* defaultValue */
-                new InspectorPath("Properties", "Node", 2));
-    private final ValuePropertyMetadata opaqueInsetsPropertyMetadata =
-            new InsetsPropertyMetadata(
-                opaqueInsetsName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Properties", "Node", 12));
-    private final ValuePropertyMetadata orientation_HORIZONTAL_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                orientationName,
-                javafx.geometry.Orientation.class,
-                true, /* readWrite */
-                javafx.geometry.Orientation.HORIZONTAL, /* defaultValue */
-                new InspectorPath("Properties", "Node", 3));
-    private final ValuePropertyMetadata orientation_VERTICAL_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                orientationName,
-                javafx.geometry.Orientation.class,
-                true, /* readWrite */
-                javafx.geometry.Orientation.VERTICAL, /* defaultValue */
-                new InspectorPath("Properties", "Node", 3));
-    private final ValuePropertyMetadata paddingPropertyMetadata =
-            new InsetsPropertyMetadata(
-                paddingName,
-                true, /* readWrite */
-                javafx.geometry.Insets.EMPTY, /* defaultValue */
-                new InspectorPath("Layout", "Internal", 2));
-    private final ValuePropertyMetadata pageCountPropertyMetadata =
-            new IntegerPropertyMetadata(
-                pageCountName,
-                true, /* readWrite */
-                2147483647, /* defaultValue */
-                new InspectorPath("Properties", "Pagination", 2));
-    private final ComponentPropertyMetadata panesPropertyMetadata =
-            new ComponentPropertyMetadata(
-                panesName,
-                TitledPaneMetadata,
-                true); /* collection */
-    private final ValuePropertyMetadata pannablePropertyMetadata =
-            new BooleanPropertyMetadata(
-                pannableName,
-                true, /* readWrite */
-                false, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 30));
-    private final ValuePropertyMetadata percentHeightPropertyMetadata =
-            new DoublePropertyMetadata(
-                percentHeightName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.PERCENTAGE,
-                true, /* readWrite */
-                -1.0, /* defaultValue */
-                new InspectorPath("Layout", "Size", 20));
-    private final ValuePropertyMetadata percentWidthPropertyMetadata =
-            new DoublePropertyMetadata(
-                percentWidthName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.PERCENTAGE,
-                true, /* readWrite */
-                -1.0, /* defaultValue */
-                new InspectorPath("Layout", "Size", 19));
-    private final ValuePropertyMetadata pickOnBounds_false_PropertyMetadata =
-            new BooleanPropertyMetadata(
-                pickOnBoundsName,
-                true, /* readWrite */
-                false, /* defaultValue */
-                new InspectorPath("Properties", "Extras", 8));
-    private final ValuePropertyMetadata pickOnBounds_true_PropertyMetadata =
-            new BooleanPropertyMetadata(
-                pickOnBoundsName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Properties", "Extras", 8));
-    private final ComponentPropertyMetadata placeholderPropertyMetadata =
-            new ComponentPropertyMetadata(
-                placeholderName,
-                NodeMetadata,
-                false); /* collection */
-    private final ValuePropertyMetadata pointsPropertyMetadata =
-            new DoubleListPropertyMetadata(
-                pointsName,
-                true, /* readWrite */
-                Collections.emptyList(), /* defaultValue */
-                new InspectorPath("Layout", "Position", 4));
-    private final ValuePropertyMetadata popupSidePropertyMetadata =
-            new EnumerationPropertyMetadata(
-                popupSideName,
-                javafx.geometry.Side.class,
-                true, /* readWrite */
-                javafx.geometry.Side.BOTTOM, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 31));
-    private final ValuePropertyMetadata prefColumnCount_40_PropertyMetadata =
-            new IntegerPropertyMetadata(
-                prefColumnCountName,
-                true, /* readWrite */
-                40, /* defaultValue */
-                new InspectorPath("Layout", "Size", 9));
-    private final ValuePropertyMetadata prefColumnCount_12_PropertyMetadata =
-            new IntegerPropertyMetadata(
-                prefColumnCountName,
-                true, /* readWrite */
-                12, /* defaultValue */
-                new InspectorPath("Layout", "Size", 9));
-    private final ValuePropertyMetadata prefColumnsPropertyMetadata =
-            new IntegerPropertyMetadata(
-                prefColumnsName,
-                true, /* readWrite */
-                5, /* defaultValue */
-                new InspectorPath("Layout", "Specific", 18));
-    private final ValuePropertyMetadata prefHeight_COMPUTED_PropertyMetadata =
-            new DoublePropertyMetadata(
-                prefHeightName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.USE_COMPUTED_SIZE,
-                true, /* readWrite */
-                -1.0, /* defaultValue */
-                new InspectorPath("Layout", "Size", 4));
-    private final ValuePropertyMetadata prefHeight_60000_PropertyMetadata =
-            new DoublePropertyMetadata(
-                prefHeightName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.USE_COMPUTED_SIZE,
-                true, /* readWrite */
-                600.0, /* defaultValue */
-                new InspectorPath("Layout", "Size", 4));
-    private final ValuePropertyMetadata prefRowCountPropertyMetadata =
-            new IntegerPropertyMetadata(
-                prefRowCountName,
-                true, /* readWrite */
-                10, /* defaultValue */
-                new InspectorPath("Layout", "Size", 10));
-    private final ValuePropertyMetadata prefRowsPropertyMetadata =
-            new IntegerPropertyMetadata(
-                prefRowsName,
-                true, /* readWrite */
-                5, /* defaultValue */
-                new InspectorPath("Layout", "Specific", 19));
-    private final ValuePropertyMetadata prefTileHeightPropertyMetadata =
-            new DoublePropertyMetadata(
-                prefTileHeightName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                -1.0, /* defaultValue */
-                new InspectorPath("Layout", "Specific", 17));
-    private final ValuePropertyMetadata prefTileWidthPropertyMetadata =
-            new DoublePropertyMetadata(
-                prefTileWidthName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                -1.0, /* defaultValue */
-                new InspectorPath("Layout", "Specific", 16));
-    private final ValuePropertyMetadata prefViewportHeightPropertyMetadata =
-            new DoublePropertyMetadata(
-                prefViewportHeightName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Specific", 9));
-    private final ValuePropertyMetadata prefViewportWidthPropertyMetadata =
-            new DoublePropertyMetadata(
-                prefViewportWidthName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Specific", 8));
-    private final ValuePropertyMetadata prefWidth_COMPUTED_PropertyMetadata =
-            new DoublePropertyMetadata(
-                prefWidthName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.USE_COMPUTED_SIZE,
-                true, /* readWrite */
-                -1.0, /* defaultValue */
-                new InspectorPath("Layout", "Size", 3));
-    private final ValuePropertyMetadata prefWidth_8000_PropertyMetadata =
-            new DoublePropertyMetadata(
-                prefWidthName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.USE_COMPUTED_SIZE,
-                true, /* readWrite */
-                80.0, /* defaultValue */
-                new InspectorPath("Layout", "Size", 3));
-    private final ValuePropertyMetadata prefWidth_80000_PropertyMetadata =
-            new DoublePropertyMetadata(
-                prefWidthName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.USE_COMPUTED_SIZE,
-                true, /* readWrite */
-                800.0, /* defaultValue */
-                new InspectorPath("Layout", "Size", 3));
-    private final ValuePropertyMetadata prefWrapLengthPropertyMetadata =
-            new DoublePropertyMetadata(
-                prefWrapLengthName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                400.0, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 75));
-    private final ValuePropertyMetadata preserveRatio_false_PropertyMetadata =
-            new BooleanPropertyMetadata(
-                preserveRatioName,
-                true, /* readWrite */
-                false, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 32));
-    private final ValuePropertyMetadata preserveRatio_true_PropertyMetadata =
-            new BooleanPropertyMetadata(
-                preserveRatioName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 32));
-    private final ValuePropertyMetadata progressPropertyMetadata =
-            new DoublePropertyMetadata(
-                progressName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.PROGRESS,
-                true, /* readWrite */
-                -1.0, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 33));
-    private final ValuePropertyMetadata promptTextPropertyMetadata =
-            new StringPropertyMetadata(
-                promptTextName,
-                true, /* readWrite */
-                "", /* defaultValue */
-                new InspectorPath("Properties", "Text", 3));
-    private final ValuePropertyMetadata radius_0_PropertyMetadata =
-            new DoublePropertyMetadata(
-                radiusName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Size", 11));
-    private final ValuePropertyMetadata radius_100_PropertyMetadata =
-            new DoublePropertyMetadata(
-                radiusName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                1.0, /* defaultValue */
-                new InspectorPath("Layout", "Size", 11));
-    private final ValuePropertyMetadata radiusXPropertyMetadata =
-            new DoublePropertyMetadata(
-                radiusXName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Size", 12));
-    private final ValuePropertyMetadata radiusYPropertyMetadata =
-            new DoublePropertyMetadata(
-                radiusYName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Size", 13));
-    private final ValuePropertyMetadata resizable_Boolean_ro_PropertyMetadata =
-            new BooleanPropertyMetadata(
-                resizableName,
-                false, /* readWrite */
-                null, /* No defaultValue for R/O property */
-                new InspectorPath("Layout", "Extras", 3));
-    private final ValuePropertyMetadata resizable_Boolean_PropertyMetadata =
-            new BooleanPropertyMetadata(
-                resizableName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Layout", "Extras", 3));
-    private final ComponentPropertyMetadata rightPropertyMetadata =
-            new ComponentPropertyMetadata(
-                rightName,
-                NodeMetadata,
-                false); /* collection */
-    private final ComponentPropertyMetadata root_scene_PropertyMetadata =
-            new ComponentPropertyMetadata(
-                    rootName,
-                    NodeMetadata,
-                    false);
-    private final ValuePropertyMetadata rotatePropertyMetadata =
-            new DoublePropertyMetadata(
-                rotateName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.ANGLE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Transforms", 0));
-    private final ValuePropertyMetadata rotateGraphicPropertyMetadata =
-            new BooleanPropertyMetadata(
-                rotateGraphicName,
-                true, /* readWrite */
-                false, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 67));
-    private final ValuePropertyMetadata rotationAxisPropertyMetadata =
-            new Point3DPropertyMetadata(
-                rotationAxisName,
-                true, /* readWrite */
-                new javafx.geometry.Point3D(0.0, 0.0, 1.0), /* defaultValue */
-                new InspectorPath("Layout", "Transforms", 1));
-    private final ComponentPropertyMetadata rowConstraintsPropertyMetadata =
-            new ComponentPropertyMetadata(
-                rowConstraintsName,
-                RowConstraintsMetadata,
-                true); /* collection */
-    private final ValuePropertyMetadata rowValignmentPropertyMetadata =
-            new EnumerationPropertyMetadata(
-                rowValignmentName,
-                javafx.geometry.VPos.class,
-                true, /* readWrite */
-                javafx.geometry.VPos.CENTER, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 51));
-    private final ValuePropertyMetadata scalePropertyMetadata =
-            new DoublePropertyMetadata(
-                scaleName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                false, /* readWrite */
-                null, /* No defaultValue for R/O property */
-                new InspectorPath("Properties", "Specific", 82));
-    private final ValuePropertyMetadata scaleShapePropertyMetadata =
-            new BooleanPropertyMetadata(
-                scaleShapeName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Properties", "Node", 9));
-    private final ValuePropertyMetadata scaleXPropertyMetadata =
-            new DoublePropertyMetadata(
-                scaleXName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                1.0, /* defaultValue */
-                new InspectorPath("Layout", "Transforms", 2));
-    private final ValuePropertyMetadata scaleYPropertyMetadata =
-            new DoublePropertyMetadata(
-                scaleYName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                1.0, /* defaultValue */
-                new InspectorPath("Layout", "Transforms", 3));
-    private final ValuePropertyMetadata scaleZPropertyMetadata =
-            new DoublePropertyMetadata(
-                scaleZName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                1.0, /* defaultValue */
-                new InspectorPath("Layout", "Transforms", 4));
-    private final ComponentPropertyMetadata scene_stage_PropertyMetadata =
-            new ComponentPropertyMetadata(
-                    sceneName,
-                    SceneMetadata,
-                    false);
-    private final ComponentPropertyMetadata scopePropertyMetadata =
-            new ComponentPropertyMetadata(
-                scopeName,
-                NodeMetadata,
-                true); /* collection */
-    private final ValuePropertyMetadata scrollLeftPropertyMetadata =
-            new DoublePropertyMetadata(
-                scrollLeftName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Properties", "Text", 16));
-    private final ValuePropertyMetadata scrollTopPropertyMetadata =
-            new DoublePropertyMetadata(
-                scrollTopName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Properties", "Text", 17));
-    private final ValuePropertyMetadata selected_Boolean_PropertyMetadata =
-            new BooleanPropertyMetadata(
-                selectedName,
-                true, /* readWrite */
-                false, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 35));
-    private final ValuePropertyMetadata selected_Boolean_ro_PropertyMetadata =
-            new BooleanPropertyMetadata(
-                selectedName,
-                false, /* readWrite */
-                null, /* No defaultValue for R/O property */
-                new InspectorPath("Properties", "Specific", 35));
-    private final ComponentPropertyMetadata shapePropertyMetadata =
-            new ComponentPropertyMetadata(
-                shapeName,
-                ShapeMetadata,
-                false); /* collection */
-    private final ValuePropertyMetadata showRootPropertyMetadata =
-            new BooleanPropertyMetadata(
-                showRootName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 52));
-    private final ValuePropertyMetadata showTickLabelsPropertyMetadata =
-            new BooleanPropertyMetadata(
-                showTickLabelsName,
-                true, /* readWrite */
-                false, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 83));
-    private final ValuePropertyMetadata showTickMarksPropertyMetadata =
-            new BooleanPropertyMetadata(
-                showTickMarksName,
-                true, /* readWrite */
-                false, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 76));
-    private final ValuePropertyMetadata showWeekNumbersPropertyMetadata =
-            new BooleanPropertyMetadata(
-                showWeekNumbersName,
-                true, /* readWrite */
-                false, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 127));
-    private final ValuePropertyMetadata side_NULL_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                sideName,
-                javafx.geometry.Side.class,
-                "BOTTOM", /* null equivalent */
-                true, /* readWrite */
-                new InspectorPath("Properties", "Specific", 36));
-    private final ValuePropertyMetadata side_TOP_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                sideName,
-                javafx.geometry.Side.class,
-                true, /* readWrite */
-                javafx.geometry.Side.TOP, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 36));
-    private final ValuePropertyMetadata smoothPropertyMetadata =
-            new BooleanPropertyMetadata(
-                smoothName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 53));
-    private final ValuePropertyMetadata snapToPixelPropertyMetadata =
-            new BooleanPropertyMetadata(
-                snapToPixelName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Layout", "Extras", 5));
-    private final ValuePropertyMetadata snapToTicksPropertyMetadata =
-            new BooleanPropertyMetadata(
-                snapToTicksName,
-                true, /* readWrite */
-                false, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 102));
-    private final ValuePropertyMetadata sortablePropertyMetadata =
-            new BooleanPropertyMetadata(
-                sortableName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 54));
-    private final ValuePropertyMetadata sortModePropertyMetadata =
-            new EnumerationPropertyMetadata(
-                sortModeName,
-                javafx.scene.control.TreeSortMode.class,
-                true, /* readWrite */
-                javafx.scene.control.TreeSortMode.ALL_DESCENDANTS, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 56));
-    private final ComponentPropertyMetadata sortNodePropertyMetadata =
-            new ComponentPropertyMetadata(
-                sortNodeName,
-                NodeMetadata,
-                false); /* collection */
-    private final ComponentPropertyMetadata sortOrderPropertyMetadata =
-            new ComponentPropertyMetadata(
-                sortOrderName,
-                TableColumnMetadata,
-                true); /* collection */
-    private final ValuePropertyMetadata sortType_SortType_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                sortTypeName,
-                javafx.scene.control.TableColumn.SortType.class,
-                true, /* readWrite */
-                javafx.scene.control.TableColumn.SortType.ASCENDING, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 68));
-    private final ValuePropertyMetadata spacingPropertyMetadata =
-            new DoublePropertyMetadata(
-                spacingName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Internal", 3));
-    private final ValuePropertyMetadata startAnglePropertyMetadata =
-            new DoublePropertyMetadata(
-                startAngleName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.ANGLE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Size", 17));
-    private final ValuePropertyMetadata startMarginPropertyMetadata =
-            new DoublePropertyMetadata(
-                startMarginName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                5.0, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 92));
-    private final ValuePropertyMetadata startXPropertyMetadata =
-            new DoublePropertyMetadata(
-                startXName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Position", 5));
-    private final ValuePropertyMetadata startYPropertyMetadata =
-            new DoublePropertyMetadata(
-                startYName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Position", 6));
-    private final ValuePropertyMetadata strikethroughPropertyMetadata =
-            new BooleanPropertyMetadata(
-                strikethroughName,
-                true, /* readWrite */
-                false, /* defaultValue */
-                new InspectorPath("Properties", "Text", 13));
-    private final ValuePropertyMetadata stroke_BLACK_PropertyMetadata =
-            new PaintPropertyMetadata(
-                strokeName,
-                true, /* readWrite */
-                javafx.scene.paint.Color.BLACK, /* defaultValue */
-                new InspectorPath("Properties", "Stroke", 0));
-    private final ValuePropertyMetadata stroke_NULL_PropertyMetadata =
-            new PaintPropertyMetadata(
-                strokeName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Properties", "Stroke", 0));
-    private final ValuePropertyMetadata strokeDashOffsetPropertyMetadata =
-            new DoublePropertyMetadata(
-                strokeDashOffsetName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Properties", "Stroke", 6));
-    private final ValuePropertyMetadata strokeLineCapPropertyMetadata =
-            new EnumerationPropertyMetadata(
-                strokeLineCapName,
-                javafx.scene.shape.StrokeLineCap.class,
-                true, /* readWrite */
-                javafx.scene.shape.StrokeLineCap.SQUARE, /* defaultValue */
-                new InspectorPath("Properties", "Stroke", 3));
-    private final ValuePropertyMetadata strokeLineJoinPropertyMetadata =
-            new EnumerationPropertyMetadata(
-                strokeLineJoinName,
-                javafx.scene.shape.StrokeLineJoin.class,
-                true, /* readWrite */
-                javafx.scene.shape.StrokeLineJoin.MITER, /* defaultValue */
-                new InspectorPath("Properties", "Stroke", 4));
-    private final ValuePropertyMetadata strokeMiterLimitPropertyMetadata =
-            new DoublePropertyMetadata(
-                strokeMiterLimitName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                10.0, /* defaultValue */
-                new InspectorPath("Properties", "Stroke", 5));
-    private final ValuePropertyMetadata strokeTypePropertyMetadata =
-            new EnumerationPropertyMetadata(
-                strokeTypeName,
-                javafx.scene.shape.StrokeType.class,
-                true, /* readWrite */
-                javafx.scene.shape.StrokeType.CENTERED, /* defaultValue */
-                new InspectorPath("Properties", "Stroke", 2));
-    private final ValuePropertyMetadata strokeWidthPropertyMetadata =
-            new DoublePropertyMetadata(
-                strokeWidthName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                1.0, /* defaultValue */
-                new InspectorPath("Properties", "Stroke", 1));
-    private final ValuePropertyMetadata stylePropertyMetadata =
-            new StringPropertyMetadata(
-                styleName,
-                true, /* readWrite */
-                "", /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 0));
-    private final ValuePropertyMetadata styleClass_c4_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("accordion"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c37_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("chart"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c45_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("axis"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c1_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("chart","bar-chart"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c17_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("button"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c35_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("button-bar"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c41_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("radio-button"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c10_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("check-box"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c28_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("menu-item","check-menu-item"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c43_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("choice-box"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c5_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("combo-box-base","color-picker"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c11_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("combo-box-base","combo-box"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c8_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("context-menu"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c25_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("hyperlink"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c27_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("menu-item","custom-menu-item"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c9_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("combo-box-base","date-picker"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c30_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("dialog-pane"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c21_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("html-editor"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c20_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("image-view"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c3_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("label"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c34_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("list-view"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c46_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("media-view"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c29_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("menu-item","menu"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c18_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("menu-bar"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c52_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("menu-button"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c36_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("menu-item"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_empty_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Collections.emptyList(), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c39_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("pagination"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c53_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("text-input","text-field","password-field"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c13_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("progress-bar"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c50_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("progress-indicator"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c7_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("menu-item","radio-menu-item"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c33_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("scroll-bar"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c38_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("scroll-pane"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c31_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("separator"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c23_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("menu-item","custom-menu-item","separator-menu-item"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c40_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("slider"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c24_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("spinner"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c2_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("split-menu-button"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c14_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("split-pane"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c12_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("chart","stacked-bar-chart"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c19_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("tab"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c6_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("tab-pane"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c42_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("table-column"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c49_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("table-view"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c51_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("text-input","text-area"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c47_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("text-input","text-field"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c26_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("titled-pane"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c44_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("toggle-button"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c16_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("tool-bar"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c15_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("tooltip"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c32_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("tree-table-view"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c22_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("tree-view"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata styleClass_c48_PropertyMetadata =
-            new StringListPropertyMetadata(
-                styleClassName,
-                true, /* readWrite */
-                Arrays.asList("web-view"), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 1));
-    private final ValuePropertyMetadata stylesheetsPropertyMetadata =
-            new StringListPropertyMetadata(
-                stylesheetsName,
-                true, /* readWrite */
-                Collections.emptyList(), /* defaultValue */
-                new InspectorPath("Properties", "JavaFX CSS", 2));
-    private final ValuePropertyMetadata sweepFlagPropertyMetadata =
-            new BooleanPropertyMetadata(
-                sweepFlagName,
-                true, /* readWrite */
-                false, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 124));
-    private final ValuePropertyMetadata tabClosingPolicyPropertyMetadata =
-            new EnumerationPropertyMetadata(
-                tabClosingPolicyName,
-                javafx.scene.control.TabPane.TabClosingPolicy.class,
-                true, /* readWrite */
-                javafx.scene.control.TabPane.TabClosingPolicy.SELECTED_TAB, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 57));
-    private final ValuePropertyMetadata tableMenuButtonVisiblePropertyMetadata =
-            new BooleanPropertyMetadata(
-                tableMenuButtonVisibleName,
-                true, /* readWrite */
-                false, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 58));
-    private final ValuePropertyMetadata tabMaxHeightPropertyMetadata =
-            new DoublePropertyMetadata(
-                tabMaxHeightName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                Double.MAX_VALUE, /* defaultValue */
-                new InspectorPath("Layout", "Specific", 15));
-    private final ValuePropertyMetadata tabMaxWidthPropertyMetadata =
-            new DoublePropertyMetadata(
-                tabMaxWidthName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                Double.MAX_VALUE, /* defaultValue */
-                new InspectorPath("Layout", "Specific", 14));
-    private final ValuePropertyMetadata tabMinHeightPropertyMetadata =
-            new DoublePropertyMetadata(
-                tabMinHeightName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Specific", 13));
-    private final ValuePropertyMetadata tabMinWidthPropertyMetadata =
-            new DoublePropertyMetadata(
-                tabMinWidthName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Specific", 12));
-    private final ComponentPropertyMetadata tabsPropertyMetadata =
-            new ComponentPropertyMetadata(
-                tabsName,
-                TabMetadata,
-                true); /* collection */
-    private final ValuePropertyMetadata textPropertyMetadata =
-            new StringPropertyMetadata(
-                textName,
-                true, /* readWrite */
-                "", /* defaultValue */
-                new InspectorPath("Properties", "Text", 4));
-    private final ValuePropertyMetadata textAlignmentPropertyMetadata =
-            new EnumerationPropertyMetadata(
-                textAlignmentName,
-                javafx.scene.text.TextAlignment.class,
-                true, /* readWrite */
-                javafx.scene.text.TextAlignment.LEFT, /* defaultValue */
-                new InspectorPath("Properties", "Text", 9));
-    private final ValuePropertyMetadata textFillPropertyMetadata =
-            new PaintPropertyMetadata(
-                textFillName,
-                true, /* readWrite */
-                javafx.scene.paint.Color.BLACK, /* defaultValue */
-                new InspectorPath("Properties", "Text", 7));
-    private final ComponentPropertyMetadata textFormatterPropertyMetadata =
-            new ComponentPropertyMetadata(
-                textFormatterName,
-                TextFormatterMetadata,
-                false); /* collection */
-    private final ValuePropertyMetadata textOriginPropertyMetadata =
-            new EnumerationPropertyMetadata(
-                textOriginName,
-                javafx.geometry.VPos.class,
-                true, /* readWrite */
-                javafx.geometry.VPos.BASELINE, /* defaultValue */
-                new InspectorPath("Layout", "Extras", 6));
-    private final ValuePropertyMetadata textOverrunPropertyMetadata =
-            new EnumerationPropertyMetadata(
-                textOverrunName,
-                javafx.scene.control.OverrunStyle.class,
-                true, /* readWrite */
-                javafx.scene.control.OverrunStyle.ELLIPSIS, /* defaultValue */
-                new InspectorPath("Properties", "Text", 11));
-    private final ValuePropertyMetadata tickLabelFillPropertyMetadata =
-            new PaintPropertyMetadata(
-                tickLabelFillName,
-                true, /* readWrite */
-                javafx.scene.paint.Color.BLACK, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 97));
-    private final ValuePropertyMetadata tickLabelFontPropertyMetadata =
-            new FontPropertyMetadata(
-                tickLabelFontName,
-                true, /* readWrite */
-                javafx.scene.text.Font.font("System",8.0), /* defaultValue */
-                new InspectorPath("Properties", "Specific", 93));
-    private final ValuePropertyMetadata tickLabelFormatterPropertyMetadata =
-            new StringConverterPropertyMetadata(
-                tickLabelFormatterName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 86));
-    private final ValuePropertyMetadata tickLabelGapPropertyMetadata =
-            new DoublePropertyMetadata(
-                tickLabelGapName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                3.0, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 103));
-    private final ValuePropertyMetadata tickLabelRotationPropertyMetadata =
-            new DoublePropertyMetadata(
-                tickLabelRotationName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.ANGLE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 112));
-    private final ValuePropertyMetadata tickLabelsVisiblePropertyMetadata =
-            new BooleanPropertyMetadata(
-                tickLabelsVisibleName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 85));
-    private final ValuePropertyMetadata tickLengthPropertyMetadata =
-            new DoublePropertyMetadata(
-                tickLengthName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                8.0, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 116));
-    private final ValuePropertyMetadata tickMarksPropertyMetadata =
-            new TickMarkListPropertyMetadata(
-                tickMarksName,
-                true, /* readWrite */
-                Collections.emptyList(), /* defaultValue */
-                new InspectorPath("Properties", "Specific", 84));
-    private final ValuePropertyMetadata tickMarkVisiblePropertyMetadata =
-            new BooleanPropertyMetadata(
-                tickMarkVisibleName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 114));
-    private final ValuePropertyMetadata tickUnitPropertyMetadata =
-            new DoublePropertyMetadata(
-                tickUnitName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                5.0, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 120));
-    private final ValuePropertyMetadata tileAlignmentPropertyMetadata =
-            new EnumerationPropertyMetadata(
-                tileAlignmentName,
-                javafx.geometry.Pos.class,
-                true, /* readWrite */
-                javafx.geometry.Pos.CENTER, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 59));
-    private final ValuePropertyMetadata tileHeightPropertyMetadata =
-            new DoublePropertyMetadata(
-                tileHeightName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                false, /* readWrite */
-                null, /* No defaultValue for R/O property */
-                new InspectorPath("Layout", "Specific", 21));
-    private final ValuePropertyMetadata tileWidthPropertyMetadata =
-            new DoublePropertyMetadata(
-                tileWidthName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                false, /* readWrite */
-                null, /* No defaultValue for R/O property */
-                new InspectorPath("Layout", "Specific", 20));
-    private final ValuePropertyMetadata titlePropertyMetadata =
-            new StringPropertyMetadata(
-                titleName,
-                true, /* readWrite */
-                "", /* defaultValue */
-                new InspectorPath("Properties", "Specific", 37));
-    private final ValuePropertyMetadata titleSidePropertyMetadata =
-            new EnumerationPropertyMetadata(
-                titleSideName,
-                javafx.geometry.Side.class,
-                true, /* readWrite */
-                javafx.geometry.Side.TOP, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 60));
-    private final ValuePropertyMetadata toggleGroupPropertyMetadata =
-            new ToggleGroupPropertyMetadata(
-                toggleGroupName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 38));
-    private final ComponentPropertyMetadata tooltipPropertyMetadata =
-            new ComponentPropertyMetadata(
-                tooltipName,
-                TooltipMetadata,
-                false); /* collection */
-    private final ComponentPropertyMetadata topPropertyMetadata =
-            new ComponentPropertyMetadata(
-                topName,
-                NodeMetadata,
-                false); /* collection */
-    private final ValuePropertyMetadata translateXPropertyMetadata =
-            new DoublePropertyMetadata(
-                translateXName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Transforms", 5));
-    private final ValuePropertyMetadata translateYPropertyMetadata =
-            new DoublePropertyMetadata(
-                translateYName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Transforms", 6));
-    private final ValuePropertyMetadata translateZPropertyMetadata =
-            new DoublePropertyMetadata(
-                translateZName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Transforms", 7));
-    private final ComponentPropertyMetadata treeColumnPropertyMetadata =
-            new ComponentPropertyMetadata(
-                treeColumnName,
-                TreeTableColumnMetadata,
-                false); /* collection */
-    private final ValuePropertyMetadata typePropertyMetadata =
-            new EnumerationPropertyMetadata(
-                typeName,
-                javafx.scene.shape.ArcType.class,
-                true, /* readWrite */
-                javafx.scene.shape.ArcType.OPEN, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 61));
-    private final ValuePropertyMetadata underlinePropertyMetadata =
-            new BooleanPropertyMetadata(
-                underlineName,
-                true, /* readWrite */
-                false, /* defaultValue */
-                new InspectorPath("Properties", "Text", 14));
-    private final ValuePropertyMetadata unitIncrementPropertyMetadata =
-            new DoublePropertyMetadata(
-                unitIncrementName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                1.0, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 69));
-    private final ValuePropertyMetadata upperBoundPropertyMetadata =
-            new DoublePropertyMetadata(
-                upperBoundName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                100.0, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 98));
-    private final ValuePropertyMetadata useSystemMenuBarPropertyMetadata =
-            new BooleanPropertyMetadata(useSystemMenuBarName, 
-                    true, /* readWrite */
-                    false, 
-                    new InspectorPath("Properties", "Node", 25));
-    private final ValuePropertyMetadata userAgentStylesheetPropertyMetadata =
-            new StringPropertyMetadata(
-                userAgentStylesheetName,
-                true, /* readWrite */
-                "", /* defaultValue */
-                new InspectorPath("Properties", "Specific", 129));
-    private final ValuePropertyMetadata valignment_NULL_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                valignmentName,
-                javafx.geometry.VPos.class,
-                "INHERIT", /* null equivalent */
-                true, /* readWrite */
-                new InspectorPath("Layout", "Specific", 5));
-    private final ValuePropertyMetadata valignment_CENTER_PropertyMetadata =
-            new EnumerationPropertyMetadata(
-                valignmentName,
-                javafx.geometry.VPos.class,
-                true, /* readWrite */
-                javafx.geometry.VPos.CENTER, /* defaultValue */
-                new InspectorPath("Layout", "Specific", 5));
-    private final ValuePropertyMetadata value_Object_PropertyMetadata =
-            new ObjectPropertyMetadata(
-                valueName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 70));
-    private final ValuePropertyMetadata value_Color_PropertyMetadata =
-            new ColorPropertyMetadata(
-                valueName,
-                true, /* readWrite */
-                javafx.scene.paint.Color.WHITE, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 70));
-    private final ValuePropertyMetadata value_Double_PropertyMetadata =
-            new DoublePropertyMetadata(
-                valueName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 70));
-    private final ValuePropertyMetadata value_Object_ro_PropertyMetadata =
-            new ObjectPropertyMetadata(
-                valueName,
-                false, /* readWrite */
-                null, /* No defaultValue for R/O property */
-                new InspectorPath("Properties", "Specific", 70));
-    private final ValuePropertyMetadata vbarPolicyPropertyMetadata =
-            new EnumerationPropertyMetadata(
-                vbarPolicyName,
-                javafx.scene.control.ScrollPane.ScrollBarPolicy.class,
-                true, /* readWrite */
-                javafx.scene.control.ScrollPane.ScrollBarPolicy.AS_NEEDED, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 71));
-    private final ValuePropertyMetadata verticalFieldOfViewPropertyMetadata =
-            new BooleanPropertyMetadata(
-                verticalFieldOfViewName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Properties", "3D", 5));
-    private final ValuePropertyMetadata verticalGridLinesVisiblePropertyMetadata =
-            new BooleanPropertyMetadata(
-                verticalGridLinesVisibleName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 115));
-    private final ValuePropertyMetadata verticalZeroLineVisiblePropertyMetadata =
-            new BooleanPropertyMetadata(
-                verticalZeroLineVisibleName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 117));
-    private final ValuePropertyMetadata vgapPropertyMetadata =
-            new DoublePropertyMetadata(
-                vgapName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Internal", 1));
-    private final ValuePropertyMetadata vgrowPropertyMetadata =
-            new EnumerationPropertyMetadata(
-                vgrowName,
-                javafx.scene.layout.Priority.class,
-                "INHERIT", /* null equivalent */
-                true, /* readWrite */
-                new InspectorPath("Layout", "Specific", 3));
-    private final ValuePropertyMetadata viewportPropertyMetadata =
-            new Rectangle2DPropertyMetadata(
-                viewportName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Layout", "Specific", 0));
-    private final ValuePropertyMetadata viewportBoundsPropertyMetadata =
-            new BoundsPropertyMetadata(
-                viewportBoundsName,
-                true, /* readWrite */
-                new javafx.geometry.BoundingBox(0.0, 0.0, 0.0, 0.0), /* defaultValue */
-                new InspectorPath("Layout", "Bounds", 1));
-    private final ValuePropertyMetadata visiblePropertyMetadata =
-            new BooleanPropertyMetadata(
-                visibleName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Properties", "Node", 5));
-    private final ValuePropertyMetadata visibleAmountPropertyMetadata =
-            new DoublePropertyMetadata(
-                visibleAmountName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                15.0, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 87));
-    private final ValuePropertyMetadata visibleRowCountPropertyMetadata =
-            new IntegerPropertyMetadata(
-                visibleRowCountName,
-                true, /* readWrite */
-                10, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 41));
-    private final ValuePropertyMetadata visitedPropertyMetadata =
-            new BooleanPropertyMetadata(
-                visitedName,
-                true, /* readWrite */
-                false, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 42));
-    private final ValuePropertyMetadata vmaxPropertyMetadata =
-            new DoublePropertyMetadata(
-                vmaxName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                1.0, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 109));
-    private final ValuePropertyMetadata vminPropertyMetadata =
-            new DoublePropertyMetadata(
-                vminName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 105));
-    private final ValuePropertyMetadata vvaluePropertyMetadata =
-            new DoublePropertyMetadata(
-                vvalueName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 107));
-    private final ValuePropertyMetadata width_Double_200_PropertyMetadata =
-            new DoublePropertyMetadata(
-                widthName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                2.0, /* defaultValue */
-                new InspectorPath("Layout", "Size", 7));
-    private final ValuePropertyMetadata width_Double_0_PropertyMetadata =
-            new DoublePropertyMetadata(
-                widthName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Size", 7));
-    private final ValuePropertyMetadata width_Double_COMPUTED_PropertyMetadata =
-            new DoublePropertyMetadata(
-                widthName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.USE_COMPUTED_SIZE,
-                true, /* readWrite */
-                -1.0, /* defaultValue */
-                new InspectorPath("Layout", "Size", 7));
-    private final ValuePropertyMetadata width_Double_ro_PropertyMetadata =
-            new DoublePropertyMetadata(
-                widthName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                false, /* readWrite */
-                null, /* No defaultValue for R/O property */
-                new InspectorPath("Layout", "Size", 7));
-    private final ValuePropertyMetadata wrappingWidthPropertyMetadata =
-            new DoublePropertyMetadata(
-                wrappingWidthName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Properties", "Text", 10));
-    private final ValuePropertyMetadata wrapTextPropertyMetadata =
-            new BooleanPropertyMetadata(
-                wrapTextName,
-                true, /* readWrite */
-                false, /* defaultValue */
-                new InspectorPath("Properties", "Text", 8));
-    private final ValuePropertyMetadata x_0_PropertyMetadata =
-            new DoublePropertyMetadata(
-                xName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Position", 12));
-    private final ValuePropertyMetadata x_NaN_PropertyMetadata =
-            new DoublePropertyMetadata(
-                xName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                Double.NaN, /* defaultValue */
-                new InspectorPath("Layout", "Position", 12));
-    private final ComponentPropertyMetadata xAxisPropertyMetadata =
-            new ComponentPropertyMetadata(
-                    xAxisName,
-                AxisMetadata,
-                false); /* collection */
-    private final ValuePropertyMetadata XAxisRotationPropertyMetadata =
-            new DoublePropertyMetadata(
-                XAxisRotationName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.ANGLE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 125));
-    private final ValuePropertyMetadata y_0_PropertyMetadata =
-            new DoublePropertyMetadata(
-                yName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                0.0, /* defaultValue */
-                new InspectorPath("Layout", "Position", 13));
-    private final ValuePropertyMetadata y_NaN_PropertyMetadata =
-            new DoublePropertyMetadata(
-                yName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                true, /* readWrite */
-                Double.NaN, /* defaultValue */
-                new InspectorPath("Layout", "Position", 13));
-    private final ComponentPropertyMetadata yAxisPropertyMetadata =
-            new ComponentPropertyMetadata(
-                    yAxisName,
-                AxisMetadata,
-                false); /* collection */
-    private final ValuePropertyMetadata zeroPositionPropertyMetadata =
-            new DoublePropertyMetadata(
-                zeroPositionName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
-                false, /* readWrite */
-                null, /* No defaultValue for R/O property */
-                new InspectorPath("Properties", "Specific", 118));
-    private final ValuePropertyMetadata zoomPropertyMetadata =
-            new DoublePropertyMetadata(
-                zoomName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
-                true, /* readWrite */
-                1.0, /* defaultValue */
-                new InspectorPath("Properties", "Specific", 123));
-    private final ValuePropertyMetadata SplitPane_resizableWithParentPropertyMetadata =
-            new BooleanPropertyMetadata(
-                SplitPane_resizableWithParentName,
-                true, /* readWrite */
-                true, /* defaultValue */
-                new InspectorPath("Layout", "Split Pane Constraints", 0));
-    private final ValuePropertyMetadata AnchorPane_bottomAnchorPropertyMetadata =
-            new DoublePropertyMetadata(
-                AnchorPane_bottomAnchorName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.NULLABLE_COORDINATE,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Layout", "Anchor Pane Constraints", 0));
-    private final ValuePropertyMetadata AnchorPane_leftAnchorPropertyMetadata =
-            new DoublePropertyMetadata(
-                AnchorPane_leftAnchorName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.NULLABLE_COORDINATE,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Layout", "Anchor Pane Constraints", 1));
-    private final ValuePropertyMetadata AnchorPane_rightAnchorPropertyMetadata =
-            new DoublePropertyMetadata(
-                AnchorPane_rightAnchorName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.NULLABLE_COORDINATE,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Layout", "Anchor Pane Constraints", 2));
-    private final ValuePropertyMetadata AnchorPane_topAnchorPropertyMetadata =
-            new DoublePropertyMetadata(
-                AnchorPane_topAnchorName,
-                com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.NULLABLE_COORDINATE,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Layout", "Anchor Pane Constraints", 3));
-    private final ValuePropertyMetadata BorderPane_alignmentPropertyMetadata =
-            new EnumerationPropertyMetadata(
-                BorderPane_alignmentName,
-                javafx.geometry.Pos.class,
-                "AUTOMATIC", /* null equivalent */
-                true, /* readWrite */
-                new InspectorPath("Layout", "Border Pane Constraints", 0));
-    private final ValuePropertyMetadata BorderPane_marginPropertyMetadata =
-            new InsetsPropertyMetadata(
-                BorderPane_marginName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Layout", "Border Pane Constraints", 1));
-    private final ValuePropertyMetadata FlowPane_marginPropertyMetadata =
-            new InsetsPropertyMetadata(
-                FlowPane_marginName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Layout", "Flow Pane Constraints", 0));
-    private final ValuePropertyMetadata GridPane_columnIndexPropertyMetadata =
-            new IntegerPropertyMetadata(
-                GridPane_columnIndexName,
-                true, /* readWrite */
-                0, /* defaultValue */
-                new InspectorPath("Layout", "Grid Pane Constraints", 1));
-    private final ValuePropertyMetadata GridPane_columnSpanPropertyMetadata =
-            new IntegerPropertyMetadata(
-                GridPane_columnSpanName,
-                true, /* readWrite */
-                1, /* defaultValue */
-                new InspectorPath("Layout", "Grid Pane Constraints", 3));
-    private final ValuePropertyMetadata GridPane_halignmentPropertyMetadata =
-            new EnumerationPropertyMetadata(
-                GridPane_halignmentName,
-                javafx.geometry.HPos.class,
-                "INHERIT", /* null equivalent */
-                true, /* readWrite */
-                new InspectorPath("Layout", "Grid Pane Constraints", 7));
-    private final ValuePropertyMetadata GridPane_hgrowPropertyMetadata =
-            new EnumerationPropertyMetadata(
-                GridPane_hgrowName,
-                javafx.scene.layout.Priority.class,
-                "INHERIT", /* null equivalent */
-                true, /* readWrite */
-                new InspectorPath("Layout", "Grid Pane Constraints", 4));
-    private final ValuePropertyMetadata GridPane_marginPropertyMetadata =
-            new InsetsPropertyMetadata(
-                GridPane_marginName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Layout", "Grid Pane Constraints", 8));
-    private final ValuePropertyMetadata GridPane_rowIndexPropertyMetadata =
-            new IntegerPropertyMetadata(
-                GridPane_rowIndexName,
-                true, /* readWrite */
-                0, /* defaultValue */
-                new InspectorPath("Layout", "Grid Pane Constraints", 0));
-    private final ValuePropertyMetadata GridPane_rowSpanPropertyMetadata =
-            new IntegerPropertyMetadata(
-                GridPane_rowSpanName,
-                true, /* readWrite */
-                1, /* defaultValue */
-                new InspectorPath("Layout", "Grid Pane Constraints", 2));
-    private final ValuePropertyMetadata GridPane_valignmentPropertyMetadata =
-            new EnumerationPropertyMetadata(
-                GridPane_valignmentName,
-                javafx.geometry.VPos.class,
-                "INHERIT", /* null equivalent */
-                true, /* readWrite */
-                new InspectorPath("Layout", "Grid Pane Constraints", 6));
-    private final ValuePropertyMetadata GridPane_vgrowPropertyMetadata =
-            new EnumerationPropertyMetadata(
-                GridPane_vgrowName,
-                javafx.scene.layout.Priority.class,
-                "INHERIT", /* null equivalent */
-                true, /* readWrite */
-                new InspectorPath("Layout", "Grid Pane Constraints", 5));
-    private final ValuePropertyMetadata HBox_hgrowPropertyMetadata =
-            new EnumerationPropertyMetadata(
-                HBox_hgrowName,
-                javafx.scene.layout.Priority.class,
-                "INHERIT", /* null equivalent */
-                true, /* readWrite */
-                new InspectorPath("Layout", "HBox Constraints", 0));
-    private final ValuePropertyMetadata HBox_marginPropertyMetadata =
-            new InsetsPropertyMetadata(
-                HBox_marginName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Layout", "HBox Constraints", 1));
-    private final ValuePropertyMetadata StackPane_alignmentPropertyMetadata =
-            new EnumerationPropertyMetadata(
-                StackPane_alignmentName,
-                javafx.geometry.Pos.class,
-                "INHERIT", /* null equivalent */
-                true, /* readWrite */
-                new InspectorPath("Layout", "Stack Pane Constraints", 0));
-    private final ValuePropertyMetadata StackPane_marginPropertyMetadata =
-            new InsetsPropertyMetadata(
-                StackPane_marginName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Layout", "Stack Pane Constraints", 1));
-    private final ValuePropertyMetadata TilePane_alignmentPropertyMetadata =
-            new EnumerationPropertyMetadata(
-                TilePane_alignmentName,
-                javafx.geometry.Pos.class,
-                "INHERIT", /* null equivalent */
-                true, /* readWrite */
-                new InspectorPath("Layout", "Tile Pane Constraints", 0));
-    private final ValuePropertyMetadata TilePane_marginPropertyMetadata =
-            new InsetsPropertyMetadata(
-                TilePane_marginName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Layout", "Tile Pane Constraints", 1));
-    private final ValuePropertyMetadata VBox_marginPropertyMetadata =
-            new InsetsPropertyMetadata(
-                VBox_marginName,
-                true, /* readWrite */
-                null, /* defaultValue */
-                new InspectorPath("Layout", "VBox Constraints", 1));
-    private final ValuePropertyMetadata VBox_vgrowPropertyMetadata =
-            new EnumerationPropertyMetadata(
-                VBox_vgrowName,
-                javafx.scene.layout.Priority.class,
-                "INHERIT", /* null equivalent */
-                true, /* readWrite */
-                new InspectorPath("Layout", "VBox Constraints", 0));
-
-    private final ValuePropertyMetadata includeFxmlPropertyMetadata =
-            new StringListPropertyMetadata(
-                    source,
-                    true, /* readWrite */
-                    Collections.emptyList(), /* defaultValue */
-                    new InspectorPath("Properties", "Include FXML file", 2));
-
-
-
-    private Metadata() {
-
-        // Populate componentClassMap
-        componentClassMap.put(AccordionMetadata.getKlass(), AccordionMetadata);
-        componentClassMap.put(AmbientLightMetadata.getKlass(), AmbientLightMetadata);
-        componentClassMap.put(AnchorPaneMetadata.getKlass(), AnchorPaneMetadata);
-        componentClassMap.put(ArcMetadata.getKlass(), ArcMetadata);
-        componentClassMap.put(ArcToMetadata.getKlass(), ArcToMetadata);
-        componentClassMap.put(AreaChartMetadata.getKlass(), AreaChartMetadata);
-        componentClassMap.put(AxisMetadata.getKlass(), AxisMetadata);
-        componentClassMap.put(BarChartMetadata.getKlass(), BarChartMetadata);
-        componentClassMap.put(BorderPaneMetadata.getKlass(), BorderPaneMetadata);
-        componentClassMap.put(BoxMetadata.getKlass(), BoxMetadata);
-        componentClassMap.put(BubbleChartMetadata.getKlass(), BubbleChartMetadata);
-        componentClassMap.put(ButtonMetadata.getKlass(), ButtonMetadata);
-        componentClassMap.put(ButtonBarMetadata.getKlass(), ButtonBarMetadata);
-        componentClassMap.put(ButtonBaseMetadata.getKlass(), ButtonBaseMetadata);
-        componentClassMap.put(CameraMetadata.getKlass(), CameraMetadata);
-        componentClassMap.put(CanvasMetadata.getKlass(), CanvasMetadata);
-        componentClassMap.put(CategoryAxisMetadata.getKlass(), CategoryAxisMetadata);
-        componentClassMap.put(ChartMetadata.getKlass(), ChartMetadata);
-        componentClassMap.put(CheckBoxMetadata.getKlass(), CheckBoxMetadata);
-        componentClassMap.put(CheckMenuItemMetadata.getKlass(), CheckMenuItemMetadata);
-        componentClassMap.put(ChoiceBoxMetadata.getKlass(), ChoiceBoxMetadata);
-        componentClassMap.put(CircleMetadata.getKlass(), CircleMetadata);
-        componentClassMap.put(ClosePathMetadata.getKlass(), ClosePathMetadata);
-        componentClassMap.put(ColorPickerMetadata.getKlass(), ColorPickerMetadata);
-        componentClassMap.put(ColumnConstraintsMetadata.getKlass(), ColumnConstraintsMetadata);
-        componentClassMap.put(ComboBoxMetadata.getKlass(), ComboBoxMetadata);
-        componentClassMap.put(ComboBoxBaseMetadata.getKlass(), ComboBoxBaseMetadata);
-        componentClassMap.put(ContextMenuMetadata.getKlass(), ContextMenuMetadata);
-        componentClassMap.put(ControlMetadata.getKlass(), ControlMetadata);
-        componentClassMap.put(CubicCurveMetadata.getKlass(), CubicCurveMetadata);
-        componentClassMap.put(CubicCurveToMetadata.getKlass(), CubicCurveToMetadata);
-        componentClassMap.put(CustomMenuItemMetadata.getKlass(), CustomMenuItemMetadata);
-        componentClassMap.put(CylinderMetadata.getKlass(), CylinderMetadata);
-        componentClassMap.put(DialogPaneMetadata.getKlass(), DialogPaneMetadata);
-        componentClassMap.put(EllipseMetadata.getKlass(), EllipseMetadata);
-        componentClassMap.put(FlowPaneMetadata.getKlass(), FlowPaneMetadata);
-        componentClassMap.put(GridPaneMetadata.getKlass(), GridPaneMetadata);
-        componentClassMap.put(GroupMetadata.getKlass(), GroupMetadata);
-        componentClassMap.put(HBoxMetadata.getKlass(), HBoxMetadata);
-        componentClassMap.put(HLineToMetadata.getKlass(), HLineToMetadata);
-        componentClassMap.put(HTMLEditorMetadata.getKlass(), HTMLEditorMetadata);
-        componentClassMap.put(HyperlinkMetadata.getKlass(), HyperlinkMetadata);
-        componentClassMap.put(ImageViewMetadata.getKlass(), ImageViewMetadata);
-        componentClassMap.put(LabelMetadata.getKlass(), LabelMetadata);
-        componentClassMap.put(LabeledMetadata.getKlass(), LabeledMetadata);
-        componentClassMap.put(LightBaseMetadata.getKlass(), LightBaseMetadata);
-        componentClassMap.put(LineMetadata.getKlass(), LineMetadata);
-        componentClassMap.put(LineChartMetadata.getKlass(), LineChartMetadata);
-        componentClassMap.put(LineToMetadata.getKlass(), LineToMetadata);
-        componentClassMap.put(ListViewMetadata.getKlass(), ListViewMetadata);
-        componentClassMap.put(MediaViewMetadata.getKlass(), MediaViewMetadata);
-        componentClassMap.put(MenuMetadata.getKlass(), MenuMetadata);
-        componentClassMap.put(MenuBarMetadata.getKlass(), MenuBarMetadata);
-        componentClassMap.put(MenuButtonMetadata.getKlass(), MenuButtonMetadata);
-        componentClassMap.put(MenuItemMetadata.getKlass(), MenuItemMetadata);
-        componentClassMap.put(MeshViewMetadata.getKlass(), MeshViewMetadata);
-        componentClassMap.put(MoveToMetadata.getKlass(), MoveToMetadata);
-        componentClassMap.put(NodeMetadata.getKlass(), NodeMetadata);
-        componentClassMap.put(NumberAxisMetadata.getKlass(), NumberAxisMetadata);
-        componentClassMap.put(PaginationMetadata.getKlass(), PaginationMetadata);
-        componentClassMap.put(PaneMetadata.getKlass(), PaneMetadata);
-        componentClassMap.put(ParallelCameraMetadata.getKlass(), ParallelCameraMetadata);
-        componentClassMap.put(ParentMetadata.getKlass(), ParentMetadata);
-        componentClassMap.put(PasswordFieldMetadata.getKlass(), PasswordFieldMetadata);
-        componentClassMap.put(PathMetadata.getKlass(), PathMetadata);
-        componentClassMap.put(PathElementMetadata.getKlass(), PathElementMetadata);
-        componentClassMap.put(PerspectiveCameraMetadata.getKlass(), PerspectiveCameraMetadata);
-        componentClassMap.put(PieChartMetadata.getKlass(), PieChartMetadata);
-        componentClassMap.put(PointLightMetadata.getKlass(), PointLightMetadata);
-        componentClassMap.put(PolygonMetadata.getKlass(), PolygonMetadata);
-        componentClassMap.put(PolylineMetadata.getKlass(), PolylineMetadata);
-        componentClassMap.put(PopupControlMetadata.getKlass(), PopupControlMetadata);
-        componentClassMap.put(PopupWindowMetadata.getKlass(), PopupWindowMetadata);
-        componentClassMap.put(ProgressBarMetadata.getKlass(), ProgressBarMetadata);
-        componentClassMap.put(ProgressIndicatorMetadata.getKlass(), ProgressIndicatorMetadata);
-        componentClassMap.put(QuadCurveMetadata.getKlass(), QuadCurveMetadata);
-        componentClassMap.put(QuadCurveToMetadata.getKlass(), QuadCurveToMetadata);
-        componentClassMap.put(RadioButtonMetadata.getKlass(), RadioButtonMetadata);
-        componentClassMap.put(RadioMenuItemMetadata.getKlass(), RadioMenuItemMetadata);
-        componentClassMap.put(RectangleMetadata.getKlass(), RectangleMetadata);
-        componentClassMap.put(RegionMetadata.getKlass(), RegionMetadata);
-        componentClassMap.put(RowConstraintsMetadata.getKlass(), RowConstraintsMetadata);
-        componentClassMap.put(SVGPathMetadata.getKlass(), SVGPathMetadata);
-        componentClassMap.put(ScatterChartMetadata.getKlass(), ScatterChartMetadata);
-        componentClassMap.put(SceneMetadata.getKlass(), SceneMetadata);
-        componentClassMap.put(ScrollBarMetadata.getKlass(), ScrollBarMetadata);
-        componentClassMap.put(ScrollPaneMetadata.getKlass(), ScrollPaneMetadata);
-        componentClassMap.put(SeparatorMetadata.getKlass(), SeparatorMetadata);
-        componentClassMap.put(SeparatorMenuItemMetadata.getKlass(), SeparatorMenuItemMetadata);
-        componentClassMap.put(ShapeMetadata.getKlass(), ShapeMetadata);
-        componentClassMap.put(Shape3DMetadata.getKlass(), Shape3DMetadata);
-        componentClassMap.put(SliderMetadata.getKlass(), SliderMetadata);
-        componentClassMap.put(SphereMetadata.getKlass(), SphereMetadata);
-        componentClassMap.put(SpinnerMetadata.getKlass(), SpinnerMetadata);
-        componentClassMap.put(SplitMenuButtonMetadata.getKlass(), SplitMenuButtonMetadata);
-        componentClassMap.put(SplitPaneMetadata.getKlass(), SplitPaneMetadata);
-        componentClassMap.put(StackPaneMetadata.getKlass(), StackPaneMetadata);
-        componentClassMap.put(StackedAreaChartMetadata.getKlass(), StackedAreaChartMetadata);
-        componentClassMap.put(StackedBarChartMetadata.getKlass(), StackedBarChartMetadata);
-        componentClassMap.put(StageMetadata.getKlass(), StageMetadata);
-        componentClassMap.put(SubSceneMetadata.getKlass(), SubSceneMetadata);
-        componentClassMap.put(SwingNodeMetadata.getKlass(), SwingNodeMetadata);
-        componentClassMap.put(TabMetadata.getKlass(), TabMetadata);
-        componentClassMap.put(TabPaneMetadata.getKlass(), TabPaneMetadata);
-        componentClassMap.put(TableColumnMetadata.getKlass(), TableColumnMetadata);
-        componentClassMap.put(TableColumnBaseMetadata.getKlass(), TableColumnBaseMetadata);
-        componentClassMap.put(TableViewMetadata.getKlass(), TableViewMetadata);
-        componentClassMap.put(TextMetadata.getKlass(), TextMetadata);
-        componentClassMap.put(TextAreaMetadata.getKlass(), TextAreaMetadata);
-        componentClassMap.put(TextFieldMetadata.getKlass(), TextFieldMetadata);
-        componentClassMap.put(TextFlowMetadata.getKlass(), TextFlowMetadata);
-        componentClassMap.put(TextFormatterMetadata.getKlass(), TextFormatterMetadata);
-        componentClassMap.put(TextInputControlMetadata.getKlass(), TextInputControlMetadata);
-        componentClassMap.put(TilePaneMetadata.getKlass(), TilePaneMetadata);
-        componentClassMap.put(TitledPaneMetadata.getKlass(), TitledPaneMetadata);
-        componentClassMap.put(ToggleButtonMetadata.getKlass(), ToggleButtonMetadata);
-        componentClassMap.put(ToolBarMetadata.getKlass(), ToolBarMetadata);
-        componentClassMap.put(TooltipMetadata.getKlass(), TooltipMetadata);
-        componentClassMap.put(TreeTableColumnMetadata.getKlass(), TreeTableColumnMetadata);
-        componentClassMap.put(TreeTableViewMetadata.getKlass(), TreeTableViewMetadata);
-        componentClassMap.put(TreeViewMetadata.getKlass(), TreeViewMetadata);
-        componentClassMap.put(VBoxMetadata.getKlass(), VBoxMetadata);
-        componentClassMap.put(VLineToMetadata.getKlass(), VLineToMetadata);
-        componentClassMap.put(ValueAxisMetadata.getKlass(), ValueAxisMetadata);
-        componentClassMap.put(WebViewMetadata.getKlass(), WebViewMetadata);
-        componentClassMap.put(WindowMetadata.getKlass(), WindowMetadata);
-        componentClassMap.put(XYChartMetadata.getKlass(), XYChartMetadata);
-        componentClassMap.put(IncludeElementMetadata.getKlass(), IncludeElementMetadata);
-
-        addExternalMetadata();
-
-        // ComponentMetadata -> PropertyMetadata
-        AccordionMetadata.getProperties().add(panesPropertyMetadata);
-        AccordionMetadata.getProperties().add(styleClass_c4_PropertyMetadata);
-
-        AmbientLightMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata);
-        AmbientLightMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata);
-
-        ArcMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata);
-        ArcMetadata.getProperties().add(centerXPropertyMetadata);
-        ArcMetadata.getProperties().add(centerYPropertyMetadata);
-        ArcMetadata.getProperties().add(length_Double_PropertyMetadata);
-        ArcMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata);
-        ArcMetadata.getProperties().add(radiusXPropertyMetadata);
-        ArcMetadata.getProperties().add(radiusYPropertyMetadata);
-        ArcMetadata.getProperties().add(startAnglePropertyMetadata);
-        ArcMetadata.getProperties().add(typePropertyMetadata);
-
-        ArcToMetadata.getProperties().add(largeArcFlagPropertyMetadata);
-        ArcToMetadata.getProperties().add(radiusXPropertyMetadata);
-        ArcToMetadata.getProperties().add(radiusYPropertyMetadata);
-        ArcToMetadata.getProperties().add(sweepFlagPropertyMetadata);
-        ArcToMetadata.getProperties().add(x_0_PropertyMetadata);
-        ArcToMetadata.getProperties().add(XAxisRotationPropertyMetadata);
-        ArcToMetadata.getProperties().add(y_0_PropertyMetadata);
-
-        AreaChartMetadata.getProperties().add(createSymbolsPropertyMetadata);
-        AreaChartMetadata.getProperties().add(styleClass_c37_PropertyMetadata);
-
-        AxisMetadata.getProperties().add(animatedPropertyMetadata);
-        AxisMetadata.getProperties().add(autoRangingPropertyMetadata);
-        AxisMetadata.getProperties().add(labelPropertyMetadata);
-        AxisMetadata.getProperties().add(side_NULL_PropertyMetadata);
-        AxisMetadata.getProperties().add(styleClass_c45_PropertyMetadata);
-        AxisMetadata.getProperties().add(tickLabelFillPropertyMetadata);
-        AxisMetadata.getProperties().add(tickLabelFontPropertyMetadata);
-        AxisMetadata.getProperties().add(tickLabelGapPropertyMetadata);
-        AxisMetadata.getProperties().add(tickLabelRotationPropertyMetadata);
-        AxisMetadata.getProperties().add(tickLabelsVisiblePropertyMetadata);
-        AxisMetadata.getProperties().add(tickLengthPropertyMetadata);
-        AxisMetadata.getProperties().add(tickMarksPropertyMetadata);
-        AxisMetadata.getProperties().add(tickMarkVisiblePropertyMetadata);
-        AxisMetadata.getProperties().add(zeroPositionPropertyMetadata);
-
-        BarChartMetadata.getProperties().add(barGapPropertyMetadata);
-        BarChartMetadata.getProperties().add(categoryGapPropertyMetadata);
-        BarChartMetadata.getProperties().add(styleClass_c1_PropertyMetadata);
-
-        BorderPaneMetadata.getProperties().add(bottomPropertyMetadata);
-        BorderPaneMetadata.getProperties().add(centerPropertyMetadata);
-        BorderPaneMetadata.getProperties().add(contentBiasPropertyMetadata);
-        BorderPaneMetadata.getProperties().add(leftPropertyMetadata);
-        BorderPaneMetadata.getProperties().add(rightPropertyMetadata);
-        BorderPaneMetadata.getProperties().add(topPropertyMetadata);
-
-        BoxMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata);
-        BoxMetadata.getProperties().add(depthPropertyMetadata);
-        BoxMetadata.getProperties().add(height_Double_200_PropertyMetadata);
-        BoxMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata);
-        BoxMetadata.getProperties().add(width_Double_200_PropertyMetadata);
-
-        BubbleChartMetadata.getProperties().add(styleClass_c37_PropertyMetadata);
-
-        ButtonMetadata.getProperties().add(accessibleRole_BUTTON_PropertyMetadata);
-        ButtonMetadata.getProperties().add(cancelButtonPropertyMetadata);
-        ButtonMetadata.getProperties().add(defaultButtonPropertyMetadata);
-        ButtonMetadata.getProperties().add(focusTraversable_true_PropertyMetadata);
-        ButtonMetadata.getProperties().add(styleClass_c17_PropertyMetadata);
-
-        ButtonBarMetadata.getProperties().add(buttonMinWidthPropertyMetadata);
-        ButtonBarMetadata.getProperties().add(buttonOrderPropertyMetadata);
-        ButtonBarMetadata.getProperties().add(buttonsPropertyMetadata);
-        ButtonBarMetadata.getProperties().add(focusTraversable_true_PropertyMetadata);
-        ButtonBarMetadata.getProperties().add(styleClass_c35_PropertyMetadata);
-
-        ButtonBaseMetadata.getProperties().add(accessibleRole_RADIO_BUTTON_PropertyMetadata);
-        ButtonBaseMetadata.getProperties().add(focusTraversable_true_PropertyMetadata);
-        ButtonBaseMetadata.getProperties().add(onActionPropertyMetadata);
-        ButtonBaseMetadata.getProperties().add(styleClass_c41_PropertyMetadata);
-
-        CameraMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata);
-        CameraMetadata.getProperties().add(farClipPropertyMetadata);
-        CameraMetadata.getProperties().add(nearClipPropertyMetadata);
-        CameraMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata);
-
-        CanvasMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata);
-        CanvasMetadata.getProperties().add(height_Double_0_PropertyMetadata);
-        CanvasMetadata.getProperties().add(nodeOrientation_LEFT_TO_RIGHT_PropertyMetadata);
-        CanvasMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata);
-        CanvasMetadata.getProperties().add(width_Double_0_PropertyMetadata);
-
-        CategoryAxisMetadata.getProperties().add(categoriesPropertyMetadata);
-        CategoryAxisMetadata.getProperties().add(categorySpacingPropertyMetadata);
-        CategoryAxisMetadata.getProperties().add(endMarginPropertyMetadata);
-        CategoryAxisMetadata.getProperties().add(gapStartAndEndPropertyMetadata);
-        CategoryAxisMetadata.getProperties().add(startMarginPropertyMetadata);
-        CategoryAxisMetadata.getProperties().add(styleClass_c45_PropertyMetadata);
-        CategoryAxisMetadata.getProperties().add(zeroPositionPropertyMetadata);
-
-        ChartMetadata.getProperties().add(animatedPropertyMetadata);
-        ChartMetadata.getProperties().add(legendSidePropertyMetadata);
-        ChartMetadata.getProperties().add(legendVisiblePropertyMetadata);
-        ChartMetadata.getProperties().add(styleClass_c37_PropertyMetadata);
-        ChartMetadata.getProperties().add(titlePropertyMetadata);
-        ChartMetadata.getProperties().add(titleSidePropertyMetadata);
-
-        CheckBoxMetadata.getProperties().add(accessibleRole_CHECK_BOX_PropertyMetadata);
-        CheckBoxMetadata.getProperties().add(allowIndeterminatePropertyMetadata);
-        CheckBoxMetadata.getProperties().add(focusTraversable_true_PropertyMetadata);
-        CheckBoxMetadata.getProperties().add(indeterminate_Boolean_PropertyMetadata);
-        CheckBoxMetadata.getProperties().add(selected_Boolean_PropertyMetadata);
-        CheckBoxMetadata.getProperties().add(styleClass_c10_PropertyMetadata);
-
-        CheckMenuItemMetadata.getProperties().add(selected_Boolean_PropertyMetadata);
-        CheckMenuItemMetadata.getProperties().add(styleClass_c28_PropertyMetadata);
-
-        ChoiceBoxMetadata.getProperties().add(accessibleRole_COMBO_BOX_PropertyMetadata);
-        ChoiceBoxMetadata.getProperties().add(focusTraversable_true_PropertyMetadata);
-        ChoiceBoxMetadata.getProperties().add(styleClass_c43_PropertyMetadata);
-        ChoiceBoxMetadata.getProperties().add(value_Object_PropertyMetadata);
-
-        CircleMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata);
-        CircleMetadata.getProperties().add(centerXPropertyMetadata);
-        CircleMetadata.getProperties().add(centerYPropertyMetadata);
-        CircleMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata);
-        CircleMetadata.getProperties().add(radius_0_PropertyMetadata);
-
-        ColorPickerMetadata.getProperties().add(focusTraversable_true_PropertyMetadata);
-        ColorPickerMetadata.getProperties().add(styleClass_c5_PropertyMetadata);
-        ColorPickerMetadata.getProperties().add(value_Color_PropertyMetadata);
-
-        ColumnConstraintsMetadata.getProperties().add(fillWidthPropertyMetadata);
-        ColumnConstraintsMetadata.getProperties().add(halignment_NULL_PropertyMetadata);
-        ColumnConstraintsMetadata.getProperties().add(hgrowPropertyMetadata);
-        ColumnConstraintsMetadata.getProperties().add(maxWidth_COMPUTED_PropertyMetadata);
-        ColumnConstraintsMetadata.getProperties().add(minWidth_COMPUTED_PropertyMetadata);
-        ColumnConstraintsMetadata.getProperties().add(percentWidthPropertyMetadata);
-        ColumnConstraintsMetadata.getProperties().add(prefWidth_COMPUTED_PropertyMetadata);
-
-        ComboBoxMetadata.getProperties().add(accessibleRole_COMBO_BOX_PropertyMetadata);
-        ComboBoxMetadata.getProperties().add(buttonCellPropertyMetadata);
-        ComboBoxMetadata.getProperties().add(focusTraversable_true_PropertyMetadata);
-        ComboBoxMetadata.getProperties().add(placeholderPropertyMetadata);
-        ComboBoxMetadata.getProperties().add(styleClass_c11_PropertyMetadata);
-        ComboBoxMetadata.getProperties().add(visibleRowCountPropertyMetadata);
-
-        ComboBoxBaseMetadata.getProperties().add(accessibleRole_DATE_PICKER_PropertyMetadata);
-        ComboBoxBaseMetadata.getProperties().add(editable_false_PropertyMetadata);
-        ComboBoxBaseMetadata.getProperties().add(focusTraversable_true_PropertyMetadata);
-        ComboBoxBaseMetadata.getProperties().add(onActionPropertyMetadata);
-        ComboBoxBaseMetadata.getProperties().add(onHiddenPropertyMetadata);
-        ComboBoxBaseMetadata.getProperties().add(onHidingPropertyMetadata);
-        ComboBoxBaseMetadata.getProperties().add(onShowingPropertyMetadata);
-        ComboBoxBaseMetadata.getProperties().add(onShownPropertyMetadata);
-        ComboBoxBaseMetadata.getProperties().add(promptTextPropertyMetadata);
-        ComboBoxBaseMetadata.getProperties().add(styleClass_c5_PropertyMetadata);
-        ComboBoxBaseMetadata.getProperties().add(value_Object_PropertyMetadata);
-
-        ContextMenuMetadata.getProperties().add(autoHide_true_PropertyMetadata);
-        ContextMenuMetadata.getProperties().add(height_Double_0_PropertyMetadata);
-        ContextMenuMetadata.getProperties().add(items_MenuItem_PropertyMetadata);
-        ContextMenuMetadata.getProperties().add(onActionPropertyMetadata);
-        ContextMenuMetadata.getProperties().add(onCloseRequestPropertyMetadata);
-        ContextMenuMetadata.getProperties().add(onHiddenPropertyMetadata);
-        ContextMenuMetadata.getProperties().add(onHidingPropertyMetadata);
-        ContextMenuMetadata.getProperties().add(onShowingPropertyMetadata);
-        ContextMenuMetadata.getProperties().add(onShownPropertyMetadata);
-        ContextMenuMetadata.getProperties().add(opacityPropertyMetadata);
-        ContextMenuMetadata.getProperties().add(styleClass_c8_PropertyMetadata);
-        ContextMenuMetadata.getProperties().add(width_Double_0_PropertyMetadata);
-        ContextMenuMetadata.getProperties().add(x_NaN_PropertyMetadata);
-        ContextMenuMetadata.getProperties().add(y_NaN_PropertyMetadata);
-
-        ControlMetadata.getProperties().add(baselineOffsetPropertyMetadata);
-        ControlMetadata.getProperties().add(contextMenuPropertyMetadata);
-        ControlMetadata.getProperties().add(focusTraversable_true_PropertyMetadata);
-        ControlMetadata.getProperties().add(resizable_Boolean_ro_PropertyMetadata);
-        ControlMetadata.getProperties().add(styleClass_c25_PropertyMetadata);
-        ControlMetadata.getProperties().add(tooltipPropertyMetadata);
-
-        CubicCurveMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata);
-        CubicCurveMetadata.getProperties().add(controlX1PropertyMetadata);
-        CubicCurveMetadata.getProperties().add(controlX2PropertyMetadata);
-        CubicCurveMetadata.getProperties().add(controlY1PropertyMetadata);
-        CubicCurveMetadata.getProperties().add(controlY2PropertyMetadata);
-        CubicCurveMetadata.getProperties().add(endXPropertyMetadata);
-        CubicCurveMetadata.getProperties().add(endYPropertyMetadata);
-        CubicCurveMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata);
-        CubicCurveMetadata.getProperties().add(startXPropertyMetadata);
-        CubicCurveMetadata.getProperties().add(startYPropertyMetadata);
-
-        CubicCurveToMetadata.getProperties().add(controlX1PropertyMetadata);
-        CubicCurveToMetadata.getProperties().add(controlX2PropertyMetadata);
-        CubicCurveToMetadata.getProperties().add(controlY1PropertyMetadata);
-        CubicCurveToMetadata.getProperties().add(controlY2PropertyMetadata);
-        CubicCurveToMetadata.getProperties().add(x_0_PropertyMetadata);
-        CubicCurveToMetadata.getProperties().add(y_0_PropertyMetadata);
-
-        CustomMenuItemMetadata.getProperties().add(content_Node_NULL_PropertyMetadata);
-        CustomMenuItemMetadata.getProperties().add(hideOnClick_true_PropertyMetadata);
-        CustomMenuItemMetadata.getProperties().add(styleClass_c27_PropertyMetadata);
-
-        CylinderMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata);
-        CylinderMetadata.getProperties().add(divisionsPropertyMetadata);
-        CylinderMetadata.getProperties().add(height_Double_200_PropertyMetadata);
-        CylinderMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata);
-        CylinderMetadata.getProperties().add(radius_100_PropertyMetadata);
-
-        DialogPaneMetadata.getProperties().add(buttonTypesPropertyMetadata);
-        DialogPaneMetadata.getProperties().add(children_c1_PropertyMetadata);
-        DialogPaneMetadata.getProperties().add(content_Node_NULL_PropertyMetadata);
-        DialogPaneMetadata.getProperties().add(contentTextPropertyMetadata);
-        DialogPaneMetadata.getProperties().add(expandableContentPropertyMetadata);
-        DialogPaneMetadata.getProperties().add(expanded_false_PropertyMetadata);
-        DialogPaneMetadata.getProperties().add(graphicPropertyMetadata);
-        DialogPaneMetadata.getProperties().add(headerPropertyMetadata);
-        DialogPaneMetadata.getProperties().add(headerTextPropertyMetadata);
-        DialogPaneMetadata.getProperties().add(styleClass_c30_PropertyMetadata);
-
-        EllipseMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata);
-        EllipseMetadata.getProperties().add(centerXPropertyMetadata);
-        EllipseMetadata.getProperties().add(centerYPropertyMetadata);
-        EllipseMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata);
-        EllipseMetadata.getProperties().add(radiusXPropertyMetadata);
-        EllipseMetadata.getProperties().add(radiusYPropertyMetadata);
-
-        FlowPaneMetadata.getProperties().add(alignment_TOP_LEFT_PropertyMetadata);
-        FlowPaneMetadata.getProperties().add(columnHalignmentPropertyMetadata);
-        FlowPaneMetadata.getProperties().add(contentBiasPropertyMetadata);
-        FlowPaneMetadata.getProperties().add(hgapPropertyMetadata);
-        FlowPaneMetadata.getProperties().add(orientation_HORIZONTAL_PropertyMetadata);
-        FlowPaneMetadata.getProperties().add(prefWrapLengthPropertyMetadata);
-        FlowPaneMetadata.getProperties().add(rowValignmentPropertyMetadata);
-        FlowPaneMetadata.getProperties().add(vgapPropertyMetadata);
-
-        GridPaneMetadata.getProperties().add(alignment_TOP_LEFT_PropertyMetadata);
-        GridPaneMetadata.getProperties().add(columnConstraintsPropertyMetadata);
-        GridPaneMetadata.getProperties().add(contentBiasPropertyMetadata);
-        GridPaneMetadata.getProperties().add(gridLinesVisiblePropertyMetadata);
-        GridPaneMetadata.getProperties().add(hgapPropertyMetadata);
-        GridPaneMetadata.getProperties().add(rowConstraintsPropertyMetadata);
-        GridPaneMetadata.getProperties().add(vgapPropertyMetadata);
-
-        GroupMetadata.getProperties().add(autoSizeChildrenPropertyMetadata);
-        GroupMetadata.getProperties().add(children_empty_PropertyMetadata);
-        GroupMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata);
-
-        HBoxMetadata.getProperties().add(alignment_TOP_LEFT_PropertyMetadata);
-        HBoxMetadata.getProperties().add(baselineOffsetPropertyMetadata);
-        HBoxMetadata.getProperties().add(contentBiasPropertyMetadata);
-        HBoxMetadata.getProperties().add(fillHeightPropertyMetadata);
-        HBoxMetadata.getProperties().add(spacingPropertyMetadata);
-
-        HLineToMetadata.getProperties().add(x_0_PropertyMetadata);
-
-        HTMLEditorMetadata.getProperties().add(focusTraversable_true_PropertyMetadata);
-        HTMLEditorMetadata.getProperties().add(htmlTextPropertyMetadata);
-        HTMLEditorMetadata.getProperties().add(styleClass_c21_PropertyMetadata);
-
-        HyperlinkMetadata.getProperties().add(accessibleRole_HYPERLINK_PropertyMetadata);
-        HyperlinkMetadata.getProperties().add(cursor_HAND_PropertyMetadata);
-        HyperlinkMetadata.getProperties().add(focusTraversable_true_PropertyMetadata);
-        HyperlinkMetadata.getProperties().add(mnemonicParsing_false_PropertyMetadata);
-        HyperlinkMetadata.getProperties().add(styleClass_c25_PropertyMetadata);
-        HyperlinkMetadata.getProperties().add(visitedPropertyMetadata);
-
-        ImageViewMetadata.getProperties().add(accessibleRole_IMAGE_VIEW_PropertyMetadata);
-        ImageViewMetadata.getProperties().add(fitHeightPropertyMetadata);
-        ImageViewMetadata.getProperties().add(fitWidthPropertyMetadata);
-        ImageViewMetadata.getProperties().add(imagePropertyMetadata);
-        ImageViewMetadata.getProperties().add(nodeOrientation_LEFT_TO_RIGHT_PropertyMetadata);
-        ImageViewMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata);
-        ImageViewMetadata.getProperties().add(preserveRatio_false_PropertyMetadata);
-        ImageViewMetadata.getProperties().add(smoothPropertyMetadata);
-        ImageViewMetadata.getProperties().add(styleClass_c20_PropertyMetadata);
-        ImageViewMetadata.getProperties().add(viewportPropertyMetadata);
-        ImageViewMetadata.getProperties().add(x_0_PropertyMetadata);
-        ImageViewMetadata.getProperties().add(y_0_PropertyMetadata);
-
-        LabelMetadata.getProperties().add(accessibleRole_TEXT_PropertyMetadata);
-        LabelMetadata.getProperties().add(labelForPropertyMetadata);
-        LabelMetadata.getProperties().add(mnemonicParsing_false_PropertyMetadata);
-        LabelMetadata.getProperties().add(styleClass_c3_PropertyMetadata);
-
-        LabeledMetadata.getProperties().add(accessibleRole_TOGGLE_BUTTON_PropertyMetadata);
-        LabeledMetadata.getProperties().add(alignment_CENTER_LEFT_PropertyMetadata);
-        LabeledMetadata.getProperties().add(contentBiasPropertyMetadata);
-        LabeledMetadata.getProperties().add(contentDisplayPropertyMetadata);
-        LabeledMetadata.getProperties().add(ellipsisStringPropertyMetadata);
-        LabeledMetadata.getProperties().add(focusTraversable_true_PropertyMetadata);
-        LabeledMetadata.getProperties().add(fontPropertyMetadata);
-        LabeledMetadata.getProperties().add(graphicPropertyMetadata);
-        LabeledMetadata.getProperties().add(graphicTextGapPropertyMetadata);
-        LabeledMetadata.getProperties().add(labelPaddingPropertyMetadata);
-        LabeledMetadata.getProperties().add(lineSpacingPropertyMetadata);
-        LabeledMetadata.getProperties().add(mnemonicParsing_true_PropertyMetadata);
-        LabeledMetadata.getProperties().add(styleClass_c41_PropertyMetadata);
-        LabeledMetadata.getProperties().add(textPropertyMetadata);
-        LabeledMetadata.getProperties().add(textAlignmentPropertyMetadata);
-        LabeledMetadata.getProperties().add(textFillPropertyMetadata);
-        LabeledMetadata.getProperties().add(textOverrunPropertyMetadata);
-        LabeledMetadata.getProperties().add(underlinePropertyMetadata);
-        LabeledMetadata.getProperties().add(wrapTextPropertyMetadata);
-
-        LightBaseMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata);
-        LightBaseMetadata.getProperties().add(colorPropertyMetadata);
-        LightBaseMetadata.getProperties().add(lightOnPropertyMetadata);
-        LightBaseMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata);
-        LightBaseMetadata.getProperties().add(scopePropertyMetadata);
-
-        LineMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata);
-        LineMetadata.getProperties().add(endXPropertyMetadata);
-        LineMetadata.getProperties().add(endYPropertyMetadata);
-        LineMetadata.getProperties().add(fill_NULL_PropertyMetadata);
-        LineMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata);
-        LineMetadata.getProperties().add(startXPropertyMetadata);
-        LineMetadata.getProperties().add(startYPropertyMetadata);
-        LineMetadata.getProperties().add(stroke_BLACK_PropertyMetadata);
-
-        LineChartMetadata.getProperties().add(axisSortingPolicyPropertyMetadata);
-        LineChartMetadata.getProperties().add(createSymbolsPropertyMetadata);
-        LineChartMetadata.getProperties().add(styleClass_c37_PropertyMetadata);
-
-        LineToMetadata.getProperties().add(x_0_PropertyMetadata);
-        LineToMetadata.getProperties().add(y_0_PropertyMetadata);
-
-        ListViewMetadata.getProperties().add(accessibleRole_LIST_VIEW_PropertyMetadata);
-        ListViewMetadata.getProperties().add(editable_false_PropertyMetadata);
-        ListViewMetadata.getProperties().add(fixedCellSizePropertyMetadata);
-        ListViewMetadata.getProperties().add(focusTraversable_true_PropertyMetadata);
-        ListViewMetadata.getProperties().add(onEditCancelPropertyMetadata);
-        ListViewMetadata.getProperties().add(onEditCommitPropertyMetadata);
-        ListViewMetadata.getProperties().add(onEditStartPropertyMetadata);
-        ListViewMetadata.getProperties().add(onScrollToPropertyMetadata);
-        ListViewMetadata.getProperties().add(orientation_VERTICAL_PropertyMetadata);
-        ListViewMetadata.getProperties().add(placeholderPropertyMetadata);
-        ListViewMetadata.getProperties().add(styleClass_c34_PropertyMetadata);
-
-        MediaViewMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata);
-        MediaViewMetadata.getProperties().add(fitHeightPropertyMetadata);
-        MediaViewMetadata.getProperties().add(fitWidthPropertyMetadata);
-        MediaViewMetadata.getProperties().add(nodeOrientation_LEFT_TO_RIGHT_PropertyMetadata);
-        MediaViewMetadata.getProperties().add(onErrorPropertyMetadata);
-        MediaViewMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata);
-        MediaViewMetadata.getProperties().add(preserveRatio_true_PropertyMetadata);
-        MediaViewMetadata.getProperties().add(smoothPropertyMetadata);
-        MediaViewMetadata.getProperties().add(styleClass_c46_PropertyMetadata);
-        MediaViewMetadata.getProperties().add(viewportPropertyMetadata);
-        MediaViewMetadata.getProperties().add(x_0_PropertyMetadata);
-        MediaViewMetadata.getProperties().add(y_0_PropertyMetadata);
-
-        MenuMetadata.getProperties().add(items_MenuItem_PropertyMetadata);
-        MenuMetadata.getProperties().add(onHiddenPropertyMetadata);
-        MenuMetadata.getProperties().add(onHidingPropertyMetadata);
-        MenuMetadata.getProperties().add(onShowingPropertyMetadata);
-        MenuMetadata.getProperties().add(onShownPropertyMetadata);
-        MenuMetadata.getProperties().add(styleClass_c29_PropertyMetadata);
-
-        MenuBarMetadata.getProperties().add(accessibleRole_MENU_BAR_PropertyMetadata);
-        MenuBarMetadata.getProperties().add(menusPropertyMetadata);
-        MenuBarMetadata.getProperties().add(styleClass_c18_PropertyMetadata);
-        MenuBarMetadata.getProperties().add(useSystemMenuBarPropertyMetadata);
-
-        MenuButtonMetadata.getProperties().add(accessibleRole_MENU_BUTTON_PropertyMetadata);
-        MenuButtonMetadata.getProperties().add(focusTraversable_true_PropertyMetadata);
-        MenuButtonMetadata.getProperties().add(items_MenuItem_PropertyMetadata);
-        MenuButtonMetadata.getProperties().add(popupSidePropertyMetadata);
-        MenuButtonMetadata.getProperties().add(styleClass_c52_PropertyMetadata);
-
-        MenuItemMetadata.getProperties().add(acceleratorPropertyMetadata);
-        MenuItemMetadata.getProperties().add(disablePropertyMetadata);
-        MenuItemMetadata.getProperties().add(graphicPropertyMetadata);
-        MenuItemMetadata.getProperties().add(idPropertyMetadata);
-        MenuItemMetadata.getProperties().add(mnemonicParsing_true_PropertyMetadata);
-        MenuItemMetadata.getProperties().add(onActionPropertyMetadata);
-        MenuItemMetadata.getProperties().add(onMenuValidationPropertyMetadata);
-        MenuItemMetadata.getProperties().add(stylePropertyMetadata);
-        MenuItemMetadata.getProperties().add(styleClass_c36_PropertyMetadata);
-        MenuItemMetadata.getProperties().add(textPropertyMetadata);
-        MenuItemMetadata.getProperties().add(visiblePropertyMetadata);
-
-        MeshViewMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata);
-        MeshViewMetadata.getProperties().add(meshPropertyMetadata);
-        MeshViewMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata);
-
-        MoveToMetadata.getProperties().add(x_0_PropertyMetadata);
-        MoveToMetadata.getProperties().add(y_0_PropertyMetadata);
-
-        NodeMetadata.getProperties().add(accessibleHelpPropertyMetadata);
-        NodeMetadata.getProperties().add(accessibleRole_PARENT_PropertyMetadata);
-        NodeMetadata.getProperties().add(accessibleRoleDescriptionPropertyMetadata);
-        NodeMetadata.getProperties().add(accessibleTextPropertyMetadata);
-        NodeMetadata.getProperties().add(baselineOffsetPropertyMetadata);
-        NodeMetadata.getProperties().add(blendModePropertyMetadata);
-        NodeMetadata.getProperties().add(boundsInLocalPropertyMetadata);
-        NodeMetadata.getProperties().add(boundsInParentPropertyMetadata);
-        NodeMetadata.getProperties().add(cachePropertyMetadata);
-        NodeMetadata.getProperties().add(cacheHintPropertyMetadata);
-        NodeMetadata.getProperties().add(clipPropertyMetadata);
-        NodeMetadata.getProperties().add(contentBiasPropertyMetadata);
-        NodeMetadata.getProperties().add(cursor_NULL_PropertyMetadata);
-        NodeMetadata.getProperties().add(depthTestPropertyMetadata);
-        NodeMetadata.getProperties().add(disablePropertyMetadata);
-        NodeMetadata.getProperties().add(effectPropertyMetadata);
-        NodeMetadata.getProperties().add(effectiveNodeOrientationPropertyMetadata);
-        NodeMetadata.getProperties().add(focusTraversable_false_PropertyMetadata);
-        NodeMetadata.getProperties().add(idPropertyMetadata);
-        NodeMetadata.getProperties().add(layoutBoundsPropertyMetadata);
-        NodeMetadata.getProperties().add(layoutXPropertyMetadata);
-        NodeMetadata.getProperties().add(layoutYPropertyMetadata);
-        NodeMetadata.getProperties().add(mouseTransparentPropertyMetadata);
-        NodeMetadata.getProperties().add(nodeOrientation_INHERIT_PropertyMetadata);
-        NodeMetadata.getProperties().add(onContextMenuRequestedPropertyMetadata);
-        NodeMetadata.getProperties().add(onDragDetectedPropertyMetadata);
-        NodeMetadata.getProperties().add(onDragDonePropertyMetadata);
-        NodeMetadata.getProperties().add(onDragDroppedPropertyMetadata);
-        NodeMetadata.getProperties().add(onDragEnteredPropertyMetadata);
-        NodeMetadata.getProperties().add(onDragExitedPropertyMetadata);
-        NodeMetadata.getProperties().add(onDragOverPropertyMetadata);
-        NodeMetadata.getProperties().add(onInputMethodTextChangedPropertyMetadata);
-        NodeMetadata.getProperties().add(onKeyPressedPropertyMetadata);
-        NodeMetadata.getProperties().add(onKeyReleasedPropertyMetadata);
-        NodeMetadata.getProperties().add(onKeyTypedPropertyMetadata);
-        NodeMetadata.getProperties().add(onMouseClickedPropertyMetadata);
-        NodeMetadata.getProperties().add(onMouseDragEnteredPropertyMetadata);
-        NodeMetadata.getProperties().add(onMouseDragExitedPropertyMetadata);
-        NodeMetadata.getProperties().add(onMouseDraggedPropertyMetadata);
-        NodeMetadata.getProperties().add(onMouseDragOverPropertyMetadata);
-        NodeMetadata.getProperties().add(onMouseDragReleasedPropertyMetadata);
-        NodeMetadata.getProperties().add(onMouseEnteredPropertyMetadata);
-        NodeMetadata.getProperties().add(onMouseExitedPropertyMetadata);
-        NodeMetadata.getProperties().add(onMouseMovedPropertyMetadata);
-        NodeMetadata.getProperties().add(onMousePressedPropertyMetadata);
-        NodeMetadata.getProperties().add(onMouseReleasedPropertyMetadata);
-        NodeMetadata.getProperties().add(onRotatePropertyMetadata);
-        NodeMetadata.getProperties().add(onRotationFinishedPropertyMetadata);
-        NodeMetadata.getProperties().add(onRotationStartedPropertyMetadata);
-        NodeMetadata.getProperties().add(onScrollPropertyMetadata);
-        NodeMetadata.getProperties().add(onScrollFinishedPropertyMetadata);
-        NodeMetadata.getProperties().add(onScrollStartedPropertyMetadata);
-        NodeMetadata.getProperties().add(onSwipeDownPropertyMetadata);
-        NodeMetadata.getProperties().add(onSwipeLeftPropertyMetadata);
-        NodeMetadata.getProperties().add(onSwipeRightPropertyMetadata);
-        NodeMetadata.getProperties().add(onSwipeUpPropertyMetadata);
-        NodeMetadata.getProperties().add(onTouchMovedPropertyMetadata);
-        NodeMetadata.getProperties().add(onTouchPressedPropertyMetadata);
-        NodeMetadata.getProperties().add(onTouchReleasedPropertyMetadata);
-        NodeMetadata.getProperties().add(onTouchStationaryPropertyMetadata);
-        NodeMetadata.getProperties().add(onZoomPropertyMetadata);
-        NodeMetadata.getProperties().add(onZoomFinishedPropertyMetadata);
-        NodeMetadata.getProperties().add(onZoomStartedPropertyMetadata);
-        NodeMetadata.getProperties().add(opacityPropertyMetadata);
-        NodeMetadata.getProperties().add(pickOnBounds_true_PropertyMetadata);
-        NodeMetadata.getProperties().add(resizable_Boolean_ro_PropertyMetadata);
-        NodeMetadata.getProperties().add(rotatePropertyMetadata);
-        NodeMetadata.getProperties().add(rotationAxisPropertyMetadata);
-        NodeMetadata.getProperties().add(scaleXPropertyMetadata);
-        NodeMetadata.getProperties().add(scaleYPropertyMetadata);
-        NodeMetadata.getProperties().add(scaleZPropertyMetadata);
-        NodeMetadata.getProperties().add(stylePropertyMetadata);
-        NodeMetadata.getProperties().add(styleClass_empty_PropertyMetadata);
-        NodeMetadata.getProperties().add(translateXPropertyMetadata);
-        NodeMetadata.getProperties().add(translateYPropertyMetadata);
-        NodeMetadata.getProperties().add(translateZPropertyMetadata);
-        NodeMetadata.getProperties().add(visiblePropertyMetadata);
-        NodeMetadata.getProperties().add(SplitPane_resizableWithParentPropertyMetadata);
-        NodeMetadata.getProperties().add(AnchorPane_bottomAnchorPropertyMetadata);
-        NodeMetadata.getProperties().add(AnchorPane_leftAnchorPropertyMetadata);
-        NodeMetadata.getProperties().add(AnchorPane_rightAnchorPropertyMetadata);
-        NodeMetadata.getProperties().add(AnchorPane_topAnchorPropertyMetadata);
-        NodeMetadata.getProperties().add(BorderPane_alignmentPropertyMetadata);
-        NodeMetadata.getProperties().add(BorderPane_marginPropertyMetadata);
-        NodeMetadata.getProperties().add(FlowPane_marginPropertyMetadata);
-        NodeMetadata.getProperties().add(GridPane_columnIndexPropertyMetadata);
-        NodeMetadata.getProperties().add(GridPane_columnSpanPropertyMetadata);
-        NodeMetadata.getProperties().add(GridPane_halignmentPropertyMetadata);
-        NodeMetadata.getProperties().add(GridPane_hgrowPropertyMetadata);
-        NodeMetadata.getProperties().add(GridPane_marginPropertyMetadata);
-        NodeMetadata.getProperties().add(GridPane_rowIndexPropertyMetadata);
-        NodeMetadata.getProperties().add(GridPane_rowSpanPropertyMetadata);
-        NodeMetadata.getProperties().add(GridPane_valignmentPropertyMetadata);
-        NodeMetadata.getProperties().add(GridPane_vgrowPropertyMetadata);
-        NodeMetadata.getProperties().add(HBox_hgrowPropertyMetadata);
-        NodeMetadata.getProperties().add(HBox_marginPropertyMetadata);
-        NodeMetadata.getProperties().add(StackPane_alignmentPropertyMetadata);
-        NodeMetadata.getProperties().add(StackPane_marginPropertyMetadata);
-        NodeMetadata.getProperties().add(TilePane_alignmentPropertyMetadata);
-        NodeMetadata.getProperties().add(TilePane_marginPropertyMetadata);
-        NodeMetadata.getProperties().add(VBox_marginPropertyMetadata);
-        NodeMetadata.getProperties().add(VBox_vgrowPropertyMetadata);
-
-        NumberAxisMetadata.getProperties().add(forceZeroInRangePropertyMetadata);
-        NumberAxisMetadata.getProperties().add(styleClass_c45_PropertyMetadata);
-        NumberAxisMetadata.getProperties().add(tickUnitPropertyMetadata);
-
-        PaginationMetadata.getProperties().add(accessibleRole_PAGINATION_PropertyMetadata);
-        PaginationMetadata.getProperties().add(currentPageIndexPropertyMetadata);
-        PaginationMetadata.getProperties().add(focusTraversable_true_PropertyMetadata);
-        PaginationMetadata.getProperties().add(maxPageIndicatorCountPropertyMetadata);
-        PaginationMetadata.getProperties().add(pageCountPropertyMetadata);
-        PaginationMetadata.getProperties().add(styleClass_c39_PropertyMetadata);
-
-        PaneMetadata.getProperties().add(children_empty_PropertyMetadata);
-
-        ParallelCameraMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata);
-        ParallelCameraMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata);
-
-        ParentMetadata.getProperties().add(baselineOffsetPropertyMetadata);
-        ParentMetadata.getProperties().add(stylesheetsPropertyMetadata);
-
-        PasswordFieldMetadata.getProperties().add(accessibleRole_PASSWORD_FIELD_PropertyMetadata);
-        PasswordFieldMetadata.getProperties().add(focusTraversable_true_PropertyMetadata);
-        PasswordFieldMetadata.getProperties().add(styleClass_c53_PropertyMetadata);
-
-        PathMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata);
-        PathMetadata.getProperties().add(elementsPropertyMetadata);
-        PathMetadata.getProperties().add(fill_NULL_PropertyMetadata);
-        PathMetadata.getProperties().add(fillRulePropertyMetadata);
-        PathMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata);
-        PathMetadata.getProperties().add(stroke_BLACK_PropertyMetadata);
-
-        PathElementMetadata.getProperties().add(absolutePropertyMetadata);
-
-        PerspectiveCameraMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata);
-        PerspectiveCameraMetadata.getProperties().add(fieldOfViewPropertyMetadata);
-        PerspectiveCameraMetadata.getProperties().add(fixedEyeAtCameraZeroPropertyMetadata);
-        PerspectiveCameraMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata);
-        PerspectiveCameraMetadata.getProperties().add(verticalFieldOfViewPropertyMetadata);
-
-        PieChartMetadata.getProperties().add(clockwisePropertyMetadata);
-        PieChartMetadata.getProperties().add(labelLineLengthPropertyMetadata);
-        PieChartMetadata.getProperties().add(labelsVisiblePropertyMetadata);
-        PieChartMetadata.getProperties().add(startAnglePropertyMetadata);
-        PieChartMetadata.getProperties().add(styleClass_c37_PropertyMetadata);
-
-        PointLightMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata);
-        PointLightMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata);
-
-        PolygonMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata);
-        PolygonMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata);
-        PolygonMetadata.getProperties().add(pointsPropertyMetadata);
-
-        PolylineMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata);
-        PolylineMetadata.getProperties().add(fill_NULL_PropertyMetadata);
-        PolylineMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata);
-        PolylineMetadata.getProperties().add(pointsPropertyMetadata);
-        PolylineMetadata.getProperties().add(stroke_BLACK_PropertyMetadata);
-
-        PopupControlMetadata.getProperties().add(height_Double_0_PropertyMetadata);
-        PopupControlMetadata.getProperties().add(idPropertyMetadata);
-        PopupControlMetadata.getProperties().add(maxHeight_COMPUTED_PropertyMetadata);
-        PopupControlMetadata.getProperties().add(maxWidth_COMPUTED_PropertyMetadata);
-        PopupControlMetadata.getProperties().add(minHeight_COMPUTED_PropertyMetadata);
-        PopupControlMetadata.getProperties().add(minWidth_COMPUTED_PropertyMetadata);
-        PopupControlMetadata.getProperties().add(onCloseRequestPropertyMetadata);
-        PopupControlMetadata.getProperties().add(onHiddenPropertyMetadata);
-        PopupControlMetadata.getProperties().add(onHidingPropertyMetadata);
-        PopupControlMetadata.getProperties().add(onShowingPropertyMetadata);
-        PopupControlMetadata.getProperties().add(onShownPropertyMetadata);
-        PopupControlMetadata.getProperties().add(opacityPropertyMetadata);
-        PopupControlMetadata.getProperties().add(prefHeight_COMPUTED_PropertyMetadata);
-        PopupControlMetadata.getProperties().add(prefWidth_COMPUTED_PropertyMetadata);
-        PopupControlMetadata.getProperties().add(stylePropertyMetadata);
-        PopupControlMetadata.getProperties().add(styleClass_empty_PropertyMetadata);
-        PopupControlMetadata.getProperties().add(width_Double_0_PropertyMetadata);
-        PopupControlMetadata.getProperties().add(x_NaN_PropertyMetadata);
-        PopupControlMetadata.getProperties().add(y_NaN_PropertyMetadata);
-
-        PopupWindowMetadata.getProperties().add(anchorLocationPropertyMetadata);
-        PopupWindowMetadata.getProperties().add(anchorXPropertyMetadata);
-        PopupWindowMetadata.getProperties().add(anchorYPropertyMetadata);
-        PopupWindowMetadata.getProperties().add(autoFixPropertyMetadata);
-        PopupWindowMetadata.getProperties().add(autoHide_false_PropertyMetadata);
-        PopupWindowMetadata.getProperties().add(consumeAutoHidingEventsPropertyMetadata);
-        PopupWindowMetadata.getProperties().add(height_Double_0_PropertyMetadata);
-        PopupWindowMetadata.getProperties().add(hideOnEscapePropertyMetadata);
-        PopupWindowMetadata.getProperties().add(onAutoHidePropertyMetadata);
-        PopupWindowMetadata.getProperties().add(onCloseRequestPropertyMetadata);
-        PopupWindowMetadata.getProperties().add(onHiddenPropertyMetadata);
-        PopupWindowMetadata.getProperties().add(onHidingPropertyMetadata);
-        PopupWindowMetadata.getProperties().add(onShowingPropertyMetadata);
-        PopupWindowMetadata.getProperties().add(onShownPropertyMetadata);
-        PopupWindowMetadata.getProperties().add(opacityPropertyMetadata);
-        PopupWindowMetadata.getProperties().add(width_Double_0_PropertyMetadata);
-        PopupWindowMetadata.getProperties().add(x_NaN_PropertyMetadata);
-        PopupWindowMetadata.getProperties().add(y_NaN_PropertyMetadata);
-
-        ProgressBarMetadata.getProperties().add(accessibleRole_PROGRESS_INDICATOR_PropertyMetadata);
-        ProgressBarMetadata.getProperties().add(styleClass_c13_PropertyMetadata);
-
-        ProgressIndicatorMetadata.getProperties().add(accessibleRole_PROGRESS_INDICATOR_PropertyMetadata);
-        ProgressIndicatorMetadata.getProperties().add(indeterminate_Boolean_ro_PropertyMetadata);
-        ProgressIndicatorMetadata.getProperties().add(progressPropertyMetadata);
-        ProgressIndicatorMetadata.getProperties().add(styleClass_c50_PropertyMetadata);
-
-        QuadCurveMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata);
-        QuadCurveMetadata.getProperties().add(controlXPropertyMetadata);
-        QuadCurveMetadata.getProperties().add(controlYPropertyMetadata);
-        QuadCurveMetadata.getProperties().add(endXPropertyMetadata);
-        QuadCurveMetadata.getProperties().add(endYPropertyMetadata);
-        QuadCurveMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata);
-        QuadCurveMetadata.getProperties().add(startXPropertyMetadata);
-        QuadCurveMetadata.getProperties().add(startYPropertyMetadata);
-
-        QuadCurveToMetadata.getProperties().add(controlXPropertyMetadata);
-        QuadCurveToMetadata.getProperties().add(controlYPropertyMetadata);
-        QuadCurveToMetadata.getProperties().add(x_0_PropertyMetadata);
-        QuadCurveToMetadata.getProperties().add(y_0_PropertyMetadata);
-
-        RadioButtonMetadata.getProperties().add(accessibleRole_RADIO_BUTTON_PropertyMetadata);
-        RadioButtonMetadata.getProperties().add(focusTraversable_true_PropertyMetadata);
-        RadioButtonMetadata.getProperties().add(styleClass_c41_PropertyMetadata);
-
-        RadioMenuItemMetadata.getProperties().add(selected_Boolean_PropertyMetadata);
-        RadioMenuItemMetadata.getProperties().add(styleClass_c7_PropertyMetadata);
-        RadioMenuItemMetadata.getProperties().add(toggleGroupPropertyMetadata);
-
-        RectangleMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata);
-        RectangleMetadata.getProperties().add(arcHeightPropertyMetadata);
-        RectangleMetadata.getProperties().add(arcWidthPropertyMetadata);
-        RectangleMetadata.getProperties().add(height_Double_0_PropertyMetadata);
-        RectangleMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata);
-        RectangleMetadata.getProperties().add(width_Double_0_PropertyMetadata);
-        RectangleMetadata.getProperties().add(x_0_PropertyMetadata);
-        RectangleMetadata.getProperties().add(y_0_PropertyMetadata);
-
-        RegionMetadata.getProperties().add(cacheShapePropertyMetadata);
-        RegionMetadata.getProperties().add(centerShapePropertyMetadata);
-        RegionMetadata.getProperties().add(height_Double_ro_PropertyMetadata);
-        RegionMetadata.getProperties().add(insetsPropertyMetadata);
-        RegionMetadata.getProperties().add(maxHeight_COMPUTED_PropertyMetadata);
-        RegionMetadata.getProperties().add(maxWidth_COMPUTED_PropertyMetadata);
-        RegionMetadata.getProperties().add(minHeight_COMPUTED_PropertyMetadata);
-        RegionMetadata.getProperties().add(minWidth_COMPUTED_PropertyMetadata);
-        RegionMetadata.getProperties().add(opaqueInsetsPropertyMetadata);
-        RegionMetadata.getProperties().add(paddingPropertyMetadata);
-        RegionMetadata.getProperties().add(prefHeight_COMPUTED_PropertyMetadata);
-        RegionMetadata.getProperties().add(prefWidth_COMPUTED_PropertyMetadata);
-        RegionMetadata.getProperties().add(resizable_Boolean_ro_PropertyMetadata);
-        RegionMetadata.getProperties().add(scaleShapePropertyMetadata);
-        RegionMetadata.getProperties().add(shapePropertyMetadata);
-        RegionMetadata.getProperties().add(snapToPixelPropertyMetadata);
-        RegionMetadata.getProperties().add(width_Double_ro_PropertyMetadata);
-
-        RowConstraintsMetadata.getProperties().add(fillHeightPropertyMetadata);
-        RowConstraintsMetadata.getProperties().add(maxHeight_COMPUTED_PropertyMetadata);
-        RowConstraintsMetadata.getProperties().add(minHeight_COMPUTED_PropertyMetadata);
-        RowConstraintsMetadata.getProperties().add(percentHeightPropertyMetadata);
-        RowConstraintsMetadata.getProperties().add(prefHeight_COMPUTED_PropertyMetadata);
-        RowConstraintsMetadata.getProperties().add(valignment_NULL_PropertyMetadata);
-        RowConstraintsMetadata.getProperties().add(vgrowPropertyMetadata);
-
-        SVGPathMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata);
-        SVGPathMetadata.getProperties().add(content_String_PropertyMetadata);
-        SVGPathMetadata.getProperties().add(fillRulePropertyMetadata);
-        SVGPathMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata);
-
-        ScatterChartMetadata.getProperties().add(styleClass_c37_PropertyMetadata);
-
-        SceneMetadata.getProperties().add(fill_WHITE_PropertyMetadata);
-        SceneMetadata.getProperties().add(onContextMenuRequestedPropertyMetadata);
-        SceneMetadata.getProperties().add(onDragDetectedPropertyMetadata);
-        SceneMetadata.getProperties().add(onDragDonePropertyMetadata);
-        SceneMetadata.getProperties().add(onDragDroppedPropertyMetadata);
-        SceneMetadata.getProperties().add(onDragEnteredPropertyMetadata);
-        SceneMetadata.getProperties().add(onDragExitedPropertyMetadata);
-        SceneMetadata.getProperties().add(onDragOverPropertyMetadata);
-        SceneMetadata.getProperties().add(onInputMethodTextChangedPropertyMetadata);
-        SceneMetadata.getProperties().add(onKeyPressedPropertyMetadata);
-        SceneMetadata.getProperties().add(onKeyReleasedPropertyMetadata);
-        SceneMetadata.getProperties().add(onKeyTypedPropertyMetadata);
-        SceneMetadata.getProperties().add(onMouseClickedPropertyMetadata);
-        SceneMetadata.getProperties().add(onMouseDragEnteredPropertyMetadata);
-        SceneMetadata.getProperties().add(onMouseDragExitedPropertyMetadata);
-        SceneMetadata.getProperties().add(onMouseDraggedPropertyMetadata);
-        SceneMetadata.getProperties().add(onMouseDragOverPropertyMetadata);
-        SceneMetadata.getProperties().add(onMouseDragReleasedPropertyMetadata);
-        SceneMetadata.getProperties().add(onMouseEnteredPropertyMetadata);
-        SceneMetadata.getProperties().add(onMouseExitedPropertyMetadata);
-        SceneMetadata.getProperties().add(onMouseMovedPropertyMetadata);
-        SceneMetadata.getProperties().add(onMousePressedPropertyMetadata);
-        SceneMetadata.getProperties().add(onMouseReleasedPropertyMetadata);
-        SceneMetadata.getProperties().add(onRotatePropertyMetadata);
-        SceneMetadata.getProperties().add(onRotationFinishedPropertyMetadata);
-        SceneMetadata.getProperties().add(onRotationStartedPropertyMetadata);
-        SceneMetadata.getProperties().add(onScrollFinishedPropertyMetadata);
-        SceneMetadata.getProperties().add(onScrollPropertyMetadata);
-        SceneMetadata.getProperties().add(onScrollStartedPropertyMetadata);
-        SceneMetadata.getProperties().add(onSwipeDownPropertyMetadata);
-        SceneMetadata.getProperties().add(onSwipeLeftPropertyMetadata);
-        SceneMetadata.getProperties().add(onSwipeRightPropertyMetadata);
-        SceneMetadata.getProperties().add(onSwipeUpPropertyMetadata);
-        SceneMetadata.getProperties().add(onTouchMovedPropertyMetadata);
-        SceneMetadata.getProperties().add(onTouchPressedPropertyMetadata);
-        SceneMetadata.getProperties().add(onTouchReleasedPropertyMetadata);
-        SceneMetadata.getProperties().add(onTouchStationaryPropertyMetadata);
-        SceneMetadata.getProperties().add(onZoomFinishedPropertyMetadata);
-        SceneMetadata.getProperties().add(onZoomPropertyMetadata);
-        SceneMetadata.getProperties().add(onZoomStartedPropertyMetadata);
-        SceneMetadata.getProperties().add(root_scene_PropertyMetadata);
-        SceneMetadata.getProperties().add(stylesheetsPropertyMetadata);
-
-        ScrollBarMetadata.getProperties().add(accessibleRole_SCROLL_BAR_PropertyMetadata);
-        ScrollBarMetadata.getProperties().add(blockIncrementPropertyMetadata);
-        ScrollBarMetadata.getProperties().add(maxPropertyMetadata);
-        ScrollBarMetadata.getProperties().add(minPropertyMetadata);
-        ScrollBarMetadata.getProperties().add(orientation_HORIZONTAL_PropertyMetadata);
-        ScrollBarMetadata.getProperties().add(styleClass_c33_PropertyMetadata);
-        ScrollBarMetadata.getProperties().add(unitIncrementPropertyMetadata);
-        ScrollBarMetadata.getProperties().add(value_Double_PropertyMetadata);
-        ScrollBarMetadata.getProperties().add(visibleAmountPropertyMetadata);
-
-        ScrollPaneMetadata.getProperties().add(accessibleRole_SCROLL_PANE_PropertyMetadata);
-        ScrollPaneMetadata.getProperties().add(content_Node_NULL_PropertyMetadata);
-        ScrollPaneMetadata.getProperties().add(fitToHeightPropertyMetadata);
-        ScrollPaneMetadata.getProperties().add(fitToWidthPropertyMetadata);
-        ScrollPaneMetadata.getProperties().add(hbarPolicyPropertyMetadata);
-        ScrollPaneMetadata.getProperties().add(hmaxPropertyMetadata);
-        ScrollPaneMetadata.getProperties().add(hminPropertyMetadata);
-        ScrollPaneMetadata.getProperties().add(hvaluePropertyMetadata);
-        ScrollPaneMetadata.getProperties().add(minViewportHeightPropertyMetadata);
-        ScrollPaneMetadata.getProperties().add(minViewportWidthPropertyMetadata);
-        ScrollPaneMetadata.getProperties().add(pannablePropertyMetadata);
-        ScrollPaneMetadata.getProperties().add(prefViewportHeightPropertyMetadata);
-        ScrollPaneMetadata.getProperties().add(prefViewportWidthPropertyMetadata);
-        ScrollPaneMetadata.getProperties().add(styleClass_c38_PropertyMetadata);
-        ScrollPaneMetadata.getProperties().add(vbarPolicyPropertyMetadata);
-        ScrollPaneMetadata.getProperties().add(viewportBoundsPropertyMetadata);
-        ScrollPaneMetadata.getProperties().add(vmaxPropertyMetadata);
-        ScrollPaneMetadata.getProperties().add(vminPropertyMetadata);
-        ScrollPaneMetadata.getProperties().add(vvaluePropertyMetadata);
-
-        SeparatorMetadata.getProperties().add(halignment_CENTER_PropertyMetadata);
-        SeparatorMetadata.getProperties().add(orientation_HORIZONTAL_PropertyMetadata);
-        SeparatorMetadata.getProperties().add(styleClass_c31_PropertyMetadata);
-        SeparatorMetadata.getProperties().add(valignment_CENTER_PropertyMetadata);
-
-        SeparatorMenuItemMetadata.getProperties().add(content_Node_SEPARATOR_PropertyMetadata);
-        SeparatorMenuItemMetadata.getProperties().add(hideOnClick_false_PropertyMetadata);
-        SeparatorMenuItemMetadata.getProperties().add(styleClass_c23_PropertyMetadata);
-
-        ShapeMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata);
-        ShapeMetadata.getProperties().add(fill_BLACK_PropertyMetadata);
-        ShapeMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata);
-        ShapeMetadata.getProperties().add(smoothPropertyMetadata);
-        ShapeMetadata.getProperties().add(stroke_NULL_PropertyMetadata);
-        ShapeMetadata.getProperties().add(strokeDashOffsetPropertyMetadata);
-        ShapeMetadata.getProperties().add(strokeLineCapPropertyMetadata);
-        ShapeMetadata.getProperties().add(strokeLineJoinPropertyMetadata);
-        ShapeMetadata.getProperties().add(strokeMiterLimitPropertyMetadata);
-        ShapeMetadata.getProperties().add(strokeTypePropertyMetadata);
-        ShapeMetadata.getProperties().add(strokeWidthPropertyMetadata);
-
-        Shape3DMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata);
-        Shape3DMetadata.getProperties().add(cullFacePropertyMetadata);
-        Shape3DMetadata.getProperties().add(drawModePropertyMetadata);
-        Shape3DMetadata.getProperties().add(materialPropertyMetadata);
-        Shape3DMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata);
-
-        SliderMetadata.getProperties().add(accessibleRole_SLIDER_PropertyMetadata);
-        SliderMetadata.getProperties().add(blockIncrementPropertyMetadata);
-        SliderMetadata.getProperties().add(focusTraversable_true_PropertyMetadata);
-        SliderMetadata.getProperties().add(labelFormatterPropertyMetadata);
-        SliderMetadata.getProperties().add(majorTickUnitPropertyMetadata);
-        SliderMetadata.getProperties().add(maxPropertyMetadata);
-        SliderMetadata.getProperties().add(minPropertyMetadata);
-        SliderMetadata.getProperties().add(minorTickCount_3_PropertyMetadata);
-        SliderMetadata.getProperties().add(orientation_HORIZONTAL_PropertyMetadata);
-        SliderMetadata.getProperties().add(showTickLabelsPropertyMetadata);
-        SliderMetadata.getProperties().add(showTickMarksPropertyMetadata);
-        SliderMetadata.getProperties().add(snapToTicksPropertyMetadata);
-        SliderMetadata.getProperties().add(styleClass_c40_PropertyMetadata);
-        SliderMetadata.getProperties().add(value_Double_PropertyMetadata);
-
-        SphereMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata);
-        SphereMetadata.getProperties().add(divisionsPropertyMetadata);
-        SphereMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata);
-        SphereMetadata.getProperties().add(radius_100_PropertyMetadata);
-
-        SpinnerMetadata.getProperties().add(accessibleRole_SPINNER_PropertyMetadata);
-        SpinnerMetadata.getProperties().add(editable_false_PropertyMetadata);
-        SpinnerMetadata.getProperties().add(focusTraversable_true_PropertyMetadata);
-        SpinnerMetadata.getProperties().add(styleClass_c24_PropertyMetadata);
-        SpinnerMetadata.getProperties().add(value_Object_ro_PropertyMetadata);
-
-        SplitMenuButtonMetadata.getProperties().add(accessibleRole_SPLIT_MENU_BUTTON_PropertyMetadata);
-        SplitMenuButtonMetadata.getProperties().add(focusTraversable_true_PropertyMetadata);
-        SplitMenuButtonMetadata.getProperties().add(styleClass_c2_PropertyMetadata);
-
-        SplitPaneMetadata.getProperties().add(dividerPositionsPropertyMetadata);
-        SplitPaneMetadata.getProperties().add(items_Node_PropertyMetadata);
-        SplitPaneMetadata.getProperties().add(orientation_HORIZONTAL_PropertyMetadata);
-        SplitPaneMetadata.getProperties().add(styleClass_c14_PropertyMetadata);
-
-        StackPaneMetadata.getProperties().add(alignment_CENTER_PropertyMetadata);
-        StackPaneMetadata.getProperties().add(contentBiasPropertyMetadata);
-
-        StackedAreaChartMetadata.getProperties().add(createSymbolsPropertyMetadata);
-        StackedAreaChartMetadata.getProperties().add(styleClass_c37_PropertyMetadata);
-
-        StackedBarChartMetadata.getProperties().add(categoryGapPropertyMetadata);
-        StackedBarChartMetadata.getProperties().add(styleClass_c12_PropertyMetadata);
-
-        StageMetadata.getProperties().add(alwaysOnTopPropertyMetadata);
-        StageMetadata.getProperties().add(scene_stage_PropertyMetadata);
-        StageMetadata.getProperties().add(fullScreenPropertyMetadata);
-        StageMetadata.getProperties().add(fullScreenExitHintPropertyMetadata);
-        StageMetadata.getProperties().add(iconifiedPropertyMetadata);
-        StageMetadata.getProperties().add(maxHeight_SIZE_PropertyMetadata);
-        StageMetadata.getProperties().add(maximizedPropertyMetdata);
-        StageMetadata.getProperties().add(maxWidth_SIZE_PropertyMetadata);
-        StageMetadata.getProperties().add(minHeight_SIZE_PropertyMetadata);
-        StageMetadata.getProperties().add(minWidth_SIZE_PropertyMetadata);
-        StageMetadata.getProperties().add(resizable_Boolean_PropertyMetadata);
-        StageMetadata.getProperties().add(titlePropertyMetadata);
-
-        SubSceneMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata);
-        SubSceneMetadata.getProperties().add(fill_NULL_PropertyMetadata);
-        SubSceneMetadata.getProperties().add(height_Double_0_PropertyMetadata);
-        SubSceneMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata);
-        SubSceneMetadata.getProperties().add(width_Double_0_PropertyMetadata);
-
-        SwingNodeMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata);
-        SwingNodeMetadata.getProperties().add(focusTraversable_true_PropertyMetadata);
-        SwingNodeMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata);
-        SwingNodeMetadata.getProperties().add(resizable_Boolean_ro_PropertyMetadata);
-
-        TabMetadata.getProperties().add(closablePropertyMetadata);
-        TabMetadata.getProperties().add(content_Node_NULL_PropertyMetadata);
-        TabMetadata.getProperties().add(contextMenuPropertyMetadata);
-        TabMetadata.getProperties().add(disablePropertyMetadata);
-        TabMetadata.getProperties().add(graphicPropertyMetadata);
-        TabMetadata.getProperties().add(idPropertyMetadata);
-        TabMetadata.getProperties().add(onClosedPropertyMetadata);
-        TabMetadata.getProperties().add(onCloseRequestPropertyMetadata);
-        TabMetadata.getProperties().add(onSelectionChangedPropertyMetadata);
-        TabMetadata.getProperties().add(selected_Boolean_ro_PropertyMetadata);
-        TabMetadata.getProperties().add(stylePropertyMetadata);
-        TabMetadata.getProperties().add(styleClass_c19_PropertyMetadata);
-        TabMetadata.getProperties().add(textPropertyMetadata);
-        TabMetadata.getProperties().add(tooltipPropertyMetadata);
-
-        TabPaneMetadata.getProperties().add(accessibleRole_TAB_PANE_PropertyMetadata);
-        TabPaneMetadata.getProperties().add(focusTraversable_true_PropertyMetadata);
-        TabPaneMetadata.getProperties().add(rotateGraphicPropertyMetadata);
-        TabPaneMetadata.getProperties().add(side_TOP_PropertyMetadata);
-        TabPaneMetadata.getProperties().add(styleClass_c6_PropertyMetadata);
-        TabPaneMetadata.getProperties().add(tabClosingPolicyPropertyMetadata);
-        TabPaneMetadata.getProperties().add(tabMaxHeightPropertyMetadata);
-        TabPaneMetadata.getProperties().add(tabMaxWidthPropertyMetadata);
-        TabPaneMetadata.getProperties().add(tabMinHeightPropertyMetadata);
-        TabPaneMetadata.getProperties().add(tabMinWidthPropertyMetadata);
-        TabPaneMetadata.getProperties().add(tabsPropertyMetadata);
-
-        TableColumnMetadata.getProperties().add(columns_TableColumn_PropertyMetadata);
-        TableColumnMetadata.getProperties().add(onEditCancelPropertyMetadata);
-        TableColumnMetadata.getProperties().add(onEditCommitPropertyMetadata);
-        TableColumnMetadata.getProperties().add(onEditStartPropertyMetadata);
-        TableColumnMetadata.getProperties().add(sortType_SortType_PropertyMetadata);
-
-        TableColumnBaseMetadata.getProperties().add(contextMenuPropertyMetadata);
-        TableColumnBaseMetadata.getProperties().add(editable_true_PropertyMetadata);
-        TableColumnBaseMetadata.getProperties().add(graphicPropertyMetadata);
-        TableColumnBaseMetadata.getProperties().add(idPropertyMetadata);
-        TableColumnBaseMetadata.getProperties().add(maxWidth_500000_PropertyMetadata);
-        TableColumnBaseMetadata.getProperties().add(minWidth_1000_PropertyMetadata);
-        TableColumnBaseMetadata.getProperties().add(prefWidth_8000_PropertyMetadata);
-        TableColumnBaseMetadata.getProperties().add(resizable_Boolean_PropertyMetadata);
-        TableColumnBaseMetadata.getProperties().add(sortablePropertyMetadata);
-        TableColumnBaseMetadata.getProperties().add(sortNodePropertyMetadata);
-        TableColumnBaseMetadata.getProperties().add(stylePropertyMetadata);
-        TableColumnBaseMetadata.getProperties().add(styleClass_c42_PropertyMetadata);
-        TableColumnBaseMetadata.getProperties().add(textPropertyMetadata);
-        TableColumnBaseMetadata.getProperties().add(visiblePropertyMetadata);
-        TableColumnBaseMetadata.getProperties().add(width_Double_ro_PropertyMetadata);
-
-        TableViewMetadata.getProperties().add(accessibleRole_TABLE_VIEW_PropertyMetadata);
-        TableViewMetadata.getProperties().add(columnResizePolicy_TABLEVIEW_UNCONSTRAINED_PropertyMetadata);
-        TableViewMetadata.getProperties().add(columns_TableColumn_PropertyMetadata);
-        TableViewMetadata.getProperties().add(editable_false_PropertyMetadata);
-        TableViewMetadata.getProperties().add(fixedCellSizePropertyMetadata);
-        TableViewMetadata.getProperties().add(focusTraversable_true_PropertyMetadata);
-        TableViewMetadata.getProperties().add(onScrollToPropertyMetadata);
-        TableViewMetadata.getProperties().add(onScrollToColumnPropertyMetadata);
-        TableViewMetadata.getProperties().add(onSortPropertyMetadata);
-        TableViewMetadata.getProperties().add(placeholderPropertyMetadata);
-        TableViewMetadata.getProperties().add(sortOrderPropertyMetadata);
-        TableViewMetadata.getProperties().add(styleClass_c49_PropertyMetadata);
-        TableViewMetadata.getProperties().add(tableMenuButtonVisiblePropertyMetadata);
-
-        TextMetadata.getProperties().add(accessibleRole_TEXT_PropertyMetadata);
-        TextMetadata.getProperties().add(baselineOffsetPropertyMetadata);
-        TextMetadata.getProperties().add(boundsTypePropertyMetadata);
-        TextMetadata.getProperties().add(fontPropertyMetadata);
-        TextMetadata.getProperties().add(fontSmoothingType_GRAY_PropertyMetadata);
-        TextMetadata.getProperties().add(lineSpacingPropertyMetadata);
-        TextMetadata.getProperties().add(strikethroughPropertyMetadata);
-        TextMetadata.getProperties().add(textPropertyMetadata);
-        TextMetadata.getProperties().add(textAlignmentPropertyMetadata);
-        TextMetadata.getProperties().add(textOriginPropertyMetadata);
-        TextMetadata.getProperties().add(underlinePropertyMetadata);
-        TextMetadata.getProperties().add(wrappingWidthPropertyMetadata);
-        TextMetadata.getProperties().add(x_0_PropertyMetadata);
-        TextMetadata.getProperties().add(y_0_PropertyMetadata);
-
-        TextAreaMetadata.getProperties().add(accessibleRole_TEXT_AREA_PropertyMetadata);
-        TextAreaMetadata.getProperties().add(focusTraversable_true_PropertyMetadata);
-        TextAreaMetadata.getProperties().add(prefColumnCount_40_PropertyMetadata);
-        TextAreaMetadata.getProperties().add(prefRowCountPropertyMetadata);
-        TextAreaMetadata.getProperties().add(scrollLeftPropertyMetadata);
-        TextAreaMetadata.getProperties().add(scrollTopPropertyMetadata);
-        TextAreaMetadata.getProperties().add(styleClass_c51_PropertyMetadata);
-        TextAreaMetadata.getProperties().add(wrapTextPropertyMetadata);
-
-        TextFieldMetadata.getProperties().add(accessibleRole_TEXT_FIELD_PropertyMetadata);
-        TextFieldMetadata.getProperties().add(alignment_CENTER_LEFT_PropertyMetadata);
-        TextFieldMetadata.getProperties().add(focusTraversable_true_PropertyMetadata);
-        TextFieldMetadata.getProperties().add(onActionPropertyMetadata);
-        TextFieldMetadata.getProperties().add(prefColumnCount_12_PropertyMetadata);
-        TextFieldMetadata.getProperties().add(styleClass_c47_PropertyMetadata);
-
-        TextFlowMetadata.getProperties().add(accessibleRole_TEXT_PropertyMetadata);
-        TextFlowMetadata.getProperties().add(baselineOffsetPropertyMetadata);
-        TextFlowMetadata.getProperties().add(contentBiasPropertyMetadata);
-        TextFlowMetadata.getProperties().add(lineSpacingPropertyMetadata);
-        TextFlowMetadata.getProperties().add(textAlignmentPropertyMetadata);
-
-        TextFormatterMetadata.getProperties().add(value_Object_PropertyMetadata);
-
-        TextInputControlMetadata.getProperties().add(accessibleRole_TEXT_FIELD_PropertyMetadata);
-        TextInputControlMetadata.getProperties().add(editable_true_PropertyMetadata);
-        TextInputControlMetadata.getProperties().add(focusTraversable_true_PropertyMetadata);
-        TextInputControlMetadata.getProperties().add(fontPropertyMetadata);
-        TextInputControlMetadata.getProperties().add(length_Integer_ro_PropertyMetadata);
-        TextInputControlMetadata.getProperties().add(promptTextPropertyMetadata);
-        TextInputControlMetadata.getProperties().add(styleClass_c51_PropertyMetadata);
-        TextInputControlMetadata.getProperties().add(textPropertyMetadata);
-        TextInputControlMetadata.getProperties().add(textFormatterPropertyMetadata);
-
-        TilePaneMetadata.getProperties().add(alignment_TOP_LEFT_PropertyMetadata);
-        TilePaneMetadata.getProperties().add(contentBiasPropertyMetadata);
-        TilePaneMetadata.getProperties().add(hgapPropertyMetadata);
-        TilePaneMetadata.getProperties().add(orientation_HORIZONTAL_PropertyMetadata);
-        TilePaneMetadata.getProperties().add(prefColumnsPropertyMetadata);
-        TilePaneMetadata.getProperties().add(prefRowsPropertyMetadata);
-        TilePaneMetadata.getProperties().add(prefTileHeightPropertyMetadata);
-        TilePaneMetadata.getProperties().add(prefTileWidthPropertyMetadata);
-        TilePaneMetadata.getProperties().add(tileAlignmentPropertyMetadata);
-        TilePaneMetadata.getProperties().add(tileHeightPropertyMetadata);
-        TilePaneMetadata.getProperties().add(tileWidthPropertyMetadata);
-        TilePaneMetadata.getProperties().add(vgapPropertyMetadata);
-
-        TitledPaneMetadata.getProperties().add(accessibleRole_TITLED_PANE_PropertyMetadata);
-        TitledPaneMetadata.getProperties().add(animatedPropertyMetadata);
-        TitledPaneMetadata.getProperties().add(collapsiblePropertyMetadata);
-        TitledPaneMetadata.getProperties().add(content_Node_NULL_PropertyMetadata);
-        TitledPaneMetadata.getProperties().add(contentBiasPropertyMetadata);
-        TitledPaneMetadata.getProperties().add(expanded_true_PropertyMetadata);
-        TitledPaneMetadata.getProperties().add(focusTraversable_true_PropertyMetadata);
-        TitledPaneMetadata.getProperties().add(mnemonicParsing_false_PropertyMetadata);
-        TitledPaneMetadata.getProperties().add(styleClass_c26_PropertyMetadata);
-
-        ToggleButtonMetadata.getProperties().add(accessibleRole_TOGGLE_BUTTON_PropertyMetadata);
-        ToggleButtonMetadata.getProperties().add(alignment_CENTER_PropertyMetadata);
-        ToggleButtonMetadata.getProperties().add(focusTraversable_true_PropertyMetadata);
-        ToggleButtonMetadata.getProperties().add(selected_Boolean_PropertyMetadata);
-        ToggleButtonMetadata.getProperties().add(styleClass_c44_PropertyMetadata);
-        ToggleButtonMetadata.getProperties().add(toggleGroupPropertyMetadata);
-
-        ToolBarMetadata.getProperties().add(accessibleRole_TOOL_BAR_PropertyMetadata);
-        ToolBarMetadata.getProperties().add(items_Node_PropertyMetadata);
-        ToolBarMetadata.getProperties().add(orientation_HORIZONTAL_PropertyMetadata);
-        ToolBarMetadata.getProperties().add(styleClass_c16_PropertyMetadata);
-
-        TooltipMetadata.getProperties().add(contentDisplayPropertyMetadata);
-        TooltipMetadata.getProperties().add(fontPropertyMetadata);
-        TooltipMetadata.getProperties().add(graphicPropertyMetadata);
-        TooltipMetadata.getProperties().add(graphicTextGapPropertyMetadata);
-        TooltipMetadata.getProperties().add(height_Double_0_PropertyMetadata);
-        TooltipMetadata.getProperties().add(onCloseRequestPropertyMetadata);
-        TooltipMetadata.getProperties().add(onHiddenPropertyMetadata);
-        TooltipMetadata.getProperties().add(onHidingPropertyMetadata);
-        TooltipMetadata.getProperties().add(onShowingPropertyMetadata);
-        TooltipMetadata.getProperties().add(onShownPropertyMetadata);
-        TooltipMetadata.getProperties().add(opacityPropertyMetadata);
-        TooltipMetadata.getProperties().add(styleClass_c15_PropertyMetadata);
-        TooltipMetadata.getProperties().add(textPropertyMetadata);
-        TooltipMetadata.getProperties().add(textAlignmentPropertyMetadata);
-        TooltipMetadata.getProperties().add(textOverrunPropertyMetadata);
-        TooltipMetadata.getProperties().add(width_Double_0_PropertyMetadata);
-        TooltipMetadata.getProperties().add(wrapTextPropertyMetadata);
-        TooltipMetadata.getProperties().add(x_NaN_PropertyMetadata);
-        TooltipMetadata.getProperties().add(y_NaN_PropertyMetadata);
-
-        TreeTableColumnMetadata.getProperties().add(columns_TreeTableColumn_PropertyMetadata);
-        TreeTableColumnMetadata.getProperties().add(onEditCancelPropertyMetadata);
-        TreeTableColumnMetadata.getProperties().add(onEditCommitPropertyMetadata);
-        TreeTableColumnMetadata.getProperties().add(onEditStartPropertyMetadata);
-        TreeTableColumnMetadata.getProperties().add(sortType_SortType_PropertyMetadata);
-
-        TreeTableViewMetadata.getProperties().add(accessibleRole_TREE_TABLE_VIEW_PropertyMetadata);
-        TreeTableViewMetadata.getProperties().add(columnResizePolicy_TREETABLEVIEW_UNCONSTRAINED_PropertyMetadata);
-        TreeTableViewMetadata.getProperties().add(columns_TreeTableColumn_PropertyMetadata);
-        TreeTableViewMetadata.getProperties().add(editable_false_PropertyMetadata);
-        TreeTableViewMetadata.getProperties().add(expandedItemCountPropertyMetadata);
-        TreeTableViewMetadata.getProperties().add(fixedCellSizePropertyMetadata);
-        TreeTableViewMetadata.getProperties().add(focusTraversable_true_PropertyMetadata);
-        TreeTableViewMetadata.getProperties().add(onScrollToPropertyMetadata);
-        TreeTableViewMetadata.getProperties().add(onScrollToColumnPropertyMetadata);
-        TreeTableViewMetadata.getProperties().add(onSortPropertyMetadata);
-        TreeTableViewMetadata.getProperties().add(placeholderPropertyMetadata);
-        TreeTableViewMetadata.getProperties().add(showRootPropertyMetadata);
-        TreeTableViewMetadata.getProperties().add(sortModePropertyMetadata);
-        TreeTableViewMetadata.getProperties().add(sortOrderPropertyMetadata);
-        TreeTableViewMetadata.getProperties().add(styleClass_c32_PropertyMetadata);
-        TreeTableViewMetadata.getProperties().add(tableMenuButtonVisiblePropertyMetadata);
-        TreeTableViewMetadata.getProperties().add(treeColumnPropertyMetadata);
-
-        TreeViewMetadata.getProperties().add(accessibleRole_TREE_VIEW_PropertyMetadata);
-        TreeViewMetadata.getProperties().add(editable_false_PropertyMetadata);
-        TreeViewMetadata.getProperties().add(expandedItemCountPropertyMetadata);
-        TreeViewMetadata.getProperties().add(fixedCellSizePropertyMetadata);
-        TreeViewMetadata.getProperties().add(focusTraversable_true_PropertyMetadata);
-        TreeViewMetadata.getProperties().add(onEditCancelPropertyMetadata);
-        TreeViewMetadata.getProperties().add(onEditCommitPropertyMetadata);
-        TreeViewMetadata.getProperties().add(onEditStartPropertyMetadata);
-        TreeViewMetadata.getProperties().add(onScrollToPropertyMetadata);
-        TreeViewMetadata.getProperties().add(showRootPropertyMetadata);
-        TreeViewMetadata.getProperties().add(styleClass_c22_PropertyMetadata);
-
-        VBoxMetadata.getProperties().add(alignment_TOP_LEFT_PropertyMetadata);
-        VBoxMetadata.getProperties().add(contentBiasPropertyMetadata);
-        VBoxMetadata.getProperties().add(fillWidthPropertyMetadata);
-        VBoxMetadata.getProperties().add(spacingPropertyMetadata);
+    private ValuePropertyMetadata absolutePropertyMetadata;
+    private ValuePropertyMetadata absolutePropertyMetadata() {
+        if (absolutePropertyMetadata == null) {
+            absolutePropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        absoluteName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 0));
+        }
+        return absolutePropertyMetadata;
+    }
+    private ValuePropertyMetadata acceleratorPropertyMetadata;
+    private ValuePropertyMetadata acceleratorPropertyMetadata() {
+        if (acceleratorPropertyMetadata == null) {
+            acceleratorPropertyMetadata =
+                    new KeyCombinationPropertyMetadata(
+                        acceleratorName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 1));
+        }
+        return acceleratorPropertyMetadata;
+    }
+    private ValuePropertyMetadata accessibleHelpPropertyMetadata;
+    private ValuePropertyMetadata accessibleHelpPropertyMetadata() {
+        if (accessibleHelpPropertyMetadata == null) {
+            accessibleHelpPropertyMetadata =
+                    new StringPropertyMetadata(
+                        accessibleHelpName,
+                        true, /* readWrite */
+                        "", /* defaultValue */
+                        new InspectorPath("Properties", "Accessibility", 1));
+        }
+        return accessibleHelpPropertyMetadata;
+    }
+    private ValuePropertyMetadata accessibleRole_NODE_PropertyMetadata;
+    private ValuePropertyMetadata accessibleRole_NODE_PropertyMetadata() {
+        if (accessibleRole_NODE_PropertyMetadata == null) {
+            accessibleRole_NODE_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        accessibleRoleName,
+                        javafx.scene.AccessibleRole.class,
+                        true, /* readWrite */
+                        javafx.scene.AccessibleRole.NODE, /* defaultValue */
+                        new InspectorPath("Properties", "Accessibility", 2));
+        }
+        return accessibleRole_NODE_PropertyMetadata;
+    }
+    private ValuePropertyMetadata accessibleRole_BUTTON_PropertyMetadata;
+    private ValuePropertyMetadata accessibleRole_BUTTON_PropertyMetadata() {
+        if (accessibleRole_BUTTON_PropertyMetadata == null) {
+            accessibleRole_BUTTON_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        accessibleRoleName,
+                        javafx.scene.AccessibleRole.class,
+                        true, /* readWrite */
+                        javafx.scene.AccessibleRole.BUTTON, /* defaultValue */
+                        new InspectorPath("Properties", "Accessibility", 2));
+        }
+        return accessibleRole_BUTTON_PropertyMetadata;
+    }
+    private ValuePropertyMetadata accessibleRole_TOGGLE_BUTTON_PropertyMetadata;
+    private ValuePropertyMetadata accessibleRole_TOGGLE_BUTTON_PropertyMetadata() {
+        if (accessibleRole_TOGGLE_BUTTON_PropertyMetadata == null) {
+            accessibleRole_TOGGLE_BUTTON_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        accessibleRoleName,
+                        javafx.scene.AccessibleRole.class,
+                        true, /* readWrite */
+                        javafx.scene.AccessibleRole.TOGGLE_BUTTON, /* defaultValue */
+                        new InspectorPath("Properties", "Accessibility", 2));
+        }
+        return accessibleRole_TOGGLE_BUTTON_PropertyMetadata;
+    }
+    private ValuePropertyMetadata accessibleRole_CHECK_BOX_PropertyMetadata;
+    private ValuePropertyMetadata accessibleRole_CHECK_BOX_PropertyMetadata() {
+        if (accessibleRole_CHECK_BOX_PropertyMetadata == null) {
+            accessibleRole_CHECK_BOX_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        accessibleRoleName,
+                        javafx.scene.AccessibleRole.class,
+                        true, /* readWrite */
+                        javafx.scene.AccessibleRole.CHECK_BOX, /* defaultValue */
+                        new InspectorPath("Properties", "Accessibility", 2));
+        }
+        return accessibleRole_CHECK_BOX_PropertyMetadata;
+    }
+    private ValuePropertyMetadata accessibleRole_COMBO_BOX_PropertyMetadata;
+    private ValuePropertyMetadata accessibleRole_COMBO_BOX_PropertyMetadata() {
+        if (accessibleRole_COMBO_BOX_PropertyMetadata == null) {
+            accessibleRole_COMBO_BOX_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        accessibleRoleName,
+                        javafx.scene.AccessibleRole.class,
+                        true, /* readWrite */
+                        javafx.scene.AccessibleRole.COMBO_BOX, /* defaultValue */
+                        new InspectorPath("Properties", "Accessibility", 2));
+        }
+        return accessibleRole_COMBO_BOX_PropertyMetadata;
+    }
+    private ValuePropertyMetadata accessibleRole_DATE_PICKER_PropertyMetadata;
+    private ValuePropertyMetadata accessibleRole_DATE_PICKER_PropertyMetadata() {
+        if (accessibleRole_DATE_PICKER_PropertyMetadata == null) {
+            accessibleRole_DATE_PICKER_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        accessibleRoleName,
+                        javafx.scene.AccessibleRole.class,
+                        true, /* readWrite */
+                        javafx.scene.AccessibleRole.DATE_PICKER, /* defaultValue */
+                        new InspectorPath("Properties", "Accessibility", 2));
+        }
+        return accessibleRole_DATE_PICKER_PropertyMetadata;
+    }
+    private ValuePropertyMetadata accessibleRole_HYPERLINK_PropertyMetadata;
+    private ValuePropertyMetadata accessibleRole_HYPERLINK_PropertyMetadata() {
+        if (accessibleRole_HYPERLINK_PropertyMetadata == null) {
+            accessibleRole_HYPERLINK_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        accessibleRoleName,
+                        javafx.scene.AccessibleRole.class,
+                        true, /* readWrite */
+                        javafx.scene.AccessibleRole.HYPERLINK, /* defaultValue */
+                        new InspectorPath("Properties", "Accessibility", 2));
+        }
+        return accessibleRole_HYPERLINK_PropertyMetadata;
+    }
+    private ValuePropertyMetadata accessibleRole_IMAGE_VIEW_PropertyMetadata;
+    private ValuePropertyMetadata accessibleRole_IMAGE_VIEW_PropertyMetadata() {
+        if (accessibleRole_IMAGE_VIEW_PropertyMetadata == null) {
+            accessibleRole_IMAGE_VIEW_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        accessibleRoleName,
+                        javafx.scene.AccessibleRole.class,
+                        true, /* readWrite */
+                        javafx.scene.AccessibleRole.IMAGE_VIEW, /* defaultValue */
+                        new InspectorPath("Properties", "Accessibility", 2));
+        }
+        return accessibleRole_IMAGE_VIEW_PropertyMetadata;
+    }
+    private ValuePropertyMetadata accessibleRole_TEXT_PropertyMetadata;
+    private ValuePropertyMetadata accessibleRole_TEXT_PropertyMetadata() {
+        if (accessibleRole_TEXT_PropertyMetadata == null) {
+            accessibleRole_TEXT_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        accessibleRoleName,
+                        javafx.scene.AccessibleRole.class,
+                        true, /* readWrite */
+                        javafx.scene.AccessibleRole.TEXT, /* defaultValue */
+                        new InspectorPath("Properties", "Accessibility", 2));
+        }
+        return accessibleRole_TEXT_PropertyMetadata;
+    }
+    private ValuePropertyMetadata accessibleRole_LIST_VIEW_PropertyMetadata;
+    private ValuePropertyMetadata accessibleRole_LIST_VIEW_PropertyMetadata() {
+        if (accessibleRole_LIST_VIEW_PropertyMetadata == null) {
+            accessibleRole_LIST_VIEW_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        accessibleRoleName,
+                        javafx.scene.AccessibleRole.class,
+                        true, /* readWrite */
+                        javafx.scene.AccessibleRole.LIST_VIEW, /* defaultValue */
+                        new InspectorPath("Properties", "Accessibility", 2));
+        }
+        return accessibleRole_LIST_VIEW_PropertyMetadata;
+    }
+    private ValuePropertyMetadata accessibleRole_MENU_BAR_PropertyMetadata;
+    private ValuePropertyMetadata accessibleRole_MENU_BAR_PropertyMetadata() {
+        if (accessibleRole_MENU_BAR_PropertyMetadata == null) {
+            accessibleRole_MENU_BAR_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        accessibleRoleName,
+                        javafx.scene.AccessibleRole.class,
+                        true, /* readWrite */
+                        javafx.scene.AccessibleRole.MENU_BAR, /* defaultValue */
+                        new InspectorPath("Properties", "Accessibility", 2));
+        }
+        return accessibleRole_MENU_BAR_PropertyMetadata;
+    }
+    private ValuePropertyMetadata accessibleRole_MENU_BUTTON_PropertyMetadata;
+    private ValuePropertyMetadata accessibleRole_MENU_BUTTON_PropertyMetadata() {
+        if (accessibleRole_MENU_BUTTON_PropertyMetadata == null) {
+            accessibleRole_MENU_BUTTON_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        accessibleRoleName,
+                        javafx.scene.AccessibleRole.class,
+                        true, /* readWrite */
+                        javafx.scene.AccessibleRole.MENU_BUTTON, /* defaultValue */
+                        new InspectorPath("Properties", "Accessibility", 2));
+        }
+        return accessibleRole_MENU_BUTTON_PropertyMetadata;
+    }
+    private ValuePropertyMetadata accessibleRole_PARENT_PropertyMetadata;
+    private ValuePropertyMetadata accessibleRole_PARENT_PropertyMetadata() {
+        if (accessibleRole_PARENT_PropertyMetadata == null) {
+            accessibleRole_PARENT_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        accessibleRoleName,
+                        javafx.scene.AccessibleRole.class,
+                        true, /* readWrite */
+                        javafx.scene.AccessibleRole.PARENT, /* defaultValue */
+                        new InspectorPath("Properties", "Accessibility", 2));
+        }
+        return accessibleRole_PARENT_PropertyMetadata;
+    }
+    private ValuePropertyMetadata accessibleRole_PAGINATION_PropertyMetadata;
+    private ValuePropertyMetadata accessibleRole_PAGINATION_PropertyMetadata() {
+        if (accessibleRole_PAGINATION_PropertyMetadata == null) {
+            accessibleRole_PAGINATION_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        accessibleRoleName,
+                        javafx.scene.AccessibleRole.class,
+                        true, /* readWrite */
+                        javafx.scene.AccessibleRole.PAGINATION, /* defaultValue */
+                        new InspectorPath("Properties", "Accessibility", 2));
+        }
+        return accessibleRole_PAGINATION_PropertyMetadata;
+    }
+    private ValuePropertyMetadata accessibleRole_PASSWORD_FIELD_PropertyMetadata;
+    private ValuePropertyMetadata accessibleRole_PASSWORD_FIELD_PropertyMetadata() {
+        if (accessibleRole_PASSWORD_FIELD_PropertyMetadata == null) {
+            accessibleRole_PASSWORD_FIELD_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        accessibleRoleName,
+                        javafx.scene.AccessibleRole.class,
+                        true, /* readWrite */
+                        javafx.scene.AccessibleRole.PASSWORD_FIELD, /* defaultValue */
+                        new InspectorPath("Properties", "Accessibility", 2));
+        }
+        return accessibleRole_PASSWORD_FIELD_PropertyMetadata;
+    }
+    private ValuePropertyMetadata accessibleRole_PROGRESS_INDICATOR_PropertyMetadata;
+    private ValuePropertyMetadata accessibleRole_PROGRESS_INDICATOR_PropertyMetadata() {
+        if (accessibleRole_PROGRESS_INDICATOR_PropertyMetadata == null) {
+            accessibleRole_PROGRESS_INDICATOR_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        accessibleRoleName,
+                        javafx.scene.AccessibleRole.class,
+                        true, /* readWrite */
+                        javafx.scene.AccessibleRole.PROGRESS_INDICATOR, /* defaultValue */
+                        new InspectorPath("Properties", "Accessibility", 2));
+        }
+        return accessibleRole_PROGRESS_INDICATOR_PropertyMetadata;
+    }
+    private ValuePropertyMetadata accessibleRole_RADIO_BUTTON_PropertyMetadata;
+    private ValuePropertyMetadata accessibleRole_RADIO_BUTTON_PropertyMetadata() {
+        if (accessibleRole_RADIO_BUTTON_PropertyMetadata == null) {
+            accessibleRole_RADIO_BUTTON_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        accessibleRoleName,
+                        javafx.scene.AccessibleRole.class,
+                        true, /* readWrite */
+                        javafx.scene.AccessibleRole.RADIO_BUTTON, /* defaultValue */
+                        new InspectorPath("Properties", "Accessibility", 2));
+        }
+        return accessibleRole_RADIO_BUTTON_PropertyMetadata;
+    }
+    private ValuePropertyMetadata accessibleRole_SCROLL_BAR_PropertyMetadata;
+    private ValuePropertyMetadata accessibleRole_SCROLL_BAR_PropertyMetadata() {
+        if (accessibleRole_SCROLL_BAR_PropertyMetadata == null) {
+            accessibleRole_SCROLL_BAR_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        accessibleRoleName,
+                        javafx.scene.AccessibleRole.class,
+                        true, /* readWrite */
+                        javafx.scene.AccessibleRole.SCROLL_BAR, /* defaultValue */
+                        new InspectorPath("Properties", "Accessibility", 2));
+        }
+        return accessibleRole_SCROLL_BAR_PropertyMetadata;
+    }
+    private ValuePropertyMetadata accessibleRole_SCROLL_PANE_PropertyMetadata;
+    private ValuePropertyMetadata accessibleRole_SCROLL_PANE_PropertyMetadata() {
+        if (accessibleRole_SCROLL_PANE_PropertyMetadata == null) {
+            accessibleRole_SCROLL_PANE_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        accessibleRoleName,
+                        javafx.scene.AccessibleRole.class,
+                        true, /* readWrite */
+                        javafx.scene.AccessibleRole.SCROLL_PANE, /* defaultValue */
+                        new InspectorPath("Properties", "Accessibility", 2));
+        }
+        return accessibleRole_SCROLL_PANE_PropertyMetadata;
+    }
+    private ValuePropertyMetadata accessibleRole_SLIDER_PropertyMetadata;
+    private ValuePropertyMetadata accessibleRole_SLIDER_PropertyMetadata() {
+        if (accessibleRole_SLIDER_PropertyMetadata == null) {
+            accessibleRole_SLIDER_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        accessibleRoleName,
+                        javafx.scene.AccessibleRole.class,
+                        true, /* readWrite */
+                        javafx.scene.AccessibleRole.SLIDER, /* defaultValue */
+                        new InspectorPath("Properties", "Accessibility", 2));
+        }
+        return accessibleRole_SLIDER_PropertyMetadata;
+    }
+    private ValuePropertyMetadata accessibleRole_SPINNER_PropertyMetadata;
+    private ValuePropertyMetadata accessibleRole_SPINNER_PropertyMetadata() {
+        if (accessibleRole_SPINNER_PropertyMetadata == null) {
+            accessibleRole_SPINNER_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        accessibleRoleName,
+                        javafx.scene.AccessibleRole.class,
+                        true, /* readWrite */
+                        javafx.scene.AccessibleRole.SPINNER, /* defaultValue */
+                        new InspectorPath("Properties", "Accessibility", 2));
+        }
+        return accessibleRole_SPINNER_PropertyMetadata;
+    }
+    private ValuePropertyMetadata accessibleRole_SPLIT_MENU_BUTTON_PropertyMetadata;
+    private ValuePropertyMetadata accessibleRole_SPLIT_MENU_BUTTON_PropertyMetadata() {
+        if (accessibleRole_SPLIT_MENU_BUTTON_PropertyMetadata == null) {
+            accessibleRole_SPLIT_MENU_BUTTON_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        accessibleRoleName,
+                        javafx.scene.AccessibleRole.class,
+                        true, /* readWrite */
+                        javafx.scene.AccessibleRole.SPLIT_MENU_BUTTON, /* defaultValue */
+                        new InspectorPath("Properties", "Accessibility", 2));
+        }
+        return accessibleRole_SPLIT_MENU_BUTTON_PropertyMetadata;
+    }
+    private ValuePropertyMetadata accessibleRole_TAB_PANE_PropertyMetadata;
+    private ValuePropertyMetadata accessibleRole_TAB_PANE_PropertyMetadata() {
+        if (accessibleRole_TAB_PANE_PropertyMetadata == null) {
+            accessibleRole_TAB_PANE_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        accessibleRoleName,
+                        javafx.scene.AccessibleRole.class,
+                        true, /* readWrite */
+                        javafx.scene.AccessibleRole.TAB_PANE, /* defaultValue */
+                        new InspectorPath("Properties", "Accessibility", 2));
+        }
+        return accessibleRole_TAB_PANE_PropertyMetadata;
+    }
+    private ValuePropertyMetadata accessibleRole_TABLE_VIEW_PropertyMetadata;
+    private ValuePropertyMetadata accessibleRole_TABLE_VIEW_PropertyMetadata() {
+        if (accessibleRole_TABLE_VIEW_PropertyMetadata == null) {
+            accessibleRole_TABLE_VIEW_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        accessibleRoleName,
+                        javafx.scene.AccessibleRole.class,
+                        true, /* readWrite */
+                        javafx.scene.AccessibleRole.TABLE_VIEW, /* defaultValue */
+                        new InspectorPath("Properties", "Accessibility", 2));
+        }
+        return accessibleRole_TABLE_VIEW_PropertyMetadata;
+    }
+    private ValuePropertyMetadata accessibleRole_TEXT_AREA_PropertyMetadata;
+    private ValuePropertyMetadata accessibleRole_TEXT_AREA_PropertyMetadata() {
+        if (accessibleRole_TEXT_AREA_PropertyMetadata == null) {
+            accessibleRole_TEXT_AREA_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        accessibleRoleName,
+                        javafx.scene.AccessibleRole.class,
+                        true, /* readWrite */
+                        javafx.scene.AccessibleRole.TEXT_AREA, /* defaultValue */
+                        new InspectorPath("Properties", "Accessibility", 2));
+        }
+        return accessibleRole_TEXT_AREA_PropertyMetadata;
+    }
+    private ValuePropertyMetadata accessibleRole_TEXT_FIELD_PropertyMetadata;
+    private ValuePropertyMetadata accessibleRole_TEXT_FIELD_PropertyMetadata() {
+        if (accessibleRole_TEXT_FIELD_PropertyMetadata == null) {
+            accessibleRole_TEXT_FIELD_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        accessibleRoleName,
+                        javafx.scene.AccessibleRole.class,
+                        true, /* readWrite */
+                        javafx.scene.AccessibleRole.TEXT_FIELD, /* defaultValue */
+                        new InspectorPath("Properties", "Accessibility", 2));
+        }
+        return accessibleRole_TEXT_FIELD_PropertyMetadata;
+    }
+    private ValuePropertyMetadata accessibleRole_TITLED_PANE_PropertyMetadata;
+    private ValuePropertyMetadata accessibleRole_TITLED_PANE_PropertyMetadata() {
+        if (accessibleRole_TITLED_PANE_PropertyMetadata == null) {
+            accessibleRole_TITLED_PANE_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        accessibleRoleName,
+                        javafx.scene.AccessibleRole.class,
+                        true, /* readWrite */
+                        javafx.scene.AccessibleRole.TITLED_PANE, /* defaultValue */
+                        new InspectorPath("Properties", "Accessibility", 2));
+        }
+        return accessibleRole_TITLED_PANE_PropertyMetadata;
+    }
+    private ValuePropertyMetadata accessibleRole_TOOL_BAR_PropertyMetadata;
+    private ValuePropertyMetadata accessibleRole_TOOL_BAR_PropertyMetadata() {
+        if (accessibleRole_TOOL_BAR_PropertyMetadata == null) {
+            accessibleRole_TOOL_BAR_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        accessibleRoleName,
+                        javafx.scene.AccessibleRole.class,
+                        true, /* readWrite */
+                        javafx.scene.AccessibleRole.TOOL_BAR, /* defaultValue */
+                        new InspectorPath("Properties", "Accessibility", 2));
+        }
+        return accessibleRole_TOOL_BAR_PropertyMetadata;
+    }
+    private ValuePropertyMetadata accessibleRole_TREE_TABLE_VIEW_PropertyMetadata;
+    private ValuePropertyMetadata accessibleRole_TREE_TABLE_VIEW_PropertyMetadata() {
+        if (accessibleRole_TREE_TABLE_VIEW_PropertyMetadata == null) {
+            accessibleRole_TREE_TABLE_VIEW_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        accessibleRoleName,
+                        javafx.scene.AccessibleRole.class,
+                        true, /* readWrite */
+                        javafx.scene.AccessibleRole.TREE_TABLE_VIEW, /* defaultValue */
+                        new InspectorPath("Properties", "Accessibility", 2));
+        }
+        return accessibleRole_TREE_TABLE_VIEW_PropertyMetadata;
+    }
+    private ValuePropertyMetadata accessibleRole_TREE_VIEW_PropertyMetadata;
+    private ValuePropertyMetadata accessibleRole_TREE_VIEW_PropertyMetadata() {
+        if (accessibleRole_TREE_VIEW_PropertyMetadata == null) {
+            accessibleRole_TREE_VIEW_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        accessibleRoleName,
+                        javafx.scene.AccessibleRole.class,
+                        true, /* readWrite */
+                        javafx.scene.AccessibleRole.TREE_VIEW, /* defaultValue */
+                        new InspectorPath("Properties", "Accessibility", 2));
+        }
+        return accessibleRole_TREE_VIEW_PropertyMetadata;
+    }
+    private ValuePropertyMetadata accessibleRoleDescriptionPropertyMetadata;
+    private ValuePropertyMetadata accessibleRoleDescriptionPropertyMetadata() {
+        if (accessibleRoleDescriptionPropertyMetadata == null) {
+            accessibleRoleDescriptionPropertyMetadata =
+                    new StringPropertyMetadata(
+                        accessibleRoleDescriptionName,
+                        true, /* readWrite */
+                        "", /* defaultValue */
+                        new InspectorPath("Properties", "Accessibility", 3));
+        }
+        return accessibleRoleDescriptionPropertyMetadata;
+    }
+    private ValuePropertyMetadata accessibleTextPropertyMetadata;
+    private ValuePropertyMetadata accessibleTextPropertyMetadata() {
+        if (accessibleTextPropertyMetadata == null) {
+            accessibleTextPropertyMetadata =
+                    new StringPropertyMetadata(
+                        accessibleTextName,
+                        true, /* readWrite */
+                        "", /* defaultValue */
+                        new InspectorPath("Properties", "Accessibility", 0));
+        }
+        return accessibleTextPropertyMetadata;
+    }
+    private ValuePropertyMetadata alignment_TOP_LEFT_PropertyMetadata;
+    private ValuePropertyMetadata alignment_TOP_LEFT_PropertyMetadata() {
+        if (alignment_TOP_LEFT_PropertyMetadata == null) {
+            alignment_TOP_LEFT_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        alignmentName,
+                        javafx.geometry.Pos.class,
+                        true, /* readWrite */
+                        javafx.geometry.Pos.TOP_LEFT, /* defaultValue */
+                        new InspectorPath("Properties", "Node", 0));
+        }
+        return alignment_TOP_LEFT_PropertyMetadata;
+    }
+    private ValuePropertyMetadata alignment_CENTER_LEFT_PropertyMetadata;
+    private ValuePropertyMetadata alignment_CENTER_LEFT_PropertyMetadata() {
+        if (alignment_CENTER_LEFT_PropertyMetadata == null) {
+            alignment_CENTER_LEFT_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        alignmentName,
+                        javafx.geometry.Pos.class,
+                        true, /* readWrite */
+                        javafx.geometry.Pos.CENTER_LEFT, /* defaultValue */
+                        new InspectorPath("Properties", "Node", 0));
+        }
+        return alignment_CENTER_LEFT_PropertyMetadata;
+    }
+    private ValuePropertyMetadata alignment_CENTER_PropertyMetadata;
+    private ValuePropertyMetadata alignment_CENTER_PropertyMetadata() {
+        if (alignment_CENTER_PropertyMetadata == null) {
+            alignment_CENTER_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        alignmentName,
+                        javafx.geometry.Pos.class,
+                        true, /* readWrite */
+                        javafx.geometry.Pos.CENTER, /* defaultValue */
+                        new InspectorPath("Properties", "Node", 0));
+        }
+        return alignment_CENTER_PropertyMetadata;
+    }
+    private ValuePropertyMetadata allowIndeterminatePropertyMetadata;
+    private ValuePropertyMetadata allowIndeterminatePropertyMetadata() {
+        if (allowIndeterminatePropertyMetadata == null) {
+            allowIndeterminatePropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        allowIndeterminateName,
+                        true, /* readWrite */
+                        false, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 2));
+        }
+        return allowIndeterminatePropertyMetadata;
+    }
+    private ValuePropertyMetadata alternativeColumnFillVisiblePropertyMetadata;
+    private ValuePropertyMetadata alternativeColumnFillVisiblePropertyMetadata() {
+        if (alternativeColumnFillVisiblePropertyMetadata == null) {
+            alternativeColumnFillVisiblePropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        alternativeColumnFillVisibleName,
+                        true, /* readWrite */
+                        false, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 88));
+        }
+        return alternativeColumnFillVisiblePropertyMetadata;
+    }
+    private ValuePropertyMetadata alternativeRowFillVisiblePropertyMetadata;
+    private ValuePropertyMetadata alternativeRowFillVisiblePropertyMetadata() {
+        if (alternativeRowFillVisiblePropertyMetadata == null) {
+            alternativeRowFillVisiblePropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        alternativeRowFillVisibleName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 94));
+        }
+        return alternativeRowFillVisiblePropertyMetadata;
+    }
+    private ValuePropertyMetadata alwaysOnTopPropertyMetadata;
+    private ValuePropertyMetadata alwaysOnTopPropertyMetadata() {
+        if (alwaysOnTopPropertyMetadata == null) {
+            alwaysOnTopPropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        alwaysOnTopName,
+                        true, /* readWrite */
+                        false, /* defaultValue */
+                        new InspectorPath("Layout", "Extras", 9));
+        }
+        return alwaysOnTopPropertyMetadata;
+    }
+    private ValuePropertyMetadata anchorLocationPropertyMetadata;
+    private ValuePropertyMetadata anchorLocationPropertyMetadata() {
+        if (anchorLocationPropertyMetadata == null) {
+            anchorLocationPropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        anchorLocationName,
+                        javafx.stage.PopupWindow.AnchorLocation.class,
+                        true, /* readWrite */
+                        javafx.stage.PopupWindow.AnchorLocation.CONTENT_TOP_LEFT, /* defaultValue */
+                        new InspectorPath("Layout", "Position", 11));
+        }
+        return anchorLocationPropertyMetadata;
+    }
+    private ValuePropertyMetadata anchorXPropertyMetadata;
+    private ValuePropertyMetadata anchorXPropertyMetadata() {
+        if (anchorXPropertyMetadata == null) {
+            anchorXPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        anchorXName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        Double.NaN, /* defaultValue */
+                        new InspectorPath("Layout", "Position", 9));
+        }
+        return anchorXPropertyMetadata;
+    }
+    private ValuePropertyMetadata anchorYPropertyMetadata;
+    private ValuePropertyMetadata anchorYPropertyMetadata() {
+        if (anchorYPropertyMetadata == null) {
+            anchorYPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        anchorYName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        Double.NaN, /* defaultValue */
+                        new InspectorPath("Layout", "Position", 10));
+        }
+        return anchorYPropertyMetadata;
+    }
+    private ValuePropertyMetadata animatedPropertyMetadata;
+    private ValuePropertyMetadata animatedPropertyMetadata() {
+        if (animatedPropertyMetadata == null) {
+            animatedPropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        animatedName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 43));
+        }
+        return animatedPropertyMetadata;
+    }
+    private ValuePropertyMetadata arcHeightPropertyMetadata;
+    private ValuePropertyMetadata arcHeightPropertyMetadata() {
+        if (arcHeightPropertyMetadata == null) {
+            arcHeightPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        arcHeightName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 44));
+        }
+        return arcHeightPropertyMetadata;
+    }
+    private ValuePropertyMetadata arcWidthPropertyMetadata;
+    private ValuePropertyMetadata arcWidthPropertyMetadata() {
+        if (arcWidthPropertyMetadata == null) {
+            arcWidthPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        arcWidthName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 3));
+        }
+        return arcWidthPropertyMetadata;
+    }
+    private ValuePropertyMetadata autoFixPropertyMetadata;
+    private ValuePropertyMetadata autoFixPropertyMetadata() {
+        if (autoFixPropertyMetadata == null) {
+            autoFixPropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        autoFixName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 4));
+        }
+        return autoFixPropertyMetadata;
+    }
+    private ValuePropertyMetadata autoHide_true_PropertyMetadata;
+    private ValuePropertyMetadata autoHide_true_PropertyMetadata() {
+        if (autoHide_true_PropertyMetadata == null) {
+            autoHide_true_PropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        autoHideName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 45));
+        }
+        return autoHide_true_PropertyMetadata;
+    }
+    private ValuePropertyMetadata autoHide_false_PropertyMetadata;
+    private ValuePropertyMetadata autoHide_false_PropertyMetadata() {
+        if (autoHide_false_PropertyMetadata == null) {
+            autoHide_false_PropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        autoHideName,
+                        true, /* readWrite */
+                        false, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 45));
+        }
+        return autoHide_false_PropertyMetadata;
+    }
+    private ValuePropertyMetadata autoRangingPropertyMetadata;
+    private ValuePropertyMetadata autoRangingPropertyMetadata() {
+        if (autoRangingPropertyMetadata == null) {
+            autoRangingPropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        autoRangingName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 72));
+        }
+        return autoRangingPropertyMetadata;
+    }
+    private ValuePropertyMetadata autoSizeChildrenPropertyMetadata;
+    private ValuePropertyMetadata autoSizeChildrenPropertyMetadata() {
+        if (autoSizeChildrenPropertyMetadata == null) {
+            autoSizeChildrenPropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        autoSizeChildrenName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Layout", "Extras", 0));
+        }
+        return autoSizeChildrenPropertyMetadata;
+    }
+    private ValuePropertyMetadata axisSortingPolicyPropertyMetadata;
+    private ValuePropertyMetadata axisSortingPolicyPropertyMetadata() {
+        if (axisSortingPolicyPropertyMetadata == null) {
+            axisSortingPolicyPropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        axisSortingPolicyName,
+                        javafx.scene.chart.LineChart.SortingPolicy.class,
+                        true, /* readWrite */
+                        javafx.scene.chart.LineChart.SortingPolicy.X_AXIS, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 130));
+        }
+        return axisSortingPolicyPropertyMetadata;
+    }
+    private ValuePropertyMetadata barGapPropertyMetadata;
+    private ValuePropertyMetadata barGapPropertyMetadata() {
+        if (barGapPropertyMetadata == null) {
+            barGapPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        barGapName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        4.0, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 77));
+        }
+        return barGapPropertyMetadata;
+    }
+    private ValuePropertyMetadata baselineOffsetPropertyMetadata;
+    private ValuePropertyMetadata baselineOffsetPropertyMetadata() {
+        if (baselineOffsetPropertyMetadata == null) {
+            baselineOffsetPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        baselineOffsetName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        false, /* readWrite */
+                        null, /* No defaultValue for R/O property */
+                        new InspectorPath("Layout", "Extras", 1));
+        }
+        return baselineOffsetPropertyMetadata;
+    }
+    private ValuePropertyMetadata blendModePropertyMetadata;
+    private ValuePropertyMetadata blendModePropertyMetadata() {
+        if (blendModePropertyMetadata == null) {
+            blendModePropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        blendModeName,
+                        javafx.scene.effect.BlendMode.class,
+                        "SRC_OVER", /* null equivalent */
+                        true, /* readWrite */
+                        new InspectorPath("Properties", "Extras", 0));
+        }
+        return blendModePropertyMetadata;
+    }
+    private ValuePropertyMetadata blockIncrementPropertyMetadata;
+    private ValuePropertyMetadata blockIncrementPropertyMetadata() {
+        if (blockIncrementPropertyMetadata == null) {
+            blockIncrementPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        blockIncrementName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        10.0, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 73));
+        }
+        return blockIncrementPropertyMetadata;
+    }
+    private ComponentPropertyMetadata bottomPropertyMetadata;
+    private ComponentPropertyMetadata bottomPropertyMetadata() {
+        if (bottomPropertyMetadata == null) {
+            bottomPropertyMetadata =
+                    new ComponentPropertyMetadata(
+                        bottomName,
+                        NodeMetadata,
+                        false); /* collection */
+        }
+        return bottomPropertyMetadata;
+    }
+    private ValuePropertyMetadata boundsInLocalPropertyMetadata;
+    private ValuePropertyMetadata boundsInLocalPropertyMetadata() {
+        if (boundsInLocalPropertyMetadata == null) {
+            boundsInLocalPropertyMetadata =
+                    new BoundsPropertyMetadata(
+                        boundsInLocalName,
+                        false, /* readWrite */
+                        null, /* No defaultValue for R/O property */
+                        new InspectorPath("Layout", "Bounds", 2));
+        }
+        return boundsInLocalPropertyMetadata;
+    }
+    private ValuePropertyMetadata boundsInParentPropertyMetadata;
+    private ValuePropertyMetadata boundsInParentPropertyMetadata() {
+        if (boundsInParentPropertyMetadata == null) {
+            boundsInParentPropertyMetadata =
+                    new BoundsPropertyMetadata(
+                        boundsInParentName,
+                        false, /* readWrite */
+                        null, /* No defaultValue for R/O property */
+                        new InspectorPath("Layout", "Bounds", 3));
+        }
+        return boundsInParentPropertyMetadata;
+    }
+    private ValuePropertyMetadata boundsTypePropertyMetadata;
+    private ValuePropertyMetadata boundsTypePropertyMetadata() {
+        if (boundsTypePropertyMetadata == null) {
+            boundsTypePropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        boundsTypeName,
+                        javafx.scene.text.TextBoundsType.class,
+                        true, /* readWrite */
+                        javafx.scene.text.TextBoundsType.LOGICAL, /* defaultValue */
+                        new InspectorPath("Layout", "Extras", 2));
+        }
+        return boundsTypePropertyMetadata;
+    }
+    private ValuePropertyMetadata buttonCellPropertyMetadata;
+    private ValuePropertyMetadata buttonCellPropertyMetadata() {
+        if (buttonCellPropertyMetadata == null) {
+            buttonCellPropertyMetadata =
+                    new ListCellPropertyMetadata(
+                        buttonCellName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 40));
+        }
+        return buttonCellPropertyMetadata;
+    }
+    private ValuePropertyMetadata buttonMinWidthPropertyMetadata;
+    private ValuePropertyMetadata buttonMinWidthPropertyMetadata() {
+        if (buttonMinWidthPropertyMetadata == null) {
+            buttonMinWidthPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        buttonMinWidthName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        70.0, /* defaultValue */
+                        new InspectorPath("Layout", "Size", 0));
+        }
+        return buttonMinWidthPropertyMetadata;
+    }
+    private ValuePropertyMetadata buttonOrderPropertyMetadata;
+    private ValuePropertyMetadata buttonOrderPropertyMetadata() {
+        if (buttonOrderPropertyMetadata == null) {
+            buttonOrderPropertyMetadata =
+                    new StringPropertyMetadata(
+                        buttonOrderName,
+                        true, /* readWrite */
+                        "L_HE+U+FBIX_NCYOA_R", /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 5));
+        }
+        return buttonOrderPropertyMetadata;
+    }
+    private ComponentPropertyMetadata buttonsPropertyMetadata;
+    private ComponentPropertyMetadata buttonsPropertyMetadata() {
+        if (buttonsPropertyMetadata == null) {
+            buttonsPropertyMetadata =
+                    new ComponentPropertyMetadata(
+                        buttonsName,
+                        NodeMetadata,
+                        true); /* collection */
+        }
+        return buttonsPropertyMetadata;
+    }
+    private ValuePropertyMetadata buttonTypesPropertyMetadata;
+    private ValuePropertyMetadata buttonTypesPropertyMetadata() {
+        if (buttonTypesPropertyMetadata == null) {
+            buttonTypesPropertyMetadata =
+                    new ButtonTypeListPropertyMetadata(
+                        buttonTypesName,
+                        true, /* readWrite */
+                        Collections.emptyList(), /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 18));
+        }
+        return buttonTypesPropertyMetadata;
+    }
+    private ValuePropertyMetadata cachePropertyMetadata;
+    private ValuePropertyMetadata cachePropertyMetadata() {
+        if (cachePropertyMetadata == null) {
+            cachePropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        cacheName,
+                        true, /* readWrite */
+                        false, /* defaultValue */
+                        new InspectorPath("Properties", "Extras", 2));
+        }
+        return cachePropertyMetadata;
+    }
+    private ValuePropertyMetadata cacheHintPropertyMetadata;
+    private ValuePropertyMetadata cacheHintPropertyMetadata() {
+        if (cacheHintPropertyMetadata == null) {
+            cacheHintPropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        cacheHintName,
+                        javafx.scene.CacheHint.class,
+                        true, /* readWrite */
+                        javafx.scene.CacheHint.DEFAULT, /* defaultValue */
+                        new InspectorPath("Properties", "Extras", 3));
+        }
+        return cacheHintPropertyMetadata;
+    }
+    private ValuePropertyMetadata cacheShapePropertyMetadata;
+    private ValuePropertyMetadata cacheShapePropertyMetadata() {
+        if (cacheShapePropertyMetadata == null) {
+            cacheShapePropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        cacheShapeName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Properties", "Node", 7));
+        }
+        return cacheShapePropertyMetadata;
+    }
+    private ValuePropertyMetadata cancelButtonPropertyMetadata;
+    private ValuePropertyMetadata cancelButtonPropertyMetadata() {
+        if (cancelButtonPropertyMetadata == null) {
+            cancelButtonPropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        cancelButtonName,
+                        true, /* readWrite */
+                        false, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 46));
+        }
+        return cancelButtonPropertyMetadata;
+    }
+    private ValuePropertyMetadata categoriesPropertyMetadata;
+    private ValuePropertyMetadata categoriesPropertyMetadata() {
+        if (categoriesPropertyMetadata == null) {
+            categoriesPropertyMetadata =
+                    new StringListPropertyMetadata(
+                        categoriesName,
+                        true, /* readWrite */
+                        Collections.emptyList(), /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 78));
+        }
+        return categoriesPropertyMetadata;
+    }
+    private ValuePropertyMetadata categoryGapPropertyMetadata;
+    private ValuePropertyMetadata categoryGapPropertyMetadata() {
+        if (categoryGapPropertyMetadata == null) {
+            categoryGapPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        categoryGapName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        10.0, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 79));
+        }
+        return categoryGapPropertyMetadata;
+    }
+    private ValuePropertyMetadata categorySpacingPropertyMetadata;
+    private ValuePropertyMetadata categorySpacingPropertyMetadata() {
+        if (categorySpacingPropertyMetadata == null) {
+            categorySpacingPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        categorySpacingName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        false, /* readWrite */
+                        null, /* No defaultValue for R/O property */
+                        new InspectorPath("Properties", "Specific", 80));
+        }
+        return categorySpacingPropertyMetadata;
+    }
+    private ComponentPropertyMetadata centerPropertyMetadata;
+    private ComponentPropertyMetadata centerPropertyMetadata() {
+        if (centerPropertyMetadata == null) {
+            centerPropertyMetadata =
+                    new ComponentPropertyMetadata(
+                        centerName,
+                        NodeMetadata,
+                        false); /* collection */
+        }
+        return centerPropertyMetadata;
+    }
+    private ValuePropertyMetadata centerShapePropertyMetadata;
+    private ValuePropertyMetadata centerShapePropertyMetadata() {
+        if (centerShapePropertyMetadata == null) {
+            centerShapePropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        centerShapeName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Properties", "Node", 8));
+        }
+        return centerShapePropertyMetadata;
+    }
+    private ValuePropertyMetadata centerXPropertyMetadata;
+    private ValuePropertyMetadata centerXPropertyMetadata() {
+        if (centerXPropertyMetadata == null) {
+            centerXPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        centerXName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Position", 0));
+        }
+        return centerXPropertyMetadata;
+    }
+    private ValuePropertyMetadata centerYPropertyMetadata;
+    private ValuePropertyMetadata centerYPropertyMetadata() {
+        if (centerYPropertyMetadata == null) {
+            centerYPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        centerYName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Position", 1));
+        }
+        return centerYPropertyMetadata;
+    }
+    private ComponentPropertyMetadata children_c1_PropertyMetadata;
+    private ComponentPropertyMetadata children_c1_PropertyMetadata() {
+        if (children_c1_PropertyMetadata == null) {
+            children_c1_PropertyMetadata =
+                    new ComponentPropertyMetadata(
+                        childrenName,
+                        NodeMetadata,
+                        true); /* collection */
+        }
+        return children_c1_PropertyMetadata;
+    }
+    private ComponentPropertyMetadata children_empty_PropertyMetadata;
+    private ComponentPropertyMetadata children_empty_PropertyMetadata() {
+        if (children_empty_PropertyMetadata == null) {
+            children_empty_PropertyMetadata =
+                    new ComponentPropertyMetadata(
+                        childrenName,
+                        NodeMetadata,
+                        true); /* collection */
+        }
+        return children_empty_PropertyMetadata;
+    }
+    private ComponentPropertyMetadata clipPropertyMetadata;
+    private ComponentPropertyMetadata clipPropertyMetadata() {
+        if (clipPropertyMetadata == null) {
+            clipPropertyMetadata =
+                    new ComponentPropertyMetadata(
+                        clipName,
+                        NodeMetadata,
+                        false); /* collection */
+        }
+        return clipPropertyMetadata;
+    }
+    private ValuePropertyMetadata clockwisePropertyMetadata;
+    private ValuePropertyMetadata clockwisePropertyMetadata() {
+        if (clockwisePropertyMetadata == null) {
+            clockwisePropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        clockwiseName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 89));
+        }
+        return clockwisePropertyMetadata;
+    }
+    private ValuePropertyMetadata closablePropertyMetadata;
+    private ValuePropertyMetadata closablePropertyMetadata() {
+        if (closablePropertyMetadata == null) {
+            closablePropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        closableName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 6));
+        }
+        return closablePropertyMetadata;
+    }
+    private ComponentPropertyMetadata collapsedContentPropertyMetadata;
+    private ComponentPropertyMetadata collapsedContentPropertyMetadata() {
+        if (collapsedContentPropertyMetadata == null) {
+            collapsedContentPropertyMetadata =
+                    new ComponentPropertyMetadata(
+                        collapsedContentName,
+                        NodeMetadata,
+                        false /* collection */
+                    );
+        }
+        return collapsedContentPropertyMetadata;
+    }
+    private ValuePropertyMetadata collapsiblePropertyMetadata;
+    private ValuePropertyMetadata collapsiblePropertyMetadata() {
+        if (collapsiblePropertyMetadata == null) {
+            collapsiblePropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        collapsibleName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 62));
+        }
+        return collapsiblePropertyMetadata;
+    }
+    private ValuePropertyMetadata colorPropertyMetadata;
+    private ValuePropertyMetadata colorPropertyMetadata() {
+        if (colorPropertyMetadata == null) {
+            colorPropertyMetadata =
+                    new ColorPropertyMetadata(
+                        colorName,
+                        true, /* readWrite */
+                        javafx.scene.paint.Color.WHITE, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 7));
+        }
+        return colorPropertyMetadata;
+    }
+    private ComponentPropertyMetadata columnConstraintsPropertyMetadata;
+    private ComponentPropertyMetadata columnConstraintsPropertyMetadata() {
+        if (columnConstraintsPropertyMetadata == null) {
+            columnConstraintsPropertyMetadata =
+                    new ComponentPropertyMetadata(
+                        columnConstraintsName,
+                        ColumnConstraintsMetadata,
+                        true); /* collection */
+        }
+        return columnConstraintsPropertyMetadata;
+    }
+    private ValuePropertyMetadata columnHalignmentPropertyMetadata;
+    private ValuePropertyMetadata columnHalignmentPropertyMetadata() {
+        if (columnHalignmentPropertyMetadata == null) {
+            columnHalignmentPropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        columnHalignmentName,
+                        javafx.geometry.HPos.class,
+                        true, /* readWrite */
+                        javafx.geometry.HPos.LEFT, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 63));
+        }
+        return columnHalignmentPropertyMetadata;
+    }
+    private ValuePropertyMetadata columnResizePolicy_TABLEVIEW_UNCONSTRAINED_PropertyMetadata;
+    private ValuePropertyMetadata columnResizePolicy_TABLEVIEW_UNCONSTRAINED_PropertyMetadata() {
+        if (columnResizePolicy_TABLEVIEW_UNCONSTRAINED_PropertyMetadata == null) {
+            columnResizePolicy_TABLEVIEW_UNCONSTRAINED_PropertyMetadata =
+                    new TableViewResizePolicyPropertyMetadata(
+                        columnResizePolicyName,
+                        true, /* readWrite */
+                        javafx.scene.control.TableView.UNCONSTRAINED_RESIZE_POLICY, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 34));
+        }
+        return columnResizePolicy_TABLEVIEW_UNCONSTRAINED_PropertyMetadata;
+    }
+    private ValuePropertyMetadata columnResizePolicy_TREETABLEVIEW_UNCONSTRAINED_PropertyMetadata;
+    private ValuePropertyMetadata columnResizePolicy_TREETABLEVIEW_UNCONSTRAINED_PropertyMetadata() {
+        if (columnResizePolicy_TREETABLEVIEW_UNCONSTRAINED_PropertyMetadata == null) {
+            columnResizePolicy_TREETABLEVIEW_UNCONSTRAINED_PropertyMetadata =
+                    new TreeTableViewResizePolicyPropertyMetadata(
+                        columnResizePolicyName,
+                        true, /* readWrite */
+                        javafx.scene.control.TreeTableView.UNCONSTRAINED_RESIZE_POLICY, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 34));
+        }
+        return columnResizePolicy_TREETABLEVIEW_UNCONSTRAINED_PropertyMetadata;
+    }
+    private ComponentPropertyMetadata columns_TableColumn_PropertyMetadata;
+    private ComponentPropertyMetadata columns_TableColumn_PropertyMetadata() {
+        if (columns_TableColumn_PropertyMetadata == null) {
+            columns_TableColumn_PropertyMetadata =
+                    new ComponentPropertyMetadata(
+                        columnsName,
+                        TableColumnMetadata,
+                        true); /* collection */
+        }
+        return columns_TableColumn_PropertyMetadata;
+    }
+    private ComponentPropertyMetadata columns_TreeTableColumn_PropertyMetadata;
+    private ComponentPropertyMetadata columns_TreeTableColumn_PropertyMetadata() {
+        if (columns_TreeTableColumn_PropertyMetadata == null) {
+            columns_TreeTableColumn_PropertyMetadata =
+                    new ComponentPropertyMetadata(
+                        columnsName,
+                        TreeTableColumnMetadata,
+                        true); /* collection */
+        }
+        return columns_TreeTableColumn_PropertyMetadata;
+    }
+    private ValuePropertyMetadata consumeAutoHidingEventsPropertyMetadata;
+    private ValuePropertyMetadata consumeAutoHidingEventsPropertyMetadata() {
+        if (consumeAutoHidingEventsPropertyMetadata == null) {
+            consumeAutoHidingEventsPropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        consumeAutoHidingEventsName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 64));
+        }
+        return consumeAutoHidingEventsPropertyMetadata;
+    }
+    private ComponentPropertyMetadata content_EXPANDEDPANEL_PropertyMetadata;
+    private ComponentPropertyMetadata content_EXPANDEDPANEL_PropertyMetadata() {
+        if (content_EXPANDEDPANEL_PropertyMetadata == null) {
+            content_EXPANDEDPANEL_PropertyMetadata =
+                    new ComponentPropertyMetadata(
+                        contentName,
+                        NodeMetadata,
+                        false); /* collection */
+        }
+        return content_EXPANDEDPANEL_PropertyMetadata;
+    }
+    private ComponentPropertyMetadata content_Node_NULL_PropertyMetadata;
+    private ComponentPropertyMetadata content_Node_NULL_PropertyMetadata() {
+        if (content_Node_NULL_PropertyMetadata == null) {
+            content_Node_NULL_PropertyMetadata =
+                    new ComponentPropertyMetadata(
+                        contentName,
+                        NodeMetadata,
+                        false); /* collection */
+        }
+        return content_Node_NULL_PropertyMetadata;
+    }
+    private ValuePropertyMetadata content_String_PropertyMetadata;
+    private ValuePropertyMetadata content_String_PropertyMetadata() {
+        if (content_String_PropertyMetadata == null) {
+            content_String_PropertyMetadata =
+                    new StringPropertyMetadata(
+                        contentName,
+                        true, /* readWrite */
+                        "", /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 10));
+        }
+        return content_String_PropertyMetadata;
+    }
+    private ComponentPropertyMetadata content_Node_SEPARATOR_PropertyMetadata;
+    private ComponentPropertyMetadata content_Node_SEPARATOR_PropertyMetadata() {
+        if (content_Node_SEPARATOR_PropertyMetadata == null) {
+            content_Node_SEPARATOR_PropertyMetadata =
+                    new ComponentPropertyMetadata(
+                        contentName,
+                        NodeMetadata,
+                        false); /* collection */
+        }
+        return content_Node_SEPARATOR_PropertyMetadata;
+    }
+    private ValuePropertyMetadata contentBiasPropertyMetadata;
+    private ValuePropertyMetadata contentBiasPropertyMetadata() {
+        if (contentBiasPropertyMetadata == null) {
+            contentBiasPropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        contentBiasName,
+                        javafx.geometry.Orientation.class,
+                        "NONE", /* null equivalent */
+                        false, /* readWrite */
+                        new InspectorPath("Layout", "Extras", 4));
+        }
+        return contentBiasPropertyMetadata;
+    }
+    private ValuePropertyMetadata contentDisplayPropertyMetadata;
+    private ValuePropertyMetadata contentDisplayPropertyMetadata() {
+        if (contentDisplayPropertyMetadata == null) {
+            contentDisplayPropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        contentDisplayName,
+                        javafx.scene.control.ContentDisplay.class,
+                        true, /* readWrite */
+                        javafx.scene.control.ContentDisplay.LEFT, /* defaultValue */
+                        new InspectorPath("Properties", "Graphic", 1));
+        }
+        return contentDisplayPropertyMetadata;
+    }
+    private ValuePropertyMetadata contentTextPropertyMetadata;
+    private ValuePropertyMetadata contentTextPropertyMetadata() {
+        if (contentTextPropertyMetadata == null) {
+            contentTextPropertyMetadata =
+                    new StringPropertyMetadata(
+                        contentTextName,
+                        true, /* readWrite */
+                        "", /* defaultValue */
+                        new InspectorPath("Properties", "Text", 2));
+        }
+        return contentTextPropertyMetadata;
+    }
+    private ComponentPropertyMetadata contextMenuPropertyMetadata;
+    private ComponentPropertyMetadata contextMenuPropertyMetadata() {
+        if (contextMenuPropertyMetadata == null) {
+            contextMenuPropertyMetadata =
+                    new ComponentPropertyMetadata(
+                        contextMenuName,
+                        ContextMenuMetadata,
+                        false); /* collection */
+        }
+        return contextMenuPropertyMetadata;
+    }
+    private ValuePropertyMetadata contextMenuEnabledPropertyMetadata;
+    private ValuePropertyMetadata contextMenuEnabledPropertyMetadata() {
+        if (contextMenuEnabledPropertyMetadata == null) {
+            contextMenuEnabledPropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        contextMenuEnabledName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 11));
+        }
+        return contextMenuEnabledPropertyMetadata;
+    }
+    private ValuePropertyMetadata controlXPropertyMetadata;
+    private ValuePropertyMetadata controlXPropertyMetadata() {
+        if (controlXPropertyMetadata == null) {
+            controlXPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        controlXName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Position", 14));
+        }
+        return controlXPropertyMetadata;
+    }
+    private ValuePropertyMetadata controlX1PropertyMetadata;
+    private ValuePropertyMetadata controlX1PropertyMetadata() {
+        if (controlX1PropertyMetadata == null) {
+            controlX1PropertyMetadata =
+                    new DoublePropertyMetadata(
+                        controlX1Name,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Position", 16));
+        }
+        return controlX1PropertyMetadata;
+    }
+    private ValuePropertyMetadata controlX2PropertyMetadata;
+    private ValuePropertyMetadata controlX2PropertyMetadata() {
+        if (controlX2PropertyMetadata == null) {
+            controlX2PropertyMetadata =
+                    new DoublePropertyMetadata(
+                        controlX2Name,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Position", 18));
+        }
+        return controlX2PropertyMetadata;
+    }
+    private ValuePropertyMetadata controlYPropertyMetadata;
+    private ValuePropertyMetadata controlYPropertyMetadata() {
+        if (controlYPropertyMetadata == null) {
+            controlYPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        controlYName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Position", 15));
+        }
+        return controlYPropertyMetadata;
+    }
+    private ValuePropertyMetadata controlY1PropertyMetadata;
+    private ValuePropertyMetadata controlY1PropertyMetadata() {
+        if (controlY1PropertyMetadata == null) {
+            controlY1PropertyMetadata =
+                    new DoublePropertyMetadata(
+                        controlY1Name,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Position", 17));
+        }
+        return controlY1PropertyMetadata;
+    }
+    private ValuePropertyMetadata controlY2PropertyMetadata;
+    private ValuePropertyMetadata controlY2PropertyMetadata() {
+        if (controlY2PropertyMetadata == null) {
+            controlY2PropertyMetadata =
+                    new DoublePropertyMetadata(
+                        controlY2Name,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Position", 19));
+        }
+        return controlY2PropertyMetadata;
+    }
+    private ValuePropertyMetadata createSymbolsPropertyMetadata;
+    private ValuePropertyMetadata createSymbolsPropertyMetadata() {
+        if (createSymbolsPropertyMetadata == null) {
+            createSymbolsPropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        createSymbolsName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 81));
+        }
+        return createSymbolsPropertyMetadata;
+    }
+    private ValuePropertyMetadata cullFacePropertyMetadata;
+    private ValuePropertyMetadata cullFacePropertyMetadata() {
+        if (cullFacePropertyMetadata == null) {
+            cullFacePropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        cullFaceName,
+                        javafx.scene.shape.CullFace.class,
+                        true, /* readWrite */
+                        javafx.scene.shape.CullFace.BACK, /* defaultValue */
+                        new InspectorPath("Properties", "3D", 8));
+        }
+        return cullFacePropertyMetadata;
+    }
+    private ValuePropertyMetadata currentPageIndexPropertyMetadata;
+    private ValuePropertyMetadata currentPageIndexPropertyMetadata() {
+        if (currentPageIndexPropertyMetadata == null) {
+            currentPageIndexPropertyMetadata =
+                    new IntegerPropertyMetadata(
+                        currentPageIndexName,
+                        true, /* readWrite */
+                        0, /* defaultValue */
+                        new InspectorPath("Properties", "Pagination", 0));
+        }
+        return currentPageIndexPropertyMetadata;
+    }
+    private ValuePropertyMetadata cursor_HAND_PropertyMetadata;
+    private ValuePropertyMetadata cursor_HAND_PropertyMetadata() {
+        if (cursor_HAND_PropertyMetadata == null) {
+            cursor_HAND_PropertyMetadata =
+                    new CursorPropertyMetadata(
+                        cursorName,
+                        true, /* readWrite */
+                        javafx.scene.Cursor.HAND, /* defaultValue */
+                        new InspectorPath("Properties", "Node", 13));
+        }
+        return cursor_HAND_PropertyMetadata;
+    }
+    private ValuePropertyMetadata cursor_NULL_PropertyMetadata;
+    private ValuePropertyMetadata cursor_NULL_PropertyMetadata() {
+        if (cursor_NULL_PropertyMetadata == null) {
+            cursor_NULL_PropertyMetadata =
+                    new CursorPropertyMetadata(
+                        cursorName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Properties", "Node", 13));
+        }
+        return cursor_NULL_PropertyMetadata;
+    }
+    private ValuePropertyMetadata defaultButtonPropertyMetadata;
+    private ValuePropertyMetadata defaultButtonPropertyMetadata() {
+        if (defaultButtonPropertyMetadata == null) {
+            defaultButtonPropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        defaultButtonName,
+                        true, /* readWrite */
+                        false, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 13));
+        }
+        return defaultButtonPropertyMetadata;
+    }
+    private ValuePropertyMetadata depthPropertyMetadata;
+    private ValuePropertyMetadata depthPropertyMetadata() {
+        if (depthPropertyMetadata == null) {
+            depthPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        depthName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        2.0, /* defaultValue */
+                        new InspectorPath("Layout", "Size", 16));
+        }
+        return depthPropertyMetadata;
+    }
+    private ValuePropertyMetadata depthTestPropertyMetadata;
+    private ValuePropertyMetadata depthTestPropertyMetadata() {
+        if (depthTestPropertyMetadata == null) {
+            depthTestPropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        depthTestName,
+                        javafx.scene.DepthTest.class,
+                        true, /* readWrite */
+                        javafx.scene.DepthTest.INHERIT, /* defaultValue */
+                        new InspectorPath("Properties", "Extras", 4));
+        }
+        return depthTestPropertyMetadata;
+    }
+    private ValuePropertyMetadata disablePropertyMetadata;
+    private ValuePropertyMetadata disablePropertyMetadata() {
+        if (disablePropertyMetadata == null) {
+            disablePropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        disableName,
+                        true, /* readWrite */
+                        false, /* defaultValue */
+                        new InspectorPath("Properties", "Node", 1));
+        }
+        return disablePropertyMetadata;
+    }
+    private ValuePropertyMetadata dividerPositionsPropertyMetadata;
+    private ValuePropertyMetadata dividerPositionsPropertyMetadata() {
+        if (dividerPositionsPropertyMetadata == null) {
+            dividerPositionsPropertyMetadata =
+                    new DoubleArrayPropertyMetadata(
+                        dividerPositionsName,
+                        true, /* readWrite */
+                        Collections.emptyList(), /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 15));
+        }
+        return dividerPositionsPropertyMetadata;
+    }
+    private ValuePropertyMetadata divisionsPropertyMetadata;
+    private ValuePropertyMetadata divisionsPropertyMetadata() {
+        if (divisionsPropertyMetadata == null) {
+            divisionsPropertyMetadata =
+                    new IntegerPropertyMetadata(
+                        divisionsName,
+                        false, /* readWrite */
+                        null, /* No defaultValue for R/O property */
+                        new InspectorPath("Properties", "3D", 10));
+        }
+        return divisionsPropertyMetadata;
+    }
+    private ValuePropertyMetadata drawModePropertyMetadata;
+    private ValuePropertyMetadata drawModePropertyMetadata() {
+        if (drawModePropertyMetadata == null) {
+            drawModePropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        drawModeName,
+                        javafx.scene.shape.DrawMode.class,
+                        true, /* readWrite */
+                        javafx.scene.shape.DrawMode.FILL, /* defaultValue */
+                        new InspectorPath("Properties", "3D", 9));
+        }
+        return drawModePropertyMetadata;
+    }
+    private ValuePropertyMetadata editable_false_PropertyMetadata;
+    private ValuePropertyMetadata editable_false_PropertyMetadata() {
+        if (editable_false_PropertyMetadata == null) {
+            editable_false_PropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        editableName,
+                        true, /* readWrite */
+                        false, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 16));
+        }
+        return editable_false_PropertyMetadata;
+    }
+    private ValuePropertyMetadata editable_true_PropertyMetadata;
+    private ValuePropertyMetadata editable_true_PropertyMetadata() {
+        if (editable_true_PropertyMetadata == null) {
+            editable_true_PropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        editableName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 16));
+        }
+        return editable_true_PropertyMetadata;
+    }
+    private ValuePropertyMetadata effectPropertyMetadata;
+    private ValuePropertyMetadata effectPropertyMetadata() {
+        if (effectPropertyMetadata == null) {
+            effectPropertyMetadata =
+                    new EffectPropertyMetadata(
+                        effectName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Properties", "Node", 14));
+        }
+        return effectPropertyMetadata;
+    }
+    private ValuePropertyMetadata effectiveNodeOrientationPropertyMetadata;
+    private ValuePropertyMetadata effectiveNodeOrientationPropertyMetadata() {
+        if (effectiveNodeOrientationPropertyMetadata == null) {
+            effectiveNodeOrientationPropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        effectiveNodeOrientationName,
+                        javafx.geometry.NodeOrientation.class,
+                        false, /* readWrite */
+                        null, /* No defaultValue for R/O property */
+                        new InspectorPath("Layout", "Extras", 7));
+        }
+        return effectiveNodeOrientationPropertyMetadata;
+    }
+    private ComponentPropertyMetadata elementsPropertyMetadata;
+    private ComponentPropertyMetadata elementsPropertyMetadata() {
+        if (elementsPropertyMetadata == null) {
+            elementsPropertyMetadata =
+                    new ComponentPropertyMetadata(
+                        elementsName,
+                        PathElementMetadata,
+                        true); /* collection */
+        }
+        return elementsPropertyMetadata;
+    }
+    private ValuePropertyMetadata ellipsisStringPropertyMetadata;
+    private ValuePropertyMetadata ellipsisStringPropertyMetadata() {
+        if (ellipsisStringPropertyMetadata == null) {
+            ellipsisStringPropertyMetadata =
+                    new StringPropertyMetadata(
+                        ellipsisStringName,
+                        true, /* readWrite */
+                        "...", /* defaultValue */
+                        new InspectorPath("Properties", "Text", 12));
+        }
+        return ellipsisStringPropertyMetadata;
+    }
+    private ValuePropertyMetadata endMarginPropertyMetadata;
+    private ValuePropertyMetadata endMarginPropertyMetadata() {
+        if (endMarginPropertyMetadata == null) {
+            endMarginPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        endMarginName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        5.0, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 95));
+        }
+        return endMarginPropertyMetadata;
+    }
+    private ValuePropertyMetadata endXPropertyMetadata;
+    private ValuePropertyMetadata endXPropertyMetadata() {
+        if (endXPropertyMetadata == null) {
+            endXPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        endXName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Position", 7));
+        }
+        return endXPropertyMetadata;
+    }
+    private ValuePropertyMetadata endYPropertyMetadata;
+    private ValuePropertyMetadata endYPropertyMetadata() {
+        if (endYPropertyMetadata == null) {
+            endYPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        endYName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Position", 8));
+        }
+        return endYPropertyMetadata;
+    }
+    private ComponentPropertyMetadata expandableContentPropertyMetadata;
+    private ComponentPropertyMetadata expandableContentPropertyMetadata() {
+        if (expandableContentPropertyMetadata == null) {
+            expandableContentPropertyMetadata =
+                    new ComponentPropertyMetadata(
+                        expandableContentName,
+                        NodeMetadata,
+                        false); /* collection */
+        }
+        return expandableContentPropertyMetadata;
+    }
+    private ValuePropertyMetadata expanded_false_PropertyMetadata;
+    private ValuePropertyMetadata expanded_false_PropertyMetadata() {
+        if (expanded_false_PropertyMetadata == null) {
+            expanded_false_PropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        expandedName,
+                        true, /* readWrite */
+                        false, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 17));
+        }
+        return expanded_false_PropertyMetadata;
+    }
+    private ValuePropertyMetadata expanded_true_PropertyMetadata;
+    private ValuePropertyMetadata expanded_true_PropertyMetadata() {
+        if (expanded_true_PropertyMetadata == null) {
+            expanded_true_PropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        expandedName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 17));
+        }
+        return expanded_true_PropertyMetadata;
+    }
+    private ComponentPropertyMetadata expandedContentPropertyMetadata;
+    private ComponentPropertyMetadata expandedContentPropertyMetadata() {
+        if (expandedContentPropertyMetadata == null) {
+            expandedContentPropertyMetadata =
+                    new ComponentPropertyMetadata(
+                        expandedContentName,
+                        NodeMetadata,
+                        false /* collection */
+                    );
+        }
+        return expandedContentPropertyMetadata;
+    }
+    private ValuePropertyMetadata expandedItemCountPropertyMetadata;
+    private ValuePropertyMetadata expandedItemCountPropertyMetadata() {
+        if (expandedItemCountPropertyMetadata == null) {
+            expandedItemCountPropertyMetadata =
+                    new IntegerPropertyMetadata(
+                        expandedItemCountName,
+                        false, /* readWrite */
+                        null, /* No defaultValue for R/O property */
+                        new InspectorPath("Properties", "Specific", 19));
+        }
+        return expandedItemCountPropertyMetadata;
+    }
+    private BooleanPropertyMetadata expandedPropertyMetadata;
+    private BooleanPropertyMetadata expandedPropertyMetadata() {
+        if (expandedPropertyMetadata == null) {
+            expandedPropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        expandedName,
+                        true, /* readWrite */
+                        false, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 0)
+                    );
+        }
+        return expandedPropertyMetadata;
+    }
+    private ValuePropertyMetadata farClipPropertyMetadata;
+    private ValuePropertyMetadata farClipPropertyMetadata() {
+        if (farClipPropertyMetadata == null) {
+            farClipPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        farClipName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        100.0, /* defaultValue */
+                        new InspectorPath("Properties", "3D", 3));
+        }
+        return farClipPropertyMetadata;
+    }
+    private ValuePropertyMetadata fieldOfViewPropertyMetadata;
+    private ValuePropertyMetadata fieldOfViewPropertyMetadata() {
+        if (fieldOfViewPropertyMetadata == null) {
+            fieldOfViewPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        fieldOfViewName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.ANGLE,
+                        true, /* readWrite */
+                        30.0, /* defaultValue */
+                        new InspectorPath("Properties", "3D", 4));
+        }
+        return fieldOfViewPropertyMetadata;
+    }
+    private ValuePropertyMetadata fill_NULL_PropertyMetadata;
+    private ValuePropertyMetadata fill_NULL_PropertyMetadata() {
+        if (fill_NULL_PropertyMetadata == null) {
+            fill_NULL_PropertyMetadata =
+                    new PaintPropertyMetadata(
+                        fillName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 20));
+        }
+        return fill_NULL_PropertyMetadata;
+    }
+    private ValuePropertyMetadata fill_BLACK_PropertyMetadata;
+    private ValuePropertyMetadata fill_BLACK_PropertyMetadata() {
+        if (fill_BLACK_PropertyMetadata == null) {
+            fill_BLACK_PropertyMetadata =
+                    new PaintPropertyMetadata(
+                        fillName,
+                        true, /* readWrite */
+                        javafx.scene.paint.Color.BLACK, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 20));
+        }
+        return fill_BLACK_PropertyMetadata;
+    }
+    private ValuePropertyMetadata fill_WHITE_PropertyMetadata;
+    private ValuePropertyMetadata fill_WHITE_PropertyMetadata() {
+        if (fill_WHITE_PropertyMetadata == null) {
+            fill_WHITE_PropertyMetadata =
+                    new PaintPropertyMetadata(
+                        fillName,
+                        true, /* readWrite */
+                        javafx.scene.paint.Color.WHITE, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 20));
+        }
+        return fill_WHITE_PropertyMetadata;
+    }
+    private ValuePropertyMetadata fillHeightPropertyMetadata;
+    private ValuePropertyMetadata fillHeightPropertyMetadata() {
+        if (fillHeightPropertyMetadata == null) {
+            fillHeightPropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        fillHeightName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Layout", "Specific", 0));
+        }
+        return fillHeightPropertyMetadata;
+    }
+    private ValuePropertyMetadata fillRulePropertyMetadata;
+    private ValuePropertyMetadata fillRulePropertyMetadata() {
+        if (fillRulePropertyMetadata == null) {
+            fillRulePropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        fillRuleName,
+                        javafx.scene.shape.FillRule.class,
+                        true, /* readWrite */
+                        javafx.scene.shape.FillRule.NON_ZERO, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 21));
+        }
+        return fillRulePropertyMetadata;
+    }
+    private ValuePropertyMetadata fillWidthPropertyMetadata;
+    private ValuePropertyMetadata fillWidthPropertyMetadata() {
+        if (fillWidthPropertyMetadata == null) {
+            fillWidthPropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        fillWidthName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Layout", "Specific", 1));
+        }
+        return fillWidthPropertyMetadata;
+    }
+    private ValuePropertyMetadata fitHeightPropertyMetadata;
+    private ValuePropertyMetadata fitHeightPropertyMetadata() {
+        if (fitHeightPropertyMetadata == null) {
+            fitHeightPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        fitHeightName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Size", 15));
+        }
+        return fitHeightPropertyMetadata;
+    }
+    private ValuePropertyMetadata fitToHeightPropertyMetadata;
+    private ValuePropertyMetadata fitToHeightPropertyMetadata() {
+        if (fitToHeightPropertyMetadata == null) {
+            fitToHeightPropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        fitToHeightName,
+                        true, /* readWrite */
+                        false, /* defaultValue */
+                        new InspectorPath("Layout", "Specific", 11));
+        }
+        return fitToHeightPropertyMetadata;
+    }
+    private ValuePropertyMetadata fitToWidthPropertyMetadata;
+    private ValuePropertyMetadata fitToWidthPropertyMetadata() {
+        if (fitToWidthPropertyMetadata == null) {
+            fitToWidthPropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        fitToWidthName,
+                        true, /* readWrite */
+                        false, /* defaultValue */
+                        new InspectorPath("Layout", "Specific", 10));
+        }
+        return fitToWidthPropertyMetadata;
+    }
+    private ValuePropertyMetadata fitWidthPropertyMetadata;
+    private ValuePropertyMetadata fitWidthPropertyMetadata() {
+        if (fitWidthPropertyMetadata == null) {
+            fitWidthPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        fitWidthName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Size", 14));
+        }
+        return fitWidthPropertyMetadata;
+    }
+    private ValuePropertyMetadata fixedCellSizePropertyMetadata;
+    private ValuePropertyMetadata fixedCellSizePropertyMetadata() {
+        if (fixedCellSizePropertyMetadata == null) {
+            fixedCellSizePropertyMetadata =
+                    new DoublePropertyMetadata(
+                        fixedCellSizeName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        -1.0, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 128));
+        }
+        return fixedCellSizePropertyMetadata;
+    }
+    private ValuePropertyMetadata fixedEyeAtCameraZeroPropertyMetadata;
+    private ValuePropertyMetadata fixedEyeAtCameraZeroPropertyMetadata() {
+        if (fixedEyeAtCameraZeroPropertyMetadata == null) {
+            fixedEyeAtCameraZeroPropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        fixedEyeAtCameraZeroName,
+                        false, /* readWrite */
+                        null, /* No defaultValue for R/O property */
+                        new InspectorPath("Properties", "3D", 6));
+        }
+        return fixedEyeAtCameraZeroPropertyMetadata;
+    }
+    private ValuePropertyMetadata focusTraversable_true_PropertyMetadata;
+    private ValuePropertyMetadata focusTraversable_true_PropertyMetadata() {
+        if (focusTraversable_true_PropertyMetadata == null) {
+            focusTraversable_true_PropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        focusTraversableName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Properties", "Node", 6));
+        }
+        return focusTraversable_true_PropertyMetadata;
+    }
+    private ValuePropertyMetadata focusTraversable_false_PropertyMetadata;
+    private ValuePropertyMetadata focusTraversable_false_PropertyMetadata() {
+        if (focusTraversable_false_PropertyMetadata == null) {
+            focusTraversable_false_PropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        focusTraversableName,
+                        true, /* readWrite */
+                        false, /* defaultValue */
+                        new InspectorPath("Properties", "Node", 6));
+        }
+        return focusTraversable_false_PropertyMetadata;
+    }
+    private ValuePropertyMetadata fontPropertyMetadata;
+    private ValuePropertyMetadata fontPropertyMetadata() {
+        if (fontPropertyMetadata == null) {
+            fontPropertyMetadata =
+                    new FontPropertyMetadata(
+                        fontName,
+                        true, /* readWrite */
+                        javafx.scene.text.Font.getDefault(), /* defaultValue */
+                        new InspectorPath("Properties", "Text", 5));
+        }
+        return fontPropertyMetadata;
+    }
+    private ValuePropertyMetadata fontScalePropertyMetadata;
+    private ValuePropertyMetadata fontScalePropertyMetadata() {
+        if (fontScalePropertyMetadata == null) {
+            fontScalePropertyMetadata =
+                    new DoublePropertyMetadata(
+                        fontScaleName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        1.0, /* defaultValue */
+                        new InspectorPath("Properties", "Text", 0));
+        }
+        return fontScalePropertyMetadata;
+    }
+    private ValuePropertyMetadata fontSmoothingType_GRAY_PropertyMetadata;
+    private ValuePropertyMetadata fontSmoothingType_GRAY_PropertyMetadata() {
+        if (fontSmoothingType_GRAY_PropertyMetadata == null) {
+            fontSmoothingType_GRAY_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        fontSmoothingTypeName,
+                        javafx.scene.text.FontSmoothingType.class,
+                        true, /* readWrite */
+                        javafx.scene.text.FontSmoothingType.GRAY, /* defaultValue */
+                        new InspectorPath("Properties", "Text", 6));
+        }
+        return fontSmoothingType_GRAY_PropertyMetadata;
+    }
+    private ValuePropertyMetadata fontSmoothingType_LCD_PropertyMetadata;
+    private ValuePropertyMetadata fontSmoothingType_LCD_PropertyMetadata() {
+        if (fontSmoothingType_LCD_PropertyMetadata == null) {
+            fontSmoothingType_LCD_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        fontSmoothingTypeName,
+                        javafx.scene.text.FontSmoothingType.class,
+                        true, /* readWrite */
+                        javafx.scene.text.FontSmoothingType.LCD, /* defaultValue */
+                        new InspectorPath("Properties", "Text", 6));
+        }
+        return fontSmoothingType_LCD_PropertyMetadata;
+    }
+    private ValuePropertyMetadata forceZeroInRangePropertyMetadata;
+    private ValuePropertyMetadata forceZeroInRangePropertyMetadata() {
+        if (forceZeroInRangePropertyMetadata == null) {
+            forceZeroInRangePropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        forceZeroInRangeName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 122));
+        }
+        return forceZeroInRangePropertyMetadata;
+    }
+    private ValuePropertyMetadata fullScreenPropertyMetadata;
+    private ValuePropertyMetadata fullScreenPropertyMetadata() {
+        if (fullScreenPropertyMetadata == null) {
+            fullScreenPropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        fullScreenName,
+                        true, /* readWrite */
+                        false, /* defaultValue */
+                        new InspectorPath("Layout", "Extras", 10));
+        }
+        return fullScreenPropertyMetadata;
+    }
+    private ValuePropertyMetadata fullScreenExitHintPropertyMetadata;
+    private ValuePropertyMetadata fullScreenExitHintPropertyMetadata() {
+        if (fullScreenExitHintPropertyMetadata == null) {
+            fullScreenExitHintPropertyMetadata =
+                    new StringPropertyMetadata(
+                        fullScreenExitHintName,
+                        true, /* readWrite */
+                        "", /* defaultValue */
+                        new InspectorPath("Layout", "Extras", 11));
+        }
+        return fullScreenExitHintPropertyMetadata;
+    }
+    private ValuePropertyMetadata gapStartAndEndPropertyMetadata;
+    private ValuePropertyMetadata gapStartAndEndPropertyMetadata() {
+        if (gapStartAndEndPropertyMetadata == null) {
+            gapStartAndEndPropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        gapStartAndEndName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 99));
+        }
+        return gapStartAndEndPropertyMetadata;
+    }
+    private ComponentPropertyMetadata graphicPropertyMetadata;
+    private ComponentPropertyMetadata graphicPropertyMetadata() {
+        if (graphicPropertyMetadata == null) {
+            graphicPropertyMetadata =
+                    new ComponentPropertyMetadata(
+                        graphicName,
+                        NodeMetadata,
+                        false); /* collection */
+        }
+        return graphicPropertyMetadata;
+    }
+    private ValuePropertyMetadata graphicTextGapPropertyMetadata;
+    private ValuePropertyMetadata graphicTextGapPropertyMetadata() {
+        if (graphicTextGapPropertyMetadata == null) {
+            graphicTextGapPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        graphicTextGapName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        4.0, /* defaultValue */
+                        new InspectorPath("Properties", "Graphic", 0));
+        }
+        return graphicTextGapPropertyMetadata;
+    }
+    private ValuePropertyMetadata gridLinesVisiblePropertyMetadata;
+    private ValuePropertyMetadata gridLinesVisiblePropertyMetadata() {
+        if (gridLinesVisiblePropertyMetadata == null) {
+            gridLinesVisiblePropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        gridLinesVisibleName,
+                        true, /* readWrite */
+                        false, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 22));
+        }
+        return gridLinesVisiblePropertyMetadata;
+    }
+    private ValuePropertyMetadata halignment_NULL_PropertyMetadata;
+    private ValuePropertyMetadata halignment_NULL_PropertyMetadata() {
+        if (halignment_NULL_PropertyMetadata == null) {
+            halignment_NULL_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        halignmentName,
+                        javafx.geometry.HPos.class,
+                        "INHERIT", /* null equivalent */
+                        true, /* readWrite */
+                        new InspectorPath("Layout", "Specific", 4));
+        }
+        return halignment_NULL_PropertyMetadata;
+    }
+    private ValuePropertyMetadata halignment_CENTER_PropertyMetadata;
+    private ValuePropertyMetadata halignment_CENTER_PropertyMetadata() {
+        if (halignment_CENTER_PropertyMetadata == null) {
+            halignment_CENTER_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        halignmentName,
+                        javafx.geometry.HPos.class,
+                        true, /* readWrite */
+                        javafx.geometry.HPos.CENTER, /* defaultValue */
+                        new InspectorPath("Layout", "Specific", 4));
+        }
+        return halignment_CENTER_PropertyMetadata;
+    }
+    private ValuePropertyMetadata hbarPolicyPropertyMetadata;
+    private ValuePropertyMetadata hbarPolicyPropertyMetadata() {
+        if (hbarPolicyPropertyMetadata == null) {
+            hbarPolicyPropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        hbarPolicyName,
+                        javafx.scene.control.ScrollPane.ScrollBarPolicy.class,
+                        true, /* readWrite */
+                        javafx.scene.control.ScrollPane.ScrollBarPolicy.AS_NEEDED, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 48));
+        }
+        return hbarPolicyPropertyMetadata;
+    }
+    private ComponentPropertyMetadata headerPropertyMetadata;
+    private ComponentPropertyMetadata headerPropertyMetadata() {
+        if (headerPropertyMetadata == null) {
+            headerPropertyMetadata =
+                    new ComponentPropertyMetadata(
+                        headerName,
+                        NodeMetadata,
+                        false); /* collection */
+        }
+        return headerPropertyMetadata;
+    }
+    private ValuePropertyMetadata headerTextPropertyMetadata;
+    private ValuePropertyMetadata headerTextPropertyMetadata() {
+        if (headerTextPropertyMetadata == null) {
+            headerTextPropertyMetadata =
+                    new StringPropertyMetadata(
+                        headerTextName,
+                        true, /* readWrite */
+                        "", /* defaultValue */
+                        new InspectorPath("Properties", "Text", 1));
+        }
+        return headerTextPropertyMetadata;
+    }
+    private ValuePropertyMetadata height_Double_200_PropertyMetadata;
+    private ValuePropertyMetadata height_Double_200_PropertyMetadata() {
+        if (height_Double_200_PropertyMetadata == null) {
+            height_Double_200_PropertyMetadata =
+                    new DoublePropertyMetadata(
+                        heightName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        2.0, /* defaultValue */
+                        new InspectorPath("Layout", "Size", 8));
+        }
+        return height_Double_200_PropertyMetadata;
+    }
+    private ValuePropertyMetadata height_Double_0_PropertyMetadata;
+    private ValuePropertyMetadata height_Double_0_PropertyMetadata() {
+        if (height_Double_0_PropertyMetadata == null) {
+            height_Double_0_PropertyMetadata =
+                    new DoublePropertyMetadata(
+                        heightName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Size", 8));
+        }
+        return height_Double_0_PropertyMetadata;
+    }
+    private ValuePropertyMetadata height_Double_COMPUTED_PropertyMetadata;
+    private ValuePropertyMetadata height_Double_COMPUTED_PropertyMetadata() {
+        if (height_Double_COMPUTED_PropertyMetadata == null) {
+            height_Double_COMPUTED_PropertyMetadata =
+                    new DoublePropertyMetadata(
+                        heightName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.USE_COMPUTED_SIZE,
+                        true, /* readWrite */
+                        -1.0, /* defaultValue */
+                        new InspectorPath("Layout", "Size", 8));
+        }
+        return height_Double_COMPUTED_PropertyMetadata;
+    }
+    private ValuePropertyMetadata height_Double_ro_PropertyMetadata;
+    private ValuePropertyMetadata height_Double_ro_PropertyMetadata() {
+        if (height_Double_ro_PropertyMetadata == null) {
+            height_Double_ro_PropertyMetadata =
+                    new DoublePropertyMetadata(
+                        heightName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        false, /* readWrite */
+                        null, /* No defaultValue for R/O property */
+                        new InspectorPath("Layout", "Size", 8));
+        }
+        return height_Double_ro_PropertyMetadata;
+    }
+    private ValuePropertyMetadata hgapPropertyMetadata;
+    private ValuePropertyMetadata hgapPropertyMetadata() {
+        if (hgapPropertyMetadata == null) {
+            hgapPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        hgapName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Internal", 0));
+        }
+        return hgapPropertyMetadata;
+    }
+    private ValuePropertyMetadata hgrowPropertyMetadata;
+    private ValuePropertyMetadata hgrowPropertyMetadata() {
+        if (hgrowPropertyMetadata == null) {
+            hgrowPropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        hgrowName,
+                        javafx.scene.layout.Priority.class,
+                        "INHERIT", /* null equivalent */
+                        true, /* readWrite */
+                        new InspectorPath("Layout", "Specific", 2));
+        }
+        return hgrowPropertyMetadata;
+    }
+    private ValuePropertyMetadata hideOnClick_true_PropertyMetadata;
+    private ValuePropertyMetadata hideOnClick_true_PropertyMetadata() {
+        if (hideOnClick_true_PropertyMetadata == null) {
+            hideOnClick_true_PropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        hideOnClickName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 23));
+        }
+        return hideOnClick_true_PropertyMetadata;
+    }
+    private ValuePropertyMetadata hideOnClick_false_PropertyMetadata;
+    private ValuePropertyMetadata hideOnClick_false_PropertyMetadata() {
+        if (hideOnClick_false_PropertyMetadata == null) {
+            hideOnClick_false_PropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        hideOnClickName,
+                        true, /* readWrite */
+                        false, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 23));
+        }
+        return hideOnClick_false_PropertyMetadata;
+    }
+    private ValuePropertyMetadata hideOnEscapePropertyMetadata;
+    private ValuePropertyMetadata hideOnEscapePropertyMetadata() {
+        if (hideOnEscapePropertyMetadata == null) {
+            hideOnEscapePropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        hideOnEscapeName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 65));
+        }
+        return hideOnEscapePropertyMetadata;
+    }
+    private ValuePropertyMetadata hmaxPropertyMetadata;
+    private ValuePropertyMetadata hmaxPropertyMetadata() {
+        if (hmaxPropertyMetadata == null) {
+            hmaxPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        hmaxName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        1.0, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 108));
+        }
+        return hmaxPropertyMetadata;
+    }
+    private ValuePropertyMetadata hminPropertyMetadata;
+    private ValuePropertyMetadata hminPropertyMetadata() {
+        if (hminPropertyMetadata == null) {
+            hminPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        hminName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 104));
+        }
+        return hminPropertyMetadata;
+    }
+    private ValuePropertyMetadata horizontalGridLinesVisiblePropertyMetadata;
+    private ValuePropertyMetadata horizontalGridLinesVisiblePropertyMetadata() {
+        if (horizontalGridLinesVisiblePropertyMetadata == null) {
+            horizontalGridLinesVisiblePropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        horizontalGridLinesVisibleName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 100));
+        }
+        return horizontalGridLinesVisiblePropertyMetadata;
+    }
+    private ValuePropertyMetadata horizontalZeroLineVisiblePropertyMetadata;
+    private ValuePropertyMetadata horizontalZeroLineVisiblePropertyMetadata() {
+        if (horizontalZeroLineVisiblePropertyMetadata == null) {
+            horizontalZeroLineVisiblePropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        horizontalZeroLineVisibleName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 110));
+        }
+        return horizontalZeroLineVisiblePropertyMetadata;
+    }
+    private ValuePropertyMetadata htmlTextPropertyMetadata;
+    private ValuePropertyMetadata htmlTextPropertyMetadata() {
+        if (htmlTextPropertyMetadata == null) {
+            htmlTextPropertyMetadata =
+                    new StringPropertyMetadata(
+                        htmlTextName,
+                        true, /* readWrite */
+                        "<html><head></head><body contenteditable=\"true\"></body></html>", /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 24));
+        }
+        return htmlTextPropertyMetadata;
+    }
+    private ValuePropertyMetadata hvaluePropertyMetadata;
+    private ValuePropertyMetadata hvaluePropertyMetadata() {
+        if (hvaluePropertyMetadata == null) {
+            hvaluePropertyMetadata =
+                    new DoublePropertyMetadata(
+                        hvalueName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 106));
+        }
+        return hvaluePropertyMetadata;
+    }
+    private ValuePropertyMetadata iconifiedPropertyMetadata;
+    private ValuePropertyMetadata iconifiedPropertyMetadata() {
+        if (iconifiedPropertyMetadata == null) {
+            iconifiedPropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        iconifiedName,
+                        true, /* readWrite */
+                        false, /* defaultValue */
+                        new InspectorPath("Layout", "Extras", 12));
+        }
+        return iconifiedPropertyMetadata;
+    }
+    private ValuePropertyMetadata idPropertyMetadata;
+    private ValuePropertyMetadata idPropertyMetadata() {
+        if (idPropertyMetadata == null) {
+            idPropertyMetadata =
+                    new StringPropertyMetadata(
+                        idName,
+                        true, /* readWrite */
+                        "", /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 3));
+        }
+        return idPropertyMetadata;
+    }
+    private ValuePropertyMetadata imagePropertyMetadata;
+    private ValuePropertyMetadata imagePropertyMetadata() {
+        if (imagePropertyMetadata == null) {
+            imagePropertyMetadata =
+                    new ImagePropertyMetadata(
+                        imageName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 25));
+        }
+        return imagePropertyMetadata;
+    }
+    private ValuePropertyMetadata indeterminate_Boolean_PropertyMetadata;
+    private ValuePropertyMetadata indeterminate_Boolean_PropertyMetadata() {
+        if (indeterminate_Boolean_PropertyMetadata == null) {
+            indeterminate_Boolean_PropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        indeterminateName,
+                        true, /* readWrite */
+                        false, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 49));
+        }
+        return indeterminate_Boolean_PropertyMetadata;
+    }
+    private ValuePropertyMetadata indeterminate_Boolean_ro_PropertyMetadata;
+    private ValuePropertyMetadata indeterminate_Boolean_ro_PropertyMetadata() {
+        if (indeterminate_Boolean_ro_PropertyMetadata == null) {
+            indeterminate_Boolean_ro_PropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        indeterminateName,
+                        false, /* readWrite */
+                        null, /* No defaultValue for R/O property */
+                        new InspectorPath("Properties", "Specific", 49));
+        }
+        return indeterminate_Boolean_ro_PropertyMetadata;
+    }
+    private ValuePropertyMetadata insetsPropertyMetadata;
+    private ValuePropertyMetadata insetsPropertyMetadata() {
+        if (insetsPropertyMetadata == null) {
+            insetsPropertyMetadata =
+                    new InsetsPropertyMetadata(
+                        insetsName,
+                        false, /* readWrite */
+                        null, /* No defaultValue for R/O property */
+                        new InspectorPath("Properties", "Extras", 5));
+        }
+        return insetsPropertyMetadata;
+    }
+    private ComponentPropertyMetadata items_MenuItem_PropertyMetadata;
+    private ComponentPropertyMetadata items_MenuItem_PropertyMetadata() {
+        if (items_MenuItem_PropertyMetadata == null) {
+            items_MenuItem_PropertyMetadata =
+                    new ComponentPropertyMetadata(
+                        itemsName,
+                        MenuItemMetadata,
+                        true); /* collection */
+        }
+        return items_MenuItem_PropertyMetadata;
+    }
+    private ComponentPropertyMetadata items_Node_PropertyMetadata;
+    private ComponentPropertyMetadata items_Node_PropertyMetadata() {
+        if (items_Node_PropertyMetadata == null) {
+            items_Node_PropertyMetadata =
+                    new ComponentPropertyMetadata(
+                        itemsName,
+                        NodeMetadata,
+                        true); /* collection */
+        }
+        return items_Node_PropertyMetadata;
+    }
+    private ValuePropertyMetadata labelPropertyMetadata;
+    private ValuePropertyMetadata labelPropertyMetadata() {
+        if (labelPropertyMetadata == null) {
+            labelPropertyMetadata =
+                    new StringPropertyMetadata(
+                        labelName,
+                        true, /* readWrite */
+                        "", /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 26));
+        }
+        return labelPropertyMetadata;
+    }
+    private ComponentPropertyMetadata labelForPropertyMetadata;
+    private ComponentPropertyMetadata labelForPropertyMetadata() {
+        if (labelForPropertyMetadata == null) {
+            labelForPropertyMetadata =
+                    new ComponentPropertyMetadata(
+                        labelForName,
+                        NodeMetadata,
+                        false); /* collection */
+        }
+        return labelForPropertyMetadata;
+    }
+    private ValuePropertyMetadata labelFormatterPropertyMetadata;
+    private ValuePropertyMetadata labelFormatterPropertyMetadata() {
+        if (labelFormatterPropertyMetadata == null) {
+            labelFormatterPropertyMetadata =
+                    new StringConverterPropertyMetadata(
+                        labelFormatterName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 113));
+        }
+        return labelFormatterPropertyMetadata;
+    }
+    private ValuePropertyMetadata labelLineLengthPropertyMetadata;
+    private ValuePropertyMetadata labelLineLengthPropertyMetadata() {
+        if (labelLineLengthPropertyMetadata == null) {
+            labelLineLengthPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        labelLineLengthName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        20.0, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 111));
+        }
+        return labelLineLengthPropertyMetadata;
+    }
+    private ValuePropertyMetadata labelPaddingPropertyMetadata;
+    private ValuePropertyMetadata labelPaddingPropertyMetadata() {
+        if (labelPaddingPropertyMetadata == null) {
+            labelPaddingPropertyMetadata =
+                    new InsetsPropertyMetadata(
+                        labelPaddingName,
+                        false, /* readWrite */
+                        null, /* No defaultValue for R/O property */
+                        new InspectorPath("Properties", "Extras", 6));
+        }
+        return labelPaddingPropertyMetadata;
+    }
+    private ValuePropertyMetadata labelsVisiblePropertyMetadata;
+    private ValuePropertyMetadata labelsVisiblePropertyMetadata() {
+        if (labelsVisiblePropertyMetadata == null) {
+            labelsVisiblePropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        labelsVisibleName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 101));
+        }
+        return labelsVisiblePropertyMetadata;
+    }
+    private ValuePropertyMetadata largeArcFlagPropertyMetadata;
+    private ValuePropertyMetadata largeArcFlagPropertyMetadata() {
+        if (largeArcFlagPropertyMetadata == null) {
+            largeArcFlagPropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        largeArcFlagName,
+                        true, /* readWrite */
+                        false, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 126));
+        }
+        return largeArcFlagPropertyMetadata;
+    }
+    private ValuePropertyMetadata layoutBoundsPropertyMetadata;
+    private ValuePropertyMetadata layoutBoundsPropertyMetadata() {
+        if (layoutBoundsPropertyMetadata == null) {
+            layoutBoundsPropertyMetadata =
+                    new BoundsPropertyMetadata(
+                        layoutBoundsName,
+                        false, /* readWrite */
+                        null, /* No defaultValue for R/O property */
+                        new InspectorPath("Layout", "Bounds", 0));
+        }
+        return layoutBoundsPropertyMetadata;
+    }
+    private ValuePropertyMetadata layoutXPropertyMetadata;
+    private ValuePropertyMetadata layoutXPropertyMetadata() {
+        if (layoutXPropertyMetadata == null) {
+            layoutXPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        layoutXName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Position", 2));
+        }
+        return layoutXPropertyMetadata;
+    }
+    private ValuePropertyMetadata layoutYPropertyMetadata;
+    private ValuePropertyMetadata layoutYPropertyMetadata() {
+        if (layoutYPropertyMetadata == null) {
+            layoutYPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        layoutYName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Position", 3));
+        }
+        return layoutYPropertyMetadata;
+    }
+    private ComponentPropertyMetadata leftPropertyMetadata;
+    private ComponentPropertyMetadata leftPropertyMetadata() {
+        if (leftPropertyMetadata == null) {
+            leftPropertyMetadata =
+                    new ComponentPropertyMetadata(
+                        leftName,
+                        NodeMetadata,
+                        false); /* collection */
+        }
+        return leftPropertyMetadata;
+    }
+    private ValuePropertyMetadata legendSidePropertyMetadata;
+    private ValuePropertyMetadata legendSidePropertyMetadata() {
+        if (legendSidePropertyMetadata == null) {
+            legendSidePropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        legendSideName,
+                        javafx.geometry.Side.class,
+                        true, /* readWrite */
+                        javafx.geometry.Side.BOTTOM, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 74));
+        }
+        return legendSidePropertyMetadata;
+    }
+    private ValuePropertyMetadata legendVisiblePropertyMetadata;
+    private ValuePropertyMetadata legendVisiblePropertyMetadata() {
+        if (legendVisiblePropertyMetadata == null) {
+            legendVisiblePropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        legendVisibleName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 66));
+        }
+        return legendVisiblePropertyMetadata;
+    }
+    private ValuePropertyMetadata length_Double_PropertyMetadata;
+    private ValuePropertyMetadata length_Double_PropertyMetadata() {
+        if (length_Double_PropertyMetadata == null) {
+            length_Double_PropertyMetadata =
+                    new DoublePropertyMetadata(
+                        lengthName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Size", 18));
+        }
+        return length_Double_PropertyMetadata;
+    }
+    private ValuePropertyMetadata length_Integer_ro_PropertyMetadata;
+    private ValuePropertyMetadata length_Integer_ro_PropertyMetadata() {
+        if (length_Integer_ro_PropertyMetadata == null) {
+            length_Integer_ro_PropertyMetadata =
+                    new IntegerPropertyMetadata(
+                        lengthName,
+                        false, /* readWrite */
+                        null, /* No defaultValue for R/O property */
+                        new InspectorPath("Layout", "Size", 18));
+        }
+        return length_Integer_ro_PropertyMetadata;
+    }
+    private ValuePropertyMetadata lightOnPropertyMetadata;
+    private ValuePropertyMetadata lightOnPropertyMetadata() {
+        if (lightOnPropertyMetadata == null) {
+            lightOnPropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        lightOnName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Properties", "3D", 7));
+        }
+        return lightOnPropertyMetadata;
+    }
+    private ValuePropertyMetadata lineSpacingPropertyMetadata;
+    private ValuePropertyMetadata lineSpacingPropertyMetadata() {
+        if (lineSpacingPropertyMetadata == null) {
+            lineSpacingPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        lineSpacingName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Properties", "Text", 15));
+        }
+        return lineSpacingPropertyMetadata;
+    }
+    private ValuePropertyMetadata lowerBoundPropertyMetadata;
+    private ValuePropertyMetadata lowerBoundPropertyMetadata() {
+        if (lowerBoundPropertyMetadata == null) {
+            lowerBoundPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        lowerBoundName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 90));
+        }
+        return lowerBoundPropertyMetadata;
+    }
+    private ValuePropertyMetadata majorTickUnitPropertyMetadata;
+    private ValuePropertyMetadata majorTickUnitPropertyMetadata() {
+        if (majorTickUnitPropertyMetadata == null) {
+            majorTickUnitPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        majorTickUnitName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        25.0, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 91));
+        }
+        return majorTickUnitPropertyMetadata;
+    }
+    private ValuePropertyMetadata materialPropertyMetadata;
+    private ValuePropertyMetadata materialPropertyMetadata() {
+        if (materialPropertyMetadata == null) {
+            materialPropertyMetadata =
+                    new MaterialPropertyMetadata(
+                        materialName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Properties", "3D", 0));
+        }
+        return materialPropertyMetadata;
+    }
+    private ValuePropertyMetadata maxPropertyMetadata;
+    private ValuePropertyMetadata maxPropertyMetadata() {
+        if (maxPropertyMetadata == null) {
+            maxPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        maxName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        100.0, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 50));
+        }
+        return maxPropertyMetadata;
+    }
+    private ValuePropertyMetadata maxHeight_COMPUTED_PropertyMetadata;
+    private ValuePropertyMetadata maxHeight_COMPUTED_PropertyMetadata() {
+        if (maxHeight_COMPUTED_PropertyMetadata == null) {
+            maxHeight_COMPUTED_PropertyMetadata =
+                    new DoublePropertyMetadata(
+                        maxHeightName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.USE_PREF_SIZE,
+                        true, /* readWrite */
+                        -1.0, /* defaultValue */
+                        new InspectorPath("Layout", "Size", 6));
+        }
+        return maxHeight_COMPUTED_PropertyMetadata;
+    }
+    private ValuePropertyMetadata maxHeight_MAX_PropertyMetadata;
+    private ValuePropertyMetadata maxHeight_MAX_PropertyMetadata() {
+        if (maxHeight_MAX_PropertyMetadata == null) {
+            maxHeight_MAX_PropertyMetadata =
+                    new DoublePropertyMetadata(
+                        maxHeightName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.USE_PREF_SIZE,
+                        true, /* readWrite */
+                        Double.MAX_VALUE, /* defaultValue */
+                        new InspectorPath("Layout", "Size", 6));
+        }
+        return maxHeight_MAX_PropertyMetadata;
+    }
+    private ValuePropertyMetadata maxHeight_SIZE_PropertyMetadata;
+    private ValuePropertyMetadata maxHeight_SIZE_PropertyMetadata() {
+        if (maxHeight_SIZE_PropertyMetadata == null) {
+            maxHeight_SIZE_PropertyMetadata =
+                    new DoublePropertyMetadata(
+                        maxHeightName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        Double.MAX_VALUE, /* defaultValue */
+                        new InspectorPath("Layout", "Size", 6));
+        }
+        return maxHeight_SIZE_PropertyMetadata;
+    }
+    private ValuePropertyMetadata maxPageIndicatorCountPropertyMetadata;
+    private ValuePropertyMetadata maxPageIndicatorCountPropertyMetadata() {
+        if (maxPageIndicatorCountPropertyMetadata == null) {
+            maxPageIndicatorCountPropertyMetadata =
+                    new IntegerPropertyMetadata(
+                        maxPageIndicatorCountName,
+                        true, /* readWrite */
+                        10, /* defaultValue */
+                        new InspectorPath("Properties", "Pagination", 1));
+        }
+        return maxPageIndicatorCountPropertyMetadata;
+    }
+    private ValuePropertyMetadata maxWidth_COMPUTED_PropertyMetadata;
+    private ValuePropertyMetadata maxWidth_COMPUTED_PropertyMetadata() {
+        if (maxWidth_COMPUTED_PropertyMetadata == null) {
+            maxWidth_COMPUTED_PropertyMetadata =
+                    new DoublePropertyMetadata(
+                        maxWidthName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.USE_PREF_SIZE,
+                        true, /* readWrite */
+                        -1.0, /* defaultValue */
+                        new InspectorPath("Layout", "Size", 5));
+        }
+        return maxWidth_COMPUTED_PropertyMetadata;
+    }
+    private ValuePropertyMetadata maxWidth_500000_PropertyMetadata;
+    private ValuePropertyMetadata maxWidth_500000_PropertyMetadata() {
+        if (maxWidth_500000_PropertyMetadata == null) {
+            maxWidth_500000_PropertyMetadata =
+                    new DoublePropertyMetadata(
+                        maxWidthName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.USE_PREF_SIZE,
+                        true, /* readWrite */
+                        5000.0, /* defaultValue */
+                        new InspectorPath("Layout", "Size", 5));
+        }
+        return maxWidth_500000_PropertyMetadata;
+    }
+    private ValuePropertyMetadata maxWidth_MAX_PropertyMetadata;
+    private ValuePropertyMetadata maxWidth_MAX_PropertyMetadata() {
+        if (maxWidth_MAX_PropertyMetadata == null) {
+            maxWidth_MAX_PropertyMetadata =
+                    new DoublePropertyMetadata(
+                        maxWidthName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.USE_PREF_SIZE,
+                        true, /* readWrite */
+                        Double.MAX_VALUE, /* defaultValue */
+                        new InspectorPath("Layout", "Size", 5));
+        }
+        return maxWidth_MAX_PropertyMetadata;
+    }
+    private ValuePropertyMetadata maxWidth_SIZE_PropertyMetadata;
+    private ValuePropertyMetadata maxWidth_SIZE_PropertyMetadata() {
+        if (maxWidth_SIZE_PropertyMetadata == null) {
+            maxWidth_SIZE_PropertyMetadata =
+                    new DoublePropertyMetadata(
+                        maxWidthName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        Double.MAX_VALUE, /* defaultValue */
+                        new InspectorPath("Layout", "Size", 5));
+        }
+        return maxWidth_SIZE_PropertyMetadata;
+    }
+    private ValuePropertyMetadata maximizedPropertyMetdata;
+    private ValuePropertyMetadata maximizedPropertyMetdata() {
+        if (maximizedPropertyMetdata == null) {
+            maximizedPropertyMetdata =
+                    new BooleanPropertyMetadata(
+                        maximizedName,
+                        true, /* readWrite */
+                        false, /* defaultValue */
+                        new InspectorPath("Layout", "Extras", 13));
+        }
+        return maximizedPropertyMetdata;
+    }
+    private ComponentPropertyMetadata menusPropertyMetadata;
+    private ComponentPropertyMetadata menusPropertyMetadata() {
+        if (menusPropertyMetadata == null) {
+            menusPropertyMetadata =
+                    new ComponentPropertyMetadata(
+                        menusName,
+                        MenuMetadata,
+                        true); /* collection */
+        }
+        return menusPropertyMetadata;
+    }
+    private ValuePropertyMetadata meshPropertyMetadata;
+    private ValuePropertyMetadata meshPropertyMetadata() {
+        if (meshPropertyMetadata == null) {
+            meshPropertyMetadata =
+                    new MeshPropertyMetadata(
+                        meshName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Properties", "3D", 1));
+        }
+        return meshPropertyMetadata;
+    }
+    private ValuePropertyMetadata minPropertyMetadata;
+    private ValuePropertyMetadata minPropertyMetadata() {
+        if (minPropertyMetadata == null) {
+            minPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        minName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 29));
+        }
+        return minPropertyMetadata;
+    }
+    private ValuePropertyMetadata minHeight_COMPUTED_PropertyMetadata;
+    private ValuePropertyMetadata minHeight_COMPUTED_PropertyMetadata() {
+        if (minHeight_COMPUTED_PropertyMetadata == null) {
+            minHeight_COMPUTED_PropertyMetadata =
+                    new DoublePropertyMetadata(
+                        minHeightName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.USE_PREF_SIZE,
+                        true, /* readWrite */
+                        -1.0, /* defaultValue */
+                        new InspectorPath("Layout", "Size", 2));
+        }
+        return minHeight_COMPUTED_PropertyMetadata;
+    }
+    private ValuePropertyMetadata minHeight_0_PropertyMetadata;
+    private ValuePropertyMetadata minHeight_0_PropertyMetadata() {
+        if (minHeight_0_PropertyMetadata == null) {
+            minHeight_0_PropertyMetadata =
+                    new DoublePropertyMetadata(
+                        minHeightName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.USE_PREF_SIZE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Size", 2));
+        }
+        return minHeight_0_PropertyMetadata;
+    }
+    private ValuePropertyMetadata minHeight_SIZE_PropertyMetadata;
+    private ValuePropertyMetadata minHeight_SIZE_PropertyMetadata() {
+        if (minHeight_SIZE_PropertyMetadata == null) {
+            minHeight_SIZE_PropertyMetadata =
+                    new DoublePropertyMetadata(
+                        minHeightName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Size", 2));
+        }
+        return minHeight_SIZE_PropertyMetadata;
+    }
+    private ValuePropertyMetadata minorTickCount_3_PropertyMetadata;
+    private ValuePropertyMetadata minorTickCount_3_PropertyMetadata() {
+        if (minorTickCount_3_PropertyMetadata == null) {
+            minorTickCount_3_PropertyMetadata =
+                    new IntegerPropertyMetadata(
+                        minorTickCountName,
+                        true, /* readWrite */
+                        3, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 96));
+        }
+        return minorTickCount_3_PropertyMetadata;
+    }
+    private ValuePropertyMetadata minorTickCount_5_PropertyMetadata;
+    private ValuePropertyMetadata minorTickCount_5_PropertyMetadata() {
+        if (minorTickCount_5_PropertyMetadata == null) {
+            minorTickCount_5_PropertyMetadata =
+                    new IntegerPropertyMetadata(
+                        minorTickCountName,
+                        true, /* readWrite */
+                        5, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 96));
+        }
+        return minorTickCount_5_PropertyMetadata;
+    }
+    private ValuePropertyMetadata minorTickLengthPropertyMetadata;
+    private ValuePropertyMetadata minorTickLengthPropertyMetadata() {
+        if (minorTickLengthPropertyMetadata == null) {
+            minorTickLengthPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        minorTickLengthName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        5.0, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 121));
+        }
+        return minorTickLengthPropertyMetadata;
+    }
+    private ValuePropertyMetadata minorTickVisiblePropertyMetadata;
+    private ValuePropertyMetadata minorTickVisiblePropertyMetadata() {
+        if (minorTickVisiblePropertyMetadata == null) {
+            minorTickVisiblePropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        minorTickVisibleName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 119));
+        }
+        return minorTickVisiblePropertyMetadata;
+    }
+    private ValuePropertyMetadata minViewportHeightPropertyMetadata;
+    private ValuePropertyMetadata minViewportHeightPropertyMetadata() {
+        if (minViewportHeightPropertyMetadata == null) {
+            minViewportHeightPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        minViewportHeightName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Specific", 7));
+        }
+        return minViewportHeightPropertyMetadata;
+    }
+    private ValuePropertyMetadata minViewportWidthPropertyMetadata;
+    private ValuePropertyMetadata minViewportWidthPropertyMetadata() {
+        if (minViewportWidthPropertyMetadata == null) {
+            minViewportWidthPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        minViewportWidthName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Specific", 6));
+        }
+        return minViewportWidthPropertyMetadata;
+    }
+    private ValuePropertyMetadata minWidth_COMPUTED_PropertyMetadata;
+    private ValuePropertyMetadata minWidth_COMPUTED_PropertyMetadata() {
+        if (minWidth_COMPUTED_PropertyMetadata == null) {
+            minWidth_COMPUTED_PropertyMetadata =
+                    new DoublePropertyMetadata(
+                        minWidthName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.USE_PREF_SIZE,
+                        true, /* readWrite */
+                        -1.0, /* defaultValue */
+                        new InspectorPath("Layout", "Size", 1));
+        }
+        return minWidth_COMPUTED_PropertyMetadata;
+    }
+    private ValuePropertyMetadata minWidth_1000_PropertyMetadata;
+    private ValuePropertyMetadata minWidth_1000_PropertyMetadata() {
+        if (minWidth_1000_PropertyMetadata == null) {
+            minWidth_1000_PropertyMetadata =
+                    new DoublePropertyMetadata(
+                        minWidthName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.USE_PREF_SIZE,
+                        true, /* readWrite */
+                        10.0, /* defaultValue */
+                        new InspectorPath("Layout", "Size", 1));
+        }
+        return minWidth_1000_PropertyMetadata;
+    }
+    private ValuePropertyMetadata minWidth_0_PropertyMetadata;
+    private ValuePropertyMetadata minWidth_0_PropertyMetadata() {
+        if (minWidth_0_PropertyMetadata == null) {
+            minWidth_0_PropertyMetadata =
+                    new DoublePropertyMetadata(
+                        minWidthName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.USE_PREF_SIZE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Size", 1));
+        }
+        return minWidth_0_PropertyMetadata;
+    }
+    private ValuePropertyMetadata minWidth_SIZE_PropertyMetadata;
+    private ValuePropertyMetadata minWidth_SIZE_PropertyMetadata() {
+        if (minWidth_SIZE_PropertyMetadata == null) {
+            minWidth_SIZE_PropertyMetadata =
+                    new DoublePropertyMetadata(
+                        minWidthName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Size", 1));
+        }
+        return minWidth_SIZE_PropertyMetadata;
+    }
+    private ValuePropertyMetadata mnemonicParsing_false_PropertyMetadata;
+    private ValuePropertyMetadata mnemonicParsing_false_PropertyMetadata() {
+        if (mnemonicParsing_false_PropertyMetadata == null) {
+            mnemonicParsing_false_PropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        mnemonicParsingName,
+                        true, /* readWrite */
+                        false, /* defaultValue */
+                        new InspectorPath("Properties", "Extras", 1));
+        }
+        return mnemonicParsing_false_PropertyMetadata;
+    }
+    private ValuePropertyMetadata mnemonicParsing_true_PropertyMetadata;
+    private ValuePropertyMetadata mnemonicParsing_true_PropertyMetadata() {
+        if (mnemonicParsing_true_PropertyMetadata == null) {
+            mnemonicParsing_true_PropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        mnemonicParsingName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Properties", "Extras", 1));
+        }
+        return mnemonicParsing_true_PropertyMetadata;
+    }
+    private ValuePropertyMetadata mouseTransparentPropertyMetadata;
+    private ValuePropertyMetadata mouseTransparentPropertyMetadata() {
+        if (mouseTransparentPropertyMetadata == null) {
+            mouseTransparentPropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        mouseTransparentName,
+                        true, /* readWrite */
+                        false, /* defaultValue */
+                        new InspectorPath("Properties", "Extras", 7));
+        }
+        return mouseTransparentPropertyMetadata;
+    }
+    private ValuePropertyMetadata nearClipPropertyMetadata;
+    private ValuePropertyMetadata nearClipPropertyMetadata() {
+        if (nearClipPropertyMetadata == null) {
+            nearClipPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        nearClipName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        0.1, /* defaultValue */
+                        new InspectorPath("Properties", "3D", 2));
+        }
+        return nearClipPropertyMetadata;
+    }
+    private ValuePropertyMetadata nodeOrientation_LEFT_TO_RIGHT_PropertyMetadata;
+    private ValuePropertyMetadata nodeOrientation_LEFT_TO_RIGHT_PropertyMetadata() {
+        if (nodeOrientation_LEFT_TO_RIGHT_PropertyMetadata == null) {
+            nodeOrientation_LEFT_TO_RIGHT_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        nodeOrientationName,
+                        javafx.geometry.NodeOrientation.class,
+                        true, /* readWrite */
+                        javafx.geometry.NodeOrientation.LEFT_TO_RIGHT, /* defaultValue */
+                        new InspectorPath("Properties", "Node", 4));
+        }
+        return nodeOrientation_LEFT_TO_RIGHT_PropertyMetadata;
+    }
+    private ValuePropertyMetadata nodeOrientation_INHERIT_PropertyMetadata;
+    private ValuePropertyMetadata nodeOrientation_INHERIT_PropertyMetadata() {
+        if (nodeOrientation_INHERIT_PropertyMetadata == null) {
+            nodeOrientation_INHERIT_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        nodeOrientationName,
+                        javafx.geometry.NodeOrientation.class,
+                        true, /* readWrite */
+                        javafx.geometry.NodeOrientation.INHERIT, /* defaultValue */
+                        new InspectorPath("Properties", "Node", 4));
+        }
+        return nodeOrientation_INHERIT_PropertyMetadata;
+    }
+    private ValuePropertyMetadata onActionPropertyMetadata;
+    private ValuePropertyMetadata onActionPropertyMetadata() {
+        if (onActionPropertyMetadata == null) {
+            onActionPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onActionName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Main", 0));
+        }
+        return onActionPropertyMetadata;
+    }
+    private ValuePropertyMetadata onAutoHidePropertyMetadata;
+    private ValuePropertyMetadata onAutoHidePropertyMetadata() {
+        if (onAutoHidePropertyMetadata == null) {
+            onAutoHidePropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onAutoHideName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "HideShow", 2));
+        }
+        return onAutoHidePropertyMetadata;
+    }
+    private ValuePropertyMetadata onClosedPropertyMetadata;
+    private ValuePropertyMetadata onClosedPropertyMetadata() {
+        if (onClosedPropertyMetadata == null) {
+            onClosedPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onClosedName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Closing", 1));
+        }
+        return onClosedPropertyMetadata;
+    }
+    private ValuePropertyMetadata onCloseRequestPropertyMetadata;
+    private ValuePropertyMetadata onCloseRequestPropertyMetadata() {
+        if (onCloseRequestPropertyMetadata == null) {
+            onCloseRequestPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onCloseRequestName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Closing", 0));
+        }
+        return onCloseRequestPropertyMetadata;
+    }
+    private ValuePropertyMetadata onContextMenuRequestedPropertyMetadata;
+    private ValuePropertyMetadata onContextMenuRequestedPropertyMetadata() {
+        if (onContextMenuRequestedPropertyMetadata == null) {
+            onContextMenuRequestedPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onContextMenuRequestedName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Mouse", 0));
+        }
+        return onContextMenuRequestedPropertyMetadata;
+    }
+    private ValuePropertyMetadata onDragDetectedPropertyMetadata;
+    private ValuePropertyMetadata onDragDetectedPropertyMetadata() {
+        if (onDragDetectedPropertyMetadata == null) {
+            onDragDetectedPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onDragDetectedName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "DragDrop", 0));
+        }
+        return onDragDetectedPropertyMetadata;
+    }
+    private ValuePropertyMetadata onDragDonePropertyMetadata;
+    private ValuePropertyMetadata onDragDonePropertyMetadata() {
+        if (onDragDonePropertyMetadata == null) {
+            onDragDonePropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onDragDoneName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "DragDrop", 1));
+        }
+        return onDragDonePropertyMetadata;
+    }
+    private ValuePropertyMetadata onDragDroppedPropertyMetadata;
+    private ValuePropertyMetadata onDragDroppedPropertyMetadata() {
+        if (onDragDroppedPropertyMetadata == null) {
+            onDragDroppedPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onDragDroppedName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "DragDrop", 2));
+        }
+        return onDragDroppedPropertyMetadata;
+    }
+    private ValuePropertyMetadata onDragEnteredPropertyMetadata;
+    private ValuePropertyMetadata onDragEnteredPropertyMetadata() {
+        if (onDragEnteredPropertyMetadata == null) {
+            onDragEnteredPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onDragEnteredName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "DragDrop", 3));
+        }
+        return onDragEnteredPropertyMetadata;
+    }
+    private ValuePropertyMetadata onDragExitedPropertyMetadata;
+    private ValuePropertyMetadata onDragExitedPropertyMetadata() {
+        if (onDragExitedPropertyMetadata == null) {
+            onDragExitedPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onDragExitedName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "DragDrop", 4));
+        }
+        return onDragExitedPropertyMetadata;
+    }
+    private ValuePropertyMetadata onDragOverPropertyMetadata;
+    private ValuePropertyMetadata onDragOverPropertyMetadata() {
+        if (onDragOverPropertyMetadata == null) {
+            onDragOverPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onDragOverName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "DragDrop", 5));
+        }
+        return onDragOverPropertyMetadata;
+    }
+    private ValuePropertyMetadata onEditCancelPropertyMetadata;
+    private ValuePropertyMetadata onEditCancelPropertyMetadata() {
+        if (onEditCancelPropertyMetadata == null) {
+            onEditCancelPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onEditCancelName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Edit", 2));
+        }
+        return onEditCancelPropertyMetadata;
+    }
+    private ValuePropertyMetadata onEditCommitPropertyMetadata;
+    private ValuePropertyMetadata onEditCommitPropertyMetadata() {
+        if (onEditCommitPropertyMetadata == null) {
+            onEditCommitPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onEditCommitName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Edit", 1));
+        }
+        return onEditCommitPropertyMetadata;
+    }
+    private ValuePropertyMetadata onEditStartPropertyMetadata;
+    private ValuePropertyMetadata onEditStartPropertyMetadata() {
+        if (onEditStartPropertyMetadata == null) {
+            onEditStartPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onEditStartName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Edit", 0));
+        }
+        return onEditStartPropertyMetadata;
+    }
+    private ValuePropertyMetadata onErrorPropertyMetadata;
+    private ValuePropertyMetadata onErrorPropertyMetadata() {
+        if (onErrorPropertyMetadata == null) {
+            onErrorPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onErrorName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Main", 2));
+        }
+        return onErrorPropertyMetadata;
+    }
+    private ValuePropertyMetadata onHiddenPropertyMetadata;
+    private ValuePropertyMetadata onHiddenPropertyMetadata() {
+        if (onHiddenPropertyMetadata == null) {
+            onHiddenPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onHiddenName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "HideShow", 0));
+        }
+        return onHiddenPropertyMetadata;
+    }
+    private ValuePropertyMetadata onHidingPropertyMetadata;
+    private ValuePropertyMetadata onHidingPropertyMetadata() {
+        if (onHidingPropertyMetadata == null) {
+            onHidingPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onHidingName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "HideShow", 1));
+        }
+        return onHidingPropertyMetadata;
+    }
+    private ValuePropertyMetadata onInputMethodTextChangedPropertyMetadata;
+    private ValuePropertyMetadata onInputMethodTextChangedPropertyMetadata() {
+        if (onInputMethodTextChangedPropertyMetadata == null) {
+            onInputMethodTextChangedPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onInputMethodTextChangedName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Keyboard", 0));
+        }
+        return onInputMethodTextChangedPropertyMetadata;
+    }
+    private ValuePropertyMetadata onKeyPressedPropertyMetadata;
+    private ValuePropertyMetadata onKeyPressedPropertyMetadata() {
+        if (onKeyPressedPropertyMetadata == null) {
+            onKeyPressedPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onKeyPressedName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Keyboard", 1));
+        }
+        return onKeyPressedPropertyMetadata;
+    }
+    private ValuePropertyMetadata onKeyReleasedPropertyMetadata;
+    private ValuePropertyMetadata onKeyReleasedPropertyMetadata() {
+        if (onKeyReleasedPropertyMetadata == null) {
+            onKeyReleasedPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onKeyReleasedName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Keyboard", 2));
+        }
+        return onKeyReleasedPropertyMetadata;
+    }
+    private ValuePropertyMetadata onKeyTypedPropertyMetadata;
+    private ValuePropertyMetadata onKeyTypedPropertyMetadata() {
+        if (onKeyTypedPropertyMetadata == null) {
+            onKeyTypedPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onKeyTypedName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Keyboard", 3));
+        }
+        return onKeyTypedPropertyMetadata;
+    }
+    private ValuePropertyMetadata onMenuValidationPropertyMetadata;
+    private ValuePropertyMetadata onMenuValidationPropertyMetadata() {
+        if (onMenuValidationPropertyMetadata == null) {
+            onMenuValidationPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onMenuValidationName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Main", 1));
+        }
+        return onMenuValidationPropertyMetadata;
+    }
+    private ValuePropertyMetadata onMouseClickedPropertyMetadata;
+    private ValuePropertyMetadata onMouseClickedPropertyMetadata() {
+        if (onMouseClickedPropertyMetadata == null) {
+            onMouseClickedPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onMouseClickedName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Mouse", 1));
+        }
+        return onMouseClickedPropertyMetadata;
+    }
+    private ValuePropertyMetadata onMouseDragEnteredPropertyMetadata;
+    private ValuePropertyMetadata onMouseDragEnteredPropertyMetadata() {
+        if (onMouseDragEnteredPropertyMetadata == null) {
+            onMouseDragEnteredPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onMouseDragEnteredName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "DragDrop", 6));
+        }
+        return onMouseDragEnteredPropertyMetadata;
+    }
+    private ValuePropertyMetadata onMouseDragExitedPropertyMetadata;
+    private ValuePropertyMetadata onMouseDragExitedPropertyMetadata() {
+        if (onMouseDragExitedPropertyMetadata == null) {
+            onMouseDragExitedPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onMouseDragExitedName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "DragDrop", 7));
+        }
+        return onMouseDragExitedPropertyMetadata;
+    }
+    private ValuePropertyMetadata onMouseDraggedPropertyMetadata;
+    private ValuePropertyMetadata onMouseDraggedPropertyMetadata() {
+        if (onMouseDraggedPropertyMetadata == null) {
+            onMouseDraggedPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onMouseDraggedName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Mouse", 2));
+        }
+        return onMouseDraggedPropertyMetadata;
+    }
+    private ValuePropertyMetadata onMouseDragOverPropertyMetadata;
+    private ValuePropertyMetadata onMouseDragOverPropertyMetadata() {
+        if (onMouseDragOverPropertyMetadata == null) {
+            onMouseDragOverPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onMouseDragOverName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "DragDrop", 8));
+        }
+        return onMouseDragOverPropertyMetadata;
+    }
+    private ValuePropertyMetadata onMouseDragReleasedPropertyMetadata;
+    private ValuePropertyMetadata onMouseDragReleasedPropertyMetadata() {
+        if (onMouseDragReleasedPropertyMetadata == null) {
+            onMouseDragReleasedPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onMouseDragReleasedName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "DragDrop", 9));
+        }
+        return onMouseDragReleasedPropertyMetadata;
+    }
+    private ValuePropertyMetadata onMouseEnteredPropertyMetadata;
+    private ValuePropertyMetadata onMouseEnteredPropertyMetadata() {
+        if (onMouseEnteredPropertyMetadata == null) {
+            onMouseEnteredPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onMouseEnteredName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Mouse", 3));
+        }
+        return onMouseEnteredPropertyMetadata;
+    }
+    private ValuePropertyMetadata onMouseExitedPropertyMetadata;
+    private ValuePropertyMetadata onMouseExitedPropertyMetadata() {
+        if (onMouseExitedPropertyMetadata == null) {
+            onMouseExitedPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onMouseExitedName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Mouse", 4));
+        }
+        return onMouseExitedPropertyMetadata;
+    }
+    private ValuePropertyMetadata onMouseMovedPropertyMetadata;
+    private ValuePropertyMetadata onMouseMovedPropertyMetadata() {
+        if (onMouseMovedPropertyMetadata == null) {
+            onMouseMovedPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onMouseMovedName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Mouse", 5));
+        }
+        return onMouseMovedPropertyMetadata;
+    }
+    private ValuePropertyMetadata onMousePressedPropertyMetadata;
+    private ValuePropertyMetadata onMousePressedPropertyMetadata() {
+        if (onMousePressedPropertyMetadata == null) {
+            onMousePressedPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onMousePressedName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Mouse", 6));
+        }
+        return onMousePressedPropertyMetadata;
+    }
+    private ValuePropertyMetadata onMouseReleasedPropertyMetadata;
+    private ValuePropertyMetadata onMouseReleasedPropertyMetadata() {
+        if (onMouseReleasedPropertyMetadata == null) {
+            onMouseReleasedPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onMouseReleasedName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Mouse", 7));
+        }
+        return onMouseReleasedPropertyMetadata;
+    }
+    private ValuePropertyMetadata onRotatePropertyMetadata;
+    private ValuePropertyMetadata onRotatePropertyMetadata() {
+        if (onRotatePropertyMetadata == null) {
+            onRotatePropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onRotateName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Rotation", 0));
+        }
+        return onRotatePropertyMetadata;
+    }
+    private ValuePropertyMetadata onRotationFinishedPropertyMetadata;
+    private ValuePropertyMetadata onRotationFinishedPropertyMetadata() {
+        if (onRotationFinishedPropertyMetadata == null) {
+            onRotationFinishedPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onRotationFinishedName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Rotation", 2));
+        }
+        return onRotationFinishedPropertyMetadata;
+    }
+    private ValuePropertyMetadata onRotationStartedPropertyMetadata;
+    private ValuePropertyMetadata onRotationStartedPropertyMetadata() {
+        if (onRotationStartedPropertyMetadata == null) {
+            onRotationStartedPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onRotationStartedName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Rotation", 1));
+        }
+        return onRotationStartedPropertyMetadata;
+    }
+    private ValuePropertyMetadata onScrollPropertyMetadata;
+    private ValuePropertyMetadata onScrollPropertyMetadata() {
+        if (onScrollPropertyMetadata == null) {
+            onScrollPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onScrollName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Mouse", 8));
+        }
+        return onScrollPropertyMetadata;
+    }
+    private ValuePropertyMetadata onScrollFinishedPropertyMetadata;
+    private ValuePropertyMetadata onScrollFinishedPropertyMetadata() {
+        if (onScrollFinishedPropertyMetadata == null) {
+            onScrollFinishedPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onScrollFinishedName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Mouse", 10));
+        }
+        return onScrollFinishedPropertyMetadata;
+    }
+    private ValuePropertyMetadata onScrollStartedPropertyMetadata;
+    private ValuePropertyMetadata onScrollStartedPropertyMetadata() {
+        if (onScrollStartedPropertyMetadata == null) {
+            onScrollStartedPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onScrollStartedName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Mouse", 9));
+        }
+        return onScrollStartedPropertyMetadata;
+    }
+    private ValuePropertyMetadata onScrollToPropertyMetadata;
+    private ValuePropertyMetadata onScrollToPropertyMetadata() {
+        if (onScrollToPropertyMetadata == null) {
+            onScrollToPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onScrollToName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Mouse", 11));
+        }
+        return onScrollToPropertyMetadata;
+    }
+    private ValuePropertyMetadata onScrollToColumnPropertyMetadata;
+    private ValuePropertyMetadata onScrollToColumnPropertyMetadata() {
+        if (onScrollToColumnPropertyMetadata == null) {
+            onScrollToColumnPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onScrollToColumnName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Mouse", 12));
+        }
+        return onScrollToColumnPropertyMetadata;
+    }
+    private ValuePropertyMetadata onSelectionChangedPropertyMetadata;
+    private ValuePropertyMetadata onSelectionChangedPropertyMetadata() {
+        if (onSelectionChangedPropertyMetadata == null) {
+            onSelectionChangedPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onSelectionChangedName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Edit", 3));
+        }
+        return onSelectionChangedPropertyMetadata;
+    }
+    private ValuePropertyMetadata onShowingPropertyMetadata;
+    private ValuePropertyMetadata onShowingPropertyMetadata() {
+        if (onShowingPropertyMetadata == null) {
+            onShowingPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onShowingName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "HideShow", 3));
+        }
+        return onShowingPropertyMetadata;
+    }
+    private ValuePropertyMetadata onShownPropertyMetadata;
+    private ValuePropertyMetadata onShownPropertyMetadata() {
+        if (onShownPropertyMetadata == null) {
+            onShownPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onShownName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "HideShow", 4));
+        }
+        return onShownPropertyMetadata;
+    }
+    private ValuePropertyMetadata onSortPropertyMetadata;
+    private ValuePropertyMetadata onSortPropertyMetadata() {
+        if (onSortPropertyMetadata == null) {
+            onSortPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onSortName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Main", 3));
+        }
+        return onSortPropertyMetadata;
+    }
+    private ValuePropertyMetadata onSwipeDownPropertyMetadata;
+    private ValuePropertyMetadata onSwipeDownPropertyMetadata() {
+        if (onSwipeDownPropertyMetadata == null) {
+            onSwipeDownPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onSwipeDownName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Swipe", 3));
+        }
+        return onSwipeDownPropertyMetadata;
+    }
+    private ValuePropertyMetadata onSwipeLeftPropertyMetadata;
+    private ValuePropertyMetadata onSwipeLeftPropertyMetadata() {
+        if (onSwipeLeftPropertyMetadata == null) {
+            onSwipeLeftPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onSwipeLeftName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Swipe", 0));
+        }
+        return onSwipeLeftPropertyMetadata;
+    }
+    private ValuePropertyMetadata onSwipeRightPropertyMetadata;
+    private ValuePropertyMetadata onSwipeRightPropertyMetadata() {
+        if (onSwipeRightPropertyMetadata == null) {
+            onSwipeRightPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onSwipeRightName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Swipe", 1));
+        }
+        return onSwipeRightPropertyMetadata;
+    }
+    private ValuePropertyMetadata onSwipeUpPropertyMetadata;
+    private ValuePropertyMetadata onSwipeUpPropertyMetadata() {
+        if (onSwipeUpPropertyMetadata == null) {
+            onSwipeUpPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onSwipeUpName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Swipe", 2));
+        }
+        return onSwipeUpPropertyMetadata;
+    }
+    private ValuePropertyMetadata onTouchMovedPropertyMetadata;
+    private ValuePropertyMetadata onTouchMovedPropertyMetadata() {
+        if (onTouchMovedPropertyMetadata == null) {
+            onTouchMovedPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onTouchMovedName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Touch", 0));
+        }
+        return onTouchMovedPropertyMetadata;
+    }
+    private ValuePropertyMetadata onTouchPressedPropertyMetadata;
+    private ValuePropertyMetadata onTouchPressedPropertyMetadata() {
+        if (onTouchPressedPropertyMetadata == null) {
+            onTouchPressedPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onTouchPressedName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Touch", 1));
+        }
+        return onTouchPressedPropertyMetadata;
+    }
+    private ValuePropertyMetadata onTouchReleasedPropertyMetadata;
+    private ValuePropertyMetadata onTouchReleasedPropertyMetadata() {
+        if (onTouchReleasedPropertyMetadata == null) {
+            onTouchReleasedPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onTouchReleasedName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Touch", 2));
+        }
+        return onTouchReleasedPropertyMetadata;
+    }
+    private ValuePropertyMetadata onTouchStationaryPropertyMetadata;
+    private ValuePropertyMetadata onTouchStationaryPropertyMetadata() {
+        if (onTouchStationaryPropertyMetadata == null) {
+            onTouchStationaryPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onTouchStationaryName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Touch", 3));
+        }
+        return onTouchStationaryPropertyMetadata;
+    }
+    private ValuePropertyMetadata onZoomPropertyMetadata;
+    private ValuePropertyMetadata onZoomPropertyMetadata() {
+        if (onZoomPropertyMetadata == null) {
+            onZoomPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onZoomName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Zoom", 0));
+        }
+        return onZoomPropertyMetadata;
+    }
+    private ValuePropertyMetadata onZoomFinishedPropertyMetadata;
+    private ValuePropertyMetadata onZoomFinishedPropertyMetadata() {
+        if (onZoomFinishedPropertyMetadata == null) {
+            onZoomFinishedPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onZoomFinishedName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Zoom", 2));
+        }
+        return onZoomFinishedPropertyMetadata;
+    }
+    private ValuePropertyMetadata onZoomStartedPropertyMetadata;
+    private ValuePropertyMetadata onZoomStartedPropertyMetadata() {
+        if (onZoomStartedPropertyMetadata == null) {
+            onZoomStartedPropertyMetadata =
+                    new EventHandlerPropertyMetadata(
+                        onZoomStartedName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Code", "Zoom", 1));
+        }
+        return onZoomStartedPropertyMetadata;
+    }
+    private ValuePropertyMetadata opacityPropertyMetadata;
+    private ValuePropertyMetadata opacityPropertyMetadata() {
+        if (opacityPropertyMetadata == null) {
+            opacityPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        opacityName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.OPACITY,
+                        true, /* readWrite */
+                        1.0, /* defaultValue */
+                        new InspectorPath("Properties", "Node", 2));
+        }
+        return opacityPropertyMetadata;
+    }
+    private ValuePropertyMetadata opaqueInsetsPropertyMetadata;
+    private ValuePropertyMetadata opaqueInsetsPropertyMetadata() {
+        if (opaqueInsetsPropertyMetadata == null) {
+            opaqueInsetsPropertyMetadata =
+                    new InsetsPropertyMetadata(
+                        opaqueInsetsName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Properties", "Node", 12));
+        }
+        return opaqueInsetsPropertyMetadata;
+    }
+    private ValuePropertyMetadata orientation_HORIZONTAL_PropertyMetadata;
+    private ValuePropertyMetadata orientation_HORIZONTAL_PropertyMetadata() {
+        if (orientation_HORIZONTAL_PropertyMetadata == null) {
+            orientation_HORIZONTAL_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        orientationName,
+                        javafx.geometry.Orientation.class,
+                        true, /* readWrite */
+                        javafx.geometry.Orientation.HORIZONTAL, /* defaultValue */
+                        new InspectorPath("Properties", "Node", 3));
+        }
+        return orientation_HORIZONTAL_PropertyMetadata;
+    }
+    private ValuePropertyMetadata orientation_VERTICAL_PropertyMetadata;
+    private ValuePropertyMetadata orientation_VERTICAL_PropertyMetadata() {
+        if (orientation_VERTICAL_PropertyMetadata == null) {
+            orientation_VERTICAL_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        orientationName,
+                        javafx.geometry.Orientation.class,
+                        true, /* readWrite */
+                        javafx.geometry.Orientation.VERTICAL, /* defaultValue */
+                        new InspectorPath("Properties", "Node", 3));
+        }
+        return orientation_VERTICAL_PropertyMetadata;
+    }
+    private ValuePropertyMetadata paddingPropertyMetadata;
+    private ValuePropertyMetadata paddingPropertyMetadata() {
+        if (paddingPropertyMetadata == null) {
+            paddingPropertyMetadata =
+                    new InsetsPropertyMetadata(
+                        paddingName,
+                        true, /* readWrite */
+                        javafx.geometry.Insets.EMPTY, /* defaultValue */
+                        new InspectorPath("Layout", "Internal", 2));
+        }
+        return paddingPropertyMetadata;
+    }
+    private ValuePropertyMetadata pageCountPropertyMetadata;
+    private ValuePropertyMetadata pageCountPropertyMetadata() {
+        if (pageCountPropertyMetadata == null) {
+            pageCountPropertyMetadata =
+                    new IntegerPropertyMetadata(
+                        pageCountName,
+                        true, /* readWrite */
+                        2147483647, /* defaultValue */
+                        new InspectorPath("Properties", "Pagination", 2));
+        }
+        return pageCountPropertyMetadata;
+    }
+    private ComponentPropertyMetadata panesPropertyMetadata;
+    private ComponentPropertyMetadata panesPropertyMetadata() {
+        if (panesPropertyMetadata == null) {
+            panesPropertyMetadata =
+                    new ComponentPropertyMetadata(
+                        panesName,
+                        TitledPaneMetadata,
+                        true); /* collection */
+        }
+        return panesPropertyMetadata;
+    }
+    private ValuePropertyMetadata pannablePropertyMetadata;
+    private ValuePropertyMetadata pannablePropertyMetadata() {
+        if (pannablePropertyMetadata == null) {
+            pannablePropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        pannableName,
+                        true, /* readWrite */
+                        false, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 30));
+        }
+        return pannablePropertyMetadata;
+    }
+    private ValuePropertyMetadata percentHeightPropertyMetadata;
+    private ValuePropertyMetadata percentHeightPropertyMetadata() {
+        if (percentHeightPropertyMetadata == null) {
+            percentHeightPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        percentHeightName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.PERCENTAGE,
+                        true, /* readWrite */
+                        -1.0, /* defaultValue */
+                        new InspectorPath("Layout", "Size", 20));
+        }
+        return percentHeightPropertyMetadata;
+    }
+    private ValuePropertyMetadata percentWidthPropertyMetadata;
+    private ValuePropertyMetadata percentWidthPropertyMetadata() {
+        if (percentWidthPropertyMetadata == null) {
+            percentWidthPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        percentWidthName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.PERCENTAGE,
+                        true, /* readWrite */
+                        -1.0, /* defaultValue */
+                        new InspectorPath("Layout", "Size", 19));
+        }
+        return percentWidthPropertyMetadata;
+    }
+    private ValuePropertyMetadata pickOnBounds_false_PropertyMetadata;
+    private ValuePropertyMetadata pickOnBounds_false_PropertyMetadata() {
+        if (pickOnBounds_false_PropertyMetadata == null) {
+            pickOnBounds_false_PropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        pickOnBoundsName,
+                        true, /* readWrite */
+                        false, /* defaultValue */
+                        new InspectorPath("Properties", "Extras", 8));
+        }
+        return pickOnBounds_false_PropertyMetadata;
+    }
+    private ValuePropertyMetadata pickOnBounds_true_PropertyMetadata;
+    private ValuePropertyMetadata pickOnBounds_true_PropertyMetadata() {
+        if (pickOnBounds_true_PropertyMetadata == null) {
+            pickOnBounds_true_PropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        pickOnBoundsName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Properties", "Extras", 8));
+        }
+        return pickOnBounds_true_PropertyMetadata;
+    }
+    private ComponentPropertyMetadata placeholderPropertyMetadata;
+    private ComponentPropertyMetadata placeholderPropertyMetadata() {
+        if (placeholderPropertyMetadata == null) {
+            placeholderPropertyMetadata =
+                    new ComponentPropertyMetadata(
+                        placeholderName,
+                        NodeMetadata,
+                        false); /* collection */
+        }
+        return placeholderPropertyMetadata;
+    }
+    private ValuePropertyMetadata pointsPropertyMetadata;
+    private ValuePropertyMetadata pointsPropertyMetadata() {
+        if (pointsPropertyMetadata == null) {
+            pointsPropertyMetadata =
+                    new DoubleListPropertyMetadata(
+                        pointsName,
+                        true, /* readWrite */
+                        Collections.emptyList(), /* defaultValue */
+                        new InspectorPath("Layout", "Position", 4));
+        }
+        return pointsPropertyMetadata;
+    }
+    private ValuePropertyMetadata popupSidePropertyMetadata;
+    private ValuePropertyMetadata popupSidePropertyMetadata() {
+        if (popupSidePropertyMetadata == null) {
+            popupSidePropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        popupSideName,
+                        javafx.geometry.Side.class,
+                        true, /* readWrite */
+                        javafx.geometry.Side.BOTTOM, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 31));
+        }
+        return popupSidePropertyMetadata;
+    }
+    private ValuePropertyMetadata prefColumnCount_40_PropertyMetadata;
+    private ValuePropertyMetadata prefColumnCount_40_PropertyMetadata() {
+        if (prefColumnCount_40_PropertyMetadata == null) {
+            prefColumnCount_40_PropertyMetadata =
+                    new IntegerPropertyMetadata(
+                        prefColumnCountName,
+                        true, /* readWrite */
+                        40, /* defaultValue */
+                        new InspectorPath("Layout", "Size", 9));
+        }
+        return prefColumnCount_40_PropertyMetadata;
+    }
+    private ValuePropertyMetadata prefColumnCount_12_PropertyMetadata;
+    private ValuePropertyMetadata prefColumnCount_12_PropertyMetadata() {
+        if (prefColumnCount_12_PropertyMetadata == null) {
+            prefColumnCount_12_PropertyMetadata =
+                    new IntegerPropertyMetadata(
+                        prefColumnCountName,
+                        true, /* readWrite */
+                        12, /* defaultValue */
+                        new InspectorPath("Layout", "Size", 9));
+        }
+        return prefColumnCount_12_PropertyMetadata;
+    }
+    private ValuePropertyMetadata prefColumnsPropertyMetadata;
+    private ValuePropertyMetadata prefColumnsPropertyMetadata() {
+        if (prefColumnsPropertyMetadata == null) {
+            prefColumnsPropertyMetadata =
+                    new IntegerPropertyMetadata(
+                        prefColumnsName,
+                        true, /* readWrite */
+                        5, /* defaultValue */
+                        new InspectorPath("Layout", "Specific", 18));
+        }
+        return prefColumnsPropertyMetadata;
+    }
+    private ValuePropertyMetadata prefHeight_COMPUTED_PropertyMetadata;
+    private ValuePropertyMetadata prefHeight_COMPUTED_PropertyMetadata() {
+        if (prefHeight_COMPUTED_PropertyMetadata == null) {
+            prefHeight_COMPUTED_PropertyMetadata =
+                    new DoublePropertyMetadata(
+                        prefHeightName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.USE_COMPUTED_SIZE,
+                        true, /* readWrite */
+                        -1.0, /* defaultValue */
+                        new InspectorPath("Layout", "Size", 4));
+        }
+        return prefHeight_COMPUTED_PropertyMetadata;
+    }
+    private ValuePropertyMetadata prefHeight_60000_PropertyMetadata;
+    private ValuePropertyMetadata prefHeight_60000_PropertyMetadata() {
+        if (prefHeight_60000_PropertyMetadata == null) {
+            prefHeight_60000_PropertyMetadata =
+                    new DoublePropertyMetadata(
+                        prefHeightName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.USE_COMPUTED_SIZE,
+                        true, /* readWrite */
+                        600.0, /* defaultValue */
+                        new InspectorPath("Layout", "Size", 4));
+        }
+        return prefHeight_60000_PropertyMetadata;
+    }
+    private ValuePropertyMetadata prefRowCountPropertyMetadata;
+    private ValuePropertyMetadata prefRowCountPropertyMetadata() {
+        if (prefRowCountPropertyMetadata == null) {
+            prefRowCountPropertyMetadata =
+                    new IntegerPropertyMetadata(
+                        prefRowCountName,
+                        true, /* readWrite */
+                        10, /* defaultValue */
+                        new InspectorPath("Layout", "Size", 10));
+        }
+        return prefRowCountPropertyMetadata;
+    }
+    private ValuePropertyMetadata prefRowsPropertyMetadata;
+    private ValuePropertyMetadata prefRowsPropertyMetadata() {
+        if (prefRowsPropertyMetadata == null) {
+            prefRowsPropertyMetadata =
+                    new IntegerPropertyMetadata(
+                        prefRowsName,
+                        true, /* readWrite */
+                        5, /* defaultValue */
+                        new InspectorPath("Layout", "Specific", 19));
+        }
+        return prefRowsPropertyMetadata;
+    }
+    private ValuePropertyMetadata prefTileHeightPropertyMetadata;
+    private ValuePropertyMetadata prefTileHeightPropertyMetadata() {
+        if (prefTileHeightPropertyMetadata == null) {
+            prefTileHeightPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        prefTileHeightName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        -1.0, /* defaultValue */
+                        new InspectorPath("Layout", "Specific", 17));
+        }
+        return prefTileHeightPropertyMetadata;
+    }
+    private ValuePropertyMetadata prefTileWidthPropertyMetadata;
+    private ValuePropertyMetadata prefTileWidthPropertyMetadata() {
+        if (prefTileWidthPropertyMetadata == null) {
+            prefTileWidthPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        prefTileWidthName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        -1.0, /* defaultValue */
+                        new InspectorPath("Layout", "Specific", 16));
+        }
+        return prefTileWidthPropertyMetadata;
+    }
+    private ValuePropertyMetadata prefViewportHeightPropertyMetadata;
+    private ValuePropertyMetadata prefViewportHeightPropertyMetadata() {
+        if (prefViewportHeightPropertyMetadata == null) {
+            prefViewportHeightPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        prefViewportHeightName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Specific", 9));
+        }
+        return prefViewportHeightPropertyMetadata;
+    }
+    private ValuePropertyMetadata prefViewportWidthPropertyMetadata;
+    private ValuePropertyMetadata prefViewportWidthPropertyMetadata() {
+        if (prefViewportWidthPropertyMetadata == null) {
+            prefViewportWidthPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        prefViewportWidthName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Specific", 8));
+        }
+        return prefViewportWidthPropertyMetadata;
+    }
+    private ValuePropertyMetadata prefWidth_COMPUTED_PropertyMetadata;
+    private ValuePropertyMetadata prefWidth_COMPUTED_PropertyMetadata() {
+        if (prefWidth_COMPUTED_PropertyMetadata == null) {
+            prefWidth_COMPUTED_PropertyMetadata =
+                    new DoublePropertyMetadata(
+                        prefWidthName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.USE_COMPUTED_SIZE,
+                        true, /* readWrite */
+                        -1.0, /* defaultValue */
+                        new InspectorPath("Layout", "Size", 3));
+        }
+        return prefWidth_COMPUTED_PropertyMetadata;
+    }
+    private ValuePropertyMetadata prefWidth_8000_PropertyMetadata;
+    private ValuePropertyMetadata prefWidth_8000_PropertyMetadata() {
+        if (prefWidth_8000_PropertyMetadata == null) {
+            prefWidth_8000_PropertyMetadata =
+                    new DoublePropertyMetadata(
+                        prefWidthName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.USE_COMPUTED_SIZE,
+                        true, /* readWrite */
+                        80.0, /* defaultValue */
+                        new InspectorPath("Layout", "Size", 3));
+        }
+        return prefWidth_8000_PropertyMetadata;
+    }
+    private ValuePropertyMetadata prefWidth_80000_PropertyMetadata;
+    private ValuePropertyMetadata prefWidth_80000_PropertyMetadata() {
+        if (prefWidth_80000_PropertyMetadata == null) {
+            prefWidth_80000_PropertyMetadata =
+                    new DoublePropertyMetadata(
+                        prefWidthName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.USE_COMPUTED_SIZE,
+                        true, /* readWrite */
+                        800.0, /* defaultValue */
+                        new InspectorPath("Layout", "Size", 3));
+        }
+        return prefWidth_80000_PropertyMetadata;
+    }
+    private ValuePropertyMetadata prefWrapLengthPropertyMetadata;
+    private ValuePropertyMetadata prefWrapLengthPropertyMetadata() {
+        if (prefWrapLengthPropertyMetadata == null) {
+            prefWrapLengthPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        prefWrapLengthName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        400.0, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 75));
+        }
+        return prefWrapLengthPropertyMetadata;
+    }
+    private ValuePropertyMetadata preserveRatio_false_PropertyMetadata;
+    private ValuePropertyMetadata preserveRatio_false_PropertyMetadata() {
+        if (preserveRatio_false_PropertyMetadata == null) {
+            preserveRatio_false_PropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        preserveRatioName,
+                        true, /* readWrite */
+                        false, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 32));
+        }
+        return preserveRatio_false_PropertyMetadata;
+    }
+    private ValuePropertyMetadata preserveRatio_true_PropertyMetadata;
+    private ValuePropertyMetadata preserveRatio_true_PropertyMetadata() {
+        if (preserveRatio_true_PropertyMetadata == null) {
+            preserveRatio_true_PropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        preserveRatioName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 32));
+        }
+        return preserveRatio_true_PropertyMetadata;
+    }
+    private ValuePropertyMetadata progressPropertyMetadata;
+    private ValuePropertyMetadata progressPropertyMetadata() {
+        if (progressPropertyMetadata == null) {
+            progressPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        progressName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.PROGRESS,
+                        true, /* readWrite */
+                        -1.0, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 33));
+        }
+        return progressPropertyMetadata;
+    }
+    private ValuePropertyMetadata promptTextPropertyMetadata;
+    private ValuePropertyMetadata promptTextPropertyMetadata() {
+        if (promptTextPropertyMetadata == null) {
+            promptTextPropertyMetadata =
+                    new StringPropertyMetadata(
+                        promptTextName,
+                        true, /* readWrite */
+                        "", /* defaultValue */
+                        new InspectorPath("Properties", "Text", 3));
+        }
+        return promptTextPropertyMetadata;
+    }
+    private ValuePropertyMetadata radius_0_PropertyMetadata;
+    private ValuePropertyMetadata radius_0_PropertyMetadata() {
+        if (radius_0_PropertyMetadata == null) {
+            radius_0_PropertyMetadata =
+                    new DoublePropertyMetadata(
+                        radiusName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Size", 11));
+        }
+        return radius_0_PropertyMetadata;
+    }
+    private ValuePropertyMetadata radius_100_PropertyMetadata;
+    private ValuePropertyMetadata radius_100_PropertyMetadata() {
+        if (radius_100_PropertyMetadata == null) {
+            radius_100_PropertyMetadata =
+                    new DoublePropertyMetadata(
+                        radiusName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        1.0, /* defaultValue */
+                        new InspectorPath("Layout", "Size", 11));
+        }
+        return radius_100_PropertyMetadata;
+    }
+    private ValuePropertyMetadata radiusXPropertyMetadata;
+    private ValuePropertyMetadata radiusXPropertyMetadata() {
+        if (radiusXPropertyMetadata == null) {
+            radiusXPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        radiusXName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Size", 12));
+        }
+        return radiusXPropertyMetadata;
+    }
+    private ValuePropertyMetadata radiusYPropertyMetadata;
+    private ValuePropertyMetadata radiusYPropertyMetadata() {
+        if (radiusYPropertyMetadata == null) {
+            radiusYPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        radiusYName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Size", 13));
+        }
+        return radiusYPropertyMetadata;
+    }
+    private ValuePropertyMetadata resizable_Boolean_ro_PropertyMetadata;
+    private ValuePropertyMetadata resizable_Boolean_ro_PropertyMetadata() {
+        if (resizable_Boolean_ro_PropertyMetadata == null) {
+            resizable_Boolean_ro_PropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        resizableName,
+                        false, /* readWrite */
+                        null, /* No defaultValue for R/O property */
+                        new InspectorPath("Layout", "Extras", 3));
+        }
+        return resizable_Boolean_ro_PropertyMetadata;
+    }
+    private ValuePropertyMetadata resizable_Boolean_PropertyMetadata;
+    private ValuePropertyMetadata resizable_Boolean_PropertyMetadata() {
+        if (resizable_Boolean_PropertyMetadata == null) {
+            resizable_Boolean_PropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        resizableName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Layout", "Extras", 3));
+        }
+        return resizable_Boolean_PropertyMetadata;
+    }
+    private ComponentPropertyMetadata rightPropertyMetadata;
+    private ComponentPropertyMetadata rightPropertyMetadata() {
+        if (rightPropertyMetadata == null) {
+            rightPropertyMetadata =
+                    new ComponentPropertyMetadata(
+                        rightName,
+                        NodeMetadata,
+                        false); /* collection */
+        }
+        return rightPropertyMetadata;
+    }
+    private ComponentPropertyMetadata root_scene_PropertyMetadata;
+    private ComponentPropertyMetadata root_scene_PropertyMetadata() {
+        if (root_scene_PropertyMetadata == null) {
+            root_scene_PropertyMetadata =
+                    new ComponentPropertyMetadata(
+                            rootName,
+                            NodeMetadata,
+                            false);
+        }
+        return root_scene_PropertyMetadata;
+    }
+    private ValuePropertyMetadata rotatePropertyMetadata;
+    private ValuePropertyMetadata rotatePropertyMetadata() {
+        if (rotatePropertyMetadata == null) {
+            rotatePropertyMetadata =
+                    new DoublePropertyMetadata(
+                        rotateName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.ANGLE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Transforms", 0));
+        }
+        return rotatePropertyMetadata;
+    }
+    private ValuePropertyMetadata rotateGraphicPropertyMetadata;
+    private ValuePropertyMetadata rotateGraphicPropertyMetadata() {
+        if (rotateGraphicPropertyMetadata == null) {
+            rotateGraphicPropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        rotateGraphicName,
+                        true, /* readWrite */
+                        false, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 67));
+        }
+        return rotateGraphicPropertyMetadata;
+    }
+    private ValuePropertyMetadata rotationAxisPropertyMetadata;
+    private ValuePropertyMetadata rotationAxisPropertyMetadata() {
+        if (rotationAxisPropertyMetadata == null) {
+            rotationAxisPropertyMetadata =
+                    new Point3DPropertyMetadata(
+                        rotationAxisName,
+                        true, /* readWrite */
+                        new javafx.geometry.Point3D(0.0, 0.0, 1.0), /* defaultValue */
+                        new InspectorPath("Layout", "Transforms", 1));
+        }
+        return rotationAxisPropertyMetadata;
+    }
+    private ComponentPropertyMetadata rowConstraintsPropertyMetadata;
+    private ComponentPropertyMetadata rowConstraintsPropertyMetadata() {
+        if (rowConstraintsPropertyMetadata == null) {
+            rowConstraintsPropertyMetadata =
+                    new ComponentPropertyMetadata(
+                        rowConstraintsName,
+                        RowConstraintsMetadata,
+                        true); /* collection */
+        }
+        return rowConstraintsPropertyMetadata;
+    }
+    private ValuePropertyMetadata rowValignmentPropertyMetadata;
+    private ValuePropertyMetadata rowValignmentPropertyMetadata() {
+        if (rowValignmentPropertyMetadata == null) {
+            rowValignmentPropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        rowValignmentName,
+                        javafx.geometry.VPos.class,
+                        true, /* readWrite */
+                        javafx.geometry.VPos.CENTER, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 51));
+        }
+        return rowValignmentPropertyMetadata;
+    }
+    private ValuePropertyMetadata scalePropertyMetadata;
+    private ValuePropertyMetadata scalePropertyMetadata() {
+        if (scalePropertyMetadata == null) {
+            scalePropertyMetadata =
+                    new DoublePropertyMetadata(
+                        scaleName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        false, /* readWrite */
+                        null, /* No defaultValue for R/O property */
+                        new InspectorPath("Properties", "Specific", 82));
+        }
+        return scalePropertyMetadata;
+    }
+    private ValuePropertyMetadata scaleShapePropertyMetadata;
+    private ValuePropertyMetadata scaleShapePropertyMetadata() {
+        if (scaleShapePropertyMetadata == null) {
+            scaleShapePropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        scaleShapeName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Properties", "Node", 9));
+        }
+        return scaleShapePropertyMetadata;
+    }
+    private ValuePropertyMetadata scaleXPropertyMetadata;
+    private ValuePropertyMetadata scaleXPropertyMetadata() {
+        if (scaleXPropertyMetadata == null) {
+            scaleXPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        scaleXName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        1.0, /* defaultValue */
+                        new InspectorPath("Layout", "Transforms", 2));
+        }
+        return scaleXPropertyMetadata;
+    }
+    private ValuePropertyMetadata scaleYPropertyMetadata;
+    private ValuePropertyMetadata scaleYPropertyMetadata() {
+        if (scaleYPropertyMetadata == null) {
+            scaleYPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        scaleYName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        1.0, /* defaultValue */
+                        new InspectorPath("Layout", "Transforms", 3));
+        }
+        return scaleYPropertyMetadata;
+    }
+    private ValuePropertyMetadata scaleZPropertyMetadata;
+    private ValuePropertyMetadata scaleZPropertyMetadata() {
+        if (scaleZPropertyMetadata == null) {
+            scaleZPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        scaleZName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        1.0, /* defaultValue */
+                        new InspectorPath("Layout", "Transforms", 4));
+        }
+        return scaleZPropertyMetadata;
+    }
+    private ComponentPropertyMetadata scene_stage_PropertyMetadata;
+    private ComponentPropertyMetadata scene_stage_PropertyMetadata() {
+        if (scene_stage_PropertyMetadata == null) {
+            scene_stage_PropertyMetadata =
+                    new ComponentPropertyMetadata(
+                            sceneName,
+                            SceneMetadata,
+                            false);
+        }
+        return scene_stage_PropertyMetadata;
+    }
+    private ComponentPropertyMetadata scopePropertyMetadata;
+    private ComponentPropertyMetadata scopePropertyMetadata() {
+        if (scopePropertyMetadata == null) {
+            scopePropertyMetadata =
+                    new ComponentPropertyMetadata(
+                        scopeName,
+                        NodeMetadata,
+                        true); /* collection */
+        }
+        return scopePropertyMetadata;
+    }
+    private ValuePropertyMetadata scrollLeftPropertyMetadata;
+    private ValuePropertyMetadata scrollLeftPropertyMetadata() {
+        if (scrollLeftPropertyMetadata == null) {
+            scrollLeftPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        scrollLeftName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Properties", "Text", 16));
+        }
+        return scrollLeftPropertyMetadata;
+    }
+    private ValuePropertyMetadata scrollTopPropertyMetadata;
+    private ValuePropertyMetadata scrollTopPropertyMetadata() {
+        if (scrollTopPropertyMetadata == null) {
+            scrollTopPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        scrollTopName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Properties", "Text", 17));
+        }
+        return scrollTopPropertyMetadata;
+    }
+    private ValuePropertyMetadata selected_Boolean_PropertyMetadata;
+    private ValuePropertyMetadata selected_Boolean_PropertyMetadata() {
+        if (selected_Boolean_PropertyMetadata == null) {
+            selected_Boolean_PropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        selectedName,
+                        true, /* readWrite */
+                        false, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 35));
+        }
+        return selected_Boolean_PropertyMetadata;
+    }
+    private ValuePropertyMetadata selected_Boolean_ro_PropertyMetadata;
+    private ValuePropertyMetadata selected_Boolean_ro_PropertyMetadata() {
+        if (selected_Boolean_ro_PropertyMetadata == null) {
+            selected_Boolean_ro_PropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        selectedName,
+                        false, /* readWrite */
+                        null, /* No defaultValue for R/O property */
+                        new InspectorPath("Properties", "Specific", 35));
+        }
+        return selected_Boolean_ro_PropertyMetadata;
+    }
+    private ComponentPropertyMetadata shapePropertyMetadata;
+    private ComponentPropertyMetadata shapePropertyMetadata() {
+        if (shapePropertyMetadata == null) {
+            shapePropertyMetadata =
+                    new ComponentPropertyMetadata(
+                        shapeName,
+                        ShapeMetadata,
+                        false); /* collection */
+        }
+        return shapePropertyMetadata;
+    }
+    private ValuePropertyMetadata showRootPropertyMetadata;
+    private ValuePropertyMetadata showRootPropertyMetadata() {
+        if (showRootPropertyMetadata == null) {
+            showRootPropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        showRootName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 52));
+        }
+        return showRootPropertyMetadata;
+    }
+    private ValuePropertyMetadata showTickLabelsPropertyMetadata;
+    private ValuePropertyMetadata showTickLabelsPropertyMetadata() {
+        if (showTickLabelsPropertyMetadata == null) {
+            showTickLabelsPropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        showTickLabelsName,
+                        true, /* readWrite */
+                        false, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 83));
+        }
+        return showTickLabelsPropertyMetadata;
+    }
+    private ValuePropertyMetadata showTickMarksPropertyMetadata;
+    private ValuePropertyMetadata showTickMarksPropertyMetadata() {
+        if (showTickMarksPropertyMetadata == null) {
+            showTickMarksPropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        showTickMarksName,
+                        true, /* readWrite */
+                        false, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 76));
+        }
+        return showTickMarksPropertyMetadata;
+    }
+    private ValuePropertyMetadata showWeekNumbersPropertyMetadata;
+    private ValuePropertyMetadata showWeekNumbersPropertyMetadata() {
+        if (showWeekNumbersPropertyMetadata == null) {
+            showWeekNumbersPropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        showWeekNumbersName,
+                        true, /* readWrite */
+                        false, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 127));
+        }
+        return showWeekNumbersPropertyMetadata;
+    }
+    private ValuePropertyMetadata side_NULL_PropertyMetadata;
+    private ValuePropertyMetadata side_NULL_PropertyMetadata() {
+        if (side_NULL_PropertyMetadata == null) {
+            side_NULL_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        sideName,
+                        javafx.geometry.Side.class,
+                        "BOTTOM", /* null equivalent */
+                        true, /* readWrite */
+                        new InspectorPath("Properties", "Specific", 36));
+        }
+        return side_NULL_PropertyMetadata;
+    }
+    private ValuePropertyMetadata side_TOP_PropertyMetadata;
+    private ValuePropertyMetadata side_TOP_PropertyMetadata() {
+        if (side_TOP_PropertyMetadata == null) {
+            side_TOP_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        sideName,
+                        javafx.geometry.Side.class,
+                        true, /* readWrite */
+                        javafx.geometry.Side.TOP, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 36));
+        }
+        return side_TOP_PropertyMetadata;
+    }
+    private ValuePropertyMetadata smoothPropertyMetadata;
+    private ValuePropertyMetadata smoothPropertyMetadata() {
+        if (smoothPropertyMetadata == null) {
+            smoothPropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        smoothName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 53));
+        }
+        return smoothPropertyMetadata;
+    }
+    private ValuePropertyMetadata snapToPixelPropertyMetadata;
+    private ValuePropertyMetadata snapToPixelPropertyMetadata() {
+        if (snapToPixelPropertyMetadata == null) {
+            snapToPixelPropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        snapToPixelName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Layout", "Extras", 5));
+        }
+        return snapToPixelPropertyMetadata;
+    }
+    private ValuePropertyMetadata snapToTicksPropertyMetadata;
+    private ValuePropertyMetadata snapToTicksPropertyMetadata() {
+        if (snapToTicksPropertyMetadata == null) {
+            snapToTicksPropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        snapToTicksName,
+                        true, /* readWrite */
+                        false, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 102));
+        }
+        return snapToTicksPropertyMetadata;
+    }
+    private ValuePropertyMetadata sortablePropertyMetadata;
+    private ValuePropertyMetadata sortablePropertyMetadata() {
+        if (sortablePropertyMetadata == null) {
+            sortablePropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        sortableName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 54));
+        }
+        return sortablePropertyMetadata;
+    }
+    private ValuePropertyMetadata sortModePropertyMetadata;
+    private ValuePropertyMetadata sortModePropertyMetadata() {
+        if (sortModePropertyMetadata == null) {
+            sortModePropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        sortModeName,
+                        javafx.scene.control.TreeSortMode.class,
+                        true, /* readWrite */
+                        javafx.scene.control.TreeSortMode.ALL_DESCENDANTS, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 56));
+        }
+        return sortModePropertyMetadata;
+    }
+    private ComponentPropertyMetadata sortNodePropertyMetadata;
+    private ComponentPropertyMetadata sortNodePropertyMetadata() {
+        if (sortNodePropertyMetadata == null) {
+            sortNodePropertyMetadata =
+                    new ComponentPropertyMetadata(
+                        sortNodeName,
+                        NodeMetadata,
+                        false); /* collection */
+        }
+        return sortNodePropertyMetadata;
+    }
+    private ComponentPropertyMetadata sortOrderPropertyMetadata;
+    private ComponentPropertyMetadata sortOrderPropertyMetadata() {
+        if (sortOrderPropertyMetadata == null) {
+            sortOrderPropertyMetadata =
+                    new ComponentPropertyMetadata(
+                        sortOrderName,
+                        TableColumnMetadata,
+                        true); /* collection */
+        }
+        return sortOrderPropertyMetadata;
+    }
+    private ValuePropertyMetadata sortType_SortType_PropertyMetadata;
+    private ValuePropertyMetadata sortType_SortType_PropertyMetadata() {
+        if (sortType_SortType_PropertyMetadata == null) {
+            sortType_SortType_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        sortTypeName,
+                        javafx.scene.control.TableColumn.SortType.class,
+                        true, /* readWrite */
+                        javafx.scene.control.TableColumn.SortType.ASCENDING, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 68));
+        }
+        return sortType_SortType_PropertyMetadata;
+    }
+    private ValuePropertyMetadata spacingPropertyMetadata;
+    private ValuePropertyMetadata spacingPropertyMetadata() {
+        if (spacingPropertyMetadata == null) {
+            spacingPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        spacingName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Internal", 3));
+        }
+        return spacingPropertyMetadata;
+    }
+    private ValuePropertyMetadata startAnglePropertyMetadata;
+    private ValuePropertyMetadata startAnglePropertyMetadata() {
+        if (startAnglePropertyMetadata == null) {
+            startAnglePropertyMetadata =
+                    new DoublePropertyMetadata(
+                        startAngleName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.ANGLE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Size", 17));
+        }
+        return startAnglePropertyMetadata;
+    }
+    private ValuePropertyMetadata startMarginPropertyMetadata;
+    private ValuePropertyMetadata startMarginPropertyMetadata() {
+        if (startMarginPropertyMetadata == null) {
+            startMarginPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        startMarginName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        5.0, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 92));
+        }
+        return startMarginPropertyMetadata;
+    }
+    private ValuePropertyMetadata startXPropertyMetadata;
+    private ValuePropertyMetadata startXPropertyMetadata() {
+        if (startXPropertyMetadata == null) {
+            startXPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        startXName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Position", 5));
+        }
+        return startXPropertyMetadata;
+    }
+    private ValuePropertyMetadata startYPropertyMetadata;
+    private ValuePropertyMetadata startYPropertyMetadata() {
+        if (startYPropertyMetadata == null) {
+            startYPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        startYName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Position", 6));
+        }
+        return startYPropertyMetadata;
+    }
+    private ValuePropertyMetadata strikethroughPropertyMetadata;
+    private ValuePropertyMetadata strikethroughPropertyMetadata() {
+        if (strikethroughPropertyMetadata == null) {
+            strikethroughPropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        strikethroughName,
+                        true, /* readWrite */
+                        false, /* defaultValue */
+                        new InspectorPath("Properties", "Text", 13));
+        }
+        return strikethroughPropertyMetadata;
+    }
+    private ValuePropertyMetadata stroke_BLACK_PropertyMetadata;
+    private ValuePropertyMetadata stroke_BLACK_PropertyMetadata() {
+        if (stroke_BLACK_PropertyMetadata == null) {
+            stroke_BLACK_PropertyMetadata =
+                    new PaintPropertyMetadata(
+                        strokeName,
+                        true, /* readWrite */
+                        javafx.scene.paint.Color.BLACK, /* defaultValue */
+                        new InspectorPath("Properties", "Stroke", 0));
+        }
+        return stroke_BLACK_PropertyMetadata;
+    }
+    private ValuePropertyMetadata stroke_NULL_PropertyMetadata;
+    private ValuePropertyMetadata stroke_NULL_PropertyMetadata() {
+        if (stroke_NULL_PropertyMetadata == null) {
+            stroke_NULL_PropertyMetadata =
+                    new PaintPropertyMetadata(
+                        strokeName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Properties", "Stroke", 0));
+        }
+        return stroke_NULL_PropertyMetadata;
+    }
+    private ValuePropertyMetadata strokeDashOffsetPropertyMetadata;
+    private ValuePropertyMetadata strokeDashOffsetPropertyMetadata() {
+        if (strokeDashOffsetPropertyMetadata == null) {
+            strokeDashOffsetPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        strokeDashOffsetName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Properties", "Stroke", 6));
+        }
+        return strokeDashOffsetPropertyMetadata;
+    }
+    private ValuePropertyMetadata strokeLineCapPropertyMetadata;
+    private ValuePropertyMetadata strokeLineCapPropertyMetadata() {
+        if (strokeLineCapPropertyMetadata == null) {
+            strokeLineCapPropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        strokeLineCapName,
+                        javafx.scene.shape.StrokeLineCap.class,
+                        true, /* readWrite */
+                        javafx.scene.shape.StrokeLineCap.SQUARE, /* defaultValue */
+                        new InspectorPath("Properties", "Stroke", 3));
+        }
+        return strokeLineCapPropertyMetadata;
+    }
+    private ValuePropertyMetadata strokeLineJoinPropertyMetadata;
+    private ValuePropertyMetadata strokeLineJoinPropertyMetadata() {
+        if (strokeLineJoinPropertyMetadata == null) {
+            strokeLineJoinPropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        strokeLineJoinName,
+                        javafx.scene.shape.StrokeLineJoin.class,
+                        true, /* readWrite */
+                        javafx.scene.shape.StrokeLineJoin.MITER, /* defaultValue */
+                        new InspectorPath("Properties", "Stroke", 4));
+        }
+        return strokeLineJoinPropertyMetadata;
+    }
+    private ValuePropertyMetadata strokeMiterLimitPropertyMetadata;
+    private ValuePropertyMetadata strokeMiterLimitPropertyMetadata() {
+        if (strokeMiterLimitPropertyMetadata == null) {
+            strokeMiterLimitPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        strokeMiterLimitName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        10.0, /* defaultValue */
+                        new InspectorPath("Properties", "Stroke", 5));
+        }
+        return strokeMiterLimitPropertyMetadata;
+    }
+    private ValuePropertyMetadata strokeTypePropertyMetadata;
+    private ValuePropertyMetadata strokeTypePropertyMetadata() {
+        if (strokeTypePropertyMetadata == null) {
+            strokeTypePropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        strokeTypeName,
+                        javafx.scene.shape.StrokeType.class,
+                        true, /* readWrite */
+                        javafx.scene.shape.StrokeType.CENTERED, /* defaultValue */
+                        new InspectorPath("Properties", "Stroke", 2));
+        }
+        return strokeTypePropertyMetadata;
+    }
+    private ValuePropertyMetadata strokeWidthPropertyMetadata;
+    private ValuePropertyMetadata strokeWidthPropertyMetadata() {
+        if (strokeWidthPropertyMetadata == null) {
+            strokeWidthPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        strokeWidthName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        1.0, /* defaultValue */
+                        new InspectorPath("Properties", "Stroke", 1));
+        }
+        return strokeWidthPropertyMetadata;
+    }
+    private ValuePropertyMetadata stylePropertyMetadata;
+    private ValuePropertyMetadata stylePropertyMetadata() {
+        if (stylePropertyMetadata == null) {
+            stylePropertyMetadata =
+                    new StringPropertyMetadata(
+                        styleName,
+                        true, /* readWrite */
+                        "", /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 0));
+        }
+        return stylePropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c4_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c4_PropertyMetadata() {
+        if (styleClass_c4_PropertyMetadata == null) {
+            styleClass_c4_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("accordion"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c4_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c37_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c37_PropertyMetadata() {
+        if (styleClass_c37_PropertyMetadata == null) {
+            styleClass_c37_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("chart"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c37_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c45_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c45_PropertyMetadata() {
+        if (styleClass_c45_PropertyMetadata == null) {
+            styleClass_c45_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("axis"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c45_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c1_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c1_PropertyMetadata() {
+        if (styleClass_c1_PropertyMetadata == null) {
+            styleClass_c1_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("chart","bar-chart"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c1_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c17_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c17_PropertyMetadata() {
+        if (styleClass_c17_PropertyMetadata == null) {
+            styleClass_c17_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("button"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c17_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c35_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c35_PropertyMetadata() {
+        if (styleClass_c35_PropertyMetadata == null) {
+            styleClass_c35_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("button-bar"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c35_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c41_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c41_PropertyMetadata() {
+        if (styleClass_c41_PropertyMetadata == null) {
+            styleClass_c41_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("radio-button"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c41_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c10_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c10_PropertyMetadata() {
+        if (styleClass_c10_PropertyMetadata == null) {
+            styleClass_c10_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("check-box"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c10_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c28_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c28_PropertyMetadata() {
+        if (styleClass_c28_PropertyMetadata == null) {
+            styleClass_c28_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("menu-item","check-menu-item"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c28_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c43_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c43_PropertyMetadata() {
+        if (styleClass_c43_PropertyMetadata == null) {
+            styleClass_c43_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("choice-box"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c43_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c5_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c5_PropertyMetadata() {
+        if (styleClass_c5_PropertyMetadata == null) {
+            styleClass_c5_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("combo-box-base","color-picker"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c5_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c11_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c11_PropertyMetadata() {
+        if (styleClass_c11_PropertyMetadata == null) {
+            styleClass_c11_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("combo-box-base","combo-box"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c11_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c8_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c8_PropertyMetadata() {
+        if (styleClass_c8_PropertyMetadata == null) {
+            styleClass_c8_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("context-menu"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c8_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c25_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c25_PropertyMetadata() {
+        if (styleClass_c25_PropertyMetadata == null) {
+            styleClass_c25_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("hyperlink"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c25_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c27_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c27_PropertyMetadata() {
+        if (styleClass_c27_PropertyMetadata == null) {
+            styleClass_c27_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("menu-item","custom-menu-item"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c27_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c9_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c9_PropertyMetadata() {
+        if (styleClass_c9_PropertyMetadata == null) {
+            styleClass_c9_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("combo-box-base","date-picker"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c9_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c30_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c30_PropertyMetadata() {
+        if (styleClass_c30_PropertyMetadata == null) {
+            styleClass_c30_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("dialog-pane"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c30_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c21_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c21_PropertyMetadata() {
+        if (styleClass_c21_PropertyMetadata == null) {
+            styleClass_c21_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("html-editor"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c21_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c20_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c20_PropertyMetadata() {
+        if (styleClass_c20_PropertyMetadata == null) {
+            styleClass_c20_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("image-view"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c20_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c3_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c3_PropertyMetadata() {
+        if (styleClass_c3_PropertyMetadata == null) {
+            styleClass_c3_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("label"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c3_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c34_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c34_PropertyMetadata() {
+        if (styleClass_c34_PropertyMetadata == null) {
+            styleClass_c34_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("list-view"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c34_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c46_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c46_PropertyMetadata() {
+        if (styleClass_c46_PropertyMetadata == null) {
+            styleClass_c46_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("media-view"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c46_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c29_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c29_PropertyMetadata() {
+        if (styleClass_c29_PropertyMetadata == null) {
+            styleClass_c29_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("menu-item","menu"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c29_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c18_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c18_PropertyMetadata() {
+        if (styleClass_c18_PropertyMetadata == null) {
+            styleClass_c18_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("menu-bar"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c18_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c52_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c52_PropertyMetadata() {
+        if (styleClass_c52_PropertyMetadata == null) {
+            styleClass_c52_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("menu-button"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c52_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c36_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c36_PropertyMetadata() {
+        if (styleClass_c36_PropertyMetadata == null) {
+            styleClass_c36_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("menu-item"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c36_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_empty_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_empty_PropertyMetadata() {
+        if (styleClass_empty_PropertyMetadata == null) {
+            styleClass_empty_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Collections.emptyList(), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_empty_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c39_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c39_PropertyMetadata() {
+        if (styleClass_c39_PropertyMetadata == null) {
+            styleClass_c39_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("pagination"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c39_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c53_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c53_PropertyMetadata() {
+        if (styleClass_c53_PropertyMetadata == null) {
+            styleClass_c53_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("text-input","text-field","password-field"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c53_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c13_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c13_PropertyMetadata() {
+        if (styleClass_c13_PropertyMetadata == null) {
+            styleClass_c13_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("progress-bar"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c13_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c50_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c50_PropertyMetadata() {
+        if (styleClass_c50_PropertyMetadata == null) {
+            styleClass_c50_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("progress-indicator"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c50_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c7_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c7_PropertyMetadata() {
+        if (styleClass_c7_PropertyMetadata == null) {
+            styleClass_c7_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("menu-item","radio-menu-item"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c7_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c33_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c33_PropertyMetadata() {
+        if (styleClass_c33_PropertyMetadata == null) {
+            styleClass_c33_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("scroll-bar"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c33_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c38_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c38_PropertyMetadata() {
+        if (styleClass_c38_PropertyMetadata == null) {
+            styleClass_c38_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("scroll-pane"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c38_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c31_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c31_PropertyMetadata() {
+        if (styleClass_c31_PropertyMetadata == null) {
+            styleClass_c31_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("separator"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c31_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c23_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c23_PropertyMetadata() {
+        if (styleClass_c23_PropertyMetadata == null) {
+            styleClass_c23_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("menu-item","custom-menu-item","separator-menu-item"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c23_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c40_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c40_PropertyMetadata() {
+        if (styleClass_c40_PropertyMetadata == null) {
+            styleClass_c40_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("slider"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c40_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c24_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c24_PropertyMetadata() {
+        if (styleClass_c24_PropertyMetadata == null) {
+            styleClass_c24_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("spinner"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c24_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c2_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c2_PropertyMetadata() {
+        if (styleClass_c2_PropertyMetadata == null) {
+            styleClass_c2_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("split-menu-button"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c2_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c14_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c14_PropertyMetadata() {
+        if (styleClass_c14_PropertyMetadata == null) {
+            styleClass_c14_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("split-pane"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c14_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c12_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c12_PropertyMetadata() {
+        if (styleClass_c12_PropertyMetadata == null) {
+            styleClass_c12_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("chart","stacked-bar-chart"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c12_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c19_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c19_PropertyMetadata() {
+        if (styleClass_c19_PropertyMetadata == null) {
+            styleClass_c19_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("tab"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c19_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c6_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c6_PropertyMetadata() {
+        if (styleClass_c6_PropertyMetadata == null) {
+            styleClass_c6_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("tab-pane"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c6_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c42_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c42_PropertyMetadata() {
+        if (styleClass_c42_PropertyMetadata == null) {
+            styleClass_c42_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("table-column"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c42_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c49_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c49_PropertyMetadata() {
+        if (styleClass_c49_PropertyMetadata == null) {
+            styleClass_c49_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("table-view"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c49_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c51_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c51_PropertyMetadata() {
+        if (styleClass_c51_PropertyMetadata == null) {
+            styleClass_c51_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("text-input","text-area"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c51_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c47_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c47_PropertyMetadata() {
+        if (styleClass_c47_PropertyMetadata == null) {
+            styleClass_c47_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("text-input","text-field"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c47_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c26_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c26_PropertyMetadata() {
+        if (styleClass_c26_PropertyMetadata == null) {
+            styleClass_c26_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("titled-pane"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c26_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c44_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c44_PropertyMetadata() {
+        if (styleClass_c44_PropertyMetadata == null) {
+            styleClass_c44_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("toggle-button"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c44_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c16_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c16_PropertyMetadata() {
+        if (styleClass_c16_PropertyMetadata == null) {
+            styleClass_c16_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("tool-bar"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c16_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c15_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c15_PropertyMetadata() {
+        if (styleClass_c15_PropertyMetadata == null) {
+            styleClass_c15_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("tooltip"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c15_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c32_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c32_PropertyMetadata() {
+        if (styleClass_c32_PropertyMetadata == null) {
+            styleClass_c32_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("tree-table-view"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c32_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c22_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c22_PropertyMetadata() {
+        if (styleClass_c22_PropertyMetadata == null) {
+            styleClass_c22_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("tree-view"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c22_PropertyMetadata;
+    }
+    private ValuePropertyMetadata styleClass_c48_PropertyMetadata;
+    private ValuePropertyMetadata styleClass_c48_PropertyMetadata() {
+        if (styleClass_c48_PropertyMetadata == null) {
+            styleClass_c48_PropertyMetadata =
+                    new StringListPropertyMetadata(
+                        styleClassName,
+                        true, /* readWrite */
+                        Arrays.asList("web-view"), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 1));
+        }
+        return styleClass_c48_PropertyMetadata;
+    }
+    private ValuePropertyMetadata stylesheetsPropertyMetadata;
+    private ValuePropertyMetadata stylesheetsPropertyMetadata() {
+        if (stylesheetsPropertyMetadata == null) {
+            stylesheetsPropertyMetadata =
+                    new StringListPropertyMetadata(
+                        stylesheetsName,
+                        true, /* readWrite */
+                        Collections.emptyList(), /* defaultValue */
+                        new InspectorPath("Properties", "JavaFX CSS", 2));
+        }
+        return stylesheetsPropertyMetadata;
+    }
+    private ValuePropertyMetadata sweepFlagPropertyMetadata;
+    private ValuePropertyMetadata sweepFlagPropertyMetadata() {
+        if (sweepFlagPropertyMetadata == null) {
+            sweepFlagPropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        sweepFlagName,
+                        true, /* readWrite */
+                        false, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 124));
+        }
+        return sweepFlagPropertyMetadata;
+    }
+    private ValuePropertyMetadata tabClosingPolicyPropertyMetadata;
+    private ValuePropertyMetadata tabClosingPolicyPropertyMetadata() {
+        if (tabClosingPolicyPropertyMetadata == null) {
+            tabClosingPolicyPropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        tabClosingPolicyName,
+                        javafx.scene.control.TabPane.TabClosingPolicy.class,
+                        true, /* readWrite */
+                        javafx.scene.control.TabPane.TabClosingPolicy.SELECTED_TAB, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 57));
+        }
+        return tabClosingPolicyPropertyMetadata;
+    }
+    private ValuePropertyMetadata tableMenuButtonVisiblePropertyMetadata;
+    private ValuePropertyMetadata tableMenuButtonVisiblePropertyMetadata() {
+        if (tableMenuButtonVisiblePropertyMetadata == null) {
+            tableMenuButtonVisiblePropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        tableMenuButtonVisibleName,
+                        true, /* readWrite */
+                        false, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 58));
+        }
+        return tableMenuButtonVisiblePropertyMetadata;
+    }
+    private ValuePropertyMetadata tabMaxHeightPropertyMetadata;
+    private ValuePropertyMetadata tabMaxHeightPropertyMetadata() {
+        if (tabMaxHeightPropertyMetadata == null) {
+            tabMaxHeightPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        tabMaxHeightName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        Double.MAX_VALUE, /* defaultValue */
+                        new InspectorPath("Layout", "Specific", 15));
+        }
+        return tabMaxHeightPropertyMetadata;
+    }
+    private ValuePropertyMetadata tabMaxWidthPropertyMetadata;
+    private ValuePropertyMetadata tabMaxWidthPropertyMetadata() {
+        if (tabMaxWidthPropertyMetadata == null) {
+            tabMaxWidthPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        tabMaxWidthName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        Double.MAX_VALUE, /* defaultValue */
+                        new InspectorPath("Layout", "Specific", 14));
+        }
+        return tabMaxWidthPropertyMetadata;
+    }
+    private ValuePropertyMetadata tabMinHeightPropertyMetadata;
+    private ValuePropertyMetadata tabMinHeightPropertyMetadata() {
+        if (tabMinHeightPropertyMetadata == null) {
+            tabMinHeightPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        tabMinHeightName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Specific", 13));
+        }
+        return tabMinHeightPropertyMetadata;
+    }
+    private ValuePropertyMetadata tabMinWidthPropertyMetadata;
+    private ValuePropertyMetadata tabMinWidthPropertyMetadata() {
+        if (tabMinWidthPropertyMetadata == null) {
+            tabMinWidthPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        tabMinWidthName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Specific", 12));
+        }
+        return tabMinWidthPropertyMetadata;
+    }
+    private ComponentPropertyMetadata tabsPropertyMetadata;
+    private ComponentPropertyMetadata tabsPropertyMetadata() {
+        if (tabsPropertyMetadata == null) {
+            tabsPropertyMetadata =
+                    new ComponentPropertyMetadata(
+                        tabsName,
+                        TabMetadata,
+                        true); /* collection */
+        }
+        return tabsPropertyMetadata;
+    }
+    private ValuePropertyMetadata textPropertyMetadata;
+    private ValuePropertyMetadata textPropertyMetadata() {
+        if (textPropertyMetadata == null) {
+            textPropertyMetadata =
+                    new StringPropertyMetadata(
+                        textName,
+                        true, /* readWrite */
+                        "", /* defaultValue */
+                        new InspectorPath("Properties", "Text", 4));
+        }
+        return textPropertyMetadata;
+    }
+    private ValuePropertyMetadata textAlignmentPropertyMetadata;
+    private ValuePropertyMetadata textAlignmentPropertyMetadata() {
+        if (textAlignmentPropertyMetadata == null) {
+            textAlignmentPropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        textAlignmentName,
+                        javafx.scene.text.TextAlignment.class,
+                        true, /* readWrite */
+                        javafx.scene.text.TextAlignment.LEFT, /* defaultValue */
+                        new InspectorPath("Properties", "Text", 9));
+        }
+        return textAlignmentPropertyMetadata;
+    }
+    private ValuePropertyMetadata textFillPropertyMetadata;
+    private ValuePropertyMetadata textFillPropertyMetadata() {
+        if (textFillPropertyMetadata == null) {
+            textFillPropertyMetadata =
+                    new PaintPropertyMetadata(
+                        textFillName,
+                        true, /* readWrite */
+                        javafx.scene.paint.Color.BLACK, /* defaultValue */
+                        new InspectorPath("Properties", "Text", 7));
+        }
+        return textFillPropertyMetadata;
+    }
+    private ComponentPropertyMetadata textFormatterPropertyMetadata;
+    private ComponentPropertyMetadata textFormatterPropertyMetadata() {
+        if (textFormatterPropertyMetadata == null) {
+            textFormatterPropertyMetadata =
+                    new ComponentPropertyMetadata(
+                        textFormatterName,
+                        TextFormatterMetadata,
+                        false); /* collection */
+        }
+        return textFormatterPropertyMetadata;
+    }
+    private ValuePropertyMetadata textOriginPropertyMetadata;
+    private ValuePropertyMetadata textOriginPropertyMetadata() {
+        if (textOriginPropertyMetadata == null) {
+            textOriginPropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        textOriginName,
+                        javafx.geometry.VPos.class,
+                        true, /* readWrite */
+                        javafx.geometry.VPos.BASELINE, /* defaultValue */
+                        new InspectorPath("Layout", "Extras", 6));
+        }
+        return textOriginPropertyMetadata;
+    }
+    private ValuePropertyMetadata textOverrunPropertyMetadata;
+    private ValuePropertyMetadata textOverrunPropertyMetadata() {
+        if (textOverrunPropertyMetadata == null) {
+            textOverrunPropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        textOverrunName,
+                        javafx.scene.control.OverrunStyle.class,
+                        true, /* readWrite */
+                        javafx.scene.control.OverrunStyle.ELLIPSIS, /* defaultValue */
+                        new InspectorPath("Properties", "Text", 11));
+        }
+        return textOverrunPropertyMetadata;
+    }
+    private ValuePropertyMetadata tickLabelFillPropertyMetadata;
+    private ValuePropertyMetadata tickLabelFillPropertyMetadata() {
+        if (tickLabelFillPropertyMetadata == null) {
+            tickLabelFillPropertyMetadata =
+                    new PaintPropertyMetadata(
+                        tickLabelFillName,
+                        true, /* readWrite */
+                        javafx.scene.paint.Color.BLACK, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 97));
+        }
+        return tickLabelFillPropertyMetadata;
+    }
+    private ValuePropertyMetadata tickLabelFontPropertyMetadata;
+    private ValuePropertyMetadata tickLabelFontPropertyMetadata() {
+        if (tickLabelFontPropertyMetadata == null) {
+            tickLabelFontPropertyMetadata =
+                    new FontPropertyMetadata(
+                        tickLabelFontName,
+                        true, /* readWrite */
+                        javafx.scene.text.Font.font("System",8.0), /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 93));
+        }
+        return tickLabelFontPropertyMetadata;
+    }
+    private ValuePropertyMetadata tickLabelFormatterPropertyMetadata;
+    private ValuePropertyMetadata tickLabelFormatterPropertyMetadata() {
+        if (tickLabelFormatterPropertyMetadata == null) {
+            tickLabelFormatterPropertyMetadata =
+                    new StringConverterPropertyMetadata(
+                        tickLabelFormatterName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 86));
+        }
+        return tickLabelFormatterPropertyMetadata;
+    }
+    private ValuePropertyMetadata tickLabelGapPropertyMetadata;
+    private ValuePropertyMetadata tickLabelGapPropertyMetadata() {
+        if (tickLabelGapPropertyMetadata == null) {
+            tickLabelGapPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        tickLabelGapName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        3.0, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 103));
+        }
+        return tickLabelGapPropertyMetadata;
+    }
+    private ValuePropertyMetadata tickLabelRotationPropertyMetadata;
+    private ValuePropertyMetadata tickLabelRotationPropertyMetadata() {
+        if (tickLabelRotationPropertyMetadata == null) {
+            tickLabelRotationPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        tickLabelRotationName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.ANGLE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 112));
+        }
+        return tickLabelRotationPropertyMetadata;
+    }
+    private ValuePropertyMetadata tickLabelsVisiblePropertyMetadata;
+    private ValuePropertyMetadata tickLabelsVisiblePropertyMetadata() {
+        if (tickLabelsVisiblePropertyMetadata == null) {
+            tickLabelsVisiblePropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        tickLabelsVisibleName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 85));
+        }
+        return tickLabelsVisiblePropertyMetadata;
+    }
+    private ValuePropertyMetadata tickLengthPropertyMetadata;
+    private ValuePropertyMetadata tickLengthPropertyMetadata() {
+        if (tickLengthPropertyMetadata == null) {
+            tickLengthPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        tickLengthName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        8.0, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 116));
+        }
+        return tickLengthPropertyMetadata;
+    }
+    private ValuePropertyMetadata tickMarksPropertyMetadata;
+    private ValuePropertyMetadata tickMarksPropertyMetadata() {
+        if (tickMarksPropertyMetadata == null) {
+            tickMarksPropertyMetadata =
+                    new TickMarkListPropertyMetadata(
+                        tickMarksName,
+                        true, /* readWrite */
+                        Collections.emptyList(), /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 84));
+        }
+        return tickMarksPropertyMetadata;
+    }
+    private ValuePropertyMetadata tickMarkVisiblePropertyMetadata;
+    private ValuePropertyMetadata tickMarkVisiblePropertyMetadata() {
+        if (tickMarkVisiblePropertyMetadata == null) {
+            tickMarkVisiblePropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        tickMarkVisibleName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 114));
+        }
+        return tickMarkVisiblePropertyMetadata;
+    }
+    private ValuePropertyMetadata tickUnitPropertyMetadata;
+    private ValuePropertyMetadata tickUnitPropertyMetadata() {
+        if (tickUnitPropertyMetadata == null) {
+            tickUnitPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        tickUnitName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        5.0, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 120));
+        }
+        return tickUnitPropertyMetadata;
+    }
+    private ValuePropertyMetadata tileAlignmentPropertyMetadata;
+    private ValuePropertyMetadata tileAlignmentPropertyMetadata() {
+        if (tileAlignmentPropertyMetadata == null) {
+            tileAlignmentPropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        tileAlignmentName,
+                        javafx.geometry.Pos.class,
+                        true, /* readWrite */
+                        javafx.geometry.Pos.CENTER, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 59));
+        }
+        return tileAlignmentPropertyMetadata;
+    }
+    private ValuePropertyMetadata tileHeightPropertyMetadata;
+    private ValuePropertyMetadata tileHeightPropertyMetadata() {
+        if (tileHeightPropertyMetadata == null) {
+            tileHeightPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        tileHeightName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        false, /* readWrite */
+                        null, /* No defaultValue for R/O property */
+                        new InspectorPath("Layout", "Specific", 21));
+        }
+        return tileHeightPropertyMetadata;
+    }
+    private ValuePropertyMetadata tileWidthPropertyMetadata;
+    private ValuePropertyMetadata tileWidthPropertyMetadata() {
+        if (tileWidthPropertyMetadata == null) {
+            tileWidthPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        tileWidthName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        false, /* readWrite */
+                        null, /* No defaultValue for R/O property */
+                        new InspectorPath("Layout", "Specific", 20));
+        }
+        return tileWidthPropertyMetadata;
+    }
+    private ValuePropertyMetadata titlePropertyMetadata;
+    private ValuePropertyMetadata titlePropertyMetadata() {
+        if (titlePropertyMetadata == null) {
+            titlePropertyMetadata =
+                    new StringPropertyMetadata(
+                        titleName,
+                        true, /* readWrite */
+                        "", /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 37));
+        }
+        return titlePropertyMetadata;
+    }
+    private ValuePropertyMetadata titleSidePropertyMetadata;
+    private ValuePropertyMetadata titleSidePropertyMetadata() {
+        if (titleSidePropertyMetadata == null) {
+            titleSidePropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        titleSideName,
+                        javafx.geometry.Side.class,
+                        true, /* readWrite */
+                        javafx.geometry.Side.TOP, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 60));
+        }
+        return titleSidePropertyMetadata;
+    }
+    private ValuePropertyMetadata toggleGroupPropertyMetadata;
+    private ValuePropertyMetadata toggleGroupPropertyMetadata() {
+        if (toggleGroupPropertyMetadata == null) {
+            toggleGroupPropertyMetadata =
+                    new ToggleGroupPropertyMetadata(
+                        toggleGroupName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 38));
+        }
+        return toggleGroupPropertyMetadata;
+    }
+    private ComponentPropertyMetadata tooltipPropertyMetadata;
+    private ComponentPropertyMetadata tooltipPropertyMetadata() {
+        if (tooltipPropertyMetadata == null) {
+            tooltipPropertyMetadata =
+                    new ComponentPropertyMetadata(
+                        tooltipName,
+                        TooltipMetadata,
+                        false); /* collection */
+        }
+        return tooltipPropertyMetadata;
+    }
+    private ComponentPropertyMetadata topPropertyMetadata;
+    private ComponentPropertyMetadata topPropertyMetadata() {
+        if (topPropertyMetadata == null) {
+            topPropertyMetadata =
+                    new ComponentPropertyMetadata(
+                        topName,
+                        NodeMetadata,
+                        false); /* collection */
+        }
+        return topPropertyMetadata;
+    }
+    private ValuePropertyMetadata translateXPropertyMetadata;
+    private ValuePropertyMetadata translateXPropertyMetadata() {
+        if (translateXPropertyMetadata == null) {
+            translateXPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        translateXName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Transforms", 5));
+        }
+        return translateXPropertyMetadata;
+    }
+    private ValuePropertyMetadata translateYPropertyMetadata;
+    private ValuePropertyMetadata translateYPropertyMetadata() {
+        if (translateYPropertyMetadata == null) {
+            translateYPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        translateYName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Transforms", 6));
+        }
+        return translateYPropertyMetadata;
+    }
+    private ValuePropertyMetadata translateZPropertyMetadata;
+    private ValuePropertyMetadata translateZPropertyMetadata() {
+        if (translateZPropertyMetadata == null) {
+            translateZPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        translateZName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Transforms", 7));
+        }
+        return translateZPropertyMetadata;
+    }
+    private ComponentPropertyMetadata treeColumnPropertyMetadata;
+    private ComponentPropertyMetadata treeColumnPropertyMetadata() {
+        if (treeColumnPropertyMetadata == null) {
+            treeColumnPropertyMetadata =
+                    new ComponentPropertyMetadata(
+                        treeColumnName,
+                        TreeTableColumnMetadata,
+                        false); /* collection */
+        }
+        return treeColumnPropertyMetadata;
+    }
+    private ValuePropertyMetadata typePropertyMetadata;
+    private ValuePropertyMetadata typePropertyMetadata() {
+        if (typePropertyMetadata == null) {
+            typePropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        typeName,
+                        javafx.scene.shape.ArcType.class,
+                        true, /* readWrite */
+                        javafx.scene.shape.ArcType.OPEN, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 61));
+        }
+        return typePropertyMetadata;
+    }
+    private ValuePropertyMetadata underlinePropertyMetadata;
+    private ValuePropertyMetadata underlinePropertyMetadata() {
+        if (underlinePropertyMetadata == null) {
+            underlinePropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        underlineName,
+                        true, /* readWrite */
+                        false, /* defaultValue */
+                        new InspectorPath("Properties", "Text", 14));
+        }
+        return underlinePropertyMetadata;
+    }
+    private ValuePropertyMetadata unitIncrementPropertyMetadata;
+    private ValuePropertyMetadata unitIncrementPropertyMetadata() {
+        if (unitIncrementPropertyMetadata == null) {
+            unitIncrementPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        unitIncrementName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        1.0, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 69));
+        }
+        return unitIncrementPropertyMetadata;
+    }
+    private ValuePropertyMetadata upperBoundPropertyMetadata;
+    private ValuePropertyMetadata upperBoundPropertyMetadata() {
+        if (upperBoundPropertyMetadata == null) {
+            upperBoundPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        upperBoundName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        100.0, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 98));
+        }
+        return upperBoundPropertyMetadata;
+    }
+    private ValuePropertyMetadata useSystemMenuBarPropertyMetadata;
+    private ValuePropertyMetadata useSystemMenuBarPropertyMetadata() {
+        if (useSystemMenuBarPropertyMetadata == null) {
+            useSystemMenuBarPropertyMetadata =
+                    new BooleanPropertyMetadata(useSystemMenuBarName,
+                            true, /* readWrite */
+                            false,
+                            new InspectorPath("Properties", "Node", 25));
+        }
+        return useSystemMenuBarPropertyMetadata;
+    }
+    private ValuePropertyMetadata userAgentStylesheetPropertyMetadata;
+    private ValuePropertyMetadata userAgentStylesheetPropertyMetadata() {
+        if (userAgentStylesheetPropertyMetadata == null) {
+            userAgentStylesheetPropertyMetadata =
+                    new StringPropertyMetadata(
+                        userAgentStylesheetName,
+                        true, /* readWrite */
+                        "", /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 129));
+        }
+        return userAgentStylesheetPropertyMetadata;
+    }
+    private ValuePropertyMetadata valignment_NULL_PropertyMetadata;
+    private ValuePropertyMetadata valignment_NULL_PropertyMetadata() {
+        if (valignment_NULL_PropertyMetadata == null) {
+            valignment_NULL_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        valignmentName,
+                        javafx.geometry.VPos.class,
+                        "INHERIT", /* null equivalent */
+                        true, /* readWrite */
+                        new InspectorPath("Layout", "Specific", 5));
+        }
+        return valignment_NULL_PropertyMetadata;
+    }
+    private ValuePropertyMetadata valignment_CENTER_PropertyMetadata;
+    private ValuePropertyMetadata valignment_CENTER_PropertyMetadata() {
+        if (valignment_CENTER_PropertyMetadata == null) {
+            valignment_CENTER_PropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        valignmentName,
+                        javafx.geometry.VPos.class,
+                        true, /* readWrite */
+                        javafx.geometry.VPos.CENTER, /* defaultValue */
+                        new InspectorPath("Layout", "Specific", 5));
+        }
+        return valignment_CENTER_PropertyMetadata;
+    }
+    private ValuePropertyMetadata value_Object_PropertyMetadata;
+    private ValuePropertyMetadata value_Object_PropertyMetadata() {
+        if (value_Object_PropertyMetadata == null) {
+            value_Object_PropertyMetadata =
+                    new ObjectPropertyMetadata(
+                        valueName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 70));
+        }
+        return value_Object_PropertyMetadata;
+    }
+    private ValuePropertyMetadata value_Color_PropertyMetadata;
+    private ValuePropertyMetadata value_Color_PropertyMetadata() {
+        if (value_Color_PropertyMetadata == null) {
+            value_Color_PropertyMetadata =
+                    new ColorPropertyMetadata(
+                        valueName,
+                        true, /* readWrite */
+                        javafx.scene.paint.Color.WHITE, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 70));
+        }
+        return value_Color_PropertyMetadata;
+    }
+    private ValuePropertyMetadata value_Double_PropertyMetadata;
+    private ValuePropertyMetadata value_Double_PropertyMetadata() {
+        if (value_Double_PropertyMetadata == null) {
+            value_Double_PropertyMetadata =
+                    new DoublePropertyMetadata(
+                        valueName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 70));
+        }
+        return value_Double_PropertyMetadata;
+    }
+    private ValuePropertyMetadata value_Object_ro_PropertyMetadata;
+    private ValuePropertyMetadata value_Object_ro_PropertyMetadata() {
+        if (value_Object_ro_PropertyMetadata == null) {
+            value_Object_ro_PropertyMetadata =
+                    new ObjectPropertyMetadata(
+                        valueName,
+                        false, /* readWrite */
+                        null, /* No defaultValue for R/O property */
+                        new InspectorPath("Properties", "Specific", 70));
+        }
+        return value_Object_ro_PropertyMetadata;
+    }
+    private ValuePropertyMetadata vbarPolicyPropertyMetadata;
+    private ValuePropertyMetadata vbarPolicyPropertyMetadata() {
+        if (vbarPolicyPropertyMetadata == null) {
+            vbarPolicyPropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        vbarPolicyName,
+                        javafx.scene.control.ScrollPane.ScrollBarPolicy.class,
+                        true, /* readWrite */
+                        javafx.scene.control.ScrollPane.ScrollBarPolicy.AS_NEEDED, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 71));
+        }
+        return vbarPolicyPropertyMetadata;
+    }
+    private ValuePropertyMetadata verticalFieldOfViewPropertyMetadata;
+    private ValuePropertyMetadata verticalFieldOfViewPropertyMetadata() {
+        if (verticalFieldOfViewPropertyMetadata == null) {
+            verticalFieldOfViewPropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        verticalFieldOfViewName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Properties", "3D", 5));
+        }
+        return verticalFieldOfViewPropertyMetadata;
+    }
+    private ValuePropertyMetadata verticalGridLinesVisiblePropertyMetadata;
+    private ValuePropertyMetadata verticalGridLinesVisiblePropertyMetadata() {
+        if (verticalGridLinesVisiblePropertyMetadata == null) {
+            verticalGridLinesVisiblePropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        verticalGridLinesVisibleName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 115));
+        }
+        return verticalGridLinesVisiblePropertyMetadata;
+    }
+    private ValuePropertyMetadata verticalZeroLineVisiblePropertyMetadata;
+    private ValuePropertyMetadata verticalZeroLineVisiblePropertyMetadata() {
+        if (verticalZeroLineVisiblePropertyMetadata == null) {
+            verticalZeroLineVisiblePropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        verticalZeroLineVisibleName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 117));
+        }
+        return verticalZeroLineVisiblePropertyMetadata;
+    }
+    private ValuePropertyMetadata vgapPropertyMetadata;
+    private ValuePropertyMetadata vgapPropertyMetadata() {
+        if (vgapPropertyMetadata == null) {
+            vgapPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        vgapName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Internal", 1));
+        }
+        return vgapPropertyMetadata;
+    }
+    private ValuePropertyMetadata vgrowPropertyMetadata;
+    private ValuePropertyMetadata vgrowPropertyMetadata() {
+        if (vgrowPropertyMetadata == null) {
+            vgrowPropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        vgrowName,
+                        javafx.scene.layout.Priority.class,
+                        "INHERIT", /* null equivalent */
+                        true, /* readWrite */
+                        new InspectorPath("Layout", "Specific", 3));
+        }
+        return vgrowPropertyMetadata;
+    }
+    private ValuePropertyMetadata viewportPropertyMetadata;
+    private ValuePropertyMetadata viewportPropertyMetadata() {
+        if (viewportPropertyMetadata == null) {
+            viewportPropertyMetadata =
+                    new Rectangle2DPropertyMetadata(
+                        viewportName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Layout", "Specific", 0));
+        }
+        return viewportPropertyMetadata;
+    }
+    private ValuePropertyMetadata viewportBoundsPropertyMetadata;
+    private ValuePropertyMetadata viewportBoundsPropertyMetadata() {
+        if (viewportBoundsPropertyMetadata == null) {
+            viewportBoundsPropertyMetadata =
+                    new BoundsPropertyMetadata(
+                        viewportBoundsName,
+                        true, /* readWrite */
+                        new javafx.geometry.BoundingBox(0.0, 0.0, 0.0, 0.0), /* defaultValue */
+                        new InspectorPath("Layout", "Bounds", 1));
+        }
+        return viewportBoundsPropertyMetadata;
+    }
+    private ValuePropertyMetadata visiblePropertyMetadata;
+    private ValuePropertyMetadata visiblePropertyMetadata() {
+        if (visiblePropertyMetadata == null) {
+            visiblePropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        visibleName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Properties", "Node", 5));
+        }
+        return visiblePropertyMetadata;
+    }
+    private ValuePropertyMetadata visibleAmountPropertyMetadata;
+    private ValuePropertyMetadata visibleAmountPropertyMetadata() {
+        if (visibleAmountPropertyMetadata == null) {
+            visibleAmountPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        visibleAmountName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        15.0, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 87));
+        }
+        return visibleAmountPropertyMetadata;
+    }
+    private ValuePropertyMetadata visibleRowCountPropertyMetadata;
+    private ValuePropertyMetadata visibleRowCountPropertyMetadata() {
+        if (visibleRowCountPropertyMetadata == null) {
+            visibleRowCountPropertyMetadata =
+                    new IntegerPropertyMetadata(
+                        visibleRowCountName,
+                        true, /* readWrite */
+                        10, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 41));
+        }
+        return visibleRowCountPropertyMetadata;
+    }
+    private ValuePropertyMetadata visitedPropertyMetadata;
+    private ValuePropertyMetadata visitedPropertyMetadata() {
+        if (visitedPropertyMetadata == null) {
+            visitedPropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        visitedName,
+                        true, /* readWrite */
+                        false, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 42));
+        }
+        return visitedPropertyMetadata;
+    }
+    private ValuePropertyMetadata vmaxPropertyMetadata;
+    private ValuePropertyMetadata vmaxPropertyMetadata() {
+        if (vmaxPropertyMetadata == null) {
+            vmaxPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        vmaxName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        1.0, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 109));
+        }
+        return vmaxPropertyMetadata;
+    }
+    private ValuePropertyMetadata vminPropertyMetadata;
+    private ValuePropertyMetadata vminPropertyMetadata() {
+        if (vminPropertyMetadata == null) {
+            vminPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        vminName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 105));
+        }
+        return vminPropertyMetadata;
+    }
+    private ValuePropertyMetadata vvaluePropertyMetadata;
+    private ValuePropertyMetadata vvaluePropertyMetadata() {
+        if (vvaluePropertyMetadata == null) {
+            vvaluePropertyMetadata =
+                    new DoublePropertyMetadata(
+                        vvalueName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 107));
+        }
+        return vvaluePropertyMetadata;
+    }
+    private ValuePropertyMetadata width_Double_200_PropertyMetadata;
+    private ValuePropertyMetadata width_Double_200_PropertyMetadata() {
+        if (width_Double_200_PropertyMetadata == null) {
+            width_Double_200_PropertyMetadata =
+                    new DoublePropertyMetadata(
+                        widthName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        2.0, /* defaultValue */
+                        new InspectorPath("Layout", "Size", 7));
+        }
+        return width_Double_200_PropertyMetadata;
+    }
+    private ValuePropertyMetadata width_Double_0_PropertyMetadata;
+    private ValuePropertyMetadata width_Double_0_PropertyMetadata() {
+        if (width_Double_0_PropertyMetadata == null) {
+            width_Double_0_PropertyMetadata =
+                    new DoublePropertyMetadata(
+                        widthName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Size", 7));
+        }
+        return width_Double_0_PropertyMetadata;
+    }
+    private ValuePropertyMetadata width_Double_COMPUTED_PropertyMetadata;
+    private ValuePropertyMetadata width_Double_COMPUTED_PropertyMetadata() {
+        if (width_Double_COMPUTED_PropertyMetadata == null) {
+            width_Double_COMPUTED_PropertyMetadata =
+                    new DoublePropertyMetadata(
+                        widthName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.USE_COMPUTED_SIZE,
+                        true, /* readWrite */
+                        -1.0, /* defaultValue */
+                        new InspectorPath("Layout", "Size", 7));
+        }
+        return width_Double_COMPUTED_PropertyMetadata;
+    }
+    private ValuePropertyMetadata width_Double_ro_PropertyMetadata;
+    private ValuePropertyMetadata width_Double_ro_PropertyMetadata() {
+        if (width_Double_ro_PropertyMetadata == null) {
+            width_Double_ro_PropertyMetadata =
+                    new DoublePropertyMetadata(
+                        widthName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        false, /* readWrite */
+                        null, /* No defaultValue for R/O property */
+                        new InspectorPath("Layout", "Size", 7));
+        }
+        return width_Double_ro_PropertyMetadata;
+    }
+    private ValuePropertyMetadata wrappingWidthPropertyMetadata;
+    private ValuePropertyMetadata wrappingWidthPropertyMetadata() {
+        if (wrappingWidthPropertyMetadata == null) {
+            wrappingWidthPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        wrappingWidthName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Properties", "Text", 10));
+        }
+        return wrappingWidthPropertyMetadata;
+    }
+    private ValuePropertyMetadata wrapTextPropertyMetadata;
+    private ValuePropertyMetadata wrapTextPropertyMetadata() {
+        if (wrapTextPropertyMetadata == null) {
+            wrapTextPropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        wrapTextName,
+                        true, /* readWrite */
+                        false, /* defaultValue */
+                        new InspectorPath("Properties", "Text", 8));
+        }
+        return wrapTextPropertyMetadata;
+    }
+    private ValuePropertyMetadata x_0_PropertyMetadata;
+    private ValuePropertyMetadata x_0_PropertyMetadata() {
+        if (x_0_PropertyMetadata == null) {
+            x_0_PropertyMetadata =
+                    new DoublePropertyMetadata(
+                        xName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Position", 12));
+        }
+        return x_0_PropertyMetadata;
+    }
+    private ValuePropertyMetadata x_NaN_PropertyMetadata;
+    private ValuePropertyMetadata x_NaN_PropertyMetadata() {
+        if (x_NaN_PropertyMetadata == null) {
+            x_NaN_PropertyMetadata =
+                    new DoublePropertyMetadata(
+                        xName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        Double.NaN, /* defaultValue */
+                        new InspectorPath("Layout", "Position", 12));
+        }
+        return x_NaN_PropertyMetadata;
+    }
+    private ComponentPropertyMetadata xAxisPropertyMetadata;
+    private ComponentPropertyMetadata xAxisPropertyMetadata() {
+        if (xAxisPropertyMetadata == null) {
+            xAxisPropertyMetadata =
+                    new ComponentPropertyMetadata(
+                            xAxisName,
+                        AxisMetadata,
+                        false); /* collection */
+        }
+        return xAxisPropertyMetadata;
+    }
+    private ValuePropertyMetadata XAxisRotationPropertyMetadata;
+    private ValuePropertyMetadata XAxisRotationPropertyMetadata() {
+        if (XAxisRotationPropertyMetadata == null) {
+            XAxisRotationPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        XAxisRotationName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.ANGLE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 125));
+        }
+        return XAxisRotationPropertyMetadata;
+    }
+    private ValuePropertyMetadata y_0_PropertyMetadata;
+    private ValuePropertyMetadata y_0_PropertyMetadata() {
+        if (y_0_PropertyMetadata == null) {
+            y_0_PropertyMetadata =
+                    new DoublePropertyMetadata(
+                        yName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        0.0, /* defaultValue */
+                        new InspectorPath("Layout", "Position", 13));
+        }
+        return y_0_PropertyMetadata;
+    }
+    private ValuePropertyMetadata y_NaN_PropertyMetadata;
+    private ValuePropertyMetadata y_NaN_PropertyMetadata() {
+        if (y_NaN_PropertyMetadata == null) {
+            y_NaN_PropertyMetadata =
+                    new DoublePropertyMetadata(
+                        yName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        true, /* readWrite */
+                        Double.NaN, /* defaultValue */
+                        new InspectorPath("Layout", "Position", 13));
+        }
+        return y_NaN_PropertyMetadata;
+    }
+    private ComponentPropertyMetadata yAxisPropertyMetadata;
+    private ComponentPropertyMetadata yAxisPropertyMetadata() {
+        if (yAxisPropertyMetadata == null) {
+            yAxisPropertyMetadata =
+                    new ComponentPropertyMetadata(
+                            yAxisName,
+                        AxisMetadata,
+                        false); /* collection */
+        }
+        return yAxisPropertyMetadata;
+    }
+    private ValuePropertyMetadata zeroPositionPropertyMetadata;
+    private ValuePropertyMetadata zeroPositionPropertyMetadata() {
+        if (zeroPositionPropertyMetadata == null) {
+            zeroPositionPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        zeroPositionName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.COORDINATE,
+                        false, /* readWrite */
+                        null, /* No defaultValue for R/O property */
+                        new InspectorPath("Properties", "Specific", 118));
+        }
+        return zeroPositionPropertyMetadata;
+    }
+    private ValuePropertyMetadata zoomPropertyMetadata;
+    private ValuePropertyMetadata zoomPropertyMetadata() {
+        if (zoomPropertyMetadata == null) {
+            zoomPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        zoomName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.SIZE,
+                        true, /* readWrite */
+                        1.0, /* defaultValue */
+                        new InspectorPath("Properties", "Specific", 123));
+        }
+        return zoomPropertyMetadata;
+    }
+    private ValuePropertyMetadata SplitPane_resizableWithParentPropertyMetadata;
+    private ValuePropertyMetadata SplitPane_resizableWithParentPropertyMetadata() {
+        if (SplitPane_resizableWithParentPropertyMetadata == null) {
+            SplitPane_resizableWithParentPropertyMetadata =
+                    new BooleanPropertyMetadata(
+                        SplitPane_resizableWithParentName,
+                        true, /* readWrite */
+                        true, /* defaultValue */
+                        new InspectorPath("Layout", "Split Pane Constraints", 0));
+        }
+        return SplitPane_resizableWithParentPropertyMetadata;
+    }
+    private ValuePropertyMetadata AnchorPane_bottomAnchorPropertyMetadata;
+    private ValuePropertyMetadata AnchorPane_bottomAnchorPropertyMetadata() {
+        if (AnchorPane_bottomAnchorPropertyMetadata == null) {
+            AnchorPane_bottomAnchorPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        AnchorPane_bottomAnchorName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.NULLABLE_COORDINATE,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Layout", "Anchor Pane Constraints", 0));
+        }
+        return AnchorPane_bottomAnchorPropertyMetadata;
+    }
+    private ValuePropertyMetadata AnchorPane_leftAnchorPropertyMetadata;
+    private ValuePropertyMetadata AnchorPane_leftAnchorPropertyMetadata() {
+        if (AnchorPane_leftAnchorPropertyMetadata == null) {
+            AnchorPane_leftAnchorPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        AnchorPane_leftAnchorName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.NULLABLE_COORDINATE,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Layout", "Anchor Pane Constraints", 1));
+        }
+        return AnchorPane_leftAnchorPropertyMetadata;
+    }
+    private ValuePropertyMetadata AnchorPane_rightAnchorPropertyMetadata;
+    private ValuePropertyMetadata AnchorPane_rightAnchorPropertyMetadata() {
+        if (AnchorPane_rightAnchorPropertyMetadata == null) {
+            AnchorPane_rightAnchorPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        AnchorPane_rightAnchorName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.NULLABLE_COORDINATE,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Layout", "Anchor Pane Constraints", 2));
+        }
+        return AnchorPane_rightAnchorPropertyMetadata;
+    }
+    private ValuePropertyMetadata AnchorPane_topAnchorPropertyMetadata;
+    private ValuePropertyMetadata AnchorPane_topAnchorPropertyMetadata() {
+        if (AnchorPane_topAnchorPropertyMetadata == null) {
+            AnchorPane_topAnchorPropertyMetadata =
+                    new DoublePropertyMetadata(
+                        AnchorPane_topAnchorName,
+                        com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoublePropertyMetadata.DoubleKind.NULLABLE_COORDINATE,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Layout", "Anchor Pane Constraints", 3));
+        }
+        return AnchorPane_topAnchorPropertyMetadata;
+    }
+    private ValuePropertyMetadata BorderPane_alignmentPropertyMetadata;
+    private ValuePropertyMetadata BorderPane_alignmentPropertyMetadata() {
+        if (BorderPane_alignmentPropertyMetadata == null) {
+            BorderPane_alignmentPropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        BorderPane_alignmentName,
+                        javafx.geometry.Pos.class,
+                        "AUTOMATIC", /* null equivalent */
+                        true, /* readWrite */
+                        new InspectorPath("Layout", "Border Pane Constraints", 0));
+        }
+        return BorderPane_alignmentPropertyMetadata;
+    }
+    private ValuePropertyMetadata BorderPane_marginPropertyMetadata;
+    private ValuePropertyMetadata BorderPane_marginPropertyMetadata() {
+        if (BorderPane_marginPropertyMetadata == null) {
+            BorderPane_marginPropertyMetadata =
+                    new InsetsPropertyMetadata(
+                        BorderPane_marginName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Layout", "Border Pane Constraints", 1));
+        }
+        return BorderPane_marginPropertyMetadata;
+    }
+    private ValuePropertyMetadata FlowPane_marginPropertyMetadata;
+    private ValuePropertyMetadata FlowPane_marginPropertyMetadata() {
+        if (FlowPane_marginPropertyMetadata == null) {
+            FlowPane_marginPropertyMetadata =
+                    new InsetsPropertyMetadata(
+                        FlowPane_marginName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Layout", "Flow Pane Constraints", 0));
+        }
+        return FlowPane_marginPropertyMetadata;
+    }
+    private ValuePropertyMetadata GridPane_columnIndexPropertyMetadata;
+    private ValuePropertyMetadata GridPane_columnIndexPropertyMetadata() {
+        if (GridPane_columnIndexPropertyMetadata == null) {
+            GridPane_columnIndexPropertyMetadata =
+                    new IntegerPropertyMetadata(
+                        GridPane_columnIndexName,
+                        true, /* readWrite */
+                        0, /* defaultValue */
+                        new InspectorPath("Layout", "Grid Pane Constraints", 1));
+        }
+        return GridPane_columnIndexPropertyMetadata;
+    }
+    private ValuePropertyMetadata GridPane_columnSpanPropertyMetadata;
+    private ValuePropertyMetadata GridPane_columnSpanPropertyMetadata() {
+        if (GridPane_columnSpanPropertyMetadata == null) {
+            GridPane_columnSpanPropertyMetadata =
+                    new IntegerPropertyMetadata(
+                        GridPane_columnSpanName,
+                        true, /* readWrite */
+                        1, /* defaultValue */
+                        new InspectorPath("Layout", "Grid Pane Constraints", 3));
+        }
+        return GridPane_columnSpanPropertyMetadata;
+    }
+    private ValuePropertyMetadata GridPane_halignmentPropertyMetadata;
+    private ValuePropertyMetadata GridPane_halignmentPropertyMetadata() {
+        if (GridPane_halignmentPropertyMetadata == null) {
+            GridPane_halignmentPropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        GridPane_halignmentName,
+                        javafx.geometry.HPos.class,
+                        "INHERIT", /* null equivalent */
+                        true, /* readWrite */
+                        new InspectorPath("Layout", "Grid Pane Constraints", 7));
+        }
+        return GridPane_halignmentPropertyMetadata;
+    }
+    private ValuePropertyMetadata GridPane_hgrowPropertyMetadata;
+    private ValuePropertyMetadata GridPane_hgrowPropertyMetadata() {
+        if (GridPane_hgrowPropertyMetadata == null) {
+            GridPane_hgrowPropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        GridPane_hgrowName,
+                        javafx.scene.layout.Priority.class,
+                        "INHERIT", /* null equivalent */
+                        true, /* readWrite */
+                        new InspectorPath("Layout", "Grid Pane Constraints", 4));
+        }
+        return GridPane_hgrowPropertyMetadata;
+    }
+    private ValuePropertyMetadata GridPane_marginPropertyMetadata;
+    private ValuePropertyMetadata GridPane_marginPropertyMetadata() {
+        if (GridPane_marginPropertyMetadata == null) {
+            GridPane_marginPropertyMetadata =
+                    new InsetsPropertyMetadata(
+                        GridPane_marginName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Layout", "Grid Pane Constraints", 8));
+        }
+        return GridPane_marginPropertyMetadata;
+    }
+    private ValuePropertyMetadata GridPane_rowIndexPropertyMetadata;
+    private ValuePropertyMetadata GridPane_rowIndexPropertyMetadata() {
+        if (GridPane_rowIndexPropertyMetadata == null) {
+            GridPane_rowIndexPropertyMetadata =
+                    new IntegerPropertyMetadata(
+                        GridPane_rowIndexName,
+                        true, /* readWrite */
+                        0, /* defaultValue */
+                        new InspectorPath("Layout", "Grid Pane Constraints", 0));
+        }
+        return GridPane_rowIndexPropertyMetadata;
+    }
+    private ValuePropertyMetadata GridPane_rowSpanPropertyMetadata;
+    private ValuePropertyMetadata GridPane_rowSpanPropertyMetadata() {
+        if (GridPane_rowSpanPropertyMetadata == null) {
+            GridPane_rowSpanPropertyMetadata =
+                    new IntegerPropertyMetadata(
+                        GridPane_rowSpanName,
+                        true, /* readWrite */
+                        1, /* defaultValue */
+                        new InspectorPath("Layout", "Grid Pane Constraints", 2));
+        }
+        return GridPane_rowSpanPropertyMetadata;
+    }
+    private ValuePropertyMetadata GridPane_valignmentPropertyMetadata;
+    private ValuePropertyMetadata GridPane_valignmentPropertyMetadata() {
+        if (GridPane_valignmentPropertyMetadata == null) {
+            GridPane_valignmentPropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        GridPane_valignmentName,
+                        javafx.geometry.VPos.class,
+                        "INHERIT", /* null equivalent */
+                        true, /* readWrite */
+                        new InspectorPath("Layout", "Grid Pane Constraints", 6));
+        }
+        return GridPane_valignmentPropertyMetadata;
+    }
+    private ValuePropertyMetadata GridPane_vgrowPropertyMetadata;
+    private ValuePropertyMetadata GridPane_vgrowPropertyMetadata() {
+        if (GridPane_vgrowPropertyMetadata == null) {
+            GridPane_vgrowPropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        GridPane_vgrowName,
+                        javafx.scene.layout.Priority.class,
+                        "INHERIT", /* null equivalent */
+                        true, /* readWrite */
+                        new InspectorPath("Layout", "Grid Pane Constraints", 5));
+        }
+        return GridPane_vgrowPropertyMetadata;
+    }
+    private ValuePropertyMetadata HBox_hgrowPropertyMetadata;
+    private ValuePropertyMetadata HBox_hgrowPropertyMetadata() {
+        if (HBox_hgrowPropertyMetadata == null) {
+            HBox_hgrowPropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        HBox_hgrowName,
+                        javafx.scene.layout.Priority.class,
+                        "INHERIT", /* null equivalent */
+                        true, /* readWrite */
+                        new InspectorPath("Layout", "HBox Constraints", 0));
+        }
+        return HBox_hgrowPropertyMetadata;
+    }
+    private ValuePropertyMetadata HBox_marginPropertyMetadata;
+    private ValuePropertyMetadata HBox_marginPropertyMetadata() {
+        if (HBox_marginPropertyMetadata == null) {
+            HBox_marginPropertyMetadata =
+                    new InsetsPropertyMetadata(
+                        HBox_marginName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Layout", "HBox Constraints", 1));
+        }
+        return HBox_marginPropertyMetadata;
+    }
+    private ValuePropertyMetadata StackPane_alignmentPropertyMetadata;
+    private ValuePropertyMetadata StackPane_alignmentPropertyMetadata() {
+        if (StackPane_alignmentPropertyMetadata == null) {
+            StackPane_alignmentPropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        StackPane_alignmentName,
+                        javafx.geometry.Pos.class,
+                        "INHERIT", /* null equivalent */
+                        true, /* readWrite */
+                        new InspectorPath("Layout", "Stack Pane Constraints", 0));
+        }
+        return StackPane_alignmentPropertyMetadata;
+    }
+    private ValuePropertyMetadata StackPane_marginPropertyMetadata;
+    private ValuePropertyMetadata StackPane_marginPropertyMetadata() {
+        if (StackPane_marginPropertyMetadata == null) {
+            StackPane_marginPropertyMetadata =
+                    new InsetsPropertyMetadata(
+                        StackPane_marginName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Layout", "Stack Pane Constraints", 1));
+        }
+        return StackPane_marginPropertyMetadata;
+    }
+    private ValuePropertyMetadata TilePane_alignmentPropertyMetadata;
+    private ValuePropertyMetadata TilePane_alignmentPropertyMetadata() {
+        if (TilePane_alignmentPropertyMetadata == null) {
+            TilePane_alignmentPropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        TilePane_alignmentName,
+                        javafx.geometry.Pos.class,
+                        "INHERIT", /* null equivalent */
+                        true, /* readWrite */
+                        new InspectorPath("Layout", "Tile Pane Constraints", 0));
+        }
+        return TilePane_alignmentPropertyMetadata;
+    }
+    private ValuePropertyMetadata TilePane_marginPropertyMetadata;
+    private ValuePropertyMetadata TilePane_marginPropertyMetadata() {
+        if (TilePane_marginPropertyMetadata == null) {
+            TilePane_marginPropertyMetadata =
+                    new InsetsPropertyMetadata(
+                        TilePane_marginName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Layout", "Tile Pane Constraints", 1));
+        }
+        return TilePane_marginPropertyMetadata;
+    }
+    private ValuePropertyMetadata VBox_marginPropertyMetadata;
+    private ValuePropertyMetadata VBox_marginPropertyMetadata() {
+        if (VBox_marginPropertyMetadata == null) {
+            VBox_marginPropertyMetadata =
+                    new InsetsPropertyMetadata(
+                        VBox_marginName,
+                        true, /* readWrite */
+                        null, /* defaultValue */
+                        new InspectorPath("Layout", "VBox Constraints", 1));
+        }
+        return VBox_marginPropertyMetadata;
+    }
+    private ValuePropertyMetadata VBox_vgrowPropertyMetadata;
+    private ValuePropertyMetadata VBox_vgrowPropertyMetadata() {
+        if (VBox_vgrowPropertyMetadata == null) {
+            VBox_vgrowPropertyMetadata =
+                    new EnumerationPropertyMetadata(
+                        VBox_vgrowName,
+                        javafx.scene.layout.Priority.class,
+                        "INHERIT", /* null equivalent */
+                        true, /* readWrite */
+                        new InspectorPath("Layout", "VBox Constraints", 0));
+        }
+        return VBox_vgrowPropertyMetadata;
+    }
 
-        VLineToMetadata.getProperties().add(y_0_PropertyMetadata);
+    private ValuePropertyMetadata includeFxmlPropertyMetadata;
+    private ValuePropertyMetadata includeFxmlPropertyMetadata() {
+        if (includeFxmlPropertyMetadata == null) {
+            includeFxmlPropertyMetadata =
+                    new StringListPropertyMetadata(
+                            source,
+                            true, /* readWrite */
+                            Collections.emptyList(), /* defaultValue */
+                            new InspectorPath("Properties", "Include FXML file", 2));
+        }
+        return includeFxmlPropertyMetadata;
+    }
 
-        ValueAxisMetadata.getProperties().add(lowerBoundPropertyMetadata);
-        ValueAxisMetadata.getProperties().add(minorTickCount_5_PropertyMetadata);
-        ValueAxisMetadata.getProperties().add(minorTickLengthPropertyMetadata);
-        ValueAxisMetadata.getProperties().add(minorTickVisiblePropertyMetadata);
-        ValueAxisMetadata.getProperties().add(scalePropertyMetadata);
-        ValueAxisMetadata.getProperties().add(styleClass_c45_PropertyMetadata);
-        ValueAxisMetadata.getProperties().add(tickLabelFormatterPropertyMetadata);
-        ValueAxisMetadata.getProperties().add(upperBoundPropertyMetadata);
-        ValueAxisMetadata.getProperties().add(zeroPositionPropertyMetadata);
 
-        WebViewMetadata.getProperties().add(contextMenuEnabledPropertyMetadata);
-        WebViewMetadata.getProperties().add(focusTraversable_true_PropertyMetadata);
-        WebViewMetadata.getProperties().add(fontScalePropertyMetadata);
-        WebViewMetadata.getProperties().add(fontSmoothingType_LCD_PropertyMetadata);
-        WebViewMetadata.getProperties().add(height_Double_ro_PropertyMetadata);
-        WebViewMetadata.getProperties().add(maxHeight_MAX_PropertyMetadata);
-        WebViewMetadata.getProperties().add(maxWidth_MAX_PropertyMetadata);
-        WebViewMetadata.getProperties().add(minHeight_0_PropertyMetadata);
-        WebViewMetadata.getProperties().add(minWidth_0_PropertyMetadata);
-        WebViewMetadata.getProperties().add(nodeOrientation_LEFT_TO_RIGHT_PropertyMetadata);
-        WebViewMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata);
-        WebViewMetadata.getProperties().add(prefHeight_60000_PropertyMetadata);
-        WebViewMetadata.getProperties().add(prefWidth_80000_PropertyMetadata);
-        WebViewMetadata.getProperties().add(resizable_Boolean_ro_PropertyMetadata);
-        WebViewMetadata.getProperties().add(styleClass_c48_PropertyMetadata);
-        WebViewMetadata.getProperties().add(width_Double_ro_PropertyMetadata);
-        WebViewMetadata.getProperties().add(zoomPropertyMetadata);
 
-        WindowMetadata.getProperties().add(height_Double_COMPUTED_PropertyMetadata);
-        WindowMetadata.getProperties().add(onCloseRequestPropertyMetadata);
-        WindowMetadata.getProperties().add(onHiddenPropertyMetadata);
-        WindowMetadata.getProperties().add(onHidingPropertyMetadata);
-        WindowMetadata.getProperties().add(onShowingPropertyMetadata);
-        WindowMetadata.getProperties().add(onShownPropertyMetadata);
-        WindowMetadata.getProperties().add(opacityPropertyMetadata);
-        WindowMetadata.getProperties().add(width_Double_COMPUTED_PropertyMetadata);
+    private Metadata() {
 
-        XYChartMetadata.getProperties().add(alternativeColumnFillVisiblePropertyMetadata);
-        XYChartMetadata.getProperties().add(alternativeRowFillVisiblePropertyMetadata);
-        XYChartMetadata.getProperties().add(horizontalGridLinesVisiblePropertyMetadata);
-        XYChartMetadata.getProperties().add(horizontalZeroLineVisiblePropertyMetadata);
-        XYChartMetadata.getProperties().add(styleClass_c37_PropertyMetadata);
-        XYChartMetadata.getProperties().add(verticalGridLinesVisiblePropertyMetadata);
-        XYChartMetadata.getProperties().add(verticalZeroLineVisiblePropertyMetadata);
-        XYChartMetadata.getProperties().add(xAxisPropertyMetadata);
-        XYChartMetadata.getProperties().add(yAxisPropertyMetadata);
+        // Populate componentClassMap
+        componentClassMap.put(AccordionMetadata.getKlass(), AccordionMetadata);
+        componentClassMap.put(AmbientLightMetadata.getKlass(), AmbientLightMetadata);
+        componentClassMap.put(AnchorPaneMetadata.getKlass(), AnchorPaneMetadata);
+        componentClassMap.put(ArcMetadata.getKlass(), ArcMetadata);
+        componentClassMap.put(ArcToMetadata.getKlass(), ArcToMetadata);
+        componentClassMap.put(AreaChartMetadata.getKlass(), AreaChartMetadata);
+        componentClassMap.put(AxisMetadata.getKlass(), AxisMetadata);
+        componentClassMap.put(BarChartMetadata.getKlass(), BarChartMetadata);
+        componentClassMap.put(BorderPaneMetadata.getKlass(), BorderPaneMetadata);
+        componentClassMap.put(BoxMetadata.getKlass(), BoxMetadata);
+        componentClassMap.put(BubbleChartMetadata.getKlass(), BubbleChartMetadata);
+        componentClassMap.put(ButtonMetadata.getKlass(), ButtonMetadata);
+        componentClassMap.put(ButtonBarMetadata.getKlass(), ButtonBarMetadata);
+        componentClassMap.put(ButtonBaseMetadata.getKlass(), ButtonBaseMetadata);
+        componentClassMap.put(CameraMetadata.getKlass(), CameraMetadata);
+        componentClassMap.put(CanvasMetadata.getKlass(), CanvasMetadata);
+        componentClassMap.put(CategoryAxisMetadata.getKlass(), CategoryAxisMetadata);
+        componentClassMap.put(ChartMetadata.getKlass(), ChartMetadata);
+        componentClassMap.put(CheckBoxMetadata.getKlass(), CheckBoxMetadata);
+        componentClassMap.put(CheckMenuItemMetadata.getKlass(), CheckMenuItemMetadata);
+        componentClassMap.put(ChoiceBoxMetadata.getKlass(), ChoiceBoxMetadata);
+        componentClassMap.put(CircleMetadata.getKlass(), CircleMetadata);
+        componentClassMap.put(ClosePathMetadata.getKlass(), ClosePathMetadata);
+        componentClassMap.put(ColorPickerMetadata.getKlass(), ColorPickerMetadata);
+        componentClassMap.put(ColumnConstraintsMetadata.getKlass(), ColumnConstraintsMetadata);
+        componentClassMap.put(ComboBoxMetadata.getKlass(), ComboBoxMetadata);
+        componentClassMap.put(ComboBoxBaseMetadata.getKlass(), ComboBoxBaseMetadata);
+        componentClassMap.put(ContextMenuMetadata.getKlass(), ContextMenuMetadata);
+        componentClassMap.put(ControlMetadata.getKlass(), ControlMetadata);
+        componentClassMap.put(CubicCurveMetadata.getKlass(), CubicCurveMetadata);
+        componentClassMap.put(CubicCurveToMetadata.getKlass(), CubicCurveToMetadata);
+        componentClassMap.put(CustomMenuItemMetadata.getKlass(), CustomMenuItemMetadata);
+        componentClassMap.put(CylinderMetadata.getKlass(), CylinderMetadata);
+        componentClassMap.put(DialogPaneMetadata.getKlass(), DialogPaneMetadata);
+        componentClassMap.put(EllipseMetadata.getKlass(), EllipseMetadata);
+        componentClassMap.put(FlowPaneMetadata.getKlass(), FlowPaneMetadata);
+        componentClassMap.put(GridPaneMetadata.getKlass(), GridPaneMetadata);
+        componentClassMap.put(GroupMetadata.getKlass(), GroupMetadata);
+        componentClassMap.put(HBoxMetadata.getKlass(), HBoxMetadata);
+        componentClassMap.put(HLineToMetadata.getKlass(), HLineToMetadata);
+        componentClassMap.put(HTMLEditorMetadata.getKlass(), HTMLEditorMetadata);
+        componentClassMap.put(HyperlinkMetadata.getKlass(), HyperlinkMetadata);
+        componentClassMap.put(ImageViewMetadata.getKlass(), ImageViewMetadata);
+        componentClassMap.put(LabelMetadata.getKlass(), LabelMetadata);
+        componentClassMap.put(LabeledMetadata.getKlass(), LabeledMetadata);
+        componentClassMap.put(LightBaseMetadata.getKlass(), LightBaseMetadata);
+        componentClassMap.put(LineMetadata.getKlass(), LineMetadata);
+        componentClassMap.put(LineChartMetadata.getKlass(), LineChartMetadata);
+        componentClassMap.put(LineToMetadata.getKlass(), LineToMetadata);
+        componentClassMap.put(ListViewMetadata.getKlass(), ListViewMetadata);
+        componentClassMap.put(MediaViewMetadata.getKlass(), MediaViewMetadata);
+        componentClassMap.put(MenuMetadata.getKlass(), MenuMetadata);
+        componentClassMap.put(MenuBarMetadata.getKlass(), MenuBarMetadata);
+        componentClassMap.put(MenuButtonMetadata.getKlass(), MenuButtonMetadata);
+        componentClassMap.put(MenuItemMetadata.getKlass(), MenuItemMetadata);
+        componentClassMap.put(MeshViewMetadata.getKlass(), MeshViewMetadata);
+        componentClassMap.put(MoveToMetadata.getKlass(), MoveToMetadata);
+        componentClassMap.put(NodeMetadata.getKlass(), NodeMetadata);
+        componentClassMap.put(NumberAxisMetadata.getKlass(), NumberAxisMetadata);
+        componentClassMap.put(PaginationMetadata.getKlass(), PaginationMetadata);
+        componentClassMap.put(PaneMetadata.getKlass(), PaneMetadata);
+        componentClassMap.put(ParallelCameraMetadata.getKlass(), ParallelCameraMetadata);
+        componentClassMap.put(ParentMetadata.getKlass(), ParentMetadata);
+        componentClassMap.put(PasswordFieldMetadata.getKlass(), PasswordFieldMetadata);
+        componentClassMap.put(PathMetadata.getKlass(), PathMetadata);
+        componentClassMap.put(PathElementMetadata.getKlass(), PathElementMetadata);
+        componentClassMap.put(PerspectiveCameraMetadata.getKlass(), PerspectiveCameraMetadata);
+        componentClassMap.put(PieChartMetadata.getKlass(), PieChartMetadata);
+        componentClassMap.put(PointLightMetadata.getKlass(), PointLightMetadata);
+        componentClassMap.put(PolygonMetadata.getKlass(), PolygonMetadata);
+        componentClassMap.put(PolylineMetadata.getKlass(), PolylineMetadata);
+        componentClassMap.put(PopupControlMetadata.getKlass(), PopupControlMetadata);
+        componentClassMap.put(PopupWindowMetadata.getKlass(), PopupWindowMetadata);
+        componentClassMap.put(ProgressBarMetadata.getKlass(), ProgressBarMetadata);
+        componentClassMap.put(ProgressIndicatorMetadata.getKlass(), ProgressIndicatorMetadata);
+        componentClassMap.put(QuadCurveMetadata.getKlass(), QuadCurveMetadata);
+        componentClassMap.put(QuadCurveToMetadata.getKlass(), QuadCurveToMetadata);
+        componentClassMap.put(RadioButtonMetadata.getKlass(), RadioButtonMetadata);
+        componentClassMap.put(RadioMenuItemMetadata.getKlass(), RadioMenuItemMetadata);
+        componentClassMap.put(RectangleMetadata.getKlass(), RectangleMetadata);
+        componentClassMap.put(RegionMetadata.getKlass(), RegionMetadata);
+        componentClassMap.put(RowConstraintsMetadata.getKlass(), RowConstraintsMetadata);
+        componentClassMap.put(SVGPathMetadata.getKlass(), SVGPathMetadata);
+        componentClassMap.put(ScatterChartMetadata.getKlass(), ScatterChartMetadata);
+        componentClassMap.put(SceneMetadata.getKlass(), SceneMetadata);
+        componentClassMap.put(ScrollBarMetadata.getKlass(), ScrollBarMetadata);
+        componentClassMap.put(ScrollPaneMetadata.getKlass(), ScrollPaneMetadata);
+        componentClassMap.put(SeparatorMetadata.getKlass(), SeparatorMetadata);
+        componentClassMap.put(SeparatorMenuItemMetadata.getKlass(), SeparatorMenuItemMetadata);
+        componentClassMap.put(ShapeMetadata.getKlass(), ShapeMetadata);
+        componentClassMap.put(Shape3DMetadata.getKlass(), Shape3DMetadata);
+        componentClassMap.put(SliderMetadata.getKlass(), SliderMetadata);
+        componentClassMap.put(SphereMetadata.getKlass(), SphereMetadata);
+        componentClassMap.put(SpinnerMetadata.getKlass(), SpinnerMetadata);
+        componentClassMap.put(SplitMenuButtonMetadata.getKlass(), SplitMenuButtonMetadata);
+        componentClassMap.put(SplitPaneMetadata.getKlass(), SplitPaneMetadata);
+        componentClassMap.put(StackPaneMetadata.getKlass(), StackPaneMetadata);
+        componentClassMap.put(StackedAreaChartMetadata.getKlass(), StackedAreaChartMetadata);
+        componentClassMap.put(StackedBarChartMetadata.getKlass(), StackedBarChartMetadata);
+        componentClassMap.put(StageMetadata.getKlass(), StageMetadata);
+        componentClassMap.put(SubSceneMetadata.getKlass(), SubSceneMetadata);
+        componentClassMap.put(SwingNodeMetadata.getKlass(), SwingNodeMetadata);
+        componentClassMap.put(TabMetadata.getKlass(), TabMetadata);
+        componentClassMap.put(TabPaneMetadata.getKlass(), TabPaneMetadata);
+        componentClassMap.put(TableColumnMetadata.getKlass(), TableColumnMetadata);
+        componentClassMap.put(TableColumnBaseMetadata.getKlass(), TableColumnBaseMetadata);
+        componentClassMap.put(TableViewMetadata.getKlass(), TableViewMetadata);
+        componentClassMap.put(TextMetadata.getKlass(), TextMetadata);
+        componentClassMap.put(TextAreaMetadata.getKlass(), TextAreaMetadata);
+        componentClassMap.put(TextFieldMetadata.getKlass(), TextFieldMetadata);
+        componentClassMap.put(TextFlowMetadata.getKlass(), TextFlowMetadata);
+        componentClassMap.put(TextFormatterMetadata.getKlass(), TextFormatterMetadata);
+        componentClassMap.put(TextInputControlMetadata.getKlass(), TextInputControlMetadata);
+        componentClassMap.put(TilePaneMetadata.getKlass(), TilePaneMetadata);
+        componentClassMap.put(TitledPaneMetadata.getKlass(), TitledPaneMetadata);
+        componentClassMap.put(ToggleButtonMetadata.getKlass(), ToggleButtonMetadata);
+        componentClassMap.put(ToolBarMetadata.getKlass(), ToolBarMetadata);
+        componentClassMap.put(TooltipMetadata.getKlass(), TooltipMetadata);
+        componentClassMap.put(TreeTableColumnMetadata.getKlass(), TreeTableColumnMetadata);
+        componentClassMap.put(TreeTableViewMetadata.getKlass(), TreeTableViewMetadata);
+        componentClassMap.put(TreeViewMetadata.getKlass(), TreeViewMetadata);
+        componentClassMap.put(VBoxMetadata.getKlass(), VBoxMetadata);
+        componentClassMap.put(VLineToMetadata.getKlass(), VLineToMetadata);
+        componentClassMap.put(ValueAxisMetadata.getKlass(), ValueAxisMetadata);
+        componentClassMap.put(WebViewMetadata.getKlass(), WebViewMetadata);
+        componentClassMap.put(WindowMetadata.getKlass(), WindowMetadata);
+        componentClassMap.put(XYChartMetadata.getKlass(), XYChartMetadata);
+        componentClassMap.put(IncludeElementMetadata.getKlass(), IncludeElementMetadata);
 
+        // ComponentMetadata -> PropertyMetadata (see loadProperties())
+        addPropertyLoaders();
+        for (ComponentClassMetadata componentMetadata : componentClassMap.values()) {
+            componentMetadata.setPropertyLoader(propertyLoader);
+        }
 
-        IncludeElementMetadata.getProperties().add(AnchorPane_bottomAnchorPropertyMetadata);
-        IncludeElementMetadata.getProperties().add(AnchorPane_leftAnchorPropertyMetadata);
-        IncludeElementMetadata.getProperties().add(AnchorPane_rightAnchorPropertyMetadata);
-        IncludeElementMetadata.getProperties().add(AnchorPane_topAnchorPropertyMetadata);
-        IncludeElementMetadata.getProperties().add(BorderPane_alignmentPropertyMetadata);
-        IncludeElementMetadata.getProperties().add(FlowPane_marginPropertyMetadata);
-        IncludeElementMetadata.getProperties().add(GridPane_columnIndexPropertyMetadata);
-        IncludeElementMetadata.getProperties().add(GridPane_columnSpanPropertyMetadata);
-        IncludeElementMetadata.getProperties().add(GridPane_halignmentPropertyMetadata);
-        IncludeElementMetadata.getProperties().add(GridPane_hgrowPropertyMetadata);
-        IncludeElementMetadata.getProperties().add(GridPane_rowIndexPropertyMetadata);
-        IncludeElementMetadata.getProperties().add(GridPane_rowSpanPropertyMetadata);
-        IncludeElementMetadata.getProperties().add(GridPane_valignmentPropertyMetadata);
-        IncludeElementMetadata.getProperties().add(GridPane_vgrowPropertyMetadata);
-        IncludeElementMetadata.getProperties().add(HBox_hgrowPropertyMetadata);
-        IncludeElementMetadata.getProperties().add(StackPane_alignmentPropertyMetadata);
-        IncludeElementMetadata.getProperties().add(TilePane_alignmentPropertyMetadata);
-        IncludeElementMetadata.getProperties().add(VBox_vgrowPropertyMetadata);
-        IncludeElementMetadata.getProperties().add(layoutXPropertyMetadata);
-        IncludeElementMetadata.getProperties().add(layoutYPropertyMetadata);
-        IncludeElementMetadata.getProperties().add(maxHeight_COMPUTED_PropertyMetadata);
-        IncludeElementMetadata.getProperties().add(maxWidth_COMPUTED_PropertyMetadata);
-        IncludeElementMetadata.getProperties().add(minHeight_COMPUTED_PropertyMetadata);
-        IncludeElementMetadata.getProperties().add(minWidth_COMPUTED_PropertyMetadata);
-        IncludeElementMetadata.getProperties().add(prefHeight_COMPUTED_PropertyMetadata);
-        IncludeElementMetadata.getProperties().add(prefWidth_COMPUTED_PropertyMetadata);
-        IncludeElementMetadata.getProperties().add(rotatePropertyMetadata);
-        IncludeElementMetadata.getProperties().add(rotationAxisPropertyMetadata);
-        IncludeElementMetadata.getProperties().add(scaleXPropertyMetadata);
-        IncludeElementMetadata.getProperties().add(scaleYPropertyMetadata);
-        IncludeElementMetadata.getProperties().add(scaleZPropertyMetadata);
-        IncludeElementMetadata.getProperties().add(translateXPropertyMetadata);
-        IncludeElementMetadata.getProperties().add(translateYPropertyMetadata);
-        IncludeElementMetadata.getProperties().add(translateZPropertyMetadata);
-        IncludeElementMetadata.getProperties().add(layoutBoundsPropertyMetadata);
-        IncludeElementMetadata.getProperties().add(boundsInLocalPropertyMetadata);
-        IncludeElementMetadata.getProperties().add(boundsInParentPropertyMetadata);
-        IncludeElementMetadata.getProperties().add(baselineOffsetPropertyMetadata);
-        IncludeElementMetadata.getProperties().add(resizable_Boolean_ro_PropertyMetadata);
-        IncludeElementMetadata.getProperties().add(contentBiasPropertyMetadata);
-        IncludeElementMetadata.getProperties().add(snapToPixelPropertyMetadata);
-        IncludeElementMetadata.getProperties().add(effectiveNodeOrientationPropertyMetadata);
-        IncludeElementMetadata.getProperties().add(includeFxmlPropertyMetadata);
+        addExternalMetadata();
 
         // Populates hiddenProperties
         hiddenProperties.add(new PropertyName("activated"));
@@ -6203,6 +8395,1281 @@ public class Metadata {
         subSectionMap.put("Code", ss2);
     }
 
+    /*
+     * Registers the loader of each built-in component class. A loader adds
+     * the properties of its class: it runs once, the first time these
+     * properties are requested (see loadProperties()).
+     */
+    private void addPropertyLoaders() {
+        propertyLoaders.put(AccordionMetadata.getKlass(), () -> {
+            AccordionMetadata.getProperties().add(panesPropertyMetadata());
+            AccordionMetadata.getProperties().add(styleClass_c4_PropertyMetadata());
+        });
+        propertyLoaders.put(AmbientLightMetadata.getKlass(), () -> {
+            AmbientLightMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata());
+            AmbientLightMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata());
+        });
+        propertyLoaders.put(ArcMetadata.getKlass(), () -> {
+            ArcMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata());
+            ArcMetadata.getProperties().add(centerXPropertyMetadata());
+            ArcMetadata.getProperties().add(centerYPropertyMetadata());
+            ArcMetadata.getProperties().add(length_Double_PropertyMetadata());
+            ArcMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata());
+            ArcMetadata.getProperties().add(radiusXPropertyMetadata());
+            ArcMetadata.getProperties().add(radiusYPropertyMetadata());
+            ArcMetadata.getProperties().add(startAnglePropertyMetadata());
+            ArcMetadata.getProperties().add(typePropertyMetadata());
+        });
+        propertyLoaders.put(ArcToMetadata.getKlass(), () -> {
+            ArcToMetadata.getProperties().add(largeArcFlagPropertyMetadata());
+            ArcToMetadata.getProperties().add(radiusXPropertyMetadata());
+            ArcToMetadata.getProperties().add(radiusYPropertyMetadata());
+            ArcToMetadata.getProperties().add(sweepFlagPropertyMetadata());
+            ArcToMetadata.getProperties().add(x_0_PropertyMetadata());
+            ArcToMetadata.getProperties().add(XAxisRotationPropertyMetadata());
+            ArcToMetadata.getProperties().add(y_0_PropertyMetadata());
+        });
+        propertyLoaders.put(AreaChartMetadata.getKlass(), () -> {
+            AreaChartMetadata.getProperties().add(createSymbolsPropertyMetadata());
+            AreaChartMetadata.getProperties().add(styleClass_c37_PropertyMetadata());
+        });
+        propertyLoaders.put(AxisMetadata.getKlass(), () -> {
+            AxisMetadata.getProperties().add(animatedPropertyMetadata());
+            AxisMetadata.getProperties().add(autoRangingPropertyMetadata());
+            AxisMetadata.getProperties().add(labelPropertyMetadata());
+            AxisMetadata.getProperties().add(side_NULL_PropertyMetadata());
+            AxisMetadata.getProperties().add(styleClass_c45_PropertyMetadata());
+            AxisMetadata.getProperties().add(tickLabelFillPropertyMetadata());
+            AxisMetadata.getProperties().add(tickLabelFontPropertyMetadata());
+            AxisMetadata.getProperties().add(tickLabelGapPropertyMetadata());
+            AxisMetadata.getProperties().add(tickLabelRotationPropertyMetadata());
+            AxisMetadata.getProperties().add(tickLabelsVisiblePropertyMetadata());
+            AxisMetadata.getProperties().add(tickLengthPropertyMetadata());
+            AxisMetadata.getProperties().add(tickMarksPropertyMetadata());
+            AxisMetadata.getProperties().add(tickMarkVisiblePropertyMetadata());
+            AxisMetadata.getProperties().add(zeroPositionPropertyMetadata());
+        });
+        propertyLoaders.put(BarChartMetadata.getKlass(), () -> {
+            BarChartMetadata.getProperties().add(barGapPropertyMetadata());
+            BarChartMetadata.getProperties().add(categoryGapPropertyMetadata());
+            BarChartMetadata.getProperties().add(styleClass_c1_PropertyMetadata());
+        });
+        propertyLoaders.put(BorderPaneMetadata.getKlass(), () -> {
+            BorderPaneMetadata.getProperties().add(bottomPropertyMetadata());
+            BorderPaneMetadata.getProperties().add(centerPropertyMetadata());
+            BorderPaneMetadata.getProperties().add(contentBiasPropertyMetadata());
+            BorderPaneMetadata.getProperties().add(leftPropertyMetadata());
+            BorderPaneMetadata.getProperties().add(rightPropertyMetadata());
+            BorderPaneMetadata.getProperties().add(topPropertyMetadata());
+        });
+        propertyLoaders.put(BoxMetadata.getKlass(), () -> {
+            BoxMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata());
+            BoxMetadata.getProperties().add(depthPropertyMetadata());
+            BoxMetadata.getProperties().add(height_Double_200_PropertyMetadata());
+            BoxMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata());
+            BoxMetadata.getProperties().add(width_Double_200_PropertyMetadata());
+        });
+        propertyLoaders.put(BubbleChartMetadata.getKlass(), () -> {
+            BubbleChartMetadata.getProperties().add(styleClass_c37_PropertyMetadata());
+        });
+        propertyLoaders.put(ButtonMetadata.getKlass(), () -> {
+            ButtonMetadata.getProperties().add(accessibleRole_BUTTON_PropertyMetadata());
+            ButtonMetadata.getProperties().add(cancelButtonPropertyMetadata());
+            ButtonMetadata.getProperties().add(defaultButtonPropertyMetadata());
+            ButtonMetadata.getProperties().add(focusTraversable_true_PropertyMetadata());
+            ButtonMetadata.getProperties().add(styleClass_c17_PropertyMetadata());
+        });
+        propertyLoaders.put(ButtonBarMetadata.getKlass(), () -> {
+            ButtonBarMetadata.getProperties().add(buttonMinWidthPropertyMetadata());
+            ButtonBarMetadata.getProperties().add(buttonOrderPropertyMetadata());
+            ButtonBarMetadata.getProperties().add(buttonsPropertyMetadata());
+            ButtonBarMetadata.getProperties().add(focusTraversable_true_PropertyMetadata());
+            ButtonBarMetadata.getProperties().add(styleClass_c35_PropertyMetadata());
+        });
+        propertyLoaders.put(ButtonBaseMetadata.getKlass(), () -> {
+            ButtonBaseMetadata.getProperties().add(accessibleRole_RADIO_BUTTON_PropertyMetadata());
+            ButtonBaseMetadata.getProperties().add(focusTraversable_true_PropertyMetadata());
+            ButtonBaseMetadata.getProperties().add(onActionPropertyMetadata());
+            ButtonBaseMetadata.getProperties().add(styleClass_c41_PropertyMetadata());
+        });
+        propertyLoaders.put(CameraMetadata.getKlass(), () -> {
+            CameraMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata());
+            CameraMetadata.getProperties().add(farClipPropertyMetadata());
+            CameraMetadata.getProperties().add(nearClipPropertyMetadata());
+            CameraMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata());
+        });
+        propertyLoaders.put(CanvasMetadata.getKlass(), () -> {
+            CanvasMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata());
+            CanvasMetadata.getProperties().add(height_Double_0_PropertyMetadata());
+            CanvasMetadata.getProperties().add(nodeOrientation_LEFT_TO_RIGHT_PropertyMetadata());
+            CanvasMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata());
+            CanvasMetadata.getProperties().add(width_Double_0_PropertyMetadata());
+        });
+        propertyLoaders.put(CategoryAxisMetadata.getKlass(), () -> {
+            CategoryAxisMetadata.getProperties().add(categoriesPropertyMetadata());
+            CategoryAxisMetadata.getProperties().add(categorySpacingPropertyMetadata());
+            CategoryAxisMetadata.getProperties().add(endMarginPropertyMetadata());
+            CategoryAxisMetadata.getProperties().add(gapStartAndEndPropertyMetadata());
+            CategoryAxisMetadata.getProperties().add(startMarginPropertyMetadata());
+            CategoryAxisMetadata.getProperties().add(styleClass_c45_PropertyMetadata());
+            CategoryAxisMetadata.getProperties().add(zeroPositionPropertyMetadata());
+        });
+        propertyLoaders.put(ChartMetadata.getKlass(), () -> {
+            ChartMetadata.getProperties().add(animatedPropertyMetadata());
+            ChartMetadata.getProperties().add(legendSidePropertyMetadata());
+            ChartMetadata.getProperties().add(legendVisiblePropertyMetadata());
+            ChartMetadata.getProperties().add(styleClass_c37_PropertyMetadata());
+            ChartMetadata.getProperties().add(titlePropertyMetadata());
+            ChartMetadata.getProperties().add(titleSidePropertyMetadata());
+        });
+        propertyLoaders.put(CheckBoxMetadata.getKlass(), () -> {
+            CheckBoxMetadata.getProperties().add(accessibleRole_CHECK_BOX_PropertyMetadata());
+            CheckBoxMetadata.getProperties().add(allowIndeterminatePropertyMetadata());
+            CheckBoxMetadata.getProperties().add(focusTraversable_true_PropertyMetadata());
+            CheckBoxMetadata.getProperties().add(indeterminate_Boolean_PropertyMetadata());
+            CheckBoxMetadata.getProperties().add(selected_Boolean_PropertyMetadata());
+            CheckBoxMetadata.getProperties().add(styleClass_c10_PropertyMetadata());
+        });
+        propertyLoaders.put(CheckMenuItemMetadata.getKlass(), () -> {
+            CheckMenuItemMetadata.getProperties().add(selected_Boolean_PropertyMetadata());
+            CheckMenuItemMetadata.getProperties().add(styleClass_c28_PropertyMetadata());
+        });
+        propertyLoaders.put(ChoiceBoxMetadata.getKlass(), () -> {
+            ChoiceBoxMetadata.getProperties().add(accessibleRole_COMBO_BOX_PropertyMetadata());
+            ChoiceBoxMetadata.getProperties().add(focusTraversable_true_PropertyMetadata());
+            ChoiceBoxMetadata.getProperties().add(styleClass_c43_PropertyMetadata());
+            ChoiceBoxMetadata.getProperties().add(value_Object_PropertyMetadata());
+        });
+        propertyLoaders.put(CircleMetadata.getKlass(), () -> {
+            CircleMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata());
+            CircleMetadata.getProperties().add(centerXPropertyMetadata());
+            CircleMetadata.getProperties().add(centerYPropertyMetadata());
+            CircleMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata());
+            CircleMetadata.getProperties().add(radius_0_PropertyMetadata());
+        });
+        propertyLoaders.put(ColorPickerMetadata.getKlass(), () -> {
+            ColorPickerMetadata.getProperties().add(focusTraversable_true_PropertyMetadata());
+            ColorPickerMetadata.getProperties().add(styleClass_c5_PropertyMetadata());
+            ColorPickerMetadata.getProperties().add(value_Color_PropertyMetadata());
+        });
+        propertyLoaders.put(ColumnConstraintsMetadata.getKlass(), () -> {
+            ColumnConstraintsMetadata.getProperties().add(fillWidthPropertyMetadata());
+            ColumnConstraintsMetadata.getProperties().add(halignment_NULL_PropertyMetadata());
+            ColumnConstraintsMetadata.getProperties().add(hgrowPropertyMetadata());
+            ColumnConstraintsMetadata.getProperties().add(maxWidth_COMPUTED_PropertyMetadata());
+            ColumnConstraintsMetadata.getProperties().add(minWidth_COMPUTED_PropertyMetadata());
+            ColumnConstraintsMetadata.getProperties().add(percentWidthPropertyMetadata());
+            ColumnConstraintsMetadata.getProperties().add(prefWidth_COMPUTED_PropertyMetadata());
+        });
+        propertyLoaders.put(ComboBoxMetadata.getKlass(), () -> {
+            ComboBoxMetadata.getProperties().add(accessibleRole_COMBO_BOX_PropertyMetadata());
+            ComboBoxMetadata.getProperties().add(buttonCellPropertyMetadata());
+            ComboBoxMetadata.getProperties().add(focusTraversable_true_PropertyMetadata());
+            ComboBoxMetadata.getProperties().add(placeholderPropertyMetadata());
+            ComboBoxMetadata.getProperties().add(styleClass_c11_PropertyMetadata());
+            ComboBoxMetadata.getProperties().add(visibleRowCountPropertyMetadata());
+        });
+        propertyLoaders.put(ComboBoxBaseMetadata.getKlass(), () -> {
+            ComboBoxBaseMetadata.getProperties().add(accessibleRole_DATE_PICKER_PropertyMetadata());
+            ComboBoxBaseMetadata.getProperties().add(editable_false_PropertyMetadata());
+            ComboBoxBaseMetadata.getProperties().add(focusTraversable_true_PropertyMetadata());
+            ComboBoxBaseMetadata.getProperties().add(onActionPropertyMetadata());
+            ComboBoxBaseMetadata.getProperties().add(onHiddenPropertyMetadata());
+            ComboBoxBaseMetadata.getProperties().add(onHidingPropertyMetadata());
+            ComboBoxBaseMetadata.getProperties().add(onShowingPropertyMetadata());
+            ComboBoxBaseMetadata.getProperties().add(onShownPropertyMetadata());
+            ComboBoxBaseMetadata.getProperties().add(promptTextPropertyMetadata());
+            ComboBoxBaseMetadata.getProperties().add(styleClass_c5_PropertyMetadata());
+            ComboBoxBaseMetadata.getProperties().add(value_Object_PropertyMetadata());
+        });
+        propertyLoaders.put(ContextMenuMetadata.getKlass(), () -> {
+            ContextMenuMetadata.getProperties().add(autoHide_true_PropertyMetadata());
+            ContextMenuMetadata.getProperties().add(height_Double_0_PropertyMetadata());
+            ContextMenuMetadata.getProperties().add(items_MenuItem_PropertyMetadata());
+            ContextMenuMetadata.getProperties().add(onActionPropertyMetadata());
+            ContextMenuMetadata.getProperties().add(onCloseRequestPropertyMetadata());
+            ContextMenuMetadata.getProperties().add(onHiddenPropertyMetadata());
+            ContextMenuMetadata.getProperties().add(onHidingPropertyMetadata());
+            ContextMenuMetadata.getProperties().add(onShowingPropertyMetadata());
+            ContextMenuMetadata.getProperties().add(onShownPropertyMetadata());
+            ContextMenuMetadata.getProperties().add(opacityPropertyMetadata());
+            ContextMenuMetadata.getProperties().add(styleClass_c8_PropertyMetadata());
+            ContextMenuMetadata.getProperties().add(width_Double_0_PropertyMetadata());
+            ContextMenuMetadata.getProperties().add(x_NaN_PropertyMetadata());
+            ContextMenuMetadata.getProperties().add(y_NaN_PropertyMetadata());
+        });
+        propertyLoaders.put(ControlMetadata.getKlass(), () -> {
+            ControlMetadata.getProperties().add(baselineOffsetPropertyMetadata());
+            ControlMetadata.getProperties().add(contextMenuPropertyMetadata());
+            ControlMetadata.getProperties().add(focusTraversable_true_PropertyMetadata());
+            ControlMetadata.getProperties().add(resizable_Boolean_ro_PropertyMetadata());
+            ControlMetadata.getProperties().add(styleClass_c25_PropertyMetadata());
+            ControlMetadata.getProperties().add(tooltipPropertyMetadata());
+        });
+        propertyLoaders.put(CubicCurveMetadata.getKlass(), () -> {
+            CubicCurveMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata());
+            CubicCurveMetadata.getProperties().add(controlX1PropertyMetadata());
+            CubicCurveMetadata.getProperties().add(controlX2PropertyMetadata());
+            CubicCurveMetadata.getProperties().add(controlY1PropertyMetadata());
+            CubicCurveMetadata.getProperties().add(controlY2PropertyMetadata());
+            CubicCurveMetadata.getProperties().add(endXPropertyMetadata());
+            CubicCurveMetadata.getProperties().add(endYPropertyMetadata());
+            CubicCurveMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata());
+            CubicCurveMetadata.getProperties().add(startXPropertyMetadata());
+            CubicCurveMetadata.getProperties().add(startYPropertyMetadata());
+        });
+        propertyLoaders.put(CubicCurveToMetadata.getKlass(), () -> {
+            CubicCurveToMetadata.getProperties().add(controlX1PropertyMetadata());
+            CubicCurveToMetadata.getProperties().add(controlX2PropertyMetadata());
+            CubicCurveToMetadata.getProperties().add(controlY1PropertyMetadata());
+            CubicCurveToMetadata.getProperties().add(controlY2PropertyMetadata());
+            CubicCurveToMetadata.getProperties().add(x_0_PropertyMetadata());
+            CubicCurveToMetadata.getProperties().add(y_0_PropertyMetadata());
+        });
+        propertyLoaders.put(CustomMenuItemMetadata.getKlass(), () -> {
+            CustomMenuItemMetadata.getProperties().add(content_Node_NULL_PropertyMetadata());
+            CustomMenuItemMetadata.getProperties().add(hideOnClick_true_PropertyMetadata());
+            CustomMenuItemMetadata.getProperties().add(styleClass_c27_PropertyMetadata());
+        });
+        propertyLoaders.put(CylinderMetadata.getKlass(), () -> {
+            CylinderMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata());
+            CylinderMetadata.getProperties().add(divisionsPropertyMetadata());
+            CylinderMetadata.getProperties().add(height_Double_200_PropertyMetadata());
+            CylinderMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata());
+            CylinderMetadata.getProperties().add(radius_100_PropertyMetadata());
+        });
+        propertyLoaders.put(DialogPaneMetadata.getKlass(), () -> {
+            DialogPaneMetadata.getProperties().add(buttonTypesPropertyMetadata());
+            DialogPaneMetadata.getProperties().add(children_c1_PropertyMetadata());
+            DialogPaneMetadata.getProperties().add(content_Node_NULL_PropertyMetadata());
+            DialogPaneMetadata.getProperties().add(contentTextPropertyMetadata());
+            DialogPaneMetadata.getProperties().add(expandableContentPropertyMetadata());
+            DialogPaneMetadata.getProperties().add(expanded_false_PropertyMetadata());
+            DialogPaneMetadata.getProperties().add(graphicPropertyMetadata());
+            DialogPaneMetadata.getProperties().add(headerPropertyMetadata());
+            DialogPaneMetadata.getProperties().add(headerTextPropertyMetadata());
+            DialogPaneMetadata.getProperties().add(styleClass_c30_PropertyMetadata());
+        });
+        propertyLoaders.put(EllipseMetadata.getKlass(), () -> {
+            EllipseMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata());
+            EllipseMetadata.getProperties().add(centerXPropertyMetadata());
+            EllipseMetadata.getProperties().add(centerYPropertyMetadata());
+            EllipseMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata());
+            EllipseMetadata.getProperties().add(radiusXPropertyMetadata());
+            EllipseMetadata.getProperties().add(radiusYPropertyMetadata());
+        });
+        propertyLoaders.put(FlowPaneMetadata.getKlass(), () -> {
+            FlowPaneMetadata.getProperties().add(alignment_TOP_LEFT_PropertyMetadata());
+            FlowPaneMetadata.getProperties().add(columnHalignmentPropertyMetadata());
+            FlowPaneMetadata.getProperties().add(contentBiasPropertyMetadata());
+            FlowPaneMetadata.getProperties().add(hgapPropertyMetadata());
+            FlowPaneMetadata.getProperties().add(orientation_HORIZONTAL_PropertyMetadata());
+            FlowPaneMetadata.getProperties().add(prefWrapLengthPropertyMetadata());
+            FlowPaneMetadata.getProperties().add(rowValignmentPropertyMetadata());
+            FlowPaneMetadata.getProperties().add(vgapPropertyMetadata());
+        });
+        propertyLoaders.put(GridPaneMetadata.getKlass(), () -> {
+            GridPaneMetadata.getProperties().add(alignment_TOP_LEFT_PropertyMetadata());
+            GridPaneMetadata.getProperties().add(columnConstraintsPropertyMetadata());
+            GridPaneMetadata.getProperties().add(contentBiasPropertyMetadata());
+            GridPaneMetadata.getProperties().add(gridLinesVisiblePropertyMetadata());
+            GridPaneMetadata.getProperties().add(hgapPropertyMetadata());
+            GridPaneMetadata.getProperties().add(rowConstraintsPropertyMetadata());
+            GridPaneMetadata.getProperties().add(vgapPropertyMetadata());
+        });
+        propertyLoaders.put(GroupMetadata.getKlass(), () -> {
+            GroupMetadata.getProperties().add(autoSizeChildrenPropertyMetadata());
+            GroupMetadata.getProperties().add(children_empty_PropertyMetadata());
+            GroupMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata());
+        });
+        propertyLoaders.put(HBoxMetadata.getKlass(), () -> {
+            HBoxMetadata.getProperties().add(alignment_TOP_LEFT_PropertyMetadata());
+            HBoxMetadata.getProperties().add(baselineOffsetPropertyMetadata());
+            HBoxMetadata.getProperties().add(contentBiasPropertyMetadata());
+            HBoxMetadata.getProperties().add(fillHeightPropertyMetadata());
+            HBoxMetadata.getProperties().add(spacingPropertyMetadata());
+        });
+        propertyLoaders.put(HLineToMetadata.getKlass(), () -> {
+            HLineToMetadata.getProperties().add(x_0_PropertyMetadata());
+        });
+        propertyLoaders.put(HTMLEditorMetadata.getKlass(), () -> {
+            HTMLEditorMetadata.getProperties().add(focusTraversable_true_PropertyMetadata());
+            HTMLEditorMetadata.getProperties().add(htmlTextPropertyMetadata());
+            HTMLEditorMetadata.getProperties().add(styleClass_c21_PropertyMetadata());
+        });
+        propertyLoaders.put(HyperlinkMetadata.getKlass(), () -> {
+            HyperlinkMetadata.getProperties().add(accessibleRole_HYPERLINK_PropertyMetadata());
+            HyperlinkMetadata.getProperties().add(cursor_HAND_PropertyMetadata());
+            HyperlinkMetadata.getProperties().add(focusTraversable_true_PropertyMetadata());
+            HyperlinkMetadata.getProperties().add(mnemonicParsing_false_PropertyMetadata());
+            HyperlinkMetadata.getProperties().add(styleClass_c25_PropertyMetadata());
+            HyperlinkMetadata.getProperties().add(visitedPropertyMetadata());
+        });
+        propertyLoaders.put(ImageViewMetadata.getKlass(), () -> {
+            ImageViewMetadata.getProperties().add(accessibleRole_IMAGE_VIEW_PropertyMetadata());
+            ImageViewMetadata.getProperties().add(fitHeightPropertyMetadata());
+            ImageViewMetadata.getProperties().add(fitWidthPropertyMetadata());
+            ImageViewMetadata.getProperties().add(imagePropertyMetadata());
+            ImageViewMetadata.getProperties().add(nodeOrientation_LEFT_TO_RIGHT_PropertyMetadata());
+            ImageViewMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata());
+            ImageViewMetadata.getProperties().add(preserveRatio_false_PropertyMetadata());
+            ImageViewMetadata.getProperties().add(smoothPropertyMetadata());
+            ImageViewMetadata.getProperties().add(styleClass_c20_PropertyMetadata());
+            ImageViewMetadata.getProperties().add(viewportPropertyMetadata());
+            ImageViewMetadata.getProperties().add(x_0_PropertyMetadata());
+            ImageViewMetadata.getProperties().add(y_0_PropertyMetadata());
+        });
+        propertyLoaders.put(LabelMetadata.getKlass(), () -> {
+            LabelMetadata.getProperties().add(accessibleRole_TEXT_PropertyMetadata());
+            LabelMetadata.getProperties().add(labelForPropertyMetadata());
+            LabelMetadata.getProperties().add(mnemonicParsing_false_PropertyMetadata());
+            LabelMetadata.getProperties().add(styleClass_c3_PropertyMetadata());
+        });
+        propertyLoaders.put(LabeledMetadata.getKlass(), () -> {
+            LabeledMetadata.getProperties().add(accessibleRole_TOGGLE_BUTTON_PropertyMetadata());
+            LabeledMetadata.getProperties().add(alignment_CENTER_LEFT_PropertyMetadata());
+            LabeledMetadata.getProperties().add(contentBiasPropertyMetadata());
+            LabeledMetadata.getProperties().add(contentDisplayPropertyMetadata());
+            LabeledMetadata.getProperties().add(ellipsisStringPropertyMetadata());
+            LabeledMetadata.getProperties().add(focusTraversable_true_PropertyMetadata());
+            LabeledMetadata.getProperties().add(fontPropertyMetadata());
+            LabeledMetadata.getProperties().add(graphicPropertyMetadata());
+            LabeledMetadata.getProperties().add(graphicTextGapPropertyMetadata());
+            LabeledMetadata.getProperties().add(labelPaddingPropertyMetadata());
+            LabeledMetadata.getProperties().add(lineSpacingPropertyMetadata());
+            LabeledMetadata.getProperties().add(mnemonicParsing_true_PropertyMetadata());
+            LabeledMetadata.getProperties().add(styleClass_c41_PropertyMetadata());
+            LabeledMetadata.getProperties().add(textPropertyMetadata());
+            LabeledMetadata.getProperties().add(textAlignmentPropertyMetadata());
+            LabeledMetadata.getProperties().add(textFillPropertyMetadata());
+            LabeledMetadata.getProperties().add(textOverrunPropertyMetadata());
+            LabeledMetadata.getProperties().add(underlinePropertyMetadata());
+            LabeledMetadata.getProperties().add(wrapTextPropertyMetadata());
+        });
+        propertyLoaders.put(LightBaseMetadata.getKlass(), () -> {
+            LightBaseMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata());
+            LightBaseMetadata.getProperties().add(colorPropertyMetadata());
+            LightBaseMetadata.getProperties().add(lightOnPropertyMetadata());
+            LightBaseMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata());
+            LightBaseMetadata.getProperties().add(scopePropertyMetadata());
+        });
+        propertyLoaders.put(LineMetadata.getKlass(), () -> {
+            LineMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata());
+            LineMetadata.getProperties().add(endXPropertyMetadata());
+            LineMetadata.getProperties().add(endYPropertyMetadata());
+            LineMetadata.getProperties().add(fill_NULL_PropertyMetadata());
+            LineMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata());
+            LineMetadata.getProperties().add(startXPropertyMetadata());
+            LineMetadata.getProperties().add(startYPropertyMetadata());
+            LineMetadata.getProperties().add(stroke_BLACK_PropertyMetadata());
+        });
+        propertyLoaders.put(LineChartMetadata.getKlass(), () -> {
+            LineChartMetadata.getProperties().add(axisSortingPolicyPropertyMetadata());
+            LineChartMetadata.getProperties().add(createSymbolsPropertyMetadata());
+            LineChartMetadata.getProperties().add(styleClass_c37_PropertyMetadata());
+        });
+        propertyLoaders.put(LineToMetadata.getKlass(), () -> {
+            LineToMetadata.getProperties().add(x_0_PropertyMetadata());
+            LineToMetadata.getProperties().add(y_0_PropertyMetadata());
+        });
+        propertyLoaders.put(ListViewMetadata.getKlass(), () -> {
+            ListViewMetadata.getProperties().add(accessibleRole_LIST_VIEW_PropertyMetadata());
+            ListViewMetadata.getProperties().add(editable_false_PropertyMetadata());
+            ListViewMetadata.getProperties().add(fixedCellSizePropertyMetadata());
+            ListViewMetadata.getProperties().add(focusTraversable_true_PropertyMetadata());
+            ListViewMetadata.getProperties().add(onEditCancelPropertyMetadata());
+            ListViewMetadata.getProperties().add(onEditCommitPropertyMetadata());
+            ListViewMetadata.getProperties().add(onEditStartPropertyMetadata());
+            ListViewMetadata.getProperties().add(onScrollToPropertyMetadata());
+            ListViewMetadata.getProperties().add(orientation_VERTICAL_PropertyMetadata());
+            ListViewMetadata.getProperties().add(placeholderPropertyMetadata());
+            ListViewMetadata.getProperties().add(styleClass_c34_PropertyMetadata());
+        });
+        propertyLoaders.put(MediaViewMetadata.getKlass(), () -> {
+            MediaViewMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata());
+            MediaViewMetadata.getProperties().add(fitHeightPropertyMetadata());
+            MediaViewMetadata.getProperties().add(fitWidthPropertyMetadata());
+            MediaViewMetadata.getProperties().add(nodeOrientation_LEFT_TO_RIGHT_PropertyMetadata());
+            MediaViewMetadata.getProperties().add(onErrorPropertyMetadata());
+            MediaViewMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata());
+            MediaViewMetadata.getProperties().add(preserveRatio_true_PropertyMetadata());
+            MediaViewMetadata.getProperties().add(smoothPropertyMetadata());
+            MediaViewMetadata.getProperties().add(styleClass_c46_PropertyMetadata());
+            MediaViewMetadata.getProperties().add(viewportPropertyMetadata());
+            MediaViewMetadata.getProperties().add(x_0_PropertyMetadata());
+            MediaViewMetadata.getProperties().add(y_0_PropertyMetadata());
+        });
+        propertyLoaders.put(MenuMetadata.getKlass(), () -> {
+            MenuMetadata.getProperties().add(items_MenuItem_PropertyMetadata());
+            MenuMetadata.getProperties().add(onHiddenPropertyMetadata());
+            MenuMetadata.getProperties().add(onHidingPropertyMetadata());
+            MenuMetadata.getProperties().add(onShowingPropertyMetadata());
+            MenuMetadata.getProperties().add(onShownPropertyMetadata());
+            MenuMetadata.getProperties().add(styleClass_c29_PropertyMetadata());
+        });
+        propertyLoaders.put(MenuBarMetadata.getKlass(), () -> {
+            MenuBarMetadata.getProperties().add(accessibleRole_MENU_BAR_PropertyMetadata());
+            MenuBarMetadata.getProperties().add(menusPropertyMetadata());
+            MenuBarMetadata.getProperties().add(styleClass_c18_PropertyMetadata());
+            MenuBarMetadata.getProperties().add(useSystemMenuBarPropertyMetadata());
+        });
+        propertyLoaders.put(MenuButtonMetadata.getKlass(), () -> {
+            MenuButtonMetadata.getProperties().add(accessibleRole_MENU_BUTTON_PropertyMetadata());
+            MenuButtonMetadata.getProperties().add(focusTraversable_true_PropertyMetadata());
+            MenuButtonMetadata.getProperties().add(items_MenuItem_PropertyMetadata());
+            MenuButtonMetadata.getProperties().add(popupSidePropertyMetadata());
+            MenuButtonMetadata.getProperties().add(styleClass_c52_PropertyMetadata());
+        });
+        propertyLoaders.put(MenuItemMetadata.getKlass(), () -> {
+            MenuItemMetadata.getProperties().add(acceleratorPropertyMetadata());
+            MenuItemMetadata.getProperties().add(disablePropertyMetadata());
+            MenuItemMetadata.getProperties().add(graphicPropertyMetadata());
+            MenuItemMetadata.getProperties().add(idPropertyMetadata());
+            MenuItemMetadata.getProperties().add(mnemonicParsing_true_PropertyMetadata());
+            MenuItemMetadata.getProperties().add(onActionPropertyMetadata());
+            MenuItemMetadata.getProperties().add(onMenuValidationPropertyMetadata());
+            MenuItemMetadata.getProperties().add(stylePropertyMetadata());
+            MenuItemMetadata.getProperties().add(styleClass_c36_PropertyMetadata());
+            MenuItemMetadata.getProperties().add(textPropertyMetadata());
+            MenuItemMetadata.getProperties().add(visiblePropertyMetadata());
+        });
+        propertyLoaders.put(MeshViewMetadata.getKlass(), () -> {
+            MeshViewMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata());
+            MeshViewMetadata.getProperties().add(meshPropertyMetadata());
+            MeshViewMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata());
+        });
+        propertyLoaders.put(MoveToMetadata.getKlass(), () -> {
+            MoveToMetadata.getProperties().add(x_0_PropertyMetadata());
+            MoveToMetadata.getProperties().add(y_0_PropertyMetadata());
+        });
+        propertyLoaders.put(NodeMetadata.getKlass(), () -> {
+            NodeMetadata.getProperties().add(accessibleHelpPropertyMetadata());
+            NodeMetadata.getProperties().add(accessibleRole_PARENT_PropertyMetadata());
+            NodeMetadata.getProperties().add(accessibleRoleDescriptionPropertyMetadata());
+            NodeMetadata.getProperties().add(accessibleTextPropertyMetadata());
+            NodeMetadata.getProperties().add(baselineOffsetPropertyMetadata());
+            NodeMetadata.getProperties().add(blendModePropertyMetadata());
+            NodeMetadata.getProperties().add(boundsInLocalPropertyMetadata());
+            NodeMetadata.getProperties().add(boundsInParentPropertyMetadata());
+            NodeMetadata.getProperties().add(cachePropertyMetadata());
+            NodeMetadata.getProperties().add(cacheHintPropertyMetadata());
+            NodeMetadata.getProperties().add(clipPropertyMetadata());
+            NodeMetadata.getProperties().add(contentBiasPropertyMetadata());
+            NodeMetadata.getProperties().add(cursor_NULL_PropertyMetadata());
+            NodeMetadata.getProperties().add(depthTestPropertyMetadata());
+            NodeMetadata.getProperties().add(disablePropertyMetadata());
+            NodeMetadata.getProperties().add(effectPropertyMetadata());
+            NodeMetadata.getProperties().add(effectiveNodeOrientationPropertyMetadata());
+            NodeMetadata.getProperties().add(focusTraversable_false_PropertyMetadata());
+            NodeMetadata.getProperties().add(idPropertyMetadata());
+            NodeMetadata.getProperties().add(layoutBoundsPropertyMetadata());
+            NodeMetadata.getProperties().add(layoutXPropertyMetadata());
+            NodeMetadata.getProperties().add(layoutYPropertyMetadata());
+            NodeMetadata.getProperties().add(mouseTransparentPropertyMetadata());
+            NodeMetadata.getProperties().add(nodeOrientation_INHERIT_PropertyMetadata());
+            NodeMetadata.getProperties().add(onContextMenuRequestedPropertyMetadata());
+            NodeMetadata.getProperties().add(onDragDetectedPropertyMetadata());
+            NodeMetadata.getProperties().add(onDragDonePropertyMetadata());
+            NodeMetadata.getProperties().add(onDragDroppedPropertyMetadata());
+            NodeMetadata.getProperties().add(onDragEnteredPropertyMetadata());
+            NodeMetadata.getProperties().add(onDragExitedPropertyMetadata());
+            NodeMetadata.getProperties().add(onDragOverPropertyMetadata());
+            NodeMetadata.getProperties().add(onInputMethodTextChangedPropertyMetadata());
+            NodeMetadata.getProperties().add(onKeyPressedPropertyMetadata());
+            NodeMetadata.getProperties().add(onKeyReleasedPropertyMetadata());
+            NodeMetadata.getProperties().add(onKeyTypedPropertyMetadata());
+            NodeMetadata.getProperties().add(onMouseClickedPropertyMetadata());
+            NodeMetadata.getProperties().add(onMouseDragEnteredPropertyMetadata());
+            NodeMetadata.getProperties().add(onMouseDragExitedPropertyMetadata());
+            NodeMetadata.getProperties().add(onMouseDraggedPropertyMetadata());
+            NodeMetadata.getProperties().add(onMouseDragOverPropertyMetadata());
+            NodeMetadata.getProperties().add(onMouseDragReleasedPropertyMetadata());
+            NodeMetadata.getProperties().add(onMouseEnteredPropertyMetadata());
+            NodeMetadata.getProperties().add(onMouseExitedPropertyMetadata());
+            NodeMetadata.getProperties().add(onMouseMovedPropertyMetadata());
+            NodeMetadata.getProperties().add(onMousePressedPropertyMetadata());
+            NodeMetadata.getProperties().add(onMouseReleasedPropertyMetadata());
+            NodeMetadata.getProperties().add(onRotatePropertyMetadata());
+            NodeMetadata.getProperties().add(onRotationFinishedPropertyMetadata());
+            NodeMetadata.getProperties().add(onRotationStartedPropertyMetadata());
+            NodeMetadata.getProperties().add(onScrollPropertyMetadata());
+            NodeMetadata.getProperties().add(onScrollFinishedPropertyMetadata());
+            NodeMetadata.getProperties().add(onScrollStartedPropertyMetadata());
+            NodeMetadata.getProperties().add(onSwipeDownPropertyMetadata());
+            NodeMetadata.getProperties().add(onSwipeLeftPropertyMetadata());
+            NodeMetadata.getProperties().add(onSwipeRightPropertyMetadata());
+            NodeMetadata.getProperties().add(onSwipeUpPropertyMetadata());
+            NodeMetadata.getProperties().add(onTouchMovedPropertyMetadata());
+            NodeMetadata.getProperties().add(onTouchPressedPropertyMetadata());
+            NodeMetadata.getProperties().add(onTouchReleasedPropertyMetadata());
+            NodeMetadata.getProperties().add(onTouchStationaryPropertyMetadata());
+            NodeMetadata.getProperties().add(onZoomPropertyMetadata());
+            NodeMetadata.getProperties().add(onZoomFinishedPropertyMetadata());
+            NodeMetadata.getProperties().add(onZoomStartedPropertyMetadata());
+            NodeMetadata.getProperties().add(opacityPropertyMetadata());
+            NodeMetadata.getProperties().add(pickOnBounds_true_PropertyMetadata());
+            NodeMetadata.getProperties().add(resizable_Boolean_ro_PropertyMetadata());
+            NodeMetadata.getProperties().add(rotatePropertyMetadata());
+            NodeMetadata.getProperties().add(rotationAxisPropertyMetadata());
+            NodeMetadata.getProperties().add(scaleXPropertyMetadata());
+            NodeMetadata.getProperties().add(scaleYPropertyMetadata());
+            NodeMetadata.getProperties().add(scaleZPropertyMetadata());
+            NodeMetadata.getProperties().add(stylePropertyMetadata());
+            NodeMetadata.getProperties().add(styleClass_empty_PropertyMetadata());
+            NodeMetadata.getProperties().add(translateXPropertyMetadata());
+            NodeMetadata.getProperties().add(translateYPropertyMetadata());
+            NodeMetadata.getProperties().add(translateZPropertyMetadata());
+            NodeMetadata.getProperties().add(visiblePropertyMetadata());
+            NodeMetadata.getProperties().add(SplitPane_resizableWithParentPropertyMetadata());
+            NodeMetadata.getProperties().add(AnchorPane_bottomAnchorPropertyMetadata());
+            NodeMetadata.getProperties().add(AnchorPane_leftAnchorPropertyMetadata());
+            NodeMetadata.getProperties().add(AnchorPane_rightAnchorPropertyMetadata());
+            NodeMetadata.getProperties().add(AnchorPane_topAnchorPropertyMetadata());
+            NodeMetadata.getProperties().add(BorderPane_alignmentPropertyMetadata());
+            NodeMetadata.getProperties().add(BorderPane_marginPropertyMetadata());
+            NodeMetadata.getProperties().add(FlowPane_marginPropertyMetadata());
+            NodeMetadata.getProperties().add(GridPane_columnIndexPropertyMetadata());
+            NodeMetadata.getProperties().add(GridPane_columnSpanPropertyMetadata());
+            NodeMetadata.getProperties().add(GridPane_halignmentPropertyMetadata());
+            NodeMetadata.getProperties().add(GridPane_hgrowPropertyMetadata());
+            NodeMetadata.getProperties().add(GridPane_marginPropertyMetadata());
+            NodeMetadata.getProperties().add(GridPane_rowIndexPropertyMetadata());
+            NodeMetadata.getProperties().add(GridPane_rowSpanPropertyMetadata());
+            NodeMetadata.getProperties().add(GridPane_valignmentPropertyMetadata());
+            NodeMetadata.getProperties().add(GridPane_vgrowPropertyMetadata());
+            NodeMetadata.getProperties().add(HBox_hgrowPropertyMetadata());
+            NodeMetadata.getProperties().add(HBox_marginPropertyMetadata());
+            NodeMetadata.getProperties().add(StackPane_alignmentPropertyMetadata());
+            NodeMetadata.getProperties().add(StackPane_marginPropertyMetadata());
+            NodeMetadata.getProperties().add(TilePane_alignmentPropertyMetadata());
+            NodeMetadata.getProperties().add(TilePane_marginPropertyMetadata());
+            NodeMetadata.getProperties().add(VBox_marginPropertyMetadata());
+            NodeMetadata.getProperties().add(VBox_vgrowPropertyMetadata());
+        });
+        propertyLoaders.put(NumberAxisMetadata.getKlass(), () -> {
+            NumberAxisMetadata.getProperties().add(forceZeroInRangePropertyMetadata());
+            NumberAxisMetadata.getProperties().add(styleClass_c45_PropertyMetadata());
+            NumberAxisMetadata.getProperties().add(tickUnitPropertyMetadata());
+        });
+        propertyLoaders.put(PaginationMetadata.getKlass(), () -> {
+            PaginationMetadata.getProperties().add(accessibleRole_PAGINATION_PropertyMetadata());
+            PaginationMetadata.getProperties().add(currentPageIndexPropertyMetadata());
+            PaginationMetadata.getProperties().add(focusTraversable_true_PropertyMetadata());
+            PaginationMetadata.getProperties().add(maxPageIndicatorCountPropertyMetadata());
+            PaginationMetadata.getProperties().add(pageCountPropertyMetadata());
+            PaginationMetadata.getProperties().add(styleClass_c39_PropertyMetadata());
+        });
+        propertyLoaders.put(PaneMetadata.getKlass(), () -> {
+            PaneMetadata.getProperties().add(children_empty_PropertyMetadata());
+        });
+        propertyLoaders.put(ParallelCameraMetadata.getKlass(), () -> {
+            ParallelCameraMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata());
+            ParallelCameraMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata());
+        });
+        propertyLoaders.put(ParentMetadata.getKlass(), () -> {
+            ParentMetadata.getProperties().add(baselineOffsetPropertyMetadata());
+            ParentMetadata.getProperties().add(stylesheetsPropertyMetadata());
+        });
+        propertyLoaders.put(PasswordFieldMetadata.getKlass(), () -> {
+            PasswordFieldMetadata.getProperties().add(accessibleRole_PASSWORD_FIELD_PropertyMetadata());
+            PasswordFieldMetadata.getProperties().add(focusTraversable_true_PropertyMetadata());
+            PasswordFieldMetadata.getProperties().add(styleClass_c53_PropertyMetadata());
+        });
+        propertyLoaders.put(PathMetadata.getKlass(), () -> {
+            PathMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata());
+            PathMetadata.getProperties().add(elementsPropertyMetadata());
+            PathMetadata.getProperties().add(fill_NULL_PropertyMetadata());
+            PathMetadata.getProperties().add(fillRulePropertyMetadata());
+            PathMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata());
+            PathMetadata.getProperties().add(stroke_BLACK_PropertyMetadata());
+        });
+        propertyLoaders.put(PathElementMetadata.getKlass(), () -> {
+            PathElementMetadata.getProperties().add(absolutePropertyMetadata());
+        });
+        propertyLoaders.put(PerspectiveCameraMetadata.getKlass(), () -> {
+            PerspectiveCameraMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata());
+            PerspectiveCameraMetadata.getProperties().add(fieldOfViewPropertyMetadata());
+            PerspectiveCameraMetadata.getProperties().add(fixedEyeAtCameraZeroPropertyMetadata());
+            PerspectiveCameraMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata());
+            PerspectiveCameraMetadata.getProperties().add(verticalFieldOfViewPropertyMetadata());
+        });
+        propertyLoaders.put(PieChartMetadata.getKlass(), () -> {
+            PieChartMetadata.getProperties().add(clockwisePropertyMetadata());
+            PieChartMetadata.getProperties().add(labelLineLengthPropertyMetadata());
+            PieChartMetadata.getProperties().add(labelsVisiblePropertyMetadata());
+            PieChartMetadata.getProperties().add(startAnglePropertyMetadata());
+            PieChartMetadata.getProperties().add(styleClass_c37_PropertyMetadata());
+        });
+        propertyLoaders.put(PointLightMetadata.getKlass(), () -> {
+            PointLightMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata());
+            PointLightMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata());
+        });
+        propertyLoaders.put(PolygonMetadata.getKlass(), () -> {
+            PolygonMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata());
+            PolygonMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata());
+            PolygonMetadata.getProperties().add(pointsPropertyMetadata());
+        });
+        propertyLoaders.put(PolylineMetadata.getKlass(), () -> {
+            PolylineMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata());
+            PolylineMetadata.getProperties().add(fill_NULL_PropertyMetadata());
+            PolylineMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata());
+            PolylineMetadata.getProperties().add(pointsPropertyMetadata());
+            PolylineMetadata.getProperties().add(stroke_BLACK_PropertyMetadata());
+        });
+        propertyLoaders.put(PopupControlMetadata.getKlass(), () -> {
+            PopupControlMetadata.getProperties().add(height_Double_0_PropertyMetadata());
+            PopupControlMetadata.getProperties().add(idPropertyMetadata());
+            PopupControlMetadata.getProperties().add(maxHeight_COMPUTED_PropertyMetadata());
+            PopupControlMetadata.getProperties().add(maxWidth_COMPUTED_PropertyMetadata());
+            PopupControlMetadata.getProperties().add(minHeight_COMPUTED_PropertyMetadata());
+            PopupControlMetadata.getProperties().add(minWidth_COMPUTED_PropertyMetadata());
+            PopupControlMetadata.getProperties().add(onCloseRequestPropertyMetadata());
+            PopupControlMetadata.getProperties().add(onHiddenPropertyMetadata());
+            PopupControlMetadata.getProperties().add(onHidingPropertyMetadata());
+            PopupControlMetadata.getProperties().add(onShowingPropertyMetadata());
+            PopupControlMetadata.getProperties().add(onShownPropertyMetadata());
+            PopupControlMetadata.getProperties().add(opacityPropertyMetadata());
+            PopupControlMetadata.getProperties().add(prefHeight_COMPUTED_PropertyMetadata());
+            PopupControlMetadata.getProperties().add(prefWidth_COMPUTED_PropertyMetadata());
+            PopupControlMetadata.getProperties().add(stylePropertyMetadata());
+            PopupControlMetadata.getProperties().add(styleClass_empty_PropertyMetadata());
+            PopupControlMetadata.getProperties().add(width_Double_0_PropertyMetadata());
+            PopupControlMetadata.getProperties().add(x_NaN_PropertyMetadata());
+            PopupControlMetadata.getProperties().add(y_NaN_PropertyMetadata());
+        });
+        propertyLoaders.put(PopupWindowMetadata.getKlass(), () -> {
+            PopupWindowMetadata.getProperties().add(anchorLocationPropertyMetadata());
+            PopupWindowMetadata.getProperties().add(anchorXPropertyMetadata());
+            PopupWindowMetadata.getProperties().add(anchorYPropertyMetadata());
+            PopupWindowMetadata.getProperties().add(autoFixPropertyMetadata());
+            PopupWindowMetadata.getProperties().add(autoHide_false_PropertyMetadata());
+            PopupWindowMetadata.getProperties().add(consumeAutoHidingEventsPropertyMetadata());
+            PopupWindowMetadata.getProperties().add(height_Double_0_PropertyMetadata());
+            PopupWindowMetadata.getProperties().add(hideOnEscapePropertyMetadata());
+            PopupWindowMetadata.getProperties().add(onAutoHidePropertyMetadata());
+            PopupWindowMetadata.getProperties().add(onCloseRequestPropertyMetadata());
+            PopupWindowMetadata.getProperties().add(onHiddenPropertyMetadata());
+            PopupWindowMetadata.getProperties().add(onHidingPropertyMetadata());
+            PopupWindowMetadata.getProperties().add(onShowingPropertyMetadata());
+            PopupWindowMetadata.getProperties().add(onShownPropertyMetadata());
+            PopupWindowMetadata.getProperties().add(opacityPropertyMetadata());
+            PopupWindowMetadata.getProperties().add(width_Double_0_PropertyMetadata());
+            PopupWindowMetadata.getProperties().add(x_NaN_PropertyMetadata());
+            PopupWindowMetadata.getProperties().add(y_NaN_PropertyMetadata());
+        });
+        propertyLoaders.put(ProgressBarMetadata.getKlass(), () -> {
+            ProgressBarMetadata.getProperties().add(accessibleRole_PROGRESS_INDICATOR_PropertyMetadata());
+            ProgressBarMetadata.getProperties().add(styleClass_c13_PropertyMetadata());
+        });
+        propertyLoaders.put(ProgressIndicatorMetadata.getKlass(), () -> {
+            ProgressIndicatorMetadata.getProperties().add(accessibleRole_PROGRESS_INDICATOR_PropertyMetadata());
+            ProgressIndicatorMetadata.getProperties().add(indeterminate_Boolean_ro_PropertyMetadata());
+            ProgressIndicatorMetadata.getProperties().add(progressPropertyMetadata());
+            ProgressIndicatorMetadata.getProperties().add(styleClass_c50_PropertyMetadata());
+        });
+        propertyLoaders.put(QuadCurveMetadata.getKlass(), () -> {
+            QuadCurveMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata());
+            QuadCurveMetadata.getProperties().add(controlXPropertyMetadata());
+            QuadCurveMetadata.getProperties().add(controlYPropertyMetadata());
+            QuadCurveMetadata.getProperties().add(endXPropertyMetadata());
+            QuadCurveMetadata.getProperties().add(endYPropertyMetadata());
+            QuadCurveMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata());
+            QuadCurveMetadata.getProperties().add(startXPropertyMetadata());
+            QuadCurveMetadata.getProperties().add(startYPropertyMetadata());
+        });
+        propertyLoaders.put(QuadCurveToMetadata.getKlass(), () -> {
+            QuadCurveToMetadata.getProperties().add(controlXPropertyMetadata());
+            QuadCurveToMetadata.getProperties().add(controlYPropertyMetadata());
+            QuadCurveToMetadata.getProperties().add(x_0_PropertyMetadata());
+            QuadCurveToMetadata.getProperties().add(y_0_PropertyMetadata());
+        });
+        propertyLoaders.put(RadioButtonMetadata.getKlass(), () -> {
+            RadioButtonMetadata.getProperties().add(accessibleRole_RADIO_BUTTON_PropertyMetadata());
+            RadioButtonMetadata.getProperties().add(focusTraversable_true_PropertyMetadata());
+            RadioButtonMetadata.getProperties().add(styleClass_c41_PropertyMetadata());
+        });
+        propertyLoaders.put(RadioMenuItemMetadata.getKlass(), () -> {
+            RadioMenuItemMetadata.getProperties().add(selected_Boolean_PropertyMetadata());
+            RadioMenuItemMetadata.getProperties().add(styleClass_c7_PropertyMetadata());
+            RadioMenuItemMetadata.getProperties().add(toggleGroupPropertyMetadata());
+        });
+        propertyLoaders.put(RectangleMetadata.getKlass(), () -> {
+            RectangleMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata());
+            RectangleMetadata.getProperties().add(arcHeightPropertyMetadata());
+            RectangleMetadata.getProperties().add(arcWidthPropertyMetadata());
+            RectangleMetadata.getProperties().add(height_Double_0_PropertyMetadata());
+            RectangleMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata());
+            RectangleMetadata.getProperties().add(width_Double_0_PropertyMetadata());
+            RectangleMetadata.getProperties().add(x_0_PropertyMetadata());
+            RectangleMetadata.getProperties().add(y_0_PropertyMetadata());
+        });
+        propertyLoaders.put(RegionMetadata.getKlass(), () -> {
+            RegionMetadata.getProperties().add(cacheShapePropertyMetadata());
+            RegionMetadata.getProperties().add(centerShapePropertyMetadata());
+            RegionMetadata.getProperties().add(height_Double_ro_PropertyMetadata());
+            RegionMetadata.getProperties().add(insetsPropertyMetadata());
+            RegionMetadata.getProperties().add(maxHeight_COMPUTED_PropertyMetadata());
+            RegionMetadata.getProperties().add(maxWidth_COMPUTED_PropertyMetadata());
+            RegionMetadata.getProperties().add(minHeight_COMPUTED_PropertyMetadata());
+            RegionMetadata.getProperties().add(minWidth_COMPUTED_PropertyMetadata());
+            RegionMetadata.getProperties().add(opaqueInsetsPropertyMetadata());
+            RegionMetadata.getProperties().add(paddingPropertyMetadata());
+            RegionMetadata.getProperties().add(prefHeight_COMPUTED_PropertyMetadata());
+            RegionMetadata.getProperties().add(prefWidth_COMPUTED_PropertyMetadata());
+            RegionMetadata.getProperties().add(resizable_Boolean_ro_PropertyMetadata());
+            RegionMetadata.getProperties().add(scaleShapePropertyMetadata());
+            RegionMetadata.getProperties().add(shapePropertyMetadata());
+            RegionMetadata.getProperties().add(snapToPixelPropertyMetadata());
+            RegionMetadata.getProperties().add(width_Double_ro_PropertyMetadata());
+        });
+        propertyLoaders.put(RowConstraintsMetadata.getKlass(), () -> {
+            RowConstraintsMetadata.getProperties().add(fillHeightPropertyMetadata());
+            RowConstraintsMetadata.getProperties().add(maxHeight_COMPUTED_PropertyMetadata());
+            RowConstraintsMetadata.getProperties().add(minHeight_COMPUTED_PropertyMetadata());
+            RowConstraintsMetadata.getProperties().add(percentHeightPropertyMetadata());
+            RowConstraintsMetadata.getProperties().add(prefHeight_COMPUTED_PropertyMetadata());
+            RowConstraintsMetadata.getProperties().add(valignment_NULL_PropertyMetadata());
+            RowConstraintsMetadata.getProperties().add(vgrowPropertyMetadata());
+        });
+        propertyLoaders.put(SVGPathMetadata.getKlass(), () -> {
+            SVGPathMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata());
+            SVGPathMetadata.getProperties().add(content_String_PropertyMetadata());
+            SVGPathMetadata.getProperties().add(fillRulePropertyMetadata());
+            SVGPathMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata());
+        });
+        propertyLoaders.put(ScatterChartMetadata.getKlass(), () -> {
+            ScatterChartMetadata.getProperties().add(styleClass_c37_PropertyMetadata());
+        });
+        propertyLoaders.put(SceneMetadata.getKlass(), () -> {
+            SceneMetadata.getProperties().add(fill_WHITE_PropertyMetadata());
+            SceneMetadata.getProperties().add(onContextMenuRequestedPropertyMetadata());
+            SceneMetadata.getProperties().add(onDragDetectedPropertyMetadata());
+            SceneMetadata.getProperties().add(onDragDonePropertyMetadata());
+            SceneMetadata.getProperties().add(onDragDroppedPropertyMetadata());
+            SceneMetadata.getProperties().add(onDragEnteredPropertyMetadata());
+            SceneMetadata.getProperties().add(onDragExitedPropertyMetadata());
+            SceneMetadata.getProperties().add(onDragOverPropertyMetadata());
+            SceneMetadata.getProperties().add(onInputMethodTextChangedPropertyMetadata());
+            SceneMetadata.getProperties().add(onKeyPressedPropertyMetadata());
+            SceneMetadata.getProperties().add(onKeyReleasedPropertyMetadata());
+            SceneMetadata.getProperties().add(onKeyTypedPropertyMetadata());
+            SceneMetadata.getProperties().add(onMouseClickedPropertyMetadata());
+            SceneMetadata.getProperties().add(onMouseDragEnteredPropertyMetadata());
+            SceneMetadata.getProperties().add(onMouseDragExitedPropertyMetadata());
+            SceneMetadata.getProperties().add(onMouseDraggedPropertyMetadata());
+            SceneMetadata.getProperties().add(onMouseDragOverPropertyMetadata());
+            SceneMetadata.getProperties().add(onMouseDragReleasedPropertyMetadata());
+            SceneMetadata.getProperties().add(onMouseEnteredPropertyMetadata());
+            SceneMetadata.getProperties().add(onMouseExitedPropertyMetadata());
+            SceneMetadata.getProperties().add(onMouseMovedPropertyMetadata());
+            SceneMetadata.getProperties().add(onMousePressedPropertyMetadata());
+            SceneMetadata.getProperties().add(onMouseReleasedPropertyMetadata());
+            SceneMetadata.getProperties().add(onRotatePropertyMetadata());
+            SceneMetadata.getProperties().add(onRotationFinishedPropertyMetadata());
+            SceneMetadata.getProperties().add(onRotationStartedPropertyMetadata());
+            SceneMetadata.getProperties().add(onScrollFinishedPropertyMetadata());
+            SceneMetadata.getProperties().add(onScrollPropertyMetadata());
+            SceneMetadata.getProperties().add(onScrollStartedPropertyMetadata());
+            SceneMetadata.getProperties().add(onSwipeDownPropertyMetadata());
+            SceneMetadata.getProperties().add(onSwipeLeftPropertyMetadata());
+            SceneMetadata.getProperties().add(onSwipeRightPropertyMetadata());
+            SceneMetadata.getProperties().add(onSwipeUpPropertyMetadata());
+            SceneMetadata.getProperties().add(onTouchMovedPropertyMetadata());
+            SceneMetadata.getProperties().add(onTouchPressedPropertyMetadata());
+            SceneMetadata.getProperties().add(onTouchReleasedPropertyMetadata());
+            SceneMetadata.getProperties().add(onTouchStationaryPropertyMetadata());
+            SceneMetadata.getProperties().add(onZoomFinishedPropertyMetadata());
+            SceneMetadata.getProperties().add(onZoomPropertyMetadata());
+            SceneMetadata.getProperties().add(onZoomStartedPropertyMetadata());
+            SceneMetadata.getProperties().add(root_scene_PropertyMetadata());
+            SceneMetadata.getProperties().add(stylesheetsPropertyMetadata());
+        });
+        propertyLoaders.put(ScrollBarMetadata.getKlass(), () -> {
+            ScrollBarMetadata.getProperties().add(accessibleRole_SCROLL_BAR_PropertyMetadata());
+            ScrollBarMetadata.getProperties().add(blockIncrementPropertyMetadata());
+            ScrollBarMetadata.getProperties().add(maxPropertyMetadata());
+            ScrollBarMetadata.getProperties().add(minPropertyMetadata());
+            ScrollBarMetadata.getProperties().add(orientation_HORIZONTAL_PropertyMetadata());
+            ScrollBarMetadata.getProperties().add(styleClass_c33_PropertyMetadata());
+            ScrollBarMetadata.getProperties().add(unitIncrementPropertyMetadata());
+            ScrollBarMetadata.getProperties().add(value_Double_PropertyMetadata());
+            ScrollBarMetadata.getProperties().add(visibleAmountPropertyMetadata());
+        });
+        propertyLoaders.put(ScrollPaneMetadata.getKlass(), () -> {
+            ScrollPaneMetadata.getProperties().add(accessibleRole_SCROLL_PANE_PropertyMetadata());
+            ScrollPaneMetadata.getProperties().add(content_Node_NULL_PropertyMetadata());
+            ScrollPaneMetadata.getProperties().add(fitToHeightPropertyMetadata());
+            ScrollPaneMetadata.getProperties().add(fitToWidthPropertyMetadata());
+            ScrollPaneMetadata.getProperties().add(hbarPolicyPropertyMetadata());
+            ScrollPaneMetadata.getProperties().add(hmaxPropertyMetadata());
+            ScrollPaneMetadata.getProperties().add(hminPropertyMetadata());
+            ScrollPaneMetadata.getProperties().add(hvaluePropertyMetadata());
+            ScrollPaneMetadata.getProperties().add(minViewportHeightPropertyMetadata());
+            ScrollPaneMetadata.getProperties().add(minViewportWidthPropertyMetadata());
+            ScrollPaneMetadata.getProperties().add(pannablePropertyMetadata());
+            ScrollPaneMetadata.getProperties().add(prefViewportHeightPropertyMetadata());
+            ScrollPaneMetadata.getProperties().add(prefViewportWidthPropertyMetadata());
+            ScrollPaneMetadata.getProperties().add(styleClass_c38_PropertyMetadata());
+            ScrollPaneMetadata.getProperties().add(vbarPolicyPropertyMetadata());
+            ScrollPaneMetadata.getProperties().add(viewportBoundsPropertyMetadata());
+            ScrollPaneMetadata.getProperties().add(vmaxPropertyMetadata());
+            ScrollPaneMetadata.getProperties().add(vminPropertyMetadata());
+            ScrollPaneMetadata.getProperties().add(vvaluePropertyMetadata());
+        });
+        propertyLoaders.put(SeparatorMetadata.getKlass(), () -> {
+            SeparatorMetadata.getProperties().add(halignment_CENTER_PropertyMetadata());
+            SeparatorMetadata.getProperties().add(orientation_HORIZONTAL_PropertyMetadata());
+            SeparatorMetadata.getProperties().add(styleClass_c31_PropertyMetadata());
+            SeparatorMetadata.getProperties().add(valignment_CENTER_PropertyMetadata());
+        });
+        propertyLoaders.put(SeparatorMenuItemMetadata.getKlass(), () -> {
+            SeparatorMenuItemMetadata.getProperties().add(content_Node_SEPARATOR_PropertyMetadata());
+            SeparatorMenuItemMetadata.getProperties().add(hideOnClick_false_PropertyMetadata());
+            SeparatorMenuItemMetadata.getProperties().add(styleClass_c23_PropertyMetadata());
+        });
+        propertyLoaders.put(ShapeMetadata.getKlass(), () -> {
+            ShapeMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata());
+            ShapeMetadata.getProperties().add(fill_BLACK_PropertyMetadata());
+            ShapeMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata());
+            ShapeMetadata.getProperties().add(smoothPropertyMetadata());
+            ShapeMetadata.getProperties().add(stroke_NULL_PropertyMetadata());
+            ShapeMetadata.getProperties().add(strokeDashOffsetPropertyMetadata());
+            ShapeMetadata.getProperties().add(strokeLineCapPropertyMetadata());
+            ShapeMetadata.getProperties().add(strokeLineJoinPropertyMetadata());
+            ShapeMetadata.getProperties().add(strokeMiterLimitPropertyMetadata());
+            ShapeMetadata.getProperties().add(strokeTypePropertyMetadata());
+            ShapeMetadata.getProperties().add(strokeWidthPropertyMetadata());
+        });
+        propertyLoaders.put(Shape3DMetadata.getKlass(), () -> {
+            Shape3DMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata());
+            Shape3DMetadata.getProperties().add(cullFacePropertyMetadata());
+            Shape3DMetadata.getProperties().add(drawModePropertyMetadata());
+            Shape3DMetadata.getProperties().add(materialPropertyMetadata());
+            Shape3DMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata());
+        });
+        propertyLoaders.put(SliderMetadata.getKlass(), () -> {
+            SliderMetadata.getProperties().add(accessibleRole_SLIDER_PropertyMetadata());
+            SliderMetadata.getProperties().add(blockIncrementPropertyMetadata());
+            SliderMetadata.getProperties().add(focusTraversable_true_PropertyMetadata());
+            SliderMetadata.getProperties().add(labelFormatterPropertyMetadata());
+            SliderMetadata.getProperties().add(majorTickUnitPropertyMetadata());
+            SliderMetadata.getProperties().add(maxPropertyMetadata());
+            SliderMetadata.getProperties().add(minPropertyMetadata());
+            SliderMetadata.getProperties().add(minorTickCount_3_PropertyMetadata());
+            SliderMetadata.getProperties().add(orientation_HORIZONTAL_PropertyMetadata());
+            SliderMetadata.getProperties().add(showTickLabelsPropertyMetadata());
+            SliderMetadata.getProperties().add(showTickMarksPropertyMetadata());
+            SliderMetadata.getProperties().add(snapToTicksPropertyMetadata());
+            SliderMetadata.getProperties().add(styleClass_c40_PropertyMetadata());
+            SliderMetadata.getProperties().add(value_Double_PropertyMetadata());
+        });
+        propertyLoaders.put(SphereMetadata.getKlass(), () -> {
+            SphereMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata());
+            SphereMetadata.getProperties().add(divisionsPropertyMetadata());
+            SphereMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata());
+            SphereMetadata.getProperties().add(radius_100_PropertyMetadata());
+        });
+        propertyLoaders.put(SpinnerMetadata.getKlass(), () -> {
+            SpinnerMetadata.getProperties().add(accessibleRole_SPINNER_PropertyMetadata());
+            SpinnerMetadata.getProperties().add(editable_false_PropertyMetadata());
+            SpinnerMetadata.getProperties().add(focusTraversable_true_PropertyMetadata());
+            SpinnerMetadata.getProperties().add(styleClass_c24_PropertyMetadata());
+            SpinnerMetadata.getProperties().add(value_Object_ro_PropertyMetadata());
+        });
+        propertyLoaders.put(SplitMenuButtonMetadata.getKlass(), () -> {
+            SplitMenuButtonMetadata.getProperties().add(accessibleRole_SPLIT_MENU_BUTTON_PropertyMetadata());
+            SplitMenuButtonMetadata.getProperties().add(focusTraversable_true_PropertyMetadata());
+            SplitMenuButtonMetadata.getProperties().add(styleClass_c2_PropertyMetadata());
+        });
+        propertyLoaders.put(SplitPaneMetadata.getKlass(), () -> {
+            SplitPaneMetadata.getProperties().add(dividerPositionsPropertyMetadata());
+            SplitPaneMetadata.getProperties().add(items_Node_PropertyMetadata());
+            SplitPaneMetadata.getProperties().add(orientation_HORIZONTAL_PropertyMetadata());
+            SplitPaneMetadata.getProperties().add(styleClass_c14_PropertyMetadata());
+        });
+        propertyLoaders.put(StackPaneMetadata.getKlass(), () -> {
+            StackPaneMetadata.getProperties().add(alignment_CENTER_PropertyMetadata());
+            StackPaneMetadata.getProperties().add(contentBiasPropertyMetadata());
+        });
+        propertyLoaders.put(StackedAreaChartMetadata.getKlass(), () -> {
+            StackedAreaChartMetadata.getProperties().add(createSymbolsPropertyMetadata());
+            StackedAreaChartMetadata.getProperties().add(styleClass_c37_PropertyMetadata());
+        });
+        propertyLoaders.put(StackedBarChartMetadata.getKlass(), () -> {
+            StackedBarChartMetadata.getProperties().add(categoryGapPropertyMetadata());
+            StackedBarChartMetadata.getProperties().add(styleClass_c12_PropertyMetadata());
+        });
+        propertyLoaders.put(StageMetadata.getKlass(), () -> {
+            StageMetadata.getProperties().add(alwaysOnTopPropertyMetadata());
+            StageMetadata.getProperties().add(scene_stage_PropertyMetadata());
+            StageMetadata.getProperties().add(fullScreenPropertyMetadata());
+            StageMetadata.getProperties().add(fullScreenExitHintPropertyMetadata());
+            StageMetadata.getProperties().add(iconifiedPropertyMetadata());
+            StageMetadata.getProperties().add(maxHeight_SIZE_PropertyMetadata());
+            StageMetadata.getProperties().add(maximizedPropertyMetdata());
+            StageMetadata.getProperties().add(maxWidth_SIZE_PropertyMetadata());
+            StageMetadata.getProperties().add(minHeight_SIZE_PropertyMetadata());
+            StageMetadata.getProperties().add(minWidth_SIZE_PropertyMetadata());
+            StageMetadata.getProperties().add(resizable_Boolean_PropertyMetadata());
+            StageMetadata.getProperties().add(titlePropertyMetadata());
+        });
+        propertyLoaders.put(SubSceneMetadata.getKlass(), () -> {
+            SubSceneMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata());
+            SubSceneMetadata.getProperties().add(fill_NULL_PropertyMetadata());
+            SubSceneMetadata.getProperties().add(height_Double_0_PropertyMetadata());
+            SubSceneMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata());
+            SubSceneMetadata.getProperties().add(width_Double_0_PropertyMetadata());
+        });
+        propertyLoaders.put(SwingNodeMetadata.getKlass(), () -> {
+            SwingNodeMetadata.getProperties().add(accessibleRole_NODE_PropertyMetadata());
+            SwingNodeMetadata.getProperties().add(focusTraversable_true_PropertyMetadata());
+            SwingNodeMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata());
+            SwingNodeMetadata.getProperties().add(resizable_Boolean_ro_PropertyMetadata());
+        });
+        propertyLoaders.put(TabMetadata.getKlass(), () -> {
+            TabMetadata.getProperties().add(closablePropertyMetadata());
+            TabMetadata.getProperties().add(content_Node_NULL_PropertyMetadata());
+            TabMetadata.getProperties().add(contextMenuPropertyMetadata());
+            TabMetadata.getProperties().add(disablePropertyMetadata());
+            TabMetadata.getProperties().add(graphicPropertyMetadata());
+            TabMetadata.getProperties().add(idPropertyMetadata());
+            TabMetadata.getProperties().add(onClosedPropertyMetadata());
+            TabMetadata.getProperties().add(onCloseRequestPropertyMetadata());
+            TabMetadata.getProperties().add(onSelectionChangedPropertyMetadata());
+            TabMetadata.getProperties().add(selected_Boolean_ro_PropertyMetadata());
+            TabMetadata.getProperties().add(stylePropertyMetadata());
+            TabMetadata.getProperties().add(styleClass_c19_PropertyMetadata());
+            TabMetadata.getProperties().add(textPropertyMetadata());
+            TabMetadata.getProperties().add(tooltipPropertyMetadata());
+        });
+        propertyLoaders.put(TabPaneMetadata.getKlass(), () -> {
+            TabPaneMetadata.getProperties().add(accessibleRole_TAB_PANE_PropertyMetadata());
+            TabPaneMetadata.getProperties().add(focusTraversable_true_PropertyMetadata());
+            TabPaneMetadata.getProperties().add(rotateGraphicPropertyMetadata());
+            TabPaneMetadata.getProperties().add(side_TOP_PropertyMetadata());
+            TabPaneMetadata.getProperties().add(styleClass_c6_PropertyMetadata());
+            TabPaneMetadata.getProperties().add(tabClosingPolicyPropertyMetadata());
+            TabPaneMetadata.getProperties().add(tabMaxHeightPropertyMetadata());
+            TabPaneMetadata.getProperties().add(tabMaxWidthPropertyMetadata());
+            TabPaneMetadata.getProperties().add(tabMinHeightPropertyMetadata());
+            TabPaneMetadata.getProperties().add(tabMinWidthPropertyMetadata());
+            TabPaneMetadata.getProperties().add(tabsPropertyMetadata());
+        });
+        propertyLoaders.put(TableColumnMetadata.getKlass(), () -> {
+            TableColumnMetadata.getProperties().add(columns_TableColumn_PropertyMetadata());
+            TableColumnMetadata.getProperties().add(onEditCancelPropertyMetadata());
+            TableColumnMetadata.getProperties().add(onEditCommitPropertyMetadata());
+            TableColumnMetadata.getProperties().add(onEditStartPropertyMetadata());
+            TableColumnMetadata.getProperties().add(sortType_SortType_PropertyMetadata());
+        });
+        propertyLoaders.put(TableColumnBaseMetadata.getKlass(), () -> {
+            TableColumnBaseMetadata.getProperties().add(contextMenuPropertyMetadata());
+            TableColumnBaseMetadata.getProperties().add(editable_true_PropertyMetadata());
+            TableColumnBaseMetadata.getProperties().add(graphicPropertyMetadata());
+            TableColumnBaseMetadata.getProperties().add(idPropertyMetadata());
+            TableColumnBaseMetadata.getProperties().add(maxWidth_500000_PropertyMetadata());
+            TableColumnBaseMetadata.getProperties().add(minWidth_1000_PropertyMetadata());
+            TableColumnBaseMetadata.getProperties().add(prefWidth_8000_PropertyMetadata());
+            TableColumnBaseMetadata.getProperties().add(resizable_Boolean_PropertyMetadata());
+            TableColumnBaseMetadata.getProperties().add(sortablePropertyMetadata());
+            TableColumnBaseMetadata.getProperties().add(sortNodePropertyMetadata());
+            TableColumnBaseMetadata.getProperties().add(stylePropertyMetadata());
+            TableColumnBaseMetadata.getProperties().add(styleClass_c42_PropertyMetadata());
+            TableColumnBaseMetadata.getProperties().add(textPropertyMetadata());
+            TableColumnBaseMetadata.getProperties().add(visiblePropertyMetadata());
+            TableColumnBaseMetadata.getProperties().add(width_Double_ro_PropertyMetadata());
+        });
+        propertyLoaders.put(TableViewMetadata.getKlass(), () -> {
+            TableViewMetadata.getProperties().add(accessibleRole_TABLE_VIEW_PropertyMetadata());
+            TableViewMetadata.getProperties().add(columnResizePolicy_TABLEVIEW_UNCONSTRAINED_PropertyMetadata());
+            TableViewMetadata.getProperties().add(columns_TableColumn_PropertyMetadata());
+            TableViewMetadata.getProperties().add(editable_false_PropertyMetadata());
+            TableViewMetadata.getProperties().add(fixedCellSizePropertyMetadata());
+            TableViewMetadata.getProperties().add(focusTraversable_true_PropertyMetadata());
+            TableViewMetadata.getProperties().add(onScrollToPropertyMetadata());
+            TableViewMetadata.getProperties().add(onScrollToColumnPropertyMetadata());
+            TableViewMetadata.getProperties().add(onSortPropertyMetadata());
+            TableViewMetadata.getProperties().add(placeholderPropertyMetadata());
+            TableViewMetadata.getProperties().add(sortOrderPropertyMetadata());
+            TableViewMetadata.getProperties().add(styleClass_c49_PropertyMetadata());
+            TableViewMetadata.getProperties().add(tableMenuButtonVisiblePropertyMetadata());
+        });
+        propertyLoaders.put(TextMetadata.getKlass(), () -> {
+            TextMetadata.getProperties().add(accessibleRole_TEXT_PropertyMetadata());
+            TextMetadata.getProperties().add(baselineOffsetPropertyMetadata());
+            TextMetadata.getProperties().add(boundsTypePropertyMetadata());
+            TextMetadata.getProperties().add(fontPropertyMetadata());
+            TextMetadata.getProperties().add(fontSmoothingType_GRAY_PropertyMetadata());
+            TextMetadata.getProperties().add(lineSpacingPropertyMetadata());
+            TextMetadata.getProperties().add(strikethroughPropertyMetadata());
+            TextMetadata.getProperties().add(textPropertyMetadata());
+            TextMetadata.getProperties().add(textAlignmentPropertyMetadata());
+            TextMetadata.getProperties().add(textOriginPropertyMetadata());
+            TextMetadata.getProperties().add(underlinePropertyMetadata());
+            TextMetadata.getProperties().add(wrappingWidthPropertyMetadata());
+            TextMetadata.getProperties().add(x_0_PropertyMetadata());
+            TextMetadata.getProperties().add(y_0_PropertyMetadata());
+        });
+        propertyLoaders.put(TextAreaMetadata.getKlass(), () -> {
+            TextAreaMetadata.getProperties().add(accessibleRole_TEXT_AREA_PropertyMetadata());
+            TextAreaMetadata.getProperties().add(focusTraversable_true_PropertyMetadata());
+            TextAreaMetadata.getProperties().add(prefColumnCount_40_PropertyMetadata());
+            TextAreaMetadata.getProperties().add(prefRowCountPropertyMetadata());
+            TextAreaMetadata.getProperties().add(scrollLeftPropertyMetadata());
+            TextAreaMetadata.getProperties().add(scrollTopPropertyMetadata());
+            TextAreaMetadata.getProperties().add(styleClass_c51_PropertyMetadata());
+            TextAreaMetadata.getProperties().add(wrapTextPropertyMetadata());
+        });
+        propertyLoaders.put(TextFieldMetadata.getKlass(), () -> {
+            TextFieldMetadata.getProperties().add(accessibleRole_TEXT_FIELD_PropertyMetadata());
+            TextFieldMetadata.getProperties().add(alignment_CENTER_LEFT_PropertyMetadata());
+            TextFieldMetadata.getProperties().add(focusTraversable_true_PropertyMetadata());
+            TextFieldMetadata.getProperties().add(onActionPropertyMetadata());
+            TextFieldMetadata.getProperties().add(prefColumnCount_12_PropertyMetadata());
+            TextFieldMetadata.getProperties().add(styleClass_c47_PropertyMetadata());
+        });
+        propertyLoaders.put(TextFlowMetadata.getKlass(), () -> {
+            TextFlowMetadata.getProperties().add(accessibleRole_TEXT_PropertyMetadata());
+            TextFlowMetadata.getProperties().add(baselineOffsetPropertyMetadata());
+            TextFlowMetadata.getProperties().add(contentBiasPropertyMetadata());
+            TextFlowMetadata.getProperties().add(lineSpacingPropertyMetadata());
+            TextFlowMetadata.getProperties().add(textAlignmentPropertyMetadata());
+        });
+        propertyLoaders.put(TextFormatterMetadata.getKlass(), () -> {
+            TextFormatterMetadata.getProperties().add(value_Object_PropertyMetadata());
+        });
+        propertyLoaders.put(TextInputControlMetadata.getKlass(), () -> {
+            TextInputControlMetadata.getProperties().add(accessibleRole_TEXT_FIELD_PropertyMetadata());
+            TextInputControlMetadata.getProperties().add(editable_true_PropertyMetadata());
+            TextInputControlMetadata.getProperties().add(focusTraversable_true_PropertyMetadata());
+            TextInputControlMetadata.getProperties().add(fontPropertyMetadata());
+            TextInputControlMetadata.getProperties().add(length_Integer_ro_PropertyMetadata());
+            TextInputControlMetadata.getProperties().add(promptTextPropertyMetadata());
+            TextInputControlMetadata.getProperties().add(styleClass_c51_PropertyMetadata());
+            TextInputControlMetadata.getProperties().add(textPropertyMetadata());
+            TextInputControlMetadata.getProperties().add(textFormatterPropertyMetadata());
+        });
+        propertyLoaders.put(TilePaneMetadata.getKlass(), () -> {
+            TilePaneMetadata.getProperties().add(alignment_TOP_LEFT_PropertyMetadata());
+            TilePaneMetadata.getProperties().add(contentBiasPropertyMetadata());
+            TilePaneMetadata.getProperties().add(hgapPropertyMetadata());
+            TilePaneMetadata.getProperties().add(orientation_HORIZONTAL_PropertyMetadata());
+            TilePaneMetadata.getProperties().add(prefColumnsPropertyMetadata());
+            TilePaneMetadata.getProperties().add(prefRowsPropertyMetadata());
+            TilePaneMetadata.getProperties().add(prefTileHeightPropertyMetadata());
+            TilePaneMetadata.getProperties().add(prefTileWidthPropertyMetadata());
+            TilePaneMetadata.getProperties().add(tileAlignmentPropertyMetadata());
+            TilePaneMetadata.getProperties().add(tileHeightPropertyMetadata());
+            TilePaneMetadata.getProperties().add(tileWidthPropertyMetadata());
+            TilePaneMetadata.getProperties().add(vgapPropertyMetadata());
+        });
+        propertyLoaders.put(TitledPaneMetadata.getKlass(), () -> {
+            TitledPaneMetadata.getProperties().add(accessibleRole_TITLED_PANE_PropertyMetadata());
+            TitledPaneMetadata.getProperties().add(animatedPropertyMetadata());
+            TitledPaneMetadata.getProperties().add(collapsiblePropertyMetadata());
+            TitledPaneMetadata.getProperties().add(content_Node_NULL_PropertyMetadata());
+            TitledPaneMetadata.getProperties().add(contentBiasPropertyMetadata());
+            TitledPaneMetadata.getProperties().add(expanded_true_PropertyMetadata());
+            TitledPaneMetadata.getProperties().add(focusTraversable_true_PropertyMetadata());
+            TitledPaneMetadata.getProperties().add(mnemonicParsing_false_PropertyMetadata());
+            TitledPaneMetadata.getProperties().add(styleClass_c26_PropertyMetadata());
+        });
+        propertyLoaders.put(ToggleButtonMetadata.getKlass(), () -> {
+            ToggleButtonMetadata.getProperties().add(accessibleRole_TOGGLE_BUTTON_PropertyMetadata());
+            ToggleButtonMetadata.getProperties().add(alignment_CENTER_PropertyMetadata());
+            ToggleButtonMetadata.getProperties().add(focusTraversable_true_PropertyMetadata());
+            ToggleButtonMetadata.getProperties().add(selected_Boolean_PropertyMetadata());
+            ToggleButtonMetadata.getProperties().add(styleClass_c44_PropertyMetadata());
+            ToggleButtonMetadata.getProperties().add(toggleGroupPropertyMetadata());
+        });
+        propertyLoaders.put(ToolBarMetadata.getKlass(), () -> {
+            ToolBarMetadata.getProperties().add(accessibleRole_TOOL_BAR_PropertyMetadata());
+            ToolBarMetadata.getProperties().add(items_Node_PropertyMetadata());
+            ToolBarMetadata.getProperties().add(orientation_HORIZONTAL_PropertyMetadata());
+            ToolBarMetadata.getProperties().add(styleClass_c16_PropertyMetadata());
+        });
+        propertyLoaders.put(TooltipMetadata.getKlass(), () -> {
+            TooltipMetadata.getProperties().add(contentDisplayPropertyMetadata());
+            TooltipMetadata.getProperties().add(fontPropertyMetadata());
+            TooltipMetadata.getProperties().add(graphicPropertyMetadata());
+            TooltipMetadata.getProperties().add(graphicTextGapPropertyMetadata());
+            TooltipMetadata.getProperties().add(height_Double_0_PropertyMetadata());
+            TooltipMetadata.getProperties().add(onCloseRequestPropertyMetadata());
+            TooltipMetadata.getProperties().add(onHiddenPropertyMetadata());
+            TooltipMetadata.getProperties().add(onHidingPropertyMetadata());
+            TooltipMetadata.getProperties().add(onShowingPropertyMetadata());
+            TooltipMetadata.getProperties().add(onShownPropertyMetadata());
+            TooltipMetadata.getProperties().add(opacityPropertyMetadata());
+            TooltipMetadata.getProperties().add(styleClass_c15_PropertyMetadata());
+            TooltipMetadata.getProperties().add(textPropertyMetadata());
+            TooltipMetadata.getProperties().add(textAlignmentPropertyMetadata());
+            TooltipMetadata.getProperties().add(textOverrunPropertyMetadata());
+            TooltipMetadata.getProperties().add(width_Double_0_PropertyMetadata());
+            TooltipMetadata.getProperties().add(wrapTextPropertyMetadata());
+            TooltipMetadata.getProperties().add(x_NaN_PropertyMetadata());
+            TooltipMetadata.getProperties().add(y_NaN_PropertyMetadata());
+        });
+        propertyLoaders.put(TreeTableColumnMetadata.getKlass(), () -> {
+            TreeTableColumnMetadata.getProperties().add(columns_TreeTableColumn_PropertyMetadata());
+            TreeTableColumnMetadata.getProperties().add(onEditCancelPropertyMetadata());
+            TreeTableColumnMetadata.getProperties().add(onEditCommitPropertyMetadata());
+            TreeTableColumnMetadata.getProperties().add(onEditStartPropertyMetadata());
+            TreeTableColumnMetadata.getProperties().add(sortType_SortType_PropertyMetadata());
+        });
+        propertyLoaders.put(TreeTableViewMetadata.getKlass(), () -> {
+            TreeTableViewMetadata.getProperties().add(accessibleRole_TREE_TABLE_VIEW_PropertyMetadata());
+            TreeTableViewMetadata.getProperties().add(columnResizePolicy_TREETABLEVIEW_UNCONSTRAINED_PropertyMetadata());
+            TreeTableViewMetadata.getProperties().add(columns_TreeTableColumn_PropertyMetadata());
+            TreeTableViewMetadata.getProperties().add(editable_false_PropertyMetadata());
+            TreeTableViewMetadata.getProperties().add(expandedItemCountPropertyMetadata());
+            TreeTableViewMetadata.getProperties().add(fixedCellSizePropertyMetadata());
+            TreeTableViewMetadata.getProperties().add(focusTraversable_true_PropertyMetadata());
+            TreeTableViewMetadata.getProperties().add(onScrollToPropertyMetadata());
+            TreeTableViewMetadata.getProperties().add(onScrollToColumnPropertyMetadata());
+            TreeTableViewMetadata.getProperties().add(onSortPropertyMetadata());
+            TreeTableViewMetadata.getProperties().add(placeholderPropertyMetadata());
+            TreeTableViewMetadata.getProperties().add(showRootPropertyMetadata());
+            TreeTableViewMetadata.getProperties().add(sortModePropertyMetadata());
+            TreeTableViewMetadata.getProperties().add(sortOrderPropertyMetadata());
+            TreeTableViewMetadata.getProperties().add(styleClass_c32_PropertyMetadata());
+            TreeTableViewMetadata.getProperties().add(tableMenuButtonVisiblePropertyMetadata());
+            TreeTableViewMetadata.getProperties().add(treeColumnPropertyMetadata());
+        });
+        propertyLoaders.put(TreeViewMetadata.getKlass(), () -> {
+            TreeViewMetadata.getProperties().add(accessibleRole_TREE_VIEW_PropertyMetadata());
+            TreeViewMetadata.getProperties().add(editable_false_PropertyMetadata());
+            TreeViewMetadata.getProperties().add(expandedItemCountPropertyMetadata());
+            TreeViewMetadata.getProperties().add(fixedCellSizePropertyMetadata());
+            TreeViewMetadata.getProperties().add(focusTraversable_true_PropertyMetadata());
+            TreeViewMetadata.getProperties().add(onEditCancelPropertyMetadata());
+            TreeViewMetadata.getProperties().add(onEditCommitPropertyMetadata());
+            TreeViewMetadata.getProperties().add(onEditStartPropertyMetadata());
+            TreeViewMetadata.getProperties().add(onScrollToPropertyMetadata());
+            TreeViewMetadata.getProperties().add(showRootPropertyMetadata());
+            TreeViewMetadata.getProperties().add(styleClass_c22_PropertyMetadata());
+        });
+        propertyLoaders.put(VBoxMetadata.getKlass(), () -> {
+            VBoxMetadata.getProperties().add(alignment_TOP_LEFT_PropertyMetadata());
+            VBoxMetadata.getProperties().add(contentBiasPropertyMetadata());
+            VBoxMetadata.getProperties().add(fillWidthPropertyMetadata());
+            VBoxMetadata.getProperties().add(spacingPropertyMetadata());
+        });
+        propertyLoaders.put(VLineToMetadata.getKlass(), () -> {
+            VLineToMetadata.getProperties().add(y_0_PropertyMetadata());
+        });
+        propertyLoaders.put(ValueAxisMetadata.getKlass(), () -> {
+            ValueAxisMetadata.getProperties().add(lowerBoundPropertyMetadata());
+            ValueAxisMetadata.getProperties().add(minorTickCount_5_PropertyMetadata());
+            ValueAxisMetadata.getProperties().add(minorTickLengthPropertyMetadata());
+            ValueAxisMetadata.getProperties().add(minorTickVisiblePropertyMetadata());
+            ValueAxisMetadata.getProperties().add(scalePropertyMetadata());
+            ValueAxisMetadata.getProperties().add(styleClass_c45_PropertyMetadata());
+            ValueAxisMetadata.getProperties().add(tickLabelFormatterPropertyMetadata());
+            ValueAxisMetadata.getProperties().add(upperBoundPropertyMetadata());
+            ValueAxisMetadata.getProperties().add(zeroPositionPropertyMetadata());
+        });
+        propertyLoaders.put(WebViewMetadata.getKlass(), () -> {
+            WebViewMetadata.getProperties().add(contextMenuEnabledPropertyMetadata());
+            WebViewMetadata.getProperties().add(focusTraversable_true_PropertyMetadata());
+            WebViewMetadata.getProperties().add(fontScalePropertyMetadata());
+            WebViewMetadata.getProperties().add(fontSmoothingType_LCD_PropertyMetadata());
+            WebViewMetadata.getProperties().add(height_Double_ro_PropertyMetadata());
+            WebViewMetadata.getProperties().add(maxHeight_MAX_PropertyMetadata());
+            WebViewMetadata.getProperties().add(maxWidth_MAX_PropertyMetadata());
+            WebViewMetadata.getProperties().add(minHeight_0_PropertyMetadata());
+            WebViewMetadata.getProperties().add(minWidth_0_PropertyMetadata());
+            WebViewMetadata.getProperties().add(nodeOrientation_LEFT_TO_RIGHT_PropertyMetadata());
+            WebViewMetadata.getProperties().add(pickOnBounds_false_PropertyMetadata());
+            WebViewMetadata.getProperties().add(prefHeight_60000_PropertyMetadata());
+            WebViewMetadata.getProperties().add(prefWidth_80000_PropertyMetadata());
+            WebViewMetadata.getProperties().add(resizable_Boolean_ro_PropertyMetadata());
+            WebViewMetadata.getProperties().add(styleClass_c48_PropertyMetadata());
+            WebViewMetadata.getProperties().add(width_Double_ro_PropertyMetadata());
+            WebViewMetadata.getProperties().add(zoomPropertyMetadata());
+        });
+        propertyLoaders.put(WindowMetadata.getKlass(), () -> {
+            WindowMetadata.getProperties().add(height_Double_COMPUTED_PropertyMetadata());
+            WindowMetadata.getProperties().add(onCloseRequestPropertyMetadata());
+            WindowMetadata.getProperties().add(onHiddenPropertyMetadata());
+            WindowMetadata.getProperties().add(onHidingPropertyMetadata());
+            WindowMetadata.getProperties().add(onShowingPropertyMetadata());
+            WindowMetadata.getProperties().add(onShownPropertyMetadata());
+            WindowMetadata.getProperties().add(opacityPropertyMetadata());
+            WindowMetadata.getProperties().add(width_Double_COMPUTED_PropertyMetadata());
+        });
+        propertyLoaders.put(XYChartMetadata.getKlass(), () -> {
+            XYChartMetadata.getProperties().add(alternativeColumnFillVisiblePropertyMetadata());
+            XYChartMetadata.getProperties().add(alternativeRowFillVisiblePropertyMetadata());
+            XYChartMetadata.getProperties().add(horizontalGridLinesVisiblePropertyMetadata());
+            XYChartMetadata.getProperties().add(horizontalZeroLineVisiblePropertyMetadata());
+            XYChartMetadata.getProperties().add(styleClass_c37_PropertyMetadata());
+            XYChartMetadata.getProperties().add(verticalGridLinesVisiblePropertyMetadata());
+            XYChartMetadata.getProperties().add(verticalZeroLineVisiblePropertyMetadata());
+            XYChartMetadata.getProperties().add(xAxisPropertyMetadata());
+            XYChartMetadata.getProperties().add(yAxisPropertyMetadata());
+        });
+        propertyLoaders.put(IncludeElementMetadata.getKlass(), () -> {
+            IncludeElementMetadata.getProperties().add(AnchorPane_bottomAnchorPropertyMetadata());
+            IncludeElementMetadata.getProperties().add(AnchorPane_leftAnchorPropertyMetadata());
+            IncludeElementMetadata.getProperties().add(AnchorPane_rightAnchorPropertyMetadata());
+            IncludeElementMetadata.getProperties().add(AnchorPane_topAnchorPropertyMetadata());
+            IncludeElementMetadata.getProperties().add(BorderPane_alignmentPropertyMetadata());
+            IncludeElementMetadata.getProperties().add(FlowPane_marginPropertyMetadata());
+            IncludeElementMetadata.getProperties().add(GridPane_columnIndexPropertyMetadata());
+            IncludeElementMetadata.getProperties().add(GridPane_columnSpanPropertyMetadata());
+            IncludeElementMetadata.getProperties().add(GridPane_halignmentPropertyMetadata());
+            IncludeElementMetadata.getProperties().add(GridPane_hgrowPropertyMetadata());
+            IncludeElementMetadata.getProperties().add(GridPane_rowIndexPropertyMetadata());
+            IncludeElementMetadata.getProperties().add(GridPane_rowSpanPropertyMetadata());
+            IncludeElementMetadata.getProperties().add(GridPane_valignmentPropertyMetadata());
+            IncludeElementMetadata.getProperties().add(GridPane_vgrowPropertyMetadata());
+            IncludeElementMetadata.getProperties().add(HBox_hgrowPropertyMetadata());
+            IncludeElementMetadata.getProperties().add(StackPane_alignmentPropertyMetadata());
+            IncludeElementMetadata.getProperties().add(TilePane_alignmentPropertyMetadata());
+            IncludeElementMetadata.getProperties().add(VBox_vgrowPropertyMetadata());
+            IncludeElementMetadata.getProperties().add(layoutXPropertyMetadata());
+            IncludeElementMetadata.getProperties().add(layoutYPropertyMetadata());
+            IncludeElementMetadata.getProperties().add(maxHeight_COMPUTED_PropertyMetadata());
+            IncludeElementMetadata.getProperties().add(maxWidth_COMPUTED_PropertyMetadata());
+            IncludeElementMetadata.getProperties().add(minHeight_COMPUTED_PropertyMetadata());
+            IncludeElementMetadata.getProperties().add(minWidth_COMPUTED_PropertyMetadata());
+            IncludeElementMetadata.getProperties().add(prefHeight_COMPUTED_PropertyMetadata());
+            IncludeElementMetadata.getProperties().add(prefWidth_COMPUTED_PropertyMetadata());
+            IncludeElementMetadata.getProperties().add(rotatePropertyMetadata());
+            IncludeElementMetadata.getProperties().add(rotationAxisPropertyMetadata());
+            IncludeElementMetadata.getProperties().add(scaleXPropertyMetadata());
+            IncludeElementMetadata.getProperties().add(scaleYPropertyMetadata());
+            IncludeElementMetadata.getProperties().add(scaleZPropertyMetadata());
+            IncludeElementMetadata.getProperties().add(translateXPropertyMetadata());
+            IncludeElementMetadata.getProperties().add(translateYPropertyMetadata());
+            IncludeElementMetadata.getProperties().add(translateZPropertyMetadata());
+            IncludeElementMetadata.getProperties().add(layoutBoundsPropertyMetadata());
+            IncludeElementMetadata.getProperties().add(boundsInLocalPropertyMetadata());
+            IncludeElementMetadata.getProperties().add(boundsInParentPropertyMetadata());
+            IncludeElementMetadata.getProperties().add(baselineOffsetPropertyMetadata());
+            IncludeElementMetadata.getProperties().add(resizable_Boolean_ro_PropertyMetadata());
+            IncludeElementMetadata.getProperties().add(contentBiasPropertyMetadata());
+            IncludeElementMetadata.getProperties().add(snapToPixelPropertyMetadata());
+            IncludeElementMetadata.getProperties().add(effectiveNodeOrientationPropertyMetadata());
+            IncludeElementMetadata.getProperties().add(includeFxmlPropertyMetadata());
+        });
+    }
+
+    /*
+     * Runs the loader of a built-in component class. Property metadata are
+     * shared between classes and created on first use by their accessors:
+     * loaders, which are the only callers of these accessors, run with
+     * propertyLock held.
+     */
+    private void loadProperties(ComponentClassMetadata componentMetadata) {
+        final Runnable loader = propertyLoaders.get(componentMetadata.getKlass());
+        if (loader != null) {
+            synchronized (propertyLock) {
+                loader.run();
+            }
+        }
+    }
+
     private final Collection<ExternalMetadataProvider> externalMetadataProviders = getExternalMetadataProviders();
 
     private void addExternalMetadata() {
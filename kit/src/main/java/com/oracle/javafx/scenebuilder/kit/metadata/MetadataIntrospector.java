@@ -62,8 +62,9 @@ import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 
@@ -77,45 +78,61 @@ import static com.oracle.javafx.scenebuilder.kit.metadata.util.InspectorPath.CUS
 @Slf4j
 class MetadataIntrospector {
     
+    /*
+     * A property found by introspection: its metadata is derived from its
+     * type, its default value and its rank in the custom section. Restoring
+     * these from IntrospectionCache avoids instantiating a sample.
+     */
+    record IntrospectedProperty(PropertyName name, Class<?> type, boolean readWrite,
+            Object defaultValue, int index) {
+    }
+
     private final Class<?> componentClass;
     private final ComponentClassMetadata ancestorMetadata;
+    private final IntrospectionCache cache;
     private int counter;
     
     public MetadataIntrospector(Class<?> componentClass, ComponentClassMetadata ancestorMetadata) {
+        this(componentClass, ancestorMetadata, null);
+    }
+    
+    public MetadataIntrospector(Class<?> componentClass, ComponentClassMetadata ancestorMetadata,
+            IntrospectionCache cache) {
         this.componentClass = componentClass;
         this.ancestorMetadata = ancestorMetadata;
+        this.cache = cache;
     }
     
     public ComponentClassMetadata introspect() {
-        final Set<PropertyMetadata> properties = new HashSet<>();
-        final Set<PropertyName> hiddenProperties = Metadata.getMetadata().getHiddenProperties();
+        List<IntrospectedProperty> properties
+                = (cache == null) ? null : cache.lookup(componentClass, ancestorMetadata);
         Exception exception;
         
-        
-        try {
-            final Object sample = instantiate();
-            final BeanInfo beanInfo = Introspector.getBeanInfo(componentClass);
-            for (PropertyDescriptor d : beanInfo.getPropertyDescriptors()) {
-                final PropertyName name = new PropertyName(d.getName());
-                PropertyMetadata propertyMetadata 
-                        = lookupPropertyMetadata(ancestorMetadata, name);
-                if ((propertyMetadata == null) 
-                        && (hiddenProperties.contains(name) == false)) {
-                    propertyMetadata = makePropertyMetadata(name, d, sample);
-                    if (propertyMetadata != null) {
-                        properties.add(propertyMetadata);
-                    }
+        if (properties != null) {
+            // componentClass has been introspected in a previous session
+            exception = null;
+        } else {
+            try {
+                properties = introspectProperties();
+                exception = null;
+                if (cache != null) {
+                    cache.store(componentClass, ancestorMetadata, properties);
                 }
+            } catch (IOException | IntrospectionException x) {
+                properties = Collections.emptyList();
+                exception = x;
             }
-            exception = null;
-        } catch (IOException | IntrospectionException x) {
-            exception = x;
         }
         
         final CustomComponentClassMetadata result 
                 = new CustomComponentClassMetadata(componentClass,  
                 ancestorMetadata, exception);
-        result.getProperties().addAll(properties);
+        for (IntrospectedProperty p : properties) {
+            final PropertyMetadata propertyMetadata = makePropertyMetadata(p);
+            if (propertyMetadata != null) {
+                result.getProperties().add(propertyMetadata);
+            }
+        }
         
         return result;
     }
@@ -125,6 +142,26 @@ class MetadataIntrospector {
      * Private
      */
     
+    private List<IntrospectedProperty> introspectProperties() throws IOException, IntrospectionException {
+        final List<IntrospectedProperty> result = new ArrayList<>();
+        final Set<PropertyName> hiddenProperties = Metadata.getMetadata().getHiddenProperties();
+        
+        final Object sample = instantiate();
+        final BeanInfo beanInfo = Introspector.getBeanInfo(componentClass);
+        for (PropertyDescriptor d : beanInfo.getPropertyDescriptors()) {
+            final PropertyName name = new PropertyName(d.getName());
+            if ((lookupPropertyMetadata(ancestorMetadata, name) == null)
+                    && (hiddenProperties.contains(name) == false)) {
+                final IntrospectedProperty property = introspectProperty(name, d, sample);
+                if (property != null) {
+                    result.add(property);
+                }
+            }
+        }
+        
+        return result;
+    }
+    
     private Object instantiate() throws IOException {
         final StringBuilder sb = new StringBuilder();
         Object result;
@@ -173,9 +210,9 @@ class MetadataIntrospector {
         return result;
     }
     
-    private PropertyMetadata makePropertyMetadata(PropertyName name, 
+    private IntrospectedProperty introspectProperty(PropertyName name, 
             PropertyDescriptor propertyDescriptor, Object sample) {
-        PropertyMetadata result;
+        IntrospectedProperty result;
         
         if (propertyDescriptor.getPropertyType() == null) {
             result = null;
@@ -184,85 +221,146 @@ class MetadataIntrospector {
         } else {
             final Class<?> propertyType = canonizeClass(propertyDescriptor.getPropertyType());
             final boolean readWrite = propertyDescriptor.getWriteMethod() != null;
-            final InspectorPath inspectorPath 
-                    = new InspectorPath(CUSTOM_SECTION, CUSTOM_SUB_SECTION, counter++);
+            final Method readMethod = propertyDescriptor.getReadMethod();
+            final int index = counter++;
+            final Object defaultValue;
             
             if (propertyType.isArray()) {
-                result = null;
+                defaultValue = null;
             } else if (propertyType.isEnum()) {
-                final Object fallback = propertyType.getEnumConstants()[0];
-                result = new EnumerationPropertyMetadata(
-                        name,
-                        propertyType,
-                        readWrite,
-                        (Enum<?>) getDefaultValue(sample, propertyDescriptor.getReadMethod(), fallback),
-                        inspectorPath);
+                defaultValue = getDefaultValue(sample, readMethod, propertyType.getEnumConstants()[0]);
             } else if (propertyType == Boolean.class) {
-                result = new BooleanPropertyMetadata(
-                        name,
-                        readWrite,
-                        (Boolean) getDefaultValue(sample, propertyDescriptor.getReadMethod(), false),
-                        inspectorPath);
+                defaultValue = getDefaultValue(sample, readMethod, false);
             } else if (propertyType == Integer.class) {
-                result = new IntegerPropertyMetadata(
-                        name,
-                        readWrite,
-                        (Integer) getDefaultValue(sample, propertyDescriptor.getReadMethod(), 0),
-                        inspectorPath);
+                defaultValue = getDefaultValue(sample, readMethod, 0);
             } else if (propertyType == Double.class) {
-                result = new DoublePropertyMetadata(
-                        name,
-                        DoubleKind.COORDINATE,
-                        readWrite,
-                        (Double) getDefaultValue(sample, propertyDescriptor.getReadMethod(), 0.0),
-                        inspectorPath);
-            } else if (propertyType == String.class) {
-                result = new StringPropertyMetadata(
-                        name,
-                        readWrite,
-                        (String) getDefaultValue(sample, propertyDescriptor.getReadMethod(), null),
-                        inspectorPath);
-            } else if (propertyType == javafx.scene.paint.Color.class) {
-                result = new ColorPropertyMetadata(
-                        name,
-                        readWrite,
-                        (Color) getDefaultValue(sample, propertyDescriptor.getReadMethod(), null),
-                        inspectorPath);
-            } else if (propertyType == javafx.scene.paint.Paint.class) {
-                result = new PaintPropertyMetadata(
-                        name,
-                        readWrite,
-                        (Paint) getDefaultValue(sample, propertyDescriptor.getReadMethod(), null),
-                        inspectorPath);
-            } else if (propertyType == javafx.scene.text.Font.class) {
-                result = new FontPropertyMetadata(
-                        name,
-                        readWrite,
-                        (Font) getDefaultValue(sample, propertyDescriptor.getReadMethod(), null),
-                        inspectorPath);
-            } else if (propertyType == javafx.scene.image.Image.class) {
-                result = new ImagePropertyMetadata(
-                        name,
-                        readWrite,
-                        null,
-                        inspectorPath);
+                defaultValue = getDefaultValue(sample, readMethod, 0.0);
+            } else if ((propertyType == String.class)
+                    || (propertyType == javafx.scene.paint.Color.class)
+                    || (propertyType == javafx.scene.paint.Paint.class)
+                    || (propertyType == javafx.scene.text.Font.class)
+                    || (propertyType == javafx.util.Duration.class)) {
+                defaultValue = getDefaultValue(sample, readMethod, null);
             } else if (propertyType == javafx.geometry.Insets.class) {
-                Insets defaultValues = (Insets) getDefaultValue(sample, propertyDescriptor.getReadMethod(), Insets.EMPTY);
-                result = new InsetsPropertyMetadata(name, readWrite, defaultValues, inspectorPath);
-            } else if (propertyType == javafx.util.Duration.class) {
-                Duration defaultValue = (Duration) getDefaultValue(sample, propertyDescriptor.getReadMethod(), null);
-                result = new DurationPropertyMetadata(
-                        name,
-                        readWrite,
-                        defaultValue == null ? null : new SBDuration(defaultValue),
-                        inspectorPath);
+                defaultValue = getDefaultValue(sample, readMethod, Insets.EMPTY);
+            } else {
+                defaultValue = null;
+            }
+            
+            if (propertyType.isArray()) {
+                result = null;
+            } else if ((propertyType == javafx.collections.ObservableList.class)
+                    && (isStringList(name) == false)) {
+                result = null;
+            } else {
+                result = new IntrospectedProperty(name, propertyType, readWrite, defaultValue, index);
+            }
+        }
+        
+        return result;
+    }
+    
+    private boolean isStringList(PropertyName name) {
+        String propertyName = name.getName();
+        String methodName = "get" + propertyName.substring(0, 1).toUpperCase(Locale.ROOT) + propertyName.substring(1);
+        boolean result = false;
+        try {
+            Method method = componentClass.getMethod(methodName);
+            Type type = method.getGenericReturnType();
+            if (type instanceof ParameterizedType) {
+                ParameterizedType parameterizedType = (ParameterizedType) type;
+                Type genericType = parameterizedType.getActualTypeArguments()[0];
+                if (genericType instanceof Class) {
+                    Class genericClass = (Class) parameterizedType.getActualTypeArguments()[0];
+                    result = genericClass.equals(java.lang.String.class);
+                }
+            }
+        } catch (NoSuchMethodException e) {
+            log.warn("Failed to find method: {}", methodName, e);
+        }
+        return result;
+    }
+    
+    private static PropertyMetadata makePropertyMetadata(IntrospectedProperty p) {
+        final PropertyMetadata result;
+        final PropertyName name = p.name();
+        final Class<?> propertyType = p.type();
+        final boolean readWrite = p.readWrite();
+        final InspectorPath inspectorPath 
+                = new InspectorPath(CUSTOM_SECTION, CUSTOM_SUB_SECTION, p.index());
+        
+        if (propertyType.isEnum()) {
+            result = new EnumerationPropertyMetadata(
+                    name,
+                    propertyType,
+                    readWrite,
+                    (Enum<?>) p.defaultValue(),
+                    inspectorPath);
+        } else if (propertyType == Boolean.class) {
+            result = new BooleanPropertyMetadata(
+                    name,
+                    readWrite,
+                    (Boolean) p.defaultValue(),
+                    inspectorPath);
+        } else if (propertyType == Integer.class) {
+            result = new IntegerPropertyMetadata(
+                    name,
+                    readWrite,
+                    (Integer) p.defaultValue(),
+                    inspectorPath);
+        } else if (propertyType == Double.class) {
+            result = new DoublePropertyMetadata(
+                    name,
+                    DoubleKind.COORDINATE,
+                    readWrite,
+                    (Double) p.defaultValue(),
+                    inspectorPath);
+        } else if (propertyType == String.class) {
+            result = new StringPropertyMetadata(
+                    name,
+                    readWrite,
+                    (String) p.defaultValue(),
+                    inspectorPath);
+        } else if (propertyType == javafx.scene.paint.Color.class) {
+            result = new ColorPropertyMetadata(
+                    name,
+                    readWrite,
+                    (Color) p.defaultValue(),
+                    inspectorPath);
+        } else if (propertyType == javafx.scene.paint.Paint.class) {
+            result = new PaintPropertyMetadata(
+                    name,
+                    readWrite,
+                    (Paint) p.defaultValue(),
+                    inspectorPath);
+        } else if (propertyType == javafx.scene.text.Font.class) {
+            result = new FontPropertyMetadata(
+                    name,
+                    readWrite,
+                    (Font) p.defaultValue(),
+                    inspectorPath);
+        } else if (propertyType == javafx.scene.image.Image.class) {
+            result = new ImagePropertyMetadata(
+                    name,
+                    readWrite,
+                    null,
+                    inspectorPath);
+        } else if (propertyType == javafx.geometry.Insets.class) {
+            result = new InsetsPropertyMetadata(name, readWrite, (Insets) p.defaultValue(), inspectorPath);
+        } else if (propertyType == javafx.util.Duration.class) {
+            Duration defaultValue = (Duration) p.defaultValue();
+            result = new DurationPropertyMetadata(
+                    name,
+                    readWrite,
+                    defaultValue == null ? null : new SBDuration(defaultValue),
+                    inspectorPath);
 
-            } else if (propertyType == javafx.event.EventHandler.class) {
-                result = new EventHandlerPropertyMetadata(
-                        name,
-                        readWrite,
-                        null,
-                        inspectorPath);
+        } else if (propertyType == javafx.event.EventHandler.class) {
+            result = new EventHandlerPropertyMetadata(
+                    name,
+                    readWrite,
+                    null,
+                    inspectorPath);
 //            The following doesn't work because FXMLLoader is only prepared to load 'function' types
 //            of type EventHandler
 //
@@ -272,33 +370,15 @@ class MetadataIntrospector {
 //                        readWrite,
 //                        null,
 //                        inspectorPath, FUNCTION);
-            } else if (propertyType == javafx.collections.ObservableList.class) {
-                String propertyName = name.getName();
-                String methodName = "get" + propertyName.substring(0, 1).toUpperCase(Locale.ROOT) + propertyName.substring(1);
-                result = null;
-                try {
-                    Method method = sample.getClass().getMethod(methodName);
-                    Type type = method.getGenericReturnType();
-                    if (type instanceof ParameterizedType) {
-                        ParameterizedType parameterizedType = (ParameterizedType) type;
-                        Type genericType = parameterizedType.getActualTypeArguments()[0];
-                        if (genericType instanceof Class) {
-                            Class genericClass = (Class) parameterizedType.getActualTypeArguments()[0];
-                            if (genericClass.equals(java.lang.String.class)) {
-                                result = new StringListPropertyMetadata(
-                                        name,
-                                        readWrite,
-                                        Collections.emptyList(),
-                                        inspectorPath);
-                            }
-                        }
-                    }
-                } catch (NoSuchMethodException e) {
-                    log.warn("Failed to find method: {}", methodName, e);
-                }
-            } else {
-                result = null;
-            }
+        } else if (propertyType == javafx.collections.ObservableList.class) {
+            // introspectProperty() only keeps lists of strings
+            result = new StringListPropertyMetadata(
+                    name,
+                    readWrite,
+                    Collections.emptyList(),
+                    inspectorPath);
+        } else {
+            result = null;
         }
         
         return result;
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.metadata;
+
+import com.oracle.javafx.scenebuilder.kit.metadata.klass.ComponentClassMetadata;
+import com.oracle.javafx.scenebuilder.kit.metadata.property.ComponentPropertyMetadata;
+import com.oracle.javafx.scenebuilder.kit.metadata.property.PropertyMetadata;
+import com.oracle.javafx.scenebuilder.kit.metadata.property.ValuePropertyMetadata;
+import com.oracle.javafx.scenebuilder.kit.metadata.util.PropertyName;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Flattened view of the properties of a component class: properties
+ * inherited along the ComponentClassMetadata parent chain are merged
+ * once and indexed by name. A table is immutable: it is a snapshot of the
+ * metadata at the time it is built.
+ */
+class PropertyTable {
+
+    static final PropertyTable EMPTY = new PropertyTable(null);
+
+    private final Map<PropertyName, PropertyMetadata> propertyMap;
+    private final Set<PropertyMetadata> properties;
+    private final Set<ValuePropertyMetadata> valueProperties;
+    private final Set<ComponentPropertyMetadata> componentProperties;
+
+    PropertyTable(ComponentClassMetadata classMetadata) {
+        final Map<PropertyName, PropertyMetadata> map = new HashMap<>();
+        ComponentClassMetadata cm = classMetadata;
+        while (cm != null) {
+            for (PropertyMetadata pm : cm.getProperties()) {
+                // Properties of a subclass take precedence
+                map.putIfAbsent(pm.getName(), pm);
+            }
+            cm = cm.getParentMetadata();
+        }
+
+        final Set<ValuePropertyMetadata> values = new HashSet<>();
+        final Set<ComponentPropertyMetadata> components = new HashSet<>();
+        for (PropertyMetadata pm : map.values()) {
+            if (pm instanceof ValuePropertyMetadata vpm) {
+                values.add(vpm);
+            } else if (pm instanceof ComponentPropertyMetadata cpm) {
+                components.add(cpm);
+            }
+        }
+
+        this.propertyMap = Collections.unmodifiableMap(map);
+        this.properties = Collections.unmodifiableSet(new HashSet<>(map.values()));
+        this.valueProperties = Collections.unmodifiableSet(values);
+        this.componentProperties = Collections.unmodifiableSet(components);
+    }
+
+    PropertyMetadata lookup(PropertyName name) {
+        return propertyMap.get(name);
+    }
+
+    Set<PropertyMetadata> getProperties() {
+        return properties;
+    }
+
+    Set<ValuePropertyMetadata> getValueProperties() {
+        return valueProperties;
+    }
+
+    Set<ComponentPropertyMetadata> getComponentProperties() {
+        return componentProperties;
+    }
+}
@@ -43,6 +43,7 @@ import java.util.Iterator;
 import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  *
@@ -53,6 +54,9 @@ public class ComponentClassMetadata extends ClassMetadata {
     private final Set<PropertyMetadata> properties = new HashSet<>();
     private final boolean freeChildPositioning;
     private final ComponentClassMetadata parentMetadata;
+    private Consumer<ComponentClassMetadata> propertyLoader; // Guarded by this
+    // Written once properties are filled: lets getProperties() skip the lock
+    private volatile boolean propertiesLoaded = true;
 
     public ComponentClassMetadata(Class<?> klass, ComponentClassMetadata parentMetadata) {
         super(klass);
@@ -61,9 +65,23 @@ public class ComponentClassMetadata extends ClassMetadata {
     }
 
     public Set<PropertyMetadata> getProperties() {
+        if (propertiesLoaded == false) {
+            loadProperties();
+        }
         return properties;
     }
 
+    /**
+     * Defers the creation of the properties of this class: loader is
+     * invoked once, the first time getProperties() is called.
+     *
+     * @param loader a consumer adding properties to this class metadata
+     */
+    public synchronized void setPropertyLoader(Consumer<ComponentClassMetadata> loader) {
+        this.propertyLoader = loader;
+        this.propertiesLoaded = (loader == null);
+    }
+
     public PropertyName getSubComponentProperty() {
         PropertyName result = null;
         Class<?> componentClass = getKlass();
@@ -99,7 +117,7 @@ public class ComponentClassMetadata extends ClassMetadata {
         
         assert propertyName != null;
         
-        final Iterator<PropertyMetadata> it = properties.iterator();
+        final Iterator<PropertyMetadata> it = getProperties().iterator();
         while ((result == null) && it.hasNext()) {
             final PropertyMetadata pm = it.next();
             if (pm.getName().equals(propertyName)) {
@@ -129,6 +147,21 @@ public class ComponentClassMetadata extends ClassMetadata {
      * Private
      */
     
+    private synchronized void loadProperties() {
+        // Other threads wait here until properties are filled. The loader
+        // itself fills them through getProperties(): propertyLoader is
+        // reset first so that this re-entrant call returns immediately.
+        if (propertyLoader != null) {
+            final Consumer<ComponentClassMetadata> loader = propertyLoader;
+            propertyLoader = null;
+            try {
+                loader.accept(this);
+            } finally {
+                propertiesLoaded = true;
+            }
+        }
+    }
+    
     private static PropertyName getSubComponentProperty(Class<?> componentClass) {
         final PropertyName result;
         
@@ -90,8 +90,7 @@ public class EnumerationPropertyMetadata extends ValuePropertyMetadata {
             } else {
                 assert fxomProperty instanceof FXOMPropertyT;
                 final FXOMPropertyT fxomPropertyT = (FXOMPropertyT) fxomProperty;
-                final PrefixedValue pv = new PrefixedValue(fxomPropertyT.getValue());
-                if (pv.isBindingExpression()) {
+                if (fxomPropertyT.getPrefixedValueType() == PrefixedValue.Type.BINDING_EXPRESSION) {
                     result = getDefaultValue();
                 } else {
                     result = fxomPropertyT.getValue();
@@ -36,6 +36,7 @@ import com.oracle.javafx.scenebuilder.kit.fxom.FXOMInstance;
 import com.oracle.javafx.scenebuilder.kit.metadata.util.DesignImage;
 import com.oracle.javafx.scenebuilder.kit.metadata.util.InspectorPath;
 import com.oracle.javafx.scenebuilder.kit.metadata.util.PropertyName;
+import com.oracle.javafx.scenebuilder.kit.util.ImageCache;
 import javafx.scene.image.Image;
 
 /**
@@ -81,7 +82,7 @@ public class ImagePropertyMetadata extends ComplexPropertyMetadata<DesignImage>
         requestedHeightMetadata.setValue(result, value.getImage().getRequestedHeight());
         preserveRatioMetadata.setValue(result, value.getImage().isPreserveRatio());
         smoothMetadata.setValue(result, value.getImage().isSmooth());
-        backgroundLoading.setValue(result, value.getImage().isBackgroundLoading());
+        backgroundLoading.setValue(result, ImageCache.isBackgroundLoadingRequested(value.getImage()));
 
         return result;
     }
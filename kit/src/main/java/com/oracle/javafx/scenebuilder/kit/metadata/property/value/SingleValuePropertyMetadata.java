@@ -44,6 +44,7 @@ import com.oracle.javafx.scenebuilder.kit.metadata.util.InspectorPath;
 import com.oracle.javafx.scenebuilder.kit.metadata.util.PrefixedValue;
 import com.oracle.javafx.scenebuilder.kit.metadata.util.PropertyName;
 import java.util.Objects;
+import java.util.function.Function;
 
 /**
  *
@@ -52,6 +53,8 @@ public abstract class SingleValuePropertyMetadata<T> extends ValuePropertyMetada
     
     private final Class<T> valueClass;
     private final T defaultValue;
+    // Decoded values are cached by FXOMPropertyT under this key
+    private final Function<FXOMPropertyT, T> stringDecoder = p -> makeValueFromString(p.getValue());
 
     public SingleValuePropertyMetadata(PropertyName name, Class<T> valueClass, 
             boolean readWrite, T defaultValue, InspectorPath inspectorPath) {
@@ -76,11 +79,14 @@ public abstract class SingleValuePropertyMetadata<T> extends ValuePropertyMetada
                 result = defaultValue;
             } else if (fxomProperty instanceof FXOMPropertyT) {
                 final FXOMPropertyT fxomPropertyT = (FXOMPropertyT) fxomProperty;
-                final PrefixedValue pv = new PrefixedValue(fxomPropertyT.getValue());
-                if (pv.isBindingExpression()) {
+                final PrefixedValue.Type type = fxomPropertyT.getPrefixedValueType();
+                if (type == PrefixedValue.Type.BINDING_EXPRESSION) {
                     result = getDefaultValue();
-                } else {
+                } else if ((type == PrefixedValue.Type.EXPRESSION) || isStringDecoded() == false) {
+                    // Result depends on other objects of the document
                     result = makeValueFromProperty(fxomPropertyT);
+                } else {
+                    result = fxomPropertyT.getParsedValue(stringDecoder);
                 }
             } else if (fxomProperty instanceof FXOMPropertyC) {
                 final FXOMPropertyC fxomPropertyC = (FXOMPropertyC) fxomProperty;
@@ -137,6 +143,15 @@ public abstract class SingleValuePropertyMetadata<T> extends ValuePropertyMetada
         return makeValueFromString(fxomProperty.getValue());
     }
     
+    /*
+     * Returns true if makeValueFromProperty() only depends on the text of 
+     * the property (and returns an immutable value) : getValue() then reuses 
+     * the value decoded by a previous invocation.
+     */
+    protected boolean isStringDecoded() {
+        return true;
+    }
+    
     /*
      * ValuePropertyMetadata
      */
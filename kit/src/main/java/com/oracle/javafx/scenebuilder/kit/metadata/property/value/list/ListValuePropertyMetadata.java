@@ -87,8 +87,7 @@ public abstract class ListValuePropertyMetadata<T> extends ValuePropertyMetadata
                 result = defaultValue;
             } else if (fxomProperty instanceof FXOMPropertyT) {
                 final FXOMPropertyT fxomPropertyT = (FXOMPropertyT) fxomProperty;
-                final PrefixedValue pv = new PrefixedValue(fxomPropertyT.getValue());
-                if (pv.isBindingExpression()) {
+                if (fxomPropertyT.getPrefixedValueType() == PrefixedValue.Type.BINDING_EXPRESSION) {
                     result = getDefaultValue();
                 } else {
                     result = makeValueFromString(fxomPropertyT.getValue());
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.metadata.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Bean properties of the built-in JavaFX classes, as computed by
+ * java.beans.Introspector at build time (see BeanPropertyTableGenerator in
+ * the test sources and the generate-metadata profile of the kit module).
+ * <p>
+ * Looking up a property in this table avoids introspecting the class at
+ * runtime, which costs tens of milliseconds per JavaFX class.
+ * <p>
+ * The table is a text resource: a line starting with '@' opens a class
+ * and names its superclass, each following line describes a property
+ * added or redefined by that class with its read and write method names
+ * ('-' when absent).
+ */
+final class BeanPropertyTable {
+
+    static final String RESOURCE_NAME = "BeanProperties.txt"; //NOI18N
+    static final String NO_METHOD = "-"; //NOI18N
+
+    /*
+     * A property of the table with its accessor method names
+     */
+    record Row(String propertyName, String readMethodName, String writeMethodName) {
+
+        Method findReadMethod(Class<?> beanClass) throws NoSuchMethodException {
+            return (readMethodName == null) ? null : beanClass.getMethod(readMethodName);
+        }
+
+        Method findWriteMethod(Class<?> beanClass, Method readMethod) throws NoSuchMethodException {
+            Method result = null;
+            if (writeMethodName != null) {
+                final Class<?> type = (readMethod == null) ? null : readMethod.getReturnType();
+                for (Method m : beanClass.getMethods()) {
+                    if (m.getName().equals(writeMethodName)
+                            && (m.getParameterCount() == 1)
+                            && ((type == null) || m.getParameterTypes()[0].isAssignableFrom(type))
+                            && ((result == null) || result.getParameterTypes()[0].isAssignableFrom(m.getParameterTypes()[0]))) {
+                        result = m;
+                    }
+                }
+                if (result == null) {
+                    throw new NoSuchMethodException(beanClass.getName() + "." + writeMethodName); //NOI18N
+                }
+            }
+            return result;
+        }
+    }
+
+    /*
+     * Properties added or redefined by a class
+     */
+    record ClassEntry(String superClassName, Map<String, Row> rows) {
+    }
+
+    private static final class Holder {
+        static final Map<String, ClassEntry> ENTRIES = load();
+    }
+
+    private BeanPropertyTable() {
+        // No instance
+    }
+
+    /**
+     * Returns true if the properties of beanClass are listed in the table.
+     */
+    static boolean covers(Class<?> beanClass) {
+        // Only platform classes: a user class could reuse a JavaFX name
+        return (beanClass.getName().startsWith("javafx.") //NOI18N
+                && (beanClass.getClassLoader() == javafx.scene.Node.class.getClassLoader()))
+                && Holder.ENTRIES.containsKey(beanClass.getName());
+    }
+
+    /**
+     * Returns the row of a property of a covered class, or null if the class
+     * has no such property.
+     */
+    static Row lookup(Class<?> beanClass, String propertyName) {
+        assert covers(beanClass);
+
+        Row result = null;
+        ClassEntry entry = Holder.ENTRIES.get(beanClass.getName());
+        while ((result == null) && (entry != null)) {
+            result = entry.rows().get(propertyName);
+            entry = (entry.superClassName() == null) ? null : Holder.ENTRIES.get(entry.superClassName());
+        }
+        return result;
+    }
+
+    /*
+     * Package
+     */
+
+    static Map<String, ClassEntry> read(InputStream is) throws IOException {
+        final Map<String, ClassEntry> result = new HashMap<>();
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8));
+        Map<String, Row> rows = null;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank() || line.startsWith("#")) { //NOI18N
+                continue;
+            }
+            final String[] items = line.trim().split(" "); //NOI18N
+            if (line.startsWith("@")) { //NOI18N
+                // @className [superClassName]
+                rows = new HashMap<>();
+                final String superClassName = (items.length > 1) ? items[1] : null;
+                result.put(items[0].substring(1), new ClassEntry(superClassName, rows));
+            } else if ((rows != null) && (items.length == 3)) {
+                rows.put(items[0], new Row(items[0], methodName(items[1]), methodName(items[2])));
+            } else {
+                throw new IOException("Malformed line: " + line); //NOI18N
+            }
+        }
+        return result;
+    }
+
+    /*
+     * Private
+     */
+
+    private static String methodName(String item) {
+        return item.equals(NO_METHOD) ? null : item;
+    }
+
+    private static Map<String, ClassEntry> load() {
+        Map<String, ClassEntry> result;
+        try (InputStream is = BeanPropertyTable.class.getResourceAsStream(RESOURCE_NAME)) {
+            result = (is == null) ? Collections.emptyMap() : read(is);
+        } catch(IOException x) {
+            // covers() returns false: properties are introspected at runtime
+            result = Collections.emptyMap();
+        }
+        return result;
+    }
+}
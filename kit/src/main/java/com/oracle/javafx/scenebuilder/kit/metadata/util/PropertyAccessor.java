@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.metadata.util;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Getter and setter of a bean property or of a static property, resolved
+ * once and invoked through method handles.
+ * <p>
+ * Accessors are cached per class in {@link ClassValue} instances: the cache
+ * does not prevent classes (typically custom controls from the user library)
+ * from being unloaded.
+ */
+final class PropertyAccessor {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<BeanAccessors> BEAN_ACCESSORS = new ClassValue<>() {
+        @Override
+        protected BeanAccessors computeValue(Class<?> type) {
+            return new BeanAccessors(type);
+        }
+    };
+
+    private static final ClassValue<StaticAccessors> STATIC_ACCESSORS = new ClassValue<>() {
+        @Override
+        protected StaticAccessors computeValue(Class<?> type) {
+            return new StaticAccessors(type);
+        }
+    };
+
+    private final String name;
+    private final Class<?> targetType;
+    private final Invoker getter;
+    private final Invoker setter;
+
+    private PropertyAccessor(String name, Class<?> targetType, Method readMethod, Method writeMethod) {
+        this.name = name;
+        this.targetType = targetType;
+        this.getter = (readMethod == null) ? null : Invoker.of(readMethod, GETTER_TYPE);
+        this.setter = (writeMethod == null) ? null : Invoker.of(writeMethod, SETTER_TYPE);
+    }
+
+    /**
+     * Returns the accessor of a bean property of a class, or null if the
+     * class has no such property.
+     */
+    static PropertyAccessor findBeanAccessor(Class<?> beanClass, String propertyName) {
+        return BEAN_ACCESSORS.get(beanClass).find(propertyName);
+    }
+
+    /**
+     * Returns the accessor of a static property defined by residenceClass
+     * (eg GridPane.columnIndex) and applicable to targetClass, or null if
+     * there is none.
+     */
+    static PropertyAccessor findStaticAccessor(Class<?> residenceClass, String propertyName, Class<?> targetClass) {
+        return STATIC_ACCESSORS.get(residenceClass).find(propertyName, targetClass);
+    }
+
+    String getName() {
+        return name;
+    }
+
+    Object getValue(Object target) {
+        assert targetType.isInstance(target);
+        if (getter == null) {
+            throw new RuntimeException(name + " is not readable"); //NOI18N
+        }
+        try {
+            return getter.handle.invokeExact(target);
+        } catch(Throwable x) {
+            throw new RuntimeException(x);
+        }
+    }
+
+    void setValue(Object target, Object value) {
+        assert targetType.isInstance(target);
+        if (setter == null) {
+            throw new RuntimeException(name + " is not writable"); //NOI18N
+        }
+        try {
+            setter.handle.invokeExact(target, value);
+        } catch(Throwable x) {
+            throw new RuntimeException(x);
+        }
+    }
+
+    /*
+     * Private
+     */
+
+    private static String capitalize(String propertyName) {
+        return Character.toUpperCase(propertyName.charAt(0)) + propertyName.substring(1);
+    }
+
+    /*
+     * A method handle adapted to the generic getter or setter type. When
+     * the method is not accessible through the public lookup (eg public
+     * method declared in a package private class), the handle falls back on
+     * Method.invoke() like plain reflection would.
+     */
+    private static class Invoker {
+        private static final MethodHandle REFLECTIVE_INVOKE;
+
+        static {
+            try {
+                REFLECTIVE_INVOKE = MethodHandles.lookup().findStatic(Invoker.class, "invokeReflectively",
+                        MethodType.methodType(Object.class, Method.class, Object[].class));
+            } catch(NoSuchMethodException | IllegalAccessException x) {
+                throw new ExceptionInInitializerError(x);
+            }
+        }
+
+        final MethodHandle handle;
+
+        private Invoker(MethodHandle handle) {
+            this.handle = handle;
+        }
+
+        static Invoker of(Method method, MethodType type) {
+            MethodHandle handle;
+            try {
+                handle = MethodHandles.publicLookup().unreflect(method);
+            } catch(IllegalAccessException x) {
+                handle = MethodHandles.insertArguments(REFLECTIVE_INVOKE, 0, method)
+                        .asCollector(Object[].class, type.parameterCount());
+            }
+            return new Invoker(handle.asType(type));
+        }
+
+        private static Object invokeReflectively(Method method, Object[] arguments) throws Throwable {
+            try {
+                if (Modifier.isStatic(method.getModifiers())) {
+                    return method.invoke(null, arguments);
+                } else {
+                    final Object[] parameters = new Object[arguments.length - 1];
+                    System.arraycopy(arguments, 1, parameters, 0, parameters.length);
+                    return method.invoke(arguments[0], parameters);
+                }
+            } catch(InvocationTargetException x) {
+                throw x.getCause();
+            }
+        }
+    }
+
+    /*
+     * Bean properties of a class, resolved lazily from the build time table
+     * for JavaFX classes (see BeanPropertyTable) or else from its BeanInfo
+     */
+    private static class BeanAccessors {
+        private final Class<?> beanClass;
+        private final boolean tabulated;
+        private Map<String, PropertyDescriptor> descriptors;
+        private final Map<String, Optional<PropertyAccessor>> accessors = new ConcurrentHashMap<>();
+
+        BeanAccessors(Class<?> beanClass) {
+            this.beanClass = beanClass;
+            this.tabulated = BeanPropertyTable.covers(beanClass);
+        }
+
+        PropertyAccessor find(String propertyName) {
+            return accessors.computeIfAbsent(propertyName, this::resolve).orElse(null);
+        }
+
+        private Optional<PropertyAccessor> resolve(String propertyName) {
+            PropertyAccessor result = null;
+
+            final BeanPropertyTable.Row row = tabulated
+                    ? BeanPropertyTable.lookup(beanClass, propertyName) : null;
+            if (row != null) {
+                try {
+                    final Method readMethod = row.findReadMethod(beanClass);
+                    final Method writeMethod = row.findWriteMethod(beanClass, readMethod);
+                    result = new PropertyAccessor(propertyName, beanClass, readMethod, writeMethod);
+                } catch(NoSuchMethodException x) {
+                    // Table does not match the JavaFX runtime: introspect
+                }
+            }
+            if (result == null) {
+                // Unknown to the table (eg added by a newer JavaFX): introspect
+                final PropertyDescriptor d = getDescriptors().get(propertyName);
+                if (d != null) {
+                    result = new PropertyAccessor(propertyName, beanClass, d.getReadMethod(), d.getWriteMethod());
+                }
+            }
+
+            return Optional.ofNullable(result);
+        }
+
+        private synchronized Map<String, PropertyDescriptor> getDescriptors() {
+            if (descriptors == null) {
+                descriptors = new HashMap<>();
+                try {
+                    for (PropertyDescriptor d : Introspector.getBeanInfo(beanClass).getPropertyDescriptors()) {
+                        descriptors.putIfAbsent(d.getName(), d);
+                    }
+                } catch(IntrospectionException x) {
+                    throw new RuntimeException(x);
+                }
+            }
+            return descriptors;
+        }
+    }
+
+    /*
+     * Static properties defined by a class: public static getX(T)/isX(T)
+     * and setX(T, V) methods, one accessor per target type T.
+     */
+    private static class StaticAccessors {
+        private final Class<?> residenceClass;
+        private final Map<String, List<PropertyAccessor>> accessors = new ConcurrentHashMap<>();
+
+        StaticAccessors(Class<?> residenceClass) {
+            this.residenceClass = residenceClass;
+        }
+
+        PropertyAccessor find(String propertyName, Class<?> targetClass) {
+            // Picks the accessor with the most specific target type
+            PropertyAccessor result = null;
+            for (PropertyAccessor a : accessors.computeIfAbsent(propertyName, this::resolve)) {
+                if (a.targetType.isAssignableFrom(targetClass)
+                        && ((result == null) || result.targetType.isAssignableFrom(a.targetType))) {
+                    result = a;
+                }
+            }
+            return result;
+        }
+
+        private List<PropertyAccessor> resolve(String propertyName) {
+            final String suffix = capitalize(propertyName);
+            final Map<Class<?>, Method> readMethods = new HashMap<>();
+            final Map<Class<?>, Method> writeMethods = new HashMap<>();
+            for (Method m : residenceClass.getMethods()) {
+                if (Modifier.isStatic(m.getModifiers())) {
+                    final String methodName = m.getName();
+                    final Class<?>[] parameterTypes = m.getParameterTypes();
+                    if ((parameterTypes.length == 1) && (m.getReturnType() != void.class)
+                            && (methodName.equals("get" + suffix) || methodName.equals("is" + suffix))) { //NOI18N
+                        readMethods.putIfAbsent(parameterTypes[0], m);
+                    } else if ((parameterTypes.length == 2) && methodName.equals("set" + suffix)) { //NOI18N
+                        writeMethods.putIfAbsent(parameterTypes[0], m);
+                    }
+                }
+            }
+
+            final List<Class<?>> targetTypes = new ArrayList<>(readMethods.keySet());
+            for (Class<?> t : writeMethods.keySet()) {
+                if (targetTypes.contains(t) == false) {
+                    targetTypes.add(t);
+                }
+            }
+            final List<PropertyAccessor> result = new ArrayList<>();
+            for (Class<?> t : targetTypes) {
+                result.add(new PropertyAccessor(propertyName, t, readMethods.get(t), writeMethods.get(t)));
+            }
+            return Collections.unmodifiableList(result);
+        }
+    }
+}
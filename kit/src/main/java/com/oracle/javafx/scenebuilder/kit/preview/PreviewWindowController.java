@@ -44,10 +44,16 @@ import com.oracle.javafx.scenebuilder.kit.util.MathUtils;
 import java.io.File;
 import java.io.IOException;
 import java.net.MalformedURLException;
+import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.ResourceBundle;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
 import com.oracle.javafx.scenebuilder.kit.util.Utils;
 import javafx.application.Platform;
@@ -97,6 +103,16 @@ public final class PreviewWindowController extends AbstractWindowController {
     private boolean isDirty = false;
     private final long IMMEDIATE = 0; // milliseconds
     private final long DELAYED = 1000; // milliseconds
+    private boolean windowOpened = false;
+    private Future<?> pendingBuild = null;
+    private long buildGeneration = 0;
+
+    // Preview clones are loaded in this thread, away from the FX thread
+    private static final ExecutorService previewBuilder = Executors.newSingleThreadExecutor(r -> {
+        final Thread result = new Thread(r, "PreviewBuilder"); //NOI18N
+        result.setDaemon(true);
+        return result;
+    });
 
     /**
      * The type of Camera used by the Preview panel.
@@ -168,6 +184,9 @@ public final class PreviewWindowController extends AbstractWindowController {
             timer.cancel();
             timer = null;
         }
+        cancelPendingBuild();
+        windowOpened = false;
+        isDirty = true;
         getStage().close();
     }
 
@@ -179,6 +198,7 @@ public final class PreviewWindowController extends AbstractWindowController {
 
     @Override
     public void openWindow() {
+        windowOpened = true;
         super.openWindow();
         if (isDirty) {
             requestUpdate(IMMEDIATE);
@@ -189,19 +209,13 @@ public final class PreviewWindowController extends AbstractWindowController {
     public void openDialog() {
         final FXOMDocument fxomDocument = editorController.getFxomDocument();
         assert fxomDocument != null;
-        // We clone the FXOMDocument
-        FXOMDocument clone;
-        try {
-            clone = new FXOMDocument(fxomDocument.getFxmlText(false),
-                    fxomDocument.getLocation(),
-                    fxomDocument.getClassLoader(),
-                    fxomDocument.getResources(),
-                    FXOMDocumentSwitch.FOR_PREVIEW, FXOMDocumentSwitch.NORMALIZED);
-            clone.setSampleDataEnabled(fxomDocument.isSampleDataEnabled());
-        } catch (IOException ex) {
-            throw new RuntimeException("Bug in PreviewWindowController::openDialog", ex); //NOI18N
-        }
+        final PreviewSnapshot snapshot = new PreviewSnapshot(fxomDocument);
+        loadInBackground(snapshot, loaded -> showDialog(snapshot.finishLoad(loaded, "openDialog", //NOI18N
+                        FXOMDocumentSwitch.FOR_PREVIEW, FXOMDocumentSwitch.NORMALIZED)),
+                FXOMDocumentSwitch.FOR_PREVIEW, FXOMDocumentSwitch.NORMALIZED);
+    }
 
+    private static void showDialog(FXOMDocument clone) {
         final Object sceneGraphRoot = clone.getSceneGraphRoot();
         assert sceneGraphRoot instanceof DialogPane;
         final DialogPane dialogPane = (DialogPane) sceneGraphRoot;
@@ -217,6 +231,8 @@ public final class PreviewWindowController extends AbstractWindowController {
     @Override
     public void closeWindow() {
         super.closeWindow();
+        cancelPendingBuild();
+        windowOpened = false;
         isDirty = true;
     }
 
@@ -230,6 +246,62 @@ public final class PreviewWindowController extends AbstractWindowController {
      * Private
      */
 
+    /*
+     * What a preview clone is made of. It is taken in the FX thread from the
+     * edited document so that the clone can be loaded in another thread.
+     */
+    private record PreviewSnapshot(String fxmlText, URL location, ClassLoader classLoader,
+            ResourceBundle resources, boolean sampleDataEnabled) {
+
+        PreviewSnapshot(FXOMDocument fxomDocument) {
+            this(fxomDocument.getFxmlText(false),
+                    fxomDocument.getLocation(),
+                    fxomDocument.getClassLoader(),
+                    fxomDocument.getResources(),
+                    fxomDocument.isSampleDataEnabled());
+        }
+
+        FXOMDocument load(FXOMDocumentSwitch... switches) throws IOException {
+            final FXOMDocument result = new FXOMDocument(fxmlText, location, classLoader, resources, switches);
+            result.setSampleDataEnabled(sampleDataEnabled);
+            return result;
+        }
+
+        /*
+         * Returns the clone loaded by loadInBackground() or loads it now if
+         * it must be loaded in the FX thread. Other load failures are thrown
+         * like a load in the FX thread would throw them.
+         */
+        FXOMDocument finishLoad(BackgroundLoad loaded, String methodName, FXOMDocumentSwitch... switches) {
+            assert Platform.isFxApplicationThread();
+            final Throwable failure = loaded.failure();
+            final FXOMDocument result;
+            if (failure instanceof Error) {
+                throw (Error) failure;
+            } else if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            } else if (failure != null) {
+                throw new RuntimeException("Bug in PreviewWindowController::" + methodName, failure); //NOI18N
+            } else if (loaded.document() != null) {
+                result = loaded.document();
+            } else {
+                try {
+                    result = load(switches);
+                } catch (IOException ex) {
+                    throw new RuntimeException("Bug in PreviewWindowController::" + methodName, ex); //NOI18N
+                }
+            }
+            return result;
+        }
+    }
+
+    /*
+     * Outcome of loadInBackground(): document is null when the snapshot must
+     * be loaded in the FX thread or when failure is set.
+     */
+    private record BackgroundLoad(FXOMDocument document, Throwable failure) {
+    }
+
     private final ChangeListener<Number> fxomDocumentRevisionListener
             = (observable, oldValue, newValue) -> requestUpdate(DELAYED);
 
@@ -243,94 +315,19 @@ public final class PreviewWindowController extends AbstractWindowController {
      * the preview window content.
      * The delay is expressed in milliseconds.
      * In some cases it is wise to used delay = 0, e.g. when opening the window.
+     * A preview build which is still running is superseded right away: its
+     * result will be dropped.
      */
     private void requestUpdate(long delay) {
+        cancelPendingBuild();
+
         TimerTask timerTask = new TimerTask() {
 
             @Override
             public void run() {
-            // JavaFX data should only be accessed on the JavaFX thread.
-            // => we must wrap the code into a Runnable object and call the Platform.runLater
-            Platform.runLater(() -> {
-                final FXOMDocument fxomDocument = editorController.getFxomDocument();
-                List<String> themeStyleSheetsList = null;
-                if (fxomDocument != null) {
-                    // We clone the FXOMDocument
-                    FXOMDocument clone;
-
-                    try {
-                        clone = new FXOMDocument(fxomDocument.getFxmlText(false),
-                                fxomDocument.getLocation(),
-                                fxomDocument.getClassLoader(),
-                                fxomDocument.getResources(),
-                                FXOMDocumentSwitch.FOR_PREVIEW);
-                        clone.setSampleDataEnabled(fxomDocument.isSampleDataEnabled());
-                    } catch (IOException ex) {
-                        throw new RuntimeException("Bug in PreviewWindowController::requestUpdate", ex); //NOI18N
-                    }
-
-                    Object sceneGraphRoot = clone.getDisplayNodeOrSceneGraphRoot();
-                    themeStyleSheetsList = new ArrayList<>(EditorPlatform.getStylesheetsForTheme(editorController.getTheme()));
-                    editorControllerTheme.getStylesheetURLs().stream()
-                        .filter(s -> !EditorPlatform.isPlatformThemeStylesheetURL(s))
-                            .forEach(themeStyleSheetsList::add);
-
-                    if (sceneGraphRoot instanceof Parent) {
-                        ((Parent) sceneGraphRoot).setId(NID_PREVIEW_ROOT);
-                        assert ((Parent) sceneGraphRoot).getScene() == null;
-
-                        setRoot((Parent) updateAutoResizeTransform((Parent) sceneGraphRoot));
-
-                        // Compute the proper styling
-                        List<String> newStyleSheets1 = new ArrayList<>();
-                        computeStyleSheets(newStyleSheets1, sceneGraphRoot, clone.getDisplayStylesheets());
-
-                        // Clean all styling
-                        ((Parent) sceneGraphRoot).getStylesheets().removeAll();
-
-                        // Apply the new styling
-                        ((Parent) sceneGraphRoot).getStylesheets().addAll(newStyleSheets1);
-                    } else if (sceneGraphRoot instanceof Node) {
-                        StackPane sp1 = new StackPane();
-                        sp1.setId(NID_PREVIEW_ROOT);
-
-                        // Compute the proper styling
-                        List<String> newStyleSheets2 = new ArrayList<>();
-                        computeStyleSheets(newStyleSheets2, sceneGraphRoot, clone.getDisplayStylesheets());
-
-                        // Apply the new styling as a whole
-                        sp1.getStylesheets().addAll(newStyleSheets2);
-
-                        // With some 3D assets such as TuxRotation the
-                        // rendering is wrong unless applyCSS is called.
-                        ((Node) sceneGraphRoot).applyCss();
-                        sp1.getChildren().add(updateAutoResizeTransform((Node) sceneGraphRoot));
-                        setRoot(sp1);
-                    } else {
-                        setCameraType(CameraType.PARALLEL);
-                        sizeChangedFromMenu = false;
-                        StackPane sp2 = new StackPane(new Label(I18N.getString("preview.not.node")));
-                        sp2.setId(NID_PREVIEW_ROOT);
-                        sp2.setPrefSize(WIDTH_WHEN_EMPTY, HEIGHT_WHEN_EMPTY);
-                        setRoot(sp2);
-                    }
-                } else {
-                    setCameraType(CameraType.PARALLEL);
-                    sizeChangedFromMenu = false;
-                    StackPane sp3 = new StackPane(new Label(I18N.getString("preview.no.document")));
-                    sp3.setId(NID_PREVIEW_ROOT);
-                    sp3.setPrefSize(WIDTH_WHEN_EMPTY, HEIGHT_WHEN_EMPTY);
-                    setRoot(sp3);
-                }
-
-                getScene().setRoot(getRoot());
-                if (themeStyleSheetsList != null && !themeStyleSheetsList.isEmpty()) {
-                    getScene().getStylesheets().clear();
-                    getScene().getStylesheets().addAll(themeStyleSheetsList);
-                }
-                updateWindowSize();
-                updateWindowTitle();
-            });
+                // JavaFX data should only be accessed on the JavaFX thread.
+                // => we must wrap the code into a Runnable object and call the Platform.runLater
+                Platform.runLater(() -> startUpdate());
             }
         };
 
@@ -342,6 +339,131 @@ public final class PreviewWindowController extends AbstractWindowController {
         timer.schedule(timerTask, delay); // milliseconds
     }
 
+    /*
+     * Takes a snapshot of the edited document and loads the preview clone in
+     * the builder thread. Only the final scene graph is attached in the FX
+     * thread, by updateRoot().
+     */
+    private void startUpdate() {
+        assert Platform.isFxApplicationThread();
+
+        cancelPendingBuild();
+        if (windowOpened == false) {
+            // Nothing to render into: openWindow() will update
+            isDirty = true;
+        } else {
+            final FXOMDocument fxomDocument = editorController.getFxomDocument();
+            if (fxomDocument == null) {
+                updateRoot(null);
+            } else {
+                final long generation = buildGeneration;
+                final PreviewSnapshot snapshot = new PreviewSnapshot(fxomDocument);
+                pendingBuild = loadInBackground(snapshot, loaded -> {
+                    if (generation == buildGeneration) {
+                        pendingBuild = null;
+                        updateRoot(snapshot.finishLoad(loaded, "requestUpdate", //NOI18N
+                                FXOMDocumentSwitch.FOR_PREVIEW));
+                    } // else a later build supersedes this one
+                }, FXOMDocumentSwitch.FOR_PREVIEW);
+            }
+        }
+    }
+
+    private void cancelPendingBuild() {
+        buildGeneration++;
+        if (pendingBuild != null) {
+            pendingBuild.cancel(false);
+            pendingBuild = null;
+        }
+    }
+
+    /*
+     * Loads the snapshot in the builder thread and passes the outcome to
+     * consumer in the FX thread. Some scene graph objects (WebView, Media...)
+     * can only be created in the FX thread: the outcome then has neither
+     * document nor failure and PreviewSnapshot.finishLoad() loads the snapshot
+     * again in the FX thread.
+     */
+    private static Future<?> loadInBackground(PreviewSnapshot snapshot, Consumer<BackgroundLoad> consumer,
+            FXOMDocumentSwitch... switches) {
+        return previewBuilder.submit(() -> {
+            BackgroundLoad result;
+            try {
+                result = new BackgroundLoad(snapshot.load(switches), null);
+            } catch (IOException | RuntimeException | Error x) {
+                result = new BackgroundLoad(null, Utils.isFxThreadViolation(x) ? null : x);
+            }
+            final BackgroundLoad loaded = result;
+            Platform.runLater(() -> consumer.accept(loaded));
+        });
+    }
+
+    private void updateRoot(FXOMDocument clone) {
+        List<String> themeStyleSheetsList = null;
+        if (clone != null) {
+            Object sceneGraphRoot = clone.getDisplayNodeOrSceneGraphRoot();
+            themeStyleSheetsList = new ArrayList<>(EditorPlatform.getStylesheetsForTheme(editorController.getTheme()));
+            editorControllerTheme.getStylesheetURLs().stream()
+                .filter(s -> !EditorPlatform.isPlatformThemeStylesheetURL(s))
+                    .forEach(themeStyleSheetsList::add);
+
+            if (sceneGraphRoot instanceof Parent) {
+                ((Parent) sceneGraphRoot).setId(NID_PREVIEW_ROOT);
+                assert ((Parent) sceneGraphRoot).getScene() == null;
+
+                setRoot((Parent) updateAutoResizeTransform((Parent) sceneGraphRoot));
+
+                // Compute the proper styling
+                List<String> newStyleSheets1 = new ArrayList<>();
+                computeStyleSheets(newStyleSheets1, sceneGraphRoot, clone.getDisplayStylesheets());
+
+                // Clean all styling
+                ((Parent) sceneGraphRoot).getStylesheets().removeAll();
+
+                // Apply the new styling
+                ((Parent) sceneGraphRoot).getStylesheets().addAll(newStyleSheets1);
+            } else if (sceneGraphRoot instanceof Node) {
+                StackPane sp1 = new StackPane();
+                sp1.setId(NID_PREVIEW_ROOT);
+
+                // Compute the proper styling
+                List<String> newStyleSheets2 = new ArrayList<>();
+                computeStyleSheets(newStyleSheets2, sceneGraphRoot, clone.getDisplayStylesheets());
+
+                // Apply the new styling as a whole
+                sp1.getStylesheets().addAll(newStyleSheets2);
+
+                // With some 3D assets such as TuxRotation the
+                // rendering is wrong unless applyCSS is called.
+                ((Node) sceneGraphRoot).applyCss();
+                sp1.getChildren().add(updateAutoResizeTransform((Node) sceneGraphRoot));
+                setRoot(sp1);
+            } else {
+                setCameraType(CameraType.PARALLEL);
+                sizeChangedFromMenu = false;
+                StackPane sp2 = new StackPane(new Label(I18N.getString("preview.not.node")));
+                sp2.setId(NID_PREVIEW_ROOT);
+                sp2.setPrefSize(WIDTH_WHEN_EMPTY, HEIGHT_WHEN_EMPTY);
+                setRoot(sp2);
+            }
+        } else {
+            setCameraType(CameraType.PARALLEL);
+            sizeChangedFromMenu = false;
+            StackPane sp3 = new StackPane(new Label(I18N.getString("preview.no.document")));
+            sp3.setId(NID_PREVIEW_ROOT);
+            sp3.setPrefSize(WIDTH_WHEN_EMPTY, HEIGHT_WHEN_EMPTY);
+            setRoot(sp3);
+        }
+
+        getScene().setRoot(getRoot());
+        if (themeStyleSheetsList != null && !themeStyleSheetsList.isEmpty()) {
+            getScene().getStylesheets().clear();
+            getScene().getStylesheets().addAll(themeStyleSheetsList);
+        }
+        updateWindowSize();
+        updateWindowTitle();
+    }
+
     public boolean userResizedPreviewWindow() {
         boolean res = false;
         double sceneHeight = getScene().getHeight();
@@ -33,7 +33,6 @@
 package com.oracle.javafx.scenebuilder.kit.util;
 
 import java.io.File;
-import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -61,10 +60,7 @@ import com.oracle.javafx.scenebuilder.kit.editor.EditorPlatform.Theme;
 import com.oracle.javafx.scenebuilder.kit.fxom.FXOMInstance;
 import com.oracle.javafx.scenebuilder.kit.metadata.property.ValuePropertyMetadata;
 import javafx.css.Rule;
-import javafx.css.Selector;
 import javafx.css.Style;
-import javafx.css.Stylesheet;
-import javafx.css.CssParser;
 import javafx.scene.control.Button;
 
 /**
@@ -219,24 +215,7 @@ public class CssInternal {
     }
 
     private static Set<String> getStyleClasses(final URL url) {
-        Set<String> styleClasses = new HashSet<>();
-        Stylesheet s;
-        try {
-            s = new CssParser().parse(url);
-        } catch (IOException ex) {
-            System.out.println("Warning: Invalid Stylesheet " + url); //NOI18N
-            return styleClasses;
-        }
-        if (s == null) {
-            // The parsed CSS file was empty. No parsing occurred.
-            return styleClasses;
-        }
-        for (Rule r : s.getRules()) {
-            for (Selector ss : r.getSelectors()) {
-                styleClasses.addAll(ss.getStyleClassNames());
-            }
-        }
-        return styleClasses;
+        return StylesheetCache.getStyleClasses(url);
     }
 
     @SuppressWarnings("unchecked")
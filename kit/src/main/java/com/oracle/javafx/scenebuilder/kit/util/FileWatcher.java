@@ -48,12 +48,19 @@ import java.util.TimerTask;
 import javafx.application.Platform;
 
 /**
- *
+ * Watches a set of files and notifies its delegate (in the FX thread) when
+ * one of them is created, deleted or modified.
+ * 
+ * Targets are watched through the process-wide {@link FileWatcherService}.
+ * Targets that cannot be watched natively (missing parent directory,
+ * file system without watch support, JDK watch service which polls itself...)
+ * are polled every pollingTime ms.
  */
 public class FileWatcher {
     
     private final String name;
     private final Set<Path> targets = new HashSet<>();
+    private final Set<Path> polledTargets = new HashSet<>();
     private final Map<Path, FileTime> modifiedTimes = new HashMap<>();
     private final long pollingTime; // milliseconds
     private final Delegate delegate;
@@ -80,12 +87,18 @@ public class FileWatcher {
         } catch(IOException x) {
             // Nothing special to do here
         }
+        if (started) {
+            watchTarget(target);
+        }
         updateWatchingTimer();
     }
     
     public synchronized void removeTarget(Path target) {
         assert target != null;
         assert targets.contains(target);
+        if (started) {
+            unwatchTarget(target);
+        }
         targets.remove(target);
         modifiedTimes.remove(target);
         updateWatchingTimer();
@@ -117,12 +130,18 @@ public class FileWatcher {
     public synchronized void start() {
         assert isStarted() == false;
         started = true;
+        for (Path target : targets) {
+            watchTarget(target);
+        }
         updateWatchingTimer();
     }
     
     public synchronized void stop() {
         assert isStarted() == true;
         started = false;
+        for (Path target : targets) {
+            unwatchTarget(target);
+        }
         updateWatchingTimer();
     }
     
@@ -137,12 +156,46 @@ public class FileWatcher {
     }
     
     
+    /*
+     * Package
+     */
+    
+    /* Reserved to FileWatcherService : an event has been received for target */
+    synchronized void targetDidChange(Path target) {
+        if (started && targets.contains(target)) {
+            checkTarget(target);
+        }
+    }
+    
+    /* Reserved to FileWatcherService : target is no longer watched natively */
+    synchronized void targetDidLoseWatch(Path target) {
+        if (started && targets.contains(target)) {
+            polledTargets.add(target);
+            checkTarget(target);
+            updateWatchingTimer();
+        }
+    }
+    
+    
     /*
      * Private
      */
     
+    private void watchTarget(Path target) {
+        assert polledTargets.contains(target) == false;
+        if (FileWatcherService.getInstance().register(target, this) == false) {
+            polledTargets.add(target);
+        }
+    }
+    
+    private void unwatchTarget(Path target) {
+        if (polledTargets.remove(target) == false) {
+            FileWatcherService.getInstance().unregister(target, this);
+        }
+    }
+    
     private void updateWatchingTimer() {
-        final boolean timerNeeded = started && (targets.isEmpty() == false);
+        final boolean timerNeeded = started && (polledTargets.isEmpty() == false);
         
         if (timerNeeded) {
             if (watchingTimer == null) {
@@ -169,31 +222,35 @@ public class FileWatcher {
         // null and we should simply do nothing.
         
         if (watchingTimer != null) {
-            for (Path target : targets) {
-                FileTime newModifiedTime;
-                try {
-                    newModifiedTime = Files.getLastModifiedTime(target);
-                } catch(IOException x) {
-                    newModifiedTime = null;
-                }
+            for (Path target : polledTargets) {
+                checkTarget(target);
+            }
+        }
+    }
+    
+    private void checkTarget(Path target) {
+        FileTime newModifiedTime;
+        try {
+            newModifiedTime = Files.getLastModifiedTime(target);
+        } catch(IOException x) {
+            newModifiedTime = null;
+        }
 
-                final FileTime lastModifiedTime = modifiedTimes.get(target);
+        final FileTime lastModifiedTime = modifiedTimes.get(target);
 
-                if ((lastModifiedTime == null) && (newModifiedTime != null)) {
-                    // target has been created
-                    modifiedTimes.put(target, newModifiedTime);
-                    Platform.runLater(() -> delegate.fileWatcherDidWatchTargetCreation(target));
-                } else if ((lastModifiedTime != null) && (newModifiedTime == null)) {
-                    // target has been deleted
-                    modifiedTimes.remove(target);
-                    Platform.runLater(() -> delegate.fileWatcherDidWatchTargetDeletion(target));
-                } else if (Objects.equals(lastModifiedTime, newModifiedTime) == false) {
-                    // target has been modified
-                    assert newModifiedTime != null;
-                    modifiedTimes.put(target, newModifiedTime);
-                    Platform.runLater(() -> delegate.fileWatcherDidWatchTargetModification(target));
-                }
-            }
+        if ((lastModifiedTime == null) && (newModifiedTime != null)) {
+            // target has been created
+            modifiedTimes.put(target, newModifiedTime);
+            Platform.runLater(() -> delegate.fileWatcherDidWatchTargetCreation(target));
+        } else if ((lastModifiedTime != null) && (newModifiedTime == null)) {
+            // target has been deleted
+            modifiedTimes.remove(target);
+            Platform.runLater(() -> delegate.fileWatcherDidWatchTargetDeletion(target));
+        } else if (Objects.equals(lastModifiedTime, newModifiedTime) == false) {
+            // target has been modified
+            assert newModifiedTime != null;
+            modifiedTimes.put(target, newModifiedTime);
+            Platform.runLater(() -> delegate.fileWatcherDidWatchTargetModification(target));
         }
     }
 }
@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.util;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Process-wide {@link WatchService} shared by all the {@link FileWatcher}
+ * instances. Each parent directory is registered once, whatever the number
+ * of targets and watchers. Events are coalesced : a burst of events on the
+ * same target produces a single notification to each interested watcher.
+ */
+@Slf4j
+final class FileWatcherService {
+    
+    private static final long COALESCING_DELAY = 100; // milliseconds
+    private static final long MAX_COALESCING_DELAY = 1000; // milliseconds
+    // JDK watch service which polls the file system itself (macOS, for example)
+    private static final String POLLING_WATCH_SERVICE = "sun.nio.fs.PollingWatchService"; //NOI18N
+    
+    private static FileWatcherService instance;
+    
+    private final Map<Path, DirectoryWatch> directoryWatches = new HashMap<>();
+    private WatchService watchService;
+    private boolean unavailable;
+    
+    public static synchronized FileWatcherService getInstance() {
+        if (instance == null) {
+            instance = new FileWatcherService();
+        }
+        return instance;
+    }
+    
+    /**
+     * Starts watching target on behalf of watcher.
+     * 
+     * @param target the path to watch
+     * @param watcher the watcher to notify
+     * @return false if target cannot be watched natively (caller should poll it)
+     */
+    public synchronized boolean register(Path target, FileWatcher watcher) {
+        assert target != null;
+        assert watcher != null;
+        
+        final Path absoluteTarget = target.toAbsolutePath().normalize();
+        final Path directory = absoluteTarget.getParent();
+        final boolean result;
+        
+        if ((directory == null) 
+                || (directory.getFileSystem() != FileSystems.getDefault())
+                || (startWatchService() == false)) {
+            result = false;
+        } else {
+            DirectoryWatch directoryWatch = directoryWatches.get(directory);
+            if (directoryWatch == null) {
+                try {
+                    final WatchKey key = directory.register(watchService, 
+                            StandardWatchEventKinds.ENTRY_CREATE,
+                            StandardWatchEventKinds.ENTRY_DELETE,
+                            StandardWatchEventKinds.ENTRY_MODIFY);
+                    directoryWatch = new DirectoryWatch(key);
+                    directoryWatches.put(directory, directoryWatch);
+                } catch(IOException | UnsupportedOperationException x) {
+                    // Directory does not exist (yet) or cannot be watched
+                    directoryWatch = null;
+                }
+            }
+            if (directoryWatch == null) {
+                result = false;
+            } else {
+                directoryWatch.add(absoluteTarget, new Registration(target, watcher));
+                result = true;
+            }
+        }
+        
+        return result;
+    }
+    
+    public synchronized void unregister(Path target, FileWatcher watcher) {
+        assert target != null;
+        assert watcher != null;
+        
+        final Path absoluteTarget = target.toAbsolutePath().normalize();
+        final Path directory = absoluteTarget.getParent();
+        final DirectoryWatch directoryWatch = directoryWatches.get(directory);
+        if (directoryWatch != null) {
+            directoryWatch.remove(absoluteTarget, target, watcher);
+            if (directoryWatch.isEmpty()) {
+                directoryWatch.key.cancel();
+                directoryWatches.remove(directory);
+            }
+        }
+    }
+    
+    
+    /*
+     * Private
+     */
+    
+    private FileWatcherService() {
+        // Use getInstance()
+    }
+    
+    private boolean startWatchService() {
+        if ((watchService == null) && (unavailable == false)) {
+            try {
+                final WatchService newWatchService = FileSystems.getDefault().newWatchService();
+                if (newWatchService.getClass().getName().equals(POLLING_WATCH_SERVICE)) {
+                    // It only checks the files every few seconds : watchers
+                    // poll them themselves, every pollingTime ms.
+                    log.info("Native file watching is unavailable, falling back on polling");
+                    newWatchService.close();
+                    unavailable = true;
+                } else {
+                    watchService = newWatchService;
+                    final Thread thread = new Thread(this::runWatching, getClass().getSimpleName());
+                    thread.setDaemon(true);
+                    thread.start();
+                }
+            } catch(IOException | UnsupportedOperationException x) {
+                log.warn("Native file watching is unavailable, falling back on polling", x);
+                unavailable = true;
+            }
+        }
+        return watchService != null;
+    }
+    
+    private void runWatching() {
+        try {
+            while (true) {
+                final Set<Path> changedTargets = new HashSet<>();
+                final Set<Path> lostDirectories = new HashSet<>();
+                
+                // Waits for a first event and then coalesces the events
+                // which follow it within COALESCING_DELAY ms.
+                WatchKey key = watchService.take();
+                final long deadline = System.currentTimeMillis() + MAX_COALESCING_DELAY;
+                while (key != null) {
+                    collectEvents(key, changedTargets, lostDirectories);
+                    if (System.currentTimeMillis() < deadline) {
+                        key = watchService.poll(COALESCING_DELAY, TimeUnit.MILLISECONDS);
+                    } else {
+                        key = null;
+                    }
+                }
+                
+                dispatchEvents(changedTargets, lostDirectories);
+            }
+        } catch(InterruptedException | ClosedWatchServiceException x) {
+            // Service is shutting down
+        }
+    }
+    
+    private void collectEvents(WatchKey key, Set<Path> changedTargets, Set<Path> lostDirectories) {
+        final Path directory = (Path) key.watchable();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // Some events have been lost : all the targets of directory
+                // must be checked.
+                synchronized(this) {
+                    final DirectoryWatch directoryWatch = directoryWatches.get(directory);
+                    if (directoryWatch != null) {
+                        changedTargets.addAll(directoryWatch.registrations.keySet());
+                    }
+                }
+            } else {
+                changedTargets.add(directory.resolve((Path) event.context()));
+            }
+        }
+        if (key.reset() == false) {
+            // directory has been deleted or is no longer accessible
+            lostDirectories.add(directory);
+        }
+    }
+    
+    private void dispatchEvents(Set<Path> changedTargets, Set<Path> lostDirectories) {
+        final List<Registration> changed = new ArrayList<>();
+        final List<Registration> lost = new ArrayList<>();
+        
+        synchronized(this) {
+            for (Path changedTarget : changedTargets) {
+                final DirectoryWatch directoryWatch = directoryWatches.get(changedTarget.getParent());
+                if (directoryWatch != null) {
+                    final List<Registration> registrations = directoryWatch.registrations.get(changedTarget);
+                    if (registrations != null) {
+                        changed.addAll(registrations);
+                    }
+                }
+            }
+            for (Path lostDirectory : lostDirectories) {
+                final DirectoryWatch directoryWatch = directoryWatches.remove(lostDirectory);
+                if (directoryWatch != null) {
+                    for (List<Registration> registrations : directoryWatch.registrations.values()) {
+                        lost.addAll(registrations);
+                    }
+                }
+            }
+        }
+        
+        // Watchers are notified outside of the service lock : they invoke 
+        // register() and unregister() while holding their own lock.
+        for (Registration r : changed) {
+            r.watcher.targetDidChange(r.target);
+        }
+        for (Registration r : lost) {
+            r.watcher.targetDidLoseWatch(r.target);
+        }
+    }
+    
+    
+    private static class Registration {
+        private final Path target;
+        private final FileWatcher watcher;
+        
+        public Registration(Path target, FileWatcher watcher) {
+            this.target = target;
+            this.watcher = watcher;
+        }
+    }
+    
+    
+    private static class DirectoryWatch {
+        private final WatchKey key;
+        private final Map<Path, List<Registration>> registrations = new HashMap<>();
+        
+        public DirectoryWatch(WatchKey key) {
+            this.key = key;
+        }
+        
+        public void add(Path absoluteTarget, Registration registration) {
+            registrations.computeIfAbsent(absoluteTarget, k -> new ArrayList<>()).add(registration);
+        }
+        
+        public void remove(Path absoluteTarget, Path target, FileWatcher watcher) {
+            final List<Registration> targetRegistrations = registrations.get(absoluteTarget);
+            if (targetRegistrations != null) {
+                targetRegistrations.removeIf(r -> (r.watcher == watcher) && r.target.equals(target));
+                if (targetRegistrations.isEmpty()) {
+                    registrations.remove(absoluteTarget);
+                }
+            }
+        }
+        
+        public boolean isEmpty() {
+            return registrations.isEmpty();
+        }
+    }
+}
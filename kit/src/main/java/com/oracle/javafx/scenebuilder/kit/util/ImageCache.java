@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.util;
+
+import java.lang.ref.SoftReference;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import javafx.scene.image.Image;
+
+/**
+ * Process wide cache of decoded images.
+ * 
+ * Entries are keyed by URL and loading parameters. Like in 
+ * {@link StylesheetCache}, images from files are decoded again when their 
+ * size or modification time changes, images from jar and jrt URLs are 
+ * decoded once and images with other URLs are never cached.
+ * The cache is bounded, images are softly referenced (the garbage collector
+ * may reclaim them) and the cache can be used from any thread.
+ */
+public final class ImageCache {
+
+    private static final int MAX_ENTRY_COUNT = 256;
+
+    // Least recently used entry first
+    private static final Map<Key, Entry> entries
+            = new LinkedHashMap<>(16, 0.75f, true /* accessOrder */) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+            return size() > MAX_ENTRY_COUNT;
+        }
+    };
+    
+    // Images decoded in the background although their FXML did not ask for it
+    private static final Set<Image> backgroundLoadingForced 
+            = Collections.newSetFromMap(new WeakHashMap<>());
+
+    private ImageCache() {
+        // no-op
+    }
+
+    /**
+     * Returns the image at the specified URL, decoded at its own size.
+     * The image is decoded in the calling thread the first time it is requested.
+     * 
+     * @param url URL of an image (never null)
+     * @return the image (never null)
+     */
+    public static Image getImage(String url) {
+        return lookup(new Key(url, 0, 0, false, false, false, false));
+    }
+
+    /**
+     * Returns an image of a document with the specified loading parameters
+     * (see {@link Image#Image(String, double, double, boolean, boolean, boolean)}).
+     * The first time it is requested, the image is decoded in the background
+     * (it is empty until decoding completes): the design is not blocked
+     * by large images. Following requests return the same image.
+     * 
+     * @param url URL of an image (never null)
+     * @param requestedWidth width to which the image is decoded (0 for its own width)
+     * @param requestedHeight height to which the image is decoded (0 for its own height)
+     * @param preserveRatio true if the image aspect ratio should be preserved
+     * @param smooth true if a better quality filtering algorithm should be used
+     * @param backgroundLoading value of the backgroundLoading property in the document
+     * @return the image (never null)
+     */
+    public static Image getDocumentImage(String url, double requestedWidth, double requestedHeight, 
+            boolean preserveRatio, boolean smooth, boolean backgroundLoading) {
+        return lookup(new Key(url, requestedWidth, requestedHeight, preserveRatio, smooth, 
+                backgroundLoading, true /* decodeInBackground */));
+    }
+
+    /**
+     * Returns the value of the backgroundLoading property which was requested
+     * for an image. It differs from {@link Image#isBackgroundLoading()} for
+     * the document images this cache decodes in the background.
+     * 
+     * @param image an image (never null)
+     * @return the backgroundLoading value requested for the image
+     */
+    public static boolean isBackgroundLoadingRequested(Image image) {
+        assert image != null;
+        synchronized(backgroundLoadingForced) {
+            return image.isBackgroundLoading() && (backgroundLoadingForced.contains(image) == false);
+        }
+    }
+
+    /*
+     * Private
+     */
+
+    private static Image lookup(Key key) {
+        assert key.url() != null;
+
+        String fingerprint;
+        try {
+            fingerprint = ResourceFingerprint.of(URI.create(key.url()).toURL());
+        } catch(IllegalArgumentException | MalformedURLException x) {
+            fingerprint = null; // Image constructor will tell
+        }
+
+        Image result;
+        if (fingerprint == null) {
+            result = decode(key);
+        } else {
+            result = getCachedImage(key, fingerprint);
+            if (result == null) {
+                // Decoded outside of the lock: a synchronous decoding does 
+                // not block the lookups of the other threads
+                final Image decoded = decode(key);
+                synchronized(entries) {
+                    // Another thread may have decoded the same image meanwhile
+                    result = getCachedImage(key, fingerprint);
+                    if (result == null) {
+                        entries.put(key, new Entry(fingerprint, new SoftReference<>(decoded)));
+                        result = decoded;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /*
+     * Returns the cached image if it is still valid, null otherwise.
+     */
+    private static Image getCachedImage(Key key, String fingerprint) {
+        final Image result;
+        synchronized(entries) {
+            final Entry cached = entries.get(key);
+            result = (cached != null) && cached.fingerprint().equals(fingerprint) 
+                    ? cached.image().get() : null;
+        }
+        return ((result == null) || result.isError()) ? null : result;
+    }
+
+    private static Image decode(Key key) {
+        final Image result;
+        if (key.decodeInBackground() && (key.backgroundLoading() == false)) {
+            result = new Image(key.url(), key.requestedWidth(), key.requestedHeight(), 
+                    key.preserveRatio(), key.smooth(), true /* backgroundLoading */);
+            synchronized(backgroundLoadingForced) {
+                backgroundLoadingForced.add(result);
+            }
+        } else {
+            result = new Image(key.url(), key.requestedWidth(), key.requestedHeight(), 
+                    key.preserveRatio(), key.smooth(), key.backgroundLoading());
+        }
+        return result;
+    }
+
+    private record Key(String url, double requestedWidth, double requestedHeight,
+            boolean preserveRatio, boolean smooth, boolean backgroundLoading, boolean decodeInBackground) {
+    }
+
+    private record Entry(String fingerprint, SoftReference<Image> image) {
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, Gluon and/or its affiliates.
+ * Copyright (c) 2026, Gluon and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
  * This file is available and licensed under the following license:
@@ -29,34 +29,56 @@
  * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
  * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
  */
+package com.oracle.javafx.scenebuilder.kit.util;
 
-package com.oracle.javafx.scenebuilder.kit.editor.panel.content.guides;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
 
-import com.oracle.javafx.scenebuilder.kit.util.MathUtils;
-import javafx.geometry.Point2D;
-
-import java.util.Comparator;
-
-class PointComparator implements Comparator<Point2D> {
-    
-    @Override
-    public int compare(Point2D o1, Point2D o2) {
-        assert o1 != null;
-        assert o2 != null;
+/**
+ * Tells whether the content behind a URL changed, for the process wide caches
+ * of this package.
+ */
+final class ResourceFingerprint {
 
-        final int result;
+    private ResourceFingerprint() {
+        // no-op
+    }
 
-        if (o1 == o2) {
-            result = 0;
-        } else if (MathUtils.equals(o1.getX(), o2.getX()) && MathUtils.equals(o1.getY(), o2.getY())) {
-            result = 0;
-        } else {
-            double r1 = Math.sqrt(o1.getX() * o1.getX() + o1.getY() * o1.getY());
-            double r2 = Math.sqrt(o2.getX() * o2.getX() + o2.getY() * o2.getY());
-            result = Double.compare(r1, r2);
+    /**
+     * Returns a string which changes when the content behind url changes:
+     * size and modification time for files, constant for jar and jrt URLs.
+     * 
+     * @param url a URL (never null)
+     * @return null if url should not be cached (unreadable file, other protocols)
+     */
+    static String of(URL url) {
+        assert url != null;
+        
+        final String result;
+        switch (url.getProtocol().toLowerCase(Locale.ROOT)) {
+            case "file": //NOI18N
+                String fingerprint;
+                try {
+                    final Path path = Paths.get(url.toURI());
+                    fingerprint = Files.size(path) + " " + Files.getLastModifiedTime(path).toMillis(); //NOI18N
+                } catch(IOException | URISyntaxException | IllegalArgumentException x) {
+                    fingerprint = null; // Unreadable : not cached
+                }
+                result = fingerprint;
+                break;
+            case "jar": //NOI18N
+            case "jrt": //NOI18N
+                result = ""; //NOI18N
+                break;
+            default:
+                result = null;
+                break;
         }
-
         return result;
     }
-    
 }
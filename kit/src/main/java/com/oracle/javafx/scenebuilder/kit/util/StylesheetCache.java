@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.util;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javafx.css.CssParser;
+import javafx.css.Rule;
+import javafx.css.Selector;
+import javafx.css.Stylesheet;
+
+/**
+ * Process wide cache of stylesheet parsing results : the style classes
+ * declared by a stylesheet and the errors reported while parsing it.
+ * 
+ * Entries are keyed by URL. Stylesheets from files are re-parsed when 
+ * their size or modification time changes (or after {@link #invalidate(Path)}).
+ * Stylesheets from jar and jrt URLs (e.g. themes) are parsed once.
+ * Stylesheets with other URLs are never cached.
+ * The cache is bounded and can be used from any thread.
+ */
+public final class StylesheetCache {
+
+    private static final int MAX_ENTRY_COUNT = 64;
+
+    // Least recently used entry first
+    private static final Map<String, Entry> entries 
+            = new LinkedHashMap<>(16, 0.75f, true /* accessOrder */) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > MAX_ENTRY_COUNT;
+        }
+    };
+
+    private StylesheetCache() {
+        // no-op
+    }
+
+    /**
+     * Returns the style classes used by the selectors of a stylesheet.
+     * 
+     * @param url URL of a stylesheet (never null)
+     * @return the style classes (empty if the stylesheet cannot be read).
+     */
+    public static Set<String> getStyleClasses(URL url) {
+        return lookup(url).styleClasses();
+    }
+
+    /**
+     * Returns the errors reported by the CSS parser for a stylesheet.
+     * 
+     * @param url URL of a stylesheet (never null)
+     * @return the parsing errors
+     * @throws IOException if the stylesheet cannot be read
+     */
+    public static List<CssParser.ParseError> getParseErrors(URL url) throws IOException {
+        final Entry entry = lookup(url);
+        if (entry.ioException() != null) {
+            throw entry.ioException();
+        }
+        return entry.parseErrors();
+    }
+
+    /**
+     * Forgets the parsing results of a stylesheet file.
+     * 
+     * @param stylesheetPath path of a stylesheet file (never null)
+     */
+    public static void invalidate(Path stylesheetPath) {
+        assert stylesheetPath != null;
+        try {
+            final String key = stylesheetPath.toUri().toURL().toExternalForm();
+            synchronized(entries) {
+                entries.remove(key);
+            }
+        } catch(IOException x) {
+            // Not a valid URL : cannot be cached
+        }
+    }
+
+    /*
+     * Private
+     */
+
+    private static Entry lookup(URL url) {
+        assert url != null;
+
+        final String key = url.toExternalForm();
+        final String fingerprint = ResourceFingerprint.of(url);
+        final Entry result;
+        if (fingerprint == null) {
+            result = parse(url, null);
+        } else {
+            // Parsing happens under the lock : CssParser reports errors
+            // in a static list (see parse())
+            synchronized(entries) {
+                final Entry cached = entries.get(key);
+                if ((cached != null) && cached.fingerprint().equals(fingerprint)) {
+                    result = cached;
+                } else {
+                    result = parse(url, fingerprint);
+                    entries.put(key, result);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static Entry parse(URL url, String fingerprint) {
+        final Set<String> styleClasses = new HashSet<>();
+        final List<CssParser.ParseError> parseErrors = new ArrayList<>();
+        IOException ioException = null;
+
+        synchronized(StylesheetCache.class) {
+            final Set<CssParser.ParseError> previousErrors = new HashSet<>(CssParser.errorsProperty());
+            try {
+                final Stylesheet s = new CssParser().parse(url);
+                // s is null if the parsed CSS file was empty
+                if (s != null) {
+                    for (Rule r : s.getRules()) {
+                        for (Selector ss : r.getSelectors()) {
+                            styleClasses.addAll(ss.getStyleClassNames());
+                        }
+                    }
+                }
+                parseErrors.addAll(CssParser.errorsProperty());
+                parseErrors.removeAll(previousErrors);
+            } catch(IOException x) {
+                ioException = x;
+            } finally {
+                CssParser.errorsProperty().removeAll(parseErrors);
+            }
+        }
+
+        return new Entry(fingerprint, Collections.unmodifiableSet(styleClasses),
+                Collections.unmodifiableList(parseErrors), ioException);
+    }
+
+    private record Entry(String fingerprint, Set<String> styleClasses,
+            List<CssParser.ParseError> parseErrors, IOException ioException) {
+    }
+}
@@ -63,4 +63,24 @@ public class Utils {
 
         return title;
     }
+
+    /**
+     * Returns true if x (or one of its causes) reports that an object has
+     * been created outside of the FX application thread: some controls
+     * (WebView, Media...) can only be instantiated in that thread.
+     *
+     * @param x an exception thrown while loading some FXML
+     * @return true if loading must be done again in the FX application thread
+     */
+    public static boolean isFxThreadViolation(Throwable x) {
+        boolean result = false;
+        Throwable t = x;
+        while ((result == false) && (t != null)) {
+            result = (t instanceof IllegalStateException)
+                    && (t.getMessage() != null)
+                    && t.getMessage().contains("FX application thread"); //NOI18N
+            t = t.getCause();
+        }
+        return result;
+    }
 }
@@ -31,7 +31,9 @@
  */
 package com.oracle.javafx.scenebuilder.kit.editor;
 
+import com.oracle.javafx.scenebuilder.kit.editor.job.DeleteObjectJob;
 import com.oracle.javafx.scenebuilder.kit.editor.job.Job;
+import com.oracle.javafx.scenebuilder.kit.fxom.FXOMObject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -114,14 +116,104 @@ public class JobManagerTest {
         assertThrows(IllegalStateException.class, () -> jobManager.push(invalidJob));
     }
 
+    @Test
+    public void undo_stack_is_bounded_by_count() {
+        final DummyJob last = new DummyJob(editor);
+        for (int i = 0; i < 11; i++) {
+            jobManager.push(new DummyJob(editor));
+        }
+        jobManager.push(last);
+
+        assertThat(jobManager.getUndoStack()).hasSize(10);
+        jobManager.undo();
+        assertThat(last.undos).isEqualTo(1);
+    }
+
+    @Test
+    public void undo_stack_is_bounded_by_retained_size() {
+        jobManager = new JobManager(editor, 10, 5000);
+        for (int i = 0; i < 5; i++) {
+            jobManager.push(new DummyJob(editor, 2000));
+        }
+
+        assertThat(jobManager.getUndoStack()).hasSize(2);
+        assertThat(jobManager.getRetainedSize()).isLessThanOrEqualTo(5000);
+    }
+
+    @Test
+    public void most_recent_job_is_kept_beyond_retained_size() {
+        jobManager = new JobManager(editor, 10, 5000);
+        jobManager.push(new DummyJob(editor, 2000));
+        jobManager.push(new DummyJob(editor, 10000));
+
+        assertThat(jobManager.getUndoStack()).hasSize(1);
+        assertThat(jobManager.getRetainedSize()).isGreaterThan(10000);
+    }
+
+    @Test
+    public void retained_size_follows_undo_redo_and_clear() {
+        jobManager.push(new DummyJob(editor, 1000));
+        jobManager.push(new DummyJob(editor, 3000));
+        final long pushed = jobManager.getRetainedSize();
+        assertThat(pushed).isGreaterThanOrEqualTo(4000);
+
+        jobManager.undo();
+        assertThat(jobManager.getRetainedSize()).isEqualTo(pushed);
+
+        jobManager.push(new DummyJob(editor, 1000));
+        assertThat(jobManager.getRedoStack()).isEmpty();
+        assertThat(jobManager.getRetainedSize()).isLessThan(pushed);
+
+        jobManager.clear();
+        assertThat(jobManager.getRetainedSize()).isZero();
+    }
+
+    @Test
+    public void deleted_objects_are_accounted() throws Exception {
+        editor.setFxmlText("""
+                <?import javafx.scene.layout.Pane?>
+                <?import javafx.scene.shape.Rectangle?>
+                <Pane xmlns:fx="http://javafx.com/fxml/1">
+                  <children>
+                    <Pane fx:id="group">
+                      <children>
+                        <Rectangle width="10" height="10"/>
+                        <Rectangle width="20" height="20"/>
+                      </children>
+                    </Pane>
+                  </children>
+                </Pane>
+                """, false); //NOI18N
+        final FXOMObject group = editor.getFxomDocument().searchWithFxId("group"); //NOI18N
+
+        jobManager.push(new DeleteObjectJob(group, editor));
+        final long deleted = jobManager.getRetainedSize();
+        jobManager.undo();
+        final long restored = jobManager.getRetainedSize();
+
+        assertThat(restored).isPositive();
+        assertThat(deleted).isGreaterThan(restored);
+    }
+
     private static class DummyJob extends Job {
 
+        private final long retainedSize;
         private int executes = 0;
         private int undos = 0;
         private int redos = 0;
 
         public DummyJob(EditorController editorController) {
+            this(editorController, 0);
+        }
+
+        public DummyJob(EditorController editorController, long retainedSize) {
             super(editorController);
+            this.retainedSize = retainedSize;
+        }
+
+        @Override
+        public long getRetainedSize() {
+            return super.getRetainedSize() + retainedSize;
         }
 
         @Override
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.editor.drag;
+
+import com.oracle.javafx.scenebuilder.kit.JfxInitializer;
+import com.oracle.javafx.scenebuilder.kit.editor.EditorController;
+import com.oracle.javafx.scenebuilder.kit.editor.drag.source.DocumentDragSource;
+import com.oracle.javafx.scenebuilder.kit.editor.drag.target.ContainerZDropTarget;
+import com.oracle.javafx.scenebuilder.kit.fxom.FXOMDocument;
+import com.oracle.javafx.scenebuilder.kit.fxom.FXOMInstance;
+import com.oracle.javafx.scenebuilder.kit.fxom.FXOMObject;
+import javafx.scene.Node;
+import javafx.scene.layout.VBox;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class LiveUpdaterTest {
+
+    private static final String FXML_TEXT
+            = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" //NOI18N
+            + "<?import javafx.scene.layout.Region?>\n" //NOI18N
+            + "<?import javafx.scene.layout.VBox?>\n" //NOI18N
+            + "<VBox xmlns=\"http://javafx.com/javafx/23\" xmlns:fx=\"http://javafx.com/fxml/1\">\n" //NOI18N
+            + "  <children>\n" //NOI18N
+            + "    <Region fx:id=\"first\" />\n" //NOI18N
+            + "    <Region fx:id=\"second\" />\n" //NOI18N
+            + "    <Region fx:id=\"third\" />\n" //NOI18N
+            + "  </children>\n" //NOI18N
+            + "</VBox>\n"; //NOI18N
+
+    @BeforeAll
+    public static void init() {
+        JfxInitializer.initialize();
+    }
+
+    @Test
+    public void z_move_is_shown_without_fxom_update() throws Exception {
+        final EditorController editor = new EditorController();
+        editor.setFxmlText(FXML_TEXT, false);
+        final FXOMDocument document = editor.getFxomDocument();
+        final FXOMObject first = document.searchWithFxId("first"); //NOI18N
+        final VBox vbox = (VBox) document.getSceneGraphRoot();
+        final List<Node> children = new ArrayList<>(vbox.getChildren());
+        final int revision = document.sceneGraphRevisionProperty().get();
+
+        final LiveUpdater liveUpdater = new LiveUpdater(
+                new DocumentDragSource(List.of(first), first, null));
+        liveUpdater.setDropTarget(new ContainerZDropTarget((FXOMInstance) document.getFxomRoot(), null));
+
+        assertEquals(List.of(children.get(1), children.get(2), children.get(0)), vbox.getChildren());
+        assertEquals(0, first.getIndexInParentProperty());
+        assertEquals(revision, document.sceneGraphRevisionProperty().get());
+
+        liveUpdater.setDropTarget(new ContainerZDropTarget((FXOMInstance) document.getFxomRoot(),
+                document.searchWithFxId("third"))); //NOI18N
+
+        assertEquals(List.of(children.get(1), children.get(0), children.get(2)), vbox.getChildren());
+
+        liveUpdater.setDropTarget(null);
+
+        assertEquals(children, vbox.getChildren());
+        assertEquals(revision, document.sceneGraphRevisionProperty().get());
+    }
+
+    @Test
+    public void drop_target_which_cannot_be_shown_is_not_recorded() throws Exception {
+        final EditorController editor = new EditorController();
+        editor.setFxmlText(FXML_TEXT, false);
+        final FXOMDocument document = editor.getFxomDocument();
+        final FXOMObject first = document.searchWithFxId("first"); //NOI18N
+        final VBox vbox = (VBox) document.getSceneGraphRoot();
+        final List<Node> children = new ArrayList<>(vbox.getChildren());
+
+        final LiveUpdater liveUpdater = new LiveUpdater(
+                new DocumentDragSource(List.of(first), first, null));
+        final ContainerZDropTarget shown = new ContainerZDropTarget((FXOMInstance) document.getFxomRoot(), null);
+        liveUpdater.setDropTarget(shown);
+        assertSame(shown, liveUpdater.getDropTarget());
+
+        // Before child is the dragged object itself: nodes cannot be moved
+        liveUpdater.setDropTarget(new ContainerZDropTarget((FXOMInstance) document.getFxomRoot(), first));
+
+        assertNull(liveUpdater.getDropTarget());
+        assertEquals(children, vbox.getChildren());
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.editor.job.reference;
+
+import com.oracle.javafx.scenebuilder.kit.JfxInitializer;
+import com.oracle.javafx.scenebuilder.kit.editor.EditorController;
+import com.oracle.javafx.scenebuilder.kit.editor.job.DeleteObjectJob;
+import com.oracle.javafx.scenebuilder.kit.editor.job.atomic.ReIndexObjectJob;
+import com.oracle.javafx.scenebuilder.kit.fxom.FXOMInstance;
+import com.oracle.javafx.scenebuilder.kit.fxom.FXOMObject;
+import com.oracle.javafx.scenebuilder.kit.metadata.util.PropertyName;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class UpdateReferencesJobTest {
+
+    private static final PropertyName labelFor = new PropertyName("labelFor");
+
+    @BeforeAll
+    public static void init() {
+        JfxInitializer.initialize();
+    }
+
+    @Test
+    public void deleting_declarer_removes_weak_reference() throws Exception {
+        var editor = makeEditor();
+        var first = editor.getFxomDocument().searchWithFxId("first");
+        var third = (FXOMInstance) editor.getFxomDocument().searchWithFxId("third");
+        assertNotNull(third.getProperties().get(labelFor));
+
+        editor.getJobManager().push(new DeleteObjectJob(first, editor));
+
+        assertNull(third.getProperties().get(labelFor));
+        assertEquals(0, editor.getFxomDocument().collectReferences("first").size());
+    }
+
+    @Test
+    public void moving_referrer_before_declarer_removes_weak_reference() throws Exception {
+        var editor = makeEditor();
+        var first = editor.getFxomDocument().searchWithFxId("first");
+        var third = (FXOMInstance) editor.getFxomDocument().searchWithFxId("third");
+
+        editor.getJobManager().push(new ReIndexObjectJob(third, first, editor));
+
+        assertEquals(0, third.getIndexInParentProperty());
+        assertNull(third.getProperties().get(labelFor));
+
+        editor.getJobManager().undo();
+
+        assertNotNull(third.getProperties().get(labelFor));
+        assertEquals(1, editor.getFxomDocument().collectReferences("first").size());
+    }
+
+    @Test
+    public void unrelated_change_keeps_references() throws Exception {
+        var editor = makeEditor();
+        FXOMObject second = editor.getFxomDocument().searchWithFxId("second");
+        var third = (FXOMInstance) editor.getFxomDocument().searchWithFxId("third");
+
+        editor.getJobManager().push(new DeleteObjectJob(second, editor));
+
+        assertNotNull(third.getProperties().get(labelFor));
+        assertEquals(1, editor.getFxomDocument().collectReferences("first").size());
+    }
+
+    private EditorController makeEditor() throws Exception {
+        var editor = new EditorController();
+        editor.setFxmlText(
+                Files.readString(Paths.get(getClass().getResource("References.fxml").toURI())),
+                false
+        );
+        return editor;
+    }
+}
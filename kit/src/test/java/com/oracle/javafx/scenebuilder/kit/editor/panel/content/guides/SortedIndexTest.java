@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.editor.panel.content.guides;
+
+import com.oracle.javafx.scenebuilder.kit.util.MathUtils;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Point2D;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SortedIndexTest {
+
+    private static final double THRESHOLD = 6.0;
+
+    @Test
+    public void horizontal_lines_match_closest_y() {
+        final HorizontalLineIndex index = new HorizontalLineIndex();
+        final HorizontalSegment l1 = new HorizontalSegment(0, 100, 10);
+        final HorizontalSegment l2 = new HorizontalSegment(50, 150, 14);
+        final HorizontalSegment l3 = new HorizontalSegment(200, 300, 14);
+        index.addLine(l3);
+        index.addLine(l1);
+        index.addLine(l2);
+
+        assertEquals(List.of(l1), index.matchNorth(new BoundingBox(0, 11, 10, 10), THRESHOLD));
+        assertEquals(new HashSet<>(List.of(l2, l3)),
+                new HashSet<>(index.matchNorth(new BoundingBox(0, 14.5, 10, 10), THRESHOLD)));
+        assertEquals(List.of(l3), index.matchPoint(new Point2D(250, 15), THRESHOLD));
+        assertTrue(index.matchNorth(new BoundingBox(0, 30, 10, 10), THRESHOLD).isEmpty());
+
+        index.addLine(new HorizontalSegment(0, 10, 30));
+        assertEquals(1, index.matchNorth(new BoundingBox(0, 30, 10, 10), THRESHOLD).size());
+    }
+
+    @Test
+    public void indexes_match_like_a_linear_scan() {
+        final Random random = new Random(0);
+        final VerticalLineIndex lineIndex = new VerticalLineIndex();
+        final SegmentIndex segmentIndex = new SegmentIndex();
+        final PointIndex pointIndex = new PointIndex();
+        final List<VerticalSegment> lines = new ArrayList<>();
+        final List<Point2D> points = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            final double x = Math.rint(random.nextDouble() * 1000);
+            final double y = Math.rint(random.nextDouble() * 1000);
+            final VerticalSegment line = new VerticalSegment(x, y, y + Math.rint(random.nextDouble() * 100));
+            final Point2D point = new Point2D(x, y);
+            lines.add(line);
+            points.add(point);
+            lineIndex.addLine(line);
+            segmentIndex.addSegment(line);
+            pointIndex.addPoint(point);
+        }
+
+        for (int i = 0; i < 200; i++) {
+            final double x = random.nextDouble() * 1000;
+            final double y = random.nextDouble() * 1000;
+            final double length = random.nextDouble() * 100;
+
+            assertEquals(scan(lines, l -> Math.abs(l.getX1() - x)),
+                    new HashSet<>(lineIndex.matchWest(new BoundingBox(x, y, 10, 10), THRESHOLD)));
+            assertEquals(scan(lines, l -> Math.abs(l.getLength() - length)),
+                    new HashSet<>(segmentIndex.match(length, THRESHOLD)));
+            assertEquals(scan(points, p -> p.distance(x, y)),
+                    new HashSet<>(pointIndex.match(new Point2D(x, y), THRESHOLD)));
+        }
+    }
+
+    /*
+     * Returns the items at the smallest delta below THRESHOLD
+     */
+    private static <T> Set<T> scan(List<T> items, ToDoubleFunction<T> delta) {
+        double bestDelta = THRESHOLD;
+        for (T item : items) {
+            bestDelta = Math.min(bestDelta, delta.applyAsDouble(item));
+        }
+        final Set<T> result = new HashSet<>();
+        for (T item : items) {
+            final double d = delta.applyAsDouble(item);
+            if ((d < THRESHOLD) && MathUtils.equals(d, bestDelta)) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+}
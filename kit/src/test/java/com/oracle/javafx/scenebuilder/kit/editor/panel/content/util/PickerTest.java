@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.editor.panel.content.util;
+
+import com.oracle.javafx.scenebuilder.kit.JfxInitializer;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.layout.AnchorPane;
+import javafx.scene.layout.Pane;
+import javafx.scene.shape.Line;
+import javafx.scene.shape.Rectangle;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PickerTest {
+
+    @BeforeAll
+    public static void init() {
+        JfxInitializer.initialize();
+    }
+
+    @Test
+    public void pick_returns_topmost_first() {
+        final Rectangle rectangle = new Rectangle(10, 10, 50, 50);
+        final Pane pane = new Pane(rectangle);
+        pane.setLayoutX(100);
+        pane.setLayoutY(100);
+        final Line line = new Line(0, 200, 300, 200);
+        final AnchorPane root = makeRoot(pane, line);
+        final Picker picker = new Picker();
+
+        assertEquals(List.of(rectangle, pane, root), picker.pick(root, 120, 120));
+        assertEquals(List.of(root), picker.pick(root, 300, 120));
+        // Lines are matched at a distance : outside of their bounds
+        assertEquals(List.of(line, root), picker.pick(root, 150, 202));
+
+        picker.getExcludes().add(pane);
+        assertEquals(List.of(root), picker.pick(root, 120, 120));
+    }
+
+    @Test
+    public void pick_follows_transforms() {
+        final Rectangle rectangle = new Rectangle(0, 0, 20, 20);
+        final Pane pane = new Pane(rectangle);
+        pane.setLayoutX(50);
+        pane.setScaleX(2.0);
+        final AnchorPane root = makeRoot(pane);
+        final Picker picker = new Picker();
+
+        // pane is scaled around its center : rectangle covers [40, 80] in root
+        assertEquals(List.of(rectangle, pane, root), picker.pick(root, 75, 10));
+        assertEquals(List.of(root), picker.pick(root, 85, 10));
+    }
+
+    @Test
+    public void pick_scales_line_threshold_with_ancestors() {
+        final Line line = new Line(0, 0, 10, 0);
+        final Group group = new Group(line);
+        group.setLayoutX(100);
+        group.setLayoutY(100);
+        group.setScaleX(10.0);
+        group.setScaleY(10.0);
+        final AnchorPane root = makeRoot(group);
+        final Picker picker = new Picker();
+
+        // 20 px below the line in root is 2 px below it in group
+        assertEquals(List.of(line, root), picker.pick(root, 100, 120));
+        assertEquals(List.of(root), picker.pick(root, 100, 140));
+    }
+
+    private static AnchorPane makeRoot(Node... children) {
+        final AnchorPane result = new AnchorPane(children);
+        new Scene(result, 400, 400);
+        result.applyCss();
+        result.layout();
+        return result;
+    }
+}
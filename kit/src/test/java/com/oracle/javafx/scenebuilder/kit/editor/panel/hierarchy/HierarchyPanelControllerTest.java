@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.editor.panel.hierarchy;
+
+import com.oracle.javafx.scenebuilder.kit.JfxInitializer;
+import com.oracle.javafx.scenebuilder.kit.editor.EditorController;
+import com.oracle.javafx.scenebuilder.kit.editor.drag.source.DocumentDragSource;
+import com.oracle.javafx.scenebuilder.kit.editor.drag.target.ContainerZDropTarget;
+import com.oracle.javafx.scenebuilder.kit.editor.job.DeleteObjectJob;
+import com.oracle.javafx.scenebuilder.kit.editor.job.atomic.ModifyObjectJob;
+import com.oracle.javafx.scenebuilder.kit.fxom.FXOMInstance;
+import com.oracle.javafx.scenebuilder.kit.fxom.FXOMObject;
+import com.oracle.javafx.scenebuilder.kit.metadata.Metadata;
+import com.oracle.javafx.scenebuilder.kit.metadata.property.ValuePropertyMetadata;
+import com.oracle.javafx.scenebuilder.kit.metadata.util.PropertyName;
+import javafx.scene.control.TreeItem;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class HierarchyPanelControllerTest {
+
+    private static final String FXML_TEXT
+            = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" //NOI18N
+            + "<?import javafx.scene.control.Button?>\n" //NOI18N
+            + "<?import javafx.scene.layout.BorderPane?>\n" //NOI18N
+            + "<?import javafx.scene.layout.VBox?>\n" //NOI18N
+            + "<VBox xmlns=\"http://javafx.com/javafx/23\" xmlns:fx=\"http://javafx.com/fxml/1\">\n" //NOI18N
+            + "  <children>\n" //NOI18N
+            + "    <Button fx:id=\"first\" text=\"First\" />\n" //NOI18N
+            + "    <BorderPane fx:id=\"second\">\n" //NOI18N
+            + "      <center><Button fx:id=\"center\" text=\"Center\" /></center>\n" //NOI18N
+            + "    </BorderPane>\n" //NOI18N
+            + "    <Button fx:id=\"third\" text=\"Third\" />\n" //NOI18N
+            + "  </children>\n" //NOI18N
+            + "</VBox>\n"; //NOI18N
+
+    private static final String MOVE_FXML_TEXT
+            = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" //NOI18N
+            + "<?import javafx.scene.control.Button?>\n" //NOI18N
+            + "<?import javafx.scene.layout.HBox?>\n" //NOI18N
+            + "<?import javafx.scene.layout.Pane?>\n" //NOI18N
+            + "<?import javafx.scene.layout.VBox?>\n" //NOI18N
+            + "<VBox xmlns=\"http://javafx.com/javafx/23\" xmlns:fx=\"http://javafx.com/fxml/1\">\n" //NOI18N
+            + "  <children>\n" //NOI18N
+            + "    <HBox fx:id=\"mover\" VBox.vgrow=\"ALWAYS\">\n" //NOI18N
+            + "      <children>\n" //NOI18N
+            + "        <Button fx:id=\"a\" text=\"A\" />\n" //NOI18N
+            + "        <Button fx:id=\"b\" text=\"B\" />\n" //NOI18N
+            + "      </children>\n" //NOI18N
+            + "    </HBox>\n" //NOI18N
+            + "    <Pane fx:id=\"host\">\n" //NOI18N
+            + "      <children>\n" //NOI18N
+            + "        <VBox fx:id=\"inner\" />\n" //NOI18N
+            + "      </children>\n" //NOI18N
+            + "    </Pane>\n" //NOI18N
+            + "  </children>\n" //NOI18N
+            + "</VBox>\n"; //NOI18N
+
+    @BeforeAll
+    public static void init() {
+        JfxInitializer.initialize();
+    }
+
+    @Test
+    public void modified_object_keeps_other_tree_items() throws Exception {
+        final EditorController editor = makeEditor();
+        final HierarchyPanelController panel = makePanel(editor);
+        final FXOMInstance first = (FXOMInstance) editor.getFxomDocument().searchWithFxId("first"); //NOI18N
+        final TreeItem<HierarchyItem> rootItem = panel.getRoot();
+        final TreeItem<HierarchyItem> firstItem = panel.lookupTreeItem(first);
+        final HierarchyItem firstValue = firstItem.getValue();
+        final TreeItem<HierarchyItem> thirdItem = panel.lookupTreeItem(
+                editor.getFxomDocument().searchWithFxId("third")); //NOI18N
+
+        final ValuePropertyMetadata text = Metadata.getMetadata()
+                .queryValueProperty(first, new PropertyName("text")); //NOI18N
+        editor.getJobManager().push(new ModifyObjectJob(first, text, "Modified", editor)); //NOI18N
+
+        assertSame(rootItem, panel.getRoot());
+        assertSame(firstItem, panel.lookupTreeItem(first));
+        assertNotSame(firstValue, firstItem.getValue());
+        assertSame(thirdItem, rootItem.getChildren().get(2));
+        assertTreeMatches(editor, panel);
+    }
+
+    @Test
+    public void removed_and_restored_objects_update_tree_items() throws Exception {
+        final EditorController editor = makeEditor();
+        final HierarchyPanelController panel = makePanel(editor);
+        final FXOMObject second = editor.getFxomDocument().searchWithFxId("second"); //NOI18N
+        final FXOMObject center = editor.getFxomDocument().searchWithFxId("center"); //NOI18N
+        final TreeItem<HierarchyItem> firstItem = panel.lookupTreeItem(
+                editor.getFxomDocument().searchWithFxId("first")); //NOI18N
+
+        editor.getJobManager().push(new DeleteObjectJob(center, editor));
+        assertNull(panel.lookupTreeItem(center));
+        assertTreeMatches(editor, panel);
+
+        editor.getJobManager().push(new DeleteObjectJob(second, editor));
+        assertNull(panel.lookupTreeItem(second));
+        assertEquals(2, panel.getRoot().getChildren().size());
+        assertSame(firstItem, panel.getRoot().getChildren().get(0));
+        assertTreeMatches(editor, panel);
+
+        editor.getJobManager().undo();
+        editor.getJobManager().undo();
+        assertNotNull(panel.lookupTreeItem(center));
+        assertSame(panel.lookupTreeItem(second), panel.lookupTreeItem(center).getParent());
+        assertTreeMatches(editor, panel);
+    }
+
+    @Test
+    public void moved_container_keeps_its_children() throws Exception {
+        final EditorController editor = makeEditor(MOVE_FXML_TEXT);
+        final HierarchyPanelController panel = makePanel(editor);
+        final FXOMObject mover = editor.getFxomDocument().searchWithFxId("mover"); //NOI18N
+        final FXOMInstance inner = (FXOMInstance) editor.getFxomDocument().searchWithFxId("inner"); //NOI18N
+        final FXOMObject a = editor.getFxomDocument().searchWithFxId("a"); //NOI18N
+
+        // mover is shallower than its new parent and loses its VBox.vgrow
+        final DocumentDragSource dragSource = new DocumentDragSource(List.of(mover), mover, null);
+        editor.getJobManager().push(new ContainerZDropTarget(inner, null).makeDropJob(dragSource, editor));
+
+        assertSame(inner, mover.getParentObject());
+        assertEquals(2, panel.lookupTreeItem(mover).getChildren().size());
+        assertSame(panel.lookupTreeItem(mover), panel.lookupTreeItem(a).getParent());
+        assertTreeMatches(editor, panel);
+
+        editor.getJobManager().undo();
+        assertEquals(2, panel.lookupTreeItem(mover).getChildren().size());
+        assertTreeMatches(editor, panel);
+    }
+
+    private static EditorController makeEditor() throws Exception {
+        return makeEditor(FXML_TEXT);
+    }
+
+    private static EditorController makeEditor(String fxmlText) throws Exception {
+        final EditorController editor = new EditorController();
+        editor.setFxmlText(fxmlText, false);
+        return editor;
+    }
+
+    private static HierarchyPanelController makePanel(EditorController editor) {
+        final HierarchyPanelController result = new HierarchyPanelController(editor);
+        result.getPanelRoot(); // Loads the FXML and builds the tree items
+        return result;
+    }
+
+    /*
+     * Tree items of panel must match the ones of a panel built from scratch
+     */
+    private static void assertTreeMatches(EditorController editor, HierarchyPanelController panel) {
+        final HierarchyPanelController reference = makePanel(editor);
+        assertEquals(describe(reference.getRoot()), describe(panel.getRoot()));
+    }
+
+    private static List<String> describe(TreeItem<HierarchyItem> treeItem) {
+        final List<String> result = new ArrayList<>();
+        describe(treeItem, "", result); //NOI18N
+        return result;
+    }
+
+    private static void describe(TreeItem<HierarchyItem> treeItem, String indent, List<String> result) {
+        final HierarchyItem item = treeItem.getValue();
+        result.add(indent + item.getClass().getSimpleName() + " " + item.getFxomObject() //NOI18N
+                + " " + item.getDisplayInfo(AbstractHierarchyPanelController.DisplayOption.INFO)); //NOI18N
+        for (TreeItem<HierarchyItem> child : treeItem.getChildren()) {
+            describe(child, indent + "  ", result); //NOI18N
+        }
+    }
+}
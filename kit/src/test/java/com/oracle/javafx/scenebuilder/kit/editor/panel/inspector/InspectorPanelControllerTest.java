@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.editor.panel.inspector;
+
+import com.oracle.javafx.scenebuilder.kit.JfxInitializer;
+import com.oracle.javafx.scenebuilder.kit.editor.EditorController;
+import com.oracle.javafx.scenebuilder.kit.editor.job.atomic.ModifyObjectJob;
+import com.oracle.javafx.scenebuilder.kit.editor.panel.inspector.InspectorPanelController.ShowMode;
+import com.oracle.javafx.scenebuilder.kit.fxom.FXOMInstance;
+import com.oracle.javafx.scenebuilder.kit.fxom.FXOMObject;
+import com.oracle.javafx.scenebuilder.kit.metadata.Metadata;
+import com.oracle.javafx.scenebuilder.kit.metadata.property.ValuePropertyMetadata;
+import com.oracle.javafx.scenebuilder.kit.metadata.util.PropertyName;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.TextInputControl;
+import javafx.scene.layout.GridPane;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InspectorPanelControllerTest {
+
+    private static final String FXML_TEXT
+            = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" //NOI18N
+            + "<?import javafx.scene.control.Button?>\n" //NOI18N
+            + "<?import javafx.scene.layout.VBox?>\n" //NOI18N
+            + "<VBox xmlns=\"http://javafx.com/javafx/23\" xmlns:fx=\"http://javafx.com/fxml/1\">\n" //NOI18N
+            + "  <children>\n" //NOI18N
+            + "    <Button fx:id=\"first\" text=\"First\" />\n" //NOI18N
+            + "    <Button fx:id=\"second\" text=\"Second\" />\n" //NOI18N
+            + "  </children>\n" //NOI18N
+            + "</VBox>\n"; //NOI18N
+
+    @BeforeAll
+    public static void init() {
+        JfxInitializer.initialize();
+    }
+
+    @Test
+    public void same_layout_keeps_editors_and_refreshes_values() throws Exception {
+        final EditorController editor = makeEditor();
+        final InspectorPanelController panel = makePanel(editor);
+        panel.setShowMode(ShowMode.EDITED);
+        final GridPane section = lookupPropertiesSection(panel);
+
+        editor.getSelection().select(editor.getFxomDocument().searchWithFxId("first")); //NOI18N
+        final List<Node> firstChildren = new ArrayList<>(section.getChildren());
+        assertTrue(collectTexts(section).contains("First")); //NOI18N
+
+        editor.getSelection().select(editor.getFxomDocument().searchWithFxId("second")); //NOI18N
+        assertEquals(firstChildren, section.getChildren());
+        assertTrue(collectTexts(section).contains("Second")); //NOI18N
+    }
+
+    @Test
+    public void edited_property_changes_layout() throws Exception {
+        final EditorController editor = makeEditor();
+        final InspectorPanelController panel = makePanel(editor);
+        panel.setShowMode(ShowMode.EDITED);
+        final GridPane section = lookupPropertiesSection(panel);
+        final FXOMObject first = editor.getFxomDocument().searchWithFxId("first"); //NOI18N
+
+        editor.getSelection().select(first);
+        final int rowCount = section.getChildren().size();
+
+        final ValuePropertyMetadata mnemonicParsing = Metadata.getMetadata()
+                .queryValueProperty((FXOMInstance) first, new PropertyName("mnemonicParsing")); //NOI18N
+        editor.getJobManager().push(new ModifyObjectJob((FXOMInstance) first, mnemonicParsing, Boolean.FALSE, editor));
+
+        assertNotEquals(rowCount, section.getChildren().size());
+    }
+
+    private static EditorController makeEditor() throws Exception {
+        final EditorController editor = new EditorController();
+        editor.setFxmlText(FXML_TEXT, false);
+        return editor;
+    }
+
+    private static InspectorPanelController makePanel(EditorController editor) {
+        final InspectorPanelController result = new InspectorPanelController(editor);
+        final Parent root = (Parent) result.getPanelRoot();
+        new Scene(root);
+        root.applyCss(); // Creates the skins : section contents become reachable
+        return result;
+    }
+
+    private static GridPane lookupPropertiesSection(InspectorPanelController panel) {
+        final Node result = panel.getPanelRoot().lookup("#propertiesSection"); //NOI18N
+        assertTrue(result instanceof GridPane);
+        return (GridPane) result;
+    }
+
+    private static List<String> collectTexts(Node node) {
+        final List<String> result = new ArrayList<>();
+        if (node instanceof TextInputControl) {
+            result.add(((TextInputControl) node).getText());
+        } else if (node instanceof Parent) {
+            for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                result.addAll(collectTexts(child));
+            }
+        }
+        return result;
+    }
+}
@@ -34,6 +34,7 @@ package com.oracle.javafx.scenebuilder.kit.fxom;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -149,6 +150,50 @@ public class FXOMDocumentTest {
         assertEquals(expectedFxml, generatedFxml);
     }
 
+    @Test
+    public void that_searchWithSceneGraphObject_follows_structural_changes() throws Exception {
+        fxmlText = readResourceText("IncrementalRefresh.fxml");
+        fxmlUrl = getResourceUrl("IncrementalRefresh.fxml");
+        classUnderTest = new FXOMDocument(fxmlText, fxmlUrl, loader, resourceBundle);
+
+        FXOMObject second = classUnderTest.searchWithFxId("second");
+        Object secondButton = second.getSceneGraphObject();
+        assertEquals(second, classUnderTest.searchWithSceneGraphObject(secondButton));
+
+        classUnderTest.beginUpdate();
+        second.removeFromParentProperty();
+        classUnderTest.endUpdate();
+
+        assertNull(classUnderTest.searchWithSceneGraphObject(secondButton));
+        FXOMObject first = classUnderTest.searchWithFxId("first");
+        assertEquals(first, classUnderTest.searchWithSceneGraphObject(first.getSceneGraphObject()));
+    }
+
+    @Test
+    public void that_fxId_index_follows_fxId_and_structural_changes() throws Exception {
+        fxmlText = readResourceText("IncrementalRefresh.fxml");
+        fxmlUrl = getResourceUrl("IncrementalRefresh.fxml");
+        classUnderTest = new FXOMDocument(fxmlText, fxmlUrl, loader, resourceBundle);
+
+        FXOMObject second = classUnderTest.searchWithFxId("second");
+        assertNotNull(second);
+        assertTrue(classUnderTest.getFxIds().contains("second"));
+
+        second.setFxId("renamed");
+        assertNull(classUnderTest.searchWithFxId("second"));
+        assertEquals(second, classUnderTest.searchWithFxId("renamed"));
+
+        FXOMPropertyC parentProperty = second.getParentProperty();
+        int index = second.getIndexInParentProperty();
+        second.removeFromParentProperty();
+        assertNull(classUnderTest.searchWithFxId("renamed"));
+        assertFalse(classUnderTest.getFxIds().contains("renamed"));
+
+        second.addToParentProperty(index, parentProperty);
+        assertEquals(second, classUnderTest.searchWithFxId("renamed"));
+        assertEquals(classUnderTest.collectFxIds().keySet(), classUnderTest.getFxIds());
+    }
+
     private String readResourceText(String resourceName) throws Exception {
         File fxmlFileName = new File(getResourceUrl(resourceName).toURI());
         return useOnlyNewLine(Files.readString(fxmlFileName.toPath()));
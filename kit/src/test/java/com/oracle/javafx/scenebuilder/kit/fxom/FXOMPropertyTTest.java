@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.fxom;
+
+import com.oracle.javafx.scenebuilder.kit.JfxInitializer;
+import com.oracle.javafx.scenebuilder.kit.metadata.Metadata;
+import com.oracle.javafx.scenebuilder.kit.metadata.property.value.SingleValuePropertyMetadata;
+import com.oracle.javafx.scenebuilder.kit.metadata.util.PrefixedValue;
+import com.oracle.javafx.scenebuilder.kit.metadata.util.PropertyName;
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class FXOMPropertyTTest {
+
+    private static final String FXML_TEXT
+            = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" //NOI18N
+            + "<?import javafx.scene.control.Button?>\n" //NOI18N
+            + "<Button textFill=\"RED\" prefWidth=\"${other.width}\" "
+            + "xmlns=\"http://javafx.com/javafx/23\" xmlns:fx=\"http://javafx.com/fxml/1\" />\n"; //NOI18N
+
+    @BeforeAll
+    public static void init() {
+        JfxInitializer.initialize();
+    }
+
+    @Test
+    public void parsed_value_is_reused_until_value_changes() throws Exception {
+        final FXOMInstance button = loadButton();
+        final SingleValuePropertyMetadata<?> textFill = queryMetadata(button, "textFill"); //NOI18N
+        final FXOMPropertyT property = (FXOMPropertyT) button.getProperties().get(textFill.getName());
+
+        final Object first = textFill.getValue(button);
+        assertEquals(Color.RED, first);
+        assertSame(first, textFill.getValue(button));
+
+        property.setValue("BLUE"); //NOI18N
+        final Object changed = textFill.getValue(button);
+        assertEquals(Color.BLUE, changed);
+        assertNotSame(first, changed);
+        assertSame(changed, textFill.getValue(button));
+    }
+
+    @Test
+    public void binding_expression_gives_default_value() throws Exception {
+        final FXOMInstance button = loadButton();
+        final SingleValuePropertyMetadata<?> prefWidth = queryMetadata(button, "prefWidth"); //NOI18N
+        final FXOMPropertyT property = (FXOMPropertyT) button.getProperties().get(prefWidth.getName());
+
+        assertEquals(PrefixedValue.Type.BINDING_EXPRESSION, property.getPrefixedValueType());
+        assertEquals(prefWidth.getDefaultValue(), prefWidth.getValue(button));
+
+        property.setValue("12.5"); //NOI18N
+        assertEquals(PrefixedValue.Type.PLAIN_STRING, property.getPrefixedValueType());
+        assertEquals(12.5, prefWidth.getValue(button));
+    }
+
+    private static FXOMInstance loadButton() throws Exception {
+        final FXOMDocument document = new FXOMDocument(FXML_TEXT, null,
+                FXOMPropertyTTest.class.getClassLoader(), null);
+        return (FXOMInstance) document.getFxomRoot();
+    }
+
+    private static SingleValuePropertyMetadata<?> queryMetadata(FXOMInstance instance, String name) {
+        return (SingleValuePropertyMetadata<?>) Metadata.getMetadata()
+                .queryValueProperty(instance, new PropertyName(name));
+    }
+}
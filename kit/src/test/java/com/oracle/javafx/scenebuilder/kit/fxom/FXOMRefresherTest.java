@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.fxom;
+
+import com.oracle.javafx.scenebuilder.kit.JfxInitializer;
+import com.oracle.javafx.scenebuilder.kit.metadata.util.PropertyName;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.layout.VBox;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test for {@link FXOMRefresher} incremental refresh.
+ */
+public class FXOMRefresherTest {
+
+    private FXOMDocument fxomDocument;
+
+    @BeforeAll
+    public static void init() {
+        JfxInitializer.initialize();
+    }
+
+    @BeforeEach
+    public void prepareTest() throws Exception {
+        final URL location = getClass().getResource("IncrementalRefresh.fxml");
+        final String fxmlText = FXOMDocument.readContentFromURL(location);
+        fxomDocument = new FXOMDocument(fxmlText, location, getClass().getClassLoader(), null);
+        fxomDocument.refreshSceneGraph();
+    }
+
+    @Test
+    public void that_only_modified_object_is_reinstantiated() {
+        final Object sceneGraphRoot = fxomDocument.getSceneGraphRoot();
+        final FXOMInstance first = (FXOMInstance) fxomDocument.searchWithFxId("first");
+        final FXOMInstance third = (FXOMInstance) fxomDocument.searchWithFxId("third");
+        final Object firstButton = first.getSceneGraphObject();
+        final Object thirdLabel = third.getSceneGraphObject();
+
+        setText("second", "Modified");
+
+        final Object secondButton = fxomDocument.searchWithFxId("second").getSceneGraphObject();
+        assertThat(fxomDocument.getSceneGraphRoot()).isSameAs(sceneGraphRoot);
+        assertThat(first.getSceneGraphObject()).isSameAs(firstButton);
+        assertThat(third.getSceneGraphObject()).isSameAs(thirdLabel);
+        assertThat(((Button) secondButton).getText()).isEqualTo("Modified");
+        assertThat(((VBox) sceneGraphRoot).getChildren().get(1)).isSameAs(secondButton);
+    }
+
+    @Test
+    public void that_referenced_object_triggers_full_refresh() {
+        final Object sceneGraphRoot = fxomDocument.getSceneGraphRoot();
+
+        setText("first", "Modified");
+
+        final Object firstButton = fxomDocument.searchWithFxId("first").getSceneGraphObject();
+        final Object thirdLabel = fxomDocument.searchWithFxId("third").getSceneGraphObject();
+        assertThat(fxomDocument.getSceneGraphRoot()).isNotSameAs(sceneGraphRoot);
+        assertThat(((Button) firstButton).getText()).isEqualTo("Modified");
+        assertThat(((Label) thirdLabel).getLabelFor()).isSameAs(firstButton);
+    }
+
+    @Test
+    public void that_full_refresh_is_used_when_incremental_refresh_is_disabled() {
+        final Object sceneGraphRoot = fxomDocument.getSceneGraphRoot();
+
+        fxomDocument.setIncrementalRefreshEnabled(false);
+        setText("second", "Modified");
+
+        assertThat(fxomDocument.getSceneGraphRoot()).isNotSameAs(sceneGraphRoot);
+    }
+
+    private void setText(String fxId, String text) {
+        final FXOMInstance fxomInstance = (FXOMInstance) fxomDocument.searchWithFxId(fxId);
+        final FXOMPropertyT property = (FXOMPropertyT) fxomInstance.getProperties().get(new PropertyName("text"));
+        fxomDocument.beginUpdate();
+        property.setValue(text);
+        fxomDocument.endUpdate();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.glossary;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ControllerClassIndexTest {
+
+    @TempDir
+    Path sourceFolder;
+
+    @Test
+    public void that_discovery_is_reused_until_a_source_changes() throws Exception {
+        final File fxmlFile = Files.writeString(sourceFolder.resolve("Sample.fxml"), "<AnchorPane/>").toFile();
+        final Path javaFile = sourceFolder.resolve("SampleController.java");
+        writeController(javaFile, "first");
+
+        final ControllerClassIndex index = new ControllerClassIndex();
+        index.prefetch(fxmlFile);
+        final Set<ControllerClass> classes = index.discover(fxmlFile);
+        assertEquals(1, classes.size());
+        final ControllerClass controllerClass = classes.iterator().next();
+        assertEquals("sample.SampleController", controllerClass.getClassName());
+        assertEquals(Set.of("first"), controllerClass.getFxIds());
+
+        assertSame(classes, index.discover(fxmlFile));
+
+        writeController(javaFile, "second");
+        final Set<ControllerClass> newClasses = index.discover(fxmlFile);
+        assertEquals(1, newClasses.size());
+        assertEquals(Set.of("second"), newClasses.iterator().next().getFxIds());
+    }
+
+    @Test
+    public void that_discoveries_and_parsed_files_are_bounded() throws Exception {
+        final ControllerClassIndex index = new ControllerClassIndex(2, 2);
+        for (int i = 0; i < 4; i++) {
+            final Path folder = Files.createDirectory(sourceFolder.resolve("folder" + i)); //NOI18N
+            final File fxmlFile = Files.writeString(folder.resolve("Sample.fxml"), "<AnchorPane/>").toFile(); //NOI18N
+            writeController(folder.resolve("SampleController.java"), "button" + i); //NOI18N
+            assertEquals(1, index.discover(fxmlFile).size());
+        }
+
+        assertEquals(2, index.getDiscoveryCount());
+        assertEquals(2, index.getParsedFileCount());
+    }
+
+    @Test
+    public void that_failed_discovery_finds_nothing() {
+        // No parent directory: discovery fails in the background
+        final File fxmlFile = new File("Sample.fxml"); //NOI18N
+        final ControllerClassIndex index = new ControllerClassIndex();
+        index.prefetch(fxmlFile);
+
+        assertTrue(index.discover(fxmlFile).isEmpty());
+    }
+
+    private static void writeController(Path javaFile, String fxId) throws Exception {
+        final long lastModified = Files.exists(javaFile) ? javaFile.toFile().lastModified() : 0;
+        Files.writeString(javaFile, "package sample;\n\n" //NOI18N
+                + "import javafx.fxml.FXML;\n" //NOI18N
+                + "import javafx.scene.control.Button;\n\n" //NOI18N
+                + "public class SampleController {\n" //NOI18N
+                + "    @FXML\n" //NOI18N
+                + "    private Button " + fxId + ";\n" //NOI18N
+                + "}\n"); //NOI18N
+        // Makes sure the change is visible even with a coarse file time resolution
+        javaFile.toFile().setLastModified(Math.max(lastModified + 2000, System.currentTimeMillis()));
+    }
+}
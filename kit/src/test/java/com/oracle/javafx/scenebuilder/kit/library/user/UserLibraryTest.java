@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.library.user;
+
+import com.oracle.javafx.scenebuilder.kit.JfxInitializer;
+import com.oracle.javafx.scenebuilder.kit.library.LibraryItem;
+import com.oracle.javafx.scenebuilder.kit.library.util.JarReportCache;
+import javafx.application.Platform;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class UserLibraryTest {
+
+    private static final String FXML_TEXT
+            = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" //NOI18N
+            + "<?import javafx.scene.control.Button?>\n" //NOI18N
+            + "<Button/>\n"; //NOI18N
+
+    @TempDir
+    Path libraryFolder;
+
+    @BeforeAll
+    public static void init() {
+        JfxInitializer.initialize();
+    }
+
+    @Test
+    public void that_fxml_changes_update_items_incrementally() throws Exception {
+        Files.writeString(libraryFolder.resolve("First.fxml"), FXML_TEXT);
+        final UserLibrary library = new UserLibrary(libraryFolder.toString());
+        library.startWatching();
+        try {
+            waitFor(() -> library.isFirstExplorationCompleted() && (findItem(library, "First") != null));
+            final LibraryItem first = findItem(library, "First");
+            final int itemCount = runInFxThread(() -> library.getItems().size());
+
+            // Adding a FXML file adds its item and leaves the others alone
+            Files.writeString(libraryFolder.resolve("Second.fxml"), FXML_TEXT);
+            waitFor(() -> findItem(library, "Second") != null);
+            assertSame(first, findItem(library, "First"));
+            assertEquals(itemCount + 1, (int) runInFxThread(() -> library.getItems().size()));
+            assertEquals(null, library.getClassLoader());
+
+            // Removing it removes its item only
+            Files.delete(libraryFolder.resolve("Second.fxml"));
+            waitFor(() -> findItem(library, "Second") == null);
+            assertSame(first, findItem(library, "First"));
+            assertEquals(itemCount, (int) runInFxThread(() -> library.getItems().size()));
+        } finally {
+            runInFxThread(() -> {
+                library.stopWatching();
+                return null;
+            });
+        }
+    }
+
+    @Test
+    public void that_added_jar_keeps_other_jars_in_report_cache() throws Exception {
+        final Path first = makeJar("first.jar");
+        final Path second = makeJar("second.jar");
+        final UserLibrary library = new UserLibrary(libraryFolder.toString());
+        library.startWatching();
+        try {
+            waitFor(() -> library.isFirstExplorationCompleted() && (library.getJarReports().size() == 2));
+
+            // Third jar extends the class loader: only this jar is explored
+            final Path third = makeJar("third.jar");
+            waitFor(() -> library.getJarReports().size() == 3);
+
+            final JarReportCache cache = new JarReportCache(libraryFolder.resolve(".jarReports.cache"),
+                    library.getFilter(), List.of(first, second, third));
+            cache.load();
+            for (Path jar : List.of(first, second, third)) {
+                assertNotNull(cache.lookup(jar, getClass().getClassLoader()), jar.toString());
+            }
+        } finally {
+            runInFxThread(() -> {
+                library.stopWatching();
+                return null;
+            });
+        }
+    }
+
+    private Path makeJar(String name) throws IOException {
+        final Path result = libraryFolder.resolve(name);
+        final Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0"); //NOI18N
+        try (JarOutputStream jos = new JarOutputStream(Files.newOutputStream(result), manifest)) {
+            jos.putNextEntry(new JarEntry(name + ".txt")); //NOI18N
+            jos.write(name.getBytes(StandardCharsets.UTF_8));
+            jos.closeEntry();
+        }
+        return result;
+    }
+
+    private static LibraryItem findItem(UserLibrary library, String name) throws Exception {
+        return runInFxThread(() -> {
+            LibraryItem result = null;
+            for (LibraryItem item : library.getItems()) {
+                if (item.getName().equals(name) && UserLibrary.TAG_USER_DEFINED.equals(item.getSection())) {
+                    result = item;
+                }
+            }
+            return result;
+        });
+    }
+
+    private static void waitFor(Callable<Boolean> condition) throws Exception {
+        final long deadline = System.currentTimeMillis() + 10000;
+        boolean done;
+        while ((done = runInFxThread(condition)) == false && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertTrue(done);
+    }
+
+    private static <T> T runInFxThread(Callable<T> callable) throws Exception {
+        if (Platform.isFxApplicationThread()) {
+            return callable.call();
+        }
+        final FutureTask<T> task = new FutureTask<>(callable);
+        Platform.runLater(task);
+        return task.get(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.library.util;
+
+import javafx.scene.control.Button;
+import javafx.scene.control.Labeled;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.StackPane;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ClassHierarchyTest {
+
+    public static class CustomPane extends StackPane {
+    }
+
+    public static class SubCustomPane extends CustomPane {
+    }
+
+    public static abstract class AbstractPane extends Pane {
+    }
+
+    static class HiddenPane extends Pane {
+    }
+
+    public static class Utility {
+    }
+
+    public static class SubUtility extends Utility {
+    }
+
+    @Test
+    public void that_header_is_read_without_loading() throws Exception {
+        final ClassFileHeader button = readHeader(Button.class);
+        assertEquals(Button.class.getName(), button.getClassName());
+        assertEquals(Button.class.getSuperclass().getName(), button.getSuperClassName());
+        assertTrue(button.isPublic());
+        assertFalse(button.isAbstract());
+
+        assertTrue(readHeader(Labeled.class).isAbstract());
+        assertTrue(readHeader(Runnable.class).isAbstract());
+        assertEquals(null, readHeader(Object.class).getSuperClassName());
+    }
+
+    @Test
+    public void that_only_concrete_public_nodes_may_be_nodes() throws Exception {
+        final ClassHierarchy hierarchy = new ClassHierarchy(getClass().getClassLoader());
+        final ClassFileHeader subUtility = readHeader(SubUtility.class);
+        hierarchy.addHeader(subUtility);
+
+        assertTrue(hierarchy.mayBeNodeClass(readHeader(CustomPane.class)));
+        // CustomPane header is read from the class loader
+        assertTrue(hierarchy.mayBeNodeClass(readHeader(SubCustomPane.class)));
+        assertFalse(hierarchy.mayBeNodeClass(readHeader(AbstractPane.class)));
+        assertFalse(hierarchy.mayBeNodeClass(readHeader(HiddenPane.class)));
+        assertFalse(hierarchy.mayBeNodeClass(readHeader(Utility.class)));
+        assertFalse(hierarchy.mayBeNodeClass(subUtility));
+    }
+
+    @Test
+    public void that_unknown_super_class_may_be_node() {
+        final ClassHierarchy hierarchy = new ClassHierarchy(getClass().getClassLoader());
+        final ClassFileHeader orphan = new ClassFileHeader("a.b.Orphan", "a.b.Missing", 0x0001 /* ACC_PUBLIC */);
+
+        assertTrue(hierarchy.mayBeNodeClass(orphan));
+    }
+
+    private static ClassFileHeader readHeader(Class<?> klass) throws IOException {
+        final String resourceName = "/" + klass.getName().replace('.', '/') + ".class"; //NOI18N
+        try (InputStream is = klass.getResourceAsStream(resourceName)) {
+            return ClassFileHeader.read(is);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.library.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ExplorationPoolTest {
+
+    @Test
+    public void that_nested_results_come_in_task_order() throws Exception {
+        final List<Callable<List<Integer>>> jars = new ArrayList<>();
+        for (int jar = 0; jar < 10; jar++) {
+            final int base = jar * 100;
+            jars.add(() -> {
+                final List<Callable<Integer>> entries = new ArrayList<>();
+                for (int entry = 0; entry < 50; entry++) {
+                    final int value = base + entry;
+                    entries.add(() -> value);
+                }
+                return ExplorationPool.invokeAll(entries);
+            });
+        }
+
+        final List<List<Integer>> results = ExplorationPool.invokeAll(jars);
+
+        assertEquals(10, results.size());
+        for (int jar = 0; jar < 10; jar++) {
+            assertEquals(50, results.get(jar).size());
+            for (int entry = 0; entry < 50; entry++) {
+                assertEquals(jar * 100 + entry, results.get(jar).get(entry));
+            }
+        }
+    }
+
+    @Test
+    public void that_first_failure_in_task_order_is_rethrown() {
+        final List<Callable<String>> tasks = List.of(
+                () -> "ok",
+                () -> { throw new IOException("first"); },
+                () -> { throw new IOException("second"); });
+
+        final IOException x = assertThrows(IOException.class, () -> ExplorationPool.invokeAll(tasks));
+        assertEquals("first", x.getMessage());
+    }
+
+    @Test
+    public void that_waiting_caller_can_be_interrupted() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch blocker = new CountDownLatch(1);
+        final List<Callable<String>> tasks = List.of(() -> {
+            started.countDown();
+            blocker.await(); // Like a task waiting for the FX thread
+            return "done";
+        });
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final Thread caller = new Thread(() -> {
+            try {
+                ExplorationPool.invokeAll(tasks);
+            } catch(Throwable x) {
+                failure.set(x);
+            }
+        });
+
+        try {
+            caller.start();
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            caller.interrupt();
+            caller.join(10000);
+
+            assertFalse(caller.isAlive());
+            assertInstanceOf(InterruptedIOException.class, failure.get());
+        } finally {
+            blocker.countDown();
+        }
+    }
+}
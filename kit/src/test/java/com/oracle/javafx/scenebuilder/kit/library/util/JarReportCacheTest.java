@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.library.util;
+
+import javafx.scene.control.Button;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JarReportCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void that_unchanged_jar_is_restored_from_cache() throws Exception {
+        final Path jar = makeJar("content");
+        final Path cacheFile = tempDir.resolve("reports.cache");
+
+        final JarReportCache writer = new JarReportCache(cacheFile, List.of("a.b.Excluded"), List.of(jar));
+        writer.load();
+        assertNull(writer.lookup(jar, getClass().getClassLoader()));
+        writer.store(jar, makeReport(jar));
+        writer.save();
+
+        final JarReportCache reader = new JarReportCache(cacheFile, List.of("a.b.Excluded"), List.of(jar));
+        reader.load();
+        final JarReport report = reader.lookup(jar, getClass().getClassLoader());
+
+        assertNotNull(report);
+        assertEquals(3, report.getEntries().size());
+
+        final JarReportEntry ok = report.getEntries().get(0);
+        assertEquals(JarReportEntry.Status.OK, ok.getStatus());
+        assertEquals(Button.class.getCanonicalName(), ok.getCanonicalName());
+        assertEquals(Button.class.getSimpleName(), ok.getSimpleName());
+        assertTrue(ok.isNode());
+        assertSame(Button.class, ok.getKlass());
+
+        final JarReportEntry failed = report.getEntries().get(1);
+        assertEquals(JarReportEntry.Status.CANNOT_LOAD, failed.getStatus());
+        assertFalse(failed.isNode());
+        assertNull(failed.getKlass());
+        assertEquals(new ClassNotFoundException("a.b.Missing").toString(), failed.getException().toString());
+
+        final JarReportEntry ignored = report.getEntries().get(2);
+        assertEquals(JarReportEntry.Status.IGNORED, ignored.getStatus());
+        assertEquals(makeReport(jar).getEntries().get(2).toString(), ignored.toString());
+    }
+
+    @Test
+    public void that_changed_jar_or_filter_misses_cache() throws Exception {
+        final Path jar = makeJar("content");
+        final Path cacheFile = tempDir.resolve("reports.cache");
+
+        final JarReportCache writer = new JarReportCache(cacheFile, List.of(), List.of(jar));
+        writer.load();
+        writer.store(jar, makeReport(jar));
+        writer.save();
+
+        final JarReportCache otherFilter = new JarReportCache(cacheFile, List.of("a.b.Excluded"), List.of(jar));
+        otherFilter.load();
+        assertNull(otherFilter.lookup(jar, getClass().getClassLoader()));
+
+        final JarReportCache sameFilter = new JarReportCache(cacheFile, List.of(), List.of(jar));
+        sameFilter.load();
+        assertNotNull(sameFilter.lookup(jar, getClass().getClassLoader()));
+
+        // Touched but unchanged: content hash is checked
+        final FileTime lastModified = Files.getLastModifiedTime(jar);
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(lastModified.toMillis() + 10000));
+        assertNotNull(sameFilter.lookup(jar, getClass().getClassLoader()));
+
+        // Same size but different content
+        makeJar("CONTENT");
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(lastModified.toMillis() + 20000));
+        assertNull(sameFilter.lookup(jar, getClass().getClassLoader()));
+    }
+
+    @Test
+    public void that_failures_are_restored_only_with_same_class_path() throws Exception {
+        final Path jar = makeJar("content");
+        final Path dependency = Files.writeString(tempDir.resolve("dependency.jar"), "dependency");
+        final Path cacheFile = tempDir.resolve("reports.cache");
+
+        final JarReportCache writer = new JarReportCache(cacheFile, List.of(), List.of(jar));
+        writer.load();
+        writer.store(jar, makeReport(jar)); // Has a CANNOT_LOAD entry
+        writer.save();
+
+        final JarReportCache sameClassPath = new JarReportCache(cacheFile, List.of(), List.of(jar));
+        sameClassPath.load();
+        assertNotNull(sameClassPath.lookup(jar, getClass().getClassLoader()));
+
+        // Missing class may now be found in the dependency
+        final JarReportCache newClassPath = new JarReportCache(cacheFile, List.of(), List.of(jar, dependency));
+        newClassPath.load();
+        assertNull(newClassPath.lookup(jar, getClass().getClassLoader()));
+    }
+
+    @Test
+    public void that_reports_without_failure_depend_on_class_path() throws Exception {
+        final Path jar = makeJar("content");
+        final Path dependency = Files.writeString(tempDir.resolve("dependency.jar"), "dependency");
+        final Path cacheFile = tempDir.resolve("reports.cache");
+        final JarReport report = makeReport(jar);
+        report.getEntries().remove(1);
+
+        final JarReportCache writer = new JarReportCache(cacheFile, List.of(), List.of(jar, dependency));
+        writer.load();
+        writer.store(jar, report);
+        writer.save();
+
+        final JarReportCache sameClassPath = new JarReportCache(cacheFile, List.of(), List.of(jar, dependency));
+        sameClassPath.load();
+        assertNotNull(sameClassPath.lookup(jar, getClass().getClassLoader()));
+
+        // Classes found in the dependency may no longer load
+        Files.writeString(dependency, "new dependency");
+        final JarReportCache newDependency = new JarReportCache(cacheFile, List.of(), List.of(jar, dependency));
+        newDependency.load();
+        assertNull(newDependency.lookup(jar, getClass().getClassLoader()));
+
+        final JarReportCache noDependency = new JarReportCache(cacheFile, List.of(), List.of(jar));
+        noDependency.load();
+        assertNull(noDependency.lookup(jar, getClass().getClassLoader()));
+    }
+
+    @Test
+    public void that_retained_reports_are_saved_with_new_class_path() throws Exception {
+        final Path jar = makeJar("content");
+        final Path added = Files.writeString(tempDir.resolve("added.jar"), "added");
+        final Path cacheFile = tempDir.resolve("reports.cache");
+
+        final JarReportCache writer = new JarReportCache(cacheFile, List.of(), List.of(jar));
+        writer.load();
+        writer.store(jar, makeReport(jar));
+        writer.save();
+
+        // Only the added jar is explored: the other one is retained
+        final JarReportCache extended = new JarReportCache(cacheFile, List.of(), List.of(jar, added));
+        extended.load();
+        extended.store(added, new JarReport(added));
+        extended.retain(jar);
+        extended.save();
+
+        final JarReportCache reader = new JarReportCache(cacheFile, List.of(), List.of(jar, added));
+        reader.load();
+        assertNotNull(reader.lookup(jar, getClass().getClassLoader()));
+        assertNotNull(reader.lookup(added, getClass().getClassLoader()));
+
+        // Modified jars are not retained
+        final JarReportCache modified = new JarReportCache(cacheFile, List.of(), List.of(jar, added));
+        modified.load();
+        Files.writeString(jar, "modified content");
+        modified.retain(jar);
+        modified.save();
+        modified.load();
+        assertNull(modified.lookup(jar, getClass().getClassLoader()));
+    }
+
+    private Path makeJar(String content) throws IOException {
+        return Files.writeString(tempDir.resolve("library.jar"), content);
+    }
+
+    private static JarReport makeReport(Path jar) {
+        final JarReport result = new JarReport(jar);
+        result.getEntries().add(new JarReportEntry("javafx/scene/control/Button.class", //NOI18N
+                JarReportEntry.Status.OK, null, Button.class, Button.class.getName()));
+        result.getEntries().add(new JarReportEntry("a/b/Missing.class", //NOI18N
+                JarReportEntry.Status.CANNOT_LOAD, new ClassNotFoundException("a.b.Missing"), null, "a.b.Missing"));
+        result.getEntries().add(new JarReportEntry("META-INF/MANIFEST.MF", //NOI18N
+                JarReportEntry.Status.IGNORED, null, null, null));
+        return result;
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.metadata;
+
+import com.oracle.javafx.scenebuilder.kit.JfxInitializer;
+import com.oracle.javafx.scenebuilder.kit.metadata.MetadataIntrospector.IntrospectedProperty;
+import com.oracle.javafx.scenebuilder.kit.metadata.klass.ComponentClassMetadata;
+import com.oracle.javafx.scenebuilder.kit.metadata.klass.CustomComponentClassMetadata;
+import com.oracle.javafx.scenebuilder.kit.metadata.property.PropertyMetadata;
+import com.oracle.javafx.scenebuilder.kit.metadata.property.ValuePropertyMetadata;
+import com.oracle.javafx.scenebuilder.kit.metadata.util.PropertyName;
+import javafx.geometry.Pos;
+import javafx.scene.control.Button;
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IntrospectionCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    public static void init() {
+        JfxInitializer.initialize();
+    }
+
+    @Test
+    public void restored_metadata_matches_introspection() throws Exception {
+        final Path cacheFile = tempDir.resolve("introspection.cache");
+        final ComponentClassMetadata ancestor = Metadata.getMetadata().queryComponentMetadata(Button.class);
+
+        final IntrospectionCache cache = new IntrospectionCache(cacheFile);
+        final CustomComponentClassMetadata introspected = (CustomComponentClassMetadata)
+                new MetadataIntrospector(SampleButton.class, ancestor, cache).introspect();
+        assertNull(introspected.getIntrospectionException());
+        assertFalse(Files.exists(cacheFile));
+        cache.save();
+        assertTrue(Files.exists(cacheFile));
+
+        final List<IntrospectedProperty> cached = new IntrospectionCache(cacheFile).lookup(SampleButton.class, ancestor);
+        assertNotNull(cached);
+
+        final ComponentClassMetadata restored
+                = new MetadataIntrospector(SampleButton.class, ancestor, new IntrospectionCache(cacheFile)).introspect();
+        assertEquals(introspected.getProperties().size(), restored.getProperties().size());
+        assertEquals(defaults(introspected), defaults(restored));
+        assertEquals(Color.web("#123456"), defaults(restored).get("tint")); //NOI18N
+        assertEquals(Pos.CENTER_RIGHT, Enum.valueOf(Pos.class, (String) defaults(restored).get("position"))); //NOI18N
+    }
+
+    @Test
+    public void unknown_or_changed_classes_are_not_found() throws Exception {
+        final Path cacheFile = tempDir.resolve("introspection.cache");
+        final ComponentClassMetadata ancestor = Metadata.getMetadata().queryComponentMetadata(Button.class);
+
+        assertNull(new IntrospectionCache(cacheFile).lookup(SampleButton.class, ancestor));
+
+        final IntrospectionCache cache = new IntrospectionCache(cacheFile);
+        new MetadataIntrospector(SampleButton.class, ancestor, cache).introspect();
+        cache.save();
+        // Another ancestor means another key
+        final ComponentClassMetadata labeled = Metadata.getMetadata().queryComponentMetadata(
+                javafx.scene.control.Labeled.class);
+        assertNull(new IntrospectionCache(cacheFile).lookup(SampleButton.class, labeled));
+        assertNotNull(new IntrospectionCache(cacheFile).lookup(SampleButton.class, ancestor));
+    }
+
+    @Test
+    public void corrupted_cache_file_is_ignored() throws Exception {
+        final Path cacheFile = tempDir.resolve("introspection.cache");
+        Files.writeString(cacheFile, "garbage"); //NOI18N
+        final ComponentClassMetadata ancestor = Metadata.getMetadata().queryComponentMetadata(Button.class);
+
+        final IntrospectionCache cache = new IntrospectionCache(cacheFile);
+        assertNull(cache.lookup(SampleButton.class, ancestor));
+        final ComponentClassMetadata introspected
+                = new MetadataIntrospector(SampleButton.class, ancestor, cache).introspect();
+        assertFalse(introspected.getProperties().isEmpty());
+        cache.save();
+        assertNotNull(new IntrospectionCache(cacheFile).lookup(SampleButton.class, ancestor));
+    }
+
+    @Test
+    public void entries_depend_on_hidden_properties() throws Exception {
+        final Path cacheFile = tempDir.resolve("introspection.cache");
+        final ComponentClassMetadata ancestor = Metadata.getMetadata().queryComponentMetadata(Button.class);
+        final IntrospectionCache cache = new IntrospectionCache(cacheFile);
+        new MetadataIntrospector(SampleButton.class, ancestor, cache).introspect();
+        cache.save();
+
+        final PropertyName tint = new PropertyName("tint"); //NOI18N
+        Metadata.getMetadata().getHiddenProperties().add(tint);
+        try {
+            // tint is now hidden: restoring it as a custom property is wrong
+            assertNull(new IntrospectionCache(cacheFile).lookup(SampleButton.class, ancestor));
+        } finally {
+            Metadata.getMetadata().getHiddenProperties().remove(tint);
+        }
+        assertNotNull(new IntrospectionCache(cacheFile).lookup(SampleButton.class, ancestor));
+    }
+
+    @Test
+    public void entries_are_saved_without_explicit_save() throws Exception {
+        final Path cacheFile = tempDir.resolve("introspection.cache");
+        final ComponentClassMetadata ancestor = Metadata.getMetadata().queryComponentMetadata(Button.class);
+        new MetadataIntrospector(SampleButton.class, ancestor, new IntrospectionCache(cacheFile)).introspect();
+
+        final long deadline = System.currentTimeMillis() + 10000;
+        while ((Files.exists(cacheFile) == false) && (System.currentTimeMillis() < deadline)) {
+            Thread.sleep(50);
+        }
+        assertNotNull(new IntrospectionCache(cacheFile).lookup(SampleButton.class, ancestor));
+    }
+
+    private static Map<String, Object> defaults(ComponentClassMetadata metadata) {
+        final Map<String, Object> result = new HashMap<>();
+        for (PropertyMetadata pm : metadata.getProperties()) {
+            final ValuePropertyMetadata vpm = (ValuePropertyMetadata) pm;
+            result.put(pm.getName().getName(), vpm.getDefaultValueObject());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.metadata;
+
+import javafx.application.Platform;
+import javafx.scene.control.Button;
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Measures the cost of the built-in metadata in a fresh JVM: creation of
+ * {@link Metadata}, heap it retains, and first property query, which loads
+ * the properties of Button and of its ancestors. Run it from the kit module
+ * once the test classes are compiled:
+ * <pre>
+ * java -cp &lt;kit test class path&gt; com.oracle.javafx.scenebuilder.kit.metadata.MetadataLoadBenchmark
+ * </pre>
+ */
+public class MetadataLoadBenchmark {
+
+    public static void main(String[] args) throws InterruptedException {
+        // Toolkit startup is not part of the measures
+        final CountDownLatch started = new CountDownLatch(1);
+        Platform.startup(started::countDown);
+        started.await();
+
+        final long heapBefore = getUsedHeap();
+        final long t0 = System.nanoTime();
+        final Metadata metadata = Metadata.getMetadata();
+        final long t1 = System.nanoTime();
+        final long heapAfter = getUsedHeap();
+
+        final long t2 = System.nanoTime();
+        final int propertyCount = metadata.queryProperties(Button.class).size();
+        final long t3 = System.nanoTime();
+
+        System.out.printf("getMetadata(): %d ms%n", (t1 - t0) / 1_000_000); //NOI18N
+        System.out.printf("Retained heap: %.1f MB%n", (heapAfter - heapBefore) / (1024.0 * 1024.0)); //NOI18N
+        System.out.printf("First query (%d Button properties): %d ms%n", //NOI18N
+                propertyCount, (t3 - t2) / 1_000_000);
+        Platform.exit();
+    }
+
+    /*
+     * Private
+     */
+
+    private static long getUsedHeap() throws InterruptedException {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
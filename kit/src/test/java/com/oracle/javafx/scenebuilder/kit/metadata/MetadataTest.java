@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.metadata;
+
+import com.oracle.javafx.scenebuilder.kit.JfxInitializer;
+import com.oracle.javafx.scenebuilder.kit.metadata.klass.ComponentClassMetadata;
+import com.oracle.javafx.scenebuilder.kit.metadata.property.ComponentPropertyMetadata;
+import com.oracle.javafx.scenebuilder.kit.metadata.property.PropertyMetadata;
+import com.oracle.javafx.scenebuilder.kit.metadata.property.ValuePropertyMetadata;
+import com.oracle.javafx.scenebuilder.kit.metadata.util.PropertyName;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.layout.VBox;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MetadataTest {
+
+    private static final PropertyName textName = new PropertyName("text");
+    private static final PropertyName layoutXName = new PropertyName("layoutX");
+    private static final PropertyName defaultButtonName = new PropertyName("defaultButton");
+    private static final PropertyName childrenName = new PropertyName("children");
+
+    @BeforeAll
+    public static void init() {
+        JfxInitializer.initialize();
+    }
+
+    @Test
+    public void query_property_finds_inherited_properties() {
+        var metadata = Metadata.getMetadata();
+
+        assertNotNull(metadata.queryProperty(Button.class, textName));
+        assertNotNull(metadata.queryProperty(Button.class, layoutXName));
+        assertNull(metadata.queryProperty(Label.class, defaultButtonName));
+        for (PropertyMetadata pm : metadata.queryProperties(Button.class)) {
+            assertSame(pm, metadata.queryProperty(Button.class, pm.getName()));
+        }
+    }
+
+    @Test
+    public void class_metadata_properties_are_loaded_on_demand() {
+        var metadata = Metadata.getMetadata();
+
+        var buttonMetadata = metadata.queryComponentMetadata(Button.class);
+        assertNotNull(buttonMetadata.lookupProperty(defaultButtonName));
+        assertNull(buttonMetadata.lookupProperty(layoutXName));
+        assertNotNull(Metadata.NodeMetadata.lookupProperty(layoutXName));
+    }
+
+    @Test
+    public void class_metadata_properties_are_loaded_once_for_all_threads() throws Exception {
+        var metadata = Metadata.getMetadata();
+        var text = metadata.queryProperty(Button.class, textName);
+        var layoutX = metadata.queryProperty(Button.class, layoutXName);
+        var loaderCount = new AtomicInteger();
+        var classMetadata = new ComponentClassMetadata(Button.class, null);
+        classMetadata.setPropertyLoader(cm -> {
+            loaderCount.incrementAndGet();
+            cm.getProperties().add(text);
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException x) {
+                Thread.currentThread().interrupt();
+            }
+            cm.getProperties().add(layoutX);
+        });
+
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            var sizes = new ArrayList<Future<Integer>>();
+            for (int i = 0; i < 4; i++) {
+                sizes.add(executor.submit(() -> classMetadata.getProperties().size()));
+            }
+            for (Future<Integer> size : sizes) {
+                assertEquals(2, size.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, loaderCount.get());
+    }
+
+    @Test
+    public void per_class_queries_are_cached_and_immutable() {
+        var metadata = Metadata.getMetadata();
+
+        Set<PropertyMetadata> properties = metadata.queryProperties(Button.class);
+        assertSame(properties, metadata.queryProperties(Button.class));
+        assertThrows(UnsupportedOperationException.class, () -> properties.clear());
+
+        Set<ComponentPropertyMetadata> components = metadata.queryComponentProperties(VBox.class);
+        assertSame(components, metadata.queryComponentProperties(VBox.class));
+        assertTrue(components.stream().anyMatch(cpm -> cpm.getName().equals(childrenName)));
+    }
+
+    @Test
+    public void intersection_keeps_shared_properties_only() {
+        var metadata = Metadata.getMetadata();
+
+        Set<ValuePropertyMetadata> shared = metadata.queryValueProperties(Set.of(Button.class, Label.class));
+        assertTrue(shared.stream().anyMatch(vpm -> vpm.getName().equals(textName)));
+        assertFalse(shared.stream().anyMatch(vpm -> vpm.getName().equals(defaultButtonName)));
+        assertSame(shared, metadata.queryValueProperties(Set.of(Label.class, Button.class)));
+
+        Set<PropertyMetadata> all = metadata.queryProperties(List.of(Button.class, Label.class));
+        assertEquals(shared.size(), all.stream().filter(pm -> pm instanceof ValuePropertyMetadata).count());
+        assertEquals(metadata.queryProperties(Button.class), metadata.queryProperties(List.of(Button.class)));
+    }
+
+    @Test
+    public void custom_class_inherits_certified_properties() {
+        var metadata = Metadata.getMetadata();
+
+        assertSame(metadata.queryProperty(Button.class, defaultButtonName),
+                metadata.queryProperty(CustomButton.class, defaultButtonName));
+        assertEquals(metadata.queryProperties(Button.class).size(),
+                metadata.queryProperties(CustomButton.class).size());
+    }
+
+    public static class CustomButton extends Button {
+    }
+}
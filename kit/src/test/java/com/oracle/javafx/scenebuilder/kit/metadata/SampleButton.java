@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.metadata;
+
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.Button;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.scene.text.Font;
+import javafx.util.Duration;
+
+/**
+ * A custom component with properties of all the types that
+ * MetadataIntrospector knows about.
+ */
+public class SampleButton extends Button {
+
+    private Pos position = Pos.CENTER_RIGHT;
+    private boolean armedTwice = true;
+    private int clickCount = 3;
+    private double ratio = 0.5;
+    private String caption = "sample"; //NOI18N
+    private Color tint = Color.web("#123456"); //NOI18N
+    private Paint fillPaint = Paint.valueOf("linear-gradient(to right, red, blue)"); //NOI18N
+    private Font captionFont = Font.font(17);
+    private Insets inner = new Insets(1, 2, 3, 4);
+    private Duration delay = Duration.millis(250);
+
+    public Pos getPosition() { return position; }
+    public void setPosition(Pos position) { this.position = position; }
+    public boolean isArmedTwice() { return armedTwice; }
+    public void setArmedTwice(boolean armedTwice) { this.armedTwice = armedTwice; }
+    public int getClickCount() { return clickCount; }
+    public void setClickCount(int clickCount) { this.clickCount = clickCount; }
+    public double getRatio() { return ratio; }
+    public void setRatio(double ratio) { this.ratio = ratio; }
+    public String getCaption() { return caption; }
+    public void setCaption(String caption) { this.caption = caption; }
+    public Color getTint() { return tint; }
+    public void setTint(Color tint) { this.tint = tint; }
+    public Paint getFillPaint() { return fillPaint; }
+    public void setFillPaint(Paint fillPaint) { this.fillPaint = fillPaint; }
+    public Font getCaptionFont() { return captionFont; }
+    public void setCaptionFont(Font captionFont) { this.captionFont = captionFont; }
+    public Insets getInner() { return inner; }
+    public void setInner(Insets inner) { this.inner = inner; }
+    public Duration getDelay() { return delay; }
+    public void setDelay(Duration delay) { this.delay = delay; }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.metadata.util;
+
+import com.oracle.javafx.scenebuilder.kit.metadata.Metadata;
+import com.oracle.javafx.scenebuilder.kit.metadata.klass.ComponentClassMetadata;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Generates the BeanPropertyTable resource from the JavaFX version found on
+ * the class path. Run by the generate-metadata profile of the kit module:
+ * <pre>
+ * mvn -pl kit -Pgenerate-metadata process-test-classes
+ * </pre>
+ */
+public class BeanPropertyTableGenerator {
+
+    public static void main(String[] args) throws IOException, IntrospectionException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: BeanPropertyTableGenerator <output file> <JavaFX version>"); //NOI18N
+        }
+        Files.writeString(Path.of(args[0]), generate(args[1]), StandardCharsets.UTF_8);
+    }
+
+    static String generate(String javafxVersion) throws IntrospectionException {
+        // Certified JavaFX classes and all their ancestors
+        final Map<String, Class<?>> classes = new TreeMap<>();
+        for (ComponentClassMetadata cm : Metadata.getMetadata().getComponentClasses()) {
+            Class<?> c = cm.getKlass();
+            if (c.getName().startsWith("javafx.")) { //NOI18N
+                while (c != null) {
+                    classes.put(c.getName(), c);
+                    c = c.getSuperclass();
+                }
+            }
+        }
+
+        final StringWriter result = new StringWriter();
+        final PrintWriter pw = new PrintWriter(result);
+        pw.println("# Bean properties of JavaFX " + javafxVersion //NOI18N
+                + ", generated by BeanPropertyTableGenerator: do not edit"); //NOI18N
+        for (Map.Entry<String, Class<?>> entry : classes.entrySet()) {
+            final String className = entry.getKey();
+            final Class<?> c = entry.getValue();
+            final Map<String, String> rows = getRows(c);
+            final Map<String, String> superRows = (c.getSuperclass() == null)
+                    ? Map.of() : getRows(c.getSuperclass());
+            for (String name : superRows.keySet()) {
+                if (rows.containsKey(name) == false) {
+                    throw new IllegalStateException(className + " hides property " + name); //NOI18N
+                }
+            }
+
+            pw.println();
+            pw.println((c.getSuperclass() == null) ? "@" + className //NOI18N
+                    : "@" + className + " " + c.getSuperclass().getName()); //NOI18N
+            for (Map.Entry<String, String> e : rows.entrySet()) {
+                if (Objects.equals(e.getValue(), superRows.get(e.getKey())) == false) {
+                    pw.println(e.getValue());
+                }
+            }
+        }
+        pw.flush();
+
+        return result.toString();
+    }
+
+    /*
+     * Private
+     */
+
+    private static Map<String, String> getRows(Class<?> c) throws IntrospectionException {
+        final Map<String, String> result = new TreeMap<>();
+        for (PropertyDescriptor d : Introspector.getBeanInfo(c).getPropertyDescriptors()) {
+            result.put(d.getName(), d.getName()
+                    + " " + methodName(d.getReadMethod()) //NOI18N
+                    + " " + methodName(d.getWriteMethod())); //NOI18N
+        }
+        return result;
+    }
+
+    private static String methodName(Method m) {
+        return (m == null) ? BeanPropertyTable.NO_METHOD : m.getName();
+    }
+}
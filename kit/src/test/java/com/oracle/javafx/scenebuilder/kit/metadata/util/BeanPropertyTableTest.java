@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.metadata.util;
+
+import com.oracle.javafx.scenebuilder.kit.JfxInitializer;
+import javafx.scene.control.Button;
+import javafx.scene.control.TableView;
+import javafx.scene.layout.GridPane;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BeanPropertyTableTest {
+
+    public static class CustomButton extends Button {
+    }
+
+    @BeforeAll
+    public static void init() {
+        JfxInitializer.initialize();
+    }
+
+    @Test
+    public void table_covers_builtin_classes_only() {
+        assertTrue(BeanPropertyTable.covers(Button.class));
+        assertTrue(BeanPropertyTable.covers(GridPane.class));
+        assertFalse(BeanPropertyTable.covers(CustomButton.class));
+        assertFalse(BeanPropertyTable.covers(String.class));
+    }
+
+    @Test
+    public void table_rows_match_introspection() throws Exception {
+        for (Class<?> c : new Class<?>[] { Button.class, GridPane.class, TableView.class }) {
+            for (PropertyDescriptor d : Introspector.getBeanInfo(c).getPropertyDescriptors()) {
+                final BeanPropertyTable.Row row = BeanPropertyTable.lookup(c, d.getName());
+                if (row != null) {
+                    final Method readMethod = row.findReadMethod(c);
+                    final Method writeMethod = row.findWriteMethod(c, readMethod);
+                    assertEquals(methodName(d.getReadMethod()), methodName(readMethod), d.getName());
+                    assertEquals(methodName(d.getWriteMethod()), methodName(writeMethod), d.getName());
+                }
+            }
+        }
+        assertNotNull(BeanPropertyTable.lookup(Button.class, "text"));
+        assertNotNull(BeanPropertyTable.lookup(Button.class, "layoutX"));
+        assertNull(BeanPropertyTable.lookup(Button.class, "unknown"));
+    }
+
+    @Test
+    public void table_matches_javafx_on_class_path() throws Exception {
+        final String table;
+        try (InputStream is = BeanPropertyTable.class.getResourceAsStream("BeanProperties.txt")) { //NOI18N
+            assertNotNull(is);
+            table = new String(is.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        final Matcher header = Pattern.compile("# Bean properties of JavaFX (\\S+),").matcher(table); //NOI18N
+        assertTrue(header.lookingAt());
+
+        // Fails after a JavaFX upgrade until the table is generated again:
+        // mvn -pl kit -Pgenerate-metadata process-test-classes
+        final String generated = BeanPropertyTableGenerator.generate(header.group(1));
+        assertEquals(generated.lines().toList(), table.lines().toList(),
+                "BeanProperties.txt does not match the JavaFX classes of the class path"); //NOI18N
+    }
+
+    @Test
+    public void accessor_uses_table_for_builtin_classes() {
+        final Button button = new Button("hello"); //NOI18N
+        final PropertyAccessor accessor = PropertyAccessor.findBeanAccessor(Button.class, "text"); //NOI18N
+        assertEquals("hello", accessor.getValue(button)); //NOI18N
+        accessor.setValue(button, "world"); //NOI18N
+        assertEquals("world", button.getText()); //NOI18N
+    }
+
+    @Test
+    public void read_parses_classes_and_rows() throws IOException {
+        final String text = "# comment\n@a.B a.A\nx getX setX\ny isY -\n\n@a.A\n"; //NOI18N
+        final Map<String, BeanPropertyTable.ClassEntry> entries = BeanPropertyTable.read(
+                new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("a.A", entries.get("a.B").superClassName()); //NOI18N
+        assertNull(entries.get("a.A").superClassName()); //NOI18N
+        assertEquals("isY", entries.get("a.B").rows().get("y").readMethodName()); //NOI18N
+        assertNull(entries.get("a.B").rows().get("y").writeMethodName()); //NOI18N
+        assertThrows(IOException.class, () -> BeanPropertyTable.read(
+                new ByteArrayInputStream("x getX\n".getBytes(StandardCharsets.UTF_8)))); //NOI18N
+    }
+
+    private static String methodName(Method m) {
+        return (m == null) ? null : m.getName();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.metadata.util;
+
+import com.oracle.javafx.scenebuilder.kit.JfxInitializer;
+import javafx.scene.control.Button;
+import javafx.scene.layout.GridPane;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PropertyNameTest {
+
+    static class HiddenBase {
+        private String label = "hidden"; //NOI18N
+
+        public String getLabel() {
+            return label;
+        }
+
+        public void setLabel(String label) {
+            this.label = label;
+        }
+    }
+
+    public static class VisibleBean extends HiddenBase {
+    }
+
+    @BeforeAll
+    public static void init() {
+        JfxInitializer.initialize();
+    }
+
+    @Test
+    public void that_bean_property_is_read_and_written() {
+        final Button button = new Button("OK");
+        final PropertyName text = new PropertyName("text");
+        final PropertyName prefWidth = new PropertyName("prefWidth");
+
+        assertEquals("OK", text.getValue(button));
+        text.setValue(button, "Cancel");
+        assertEquals("Cancel", button.getText());
+
+        prefWidth.setValue(button, 12.0);
+        assertEquals(12.0, prefWidth.getValue(button));
+        assertEquals(Boolean.FALSE, new PropertyName("defaultButton").getValue(button));
+
+        assertThrows(RuntimeException.class, () -> new PropertyName("unknown").getValue(button));
+    }
+
+    @Test
+    public void that_property_declared_in_non_public_class_is_accessible() {
+        final VisibleBean bean = new VisibleBean();
+        final PropertyName label = new PropertyName("label");
+
+        assertEquals("hidden", label.getValue(bean));
+        label.setValue(bean, "shown");
+        assertEquals("shown", bean.getLabel());
+    }
+
+    @Test
+    public void that_static_property_is_read_and_written() {
+        final Button button = new Button();
+        final PropertyName columnIndex = new PropertyName("columnIndex", GridPane.class);
+
+        assertEquals(null, columnIndex.getValue(button));
+        columnIndex.setValue(button, 2);
+        assertEquals(2, GridPane.getColumnIndex(button));
+        assertEquals(2, columnIndex.getValue(button));
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.preview;
+
+import com.oracle.javafx.scenebuilder.kit.JfxInitializer;
+import com.oracle.javafx.scenebuilder.kit.editor.EditorController;
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.shape.Rectangle;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PreviewWindowControllerTest {
+
+    private static final long TIMEOUT = 10000; // milliseconds
+
+    @BeforeAll
+    public static void init() throws Exception {
+        JfxInitializer.initialize();
+        waitForToolkit();
+        // Closing the last preview window must not stop the FX toolkit
+        Platform.setImplicitExit(false);
+    }
+
+    @Test
+    public void window_shows_a_clone_of_the_document() throws Exception {
+        final EditorController editor = makeEditor(10.0);
+        final PreviewWindowController preview = inFxThread(() -> openPreview(editor));
+
+        final Rectangle rectangle = waitForRectangle(preview, 10.0);
+        assertNotSame(editor.getFxomDocument().searchWithFxId("box").getSceneGraphObject(), rectangle); //NOI18N
+        assertEquals("previewRoot", inFxThread(() -> preview.getRoot().getId())); //NOI18N
+
+        inFxThread(() -> { preview.closeWindow(); return null; });
+    }
+
+    @Test
+    public void closed_window_is_updated_when_opened_again() throws Exception {
+        final EditorController editor = makeEditor(10.0);
+        final PreviewWindowController preview = inFxThread(() -> openPreview(editor));
+        waitForRectangle(preview, 10.0);
+
+        final Parent closedRoot = inFxThread(() -> {
+            preview.closeWindow();
+            editor.setFxmlText(makeFxmlText(20.0), false);
+            return preview.getRoot();
+        });
+        Thread.sleep(1500); // Longer than the preview update delay
+        assertEquals(closedRoot, inFxThread(() -> preview.getRoot()));
+
+        inFxThread(() -> { preview.openWindow(); return null; });
+        waitForRectangle(preview, 20.0);
+
+        inFxThread(() -> { preview.closeWindow(); return null; });
+    }
+
+    @Test
+    public void superseded_builds_are_dropped() throws Exception {
+        final EditorController editor = makeEditor(10.0);
+        final PreviewWindowController preview = inFxThread(() -> openPreview(editor));
+        waitForRectangle(preview, 10.0);
+
+        final List<Parent> attachedRoots = new ArrayList<>();
+        inFxThread(() -> {
+            preview.getScene().rootProperty().addListener((ov, o, n) -> attachedRoots.add(n));
+            for (int i = 1; i <= 5; i++) {
+                editor.setFxmlText(makeFxmlText(10.0 + i), false);
+            }
+            return null;
+        });
+
+        waitForRectangle(preview, 15.0);
+        Thread.sleep(1500); // Longer than the preview update delay
+        assertEquals(1, inFxThread(() -> attachedRoots.size()));
+
+        inFxThread(() -> { preview.closeWindow(); return null; });
+    }
+
+    private static String makeFxmlText(double width) {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" //NOI18N
+                + "<?import javafx.scene.layout.Pane?>\n" //NOI18N
+                + "<?import javafx.scene.shape.Rectangle?>\n" //NOI18N
+                + "<Pane xmlns=\"http://javafx.com/javafx/23\" xmlns:fx=\"http://javafx.com/fxml/1\">\n" //NOI18N
+                + "  <children>\n" //NOI18N
+                + "    <Rectangle fx:id=\"box\" width=\"" + width + "\" height=\"10.0\" />\n" //NOI18N
+                + "  </children>\n" //NOI18N
+                + "</Pane>\n"; //NOI18N
+    }
+
+    private static EditorController makeEditor(double width) throws Exception {
+        final EditorController editor = new EditorController();
+        editor.setFxmlText(makeFxmlText(width), false);
+        return editor;
+    }
+
+    private static PreviewWindowController openPreview(EditorController editor) {
+        final PreviewWindowController result = new PreviewWindowController(editor, null);
+        result.openWindow();
+        return result;
+    }
+
+    private static Rectangle waitForRectangle(PreviewWindowController preview, double width) throws Exception {
+        final long deadline = System.currentTimeMillis() + TIMEOUT;
+        Rectangle result = null;
+        while ((result == null) && (System.currentTimeMillis() < deadline)) {
+            result = inFxThread(() -> {
+                final Node box = preview.getRoot().lookup("#box"); //NOI18N
+                return ((box instanceof Rectangle) && (((Rectangle) box).getWidth() == width))
+                        ? (Rectangle) box : null;
+            });
+            if (result == null) {
+                Thread.sleep(20);
+            }
+        }
+        assertTrue(result != null, "Preview not updated with width " + width); //NOI18N
+        return result;
+    }
+
+    private static void waitForToolkit() throws Exception {
+        final long deadline = System.currentTimeMillis() + TIMEOUT;
+        boolean started = false;
+        while (started == false) {
+            try {
+                inFxThread(() -> null);
+                started = true;
+            } catch (IllegalStateException x) { // Toolkit not initialized yet
+                assertTrue(System.currentTimeMillis() < deadline, "FX toolkit did not start"); //NOI18N
+                Thread.sleep(20);
+            }
+        }
+    }
+
+    private static <T> T inFxThread(Callable<T> callable) throws Exception {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            try {
+                future.complete(callable.call());
+            } catch (Exception | Error x) {
+                future.completeExceptionally(x);
+            }
+        });
+        return future.get(TIMEOUT, TimeUnit.MILLISECONDS);
+    }
+}
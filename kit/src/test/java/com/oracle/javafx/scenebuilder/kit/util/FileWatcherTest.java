@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.util;
+
+import com.oracle.javafx.scenebuilder.kit.JfxInitializer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FileWatcherTest {
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    public static void init() {
+        JfxInitializer.initialize();
+    }
+
+    @Test
+    public void modification_is_notified_to_all_watchers_of_a_target() throws Exception {
+        Path target = Files.writeString(tempDir.resolve("style.css"), ".root {}");
+        // Polling time is long enough to make sure notifications come from
+        // the watch service
+        LatchDelegate delegate1 = new LatchDelegate();
+        LatchDelegate delegate2 = new LatchDelegate();
+        FileWatcher watcher1 = new FileWatcher(60_000, delegate1, "watcher1");
+        FileWatcher watcher2 = new FileWatcher(60_000, delegate2, "watcher2");
+        watcher1.addTarget(target);
+        watcher2.addTarget(target);
+        watcher1.start();
+        watcher2.start();
+        try {
+            Files.writeString(target, ".root { -fx-base: red; }");
+            // Makes sure the modification time differs from the initial one
+            Files.setLastModifiedTime(target, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+
+            assertTrue(delegate1.modified.await(10, TimeUnit.SECONDS));
+            assertTrue(delegate2.modified.await(10, TimeUnit.SECONDS));
+        } finally {
+            watcher1.stop();
+            watcher2.stop();
+        }
+    }
+
+    @Test
+    public void creation_and_deletion_are_notified() throws Exception {
+        Path target = tempDir.resolve("image.png");
+        LatchDelegate delegate = new LatchDelegate();
+        FileWatcher watcher = new FileWatcher(60_000, delegate, "watcher");
+        watcher.addTarget(target);
+        watcher.start();
+        try {
+            Files.writeString(target, "png");
+            assertTrue(delegate.created.await(10, TimeUnit.SECONDS));
+
+            Files.delete(target);
+            assertTrue(delegate.deleted.await(10, TimeUnit.SECONDS));
+        } finally {
+            watcher.stop();
+        }
+    }
+
+    private static class LatchDelegate implements FileWatcher.Delegate {
+        private final CountDownLatch created = new CountDownLatch(1);
+        private final CountDownLatch deleted = new CountDownLatch(1);
+        private final CountDownLatch modified = new CountDownLatch(1);
+
+        @Override
+        public void fileWatcherDidWatchTargetCreation(Path target) {
+            created.countDown();
+        }
+
+        @Override
+        public void fileWatcherDidWatchTargetDeletion(Path target) {
+            deleted.countDown();
+        }
+
+        @Override
+        public void fileWatcherDidWatchTargetModification(Path target) {
+            modified.countDown();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.util;
+
+import com.oracle.javafx.scenebuilder.kit.JfxInitializer;
+import com.oracle.javafx.scenebuilder.kit.editor.images.ImageUtils;
+import com.oracle.javafx.scenebuilder.kit.fxom.FXOMDocument;
+import javafx.application.Platform;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.Pane;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ImageCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    public static void init() throws Exception {
+        JfxInitializer.initialize();
+        // Images can be decoded once the FX toolkit runs
+        final CountDownLatch started = new CountDownLatch(1);
+        while (started.getCount() > 0) {
+            try {
+                Platform.runLater(started::countDown);
+                started.await(10, TimeUnit.SECONDS);
+            } catch (IllegalStateException x) { // Toolkit not initialized yet
+                Thread.sleep(20);
+            }
+        }
+    }
+
+    @Test
+    public void image_is_decoded_once() throws Exception {
+        final String url = copyIcon("icon.png").toUri().toURL().toExternalForm(); //NOI18N
+
+        final Image image = ImageCache.getImage(url);
+        assertFalse(image.isBackgroundLoading());
+        assertEquals(1.0, image.getProgress());
+        assertSame(image, ImageCache.getImage(url));
+    }
+
+    @Test
+    public void modified_file_is_decoded_again() throws Exception {
+        final Path path = copyIcon("icon.png"); //NOI18N
+        final String url = path.toUri().toURL().toExternalForm();
+        final Image image = ImageCache.getImage(url);
+
+        Files.write(path, Files.readAllBytes(path));
+        Files.setLastModifiedTime(path, FileTime.fromMillis(0));
+        assertNotSame(image, ImageCache.getImage(url));
+    }
+
+    @Test
+    public void url_which_is_not_a_valid_uri_is_still_decoded() throws Exception {
+        // URL accepts the space, URI does not
+        final String url = "file:" + copyIcon("my icon.png").toAbsolutePath(); //NOI18N
+
+        final Image image = ImageCache.getImage(url);
+        assertFalse(image.isError());
+        assertEquals(1.0, image.getProgress());
+    }
+
+    @Test
+    public void document_images_are_shared_between_loads() throws Exception {
+        final Path path = copyIcon("icon.png"); //NOI18N
+        final String fxmlText = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" //NOI18N
+                + "<?import javafx.scene.image.Image?>\n" //NOI18N
+                + "<?import javafx.scene.image.ImageView?>\n" //NOI18N
+                + "<?import javafx.scene.layout.Pane?>\n" //NOI18N
+                + "<Pane xmlns=\"http://javafx.com/javafx/23\" xmlns:fx=\"http://javafx.com/fxml/1\">\n" //NOI18N
+                + "  <children>\n" //NOI18N
+                + "    <ImageView>\n" //NOI18N
+                + "      <image>\n" //NOI18N
+                + "        <Image url=\"@icon.png\" requestedWidth=\"8.0\" />\n" //NOI18N
+                + "      </image>\n" //NOI18N
+                + "    </ImageView>\n" //NOI18N
+                + "  </children>\n" //NOI18N
+                + "</Pane>\n"; //NOI18N
+        final FXOMDocument first = new FXOMDocument(fxmlText, path.toUri().toURL(), null, null);
+        final FXOMDocument second = new FXOMDocument(fxmlText, path.toUri().toURL(), null, null);
+
+        final Image image = getImage(first);
+        assertSame(image, getImage(second));
+        assertEquals(8.0, image.getRequestedWidth());
+        // Decoded in the background but written as requested
+        assertTrue(image.isBackgroundLoading());
+        assertFalse(ImageCache.isBackgroundLoadingRequested(image));
+        assertFalse(first.getFxmlText(false).contains("backgroundLoading")); //NOI18N
+    }
+
+    private Path copyIcon(String fileName) throws Exception {
+        final Path result = tempDir.resolve(fileName);
+        try (InputStream is = ImageUtils.getNodeIconURL("Pane.png").openStream()) { //NOI18N
+            Files.copy(is, result, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return result;
+    }
+
+    private static Image getImage(FXOMDocument document) {
+        final ImageView imageView = (ImageView) ((Pane) document.getSceneGraphRoot()).getChildren().get(0);
+        return imageView.getImage();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StylesheetCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void style_classes_are_parsed_once() throws Exception {
+        final Path path = Files.writeString(tempDir.resolve("style.css"), ".first { -fx-base: red; }"); //NOI18N
+        final URL url = path.toUri().toURL();
+
+        final Set<String> styleClasses = StylesheetCache.getStyleClasses(url);
+        assertEquals(Set.of("first"), styleClasses); //NOI18N
+        assertSame(styleClasses, StylesheetCache.getStyleClasses(url));
+    }
+
+    @Test
+    public void modified_or_invalidated_file_is_parsed_again() throws Exception {
+        final Path path = Files.writeString(tempDir.resolve("style.css"), ".first {}"); //NOI18N
+        final URL url = path.toUri().toURL();
+        final FileTime time = Files.getLastModifiedTime(path);
+        final Set<String> styleClasses = StylesheetCache.getStyleClasses(url);
+
+        Files.writeString(path, ".first {} .second {}"); //NOI18N
+        Files.setLastModifiedTime(path, time);
+        assertEquals(Set.of("first", "second"), StylesheetCache.getStyleClasses(url)); //NOI18N
+
+        final Set<String> modifiedClasses = StylesheetCache.getStyleClasses(url);
+        StylesheetCache.invalidate(path);
+        assertNotSame(modifiedClasses, StylesheetCache.getStyleClasses(url));
+        assertNotSame(styleClasses, modifiedClasses);
+    }
+
+    @Test
+    public void parse_errors_are_kept_with_the_stylesheet() throws Exception {
+        final Path path = Files.writeString(tempDir.resolve("broken.css"), ".first { -fx-base red; }"); //NOI18N
+        final URL url = path.toUri().toURL();
+
+        assertFalse(StylesheetCache.getParseErrors(url).isEmpty());
+        assertEquals(StylesheetCache.getParseErrors(url), StylesheetCache.getParseErrors(url));
+        assertTrue(StylesheetCache.getStyleClasses(url).contains("first")); //NOI18N
+    }
+
+    @Test
+    public void missing_file_is_reported() throws Exception {
+        final URL url = tempDir.resolve("missing.css").toUri().toURL(); //NOI18N
+
+        assertThrows(IOException.class, () -> StylesheetCache.getParseErrors(url));
+        assertTrue(StylesheetCache.getStyleClasses(url).isEmpty());
+    }
+}